@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.maven.plugin;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.apache.tuscany.sca.extensibility.ServiceDeclarationIndex;
+
+/**
+ * Maven Mojo to generate a merged index of the META-INF/services declarations found in
+ * the project classes and its runtime dependencies. The Tuscany runtime reads the index
+ * instead of the declaration files of every jar, so it should be generated by the project
+ * that assembles the runtime classpath, such as a distribution or a web application.
+ * Invoked with "mvn tuscany:service-index".
+ * 
+ * @goal service-index
+ * @phase process-classes
+ * @requiresDependencyResolution runtime
+ * @description Generate the index of the service declarations of a Tuscany runtime
+ */
+public class TuscanyServiceIndexMojo extends AbstractMojo {
+
+    private static final String SERVICES = "META-INF/services/";
+
+    /**
+     * The maven project.
+     * 
+     * @parameter expression="${project}"
+     * @required
+     * @readonly
+     */
+    private MavenProject project;
+
+    /**
+     * The project build output directory
+     * 
+     * @parameter expression="${project.build.outputDirectory}"
+     * @required
+     */
+    protected File buildDirectory;
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        ServiceDeclarationIndex index = new ServiceDeclarationIndex();
+        try {
+            addDirectory(index, buildDirectory);
+            for (Object o : project.getArtifacts()) {
+                Artifact a = (Artifact)o;
+                File file = a.getFile();
+                if (file == null) {
+                    continue;
+                }
+                if (file.isDirectory()) {
+                    addDirectory(index, file);
+                } else if (file.getName().endsWith(".jar")) {
+                    addJar(index, file);
+                    index.addArchive(file.getName());
+                }
+            }
+
+            File indexFile = new File(buildDirectory, ServiceDeclarationIndex.INDEX_RESOURCE);
+            indexFile.getParentFile().mkdirs();
+            OutputStream os = new FileOutputStream(indexFile);
+            try {
+                index.store(os);
+            } finally {
+                os.close();
+            }
+            getLog().info("Indexed " + index.getServiceNames().size() + " services in " + indexFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Exception generating the service declaration index", e);
+        }
+    }
+
+    private void addDirectory(ServiceDeclarationIndex index, File directory) throws IOException {
+        File[] files = new File(directory, SERVICES).listFiles();
+        if (files == null) {
+            return;
+        }
+        // Keep the index stable from one build to the next
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.isFile()) {
+                InputStream is = new FileInputStream(file);
+                try {
+                    index.add(file.getName(), is);
+                } finally {
+                    is.close();
+                }
+            }
+        }
+    }
+
+    private void addJar(ServiceDeclarationIndex index, File file) throws IOException {
+        JarFile jar = new JarFile(file);
+        try {
+            for (Enumeration<JarEntry> e = jar.entries(); e.hasMoreElements();) {
+                JarEntry entry = e.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.startsWith(SERVICES) || name.indexOf('/', SERVICES.length()) != -1) {
+                    continue;
+                }
+                InputStream is = jar.getInputStream(entry);
+                try {
+                    index.add(name.substring(SERVICES.length()), is);
+                } finally {
+                    is.close();
+                }
+            }
+        } finally {
+            jar.close();
+        }
+    }
+}
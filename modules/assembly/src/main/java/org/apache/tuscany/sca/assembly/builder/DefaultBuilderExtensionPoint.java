@@ -431,7 +431,7 @@ public class DefaultBuilderExtensionPoint implements BuilderExtensionPoint, Life
         }      
     }
     
-    private class LazyContractBuilder implements ContractBuilder {
+    private class LazyContractBuilder implements CachingContractBuilder {
         private ServiceDeclaration sd;
         private ContractBuilder builder;
 
@@ -457,6 +457,13 @@ public class DefaultBuilderExtensionPoint implements BuilderExtensionPoint, Life
             return getBuilder().build(interfaceContract, context);
         }        
         
+        public synchronized void removeContractsForContribution(ClassLoader contributionClassloader) {
+            // Nothing has been built if the builder hasn't been loaded yet
+            if (builder instanceof CachingContractBuilder) {
+                ((CachingContractBuilder)builder).removeContractsForContribution(contributionClassloader);
+            }
+        }
+        
         private synchronized ContractBuilder getBuilder() {
             if (builder == null) {
                 try {
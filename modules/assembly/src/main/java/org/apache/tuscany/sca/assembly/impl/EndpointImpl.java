@@ -212,8 +212,19 @@ public class EndpointImpl implements Endpoint {
     }
 
     public boolean matches(String serviceURI) {
+        return matches(getURI(), serviceURI);
+    }
+
+    /**
+     * Checks if the structural URI of an endpoint matches a service URI, without
+     * creating an endpoint
+     * @param endpointURI the structural URI of the endpoint
+     * @param serviceURI the service URI, in one of the formats of {@link #matches(String)}
+     * @return true if the endpoint matches the service URI
+     */
+    public static boolean matches(String endpointURI, String serviceURI) {
         String[] parts1 = parseServiceURI(serviceURI);
-        String[] parts2 = parseStructuralURI(getURI());
+        String[] parts2 = parseStructuralURI(endpointURI);
         for (int i = 0; i < parts1.length; i++) {
             if (parts1[i] == null || parts1[i].equals(parts2[i])) {
                 continue;
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.interfacedef.impl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tuscany.sca.interfacedef.Compatibility;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.IncompatibleInterfaceContractException;
+import org.apache.tuscany.sca.interfacedef.Interface;
+import org.apache.tuscany.sca.interfacedef.InterfaceContract;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.util.Audit;
+
+/**
+ * A cache of the results of interface contract compatibility checks.
+ * <p>
+ * Results are keyed by the identity of the source and target contracts, which are
+ * only weakly referenced. As contracts are mutable, each result also records a
+ * stamp made of the identities of their interfaces, operations, data types and
+ * wrappers and of the wrapper styles of the operations, taken once when the result
+ * is added. The result is discarded if any of them has been changed or replaced
+ * since. Checking the stamp doesn't look into the data types, so a hit costs much
+ * less than the check itself.
+ *
+ * @version $Rev$ $Date$
+ */
+class CompatibilityCache {
+    private final Map<Key, Result> results = new HashMap<Key, Result>();
+    private final ReferenceQueue<InterfaceContract> queue = new ReferenceQueue<InterfaceContract>();
+
+    /**
+     * The outcome of a compatibility check
+     */
+    static class Result {
+        private final boolean compatible;
+        private final Audit audit;
+        private final IncompatibleInterfaceContractException exception;
+        private Object[] stamp;
+        private String auditTrail;
+
+        Result(boolean compatible, Audit audit, IncompatibleInterfaceContractException exception) {
+            this.compatible = compatible;
+            this.audit = audit;
+            this.exception = exception;
+        }
+
+        boolean isCompatible() {
+            return compatible;
+        }
+
+        /**
+         * @return the audit trail recorded by the check
+         */
+        synchronized String getAudit() {
+            // Only built for the callers asking for it, silent checks don't
+            if (auditTrail == null) {
+                auditTrail = audit.toString();
+            }
+            return auditTrail;
+        }
+
+        /**
+         * @return the exception raised by the check, or null if the contracts are compatible
+         */
+        IncompatibleInterfaceContractException getException() {
+            return exception;
+        }
+    }
+
+    Result get(InterfaceContract source, InterfaceContract target, Compatibility compatibility, boolean ignoreCallback) {
+        Result result;
+        synchronized (results) {
+            expunge();
+            result = results.get(new Key(source, target, compatibility, ignoreCallback, null));
+        }
+        if (result != null && !matches(result.stamp, source, target)) {
+            return null;
+        }
+        return result;
+    }
+
+    void put(InterfaceContract source,
+             InterfaceContract target,
+             Compatibility compatibility,
+             boolean ignoreCallback,
+             Result result) {
+        result.stamp = stamp(source, target);
+        synchronized (results) {
+            expunge();
+            results.put(new Key(source, target, compatibility, ignoreCallback, queue), result);
+        }
+    }
+
+    void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    int size() {
+        synchronized (results) {
+            expunge();
+            return results.size();
+        }
+    }
+
+    private void expunge() {
+        for (Reference<? extends InterfaceContract> ref = queue.poll(); ref != null; ref = queue.poll()) {
+            results.remove(((ContractReference)ref).key);
+        }
+    }
+
+    private static Object[] stamp(InterfaceContract source, InterfaceContract target) {
+        StampBuilder builder = new StampBuilder();
+        walk(builder, source, target);
+        return builder.parts.toArray();
+    }
+
+    /**
+     * Compares a stamp with the current state of the contracts, without building a
+     * new stamp.
+     */
+    private static boolean matches(Object[] stamp, InterfaceContract source, InterfaceContract target) {
+        StampMatcher matcher = new StampMatcher(stamp);
+        return walk(matcher, source, target) && matcher.i == stamp.length;
+    }
+
+    /**
+     * Visits the parts of the stamp of two contracts, in the same order when the
+     * stamp is built and when it is matched.
+     *
+     * @return false as soon as a part doesn't match
+     */
+    private static boolean walk(Stamp stamp, InterfaceContract source, InterfaceContract target) {
+        return walk(stamp, source.getInterface()) && walk(stamp, source.getCallbackInterface())
+            && walk(stamp, target.getInterface())
+            && walk(stamp, target.getCallbackInterface());
+    }
+
+    private static boolean walk(Stamp stamp, Interface intf) {
+        if (!stamp.same(intf)) {
+            return false;
+        }
+        if (intf == null) {
+            return true;
+        }
+        List<Operation> operations = intf.getOperations();
+        if (!stamp.same(operations) || !stamp.equal(operations.size())) {
+            return false;
+        }
+        for (Operation operation : operations) {
+            if (!walk(stamp, operation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean walk(Stamp stamp, Operation operation) {
+        if (!stamp.same(operation) || !stamp.same(operation.getInputType())
+            || !stamp.same(operation.getOutputType())
+            || !stamp.equal(operation.isInputWrapperStyle())
+            || !stamp.same(operation.getInputWrapper())
+            || !stamp.equal(operation.isOutputWrapperStyle())
+            || !stamp.same(operation.getOutputWrapper())) {
+            return false;
+        }
+        List<DataType> faultTypes = operation.getFaultTypes();
+        if (!stamp.same(faultTypes)) {
+            return false;
+        }
+        if (faultTypes == null) {
+            return true;
+        }
+        if (!stamp.equal(faultTypes.size())) {
+            return false;
+        }
+        for (DataType faultType : faultTypes) {
+            if (!stamp.same(faultType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The parts of a stamp, compared by identity for the model objects and by value
+     * for the sizes and flags
+     */
+    private interface Stamp {
+        boolean same(Object part);
+
+        boolean equal(Object part);
+    }
+
+    private static class StampBuilder implements Stamp {
+        private final List<Object> parts = new ArrayList<Object>();
+
+        public boolean same(Object part) {
+            parts.add(part);
+            return true;
+        }
+
+        public boolean equal(Object part) {
+            parts.add(part);
+            return true;
+        }
+    }
+
+    private static class StampMatcher implements Stamp {
+        private final Object[] stamp;
+        private int i;
+
+        StampMatcher(Object[] stamp) {
+            this.stamp = stamp;
+        }
+
+        public boolean same(Object part) {
+            return i < stamp.length && stamp[i++] == part;
+        }
+
+        public boolean equal(Object part) {
+            return i < stamp.length && part.equals(stamp[i++]);
+        }
+    }
+
+    /**
+     * A key made of the identities of the source and target contracts and of the
+     * options of the check
+     */
+    private static class Key {
+        private final ContractReference source;
+        private final ContractReference target;
+        private final Compatibility compatibility;
+        private final boolean ignoreCallback;
+        private final int hash;
+
+        Key(InterfaceContract source,
+            InterfaceContract target,
+            Compatibility compatibility,
+            boolean ignoreCallback,
+            ReferenceQueue<InterfaceContract> queue) {
+            this.source = new ContractReference(source, queue, this);
+            this.target = new ContractReference(target, queue, this);
+            this.compatibility = compatibility;
+            this.ignoreCallback = ignoreCallback;
+            int h = System.identityHashCode(source);
+            h = 31 * h + System.identityHashCode(target);
+            h = 31 * h + (compatibility == null ? 0 : compatibility.hashCode());
+            this.hash = 31 * h + (ignoreCallback ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            if (hash != other.hash || compatibility != other.compatibility || ignoreCallback != other.ignoreCallback) {
+                return false;
+            }
+            Object s = source.get();
+            Object t = target.get();
+            // A key whose contracts have been collected is only equal to itself
+            return s != null && t != null && s == other.source.get() && t == other.target.get();
+        }
+    }
+
+    private static class ContractReference extends WeakReference<InterfaceContract> {
+        private final Key key;
+
+        ContractReference(InterfaceContract contract, ReferenceQueue<InterfaceContract> queue, Key key) {
+            super(contract, queue);
+            this.key = key;
+        }
+    }
+}
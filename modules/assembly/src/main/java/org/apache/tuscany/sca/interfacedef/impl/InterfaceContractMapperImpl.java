@@ -46,6 +46,7 @@ public class InterfaceContractMapperImpl implements InterfaceContractMapper {
     protected ExtensionPointRegistry registry;
     protected BuilderExtensionPoint builders;
     protected ContractBuilder contractBuilder;
+    private final CompatibilityCache compatibilityCache = new CompatibilityCache();
 
     public InterfaceContractMapperImpl(ExtensionPointRegistry registry){
         this.registry = registry;
@@ -380,6 +381,47 @@ public class InterfaceContractMapperImpl implements InterfaceContractMapper {
             return false;
         }
 
+        // The same contracts are checked for each wire at build time and again when the
+        // endpoints are started, so the outcome of the check is cached. The check is always
+        // done in non silent mode so that the audit trail and the exception can be replayed.
+        CompatibilityCache.Result result = compatibilityCache.get(source, target, compatibility, ignoreCallback);
+        if (result == null) {
+            Audit trail = new Audit();
+            try {
+                boolean compatible = doCheckCompatibility(source, target, compatibility, ignoreCallback, false, trail);
+                result = new CompatibilityCache.Result(compatible, trail, null);
+            } catch (IncompatibleInterfaceContractException e) {
+                result = new CompatibilityCache.Result(false, trail, e);
+            }
+            compatibilityCache.put(source, target, compatibility, ignoreCallback, result);
+        }
+
+        if (silent) {
+            return result.isCompatible();
+        }
+        if (audit != null) {
+            audit.append(result.getAudit());
+        }
+        IncompatibleInterfaceContractException e = result.getException();
+        if (e != null) {
+            // Chain the exception raised by the check so that its stack trace isn't lost
+            IncompatibleInterfaceContractException ex =
+                new IncompatibleInterfaceContractException(e.getMessage(), e.getSource(), e.getTarget(),
+                                                           e.getSourceOperation(), e.getTargetOperation());
+            ex.initCause(e);
+            throw ex;
+        }
+        return result.isCompatible();
+    }
+
+    protected boolean doCheckCompatibility(InterfaceContract source,
+                                           InterfaceContract target,
+                                           Compatibility compatibility,
+                                           boolean ignoreCallback,
+                                           boolean silent,
+                                           Audit audit)
+        throws IncompatibleInterfaceContractException {
+
         if (source.getInterface() == target.getInterface()) {
             return ignoreCallback
             || isCallbackCompatible(source, target, silent, audit);
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.assembly.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @version $Rev$ $Date$
+ */
+public class EndpointImplTestCase {
+
+    @Test
+    public void testMatches() {
+        String uri = "comp1#service-binding(Service1/binding1)";
+        Assert.assertTrue(EndpointImpl.matches(uri, "comp1"));
+        Assert.assertTrue(EndpointImpl.matches(uri, "/comp1/Service1"));
+        Assert.assertTrue(EndpointImpl.matches(uri, "comp1/Service1/binding1"));
+        Assert.assertTrue(EndpointImpl.matches(uri, "comp1#service(Service1)"));
+        Assert.assertTrue(EndpointImpl.matches(uri, uri));
+        Assert.assertFalse(EndpointImpl.matches(uri, "comp1/Service2"));
+        Assert.assertFalse(EndpointImpl.matches(uri, "comp1/Service1/binding2"));
+        Assert.assertFalse(EndpointImpl.matches(uri, "comp2"));
+    }
+
+    @Test
+    public void testInvalidStructuralURI() {
+        try {
+            EndpointImpl.matches("comp1#reference(Reference1)", "comp1");
+            Assert.fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -18,6 +18,10 @@
  */
 package org.apache.tuscany.sca.interfacedef.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.lang.reflect.Type;
@@ -36,6 +40,7 @@ import org.apache.tuscany.sca.interfacedef.Interface;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
 import org.apache.tuscany.sca.interfacedef.InterfaceContractMapper;
 import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.util.Audit;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -152,6 +157,87 @@ public class ContractCompatibilityTestCase {
         }
     }
 
+    @Test
+    public void testCachedIncompatibility() throws Exception {
+        InterfaceContract source = new MockContract("FooContract");
+        source.getInterface().getOperations().add(newOperation("op1"));
+        InterfaceContract target = new MockContract("FooContract");
+        target.getInterface().getOperations().add(newOperation("op2"));
+
+        Audit audit = new Audit();
+        IncompatibleInterfaceContractException first = null;
+        try {
+            mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, false, audit);
+            fail();
+        } catch (IncompatibleInterfaceContractException e) {
+            first = e;
+        }
+        String trail = audit.toString();
+        assertTrue(trail.length() > 0);
+
+        // The cached result gives the same exception and audit trail
+        audit = new Audit();
+        try {
+            mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, false, audit);
+            fail();
+        } catch (IncompatibleInterfaceContractException e) {
+            assertEquals(first.getMessage(), e.getMessage());
+            assertSame(first.getCause(), e.getCause());
+            assertSame(source, e.getSource());
+            assertSame(target, e.getTarget());
+        }
+        assertEquals(trail, audit.toString());
+        assertFalse(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+        assertFalse(mapper.isCompatibleSubset(source, target));
+    }
+
+    @Test
+    public void testCachedCompatibilityModifiedContract() throws Exception {
+        InterfaceContract source = new MockContract("FooContract");
+        source.getInterface().getOperations().add(newOperation("op1"));
+        InterfaceContract target = new MockContract("FooContract");
+        target.getInterface().getOperations().add(newOperation("op1"));
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+
+        // Adding an operation to the source invalidates the cached result
+        source.getInterface().getOperations().add(newOperation("op2"));
+        assertFalse(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+
+        // Replacing an operation of the target too
+        target.getInterface().getOperations().add(newOperation("op2"));
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+        target.getInterface().getOperations().set(1, newOperation("op3"));
+        assertFalse(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+    }
+
+    @Test
+    public void testCachedCompatibilityModifiedDataType() throws Exception {
+        InterfaceContract source = new MockContract("FooContract");
+        Operation opSource = newOperation("op1");
+        opSource.setInputType(newInputType(Object.class));
+        source.getInterface().getOperations().add(opSource);
+        InterfaceContract target = new MockContract("FooContract");
+        Operation opTarget = newOperation("op1");
+        opTarget.setInputType(newInputType(Object.class));
+        target.getInterface().getOperations().add(opTarget);
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+
+        // Replacing the input type of an operation invalidates the cached result
+        opSource.setInputType(newInputType(Integer.class));
+        opTarget.setInputType(newInputType(String.class));
+        assertFalse(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+        opTarget.setInputType(newInputType(Integer.class));
+        assertTrue(mapper.checkCompatibility(source, target, Compatibility.SUBSET, false, true));
+    }
+
+    private static DataType<List<DataType>> newInputType(Class<?> type) {
+        List<DataType> inputTypes = new ArrayList<DataType>();
+        inputTypes.add(new DataTypeImpl<Type>(type, type));
+        return new DataTypeImpl<List<DataType>>(String.class, inputTypes);
+    }
+
     /**
      * Verifies source input types can be super types of the target
      */
@@ -81,6 +81,8 @@ class AtomBindingListenerServlet extends HttpServlet {
     private static final String LOCATION = "Location";
     private static final String CONTENTLOCATION = "Content-Location";
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat( "EEE, dd MMM yyyy HH:mm:ss Z" ); // RFC 822 date time
+    private static final String PAGE = "page";
+    private static final String PAGE_SIZE = "pageSize";
 
     private Invocable wire;
     private Invoker getFeedInvoker;
@@ -99,6 +101,8 @@ class AtomBindingListenerServlet extends HttpServlet {
     private DataType<?> itemClassType;
     private DataType<?> itemXMLType;
     private boolean supportsFeedEntries;
+    private int pageSize;
+    private final FeedVersionCache feedCache = new FeedVersionCache();
 
     /**
      * Constructs a new binding listener.
@@ -106,13 +110,15 @@ class AtomBindingListenerServlet extends HttpServlet {
      * @param wire
      * @param messageFactory
      * @param feedType
+     * @param pageSize the default page size, or 0 if the feed isn't paged
      */
-    AtomBindingListenerServlet(Invocable wire, MessageFactory messageFactory, Mediator mediator, String title, String description) {
+    AtomBindingListenerServlet(Invocable wire, MessageFactory messageFactory, Mediator mediator, String title, String description, int pageSize) {
         this.wire = wire;
         this.messageFactory = messageFactory;
         this.mediator = mediator;
         this.title = title;
         this.description = description;
+        this.pageSize = pageSize;
 
         // Get the invokers for the supported operations
         Operation getOperation = null;
@@ -250,53 +256,50 @@ class AtomBindingListenerServlet extends HttpServlet {
 
         } else if (path == null || path.length() == 0 || path.equals("/")) {
 
+            // Plain and paged feed requests can be answered from the feed cache,
+            // queries are always passed to the component
+            int[] paging = getPaging(request);
+            boolean cacheable = request.getQueryString() == null || paging != null;
+            FeedVersionCache.Snapshot snapshot = cacheable ? feedCache.getFeedSnapshot() : null;
+            if (snapshot != null && paging == null) {
+                // Test the request predicates against the cached validators,
+                // without invoking the component
+                if (testFeedPredicates(request, response, snapshot.getETag(), snapshot.getUpdated())) {
+                    return;
+                }
+            }
+
             // Return a feed containing the entries in the collection
-            Feed feed = getFeed( request );
+            Feed feed;
+            String feedETag;
+            Date feedUpdated;
+            if (snapshot != null && paging != null) {
+                feed = snapshot.getFeed();
+                feedETag = snapshot.getETag();
+                feedUpdated = snapshot.getUpdated();
+            } else {
+                long version = feedCache.getVersion();
+                feed = getFeed(request, paging != null ? null : request.getQueryString());
+                feedETag = null;
+                feedUpdated = null;
+                if (feed != null) {
+                    feedETag = HTTPUtils.calculateHashETag(feed.toString().getBytes("utf-8"));
+                    feedUpdated = feed.getUpdated();
+                    if (cacheable) {
+                        feed.complete();
+                        feedCache.putFeedSnapshot(version, feedETag, feedUpdated, feed);
+                    }
+                }
+            }
             if (feed != null) {
-                String feedETag = null;
-                feedETag = HTTPUtils.calculateHashETag(feed.toString().getBytes("utf-8"));
-                Date feedUpdated = feed.getUpdated();
-                // Test request for predicates.
-                String predicate = request.getHeader( "If-Match" );
-                if (( predicate != null ) && ( !predicate.equals(feedETag) )) {
-                    // No match, should short circuit
-                    response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
-                    return;
+                if (paging != null) {
+                    feed = getFeedPage(request, feed, paging[0], paging[1]);
+                    feedETag = HTTPUtils.calculateHashETag(feed.toString().getBytes("utf-8"));
                 }
-                predicate = request.getHeader( "If-None-Match" );
-                if (( predicate != null ) && ( predicate.equals(feedETag) )) {
-                    // Match, should short circuit
-                    response.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+                if (testFeedPredicates(request, response, feedETag, feedUpdated)) {
                     return;
                 }
-                if ( feedUpdated != null ) {
-                    predicate = request.getHeader( "If-Unmodified-Since" );
-                    if ( predicate != null ) {
-                        try {
-                            Date predicateDate = dateFormat.parse( predicate );
-                            if ( predicateDate.compareTo( exactSeconds(feedUpdated) ) < 0 ) {
-                                // Match, should short circuit
-                                response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
-                                return;
-                            }
-                        } catch ( java.text.ParseException e ) {
-                            // Ignore and move on
-                        }
-                    }
-                    predicate = request.getHeader( "If-Modified-Since" );
-                    if ( predicate != null ) {
-                        try {
-                            Date predicateDate = dateFormat.parse( predicate );
-                            if ( predicateDate.compareTo( exactSeconds(feedUpdated) ) >= 0 ) {
-                                // Match, should short circuit
-                                response.sendError(HttpServletResponse.SC_NOT_MODIFIED);
-                                return;
-                            }
-                        } catch ( java.text.ParseException e ) {
-                            // Ignore and move on
-                        }
-                    }
-                }
+
                 // Provide Etag based on Id and time if given.
                 // Ignore if not given. (Browser may cache if trivial ETag is given.)
                 if ( feedETag != null ) {
@@ -341,10 +344,23 @@ class AtomBindingListenerServlet extends HttpServlet {
         } else if (path.startsWith("/")) {
             // Return a specific entry in the collection
             org.apache.abdera.model.Entry feedEntry;
+            String id = path.substring(1);
+
+            // Answer a conditional request from the cached entry validators
+            // if the entry hasn't been modified through the binding
+            FeedVersionCache.Snapshot snapshot = feedCache.getEntrySnapshot(id);
+            if (snapshot != null) {
+                String predicate = request.getHeader( "If-None-Match" );
+                if (( predicate != null ) && ( predicate.equals(snapshot.getETag()) )) {
+                    // Match, should short circuit
+                    response.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+                    return;
+                }
+            }
 
             // Invoke the get operation on the service implementation
+            long version = feedCache.getVersion();
             Message requestMessage = messageFactory.createMessage();
-            String id = path.substring(1);
             requestMessage.setBody(new Object[] {id});
             Message responseMessage = getInvoker.invoke(requestMessage);
             if (responseMessage.isFault()) {
@@ -371,6 +387,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                 String entryETag = null;
                 entryETag = HTTPUtils.calculateHashETag(feedEntry.toString().getBytes("utf-8"));
                 Date entryUpdated = feedEntry.getUpdated();
+                feedCache.putEntrySnapshot(version, id, entryETag, entryUpdated);
                 if ( entryUpdated != null )
                     response.addHeader(LASTMODIFIED, dateFormat.format( entryUpdated ));
                 // TODO Check If-Modified-Since If-Unmodified-Since predicates against LASTMODIFIED.
@@ -473,12 +490,161 @@ class AtomBindingListenerServlet extends HttpServlet {
     }
 
     protected Feed getFeed( HttpServletRequest request ) throws ServletException {
+        return getFeed(request, request.getQueryString());
+    }
+
+    /**
+     * Test the request predicates against the given feed validators.
+     *
+     * @return true if the request has been answered and should short circuit
+     */
+    private boolean testFeedPredicates(HttpServletRequest request, HttpServletResponse response,
+                                       String feedETag, Date feedUpdated) throws IOException {
+        String predicate = request.getHeader( "If-Match" );
+        if (( predicate != null ) && ( !predicate.equals(feedETag) )) {
+            // No match, should short circuit
+            response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
+            return true;
+        }
+        predicate = request.getHeader( "If-None-Match" );
+        if (( predicate != null ) && ( predicate.equals(feedETag) )) {
+            // Match, should short circuit
+            response.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        if ( feedUpdated != null ) {
+            predicate = request.getHeader( "If-Unmodified-Since" );
+            if ( predicate != null ) {
+                try {
+                    Date predicateDate = dateFormat.parse( predicate );
+                    if ( predicateDate.compareTo( exactSeconds(feedUpdated) ) < 0 ) {
+                        // Match, should short circuit
+                        response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
+                        return true;
+                    }
+                } catch ( java.text.ParseException e ) {
+                    // Ignore and move on
+                }
+            }
+            predicate = request.getHeader( "If-Modified-Since" );
+            if ( predicate != null ) {
+                try {
+                    Date predicateDate = dateFormat.parse( predicate );
+                    if ( predicateDate.compareTo( exactSeconds(feedUpdated) ) >= 0 ) {
+                        // Match, should short circuit
+                        response.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+                        return true;
+                    }
+                } catch ( java.text.ParseException e ) {
+                    // Ignore and move on
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the requested page number and page size if paging is enabled on
+     * the binding and the query string of the request only contains paging
+     * parameters, null otherwise.
+     *
+     * @param request
+     * @return
+     */
+    private int[] getPaging(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        if (queryString == null || this.pageSize <= 0) {
+            return null;
+        }
+        int page = -1;
+        int pageSize = this.pageSize;
+        StringTokenizer params = new StringTokenizer(queryString, "&");
+        while (params.hasMoreTokens()) {
+            String param = params.nextToken();
+            int eq = param.indexOf('=');
+            if (eq == -1) {
+                return null;
+            }
+            String name = param.substring(0, eq);
+            int value;
+            try {
+                value = Integer.parseInt(param.substring(eq + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (PAGE.equals(name)) {
+                page = value;
+            } else if (PAGE_SIZE.equals(name)) {
+                pageSize = value;
+            } else {
+                return null;
+            }
+        }
+        if (page < 1 || pageSize < 1) {
+            return null;
+        }
+        return new int[] {page, pageSize};
+    }
+
+    /**
+     * Create a page of the given feed, with RFC 5005 first, previous, next
+     * and last links. The given feed is not modified.
+     *
+     * @param request
+     * @param feed
+     * @param page the page number, starting at 1
+     * @param pageSize
+     * @return
+     */
+    private Feed getFeedPage(HttpServletRequest request, Feed feed, int page, int pageSize) {
+        Feed pageFeed = abderaFactory.newFeed();
+
+        // The cached feed may be shared by concurrent requests
+        synchronized (feed) {
+            if (feed.getTitle() != null) {
+                pageFeed.setTitle(feed.getTitle());
+            }
+            if (feed.getSubtitle() != null) {
+                pageFeed.setSubtitle(feed.getSubtitle());
+            }
+            if (feed.getId() != null) {
+                pageFeed.setId(feed.getId().toString());
+            }
+            if (feed.getUpdated() != null) {
+                pageFeed.setUpdated(feed.getUpdated());
+            }
+            for (Category category : feed.getCategories()) {
+                pageFeed.addCategory((Category)category.clone());
+            }
+
+            List<org.apache.abdera.model.Entry> entries = feed.getEntries();
+            int lastPage = Math.max(1, (entries.size() + pageSize - 1) / pageSize);
+            int from = Math.min(entries.size(), (page - 1) * pageSize);
+            int to = Math.min(entries.size(), from + pageSize);
+            for (org.apache.abdera.model.Entry entry : entries.subList(from, to)) {
+                pageFeed.addEntry((org.apache.abdera.model.Entry)entry.clone());
+            }
+
+            String href = request.getRequestURL().toString() + "?" + PAGE_SIZE + "=" + pageSize + "&" + PAGE + "=";
+            pageFeed.addLink(href + 1, "first");
+            if (page > 1) {
+                pageFeed.addLink(href + Math.min(page - 1, lastPage), "previous");
+            }
+            if (page < lastPage) {
+                pageFeed.addLink(href + (page + 1), "next");
+            }
+            pageFeed.addLink(href + lastPage, "last");
+        }
+        return pageFeed;
+    }
+
+    private Feed getFeed( HttpServletRequest request, String queryString ) throws ServletException {
         if (supportsFeedEntries) {
             // The service implementation supports feed entries, invoke its getFeed operation
             Message requestMessage = messageFactory.createMessage();
             Message responseMessage;
-            if (request.getQueryString() != null) {
-                requestMessage.setBody(new Object[] {request.getQueryString()});
+            if (queryString != null) {
+                requestMessage.setBody(new Object[] {queryString});
                 responseMessage = queryInvoker.invoke(requestMessage);
             } else {
                 responseMessage = getFeedInvoker.invoke(requestMessage);
@@ -494,8 +660,8 @@ class AtomBindingListenerServlet extends HttpServlet {
             // feed entries from the items
             Message requestMessage = messageFactory.createMessage();
             Message responseMessage;
-            if (request.getQueryString() != null) {
-                requestMessage.setBody(new Object[] {request.getQueryString()});
+            if (queryString != null) {
+                requestMessage.setBody(new Object[] {queryString});
                 responseMessage = queryInvoker.invoke(requestMessage);
             } else {
                 responseMessage = getAllInvoker.invoke(requestMessage);
@@ -579,6 +745,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                     Message requestMessage = messageFactory.createMessage();
                     requestMessage.setBody(new Object[] {feedEntry});
                     Message responseMessage = postInvoker.invoke(requestMessage);
+                    feedCache.modified();
                     if (responseMessage.isFault()) {
                         throw new ServletException((Throwable)responseMessage.getBody());
                     }
@@ -590,6 +757,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                     Entry<Object, Object> entry = entry(feedEntry, itemClassType, itemXMLType, mediator);
                     requestMessage.setBody(new Object[] {entry.getKey(), entry.getData()});
                     Message responseMessage = postInvoker.invoke(requestMessage);
+                    feedCache.modified();
                     if (responseMessage.isFault()) {
                         throw new ServletException((Throwable)responseMessage.getBody());
                     }
@@ -608,6 +776,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                 Message requestMessage = messageFactory.createMessage();
                 requestMessage.setBody(new Object[] {title, slug, contentType, request.getInputStream()});
                 Message responseMessage = postMediaInvoker.invoke(requestMessage);
+                feedCache.modified();
                 if (responseMessage.isFault()) {
                     throw new ServletException((Throwable)responseMessage.getBody());
                 }
@@ -707,6 +876,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                     Message requestMessage = messageFactory.createMessage();
                     requestMessage.setBody(new Object[] {id, feedEntry});
                     Message responseMessage = putInvoker.invoke(requestMessage);
+                    feedCache.modified(id);
                     if (responseMessage.isFault()) {
                         Object body = responseMessage.getBody();
                         if (body.getClass().getName().endsWith(".NotFoundException")) {
@@ -721,6 +891,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                     Entry<Object, Object> entry = entry(feedEntry, itemClassType, itemXMLType, mediator);
                     requestMessage.setBody(new Object[] {entry.getKey(), entry.getData()});
                     Message responseMessage = putInvoker.invoke(requestMessage);
+                    feedCache.modified(id);
                     if (responseMessage.isFault()) {
                         Object body = responseMessage.getBody();
                         if (body.getClass().getName().endsWith(".NotFoundException")) {
@@ -739,6 +910,7 @@ class AtomBindingListenerServlet extends HttpServlet {
                 Message requestMessage = messageFactory.createMessage();
                 requestMessage.setBody(new Object[] {id, contentType, request.getInputStream()});
                 Message responseMessage = putMediaInvoker.invoke(requestMessage);
+                feedCache.modified(id);
 
                 Object body = responseMessage.getBody();
                 if (responseMessage.isFault()) {
@@ -783,6 +955,7 @@ class AtomBindingListenerServlet extends HttpServlet {
         Message requestMessage = messageFactory.createMessage();
         requestMessage.setBody(new Object[] {id});
         Message responseMessage = deleteInvoker.invoke(requestMessage);
+        feedCache.modified(id);
         if (responseMessage.isFault()) {
             Object body = responseMessage.getBody();
             if (body.getClass().getName().endsWith(".NotFoundException")) {
@@ -19,6 +19,8 @@
 
 package org.apache.tuscany.sca.binding.atom.provider;
 
+import java.util.logging.Logger;
+
 import org.apache.tuscany.sca.binding.atom.AtomBinding;
 import org.apache.tuscany.sca.databinding.Mediator;
 import org.apache.tuscany.sca.host.http.ServletHost;
@@ -36,6 +38,8 @@ import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
  * @version $Rev$ $Date$
  */
 class AtomServiceBindingProvider implements ServiceBindingProvider {
+    private static final Logger logger = Logger.getLogger(AtomServiceBindingProvider.class.getName());
+
     private MessageFactory messageFactory;
 
     private RuntimeEndpoint endpoint;
@@ -79,7 +83,8 @@ class AtomServiceBindingProvider implements ServiceBindingProvider {
         Invocable wire = (RuntimeEndpoint) endpoint;
 
         AtomBindingListenerServlet servlet =
-            new AtomBindingListenerServlet(wire, messageFactory, mediator, binding.getTitle(), binding.getDescription());
+            new AtomBindingListenerServlet(wire, messageFactory, mediator, binding.getTitle(), binding.getDescription(),
+                                           getPageSize(binding.getPageSize()));
 
         servletMapping = binding.getURI();
         if (!servletMapping.endsWith("/")) {
@@ -107,6 +112,25 @@ class AtomServiceBindingProvider implements ServiceBindingProvider {
         endpoint.setDeployedURI(deployedURI);
     }
 
+    /**
+     * Returns the configured page size, or 0 if the feed isn't paged.
+     */
+    private static int getPageSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            int pageSize = Integer.parseInt(value.trim());
+            if (pageSize > 0) {
+                return pageSize;
+            }
+        } catch (NumberFormatException e) {
+            // Ignore and don't page the feed
+        }
+        logger.warning("Invalid pageSize value: " + value + ", the feed won't be paged");
+        return 0;
+    }
+
     public void stop() {
         servletHost.removeServletMapping(servletMapping);
         servletHost.removeServletMapping(bindingURI);
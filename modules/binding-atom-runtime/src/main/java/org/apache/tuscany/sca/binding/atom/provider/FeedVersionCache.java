@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.binding.atom.provider;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.abdera.model.Feed;
+
+/**
+ * Keeps track of the validators (ETag and last modified date) of the feed and
+ * of the entries served by an Atom binding listener, so that conditional
+ * requests can be answered without invoking the component.
+ * <p>
+ * Every modification made through the binding (post, put, delete) bumps a
+ * version number. A snapshot is only stored if no modification happened while
+ * it was being computed. The feed snapshot is only returned while the version
+ * it was computed against is still current, an entry snapshot is discarded when
+ * that particular entry is modified. Modifications made by the component
+ * implementation behind the back of the binding are not tracked.
+ *
+ * @version $Rev$ $Date$
+ */
+class FeedVersionCache {
+
+    /**
+     * The validators and content of a feed or entry at a given version.
+     */
+    static class Snapshot {
+        private final long version;
+        private final String eTag;
+        private final Date updated;
+        private final Feed feed;
+
+        Snapshot(long version, String eTag, Date updated, Feed feed) {
+            this.version = version;
+            this.eTag = eTag;
+            this.updated = updated;
+            this.feed = feed;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        String getETag() {
+            return eTag;
+        }
+
+        Date getUpdated() {
+            return updated;
+        }
+
+        /**
+         * Returns the cached feed, or null for an entry snapshot. The feed must
+         * be treated as read-only.
+         */
+        Feed getFeed() {
+            return feed;
+        }
+    }
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot feedSnapshot;
+    private final ConcurrentMap<String, Snapshot> entrySnapshots = new ConcurrentHashMap<String, Snapshot>();
+
+    /**
+     * Returns the current version. Callers must read it before invoking the
+     * component and pass it back when storing the resulting snapshot.
+     */
+    long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Returns the current feed snapshot, or null if the feed has been modified
+     * since it was computed.
+     */
+    Snapshot getFeedSnapshot() {
+        Snapshot snapshot = feedSnapshot;
+        if (snapshot != null && snapshot.getVersion() == version.get()) {
+            return snapshot;
+        }
+        return null;
+    }
+
+    /**
+     * Stores a feed snapshot computed against the given version.
+     */
+    void putFeedSnapshot(long computedVersion, String eTag, Date updated, Feed feed) {
+        if (computedVersion == version.get()) {
+            feedSnapshot = new Snapshot(computedVersion, eTag, updated, feed);
+        }
+    }
+
+    /**
+     * Returns the current snapshot of an entry, or null if the entry has been
+     * modified since it was computed.
+     */
+    Snapshot getEntrySnapshot(String id) {
+        // Entry snapshots are removed when the entry is modified, so changes
+        // to other entries of the collection don't invalidate them
+        return entrySnapshots.get(id);
+    }
+
+    /**
+     * Stores an entry snapshot computed against the given version.
+     */
+    void putEntrySnapshot(long computedVersion, String id, String eTag, Date updated) {
+        if (computedVersion == version.get()) {
+            Snapshot snapshot = new Snapshot(computedVersion, eTag, updated, null);
+            entrySnapshots.put(id, snapshot);
+
+            // Back out if a modification raced with the put
+            if (computedVersion != version.get()) {
+                entrySnapshots.remove(id, snapshot);
+            }
+        }
+    }
+
+    /**
+     * Records a modification of the collection, for example a new entry.
+     */
+    void modified() {
+        version.incrementAndGet();
+        feedSnapshot = null;
+    }
+
+    /**
+     * Records a modification of a specific entry.
+     *
+     * @param id the entry id
+     */
+    void modified(String id) {
+        version.incrementAndGet();
+        feedSnapshot = null;
+        entrySnapshots.remove(id);
+    }
+}
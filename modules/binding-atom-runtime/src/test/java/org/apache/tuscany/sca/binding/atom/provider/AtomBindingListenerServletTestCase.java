@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.binding.atom.provider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import junit.framework.Assert;
+
+import org.apache.abdera.Abdera;
+import org.apache.abdera.model.Entry;
+import org.apache.abdera.model.Feed;
+import org.apache.tuscany.sca.core.invocation.impl.MessageFactoryImpl;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.impl.DataTypeImpl;
+import org.apache.tuscany.sca.interfacedef.impl.OperationImpl;
+import org.apache.tuscany.sca.invocation.InvocationChain;
+import org.apache.tuscany.sca.invocation.Invoker;
+import org.apache.tuscany.sca.invocation.Message;
+import org.apache.tuscany.sca.runtime.Invocable;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the feed requests handled by the Atom binding listener.
+ *
+ * @version $Rev$ $Date$
+ */
+public class AtomBindingListenerServletTestCase {
+
+    private List<String> calls;
+    private ByteArrayOutputStream body;
+
+    @Before
+    public void setUp() {
+        calls = new ArrayList<String>();
+        body = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void testPagingParametersQueryWhenPagingIsDisabled() throws Exception {
+        AtomBindingListenerServlet servlet = createServlet(0);
+        servlet.doGet(createRequest("page=2&pageSize=2"), createResponse());
+
+        // The parameters are passed to the query operation as before
+        Assert.assertEquals("[query:page=2&pageSize=2]", calls.toString());
+        Assert.assertEquals(5, count("<entry"));
+    }
+
+    @Test
+    public void testPagingWhenPagingIsEnabled() throws Exception {
+        AtomBindingListenerServlet servlet = createServlet(2);
+        servlet.doGet(createRequest("page=2"), createResponse());
+
+        Assert.assertEquals("[getFeed]", calls.toString());
+        Assert.assertEquals(2, count("<entry"));
+        Assert.assertEquals(1, count(">entry3</id>"));
+        Assert.assertEquals(1, count(">entry4</id>"));
+        Assert.assertEquals(1, count("rel=\"next\""));
+        Assert.assertEquals(1, count("rel=\"previous\""));
+
+        // The next page is sliced from the cached feed
+        body.reset();
+        servlet.doGet(createRequest("page=3"), createResponse());
+        Assert.assertEquals("[getFeed]", calls.toString());
+        Assert.assertEquals(1, count("<entry"));
+        Assert.assertEquals(0, count("rel=\"next\""));
+    }
+
+    @Test
+    public void testQueryWhenPagingIsEnabled() throws Exception {
+        AtomBindingListenerServlet servlet = createServlet(2);
+        servlet.doGet(createRequest("page=1&author=joe"), createResponse());
+
+        Assert.assertEquals("[query:page=1&author=joe]", calls.toString());
+        Assert.assertEquals(5, count("<entry"));
+    }
+
+    @Test
+    public void testFeedWhenPagingIsEnabled() throws Exception {
+        AtomBindingListenerServlet servlet = createServlet(2);
+        servlet.doGet(createRequest(null), createResponse());
+
+        Assert.assertEquals("[getFeed]", calls.toString());
+        Assert.assertEquals(5, count("<entry"));
+    }
+
+    private int count(String s) throws Exception {
+        String text = body.toString("UTF-8");
+        int n = 0;
+        for (int i = text.indexOf(s); i != -1; i = text.indexOf(s, i + 1)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static Feed createFeed() {
+        Feed feed = Abdera.getNewFactory().newFeed();
+        feed.setTitle("feed");
+        for (int i = 1; i <= 5; i++) {
+            Entry entry = feed.addEntry();
+            entry.setId("entry" + i);
+            entry.setTitle("Entry " + i);
+        }
+        return feed;
+    }
+
+    private AtomBindingListenerServlet createServlet(int pageSize) {
+        final List<InvocationChain> chains = new ArrayList<InvocationChain>();
+        chains.add(createChain("getFeed", new Invoker() {
+            public Message invoke(Message msg) {
+                calls.add("getFeed");
+                msg.setBody(createFeed());
+                return msg;
+            }
+        }));
+        chains.add(createChain("query", new Invoker() {
+            public Message invoke(Message msg) {
+                calls.add("query:" + ((Object[])msg.getBody())[0]);
+                msg.setBody(createFeed());
+                return msg;
+            }
+        }));
+        chains.add(createChain("get", null));
+        Invocable wire = proxy(Invocable.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getInvocationChains") ? chains : null;
+            }
+        });
+        return new AtomBindingListenerServlet(wire, new MessageFactoryImpl(), null, "feed", null, pageSize);
+    }
+
+    private static InvocationChain createChain(String name, final Invoker invoker) {
+        final Operation operation = new OperationImpl();
+        operation.setName(name);
+        List<DataType> outputs = new ArrayList<DataType>();
+        outputs.add(new DataTypeImpl<Class<?>>(Entry.class, Entry.class));
+        operation.setOutputType(new DataTypeImpl<List<DataType>>(Object[].class, outputs));
+        return proxy(InvocationChain.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getTargetOperation")) {
+                    return operation;
+                } else if (method.getName().equals("getHeadInvoker")) {
+                    return invoker;
+                }
+                return null;
+            }
+        });
+    }
+
+    private static HttpServletRequest createRequest(final String queryString) {
+        final Map<String, String> values = new HashMap<String, String>();
+        values.put("getContextPath", "");
+        values.put("getServletPath", "/feed");
+        values.put("getRequestURI", "/feed/");
+        values.put("getQueryString", queryString);
+        return proxy(HttpServletRequest.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getRequestURL")) {
+                    return new StringBuffer("http://localhost/feed/");
+                }
+                return values.get(method.getName());
+            }
+        });
+    }
+
+    private HttpServletResponse createResponse() {
+        final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                body.write(b);
+            }
+        };
+        return proxy(HttpServletResponse.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("getOutputStream")) {
+                    return out;
+                } else if (method.getName().equals("sendError")) {
+                    Assert.fail("Unexpected error " + args[0]);
+                }
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T)Proxy.newProxyInstance(AtomBindingListenerServletTestCase.class.getClassLoader(),
+                                         new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.binding.atom.provider;
+
+import java.util.Date;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Tests the validator cache used by the Atom binding listener.
+ *
+ * @version $Rev$ $Date$
+ */
+public class FeedVersionCacheTestCase {
+
+    @Test
+    public void testFeedSnapshot() throws Exception {
+        FeedVersionCache cache = new FeedVersionCache();
+        Assert.assertNull(cache.getFeedSnapshot());
+
+        long version = cache.getVersion();
+        cache.putFeedSnapshot(version, "1234", new Date(), null);
+        Assert.assertEquals("1234", cache.getFeedSnapshot().getETag());
+
+        // Any modification invalidates the feed
+        cache.modified("42");
+        Assert.assertNull(cache.getFeedSnapshot());
+    }
+
+    @Test
+    public void testStaleFeedSnapshot() throws Exception {
+        FeedVersionCache cache = new FeedVersionCache();
+
+        // A snapshot computed before a modification must not be stored
+        long version = cache.getVersion();
+        cache.modified();
+        cache.putFeedSnapshot(version, "1234", new Date(), null);
+        Assert.assertNull(cache.getFeedSnapshot());
+    }
+
+    @Test
+    public void testEntrySnapshot() throws Exception {
+        FeedVersionCache cache = new FeedVersionCache();
+        long version = cache.getVersion();
+        cache.putEntrySnapshot(version, "1", "aaaa", new Date());
+        cache.putEntrySnapshot(version, "2", "bbbb", new Date());
+
+        // Modifying an entry only invalidates that entry
+        cache.modified("1");
+        Assert.assertNull(cache.getEntrySnapshot("1"));
+        Assert.assertEquals("bbbb", cache.getEntrySnapshot("2").getETag());
+
+        // Stale entry snapshots are not stored
+        cache.putEntrySnapshot(version, "1", "aaaa", new Date());
+        Assert.assertNull(cache.getEntrySnapshot("1"));
+    }
+}
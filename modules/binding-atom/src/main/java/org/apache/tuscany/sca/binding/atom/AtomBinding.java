@@ -56,4 +56,19 @@ public interface AtomBinding extends Binding {
      * @param description The description of the Atom collection
      */
     void setDescription(String description);
+
+    /**
+     * Returns the default size of the pages of the Atom collection. The feed
+     * is only served in pages when a page size is set.
+     * 
+     * @return The default page size of the Atom collection
+     */
+    String getPageSize();
+
+    /**
+     * Sets the default size of the pages of the Atom collection.
+     * 
+     * @param pageSize The default page size of the Atom collection
+     */
+    void setPageSize(String pageSize);
 }
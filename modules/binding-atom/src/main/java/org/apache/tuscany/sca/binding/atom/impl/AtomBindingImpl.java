@@ -36,6 +36,7 @@ class AtomBindingImpl implements AtomBinding {
     private String uri;
     private String title;
     private String description;
+    private String pageSize;
 
     public QName getType() {
         return AtomBinding.TYPE;
@@ -73,6 +74,14 @@ class AtomBindingImpl implements AtomBinding {
         this.description = description;
     }
 
+    public String getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(String pageSize) {
+        this.pageSize = pageSize;
+    }
+
     public boolean isUnresolved() {
         // The binding is always resolved
         return false;
@@ -46,7 +46,7 @@ public class AtomBindingProcessorTestCase {
             + " <component name=\"HelloWorldComponent\">"
             + "   <implementation.java class=\"services.HelloWorld\"/>"
             + "      <service name=\"HelloWorldService\">"
-            + "          <tuscany:binding.atom uri=\"http://localhost:8080/feed\" title=\"Feed Title\"/>"
+            + "          <tuscany:binding.atom uri=\"http://localhost:8080/feed\" title=\"Feed Title\" pageSize=\"20\"/>"
             + "      </service>"
             + " </component>"
             + "</composite>";
@@ -79,5 +79,6 @@ public class AtomBindingProcessorTestCase {
         Assert.assertNotNull(binding);
         Assert.assertEquals("Feed Title", binding.getTitle());
         Assert.assertEquals("http://localhost:8080/feed", binding.getURI());
+        Assert.assertEquals("20", binding.getPageSize());
     }
 }
@@ -19,8 +19,13 @@
 
 package org.apache.tuscany.sca.binding.comet.runtime;
 
+import java.util.Properties;
+import java.util.logging.Logger;
+
 import org.apache.tuscany.sca.binding.comet.CometBinding;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometBatching;
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.core.UtilityExtensionPoint;
 import org.apache.tuscany.sca.host.http.ServletHost;
 import org.apache.tuscany.sca.host.http.ServletHostHelper;
 import org.apache.tuscany.sca.provider.BindingProviderFactory;
@@ -28,19 +33,92 @@ import org.apache.tuscany.sca.provider.ReferenceBindingProvider;
 import org.apache.tuscany.sca.provider.ServiceBindingProvider;
 import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
 import org.apache.tuscany.sca.runtime.RuntimeEndpointReference;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
 
 /**
  * Factory for binding providers.
  */
 public class CometBindingProviderFactory implements BindingProviderFactory<CometBinding> {
 
+    private static final Logger logger = Logger.getLogger(CometBindingProviderFactory.class.getName());
+
+    /**
+     * Runtime property setting the window, in milliseconds, within which the
+     * messages sent to a session are batched. Messages are sent immediately by
+     * default.
+     */
+    public static final String BROADCAST_WINDOW = "org.apache.tuscany.sca.binding.comet.broadcastWindow";
+
+    /**
+     * Runtime property setting the maximum number of messages queued per
+     * session when batching.
+     */
+    public static final String MAX_QUEUED_MESSAGES = "org.apache.tuscany.sca.binding.comet.maxQueuedMessages";
+
+    private static final long DEFAULT_BROADCAST_WINDOW = 0;
+    private static final int DEFAULT_MAX_QUEUED_MESSAGES = 100;
+
     /**
      * Underlying servlet host.
      */
     private final ServletHost servletHost;
 
+    /**
+     * Batching of the bindings that don't set their own.
+     */
+    private final CometBatching defaultBatching;
+
     public CometBindingProviderFactory(final ExtensionPointRegistry extensionPoints) {
         this.servletHost = ServletHostHelper.getServletHost(extensionPoints);
+        Properties properties = extensionPoints.getExtensionPoint(UtilityExtensionPoint.class)
+                .getUtility(RuntimeProperties.class).getProperties();
+        this.defaultBatching = new CometBatching(getWindow(properties.getProperty(BROADCAST_WINDOW),
+                DEFAULT_BROADCAST_WINDOW), getMaxQueuedMessages(properties.getProperty(MAX_QUEUED_MESSAGES),
+                DEFAULT_MAX_QUEUED_MESSAGES));
+    }
+
+    /**
+     * Returns the batching of a binding, the attributes of the binding
+     * overriding the runtime properties.
+     */
+    CometBatching getBatching(final CometBinding binding) {
+        if (binding.getBroadcastWindow() == null && binding.getMaxQueuedMessages() == null) {
+            return this.defaultBatching;
+        }
+        return new CometBatching(getWindow(binding.getBroadcastWindow(), this.defaultBatching.getWindow()),
+                getMaxQueuedMessages(binding.getMaxQueuedMessages(), this.defaultBatching.getMaxQueuedMessages()));
+    }
+
+    static long getWindow(final String value, final long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long window = Long.parseLong(value.trim());
+            if (window >= 0) {
+                return window;
+            }
+        } catch (NumberFormatException e) {
+            // fall back to the default
+        }
+        logger.warning("Invalid broadcastWindow value: " + value + ", using " + defaultValue);
+        return defaultValue;
+    }
+
+    static int getMaxQueuedMessages(final String value, final int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int maxQueuedMessages = Integer.parseInt(value.trim());
+            if (maxQueuedMessages > 0) {
+                return maxQueuedMessages;
+            }
+        } catch (NumberFormatException e) {
+            // fall back to the default
+        }
+        logger.warning("Invalid maxQueuedMessages value: " + value + ", using " + defaultValue);
+        return defaultValue;
     }
 
     @Override
@@ -54,7 +132,8 @@ public class CometBindingProviderFactory implements BindingProviderFactory<Comet
      */
     @Override
     public ReferenceBindingProvider createReferenceBindingProvider(final RuntimeEndpointReference endpoint) {
-        return new CometReferenceBindingProvider(endpoint);
+        return new CometReferenceBindingProvider(endpoint,
+                getBatching((CometBinding) endpoint.getBinding()));
     }
 
     /**
@@ -63,7 +142,8 @@ public class CometBindingProviderFactory implements BindingProviderFactory<Comet
      */
     @Override
     public ServiceBindingProvider createServiceBindingProvider(final RuntimeEndpoint endpoint) {
-        return new CometServiceBindingProvider(endpoint, this.servletHost);
+        return new CometServiceBindingProvider(endpoint, this.servletHost,
+                getBatching((CometBinding) endpoint.getBinding()));
     }
 
 }
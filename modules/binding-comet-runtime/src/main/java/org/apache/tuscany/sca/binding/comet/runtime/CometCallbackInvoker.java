@@ -21,13 +21,14 @@ package org.apache.tuscany.sca.binding.comet.runtime;
 
 import org.apache.tuscany.sca.assembly.EndpointReference;
 import org.apache.tuscany.sca.binding.comet.runtime.callback.Status;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometBatching;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometSession;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometSessionManager;
 import org.apache.tuscany.sca.core.invocation.Constants;
 import org.apache.tuscany.sca.core.invocation.impl.MessageImpl;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.invocation.Invoker;
 import org.apache.tuscany.sca.invocation.Message;
-import org.atmosphere.cpr.Broadcaster;
 
 /**
  * Receives callback invocations and sends messages back to the browser.
@@ -36,10 +37,13 @@ public class CometCallbackInvoker implements Invoker {
 
     protected Operation operation;
     protected EndpointReference endpoint;
+    protected CometBatching batching;
 
-    public CometCallbackInvoker(final Operation operation, final EndpointReference endpoint) {
+    public CometCallbackInvoker(final Operation operation, final EndpointReference endpoint,
+            final CometBatching batching) {
         this.operation = operation;
         this.endpoint = endpoint;
+        this.batching = batching;
     }
 
     /**
@@ -53,14 +57,15 @@ public class CometCallbackInvoker implements Invoker {
     @Override
     public Message invoke(final Message msg) {
         String sessionId = (String) msg.getHeaders().get(Constants.RELATES_TO);
-        Broadcaster broadcaster = CometSessionManager.get(sessionId);
+        CometSession session = CometSessionManager.getSession(sessionId);
         Message response = new MessageImpl();
-        if (broadcaster == null) {
+        if (session == null) {
             response.setBody(Status.CLIENT_DISCONNECTED);
         } else {
             String callbackMethod = msg.getTo().getURI();
             Object[] body = msg.getBody();
-            broadcaster.broadcast(callbackMethod + "($.secureEvalJSON('" + JSONUtil.encodeResponse(body[0]) + "'))");
+            session.send(callbackMethod + "($.secureEvalJSON('" + JSONUtil.encodeResponse(body[0]) + "'))",
+                    this.batching);
             response.setBody(Status.OK);
         }
         return response;
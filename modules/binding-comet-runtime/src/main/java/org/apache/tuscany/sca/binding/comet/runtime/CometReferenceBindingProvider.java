@@ -20,6 +20,7 @@
 package org.apache.tuscany.sca.binding.comet.runtime;
 
 import org.apache.tuscany.sca.assembly.EndpointReference;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometBatching;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.invocation.Invoker;
@@ -37,13 +38,19 @@ public class CometReferenceBindingProvider implements ReferenceBindingProvider {
      */
     private final EndpointReference endpoint;
 
-    public CometReferenceBindingProvider(final EndpointReference endpoint) {
+    /**
+     * Batching of the messages sent to the sessions.
+     */
+    private final CometBatching batching;
+
+    public CometReferenceBindingProvider(final EndpointReference endpoint, final CometBatching batching) {
         this.endpoint = endpoint;
+        this.batching = batching;
     }
 
     @Override
     public Invoker createInvoker(final Operation operation) {
-        return new CometCallbackInvoker(operation, endpoint);
+        return new CometCallbackInvoker(operation, endpoint, batching);
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.apache.tuscany.sca.binding.comet.runtime;
 
 import org.apache.tuscany.sca.assembly.ComponentService;
 import org.apache.tuscany.sca.binding.comet.runtime.javascript.JavascriptGenerator;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometBatching;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometEndpointManager;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometOperationManager;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometSessionManager;
@@ -38,10 +39,13 @@ public class CometServiceBindingProvider implements ServiceBindingProvider {
 
     private RuntimeEndpoint endpoint;
     private ServletHost servletHost;
+    private CometBatching batching;
 
-    public CometServiceBindingProvider(final RuntimeEndpoint endpoint, final ServletHost servletHost) {
+    public CometServiceBindingProvider(final RuntimeEndpoint endpoint, final ServletHost servletHost,
+            final CometBatching batching) {
         this.endpoint = endpoint;
         this.servletHost = servletHost;
+        this.batching = batching;
     }
 
     /**
@@ -56,7 +60,7 @@ public class CometServiceBindingProvider implements ServiceBindingProvider {
         JavascriptGenerator.generateServiceProxy(service);
         for (final Operation operation : serviceInterface.getOperations()) {
             final String url = "/" + endpoint.getService().getName() + "/" + operation.getName();
-            CometEndpointManager.add(url, endpoint);
+            CometEndpointManager.add(url, endpoint, batching);
             CometOperationManager.add(url, operation);
             JavascriptGenerator.generateMethodProxy(service, operation);
         }
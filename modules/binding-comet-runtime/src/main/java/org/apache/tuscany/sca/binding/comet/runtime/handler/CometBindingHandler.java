@@ -32,6 +32,7 @@ import org.apache.tuscany.sca.assembly.EndpointReference;
 import org.apache.tuscany.sca.binding.comet.runtime.JSONUtil;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometEndpointManager;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometOperationManager;
+import org.apache.tuscany.sca.binding.comet.runtime.manager.CometSession;
 import org.apache.tuscany.sca.binding.comet.runtime.manager.CometSessionManager;
 import org.apache.tuscany.sca.core.assembly.impl.RuntimeEndpointImpl;
 import org.apache.tuscany.sca.core.assembly.impl.RuntimeEndpointReferenceImpl;
@@ -106,10 +107,10 @@ public class CometBindingHandler {
         boolean isVoidReturnType = operation.getOutputType().getLogical().isEmpty();
         if (!isVoidReturnType) {
             Object response = wire.invoke(operation, args);
-            Broadcaster broadcaster = CometSessionManager.get(sessionId);
-            if (broadcaster != null) {
-                broadcaster.broadcast(callbackMethod + "($.secureEvalJSON('" + JSONUtil.encodeResponse(response)
-                        + "'))");
+            CometSession session = CometSessionManager.getSession(sessionId);
+            if (session != null) {
+                session.send(callbackMethod + "($.secureEvalJSON('" + JSONUtil.encodeResponse(response)
+                        + "'))", CometEndpointManager.getBatching(url));
             }
         } else {
             wire.invoke(operation, msg);
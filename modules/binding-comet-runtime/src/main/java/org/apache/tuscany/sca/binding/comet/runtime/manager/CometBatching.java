@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.binding.comet.runtime.manager;
+
+/**
+ * The batching of the messages a comet binding sends to the sessions.
+ */
+public final class CometBatching {
+
+    /**
+     * Messages are sent immediately.
+     */
+    public static final CometBatching NONE = new CometBatching(0, 1);
+
+    private final long window;
+    private final int maxQueuedMessages;
+
+    /**
+     * @param window
+     *            the batching window in milliseconds, 0 to send messages
+     *            immediately
+     * @param maxQueuedMessages
+     *            the maximum number of messages queued per session, at least
+     *            1
+     */
+    public CometBatching(long window, int maxQueuedMessages) {
+        this.window = window;
+        this.maxQueuedMessages = maxQueuedMessages;
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public int getMaxQueuedMessages() {
+        return maxQueuedMessages;
+    }
+
+}
@@ -29,23 +29,35 @@ import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
 public class CometEndpointManager {
 
     private static final ConcurrentMap<String, RuntimeEndpoint> endpoints = new ConcurrentHashMap<String, RuntimeEndpoint>();
+    private static final ConcurrentMap<String, CometBatching> batchings = new ConcurrentHashMap<String, CometBatching>();
 
     private CometEndpointManager() {
     }
 
-    public static void add(String url, RuntimeEndpoint endpoint) {
+    public static void add(String url, RuntimeEndpoint endpoint, CometBatching batching) {
         endpoints.put(url, endpoint);
+        batchings.put(url, batching);
     }
 
     public static RuntimeEndpoint get(String url) {
         return endpoints.get(url);
     }
 
+    /**
+     * @return the batching of the responses of the endpoint
+     */
+    public static CometBatching getBatching(String url) {
+        CometBatching batching = batchings.get(url);
+        return batching != null ? batching : CometBatching.NONE;
+    }
+
     public static void remove(String url) {
         endpoints.remove(url);
+        batchings.remove(url);
     }
 
     public static void clear() {
         endpoints.clear();
+        batchings.clear();
     }
 }
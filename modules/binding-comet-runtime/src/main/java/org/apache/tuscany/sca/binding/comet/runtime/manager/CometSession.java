@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.binding.comet.runtime.manager;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.atmosphere.cpr.Broadcaster;
+
+/**
+ * A comet session, sending messages to a browser client through its
+ * broadcaster. The session is shared by the comet bindings the client talks to,
+ * and each message is sent with the batching of its binding. When a batching
+ * window is set, the messages sent to the session during the window are queued
+ * and broadcast together at the end of it. If the queue is full, the oldest
+ * message is dropped.
+ */
+public class CometSession {
+
+    private static final Logger logger = Logger.getLogger(CometSession.class.getName());
+
+    private final String sessionId;
+    private final Broadcaster broadcaster;
+    private final ScheduledExecutorService scheduler;
+    private final LinkedList<String> queue = new LinkedList<String>();
+    // the time the queued messages will be flushed at, 0 if no flush is scheduled
+    private long flushTime;
+    private long droppedMessages;
+    // keeps the messages in order when flushes overlap
+    private final Object flushLock = new Object();
+
+    /**
+     * @param scheduler
+     *            the scheduler of the flushes at the end of the batching
+     *            windows, null to send all messages immediately
+     */
+    public CometSession(String sessionId, Broadcaster broadcaster, ScheduledExecutorService scheduler) {
+        this.sessionId = sessionId;
+        this.broadcaster = broadcaster;
+        this.scheduler = scheduler;
+    }
+
+    public Broadcaster getBroadcaster() {
+        return broadcaster;
+    }
+
+    /**
+     * Sends a message to the browser client, at the end of the batching window
+     * if there is one. A message sent without a window also sends the messages
+     * queued before it.
+     * 
+     * @param message
+     *            the javascript to evaluate on the client
+     * @param batching
+     *            the batching of the binding sending the message
+     */
+    public void send(String message, CometBatching batching) {
+        long window = scheduler != null ? batching.getWindow() : 0;
+        synchronized (queue) {
+            if (window > 0) {
+                while (!queue.isEmpty() && queue.size() >= batching.getMaxQueuedMessages()) {
+                    queue.removeFirst();
+                    droppedMessages++;
+                }
+            }
+            queue.add(message);
+            if (window > 0) {
+                // a flush scheduled earlier also sends this message
+                long time = System.currentTimeMillis() + window;
+                if (flushTime != 0 && flushTime <= time) {
+                    return;
+                }
+                flushTime = time;
+            }
+        }
+        if (window > 0) {
+            scheduler.schedule(new Runnable() {
+                public void run() {
+                    flush();
+                }
+            }, window, TimeUnit.MILLISECONDS);
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Broadcasts the queued messages as a single message.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            List<String> messages;
+            long dropped;
+            synchronized (queue) {
+                messages = new ArrayList<String>(queue);
+                queue.clear();
+                flushTime = 0;
+                dropped = droppedMessages;
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+            if (messages.size() == 1) {
+                broadcaster.broadcast(messages.get(0));
+            } else {
+                StringBuilder builder = new StringBuilder();
+                for (String message : messages) {
+                    builder.append(message).append(";\n");
+                }
+                broadcaster.broadcast(builder.toString());
+            }
+            if (dropped > 0) {
+                logger.fine("Comet session " + sessionId + ": " + messages.size() + " messages sent, " + dropped
+                        + " dropped so far");
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages waiting for the end of the batching window
+     */
+    public int getQueueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the queue was full
+     */
+    public long getDroppedMessages() {
+        synchronized (queue) {
+            return droppedMessages;
+        }
+    }
+
+}
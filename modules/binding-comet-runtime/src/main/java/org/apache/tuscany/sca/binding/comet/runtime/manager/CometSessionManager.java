@@ -18,34 +18,70 @@
  */
 package org.apache.tuscany.sca.binding.comet.runtime.manager;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import org.atmosphere.cpr.Broadcaster;
 
 /**
  * Manager for Tuscany comet sessions. This is a thread-safe singleton class.
+ * <p>
+ * Messages sent to a session can be batched within a time window, see
+ * {@link CometSession#send(String, CometBatching)}.
  */
 public class CometSessionManager {
 
-    private static final ConcurrentMap<String, Broadcaster> broadcasters = new ConcurrentHashMap<String, Broadcaster>();
+    private static final ConcurrentMap<String, CometSession> sessions = new ConcurrentHashMap<String, CometSession>();
+
+    private static ScheduledExecutorService scheduler;
 
     private CometSessionManager() {
     }
 
-    public static void add(String sessionId, Broadcaster broadcaster) {
-        broadcasters.put(sessionId, broadcaster);
+    public static synchronized void add(String sessionId, Broadcaster broadcaster) {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "Tuscany comet broadcast");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        sessions.put(sessionId, new CometSession(sessionId, broadcaster, scheduler));
     }
 
     public static Broadcaster get(String sessionId) {
-        return broadcasters.get(sessionId);
+        CometSession session = sessions.get(sessionId);
+        return session == null ? null : session.getBroadcaster();
+    }
+
+    public static CometSession getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * @return the active sessions by session id, to report their queue depth
+     *         and dropped messages
+     */
+    public static Map<String, CometSession> getSessions() {
+        return Collections.unmodifiableMap(sessions);
     }
 
     public static void remove(String sessionId) {
-        broadcasters.remove(sessionId);
+        sessions.remove(sessionId);
     }
 
-    public static void clear() {
-        broadcasters.clear();
+    public static synchronized void clear() {
+        sessions.clear();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.binding.comet.runtime;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the batching properties of the comet bindings.
+ */
+public class CometBindingProviderFactoryTestCase extends TestCase {
+
+    public void testWindow() {
+        assertEquals(5, CometBindingProviderFactory.getWindow(null, 5));
+        assertEquals(0, CometBindingProviderFactory.getWindow("0", 5));
+        assertEquals(50, CometBindingProviderFactory.getWindow(" 50 ", 5));
+        assertEquals(5, CometBindingProviderFactory.getWindow("-1", 5));
+        assertEquals(5, CometBindingProviderFactory.getWindow("soon", 5));
+    }
+
+    public void testMaxQueuedMessages() {
+        assertEquals(100, CometBindingProviderFactory.getMaxQueuedMessages(null, 100));
+        assertEquals(10, CometBindingProviderFactory.getMaxQueuedMessages("10", 100));
+        // An empty queue could not take any message
+        assertEquals(100, CometBindingProviderFactory.getMaxQueuedMessages("0", 100));
+        assertEquals(100, CometBindingProviderFactory.getMaxQueuedMessages("many", 100));
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.binding.comet.runtime.manager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import junit.framework.TestCase;
+
+import org.atmosphere.cpr.Broadcaster;
+
+/**
+ * Test case for the batching of the messages sent to a comet session.
+ */
+public class CometSessionTestCase extends TestCase {
+
+    private List<Object> broadcasts;
+    private List<Runnable> scheduled;
+    private Broadcaster broadcaster;
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    protected void setUp() throws Exception {
+        broadcasts = new ArrayList<Object>();
+        scheduled = new ArrayList<Runnable>();
+        broadcaster = (Broadcaster) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Broadcaster.class }, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("broadcast")) {
+                            broadcasts.add(args[0]);
+                        }
+                        return null;
+                    }
+                });
+        // Keep the scheduled flushes so that the test decides when the window ends
+        scheduler = (ScheduledExecutorService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ScheduledExecutorService.class }, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("schedule")) {
+                            scheduled.add((Runnable) args[0]);
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    public void testSendWithoutBatching() {
+        CometSession session = new CometSession("s1", broadcaster, scheduler);
+        session.send("a()", CometBatching.NONE);
+        session.send("b()", new CometBatching(0, 10));
+        assertEquals(2, broadcasts.size());
+        assertEquals("a()", broadcasts.get(0));
+        assertEquals("b()", broadcasts.get(1));
+        assertTrue(scheduled.isEmpty());
+        assertEquals(0, session.getQueueDepth());
+    }
+
+    public void testBatching() {
+        CometSession session = new CometSession("s1", broadcaster, scheduler);
+        CometBatching batching = new CometBatching(100, 10);
+        session.send("a()", batching);
+        session.send("b()", batching);
+        assertTrue(broadcasts.isEmpty());
+        assertEquals(1, scheduled.size());
+        assertEquals(2, session.getQueueDepth());
+
+        scheduled.remove(0).run();
+        assertEquals(1, broadcasts.size());
+        assertEquals("a();\nb();\n", broadcasts.get(0));
+        assertEquals(0, session.getQueueDepth());
+
+        // A new window starts with the next message
+        session.send("c()", batching);
+        assertEquals(1, scheduled.size());
+        scheduled.remove(0).run();
+        assertEquals("c()", broadcasts.get(1));
+    }
+
+    public void testBatchingPerBinding() {
+        CometSession session = new CometSession("s1", broadcaster, scheduler);
+        session.send("a()", new CometBatching(100, 10));
+        assertTrue(broadcasts.isEmpty());
+
+        // A binding without a window sends the queued messages with its own
+        session.send("b()", CometBatching.NONE);
+        assertEquals(1, broadcasts.size());
+        assertEquals("a();\nb();\n", broadcasts.get(0));
+        assertEquals(0, session.getQueueDepth());
+        assertEquals(0, session.getDroppedMessages());
+
+        // The pending flush finds nothing left to send
+        scheduled.remove(0).run();
+        assertEquals(1, broadcasts.size());
+    }
+
+    public void testOverflow() {
+        CometSession session = new CometSession("s1", broadcaster, scheduler);
+        CometBatching batching = new CometBatching(100, 2);
+        session.send("a()", batching);
+        session.send("b()", batching);
+        session.send("c()", batching);
+        assertEquals(2, session.getQueueDepth());
+        assertEquals(1, session.getDroppedMessages());
+
+        scheduled.remove(0).run();
+        assertEquals(1, broadcasts.size());
+        assertEquals("b();\nc();\n", broadcasts.get(0));
+    }
+
+    public void testSendWithoutScheduler() {
+        CometSession session = new CometSession("s1", broadcaster, null);
+        session.send("a()", new CometBatching(100, 10));
+        assertEquals(1, broadcasts.size());
+        assertEquals("a()", broadcasts.get(0));
+    }
+
+}
@@ -31,4 +31,20 @@ public interface CometBinding extends Binding {
 
     QName TYPE = new QName(Base.SCA11_TUSCANY_NS, "binding.comet");
 
+    /**
+     * @return the window, in milliseconds, within which the messages sent to a
+     *         session are batched, or null to use the runtime default
+     */
+    String getBroadcastWindow();
+
+    void setBroadcastWindow(String broadcastWindow);
+
+    /**
+     * @return the maximum number of messages queued per session when
+     *         batching, or null to use the runtime default
+     */
+    String getMaxQueuedMessages();
+
+    void setMaxQueuedMessages(String maxQueuedMessages);
+
 }
@@ -31,6 +31,8 @@ public class CometBindingImpl implements CometBinding {
 
     private String name;
     private String uri;
+    private String broadcastWindow;
+    private String maxQueuedMessages;
 
     @Override
     public String getName() {
@@ -52,6 +54,26 @@ public class CometBindingImpl implements CometBinding {
         this.name = name;
     }
 
+    @Override
+    public String getBroadcastWindow() {
+        return this.broadcastWindow;
+    }
+
+    @Override
+    public void setBroadcastWindow(final String broadcastWindow) {
+        this.broadcastWindow = broadcastWindow;
+    }
+
+    @Override
+    public String getMaxQueuedMessages() {
+        return this.maxQueuedMessages;
+    }
+
+    @Override
+    public void setMaxQueuedMessages(final String maxQueuedMessages) {
+        this.maxQueuedMessages = maxQueuedMessages;
+    }
+
     @Override
     public Object clone() throws CloneNotSupportedException {
         return super.clone();
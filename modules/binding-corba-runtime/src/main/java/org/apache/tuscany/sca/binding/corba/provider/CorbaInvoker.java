@@ -21,11 +21,17 @@ package org.apache.tuscany.sca.binding.corba.provider;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.tuscany.sca.binding.corba.provider.exceptions.RequestConfigurationException;
 import org.apache.tuscany.sca.binding.corba.provider.reference.DynaCorbaRequest;
 import org.apache.tuscany.sca.binding.corba.provider.reference.DynaCorbaResponse;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTree;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTreeCreator;
+import org.apache.tuscany.sca.binding.corba.provider.types.util.Utils;
 import org.apache.tuscany.sca.binding.corba.provider.util.OperationMapper;
 import org.apache.tuscany.sca.interfacedef.DataType;
 import org.apache.tuscany.sca.interfacedef.Operation;
@@ -41,13 +47,12 @@ import org.oasisopen.sca.ServiceRuntimeException;
 public class CorbaInvoker implements Invoker {
 
     private Object remoteObject;
-    private Class<?> referenceClass;
     private Map<Method, String> operationsMap;
     private Map<Operation, Method> operationMethodMapping;
+    private Map<Operation, RequestPlan> requestPlans = new ConcurrentHashMap<Operation, RequestPlan>();
 
     public CorbaInvoker(RuntimeComponentReference reference, Object remoteObject, Class<?> referenceClass, Map<Method, String> operationsMap) {
         this.remoteObject = remoteObject;
-        this.referenceClass = referenceClass;
         this.operationsMap = operationsMap;
         this.operationMethodMapping = OperationMapper.mapOperationToMethod(reference.getInterfaceContract().getInterface().getOperations(), referenceClass);
     }
@@ -57,26 +62,18 @@ public class CorbaInvoker implements Invoker {
      */
     public Message invoke(Message msg) {
         try {
-            DynaCorbaRequest request = new DynaCorbaRequest(remoteObject, msg.getOperation().getName());
-            request.setReferenceClass(referenceClass);
-            request.setOperationsMap(operationsMap);
-            if (msg.getOperation().getOutputType() != null) {
-                Annotation[] notes = operationMethodMapping.get(msg.getOperation()).getAnnotations();
-                DataType returnType = msg.getOperation().getOutputType().getLogical().get(0);
-                request.setOutputType(returnType.getPhysical(), notes);
+            RequestPlan plan = getRequestPlan(msg.getOperation());
+            DynaCorbaRequest request = new DynaCorbaRequest(remoteObject, plan.operationName);
+            if (plan.returnTree != null) {
+                request.setOutputType(plan.returnTree);
             }
             java.lang.Object[] args = msg.getBody();
             if (args != null) {
-                Annotation[][] notes = operationMethodMapping.get(msg.getOperation()).getParameterAnnotations();
                 for (int i = 0; i < args.length; i++) {
-                    request.addArgument(args[i], notes[i]);
-                }
-            }
-            if (msg.getOperation().getFaultTypes() != null) {
-                for (DataType<?> type : msg.getOperation().getFaultTypes()) {
-                    request.addExceptionType(type.getPhysical());
+                    request.addArgument(args[i], plan.parameterAnnotations[i]);
                 }
             }
+            request.setExceptionTypes(plan.exceptions);
             DynaCorbaResponse response = request.invoke();
             msg.setBody(response.getContent());
         } catch (RequestConfigurationException e) {
@@ -87,4 +84,48 @@ public class CorbaInvoker implements Invoker {
         return msg;
     }
 
+    /**
+     * Returns the request plan of an operation, creating it on first use.
+     */
+    private RequestPlan getRequestPlan(Operation operation) throws RequestConfigurationException {
+        RequestPlan plan = requestPlans.get(operation);
+        if (plan == null) {
+            plan = new RequestPlan(operation, operationMethodMapping.get(operation), operationsMap);
+            requestPlans.put(operation, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * What doesn't change between requests for an operation: the CORBA
+     * operation name, the type trees of the return and exception types and the
+     * annotations of the parameters. Arguments type trees depend on the
+     * argument classes, they come from the TypeTreeCreator cache.
+     */
+    private static class RequestPlan {
+        private final String operationName;
+        private final TypeTree returnTree;
+        private final Annotation[][] parameterAnnotations;
+        private final Map<String, TypeTree> exceptions;
+
+        RequestPlan(Operation operation, Method method, Map<Method, String> operationsMap) throws RequestConfigurationException {
+            String name = operationsMap.get(method);
+            operationName = name != null ? name : operation.getName();
+            if (operation.getOutputType() != null) {
+                DataType returnType = operation.getOutputType().getLogical().get(0);
+                returnTree = TypeTreeCreator.createTypeTree(returnType.getPhysical(), method.getAnnotations());
+            } else {
+                returnTree = null;
+            }
+            parameterAnnotations = method.getParameterAnnotations();
+            Map<String, TypeTree> exceptionTrees = new HashMap<String, TypeTree>();
+            if (operation.getFaultTypes() != null) {
+                for (DataType<?> type : operation.getFaultTypes()) {
+                    exceptionTrees.put(Utils.getTypeId(type.getPhysical()), TypeTreeCreator.createTypeTree(type.getPhysical(), null));
+                }
+            }
+            exceptions = Collections.unmodifiableMap(exceptionTrees);
+        }
+    }
+
 }
@@ -25,6 +25,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.tuscany.sca.binding.corba.CorbaBinding;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTreeCreator;
 import org.apache.tuscany.sca.binding.corba.provider.util.OperationMapper;
 import org.apache.tuscany.sca.host.corba.CorbaHost;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
@@ -89,6 +90,7 @@ public class CorbaReferenceBindingProvider implements ReferenceBindingProvider {
      * @see org.apache.tuscany.sca.provider.ReferenceBindingProvider#stop()
      */
     public void stop() {
+        TypeTreeCreator.removeTypeTreesForContribution(referenceClass.getClassLoader());
     }
 
     /**
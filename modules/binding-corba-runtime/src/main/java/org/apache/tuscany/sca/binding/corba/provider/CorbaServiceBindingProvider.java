@@ -23,6 +23,7 @@ import org.apache.tuscany.sca.binding.corba.CorbaBinding;
 import org.apache.tuscany.sca.binding.corba.provider.service.ComponentInvocationProxy;
 import org.apache.tuscany.sca.binding.corba.provider.service.DynaCorbaServant;
 import org.apache.tuscany.sca.binding.corba.provider.service.InvocationProxy;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTreeCreator;
 import org.apache.tuscany.sca.binding.corba.provider.types.util.Utils;
 import org.apache.tuscany.sca.host.corba.CorbaHost;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
@@ -82,6 +83,8 @@ public class CorbaServiceBindingProvider implements ServiceBindingProvider {
         } catch (Exception e) {
             throw new ServiceRuntimeException(e);
         }
+        Class<?> javaClass = ((JavaInterface)endpoint.getComponentTypeServiceInterfaceContract().getInterface()).getJavaClass();
+        TypeTreeCreator.removeTypeTreesForContribution(javaClass.getClassLoader());
 
     }
 
@@ -136,6 +136,24 @@ public class DynaCorbaRequest {
         returnTree = TypeTreeCreator.createTypeTree(forClass, notes);
     }
 
+    /**
+     * Sets type tree of the operation return type
+     * 
+     * @param returnTree
+     */
+    public void setOutputType(TypeTree returnTree) {
+        this.returnTree = returnTree;
+    }
+
+    /**
+     * Configures possible exceptions
+     * 
+     * @param exceptions type trees of the exceptions by exception id
+     */
+    public void setExceptionTypes(Map<String, TypeTree> exceptions) {
+        this.exceptions = exceptions;
+    }
+
     /**
      * Configures possible exceptions
      * 
@@ -20,15 +20,21 @@
 package org.apache.tuscany.sca.binding.corba.provider.types;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.apache.tuscany.sca.binding.corba.provider.exceptions.RequestConfigurationException;
 import org.apache.tuscany.sca.binding.corba.provider.meta.CorbaArray;
@@ -46,6 +52,16 @@ public class TypeTreeCreator {
      */
     private static List<Class<?>> primitives = new ArrayList<Class<?>>();
 
+    /**
+     * Type trees already created, by class and by annotation attributes. Type
+     * trees aren't modified once created so they can be shared. A type tree
+     * refers to its class, so the trees are softly referenced, or the weak keys
+     * would never be cleared. The trees of a contribution are removed when its
+     * bindings are stopped.
+     */
+    private static Map<Class<?>, SoftReference<Map<String, TypeTree>>> typeTrees =
+        Collections.synchronizedMap(new WeakHashMap<Class<?>, SoftReference<Map<String, TypeTree>>>());
+
     static {
         primitives.add(boolean.class);
         primitives.add(byte.class);
@@ -174,15 +190,50 @@ public class TypeTreeCreator {
      * @return type tree
      */
     public static TypeTree createTypeTree(Class<?> forClass, Annotation[] notes) throws RequestConfigurationException {
-        TypeTree tree = new TypeTree();
-        TypeTreeNode rootNode = null;
         AnnotationAttributes attrs = createAnnotationAttributes(notes);
+        String key = attrs.isCorbaArray() ? Arrays.toString(attrs.getCorbaArrayLength()) : "";
+        Map<String, TypeTree> trees = getTypeTrees(forClass);
+        TypeTree tree = trees == null ? null : trees.get(key);
+        if (tree != null) {
+            return tree;
+        }
+        tree = new TypeTree();
+        TypeTreeNode rootNode = null;
         rootNode = inspectClassHierarchy(forClass, attrs, tree);
         tree.setRootNode(rootNode);
+        synchronized (typeTrees) {
+            trees = getTypeTrees(forClass);
+            if (trees == null) {
+                trees = Collections.synchronizedMap(new HashMap<String, TypeTree>());
+                typeTrees.put(forClass, new SoftReference<Map<String, TypeTree>>(trees));
+            }
+            trees.put(key, tree);
+        }
         return tree;
 
     }
 
+    private static Map<String, TypeTree> getTypeTrees(Class<?> forClass) {
+        SoftReference<Map<String, TypeTree>> ref = typeTrees.get(forClass);
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * Removes the type trees created for the classes loaded by a contribution
+     * class loader.
+     * 
+     * @param contributionClassLoader
+     */
+    public static void removeTypeTreesForContribution(ClassLoader contributionClassLoader) {
+        synchronized (typeTrees) {
+            for (Iterator<Class<?>> i = typeTrees.keySet().iterator(); i.hasNext();) {
+                if (i.next().getClassLoader() == contributionClassLoader) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
     /**
      * Recurrent method which builds type tree.
      * 
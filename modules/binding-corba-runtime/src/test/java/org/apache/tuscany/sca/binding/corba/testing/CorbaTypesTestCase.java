@@ -21,6 +21,7 @@ package org.apache.tuscany.sca.binding.corba.testing;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -33,6 +34,8 @@ import org.apache.tuscany.sca.binding.corba.provider.exceptions.CorbaException;
 import org.apache.tuscany.sca.binding.corba.provider.exceptions.RequestConfigurationException;
 import org.apache.tuscany.sca.binding.corba.provider.reference.DynaCorbaRequest;
 import org.apache.tuscany.sca.binding.corba.provider.reference.DynaCorbaResponse;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTree;
+import org.apache.tuscany.sca.binding.corba.provider.types.TypeTreeCreator;
 import org.apache.tuscany.sca.binding.corba.testing.enums.Color;
 import org.apache.tuscany.sca.binding.corba.testing.exceptions.CalcPackage.DivByZero;
 import org.apache.tuscany.sca.binding.corba.testing.exceptions.CalcPackage.NotSupported;
@@ -838,4 +841,15 @@ public class CorbaTypesTestCase {
             assertEquals(RequestConfigurationException.class, e.getClass());
         }
     }
+
+    /**
+     * Tests that type trees are created once per type
+     */
+    @Test
+    public void test_typeTreeCache() throws Exception {
+        TypeTree tree = TypeTreeCreator.createTypeTree(SimpleStruct.class, null);
+        assertSame(tree, TypeTreeCreator.createTypeTree(SimpleStruct.class, new Annotation[0]));
+        TypeTreeCreator.removeTypeTreesForContribution(SimpleStruct.class.getClassLoader());
+        assertNotSame(tree, TypeTreeCreator.createTypeTree(SimpleStruct.class, null));
+    }
 }
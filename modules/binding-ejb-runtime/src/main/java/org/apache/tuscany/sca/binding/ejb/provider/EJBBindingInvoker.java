@@ -36,11 +36,34 @@ public class EJBBindingInvoker implements Invoker {
     private Operation operation;
     private String location;
     private Class serviceInterface;
+    private EJBHandlerCache ejbHandlerCache;
+    private String methodName;
 
     public EJBBindingInvoker(EJBBinding ejbBinding, Class serviceInterface, Operation operation) {
+        this(ejbBinding, serviceInterface, operation, null);
+    }
+
+    EJBBindingInvoker(EJBBinding ejbBinding, Class serviceInterface, Operation operation, EJBHandlerCache ejbHandlerCache) {
         this.serviceInterface = serviceInterface;
         this.location = ejbBinding.getURI();
         this.operation = operation;
+        this.ejbHandlerCache = ejbHandlerCache;
+
+        //
+        // If we really couldn't have anything but a JavaOperation maybe we should
+        // remove the if-block.  Assuming we had some other type of operation, if
+        // that is possible, we might still need to map to a Java operation name,
+        // (for example because the WSDL operation name might be set using a JSR-181
+        // annotation to something other than the Java operation name.
+        //
+        // But for now we'll keep the else-block in here.
+        //
+        if (operation instanceof JavaOperation) {
+            JavaOperation javaOp = (JavaOperation) operation;
+            methodName = javaOp.getJavaMethod().getName();
+        } else {
+            methodName = operation.getName();
+        }
     }
 
     public Message invoke(Message msg) {
@@ -66,33 +89,25 @@ public class EJBBindingInvoker implements Invoker {
      */
     public Object doInvoke(final Object payload) {
 
-        // construct NamingendPoint
-        NamingEndpoint endpoint = getNamingEndpoint();
+        if (ejbHandlerCache == null) {
+            // construct NamingendPoint
+            NamingEndpoint endpoint = getNamingEndpoint();
 
-        // lookup home and ejb stub
-        EJBHandler ejbHandler = new EJBHandler(endpoint, serviceInterface);
+            // lookup home and ejb stub
+            EJBHandler ejbHandler = new EJBHandler(endpoint, serviceInterface);
 
-        //
-        // If we really couldn't have anything but a JavaOperation maybe we should
-        // remove the if-block.  Assuming we had some other type of operation, if
-        // that is possible, we might still need to map to a Java operation name,
-        // (for example because the WSDL operation name might be set using a JSR-181
-        // annotation to something other than the Java operation name.
-        //
-        // But for now we'll keep the else-block in here.
-        //
-        String methodName = null;
-        if (operation instanceof JavaOperation) {
-            JavaOperation javaOp = (JavaOperation) operation;
-            methodName = javaOp.getJavaMethod().getName();
-        } else {
-            methodName = operation.getName();
+            // invoke business method on ejb
+            return ejbHandler.invoke(methodName, (Object[])payload);
         }
 
-        // invoke business method on ejb
-        Object response = ejbHandler.invoke(methodName, (Object[])payload);
-
-        return response;
+        // reuse the home and ejb stub looked up for the reference
+        EJBHandler ejbHandler = ejbHandlerCache.getEJBHandler();
+        try {
+            return ejbHandler.invoke(methodName, (Object[])payload);
+        } catch (RuntimeException e) {
+            ejbHandlerCache.invalidate(ejbHandler, e);
+            throw e;
+        }
     }
 
     protected NamingEndpoint getNamingEndpoint() {
@@ -18,6 +18,9 @@
  */
 package org.apache.tuscany.sca.binding.ejb.provider;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.apache.tuscany.sca.binding.ejb.EJBBinding;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
 import org.apache.tuscany.sca.interfacedef.Operation;
@@ -33,8 +36,10 @@ import org.apache.tuscany.sca.runtime.RuntimeComponentReference;
  * @version $Rev$ $Date$
  */
 public class EJBBindingReferenceBindingProvider implements ReferenceBindingProvider {
+    private static final Logger logger = Logger.getLogger(EJBBindingReferenceBindingProvider.class.getName());
     private EJBBinding ejbBinding;
     private RuntimeComponentReference reference;
+    private EJBHandlerCache ejbHandlerCache;
 
     /**
      * Constructor
@@ -48,14 +53,18 @@ public class EJBBindingReferenceBindingProvider implements ReferenceBindingProvi
                                               EJBBinding binding) {
         this.reference = reference;
         this.ejbBinding = binding;
+        this.ejbHandlerCache = new EJBHandlerCache(binding.getURI(), getServiceInterface());
+    }
+
+    private Class getServiceInterface() {
+        return ((JavaInterface)reference.getInterfaceContract().getInterface()).getJavaClass();
     }
 
     /**
      * {@inheritDoc}
      */
     public Invoker createInvoker(Operation operation) {
-        return new EJBBindingInvoker(ejbBinding, ((JavaInterface)reference.getInterfaceContract().getInterface())
-            .getJavaClass(), operation);
+        return new EJBBindingInvoker(ejbBinding, getServiceInterface(), operation, ejbHandlerCache);
     }
 
     /**
@@ -69,12 +78,24 @@ public class EJBBindingReferenceBindingProvider implements ReferenceBindingProvi
      * {@inheritDoc}
      */
     public void start() {
+        // Look up the EJB ahead of the first invocation, it will be looked up
+        // again on the first invocation if it isn't available yet
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(getServiceInterface().getClassLoader());
+            ejbHandlerCache.getEJBHandler();
+        } catch (RuntimeException e) {
+            logger.log(Level.FINE, "Unable to look up EJB " + ejbBinding.getURI() + " at reference start", e);
+        } finally {
+            Thread.currentThread().setContextClassLoader(tccl);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     public void stop() {
+        ejbHandlerCache.clear();
     }
 
     /**
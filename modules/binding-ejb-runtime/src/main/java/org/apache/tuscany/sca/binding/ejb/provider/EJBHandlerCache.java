@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.binding.ejb.provider;
+
+import java.rmi.RemoteException;
+
+import javax.naming.NamingException;
+
+import org.apache.tuscany.sca.binding.ejb.util.EJBHandler;
+import org.apache.tuscany.sca.binding.ejb.util.NamingEndpoint;
+
+/**
+ * Holds the EJB handler, with the EJB stub looked up from JNDI, shared by the
+ * invokers of a reference, so the lookup is done once instead of for each
+ * invocation. The handler is dropped when an invocation fails with a naming or
+ * remote exception, and looked up again on the next invocation.
+ *
+ * @version $Rev$ $Date$
+ */
+class EJBHandlerCache {
+    private final String location;
+    private final Class serviceInterface;
+    private volatile EJBHandler ejbHandler;
+
+    EJBHandlerCache(String location, Class serviceInterface) {
+        this.location = location;
+        this.serviceInterface = serviceInterface;
+    }
+
+    /**
+     * Returns the EJB handler, looking up the EJB stub if needed. Must be
+     * called with the service interface class loader as the thread context
+     * class loader.
+     */
+    EJBHandler getEJBHandler() {
+        EJBHandler handler = ejbHandler;
+        if (handler == null) {
+            synchronized (this) {
+                handler = ejbHandler;
+                if (handler == null) {
+                    handler = new EJBHandler(new NamingEndpoint(location), serviceInterface);
+                    ejbHandler = handler;
+                }
+            }
+        }
+        return handler;
+    }
+
+    /**
+     * Drops the EJB handler if the exception thrown by one of its invocations
+     * shows that the EJB stub or the naming context is no longer valid.
+     */
+    void invalidate(EJBHandler handler, Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof NamingException || t instanceof RemoteException) {
+                synchronized (this) {
+                    if (ejbHandler == handler) {
+                        ejbHandler = null;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops the EJB handler.
+     */
+    synchronized void clear() {
+        ejbHandler = null;
+    }
+
+}
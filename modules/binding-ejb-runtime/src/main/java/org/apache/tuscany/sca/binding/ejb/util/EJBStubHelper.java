@@ -28,9 +28,6 @@ import org.oasisopen.sca.ServiceUnavailableException;
 
 final class EJBStubHelper {
 
-    private static Object stub;
-    private static ServiceRuntimeException exception;
-
     private EJBStubHelper() {
     }
 
@@ -46,23 +43,14 @@ final class EJBStubHelper {
 
     private static Object getStub(NamingEndpoint namingEndpoint, InterfaceInfo ejbInterface) {
         try {
-            stub = EJBObjectFactory.createStub(namingEndpoint, ejbInterface);
+            return EJBObjectFactory.createStub(namingEndpoint, ejbInterface);
         } catch (NamingException e) {
-            exception = new ServiceUnavailableException(e);
             e.printStackTrace();
-            throw (ServiceUnavailableException)exception;
+            throw new ServiceUnavailableException(e);
         } catch (CreateException e) {
-            exception = new ServiceUnavailableException(e);
-            throw (ServiceUnavailableException)exception;
+            throw new ServiceUnavailableException(e);
         } catch (RemoteException e) {
-            exception = new ServiceRuntimeException(e);
-            throw (ServiceRuntimeException)exception;
-        }
-
-        if (exception == null) {
-            return stub; // Normal result
-        } else {
-            throw exception; // Throw the exception
+            throw new ServiceRuntimeException(e);
         }
     }
 
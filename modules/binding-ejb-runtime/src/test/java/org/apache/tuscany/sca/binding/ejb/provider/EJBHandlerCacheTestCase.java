@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.binding.ejb.provider;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.Hashtable;
+
+import javax.naming.Context;
+import javax.naming.spi.InitialContextFactory;
+
+import junit.framework.TestCase;
+
+import org.apache.tuscany.sca.binding.ejb.util.EJBHandler;
+
+/**
+ * Tests that EJB stubs are looked up once per reference, using an in-JVM JNDI
+ * context
+ *
+ * @version $Rev$ $Date$
+ */
+public class EJBHandlerCacheTestCase extends TestCase {
+    private static int lookups;
+    private static boolean failing;
+
+    private String initialContextFactory;
+    private String managed;
+
+    public static interface Greeter {
+        String greet(String name) throws RemoteException;
+    }
+
+    public static class GreeterImpl implements Greeter {
+        public String greet(String name) throws RemoteException {
+            if (failing) {
+                throw new RemoteException("Connection lost");
+            }
+            return "Hello " + name;
+        }
+    }
+
+    public static class LocalInitialContextFactory implements InitialContextFactory {
+        public Context getInitialContext(Hashtable<?, ?> environment) {
+            return (Context)Proxy.newProxyInstance(Context.class.getClassLoader(),
+                                                   new Class[] {Context.class},
+                                                   new InvocationHandler() {
+                                                       public Object invoke(Object proxy, Method method, Object[] args) {
+                                                           if (method.getName().equals("lookup")) {
+                                                               lookups++;
+                                                               return new GreeterImpl();
+                                                           }
+                                                           if (method.getName().equals("hashCode")) {
+                                                               return System.identityHashCode(proxy);
+                                                           }
+                                                           if (method.getName().equals("equals")) {
+                                                               return proxy == args[0];
+                                                           }
+                                                           return null;
+                                                       }
+                                                   });
+        }
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        initialContextFactory = System.getProperty(Context.INITIAL_CONTEXT_FACTORY);
+        managed = System.getProperty("managed");
+        System.setProperty(Context.INITIAL_CONTEXT_FACTORY, LocalInitialContextFactory.class.getName());
+        System.setProperty("managed", "true");
+        lookups = 0;
+        failing = false;
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        restore(Context.INITIAL_CONTEXT_FACTORY, initialContextFactory);
+        restore("managed", managed);
+    }
+
+    private static void restore(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+
+    public void testLookupOnce() throws Exception {
+        EJBHandlerCache cache = new EJBHandlerCache("ejb/Greeter", Greeter.class);
+        EJBHandler handler = cache.getEJBHandler();
+        assertEquals("Hello World", handler.invoke("greet", new Object[] {"World"}));
+        assertSame(handler, cache.getEJBHandler());
+        assertEquals(1, lookups);
+    }
+
+    public void testInvalidate() throws Exception {
+        EJBHandlerCache cache = new EJBHandlerCache("ejb/Greeter", Greeter.class);
+        EJBHandler handler = cache.getEJBHandler();
+        failing = true;
+        try {
+            handler.invoke("greet", new Object[] {"World"});
+            fail();
+        } catch (RuntimeException e) {
+            cache.invalidate(handler, e);
+        }
+        failing = false;
+        assertNotSame(handler, cache.getEJBHandler());
+        assertEquals(2, lookups);
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tuscany.sca.binding.jms.host;
 
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.UtilityExtensionPoint;
+import org.apache.tuscany.sca.work.NamedWorkScheduler;
 import org.apache.tuscany.sca.work.WorkScheduler;
 
 public class DefaultJMSHostExtensionPoint implements JMSHostExtensionPoint {
@@ -30,6 +31,9 @@ public class DefaultJMSHostExtensionPoint implements JMSHostExtensionPoint {
     public DefaultJMSHostExtensionPoint(ExtensionPointRegistry extensionPoints) {
         UtilityExtensionPoint utilities = extensionPoints.getExtensionPoint(UtilityExtensionPoint.class);
         WorkScheduler workScheduler = utilities.getUtility(WorkScheduler.class);
+        if (workScheduler instanceof NamedWorkScheduler) {
+            workScheduler = ((NamedWorkScheduler)workScheduler).getWorkScheduler(NamedWorkScheduler.JMS);
+        }
         this.jmsServiceListenerFactory = new DefaultJMSServiceListenerFactory(workScheduler);
     }
 
@@ -44,6 +44,7 @@ import org.apache.tuscany.sca.provider.WireFormatProvider;
 import org.apache.tuscany.sca.provider.WireFormatProviderFactory;
 import org.apache.tuscany.sca.runtime.RuntimeComponentReference;
 import org.apache.tuscany.sca.runtime.RuntimeEndpointReference;
+import org.apache.tuscany.sca.work.NamedWorkScheduler;
 import org.apache.tuscany.sca.work.WorkScheduler;
 
 /**
@@ -154,6 +155,9 @@ public class JMSBindingReferenceBindingProvider implements EndpointReferenceAsyn
     		// Create the response queue handler
             UtilityExtensionPoint utilities = extensions.getExtensionPoint(UtilityExtensionPoint.class);
             WorkScheduler workScheduler = utilities.getUtility(WorkScheduler.class);
+            if (workScheduler instanceof NamedWorkScheduler) {
+                workScheduler = ((NamedWorkScheduler)workScheduler).getWorkScheduler(NamedWorkScheduler.JMS);
+            }
     		
 			responseQueue = new AsyncResponseJMSServiceListener(listener, 
 				    				jmsBinding.getResponseDestinationName(), 
@@ -18,88 +18,63 @@
  */
 package org.apache.tuscany.sca.binding.websocket.runtime;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.apache.tuscany.sca.interfacedef.DataType;
 import org.apache.tuscany.sca.interfacedef.Operation;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 /**
  * Utility class to handle JSON convertions.
+ * <p>
+ * The payload of a message is written to and read from the message envelope
+ * in a single pass instead of being encoded as a JSON string inside the
+ * envelope. Requests with a payload encoded as a string are still accepted.
  */
 public class JSONUtil {
 
+    private static final String OPERATION = "operation";
+    private static final String PAYLOAD = "payload";
+
     private static Gson gson = new Gson();
 
     public static String encodeMessage(WebsocketBindingMessage message) {
-        return gson.toJson(message);
+        JsonObject json = new JsonObject();
+        json.addProperty(OPERATION, message.getOperation());
+        json.add(PAYLOAD, gson.toJsonTree(message.getPayload()));
+        return gson.toJson(json);
     }
 
     public static WebsocketBindingMessage decodeMessage(String jsonMessage) {
-        return gson.fromJson(jsonMessage, WebsocketBindingMessage.class);
-    }
-
-    public static String encodePayload(Object payload) {
-        return gson.toJson(payload);
+        JsonObject json = new JsonParser().parse(jsonMessage).getAsJsonObject();
+        JsonElement payload = json.get(PAYLOAD);
+        if (payload != null && payload.isJsonPrimitive() && payload.getAsJsonPrimitive().isString()) {
+            payload = new JsonParser().parse(payload.getAsString());
+        }
+        return new WebsocketBindingMessage(json.get(OPERATION).getAsString(), payload);
     }
 
     /**
      * Convert opeartion parameters from JSON to the appropriate parameter
-     * types.
+     * types. Each argument is converted separately to it's corresponding
+     * data type to avoid type mismatch problems at service invocation.
      */
-    public static Object[] decodePayloadForOperation(String jsonData, Operation operation) {
+    public static Object[] decodePayloadForOperation(Object payload, Operation operation) {
         Object[] args = new Object[operation.getInputType().getLogical().size()];
-        final String[] json = parseArray(jsonData);
+        JsonArray json = payload instanceof JsonArray ? (JsonArray)payload : new JsonArray();
         int index = 0;
         for (final DataType<?> dataType : operation.getInputType().getLogical()) {
-            args[index] = gson.fromJson(json[index], dataType.getPhysical());
+            if (index < json.size()) {
+                args[index] = gson.fromJson(json.get(index), dataType.getPhysical());
+            }
             index++;
         }
         return args;
     }
 
-    /**
-     * Split the JSON array containing the arguments for the opeartion in order
-     * to avoid converting JSON to Object[]. Converting each object separately
-     * to it's corresponding data type avoids type mismatch problems at service
-     * invocation.
-     */
-    private static String[] parseArray(String jsonArray) {
-        List<String> objects = new ArrayList<String>();
-        int bracketNum = 0;
-        int parNum = 0;
-        int quoteNum = 0;
-        int startPos = 1;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            switch (jsonArray.charAt(i)) {
-            case '{':
-                bracketNum++;
-                break;
-            case '}':
-                bracketNum--;
-                break;
-            case '[':
-                parNum++;
-                break;
-            case ']':
-                parNum--;
-                break;
-            case '\"':
-                quoteNum++;
-                break;
-            case ',':
-                if ((bracketNum == 0) && (parNum == 1) && quoteNum % 2 == 0) {
-                    objects.add(jsonArray.substring(startPos, i));
-                    startPos = i + 1;
-                }
-            }
-        }
-        objects.add(jsonArray.substring(startPos, jsonArray.length() - 1));
-        return objects.toArray(new String[] {});
-    }
-
     private JSONUtil() {
     }
 
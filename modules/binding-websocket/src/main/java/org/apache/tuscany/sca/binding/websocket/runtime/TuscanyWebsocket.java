@@ -16,12 +16,18 @@
  * specific language governing permissions and limitations
  * under the License.    
  */
-
 package org.apache.tuscany.sca.binding.websocket.runtime;
 
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.apache.tuscany.sca.work.WorkScheduler;
 import org.eclipse.jetty.websocket.WebSocket;
 
 /**
@@ -29,15 +35,46 @@ import org.eclipse.jetty.websocket.WebSocket;
  * *all* websocket services hosted by a server. The connection is persisted as
  * long as the client is connected and communication with all services is
  * multiplexed via a single websocket connection.
+ * <p>
+ * Requests are not invoked on the websocket I/O thread, they are queued and
+ * processed in order by a work scheduler thread, so a slow service doesn't
+ * stall the other connections. If a client sends more requests than the queue
+ * can hold, the connection is closed. Responses are sent in the same kind of
+ * frame, text or binary, as their request. Asynchronous responses, which are
+ * sent through the callback invoker, use the kind of the last request received.
  */
-public class TuscanyWebsocket implements WebSocket, WebSocket.OnTextMessage {
+public class TuscanyWebsocket implements WebSocket, WebSocket.OnTextMessage, WebSocket.OnBinaryMessage {
+    private static final Logger logger = Logger.getLogger(TuscanyWebsocket.class.getName());
+
+    private static final String UTF8 = "UTF-8";
+    private static final int CLOSE_POLICY_VIOLATION = 1008;
 
     private String id;
     private Connection connection;
     private WebsocketBindingDispatcher dispatcher;
+    private WorkScheduler workScheduler;
+    private BlockingQueue<Request> requests;
+    private AtomicBoolean scheduled = new AtomicBoolean();
+    // the kind of frame of the last request received, used for asynchronous responses
+    private volatile boolean binary;
 
-    public TuscanyWebsocket(WebsocketBindingDispatcher dispatcher) {
+    /**
+     * A queued request and the kind of frame it was received in
+     */
+    private static class Request {
+        private final String json;
+        private final boolean binary;
+
+        private Request(String json, boolean binary) {
+            this.json = json;
+            this.binary = binary;
+        }
+    }
+
+    public TuscanyWebsocket(WebsocketBindingDispatcher dispatcher, WorkScheduler workScheduler, int maxPendingRequests) {
         this.dispatcher = dispatcher;
+        this.workScheduler = workScheduler;
+        this.requests = new ArrayBlockingQueue<Request>(maxPendingRequests);
     }
 
     @Override
@@ -49,16 +86,68 @@ public class TuscanyWebsocket implements WebSocket, WebSocket.OnTextMessage {
 
     @Override
     public void onMessage(String jsonRequest) {
-        WebsocketBindingMessage request = JSONUtil.decodeMessage(jsonRequest);
-        WebsocketServiceInvoker invoker = dispatcher.dispatch(request.getOperation());
+        enqueue(new Request(jsonRequest, false));
+    }
+
+    @Override
+    public void onMessage(byte[] data, int offset, int length) {
+        try {
+            enqueue(new Request(new String(data, offset, length, UTF8), true));
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void enqueue(Request request) {
+        binary = request.binary;
+        if (!requests.offer(request)) {
+            logger.warning("Closing websocket connection " + id + ", more than " + requests.size() + " requests pending");
+            requests.clear();
+            connection.close(CLOSE_POLICY_VIOLATION, "Too many pending requests");
+            return;
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            workScheduler.scheduleWork(new Runnable() {
+                public void run() {
+                    processRequests();
+                }
+            });
+        }
+    }
+
+    /**
+     * Process the queued requests in order, until the queue is empty.
+     */
+    private void processRequests() {
+        while (true) {
+            Request request = requests.poll();
+            if (request == null) {
+                scheduled.set(false);
+                // A request may have been queued after the poll but before the flag was reset
+                if (requests.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                process(request);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Unable to process websocket request on connection " + id, e);
+            }
+        }
+    }
+
+    private void process(Request request) {
+        WebsocketBindingMessage message = JSONUtil.decodeMessage(request.json);
+        WebsocketServiceInvoker invoker = dispatcher.dispatch(message.getOperation());
         if (invoker == null) {
-            throw new RuntimeException("No operation found for " + request.getOperation());
+            throw new RuntimeException("No operation found for " + message.getOperation());
         } else {
             if (!invoker.isNonBlocking()) {
-                WebsocketBindingMessage response = invoker.invokeSync(request);
-                send(response);
+                WebsocketBindingMessage response = invoker.invokeSync(message);
+                send(response, request.binary);
             } else {
-                invoker.invokeAsync(request, this);
+                invoker.invokeAsync(message, this);
             }
         }
     }
@@ -66,12 +155,23 @@ public class TuscanyWebsocket implements WebSocket, WebSocket.OnTextMessage {
     @Override
     public void onClose(int closeCode, String message) {
         WebsocketConnectionManager.removeConnection(this);
+        requests.clear();
     }
 
     public void send(WebsocketBindingMessage message) {
+        send(message, binary);
+    }
+
+    private void send(WebsocketBindingMessage message, boolean binary) {
         try {
             if (connection.isOpen()) {
-                connection.sendMessage(JSONUtil.encodeMessage(message));
+                String jsonMessage = JSONUtil.encodeMessage(message);
+                if (binary) {
+                    byte[] data = jsonMessage.getBytes(UTF8);
+                    connection.sendMessage(data, 0, data.length);
+                } else {
+                    connection.sendMessage(jsonMessage);
+                }
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
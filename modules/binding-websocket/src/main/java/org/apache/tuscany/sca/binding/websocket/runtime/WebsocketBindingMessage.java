@@ -19,14 +19,16 @@
 package org.apache.tuscany.sca.binding.websocket.runtime;
 
 /**
- * The websocket binding message structure.
+ * The websocket binding message structure. The payload is embedded in the JSON
+ * message as is, it's a JSON element in requests and the operation result in
+ * responses.
  */
 public class WebsocketBindingMessage {
 
     private String operation;
-    private String payload;
+    private Object payload;
 
-    public WebsocketBindingMessage(String operation, String payload) {
+    public WebsocketBindingMessage(String operation, Object payload) {
         this.operation = operation;
         this.payload = payload;
     }
@@ -39,11 +41,11 @@ public class WebsocketBindingMessage {
         this.operation = operation;
     }
 
-    public String getPayload() {
+    public Object getPayload() {
         return payload;
     }
 
-    public void setPayload(String payload) {
+    public void setPayload(Object payload) {
         this.payload = payload;
     }
 
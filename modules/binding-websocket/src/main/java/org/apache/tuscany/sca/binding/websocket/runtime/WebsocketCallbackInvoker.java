@@ -48,9 +48,8 @@ public class WebsocketCallbackInvoker implements Invoker {
             response.setBody(WebsocketStatus.CLOSED);
         } else {
             Object[] body = msg.getBody();
-            String payload = JSONUtil.encodePayload(body[0]);
             String operation = msg.getTo().getURI();
-            WebsocketBindingMessage message = new WebsocketBindingMessage(operation, payload);
+            WebsocketBindingMessage message = new WebsocketBindingMessage(operation, body[0]);
             websocket.send(message);
             response.setBody(WebsocketStatus.OPEN);
         }
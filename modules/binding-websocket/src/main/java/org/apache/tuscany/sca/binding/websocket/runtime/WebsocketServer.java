@@ -23,6 +23,7 @@ import java.net.URISyntaxException;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.tuscany.sca.work.WorkScheduler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.nio.SelectChannelConnector;
 import org.eclipse.jetty.websocket.WebSocket;
@@ -36,7 +37,7 @@ public class WebsocketServer extends Server {
 
     private WebsocketBindingDispatcher dispatcher;
 
-    public WebsocketServer(int port) throws URISyntaxException {
+    public WebsocketServer(int port, final WorkScheduler workScheduler, final int maxPendingRequests) throws URISyntaxException {
         SelectChannelConnector connector = new SelectChannelConnector();
         connector.setPort(port);
         addConnector(connector);
@@ -45,7 +46,7 @@ public class WebsocketServer extends Server {
 
             @Override
             public WebSocket doWebSocketConnect(HttpServletRequest request, String protocol) {
-                return new TuscanyWebsocket(dispatcher);
+                return new TuscanyWebsocket(dispatcher, workScheduler, maxPendingRequests);
             }
         });
 
@@ -21,22 +21,29 @@ package org.apache.tuscany.sca.binding.websocket.runtime;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Logger;
 
 import org.apache.tuscany.sca.binding.websocket.WebsocketBinding;
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.core.UtilityExtensionPoint;
 import org.apache.tuscany.sca.host.http.ServletHost;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.provider.ServiceBindingProvider;
 import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
+import org.apache.tuscany.sca.work.WorkScheduler;
 
 /**
  * The service binding provider initiates the necessary infrastructure to expose
  * services via websockets.
  */
 public class WebsocketServiceBindingProvider implements ServiceBindingProvider {
+    private static final Logger logger = Logger.getLogger(WebsocketServiceBindingProvider.class.getName());
 
     private static final int DEFAULT_PORT = 9000;
+    private static final String MAX_PENDING_REQUESTS = "org.apache.tuscany.sca.binding.websocket.maxPendingRequests";
+    private static final int DEFAULT_MAX_PENDING_REQUESTS = 64;
     private static final String JAVASCRIPT_RESOURCE_PATH = "/org.apache.tuscany.sca.WebsocketComponentContext.js";
     private static Map<Integer, WebsocketServer> servers = new HashMap<Integer, WebsocketServer>();
     private ExtensionPointRegistry extensionPoints;
@@ -74,13 +81,32 @@ public class WebsocketServiceBindingProvider implements ServiceBindingProvider {
     private WebsocketServer initServerForURI(int port) throws Exception {
         WebsocketServer server = servers.get(port);
         if (server == null) {
-            server = new WebsocketServer(port);
+            UtilityExtensionPoint utilities = extensionPoints.getExtensionPoint(UtilityExtensionPoint.class);
+            WorkScheduler workScheduler = utilities.getUtility(WorkScheduler.class);
+            String maxPendingRequests = utilities.getUtility(RuntimeProperties.class).getProperties().getProperty(MAX_PENDING_REQUESTS);
+            server = new WebsocketServer(port, workScheduler, getMaxPendingRequests(maxPendingRequests));
             server.start();
             servers.put(port, server);
         }
         return server;
     }
 
+    private static int getMaxPendingRequests(String value) {
+        if (value == null) {
+            return DEFAULT_MAX_PENDING_REQUESTS;
+        }
+        try {
+            int maxPendingRequests = Integer.parseInt(value.trim());
+            if (maxPendingRequests > 0) {
+                return maxPendingRequests;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default
+        }
+        logger.warning("Invalid " + MAX_PENDING_REQUESTS + " value: " + value + ", using " + DEFAULT_MAX_PENDING_REQUESTS);
+        return DEFAULT_MAX_PENDING_REQUESTS;
+    }
+
     private void initJavascriptResource() {
         if (servletHost.getServletMapping(JAVASCRIPT_RESOURCE_PATH) == null) {
             servletHost.addServletMapping(JAVASCRIPT_RESOURCE_PATH, new JavascriptResourceServlet());
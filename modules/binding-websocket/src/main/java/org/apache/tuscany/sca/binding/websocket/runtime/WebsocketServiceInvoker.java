@@ -51,12 +51,10 @@ public class WebsocketServiceInvoker {
     }
 
     public WebsocketBindingMessage invokeSync(WebsocketBindingMessage request) {
-        String jsonParams = request.getPayload();
-        Object[] args = JSONUtil.decodePayloadForOperation(jsonParams, operation);
+        Object[] args = JSONUtil.decodePayloadForOperation(request.getPayload(), operation);
         try {
             Object operationResponse = endpoint.invoke(operation, args);
-            String payload = JSONUtil.encodePayload(operationResponse);
-            WebsocketBindingMessage response = new WebsocketBindingMessage(request.getOperation(), payload);
+            WebsocketBindingMessage response = new WebsocketBindingMessage(request.getOperation(), operationResponse);
             return response;
         } catch (InvocationTargetException e) {
             throw new RuntimeException(e);
@@ -64,8 +62,7 @@ public class WebsocketServiceInvoker {
     }
 
     public void invokeAsync(WebsocketBindingMessage request, TuscanyWebsocket channel) {
-        String jsonParams = request.getPayload();
-        Object[] args = JSONUtil.decodePayloadForOperation(jsonParams, operation);
+        Object[] args = JSONUtil.decodePayloadForOperation(request.getPayload(), operation);
         Message msg = new MessageImpl();
         msg.getHeaders().put(Constants.MESSAGE_ID, channel.getId());
         msg.setBody(args);
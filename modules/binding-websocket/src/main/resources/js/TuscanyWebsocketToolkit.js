@@ -22,7 +22,7 @@ var channels = [];
 function buildRequest(operation, message) {
 	return JSON.stringify({
 		operation: operation,
-		payload: JSON.stringify(message) 
+		payload: message
 	});
 }
 			
@@ -35,7 +35,7 @@ function sendMessage(port, operation, message) {
         }
         ws.onmessage = function (message) {
 			var response = eval('(' + message.data + ')');
-			eval('Tuscany.WebsocketComponentContext.' + response.operation + '.responseHandler(' + response.payload + ')');
+			eval('Tuscany.WebsocketComponentContext.' + response.operation).responseHandler(response.payload);
         }
     }
     
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package testcase;
+
+import junit.framework.Assert;
+
+import org.apache.tuscany.sca.binding.websocket.runtime.JSONUtil;
+import org.apache.tuscany.sca.binding.websocket.runtime.WebsocketBindingMessage;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+
+public class JSONUtilTestCase {
+
+    @Test
+    public void testDecodeMessage() {
+        WebsocketBindingMessage message = JSONUtil.decodeMessage("{\"operation\":\"c.s.op\",\"payload\":[\"a,b\",{\"x\":[1,2]}]}");
+        Assert.assertEquals("c.s.op", message.getOperation());
+        JsonArray payload = (JsonArray)message.getPayload();
+        Assert.assertEquals(2, payload.size());
+        Assert.assertEquals("a,b", payload.get(0).getAsString());
+    }
+
+    @Test
+    public void testDecodeStringPayload() {
+        WebsocketBindingMessage message = JSONUtil.decodeMessage("{\"operation\":\"c.s.op\",\"payload\":\"[\\\"a\\\",1]\"}");
+        JsonArray payload = (JsonArray)message.getPayload();
+        Assert.assertEquals(2, payload.size());
+        Assert.assertEquals(1, payload.get(1).getAsInt());
+    }
+
+    @Test
+    public void testEncodeMessage() {
+        String json = JSONUtil.encodeMessage(new WebsocketBindingMessage("c.s.op", "Hello"));
+        Assert.assertEquals("{\"operation\":\"c.s.op\",\"payload\":\"Hello\"}", json);
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package testcase;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.apache.tuscany.sca.binding.websocket.runtime.TuscanyWebsocket;
+import org.apache.tuscany.sca.binding.websocket.runtime.WebsocketBindingDispatcher;
+import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.impl.OperationImpl;
+import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
+import org.apache.tuscany.sca.work.WorkScheduler;
+import org.eclipse.jetty.websocket.WebSocket.Connection;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WebsocketRequestQueueTestCase {
+
+    private static final String REQUEST = "{\"operation\":\"c.s.op\",\"payload\":[]}";
+
+    private List<Runnable> work;
+    private List<Object[]> closes;
+    private List<String> frames;
+    private WebsocketBindingDispatcher dispatcher;
+    private TuscanyWebsocket websocket;
+
+    @Before
+    public void setUp() {
+        work = new ArrayList<Runnable>();
+        closes = new ArrayList<Object[]>();
+        frames = new ArrayList<String>();
+        WorkScheduler workScheduler = (WorkScheduler)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {WorkScheduler.class}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                // keep the work instead of running it, so the requests stay queued
+                if (method.getName().equals("scheduleWork")) {
+                    work.add((Runnable)args[0]);
+                }
+                return null;
+            }
+        });
+        Connection connection = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("close")) {
+                    closes.add(args);
+                } else if (method.getName().equals("sendMessage")) {
+                    frames.add(args.length == 1 ? "text" : "binary");
+                } else if (method.getName().equals("isOpen")) {
+                    return closes.isEmpty();
+                }
+                return null;
+            }
+        });
+        dispatcher = new WebsocketBindingDispatcher();
+        websocket = new TuscanyWebsocket(dispatcher, workScheduler, 2);
+        websocket.onOpen(connection);
+    }
+
+    @Test
+    public void testQueuedRequests() {
+        websocket.onMessage(REQUEST);
+        websocket.onMessage(REQUEST);
+        // the requests are processed by a single piece of work, not on the calling thread
+        Assert.assertEquals(1, work.size());
+        Assert.assertTrue(closes.isEmpty());
+
+        // the queue is drained, unknown operations are only logged, and new requests schedule work again
+        work.remove(0).run();
+        websocket.onMessage(REQUEST);
+        websocket.onMessage(REQUEST);
+        Assert.assertEquals(1, work.size());
+        Assert.assertTrue(closes.isEmpty());
+        websocket.onClose(0, null);
+    }
+
+    @Test
+    public void testResponseFrames() throws Exception {
+        RuntimeEndpoint endpoint = (RuntimeEndpoint)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {RuntimeEndpoint.class}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("invoke") ? "response" : null;
+            }
+        });
+        Operation operation = new OperationImpl();
+        operation.setName("op");
+        dispatcher.addOperation("c.s.op", new DefaultExtensionPointRegistry(), endpoint, operation);
+
+        // each response is sent in the kind of frame of its own request
+        websocket.onMessage(REQUEST);
+        byte[] data = REQUEST.getBytes("UTF-8");
+        websocket.onMessage(data, 0, data.length);
+        work.remove(0).run();
+        Assert.assertEquals(2, frames.size());
+        Assert.assertEquals("text", frames.get(0));
+        Assert.assertEquals("binary", frames.get(1));
+        websocket.onClose(0, null);
+    }
+
+    @Test
+    public void testOverflow() {
+        websocket.onMessage(REQUEST);
+        websocket.onMessage(REQUEST);
+        websocket.onMessage(REQUEST);
+        Assert.assertEquals(1, closes.size());
+        Assert.assertEquals(1008, closes.get(0)[0]);
+
+        // the pending requests are dropped with the connection
+        work.remove(0).run();
+        Assert.assertTrue(work.isEmpty());
+        websocket.onClose(1008, null);
+    }
+}
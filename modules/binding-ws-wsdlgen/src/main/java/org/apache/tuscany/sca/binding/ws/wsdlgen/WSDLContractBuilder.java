@@ -19,6 +19,14 @@
 
 package org.apache.tuscany.sca.binding.ws.wsdlgen;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
 
@@ -28,15 +36,20 @@ import org.apache.tuscany.sca.assembly.Endpoint;
 import org.apache.tuscany.sca.assembly.EndpointReference;
 import org.apache.tuscany.sca.assembly.builder.BindingBuilder;
 import org.apache.tuscany.sca.assembly.builder.BuilderContext;
-import org.apache.tuscany.sca.assembly.builder.ContractBuilder;
+import org.apache.tuscany.sca.assembly.builder.CachingContractBuilder;
 import org.apache.tuscany.sca.binding.ws.WebServiceBinding;
 import org.apache.tuscany.sca.contribution.resolver.ModelResolver;
 import org.apache.tuscany.sca.contribution.resolver.ResolverExtension;
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.FactoryExtensionPoint;
 import org.apache.tuscany.sca.databinding.DataBindingExtensionPoint;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.Interface;
 import org.apache.tuscany.sca.interfacedef.InterfaceContract;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.java.JavaInterface;
 import org.apache.tuscany.sca.interfacedef.java.JavaInterfaceContract;
+import org.apache.tuscany.sca.interfacedef.util.XMLType;
 import org.apache.tuscany.sca.interfacedef.wsdl.WSDLFactory;
 import org.apache.tuscany.sca.interfacedef.wsdl.WSDLInterfaceContract;
 import org.apache.tuscany.sca.monitor.Monitor;
@@ -48,8 +61,13 @@ import org.apache.tuscany.sca.xsd.XSDFactory;
  * Created WSDL contracts for Endpoints or EndpointReferences for use during 
  * interface contract mapping. The assmebly spec defines WSDL as the lowest
  * common denominator for contract mapping. 
+ * 
+ * The generated contracts are cached, keyed by the Java interface classes 
+ * and the data binding settings of their operations, so that the endpoints and
+ * endpoint references sharing a contract only generate its WSDL once. Each 
+ * Java contract gets its own copy of the cached WSDL contract.
  */
-public class WSDLContractBuilder implements ContractBuilder {
+public class WSDLContractBuilder implements CachingContractBuilder {
 
     private ExtensionPointRegistry extensionPoints;
     private FactoryExtensionPoint modelFactories;
@@ -57,6 +75,11 @@ public class WSDLContractBuilder implements ContractBuilder {
     private WSDLFactory wsdlFactory;
     private XSDFactory xsdFactory;
     private DocumentBuilderFactory documentBuilderFactory;
+    
+    // The generated WSDL contracts, keyed by the Java interface class and then by the
+    // callback interface class and the settings that affect the WSDL generation
+    private Map<Class<?>, Map<List<Object>, WSDLInterfaceContract>> contracts =
+        Collections.synchronizedMap(new WeakHashMap<Class<?>, Map<List<Object>, WSDLInterfaceContract>>());
 
     public WSDLContractBuilder(ExtensionPointRegistry extensionPoints) {
         this.extensionPoints = extensionPoints;
@@ -79,18 +102,133 @@ public class WSDLContractBuilder implements ContractBuilder {
 // for interface matching purposes
 //        BindingWSDLGenerator.printWSDL = true;
         JavaInterfaceContract javaContract = (JavaInterfaceContract)interfaceContract;        
-        WSDLInterfaceContract wsdlContract = 
-            BindingWSDLGenerator.createWSDLInterfaceContract(javaContract, 
-                                                             false, 
-                                                             null,
-                                                             dataBindings, 
-                                                             wsdlFactory, 
-                                                             xsdFactory, 
-                                                             documentBuilderFactory, 
-                                                             monitor);
+        Class<?> javaClass = getJavaClass(javaContract);
+        List<Object> key = javaClass == null ? null : getKey(javaContract);
+        WSDLInterfaceContract wsdlContract = key == null ? null : getContract(javaClass, key);
+        if (wsdlContract == null) {
+            wsdlContract = 
+                BindingWSDLGenerator.createWSDLInterfaceContract(javaContract, 
+                                                                 false, 
+                                                                 null,
+                                                                 dataBindings, 
+                                                                 wsdlFactory, 
+                                                                 xsdFactory, 
+                                                                 documentBuilderFactory, 
+                                                                 monitor);
+            if (key != null) {
+                Map<List<Object>, WSDLInterfaceContract> classContracts = contracts.get(javaClass);
+                if (classContracts == null) {
+                    classContracts = Collections.synchronizedMap(new HashMap<List<Object>, WSDLInterfaceContract>());
+                    contracts.put(javaClass, classContracts);
+                }
+                // Keep a copy that is never handed out so that changes to the contract don't
+                // affect the other Java contracts
+                WSDLInterfaceContract copy = copy(wsdlContract);
+                if (copy != null) {
+                    classContracts.put(key, copy);
+                }
+            }
+        }
         javaContract.setNormalizedWSDLContract(wsdlContract);
 //        BindingWSDLGenerator.printWSDL = false;
         return true;
     }
 
+    public void removeContractsForContribution(ClassLoader contributionClassloader) {
+        synchronized (contracts) {
+            for (Iterator<Class<?>> i = contracts.keySet().iterator(); i.hasNext();) {
+                if (i.next().getClassLoader() == contributionClassloader) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    private WSDLInterfaceContract getContract(Class<?> javaClass, List<Object> key) {
+        Map<List<Object>, WSDLInterfaceContract> classContracts = contracts.get(javaClass);
+        WSDLInterfaceContract wsdlContract = classContracts == null ? null : classContracts.get(key);
+        return wsdlContract == null ? null : copy(wsdlContract);
+    }
+
+    private static WSDLInterfaceContract copy(WSDLInterfaceContract wsdlContract) {
+        try {
+            return (WSDLInterfaceContract)wsdlContract.clone();
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> getJavaClass(JavaInterfaceContract javaContract) {
+        Interface javaInterface = javaContract.getInterface();
+        if (javaInterface == null) {
+            javaInterface = javaContract.getCallbackInterface();
+        }
+        return javaInterface instanceof JavaInterface ? ((JavaInterface)javaInterface).getJavaClass() : null;
+    }
+
+    /**
+     * Returns the key of the WSDL contract generated for a Java contract, or null if the
+     * contract can't be cached.
+     */
+    private static List<Object> getKey(JavaInterfaceContract javaContract) {
+        Interface javaInterface = javaContract.getInterface();
+        Interface callbackInterface = javaContract.getCallbackInterface();
+        Class<?> callbackClass = null;
+        if (callbackInterface != null) {
+            if (!(callbackInterface instanceof JavaInterface)) {
+                return null;
+            }
+            callbackClass = ((JavaInterface)callbackInterface).getJavaClass();
+            if (callbackClass == null) {
+                return null;
+            }
+        }
+        return Arrays.<Object> asList(callbackClass, javaInterface != null, getSettings(javaInterface), getSettings(callbackInterface));
+    }
+
+    /**
+     * Returns the settings of an interface that affect the WSDL generated for it.
+     */
+    private static String getSettings(Interface javaInterface) {
+        if (javaInterface == null) {
+            return "";
+        }
+        StringBuilder settings = new StringBuilder();
+        settings.append(javaInterface.isRemotable());
+        for (Operation operation : javaInterface.getOperations()) {
+            settings.append('|').append(operation.getName());
+            settings.append(',').append(operation.getDataBinding());
+            settings.append(',').append(operation.isInputWrapperStyle());
+            settings.append(',').append(operation.isOutputWrapperStyle());
+            settings.append(',').append(operation.isNonBlocking());
+            appendSettings(settings, operation.getInputType());
+            appendSettings(settings, operation.getOutputType());
+            for (DataType<?> faultType : operation.getFaultTypes()) {
+                appendSettings(settings, faultType);
+            }
+        }
+        return settings.toString();
+    }
+
+    private static void appendSettings(StringBuilder settings, DataType<?> dataType) {
+        if (dataType == null) {
+            return;
+        }
+        settings.append(',').append(dataType.getDataBinding());
+        if (dataType.getLogical() instanceof List) {
+            for (Object logical : (List<?>)dataType.getLogical()) {
+                if (logical instanceof DataType) {
+                    appendSettings(settings, (DataType<?>)logical);
+                }
+            }
+        } else if (dataType.getLogical() instanceof XMLType) {
+            XMLType xmlType = (XMLType)dataType.getLogical();
+            settings.append(':').append(xmlType).append(',').append(xmlType.isMany());
+        } else if (dataType.getLogical() instanceof Class) {
+            settings.append(':').append(((Class<?>)dataType.getLogical()).getName());
+        } else if (dataType.getLogical() != null) {
+            settings.append(':').append(dataType.getLogical().getClass().getName());
+        }
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.binding.ws.wsdlgen;
+
+import junit.framework.TestCase;
+
+import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
+import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.core.databinding.processor.DataBindingJavaInterfaceProcessor;
+import org.apache.tuscany.sca.interfacedef.java.DefaultJavaInterfaceFactory;
+import org.apache.tuscany.sca.interfacedef.java.JavaInterface;
+import org.apache.tuscany.sca.interfacedef.java.JavaInterfaceContract;
+import org.apache.tuscany.sca.interfacedef.java.JavaInterfaceFactory;
+import org.apache.tuscany.sca.interfacedef.java.jaxws.JAXWSJavaInterfaceProcessor;
+import org.apache.tuscany.sca.interfacedef.wsdl.WSDLInterface;
+
+/**
+ *
+ * @version $Rev$ $Date$
+ */
+public class WSDLContractBuilderTestCase extends TestCase {
+    private ExtensionPointRegistry registry;
+    private JavaInterfaceFactory factory;
+
+    @Override
+    protected void setUp() throws Exception {
+        registry = new DefaultExtensionPointRegistry();
+        factory = new DefaultJavaInterfaceFactory(registry);
+    }
+
+    public void testContractsShareGeneratedWSDL() throws Exception {
+        WSDLContractBuilder builder = new WSDLContractBuilder(registry);
+
+        JavaInterfaceContract javaIC1 = createContract();
+        builder.build(javaIC1, null);
+        JavaInterfaceContract javaIC2 = createContract();
+        builder.build(javaIC2, null);
+
+        WSDLInterface wsdl1 = (WSDLInterface)javaIC1.getNormalizedWSDLContract().getInterface();
+        WSDLInterface wsdl2 = (WSDLInterface)javaIC2.getNormalizedWSDLContract().getInterface();
+        assertNotSame(javaIC1.getNormalizedWSDLContract(), javaIC2.getNormalizedWSDLContract());
+        assertNotSame(wsdl1, wsdl2);
+        assertNotSame(wsdl1.getOperations().get(0), wsdl2.getOperations().get(0));
+        assertEquals("sayHello", wsdl2.getOperations().get(0).getName());
+        assertSame(wsdl1.getWsdlDefinition(), wsdl2.getWsdlDefinition());
+
+        // The WSDL is generated again once the contribution is removed
+        builder.removeContractsForContribution(HelloWorld.class.getClassLoader());
+        JavaInterfaceContract javaIC3 = createContract();
+        builder.build(javaIC3, null);
+        WSDLInterface wsdl3 = (WSDLInterface)javaIC3.getNormalizedWSDLContract().getInterface();
+        assertNotSame(wsdl1.getWsdlDefinition(), wsdl3.getWsdlDefinition());
+        assertEquals("sayHello", wsdl3.getOperations().get(0).getName());
+    }
+
+    private JavaInterfaceContract createContract() throws Exception {
+        JavaInterfaceContract javaIC = factory.createJavaInterfaceContract();
+        JavaInterface iface = factory.createJavaInterface(HelloWorld.class);
+        new JAXWSJavaInterfaceProcessor(registry).visitInterface(iface);
+        new DataBindingJavaInterfaceProcessor(registry).visitInterface(iface);
+        javaIC.setInterface(iface);
+        return javaIC;
+    }
+}
@@ -26,10 +26,18 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -70,12 +78,20 @@ import org.apache.tuscany.sca.monitor.Monitor;
  * @version $Rev$ $Date$
  */
 public class ContributionContentProcessor implements ExtendedURLArtifactProcessor<Contribution> {
+    /**
+     * System property setting the number of threads used to read the artifacts of a
+     * contribution, either a number or "auto" for the number of available processors
+     */
+    public static final String READ_THREADS = "org.apache.tuscany.sca.contribution.readThreads";
+
     private ContributionFactory contributionFactory;
     private ModelResolverExtensionPoint modelResolvers;
     private FactoryExtensionPoint modelFactories;
     private URLArtifactProcessor<Object> artifactProcessor;
     private StAXArtifactProcessor<Object> extensionProcessor;
     private ContributionScannerExtensionPoint scanners;
+    private URLArtifactProcessorExtensionPoint artifactProcessors;
+    private int readThreads;
     // Marks pre-resolve phase completed
     private boolean preResolved = false;
 
@@ -85,10 +101,36 @@ public class ContributionContentProcessor implements ExtendedURLArtifactProcesso
         this.modelResolvers = extensionPoints.getExtensionPoint(ModelResolverExtensionPoint.class);
         URLArtifactProcessorExtensionPoint artifactProcessors =
             extensionPoints.getExtensionPoint(URLArtifactProcessorExtensionPoint.class);
+        this.artifactProcessors = artifactProcessors;
         this.artifactProcessor = new ExtensibleURLArtifactProcessor(artifactProcessors);
         this.extensionProcessor = extensionProcessor;
         this.contributionFactory = modelFactories.getFactory(ContributionFactory.class);
         this.scanners = extensionPoints.getExtensionPoint(ContributionScannerExtensionPoint.class);
+        this.readThreads = getReadThreads();
+    }
+
+    /**
+     * Returns the number of threads used to read the artifacts of a contribution,
+     * configured with the {@link #READ_THREADS} system property. Artifacts are read
+     * sequentially unless the property is set.
+     */
+    private static int getReadThreads() {
+        String value = AccessController.doPrivileged(new PrivilegedAction<String>() {
+            public String run() {
+                return System.getProperty(READ_THREADS);
+            }
+        });
+        if (value == null) {
+            return 1;
+        }
+        if ("auto".equals(value)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
     }
 
     public String getArtifactType() {
@@ -146,47 +188,35 @@ public class ContributionContentProcessor implements ExtendedURLArtifactProcesso
                 // Scan the contribution and list the artifacts contained in it
                 boolean contributionMetadata = false;
                 List<Artifact> artifacts = scanner.scan(contribution);
-                for (Artifact artifact : artifacts) {
-                    // Add the deployed artifact model to the contribution
-                    modelResolver.addModel(artifact, context);
+                if (readThreads > 1 && artifacts.size() > 1) {
+                    // Read the artifacts in parallel, then add the models in artifact order
+                    for (Artifact artifact : artifacts) {
+                        modelResolver.addModel(artifact, context);
+                    }
+                    List<Object> models = readArtifacts(contributionURL, artifacts, context);
+                    for (int i = 0, n = artifacts.size(); i < n; i++) {
+                        if (addModel(contribution, artifacts.get(i), models.get(i), context)) {
+                            contributionMetadata = true;
+                        }
+                    }
+                } else {
+                    for (Artifact artifact : artifacts) {
+                        // Add the deployed artifact model to the contribution
+                        modelResolver.addModel(artifact, context);
 
-                    monitor.pushContext("Artifact: " + artifact.getURI());
+                        monitor.pushContext("Artifact: " + artifact.getURI());
 
-                    Artifact oldArtifact = context.setArtifact(artifact);
-                    try {
-                        // Read each artifact
-                        URL artifactLocationURL = null;
+                        Artifact oldArtifact = context.setArtifact(artifact);
                         try {
-                            artifactLocationURL = new URL(artifact.getLocation());
-                        } catch (MalformedURLException e) {
-                            //ignore
-                        }
-                        
-                        Object model =
-                            artifactProcessor.read(contributionURL,
-                                                   URI.create(artifact.getURI()),
-                                                   artifactLocationURL,
-                                                   context);
-                        if (model != null) {
-                            artifact.setModel(model);
-
-                            // Add the loaded model to the model resolver
-                            modelResolver.addModel(model, context);
-
-                            // Merge contribution metadata into the contribution model
-                            if (model instanceof ContributionMetadata) {
+                            // Read each artifact
+                            Object model = readArtifact(contributionURL, artifact, context);
+                            if (addModel(contribution, artifact, model, context)) {
                                 contributionMetadata = true;
-                                ContributionMetadata c = (ContributionMetadata)model;
-                                contribution.getImports().addAll(c.getImports());
-                                contribution.getExports().addAll(c.getExports());
-                                contribution.getDeployables().addAll(c.getDeployables());
-                                contribution.getExtensions().addAll(c.getExtensions());
-                                contribution.getAttributeExtensions().addAll(c.getAttributeExtensions());
                             }
+                        } finally {
+                            monitor.popContext();
+                            context.setArtifact(oldArtifact);
                         }
-                    } finally {
-                        monitor.popContext();
-                        context.setArtifact(oldArtifact);
                     }
                 }
 
@@ -246,6 +276,135 @@ public class ContributionContentProcessor implements ExtendedURLArtifactProcesso
         return contribution;
     }
 
+    /**
+     * Read an artifact of a contribution.
+     */
+    private Object readArtifact(URL contributionURL, Artifact artifact, ProcessorContext context)
+        throws ContributionReadException {
+        URL artifactLocationURL = null;
+        try {
+            artifactLocationURL = new URL(artifact.getLocation());
+        } catch (MalformedURLException e) {
+            //ignore
+        }
+
+        return artifactProcessor.read(contributionURL, URI.create(artifact.getURI()), artifactLocationURL, context);
+    }
+
+    /**
+     * Add the model read from an artifact to the contribution.
+     *
+     * @return true if the model is the contribution metadata
+     */
+    private boolean addModel(Contribution contribution, Artifact artifact, Object model, ProcessorContext context) {
+        if (model == null) {
+            return false;
+        }
+        artifact.setModel(model);
+
+        // Add the loaded model to the model resolver
+        contribution.getModelResolver().addModel(model, context);
+
+        // Merge contribution metadata into the contribution model
+        if (model instanceof ContributionMetadata) {
+            ContributionMetadata c = (ContributionMetadata)model;
+            contribution.getImports().addAll(c.getImports());
+            contribution.getExports().addAll(c.getExports());
+            contribution.getDeployables().addAll(c.getDeployables());
+            contribution.getExtensions().addAll(c.getExtensions());
+            contribution.getAttributeExtensions().addAll(c.getAttributeExtensions());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Read the artifacts of a contribution using a pool of threads. Each artifact
+     * is read with its own processor context and monitor, and the problems reported
+     * by the artifact processors are passed on to the monitor of the given context
+     * in artifact order.
+     *
+     * @return the models read from the artifacts, in artifact order
+     */
+    private List<Object> readArtifacts(final URL contributionURL, List<Artifact> artifacts, ProcessorContext context)
+        throws ContributionReadException {
+        final Contribution contribution = context.getContribution();
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(readThreads, artifacts.size()), new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "Tuscany-ContributionReader");
+                thread.setDaemon(true);
+                thread.setContextClassLoader(tccl);
+                return thread;
+            }
+        });
+
+        List<DeferredMonitor> monitors = new ArrayList<DeferredMonitor>(artifacts.size());
+        List<Future<Object>> futures = new ArrayList<Future<Object>>(artifacts.size());
+        try {
+            for (final Artifact artifact : artifacts) {
+                if (!hasProcessor(artifact)) {
+                    // Nothing to read, skip the task
+                    monitors.add(null);
+                    futures.add(null);
+                    continue;
+                }
+                final DeferredMonitor monitor = new DeferredMonitor(context.getMonitor());
+                monitors.add(monitor);
+                futures.add(executor.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        ProcessorContext artifactContext = new ProcessorContext(contribution, monitor);
+                        artifactContext.setArtifact(artifact);
+                        monitor.pushContext("Artifact: " + artifact.getURI());
+                        try {
+                            return readArtifact(contributionURL, artifact, artifactContext);
+                        } finally {
+                            monitor.popContext();
+                        }
+                    }
+                }));
+            }
+
+            List<Object> models = new ArrayList<Object>(artifacts.size());
+            for (int i = 0, n = artifacts.size(); i < n; i++) {
+                Future<Object> future = futures.get(i);
+                if (future == null) {
+                    models.add(null);
+                    continue;
+                }
+                try {
+                    models.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ContributionReadException(e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof ContributionReadException) {
+                        throw (ContributionReadException)cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException)cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error)cause;
+                    }
+                    throw new ContributionReadException(cause);
+                } finally {
+                    monitors.get(i).flush();
+                }
+            }
+            return models;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean hasProcessor(Artifact artifact) {
+        String uri = artifact.getURI();
+        if (!uri.startsWith("/")) {
+            uri = "/" + uri;
+        }
+        return artifactProcessors.getProcessor(uri) != null;
+    }
+
     private List<URL> getNestedArchiveURLs(List<Artifact> nestedArchives, String location) throws ContributionReadException {
         List<URL> urls = new ArrayList<URL>();
         for (Artifact a : nestedArchives) {
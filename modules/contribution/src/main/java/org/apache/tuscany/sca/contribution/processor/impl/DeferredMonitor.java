@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.contribution.processor.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import org.apache.tuscany.sca.monitor.Monitor;
+import org.apache.tuscany.sca.monitor.Problem;
+import org.apache.tuscany.sca.monitor.Problem.Severity;
+
+/**
+ * A monitor used by a thread reading an artifact in parallel with others. Problems
+ * are only recorded here, with the context pushed on this monitor, and are created
+ * and reported on the parent monitor later, in artifact order, by the thread that
+ * owns it. They then carry the context of the parent monitor followed by the context
+ * of this monitor, as if the artifact had been read with the parent monitor.
+ *
+ * @version $Rev$ $Date$
+ */
+class DeferredMonitor extends Monitor {
+    private final Monitor parent;
+    private final List<Problem> problems = new ArrayList<Problem>();
+    private final Stack<Object> contextStack = new Stack<Object>();
+    private String artifactName;
+
+    DeferredMonitor(Monitor parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Report the recorded problems to the parent monitor.
+     */
+    void flush() {
+        for (Problem problem : problems) {
+            if (problem instanceof DeferredProblem) {
+                problem = ((DeferredProblem)problem).createProblem(parent);
+            }
+            parent.problem(problem);
+        }
+        problems.clear();
+    }
+
+    public void problem(Problem problem) {
+        problems.add(problem);
+    }
+
+    public List<Problem> getProblems() {
+        return problems;
+    }
+
+    public Problem getLastProblem() {
+        if (problems.isEmpty()) {
+            return null;
+        }
+        return problems.get(problems.size() - 1);
+    }
+
+    public Problem createProblem(String sourceClassName,
+                                 String bundleName,
+                                 Severity severity,
+                                 Object problemObject,
+                                 String messageId,
+                                 Throwable cause) {
+        return new DeferredProblem(sourceClassName, bundleName, severity, contextStack, problemObject, messageId,
+                                   cause, null);
+    }
+
+    public Problem createProblem(String sourceClassName,
+                                 String bundleName,
+                                 Severity severity,
+                                 Object problemObject,
+                                 String messageId,
+                                 Object... messageParams) {
+        return new DeferredProblem(sourceClassName, bundleName, severity, contextStack, problemObject, messageId,
+                                   null, messageParams);
+    }
+
+    public String getArtifactName() {
+        return artifactName;
+    }
+
+    public void setArtifactName(String artifactName) {
+        this.artifactName = artifactName;
+    }
+
+    public void pushContext(Object context) {
+        contextStack.push(context);
+    }
+
+    public Object popContext() {
+        return contextStack.pop();
+    }
+
+    public void reset() {
+        problems.clear();
+        contextStack.clear();
+        artifactName = null;
+    }
+
+    public String getMessageString(String loggerName, String messageBundleName, String messageID) {
+        return parent.getMessageString(loggerName, messageBundleName, messageID);
+    }
+
+    /**
+     * A problem recorded by a deferred monitor, with a snapshot of its context.
+     */
+    private static class DeferredProblem implements Problem {
+        private final String sourceClassName;
+        private final String bundleName;
+        private final Severity severity;
+        private final List<Object> context;
+        private final Object problemObject;
+        private final String messageId;
+        private final Throwable cause;
+        private final Object[] messageParams;
+
+        DeferredProblem(String sourceClassName,
+                        String bundleName,
+                        Severity severity,
+                        List<Object> context,
+                        Object problemObject,
+                        String messageId,
+                        Throwable cause,
+                        Object[] messageParams) {
+            this.sourceClassName = sourceClassName;
+            this.bundleName = bundleName;
+            this.severity = severity;
+            this.context = new ArrayList<Object>(context);
+            this.problemObject = problemObject;
+            this.messageId = messageId;
+            this.cause = cause;
+            this.messageParams = messageParams;
+        }
+
+        /**
+         * Create the problem on the given monitor, within the recorded context.
+         */
+        Problem createProblem(Monitor monitor) {
+            for (Object c : context) {
+                monitor.pushContext(c);
+            }
+            try {
+                if (cause != null) {
+                    return monitor.createProblem(sourceClassName, bundleName, severity, problemObject, messageId, cause);
+                } else {
+                    return monitor.createProblem(sourceClassName,
+                                                 bundleName,
+                                                 severity,
+                                                 problemObject,
+                                                 messageId,
+                                                 messageParams);
+                }
+            } finally {
+                for (int i = 0, n = context.size(); i < n; i++) {
+                    monitor.popContext();
+                }
+            }
+        }
+
+        public String getSourceClassName() {
+            return sourceClassName;
+        }
+
+        public String getResourceBundleName() {
+            return bundleName;
+        }
+
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        public String getContext() {
+            return context.toString();
+        }
+
+        public Object getProblemObject() {
+            return problemObject;
+        }
+
+        public String getMessageId() {
+            return messageId;
+        }
+
+        public Throwable getCause() {
+            return cause;
+        }
+
+        public Object[] getMessageParams() {
+            return messageParams;
+        }
+
+        public String toString() {
+            return context + " (" + messageId + ")";
+        }
+    }
+}
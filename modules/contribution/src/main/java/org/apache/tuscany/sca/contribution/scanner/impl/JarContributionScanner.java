@@ -19,15 +19,21 @@
 
 package org.apache.tuscany.sca.contribution.scanner.impl;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.tuscany.sca.common.java.io.IOHelper;
 import org.apache.tuscany.sca.contribution.Artifact;
@@ -58,66 +64,102 @@ public class JarContributionScanner implements ContributionScanner {
         // Assume the URL references a JAR file
         try {
             URL url = new URL(contribution.getLocation());
-            JarInputStream jar = new JarInputStream(IOHelper.openStream(url));
-            try {
-                Set<String> names = new HashSet<String>();
-                while (true) {
-                    JarEntry entry = jar.getNextJarEntry();
-                    if (entry == null) {
-                        // EOF
-                        break;
-                    }
-
-                    String name = entry.getName();
-                    if (name.length() != 0 && !name.startsWith(".")) {
-
-                        // Trim trailing /
-                        if (name.endsWith("/")) {
-                            name = name.substring(0, name.length() - 1);
+            Set<String> names = new HashSet<String>();
+            File file = toFile(url);
+            if (file != null && file.isFile()) {
+                // Read the central directory of the archive instead of
+                // streaming through all the entries
+                ZipFile zip = new ZipFile(file);
+                try {
+                    for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+                        String name = e.nextElement().getName();
+                        // Like JarInputStream, don't list the manifest
+                        if (!JarFile.MANIFEST_NAME.equalsIgnoreCase(name)) {
+                            addName(names, name);
                         }
-
-                        // Add the entry name
-                        if (!names.contains(name)) {
-                            names.add(name);
-
-                            // Add parent folder names to the list too
-                            for (;;) {
-                                int s = name.lastIndexOf('/');
-                                if (s == -1) {
-                                    name = "";
-                                } else {
-                                    name = name.substring(0, s);
-                                }
-                                if (name.length() != 0 && !names.contains(name)) {
-                                    names.add(name);
-                                } else {
-                                    break;
-                                }
-                            }
+                    }
+                } finally {
+                    zip.close();
+                }
+            } else {
+                JarInputStream jar = new JarInputStream(IOHelper.openStream(url));
+                try {
+                    while (true) {
+                        JarEntry entry = jar.getNextJarEntry();
+                        if (entry == null) {
+                            // EOF
+                            break;
                         }
+                        addName(names, entry.getName());
                     }
+                } finally {
+                    jar.close();
                 }
+            }
 
-                // Return list of artifacts
-                List<Artifact> artifacts = new ArrayList<Artifact>();
-                for(String uri : names) {
-                    Artifact artifact = contributionFactory.createArtifact();
-                    artifact.setURI(uri);
-                    artifact.setLocation(getArtifactURL(contribution, uri).toString());
-                    
-                    artifacts.add(artifact);
-                }
+            // Return list of artifacts
+            List<Artifact> artifacts = new ArrayList<Artifact>();
+            for(String uri : names) {
+                Artifact artifact = contributionFactory.createArtifact();
+                artifact.setURI(uri);
+                artifact.setLocation(getArtifactURL(contribution, uri).toString());
                 
-                contribution.getTypes().add(getContributionType());
-                return artifacts;
-
-            } finally {
-                jar.close();
+                artifacts.add(artifact);
             }
+            
+            contribution.getTypes().add(getContributionType());
+            return artifacts;
+
         } catch (IOException e) {
             throw new ContributionReadException(e);
         }
     }
+
+    /**
+     * Add the name of a JAR entry and the names of its parent folders.
+     */
+    private static void addName(Set<String> names, String name) {
+        if (name.length() != 0 && !name.startsWith(".")) {
+
+            // Trim trailing /
+            if (name.endsWith("/")) {
+                name = name.substring(0, name.length() - 1);
+            }
+
+            // Add the entry name
+            if (!names.contains(name)) {
+                names.add(name);
+
+                // Add parent folder names to the list too
+                for (;;) {
+                    int s = name.lastIndexOf('/');
+                    if (s == -1) {
+                        name = "";
+                    } else {
+                        name = name.substring(0, s);
+                    }
+                    if (name.length() != 0 && !names.contains(name)) {
+                        names.add(name);
+                    } else {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static File toFile(URL url) {
+        if ("file".equalsIgnoreCase(url.getProtocol())) {
+            try {
+                return new File(url.toURI());
+            } catch (URISyntaxException e) {
+                return new File(url.getPath());
+            } catch (IllegalArgumentException e) {
+                return new File(url.getPath());
+            }
+        }
+        return null;
+    }
     
     /**
      * Produces a location URL for a given artifact in the contribution
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.contribution.processor.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tuscany.sca.contribution.Artifact;
+import org.apache.tuscany.sca.contribution.Contribution;
+import org.apache.tuscany.sca.contribution.processor.ContributionReadException;
+import org.apache.tuscany.sca.contribution.processor.ContributionResolveException;
+import org.apache.tuscany.sca.contribution.processor.ExtensibleStAXArtifactProcessor;
+import org.apache.tuscany.sca.contribution.processor.ProcessorContext;
+import org.apache.tuscany.sca.contribution.processor.URLArtifactProcessor;
+import org.apache.tuscany.sca.contribution.processor.URLArtifactProcessorExtensionPoint;
+import org.apache.tuscany.sca.contribution.resolver.ModelResolver;
+import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
+import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.monitor.Monitor;
+import org.apache.tuscany.sca.monitor.Problem;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the reading of the artifacts of a contribution, sequentially and in parallel.
+ *
+ * @version $Rev$ $Date$
+ */
+public class ContributionContentProcessorTestCase {
+    private static final String CONTRIBUTION = "target/test-classes/deployables/sample-calculator.jar";
+
+    private ExtensionPointRegistry extensionPoints;
+    private ExtensibleStAXArtifactProcessor staxProcessor;
+
+    @Before
+    public void setUp() throws Exception {
+        extensionPoints = new DefaultExtensionPointRegistry();
+        URLArtifactProcessorExtensionPoint artifactProcessors =
+            extensionPoints.getExtensionPoint(URLArtifactProcessorExtensionPoint.class);
+        artifactProcessors.addArtifactProcessor(new ClassArtifactProcessor());
+        staxProcessor = new ExtensibleStAXArtifactProcessor(extensionPoints);
+    }
+
+    @Test
+    public void testParallelRead() throws Exception {
+        ProcessorContext serialContext = new ProcessorContext(extensionPoints);
+        Contribution serial = read(null, serialContext);
+        ProcessorContext parallelContext = new ProcessorContext(extensionPoints);
+        Contribution parallel = read("4", parallelContext);
+
+        List<Artifact> serialArtifacts = serial.getArtifacts();
+        List<Artifact> parallelArtifacts = parallel.getArtifacts();
+        assertEquals(serialArtifacts.size(), parallelArtifacts.size());
+        int models = 0;
+        for (int i = 0, n = serialArtifacts.size(); i < n; i++) {
+            Artifact expected = serialArtifacts.get(i);
+            Artifact actual = parallelArtifacts.get(i);
+            assertEquals(expected.getURI(), actual.getURI());
+            assertEquals(expected.getModel(), actual.getModel());
+            if (expected.getModel() != null) {
+                models++;
+            }
+        }
+        assertTrue(models > 1);
+
+        // The problems are reported in artifact order, with the artifact context
+        List<Problem> serialProblems = serialContext.getMonitor().getProblems();
+        List<Problem> parallelProblems = parallelContext.getMonitor().getProblems();
+        assertEquals(models, serialProblems.size());
+        assertEquals(serialProblems.size(), parallelProblems.size());
+        for (int i = 0, n = serialProblems.size(); i < n; i++) {
+            String context = serialProblems.get(i).getContext();
+            assertTrue(context.contains("Artifact: "));
+            assertEquals(context, parallelProblems.get(i).getContext());
+        }
+    }
+
+    private Contribution read(String readThreads, ProcessorContext context) throws Exception {
+        String old = System.getProperty(ContributionContentProcessor.READ_THREADS);
+        try {
+            if (readThreads == null) {
+                System.clearProperty(ContributionContentProcessor.READ_THREADS);
+            } else {
+                System.setProperty(ContributionContentProcessor.READ_THREADS, readThreads);
+            }
+            ContributionContentProcessor processor = new ContributionContentProcessor(extensionPoints, staxProcessor);
+            URL contributionURL = new File(CONTRIBUTION).toURI().toURL();
+            return processor.read(null, URI.create("calculator"), contributionURL, context);
+        } finally {
+            if (old == null) {
+                System.clearProperty(ContributionContentProcessor.READ_THREADS);
+            } else {
+                System.setProperty(ContributionContentProcessor.READ_THREADS, old);
+            }
+        }
+    }
+
+    /**
+     * A processor reading class files slowly, the first ones taking the longest,
+     * and reporting a warning for each of them.
+     */
+    private static class ClassArtifactProcessor implements URLArtifactProcessor<String> {
+
+        public String read(URL contributionURL, URI uri, URL url, ProcessorContext context)
+            throws ContributionReadException {
+            try {
+                Thread.sleep(Math.max(0, 'z' - uri.toString().charAt("calculator/".length())));
+            } catch (InterruptedException e) {
+                throw new ContributionReadException(e);
+            }
+            Monitor.warning(context.getMonitor(),
+                            this,
+                            "contribution-validation-messages",
+                            "UnrecognizedElementException",
+                            uri.toString());
+            return uri.toString();
+        }
+
+        public void resolve(String model, ModelResolver resolver, ProcessorContext context)
+            throws ContributionResolveException {
+        }
+
+        public String getArtifactType() {
+            return ".class";
+        }
+
+        public Class<String> getModelType() {
+            return String.class;
+        }
+    }
+}
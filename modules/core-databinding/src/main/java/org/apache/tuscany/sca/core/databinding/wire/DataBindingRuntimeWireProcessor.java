@@ -20,6 +20,8 @@
 package org.apache.tuscany.sca.core.databinding.wire;
 
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.UtilityExtensionPoint;
@@ -41,6 +43,7 @@ import org.apache.tuscany.sca.runtime.RuntimeWireProcessor;
  * @version $Rev$ $Date$
  */
 public class DataBindingRuntimeWireProcessor implements RuntimeWireProcessor {
+    private static final Logger logger = Logger.getLogger(DataBindingRuntimeWireProcessor.class.getName());
     private Mediator mediator;
     
     public DataBindingRuntimeWireProcessor(ExtensionPointRegistry registry) {
@@ -68,6 +71,9 @@ public class DataBindingRuntimeWireProcessor implements RuntimeWireProcessor {
                 // Add the interceptor to the source side because multiple
                 // references can be wired to the same service
                 interceptor = new DataTransformationInterceptor(endpoint, sourceOperation, targetOperation, mediator);
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine(DataTransformationReport.report(sourceOperation, targetOperation, mediator.getTransformers()));
+                }
             }
             if (interceptor != null) {
                 String phase = Phase.SERVICE_INTERFACE;
@@ -97,6 +103,9 @@ public class DataBindingRuntimeWireProcessor implements RuntimeWireProcessor {
                 // Add the interceptor to the source side because multiple
                 // references can be wired to the same service
                 interceptor = new DataTransformationInterceptor(endpointReference, sourceOperation, targetOperation, mediator);
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine(DataTransformationReport.report(sourceOperation, targetOperation, mediator.getTransformers()));
+                }
             }
             if (interceptor != null) {
                 String phase = Phase.REFERENCE_INTERFACE;
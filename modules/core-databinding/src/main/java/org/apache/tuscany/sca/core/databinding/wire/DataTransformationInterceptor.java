@@ -27,7 +27,9 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.tuscany.sca.core.invocation.InterceptorAsyncImpl;
+import org.apache.tuscany.sca.databinding.MediationPlan;
 import org.apache.tuscany.sca.databinding.Mediator;
+import org.apache.tuscany.sca.databinding.PlanningMediator;
 import org.apache.tuscany.sca.interfacedef.DataType;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.interfacedef.java.JavaOperation;
@@ -47,6 +49,12 @@ public class DataTransformationInterceptor extends InterceptorAsyncImpl {
     private Invocable invocable;
     private Mediator mediator;
 
+    // the mediations are worked out once for the operations rather than on each invocation,
+    // when the mediator supports it
+    private final MediationPlan inputPlan;
+    private final MediationPlan outputPlan;
+    private final MediationPlan faultPlan;
+
     public DataTransformationInterceptor(Invocable invocable,
                                          Operation sourceOperation,
                                          Operation targetOperation,
@@ -61,20 +69,39 @@ public class DataTransformationInterceptor extends InterceptorAsyncImpl {
         
         this.mediator = mediator;
         this.invocable = invocable;
+
+        if (mediator instanceof PlanningMediator) {
+            PlanningMediator planningMediator = (PlanningMediator)mediator;
+            Map<String, Object> metadata = createMetadata();
+            this.inputPlan = planningMediator.createInputPlan(sourceOperation, targetOperation, metadata);
+            this.outputPlan = planningMediator.createOutputPlan(sourceOperation, targetOperation, metadata);
+            this.faultPlan = planningMediator.createFaultPlan(sourceOperation, targetOperation, metadata);
+        } else {
+            this.inputPlan = null;
+            this.outputPlan = null;
+            this.faultPlan = null;
+        }
     }
-    
-    public Message processRequest(Message msg) {
+
+    private Map<String, Object> createMetadata() {
         Map<String, Object> metadata = new HashMap<String, Object>();
         metadata.put(Invocable.class.getName(), invocable);
-        Object input = mediator.mediateInput(msg.getBody(), sourceOperation, targetOperation, metadata);
+        return metadata;
+    }
+    
+    public Message processRequest(Message msg) {
+        Object input;
+        if (inputPlan != null) {
+            input = inputPlan.mediate(msg.getBody());
+        } else {
+            input = mediator.mediateInput(msg.getBody(), sourceOperation, targetOperation, createMetadata());
+        }
         msg.setBody(input);
         return msg;
     }
 
     public Message processResponse(Message msg) {
         Message resultMsg = msg;
-        Map<String, Object> metadata = new HashMap<String, Object>();
-        metadata.put(Invocable.class.getName(), invocable);
         
         if (sourceOperation.isNonBlocking()) {
             // Not to reset the message body
@@ -86,7 +113,11 @@ public class DataTransformationInterceptor extends InterceptorAsyncImpl {
         if (resultMsg.isFault()) {
             Object transformedFault = null;
             if ((result instanceof Exception) && !(result instanceof RuntimeException)) {
-                transformedFault = mediator.mediateFault(result, sourceOperation, targetOperation, metadata);
+                if (faultPlan != null) {
+                    transformedFault = faultPlan.mediate(result);
+                } else {
+                    transformedFault = mediator.mediateFault(result, sourceOperation, targetOperation, createMetadata());
+                }
                 if (transformedFault != result) {
                     resultMsg.setFaultBody(transformedFault);
                 }
@@ -97,7 +128,12 @@ public class DataTransformationInterceptor extends InterceptorAsyncImpl {
             //
         } else {
             assert !(result instanceof Throwable) : "Expected messages that are not throwable " + result;
-            Object newResult = mediator.mediateOutput(result, sourceOperation, targetOperation, metadata);
+            Object newResult;
+            if (outputPlan != null) {
+                newResult = outputPlan.mediate(result);
+            } else {
+                newResult = mediator.mediateOutput(result, sourceOperation, targetOperation, createMetadata());
+            }
             resultMsg.setBody(newResult);
         }
 
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.core.databinding.wire;
+
+import java.util.List;
+
+import org.apache.tuscany.sca.databinding.Transformer;
+import org.apache.tuscany.sca.databinding.TransformerExtensionPoint;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.Operation;
+
+/**
+ * Describes the transformer chains that will be used to transform the data of an
+ * operation, with their weights, to help find out which databindings a payload
+ * goes through, for example to see if a DOM or a string is built along the way.
+ *
+ * @version $Rev$ $Date$
+ */
+class DataTransformationReport {
+
+    private DataTransformationReport() {
+    }
+
+    /**
+     * Describe the transformations between two operations
+     * @param sourceOperation The source operation
+     * @param targetOperation The target operation
+     * @param transformers The transformers
+     * @return The description
+     */
+    static String report(Operation sourceOperation, Operation targetOperation, TransformerExtensionPoint transformers) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Data transformations for operation ").append(sourceOperation.getName());
+        if (sourceOperation.getInputType() != null && targetOperation.getInputType() != null) {
+            sb.append("\n  input:");
+            report(sb, sourceOperation.getInputType().getLogical(), targetOperation.getInputType().getLogical(), transformers);
+        }
+        if (sourceOperation.getOutputType() != null && targetOperation.getOutputType() != null) {
+            // The output flows from the target back to the source
+            sb.append("\n  output:");
+            report(sb, targetOperation.getOutputType().getLogical(), sourceOperation.getOutputType().getLogical(), transformers);
+        }
+        return sb.toString();
+    }
+
+    private static void report(StringBuilder sb, List<DataType> sourceTypes, List<DataType> targetTypes, TransformerExtensionPoint transformers) {
+        if (sourceTypes == null || targetTypes == null) {
+            return;
+        }
+        if (sourceTypes.size() != targetTypes.size()) {
+            sb.append(" wrapped/unwrapped, ").append(sourceTypes.size()).append(" to ").append(targetTypes.size()).append(" parts");
+            return;
+        }
+        for (int i = 0; i < sourceTypes.size(); i++) {
+            String source = sourceTypes.get(i).getDataBinding();
+            String target = targetTypes.get(i).getDataBinding();
+            sb.append("\n    [").append(i).append("] ");
+            if (source == null) {
+                sb.append("introspected at runtime -> ").append(target);
+            } else if (source.equals(target)) {
+                sb.append(source).append(", no transformation");
+            } else {
+                List<Transformer> chain = transformers.getTransformerChain(source, target);
+                if (chain == null) {
+                    sb.append(source).append(" -> ").append(target).append(", no transformer chain");
+                } else {
+                    int weight = 0;
+                    sb.append(source);
+                    for (Transformer transformer : chain) {
+                        sb.append(" -> ").append(transformer.getTargetDataBinding());
+                        weight += transformer.getWeight();
+                    }
+                    sb.append(", weight ").append(weight);
+                }
+            }
+        }
+    }
+}
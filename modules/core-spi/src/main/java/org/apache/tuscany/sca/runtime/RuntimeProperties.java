@@ -47,6 +47,11 @@ public interface RuntimeProperties {
      */
     public static final String USE_AXIOM = "org.apache.tuscany.sca.useAxiom";
 
+    /**
+     *  The directory used to cache the metadata of installed contributions across restarts
+     */
+    public static final String CONTRIBUTION_METADATA_CACHE = "org.apache.tuscany.sca.contributionMetadataCache";
+
     Properties getProperties();
     void setProperties(Properties properties);
 }
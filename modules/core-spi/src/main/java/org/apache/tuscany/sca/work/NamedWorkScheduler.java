@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.work;
+
+/**
+ * A work scheduler which can run the works of a given purpose, such as HTTP requests,
+ * on a separately sized pool of threads.
+ *
+ * @version $Rev$ $Date$
+ * @tuscany.spi.extension.asclient
+ */
+public interface NamedWorkScheduler extends WorkScheduler {
+
+    /**
+     * The name of the work scheduler used to dispatch HTTP requests
+     */
+    String HTTP = "http";
+
+    /**
+     * The name of the work scheduler used to run asynchronous invocations
+     */
+    String ASYNC = "async";
+
+    /**
+     * The name of the work scheduler used by JMS listeners
+     */
+    String JMS = "jms";
+
+    /**
+     * Get the work scheduler to be used for a given purpose, such as {@link #HTTP}, {@link #ASYNC}
+     * or {@link #JMS}. Implementations may run each purpose on a separately sized pool of threads,
+     * or share the same pool.
+     *
+     * @param name The name of the work scheduler
+     * @return The work scheduler, never null
+     */
+    WorkScheduler getWorkScheduler(String name);
+
+}
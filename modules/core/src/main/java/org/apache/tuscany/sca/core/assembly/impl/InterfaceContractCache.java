@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.core.assembly.impl;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.core.UtilityExtensionPoint;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.Interface;
+import org.apache.tuscany.sca.interfacedef.InterfaceContract;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.java.JavaInterface;
+
+/**
+ * A node-wide cache of the interface contracts read from the XML shipped with
+ * remote endpoints, keyed by the XML content, so that the endpoints sharing a
+ * contract only parse it once. Each endpoint gets its own copy of the cached
+ * contract. The contracts referencing the classes of a contribution are removed
+ * when the contribution is closed.
+ *
+ * @version $Rev$ $Date$
+ */
+public class InterfaceContractCache {
+    private static final int MAX_SIZE = 256;
+
+    private final Map<String, Entry> contracts = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * A cached contract and the classloaders of the classes it references.
+     */
+    private static class Entry {
+        private final InterfaceContract interfaceContract;
+        private final Set<ClassLoader> classLoaders = new HashSet<ClassLoader>();
+
+        private Entry(InterfaceContract interfaceContract) {
+            this.interfaceContract = interfaceContract;
+            addClassLoaders(interfaceContract.getInterface());
+            addClassLoaders(interfaceContract.getCallbackInterface());
+        }
+
+        private void addClassLoaders(Interface interfaze) {
+            if (interfaze == null) {
+                return;
+            }
+            if (interfaze instanceof JavaInterface) {
+                addClassLoader(((JavaInterface)interfaze).getJavaClass());
+            }
+            for (Operation operation : interfaze.getOperations()) {
+                addClassLoaders(operation.getInputType());
+                addClassLoaders(operation.getOutputType());
+                if (operation.getFaultTypes() != null) {
+                    for (DataType faultType : operation.getFaultTypes()) {
+                        addClassLoaders(faultType);
+                    }
+                }
+            }
+        }
+
+        private void addClassLoaders(DataType<?> dataType) {
+            if (dataType == null) {
+                return;
+            }
+            addClassLoader(dataType.getPhysical());
+            Object logical = dataType.getLogical();
+            if (logical instanceof DataType) {
+                addClassLoaders((DataType<?>)logical);
+            } else if (logical instanceof List) {
+                for (Object element : (List<?>)logical) {
+                    if (element instanceof DataType) {
+                        addClassLoaders((DataType<?>)element);
+                    }
+                }
+            }
+        }
+
+        private void addClassLoader(Class<?> clazz) {
+            ClassLoader classLoader = clazz == null ? null : clazz.getClassLoader();
+            if (classLoader != null) {
+                classLoaders.add(classLoader);
+            }
+        }
+    }
+
+    public InterfaceContractCache(ExtensionPointRegistry registry) {
+    }
+
+    public static InterfaceContractCache getInstance(ExtensionPointRegistry registry) {
+        UtilityExtensionPoint utilities = registry.getExtensionPoint(UtilityExtensionPoint.class);
+        return utilities.getUtility(InterfaceContractCache.class);
+    }
+
+    /**
+     * Returns a copy of the interface contract read from the given XML, or null if
+     * it isn't in the cache.
+     */
+    public InterfaceContract get(String xml) {
+        Entry entry;
+        synchronized (contracts) {
+            entry = contracts.get(xml);
+        }
+        return entry == null ? null : copy(entry.interfaceContract);
+    }
+
+    /**
+     * Add the interface contract read from the given XML to the cache.
+     */
+    public void put(String xml, InterfaceContract interfaceContract) {
+        // Keep a copy that is never handed out so that changes to the contract
+        // don't affect the other endpoints
+        InterfaceContract copy = copy(interfaceContract);
+        if (copy != null) {
+            Entry entry = new Entry(copy);
+            synchronized (contracts) {
+                contracts.put(xml, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the contracts referencing the classes of a contribution. The
+     * contribution is identified by its classloader.
+     *
+     * @param contributionClassloader
+     */
+    public void removeContractsForContribution(ClassLoader contributionClassloader) {
+        synchronized (contracts) {
+            for (Iterator<Entry> i = contracts.values().iterator(); i.hasNext();) {
+                if (i.next().classLoaders.contains(contributionClassloader)) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (contracts) {
+            contracts.clear();
+        }
+    }
+
+    private static InterfaceContract copy(InterfaceContract interfaceContract) {
+        try {
+            return (InterfaceContract)interfaceContract.clone();
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
+    }
+}
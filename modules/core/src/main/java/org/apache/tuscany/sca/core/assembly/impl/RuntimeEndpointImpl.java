@@ -1087,6 +1087,12 @@ public class RuntimeEndpointImpl extends EndpointImpl implements RuntimeEndpoint
         InterfaceContract interfaceContract = null;
         //System.out.println("Reading IC XML: " + interfaceContractXML);
         if (interfaceContractXML != null && interfaceContractXML.length() > 0){
+            // Endpoints with the same contract ship the same XML, so only read it once
+            InterfaceContractCache cache = InterfaceContractCache.getInstance(registry);
+            interfaceContract = cache.get(interfaceContractXML);
+            if (interfaceContract != null) {
+                return interfaceContract;
+            }
             try {
                 FactoryExtensionPoint modelFactories = registry.getExtensionPoint(FactoryExtensionPoint.class);
                 InterfaceContractProcessor processor = new InterfaceContractProcessor(registry);
@@ -1095,6 +1101,9 @@ public class RuntimeEndpointImpl extends EndpointImpl implements RuntimeEndpoint
                 XMLInputFactory inputFactory = modelFactories.getFactory(XMLInputFactory.class);
                 XMLStreamReader reader = inputFactory.createXMLStreamReader(bis);
                 interfaceContract = processor.read(reader, context);
+                if (interfaceContract != null) {
+                    cache.put(interfaceContractXML, interfaceContract);
+                }
             } catch (Exception ex){
                 new ServiceRuntimeException(ex);  
             }
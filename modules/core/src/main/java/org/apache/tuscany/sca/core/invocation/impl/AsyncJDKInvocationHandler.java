@@ -87,6 +87,7 @@ import org.apache.tuscany.sca.runtime.Invocable;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
 import org.apache.tuscany.sca.runtime.RuntimeEndpoint;
 import org.apache.tuscany.sca.runtime.RuntimeEndpointReference;
+import org.apache.tuscany.sca.work.NamedWorkScheduler;
 import org.apache.tuscany.sca.work.WorkScheduler;
 import org.oasisopen.sca.ServiceReference;
 import org.oasisopen.sca.ServiceRuntimeException;
@@ -131,6 +132,9 @@ public class AsyncJDKInvocationHandler extends JDKInvocationHandler {
     private final void initWorkScheduler(ExtensionPointRegistry registry) {
         UtilityExtensionPoint utilities = registry.getExtensionPoint(UtilityExtensionPoint.class);
         scheduler = utilities.getUtility(WorkScheduler.class);
+        if (scheduler instanceof NamedWorkScheduler) {
+            scheduler = ((NamedWorkScheduler)scheduler).getWorkScheduler(NamedWorkScheduler.ASYNC);
+        }
     } // end method initWorkScheduler
 
     /**
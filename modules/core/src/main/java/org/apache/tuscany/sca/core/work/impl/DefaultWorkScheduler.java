@@ -21,10 +21,17 @@ package org.apache.tuscany.sca.core.work.impl;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
 
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.LifeCycleListener;
+import org.apache.tuscany.sca.core.UtilityExtensionPoint;
+import org.apache.tuscany.sca.core.work.impl.ThreadPoolWorkManager.RejectionPolicy;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
+import org.apache.tuscany.sca.work.NamedWorkScheduler;
 import org.apache.tuscany.sca.work.NotificationListener;
 import org.apache.tuscany.sca.work.WorkScheduler;
 import org.apache.tuscany.sca.work.WorkSchedulerException;
@@ -37,16 +44,43 @@ import org.apache.tuscany.sca.work.WorkSchedulerException;
  * work manager implementation that is injected in. It is the responsibility of the runtime environment to make a work
  * manager implementation available. For example, if the managed environment supports work manager the runtime can use
  * the appropriate lookup mechanism to inject the work manager implementation. </p>
+ * <p>
+ * The pool is configured with the maxThreads, queueSize, rejectionPolicy (abort, callerRuns or block) and
+ * virtualThreads attributes of the service declaration, which can be overridden by runtime properties prefixed
+ * with "org.apache.tuscany.sca.work.". A named work scheduler, such as "http", gets its own pool when one of
+ * these options is prefixed with its name, for example "http.maxThreads", and shares the default pool otherwise.
+ * </p>
  *
  * @version $Rev$ $Date$
  */
-public class DefaultWorkScheduler implements WorkScheduler, LifeCycleListener {
+public class DefaultWorkScheduler implements NamedWorkScheduler, LifeCycleListener {
+    private static final Logger logger = Logger.getLogger(DefaultWorkScheduler.class.getName());
+
+    /**
+     * The prefix of the runtime properties used to configure the pools
+     */
+    public static final String PROPERTY_PREFIX = "org.apache.tuscany.sca.work.";
+
+    private static final String MAX_THREADS = "maxThreads";
+    private static final String QUEUE_SIZE = "queueSize";
+    private static final String REJECTION_POLICY = "rejectionPolicy";
+    private static final String VIRTUAL_THREADS = "virtualThreads";
+    private static final String[] OPTIONS = {MAX_THREADS, QUEUE_SIZE, REJECTION_POLICY, VIRTUAL_THREADS};
 
     /**
      * Underlying JSR-237 work manager
      */
     private ThreadPoolWorkManager jsr237WorkManager;
-    private int maxThreads = 0;
+
+    private final ExtensionPointRegistry registry;
+    private final Map<String, String> attributes;
+
+    // The name of this work scheduler and the default one, null for the default work scheduler
+    private final String name;
+    private final DefaultWorkScheduler parent;
+
+    // The named work schedulers having their own pool
+    private final Map<String, WorkScheduler> workSchedulers = new ConcurrentHashMap<String, WorkScheduler>();
 
     /**
      * Initializes the JSR 237 work manager.
@@ -54,12 +88,17 @@ public class DefaultWorkScheduler implements WorkScheduler, LifeCycleListener {
      * @param jsr237WorkManager JSR 237 work manager.
      */
     public DefaultWorkScheduler(ExtensionPointRegistry registry, Map<String, String> attributes) {
-        if (attributes != null) {
-            String value = attributes.get("maxThreads");
-            if (value != null) {
-                maxThreads = Integer.parseInt(value.trim());
-            }
-        }
+        this(registry, attributes, null, null);
+    }
+
+    private DefaultWorkScheduler(ExtensionPointRegistry registry,
+                                 Map<String, String> attributes,
+                                 String name,
+                                 DefaultWorkScheduler parent) {
+        this.registry = registry;
+        this.attributes = attributes;
+        this.name = name;
+        this.parent = parent;
     }
 
     private synchronized ThreadPoolWorkManager getWorkManager() {
@@ -73,11 +112,106 @@ public class DefaultWorkScheduler implements WorkScheduler, LifeCycleListener {
 //            // ignore
 //        }
         if (jsr237WorkManager == null) {
-            jsr237WorkManager = new ThreadPoolWorkManager(maxThreads);
+            Properties properties = getRuntimeProperties();
+            int maxThreads = getIntOption(properties, MAX_THREADS);
+            int queueSize = getIntOption(properties, QUEUE_SIZE);
+            RejectionPolicy rejectionPolicy = getRejectionPolicy(properties);
+            boolean virtualThreads = Boolean.parseBoolean(getOption(properties, VIRTUAL_THREADS));
+            jsr237WorkManager =
+                new ThreadPoolWorkManager(name == null ? "work" : name, maxThreads, queueSize, rejectionPolicy,
+                                          virtualThreads);
         }
         return jsr237WorkManager;
     }
 
+    private Properties getRuntimeProperties() {
+        if (registry == null) {
+            return null;
+        }
+        UtilityExtensionPoint utilities = registry.getExtensionPoint(UtilityExtensionPoint.class);
+        RuntimeProperties runtimeProperties = utilities.getUtility(RuntimeProperties.class);
+        return runtimeProperties == null ? null : runtimeProperties.getProperties();
+    }
+
+    private String getOption(Properties properties, String option) {
+        String key = name == null ? option : name + "." + option;
+        String value = properties == null ? null : properties.getProperty(PROPERTY_PREFIX + key);
+        if (value == null && attributes != null) {
+            value = attributes.get(key);
+        }
+        return value;
+    }
+
+    private int getIntOption(Properties properties, String option) {
+        String value = getOption(properties, option);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid " + option + " value: " + value + ", using 0");
+            return 0;
+        }
+    }
+
+    private RejectionPolicy getRejectionPolicy(Properties properties) {
+        String value = getOption(properties, REJECTION_POLICY);
+        try {
+            return RejectionPolicy.parse(value);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid " + REJECTION_POLICY + " value: " + value + ", using " + RejectionPolicy.ABORT);
+            return RejectionPolicy.ABORT;
+        }
+    }
+
+    /**
+     * Get the work scheduler for a given purpose. It has its own pool if the pool is configured for this name,
+     * otherwise the default work scheduler is returned.
+     */
+    public WorkScheduler getWorkScheduler(String name) {
+        if (parent != null) {
+            return parent.getWorkScheduler(name);
+        }
+        if (name == null) {
+            return this;
+        }
+        WorkScheduler workScheduler = workSchedulers.get(name);
+        if (workScheduler != null) {
+            return workScheduler;
+        }
+        synchronized (workSchedulers) {
+            workScheduler = workSchedulers.get(name);
+            if (workScheduler == null) {
+                DefaultWorkScheduler named = new DefaultWorkScheduler(registry, attributes, name, this);
+                Properties properties = getRuntimeProperties();
+                workScheduler = this;
+                for (String option : OPTIONS) {
+                    if (named.getOption(properties, option) != null) {
+                        workScheduler = named;
+                        break;
+                    }
+                }
+                workSchedulers.put(name, workScheduler);
+            }
+        }
+        return workScheduler;
+    }
+
+    /**
+     * Returns the number of works waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return getWorkManager().getQueueDepth();
+    }
+
+    /**
+     * Returns the number of works being run.
+     */
+    public int getActiveCount() {
+        return getWorkManager().getActiveCount();
+    }
+
     /**
      * Schedules a unit of work for future execution. The notification listener is used to register interest in
      * callbacks regarding the status of the work.
@@ -110,9 +244,8 @@ public class DefaultWorkScheduler implements WorkScheduler, LifeCycleListener {
                 getWorkManager().schedule(jsr237Work, jsr237WorkListener);
             }
         } catch (IllegalArgumentException ex) {
-            if (listener != null) {
-                listener.workRejected(work);
-            } else {
+            // The listener has been notified of the rejection by the work manager
+            if (listener == null) {
                 throw new WorkSchedulerException(ex);
             }
         } catch (Exception ex) {
@@ -125,12 +258,23 @@ public class DefaultWorkScheduler implements WorkScheduler, LifeCycleListener {
     }
 
     public void stop() {
-        if (jsr237WorkManager instanceof ThreadPoolWorkManager) {
+        for (WorkScheduler workScheduler : workSchedulers.values()) {
+            if (workScheduler != this) {
+                ((DefaultWorkScheduler)workScheduler).stop();
+            }
+        }
+        workSchedulers.clear();
+        final ThreadPoolWorkManager workManager;
+        synchronized (this) {
+            workManager = jsr237WorkManager;
+        }
+        if (workManager != null) {
+            logger.fine("Work scheduler " + (name == null ? "work" : name) + " stopped: " + workManager);
             // Allow privileged access to modify threads. Requires RuntimePermission in security
             // policy.
             AccessController.doPrivileged(new PrivilegedAction<Object>() {
                 public Object run() {
-                    ((ThreadPoolWorkManager)jsr237WorkManager).destroy();
+                    workManager.destroy();
                     return null;
                 }
             });
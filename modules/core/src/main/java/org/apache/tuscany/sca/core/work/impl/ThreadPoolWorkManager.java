@@ -18,14 +18,23 @@
  */
 package org.apache.tuscany.sca.core.work.impl;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.apache.tuscany.sca.work.WorkSchedulerException;
 
@@ -40,6 +49,45 @@ import org.apache.tuscany.sca.work.WorkSchedulerException;
  * @version $Rev$ $Date$
  */
 public class ThreadPoolWorkManager {
+    private static final Logger logger = Logger.getLogger(ThreadPoolWorkManager.class.getName());
+
+    /**
+     * The policy applied when work is scheduled while all the threads are busy and
+     * the queue of a bounded pool is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Reject the work, the listener of the work is notified
+         */
+        ABORT,
+        /**
+         * Run the work in the thread that schedules it, which slows down the producer
+         */
+        CALLER_RUNS,
+        /**
+         * Block the thread that schedules the work until the queue has room for it
+         */
+        BLOCK;
+
+        /**
+         * Parse a policy name such as "abort", "callerRuns" or "block".
+         */
+        public static RejectionPolicy parse(String value) {
+            if (value == null) {
+                return ABORT;
+            }
+            String name = value.trim();
+            for (RejectionPolicy policy : values()) {
+                if (policy.name().replace("_", "").equalsIgnoreCase(name.replace("_", "").replace("-", ""))) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("Invalid rejection policy: " + value);
+        }
+    }
+
+    // Ids of the work items, scoped for the VM
+    private static final AtomicLong ids = new AtomicLong();
 
     // Map of work items currently handled by the work manager
     private Map<WorkItem, WorkListener> workItems = new ConcurrentHashMap<WorkItem, WorkListener>();
@@ -47,15 +95,48 @@ public class ThreadPoolWorkManager {
     // Thread-pool
     protected ExecutorService executor;
 
+    // Statistics
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
     /**
      * Initializes the thread-pool.
      *
      * @param threadPoolSize Thread-pool size. If the size <1, then a cached pool is created
      */
     public ThreadPoolWorkManager(int threadPoolSize) {
+        this("work", threadPoolSize, 0, RejectionPolicy.ABORT, false);
+    }
+
+    /**
+     * Initializes the thread-pool.
+     *
+     * @param name The name of the pool, used to name its threads
+     * @param threadPoolSize Thread-pool size. If the size <1, then a cached pool is created
+     * @param queueSize The maximum number of works waiting for a thread. If the size <1, the queue is unbounded.
+     *                  It is only used when the thread-pool size is set.
+     * @param rejectionPolicy The policy applied when the queue is full
+     * @param virtualThreads Run each work on its own virtual thread when the JVM supports them,
+     *                       the thread-pool and queue sizes are ignored in that case
+     */
+    public ThreadPoolWorkManager(final String name,
+                                 int threadPoolSize,
+                                 int queueSize,
+                                 RejectionPolicy rejectionPolicy,
+                                 boolean virtualThreads) {
+        if (virtualThreads) {
+            executor = newVirtualThreadExecutor();
+            if (executor != null) {
+                return;
+            }
+            logger.fine("Virtual threads are not supported by this JVM, using a thread-pool for " + name);
+        }
         ThreadFactory factory = new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
             public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r);
+                Thread thread = new Thread(r, "Tuscany-" + name + "-" + count.incrementAndGet());
                 thread.setDaemon(true);
                 return thread;
             }
@@ -66,7 +147,49 @@ public class ThreadPoolWorkManager {
             // creates daemon threads.
             executor = Executors.newCachedThreadPool(factory);
         } else {
-            executor = Executors.newFixedThreadPool(threadPoolSize, factory);
+            BlockingQueue<Runnable> queue =
+                queueSize > 0 ? new LinkedBlockingQueue<Runnable>(queueSize) : new LinkedBlockingQueue<Runnable>();
+            executor =
+                new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS, queue, factory,
+                                       getRejectedExecutionHandler(rejectionPolicy));
+        }
+    }
+
+    private static RejectedExecutionHandler getRejectedExecutionHandler(RejectionPolicy rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case BLOCK:
+                return new RejectedExecutionHandler() {
+                    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("The thread-pool is shut down");
+                        }
+                        try {
+                            executor.getQueue().put(r);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException(e);
+                        }
+                    }
+                };
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    /*
+     * Creates an executor starting a virtual thread per work, if the JVM supports them.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService)method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Unable to create a virtual thread executor", e);
+            return null;
         }
     }
 
@@ -89,7 +212,7 @@ public class ThreadPoolWorkManager {
      */
     public WorkItem schedule(Work work, WorkListener workListener) throws IllegalArgumentException {
 
-        WorkItem workItem = new WorkItem(UUID.randomUUID().toString(), work);
+        WorkItem workItem = new WorkItem(Long.toString(ids.incrementAndGet()), work);
         if (workListener != null) {
             workItems.put(workItem, workListener);
         }
@@ -99,6 +222,7 @@ public class ThreadPoolWorkManager {
         } else {
             workItem.setStatus(WorkEvent.WORK_REJECTED);
             if (workListener != null) {
+                workItems.remove(workItem);
                 workListener.workRejected(new WorkEvent(workItem));
             }
             throw new IllegalArgumentException("Unable to schedule work");
@@ -182,6 +306,7 @@ public class ThreadPoolWorkManager {
             executor.execute(new DecoratingWork(workItem, work));
             return true;
         } catch (RejectedExecutionException ex) {
+            rejectedCount.incrementAndGet();
             return false;
         }
     }
@@ -209,12 +334,18 @@ public class ThreadPoolWorkManager {
          * Overrides the run method.
          */
         public void run() {
-            workStarted(workItem, decoratedWork);
+            activeCount.incrementAndGet();
             try {
-                decoratedWork.run();
-                workCompleted(workItem, decoratedWork);
-            } catch (Throwable th) {
-                workCompleted(workItem, decoratedWork, new WorkSchedulerException(th.getMessage(), th));
+                workStarted(workItem, decoratedWork);
+                try {
+                    decoratedWork.run();
+                    workCompleted(workItem, decoratedWork);
+                } catch (Throwable th) {
+                    workCompleted(workItem, decoratedWork, new WorkSchedulerException(th.getMessage(), th));
+                }
+            } finally {
+                activeCount.decrementAndGet();
+                completedCount.incrementAndGet();
             }
         }
 
@@ -228,5 +359,59 @@ public class ThreadPoolWorkManager {
         return executor;
     }
 
+    /**
+     * Returns the number of works waiting for a thread.
+     */
+    public int getQueueDepth() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor)executor).getQueue().size();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of works being run.
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * Returns the number of threads in the pool, or -1 if the executor doesn't pool its threads.
+     */
+    public int getPoolSize() {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor)executor).getPoolSize();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of works that have been run.
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Returns the number of works that have been rejected.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "active=" + getActiveCount()
+            + ", queued="
+            + getQueueDepth()
+            + ", threads="
+            + getPoolSize()
+            + ", completed="
+            + getCompletedCount()
+            + ", rejected="
+            + getRejectedCount();
+    }
+
 }
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.core.assembly.impl;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.InterfaceContract;
+import org.apache.tuscany.sca.interfacedef.Operation;
+import org.apache.tuscany.sca.interfacedef.impl.DataTypeImpl;
+import org.apache.tuscany.sca.interfacedef.impl.InterfaceImpl;
+import org.apache.tuscany.sca.interfacedef.impl.OperationImpl;
+import org.apache.tuscany.sca.interfacedef.impl.TuscanyInterfaceContractImpl;
+import org.junit.Test;
+
+/**
+ * @version $Rev$ $Date$
+ */
+public class InterfaceContractCacheTestCase {
+
+    @Test
+    public void testRemoveContractsForContribution() throws Exception {
+        // A classloader standing for a contribution, loading its own copy of Foo
+        URL location = Foo.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader contributionClassLoader = new URLClassLoader(new URL[] {location}, null);
+        Class<?> contributionClass = contributionClassLoader.loadClass(Foo.class.getName());
+
+        InterfaceContractCache cache = new InterfaceContractCache(null);
+        cache.put("<contribution/>", newInterfaceContract(contributionClass));
+        cache.put("<other/>", newInterfaceContract(Foo.class));
+        cache.put("<string/>", newInterfaceContract(String.class));
+
+        InterfaceContract interfaceContract = cache.get("<contribution/>");
+        assertNotNull(interfaceContract);
+        assertNotSame(interfaceContract, cache.get("<contribution/>"));
+
+        cache.removeContractsForContribution(contributionClassLoader);
+        assertNull(cache.get("<contribution/>"));
+        assertNotNull(cache.get("<other/>"));
+        assertNotNull(cache.get("<string/>"));
+    }
+
+    private static InterfaceContract newInterfaceContract(Class<?> type) {
+        List<DataType> types = new ArrayList<DataType>();
+        types.add(new DataTypeImpl<Class<?>>(type, type));
+        Operation operation = new OperationImpl();
+        operation.setName("foo");
+        operation.setInputType(new DataTypeImpl<List<DataType>>("idl:input", Object[].class, types));
+        InterfaceImpl interfaze = new InterfaceImpl();
+        interfaze.getOperations().add(operation);
+        InterfaceContract interfaceContract = new TuscanyInterfaceContractImpl();
+        interfaceContract.setInterface(interfaze);
+        return interfaceContract;
+    }
+
+    public static class Foo {
+    }
+}
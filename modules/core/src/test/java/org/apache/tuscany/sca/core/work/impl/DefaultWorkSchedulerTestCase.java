@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.core.work.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.tuscany.sca.core.work.impl.ThreadPoolWorkManager.RejectionPolicy;
+import org.apache.tuscany.sca.work.WorkScheduler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test case for the configuration of the DefaultWorkScheduler pools
+ *
+ * @version $Rev$ $Date$
+ */
+public class DefaultWorkSchedulerTestCase {
+
+    /**
+     * Wait up to 20 seconds for the Work units to complete
+     */
+    private static final long WAIT_TIMEOUT = 20000;
+
+    /**
+     * Tests that a named work scheduler only has its own pool when it is configured
+     */
+    @Test
+    public void testNamedWorkScheduler() {
+        Map<String, String> attributes = new HashMap<String, String>();
+        attributes.put("http.maxThreads", "2");
+        DefaultWorkScheduler workScheduler = new DefaultWorkScheduler(null, attributes);
+        try {
+            Assert.assertSame(workScheduler, workScheduler.getWorkScheduler(null));
+            Assert.assertSame(workScheduler, workScheduler.getWorkScheduler("other"));
+
+            WorkScheduler http = workScheduler.getWorkScheduler("http");
+            Assert.assertNotSame(workScheduler, http);
+            Assert.assertSame(http, workScheduler.getWorkScheduler("http"));
+            // A named work scheduler looks up the others from the default one
+            Assert.assertSame(workScheduler, ((DefaultWorkScheduler)http).getWorkScheduler("other"));
+
+            JSR237MyRunnerListener listener = new JSR237MyRunnerListener();
+            http.scheduleWork(new JSR237MyRunnable(10), listener);
+            waitForWorkToComplete(listener, 1);
+        } finally {
+            workScheduler.stop();
+        }
+    }
+
+    /**
+     * Tests that the pool options are applied
+     */
+    @Test
+    public void testOptions() {
+        Map<String, String> attributes = new HashMap<String, String>();
+        attributes.put("maxThreads", "1");
+        attributes.put("queueSize", " 1 ");
+        attributes.put("rejectionPolicy", "abort");
+        DefaultWorkScheduler workScheduler = new DefaultWorkScheduler(null, attributes);
+        try {
+            JSR237MyRunnerListener listener = new JSR237MyRunnerListener();
+            // The first work is run by the only thread and the second one is queued
+            workScheduler.scheduleWork(new JSR237MyRunnable(200), listener);
+            workScheduler.scheduleWork(new JSR237MyRunnable(200), listener);
+            workScheduler.scheduleWork(new JSR237MyRunnable(200), listener);
+            Assert.assertEquals(1, listener.getWorkRejectedCallCount());
+            waitForWorkToComplete(listener, 2);
+        } finally {
+            workScheduler.stop();
+        }
+    }
+
+    /**
+     * Tests that invalid pool options fall back to the defaults instead of failing the work
+     */
+    @Test
+    public void testInvalidOptions() {
+        Map<String, String> attributes = new HashMap<String, String>();
+        attributes.put("maxThreads", "one");
+        attributes.put("queueSize", "1");
+        attributes.put("rejectionPolicy", "sometimes");
+        DefaultWorkScheduler workScheduler = new DefaultWorkScheduler(null, attributes);
+        try {
+            // The pool is unbounded, so no work is rejected
+            JSR237MyRunnerListener listener = new JSR237MyRunnerListener();
+            for (int i = 0; i < 3; i++) {
+                workScheduler.scheduleWork(new JSR237MyRunnable(100), listener);
+            }
+            waitForWorkToComplete(listener, 3);
+            Assert.assertEquals(0, listener.getWorkRejectedCallCount());
+        } finally {
+            workScheduler.stop();
+        }
+    }
+
+    /**
+     * Tests the names accepted for the rejection policies
+     */
+    @Test
+    public void testRejectionPolicyNames() {
+        Assert.assertEquals(RejectionPolicy.ABORT, RejectionPolicy.parse(null));
+        Assert.assertEquals(RejectionPolicy.ABORT, RejectionPolicy.parse("Abort"));
+        Assert.assertEquals(RejectionPolicy.CALLER_RUNS, RejectionPolicy.parse("callerRuns"));
+        Assert.assertEquals(RejectionPolicy.CALLER_RUNS, RejectionPolicy.parse("caller-runs"));
+        Assert.assertEquals(RejectionPolicy.BLOCK, RejectionPolicy.parse(" block "));
+        try {
+            RejectionPolicy.parse("sometimes");
+            Assert.fail("The policy name should have been rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Waits for the specified number of jobs to complete or the timeout to fire.
+     *
+     * @param listener The listener to use to track Work unit completion
+     * @param completedWorkItemsToWaitFor The number of Work items to complete
+     */
+    private void waitForWorkToComplete(JSR237MyRunnerListener listener, int completedWorkItemsToWaitFor) {
+        long startTime = System.currentTimeMillis();
+        while (listener.getWorkCompletedCallCount() < completedWorkItemsToWaitFor) {
+            if (System.currentTimeMillis() - startTime > WAIT_TIMEOUT) {
+                Assert.fail("Only " + listener.getWorkCompletedCallCount()
+                    + " work items completed before timeout");
+            }
+            try {
+                Thread.sleep(25);
+            } catch (InterruptedException ex) {
+                Assert.fail("Unexpected exception: " + ex);
+            }
+        }
+    }
+}
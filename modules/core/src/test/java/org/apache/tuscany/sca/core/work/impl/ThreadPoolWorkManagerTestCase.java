@@ -197,6 +197,57 @@ public class ThreadPoolWorkManagerTestCase {
         Assert.assertEquals(1, fast.getRunCompletedCount());
     }
 
+    /**
+     * Tests that a bounded pool rejects work when its queue is full
+     */
+    @Test
+    public void testBoundedQueueRejectsWork() {
+        ThreadPoolWorkManager bounded =
+            new ThreadPoolWorkManager("test", 1, 1, ThreadPoolWorkManager.RejectionPolicy.ABORT, false);
+        try {
+            TestWorkListener listener = new TestWorkListener();
+            // The first work is run by the only thread and the second one is queued
+            bounded.schedule(new TimeDelayWork(200), listener);
+            bounded.schedule(new TimeDelayWork(200), listener);
+            try {
+                bounded.schedule(new TimeDelayWork(200), listener);
+                Assert.fail("The work should have been rejected");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+            Assert.assertEquals(1, listener.getWorkRejectedCallCount());
+            Assert.assertEquals(1, bounded.getRejectedCount());
+
+            waitForWorkToComplete(listener, 2);
+            Assert.assertEquals(0, bounded.getQueueDepth());
+        } finally {
+            bounded.destroy();
+        }
+    }
+
+    /**
+     * Tests that a bounded pool runs work in the scheduling thread when its queue is full
+     */
+    @Test
+    public void testBoundedQueueCallerRuns() {
+        ThreadPoolWorkManager bounded =
+            new ThreadPoolWorkManager("test", 1, 1, ThreadPoolWorkManager.RejectionPolicy.CALLER_RUNS, false);
+        try {
+            TestWorkListener listener = new TestWorkListener();
+            bounded.schedule(new TimeDelayWork(200), listener);
+            bounded.schedule(new TimeDelayWork(200), listener);
+            TimeDelayWork work = new TimeDelayWork(10);
+            bounded.schedule(work, listener);
+
+            // The last work has been run before schedule returned
+            Assert.assertEquals(1, work.getRunCompletedCount());
+            waitForWorkToComplete(listener, 3);
+            Assert.assertEquals(0, listener.getWorkRejectedCallCount());
+        } finally {
+            bounded.destroy();
+        }
+    }
+
     /**
      * Waits for the specified number of jobs to complete or the timeout to fire.
      *
@@ -21,7 +21,9 @@ package org.apache.tuscany.sca.databinding.jaxb;
 import java.io.StringWriter;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
 import javax.xml.transform.stream.StreamResult;
 
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
@@ -30,8 +32,11 @@ import org.apache.tuscany.sca.databinding.PullTransformer;
 import org.apache.tuscany.sca.databinding.TransformationContext;
 import org.apache.tuscany.sca.databinding.TransformationException;
 import org.apache.tuscany.sca.databinding.xml.XMLStringDataBinding;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.util.XMLType;
 
 /**
+ * Marshals JAXB objects directly to an XML string, without building a DOM first
  *
  * @version $Rev$ $Date$
  */
@@ -47,6 +52,7 @@ public class JAXB2String extends BaseTransformer<Object, String> implements Pull
             StringWriter writer = new StringWriter();
             StreamResult result = new StreamResult(writer);
             Object jaxbElement = JAXBContextHelper.createJAXBElement(context, tContext.getSourceDataType(), source);
+            jaxbElement = adjustElementName(context, tContext, jaxbElement);
             Marshaller marshaller = contextHelper.getMarshaller(context);
             try {
                 marshaller.marshal(jaxbElement, result);
@@ -59,6 +65,32 @@ public class JAXB2String extends BaseTransformer<Object, String> implements Pull
         }
     }
 
+    /**
+     * Use the element name expected by the target, as JAXB2Node does when the
+     * XML is produced through a DOM
+     */
+    @SuppressWarnings("unchecked")
+    private static Object adjustElementName(JAXBContext context, TransformationContext tContext, Object jaxbElement) {
+        DataType dataType = tContext.getTargetDataType();
+        Object logical = dataType == null ? null : dataType.getLogical();
+        if (!(logical instanceof XMLType) || !((XMLType)logical).isElement()) {
+            return jaxbElement;
+        }
+        QName name = ((XMLType)logical).getElementName();
+        if (jaxbElement instanceof JAXBElement) {
+            JAXBElement element = (JAXBElement)jaxbElement;
+            if (!name.equals(element.getName())) {
+                return new JAXBElement(name, element.getDeclaredType(), element.getScope(), element.getValue());
+            }
+            return jaxbElement;
+        }
+        QName elementName = context.createJAXBIntrospector().getElementName(jaxbElement);
+        if (elementName != null && !name.equals(elementName)) {
+            return new JAXBElement(name, jaxbElement.getClass(), jaxbElement);
+        }
+        return jaxbElement;
+    }
+
     @Override
     protected Class<Object> getSourceType() {
         return Object.class;
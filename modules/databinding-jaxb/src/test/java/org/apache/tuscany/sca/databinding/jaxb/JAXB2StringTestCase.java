@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.databinding.jaxb;
+
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
+import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.databinding.TransformationContext;
+import org.apache.tuscany.sca.databinding.Transformer;
+import org.apache.tuscany.sca.databinding.TransformerExtensionPoint;
+import org.apache.tuscany.sca.databinding.impl.TransformationContextImpl;
+import org.apache.tuscany.sca.databinding.xml.XMLStringDataBinding;
+import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.impl.DataTypeImpl;
+import org.apache.tuscany.sca.interfacedef.util.XMLType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @version $Rev$ $Date$
+ */
+public class JAXB2StringTestCase {
+    private static ExtensionPointRegistry registry = new DefaultExtensionPointRegistry();
+
+    @Test
+    public void testTransformerChain() throws Exception {
+        TransformerExtensionPoint transformers = registry.getExtensionPoint(TransformerExtensionPoint.class);
+        List<Transformer> chain = transformers.getTransformerChain(JAXBDataBinding.NAME, XMLStringDataBinding.NAME);
+        // JAXB objects are marshaled straight to a string rather than through a DOM
+        Assert.assertEquals(1, chain.size());
+        Assert.assertTrue(chain.get(0) instanceof JAXB2String);
+    }
+
+    @Test
+    public void testTransform() throws Exception {
+        JAXB2String t = new JAXB2String(registry);
+        TransformationContext tContext = new TransformationContextImpl();
+        tContext.setSourceDataType(new DataTypeImpl<Class>(MyJaxbBean.class, null));
+        String xml = t.transform(new MyJaxbBean(), tContext);
+        Assert.assertTrue(xml.contains("myBean"));
+        Assert.assertTrue(xml.contains("http://ns1"));
+    }
+
+    @Test
+    public void testTransformRenamed() throws Exception {
+        JAXB2String t = new JAXB2String(registry);
+        TransformationContext tContext = new TransformationContextImpl();
+        tContext.setSourceDataType(new DataTypeImpl<Class>(MyJaxbBean.class, null));
+        QName name = new QName("http://ns2", "renamedBean");
+        DataType<XMLType> targetDataType = new DataTypeImpl<XMLType>(String.class, new XMLType(name, null));
+        tContext.setTargetDataType(targetDataType);
+        String xml = t.transform(new MyJaxbBean(), tContext);
+        Assert.assertTrue(xml.contains("renamedBean"));
+        Assert.assertTrue(xml.contains("http://ns2"));
+        Assert.assertFalse(xml.contains("myBean"));
+    }
+}
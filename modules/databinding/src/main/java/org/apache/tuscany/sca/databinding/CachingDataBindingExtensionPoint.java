@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.databinding;
+
+/**
+ * A databinding extension point which caches the databindings recognized for
+ * the classes of the introspected values, and can release the classes of a
+ * contribution.
+ *
+ * @version $Rev$ $Date$
+ * @tuscany.spi.extension.asclient
+ */
+public interface CachingDataBindingExtensionPoint extends DataBindingExtensionPoint {
+
+    /**
+     * Removes all the cached information relating to a contribution. The 
+     * contribution is identified by the contribution classloader passed in 
+     * as a parameter. This is used when a contribution is removed from 
+     * the runtime. 
+     * 
+     * @param contributionClassloader
+     */
+    void removeDataTypesForContribution(ClassLoader contributionClassloader);
+
+}
@@ -24,9 +24,12 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,12 +47,16 @@ import org.apache.tuscany.sca.interfacedef.util.XMLType;
  *
  * @version $Rev$ $Date$
  */
-public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoint {
+public class DefaultDataBindingExtensionPoint implements CachingDataBindingExtensionPoint {
     private ExtensionPointRegistry registry;
     private final Map<String, DataBinding> bindings = new HashMap<String, DataBinding>();
     private final List<DataBinding> databindings = new ArrayList<DataBinding>();
     private static final Logger logger = Logger.getLogger(DefaultDataBindingExtensionPoint.class.getName());
-    private boolean loadedDataBindings;
+    private volatile boolean loadedDataBindings;
+
+    // The databinding that recognizes the values of a class, or NO_DATABINDING
+    private final Map<Class<?>, Object> valueDataBindings = Collections.synchronizedMap(new WeakHashMap<Class<?>, Object>());
+    private static final Object NO_DATABINDING = new Object();
 
 //    public DefaultDataBindingExtensionPoint() {
 //    }
@@ -83,6 +90,7 @@ public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoi
         }
         databindings.add(dataBinding);
         bindings.put(dataBinding.getName().toLowerCase(), dataBinding);
+        valueDataBindings.clear();
 
     }
 
@@ -93,6 +101,7 @@ public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoi
         DataBinding dataBinding = bindings.remove(id.toLowerCase());
         if (dataBinding != null) {
             databindings.remove(dataBinding);
+            valueDataBindings.clear();
         }
         return dataBinding;
     }
@@ -100,9 +109,17 @@ public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoi
     /**
      * Dynamically load data bindings declared under META-INF/services
      */
-    private synchronized void loadDataBindings() {
+    private void loadDataBindings() {
         if (loadedDataBindings)
             return;
+        synchronized (this) {
+            if (loadedDataBindings)
+                return;
+            doLoadDataBindings();
+        }
+    }
+
+    private void doLoadDataBindings() {
 
         // Get the databinding service declarations
         Collection<ServiceDeclaration> dataBindingDeclarations;
@@ -243,6 +260,20 @@ public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoi
 
     public DataType introspectType(Object value, Operation operation) {
         loadDataBindings();
+
+        // The databindings recognize values by their class, so remember which one
+        // did rather than asking each of them again for the next value of the class
+        Class<?> cls = value.getClass();
+        Object cached = valueDataBindings.get(cls);
+        if (cached == NO_DATABINDING) {
+            return new DataTypeImpl<XMLType>(JavaBeansDataBinding.NAME, cls, XMLType.UNKNOWN);
+        } else if (cached != null) {
+            DataType dataType = ((DataBinding)cached).introspect(value, operation);
+            if (dataType != null) {
+                return dataType;
+            }
+        }
+
         DataType dataType = null;
         for (DataBinding binding : databindings) {
             // don't introspect for JavaBeansDatabinding as all javatypes will
@@ -253,9 +284,25 @@ public class DefaultDataBindingExtensionPoint implements DataBindingExtensionPoi
                 dataType = binding.introspect(value, operation);
             }
             if (dataType != null) {
+                valueDataBindings.put(cls, binding);
                 return dataType;
             }
         }
-        return new DataTypeImpl<XMLType>(JavaBeansDataBinding.NAME, value.getClass(), XMLType.UNKNOWN);
+        valueDataBindings.put(cls, NO_DATABINDING);
+        return new DataTypeImpl<XMLType>(JavaBeansDataBinding.NAME, cls, XMLType.UNKNOWN);
+    }
+
+    public void removeDataTypesForContribution(ClassLoader contributionClassloader) {
+        if (contributionClassloader == null) {
+            return;
+        }
+        synchronized (valueDataBindings) {
+            Iterator<Class<?>> i = valueDataBindings.keySet().iterator();
+            while (i.hasNext()) {
+                if (i.next().getClassLoader() == contributionClassloader) {
+                    i.remove();
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.databinding;
+
+import java.util.Map;
+
+import org.apache.tuscany.sca.interfacedef.Operation;
+
+/**
+ * A mediator which can work out the mediations between two operations ahead of time,
+ * so that they don't need to be looked up again for the data of each invocation.
+ *
+ * @version $Rev$ $Date$
+ * @tuscany.spi.extension.asclient
+ */
+public interface PlanningMediator extends Mediator {
+
+    /**
+     * Create a plan to transform the input parameters for the source operation to the expected
+     * parameters for the target operation, the equivalent of calling mediateInput with the same
+     * operations and metadata
+     * @param sourceOperation The source operation
+     * @param targetOperation The target operation
+     * @param metadata Additional metadata, which must not change after the plan is created
+     * @return The plan
+     */
+    MediationPlan createInputPlan(Operation sourceOperation, Operation targetOperation, Map<String, Object> metadata);
+
+    /**
+     * Create a plan to transform the return value for the target operation to the expected return
+     * value for the source operation, the equivalent of calling mediateOutput with the same
+     * operations and metadata
+     * @param sourceOperation The source operation
+     * @param targetOperation The target operation
+     * @param metadata Additional metadata, which must not change after the plan is created
+     * @return The plan
+     */
+    MediationPlan createOutputPlan(Operation sourceOperation, Operation targetOperation, Map<String, Object> metadata);
+
+    /**
+     * Create a plan to transform the fault data for the target operation to the expected fault
+     * data for the source operation, the equivalent of calling mediateFault with the same
+     * operations and metadata
+     * @param sourceOperation The source operation
+     * @param targetOperation The target operation
+     * @param metadata Additional metadata, which must not change after the plan is created
+     * @return The plan
+     */
+    MediationPlan createFaultPlan(Operation sourceOperation, Operation targetOperation, Map<String, Object> metadata);
+
+}
@@ -39,7 +39,8 @@ import org.apache.tuscany.sca.databinding.DataBinding;
 import org.apache.tuscany.sca.databinding.DataBindingExtensionPoint;
 import org.apache.tuscany.sca.databinding.DataPipe;
 import org.apache.tuscany.sca.databinding.DataPipeTransformer;
-import org.apache.tuscany.sca.databinding.Mediator;
+import org.apache.tuscany.sca.databinding.MediationPlan;
+import org.apache.tuscany.sca.databinding.PlanningMediator;
 import org.apache.tuscany.sca.databinding.PullTransformer;
 import org.apache.tuscany.sca.databinding.PushTransformer;
 import org.apache.tuscany.sca.databinding.TransformationContext;
@@ -64,7 +65,7 @@ import org.oasisopen.sca.ServiceRuntimeException;
  * @version $Rev$ $Date$
  * @tuscany.spi.extension.asclient
  */
-public class MediatorImpl implements Mediator {
+public class MediatorImpl implements PlanningMediator {
 
     private ExtensionPointRegistry registry;
     private DataBindingExtensionPoint dataBindings;
@@ -139,13 +140,9 @@ public class MediatorImpl implements Mediator {
             (index == size - 1) ? targetDataType : new DataTypeImpl<Object>(transformer.getTargetDataBinding(),
                                                                             Object.class, targetDataType.getLogical());
 
-         Map<String, Object> copy = new HashMap<String, Object>();
-        if (metadata != null) {
-            copy.putAll(metadata);
-        }
-        copy.put(ExtensionPointRegistry.class.getName(), registry);
-
-        TransformationContext context = new TransformationContextImpl(sourceType, targetType, copy);
+        // The context takes its own copy of the metadata
+        TransformationContext context = new TransformationContextImpl(sourceType, targetType, metadata);
+        context.getMetadata().put(ExtensionPointRegistry.class.getName(), registry);
         return context;
     }
 
@@ -317,19 +314,7 @@ public class MediatorImpl implements Mediator {
             throw new ServiceRuntimeException(cause);
         }
 
-        Map<String, Object> context = new HashMap<String, Object>();
-        if (metadata != null) {
-            context.putAll(metadata);
-        }
-        if (targetOperation != null) {
-            context.put(SOURCE_OPERATION, targetOperation);
-        }
-        if (sourceOperation != null) {
-            context.put(TARGET_OPERATION, sourceOperation);
-        }
-        if (context.get(BODY_TYPE) == null) {
-            context.put(BODY_TYPE, BODY_TYPE_FAULT);
-        }
+        Map<String, Object> context = createMetadata(metadata, targetOperation, sourceOperation, BODY_TYPE_FAULT);
 
 
         Object newResult =
@@ -397,19 +382,7 @@ public class MediatorImpl implements Mediator {
         if (sourceType == targetType || (sourceType != null && sourceType.equals(targetType))) {
             return output;
         }
-        Map<String, Object> context = new HashMap<String, Object>();
-        if (metadata != null) {
-            context.putAll(metadata);
-        }
-        if (targetOperation != null) {
-            context.put(SOURCE_OPERATION, targetOperation);
-        }
-        if (sourceOperation != null) {
-            context.put(TARGET_OPERATION, sourceOperation);
-        }
-        if (context.get(BODY_TYPE) == null) {
-            context.put(BODY_TYPE, BODY_TYPE_OUTPUT);
-        }
+        Map<String, Object> context = createMetadata(metadata, targetOperation, sourceOperation, BODY_TYPE_OUTPUT);
 
         return mediate(output, targetType, sourceType, context);
     }
@@ -427,6 +400,22 @@ public class MediatorImpl implements Mediator {
         if (sourceType == targetType || (sourceType != null && sourceType.equals(targetType))) {
             return input;
         }
+        Map<String, Object> context = createMetadata(metadata, sourceOperation, targetOperation, BODY_TYPE_INPUT);
+        
+        return mediate(input, sourceType, targetType, context);
+    }
+
+    /**
+     * Create the metadata for the transformation of the data of an operation
+     * @param metadata Additional metadata
+     * @param sourceOperation The operation the data is transformed from
+     * @param targetOperation The operation the data is transformed to
+     * @param bodyType The default body type
+     */
+    private Map<String, Object> createMetadata(Map<String, Object> metadata,
+                                               Operation sourceOperation,
+                                               Operation targetOperation,
+                                               String bodyType) {
         Map<String, Object> context = new HashMap<String, Object>();
         if (metadata != null) {
             context.putAll(metadata);
@@ -438,10 +427,168 @@ public class MediatorImpl implements Mediator {
             context.put(TARGET_OPERATION, targetOperation);
         }
         if (context.get(BODY_TYPE) == null) {
-            context.put(BODY_TYPE, BODY_TYPE_INPUT);
+            context.put(BODY_TYPE, bodyType);
+        }
+        return context;
+    }
+
+    public MediationPlan createInputPlan(Operation sourceOperation,
+                                         Operation targetOperation,
+                                         Map<String, Object> metadata) {
+        DataType sourceType = sourceOperation.getInputType();
+        DataType targetType = targetOperation.getInputType();
+
+        if (sourceType == targetType || (sourceType != null && sourceType.equals(targetType))) {
+            return IDENTITY_PLAN;
+        }
+        Map<String, Object> context = createMetadata(metadata, sourceOperation, targetOperation, BODY_TYPE_INPUT);
+        return createPlan(sourceType, targetType, context);
+    }
+
+    public MediationPlan createOutputPlan(Operation sourceOperation,
+                                          Operation targetOperation,
+                                          Map<String, Object> metadata) {
+        DataType sourceType = sourceOperation.getOutputType();
+        DataType targetType = targetOperation.getOutputType();
+
+        if (sourceType == targetType || (sourceType != null && sourceType.equals(targetType))) {
+            return IDENTITY_PLAN;
+        }
+        Map<String, Object> context = createMetadata(metadata, targetOperation, sourceOperation, BODY_TYPE_OUTPUT);
+        return createPlan(targetType, sourceType, context);
+    }
+
+    public MediationPlan createFaultPlan(Operation sourceOperation,
+                                         Operation targetOperation,
+                                         Map<String, Object> metadata) {
+        Map<String, Object> context = createMetadata(metadata, targetOperation, sourceOperation, BODY_TYPE_FAULT);
+
+        // Work out the plan for each fault type of the target operation as mediateFault does
+        Map<DataType, MediationPlan> plans = new IdentityHashMap<DataType, MediationPlan>();
+        for (DataType targetDataType : targetOperation.getFaultTypes()) {
+            DataType targetFaultType = getFaultType(targetDataType);
+            if (targetFaultType == null) {
+                continue;
+            }
+            for (DataType sourceDataType : sourceOperation.getFaultTypes()) {
+                DataType sourceFaultType = getFaultType(sourceDataType);
+                if (sourceFaultType != null && typesMatch(targetFaultType.getLogical(), sourceFaultType.getLogical())) {
+                    if (targetFaultType.equals(sourceFaultType)) {
+                        plans.put(targetDataType, IDENTITY_PLAN);
+                    } else {
+                        DataType<DataType> eSourceDataType =
+                            new DataTypeImpl<DataType>(IDL_FAULT, targetDataType.getPhysical(), targetFaultType);
+                        DataType<DataType> eTargetDataType =
+                            new DataTypeImpl<DataType>(IDL_FAULT, sourceDataType.getPhysical(), sourceFaultType);
+                        plans.put(targetDataType, createPlan(eSourceDataType, eTargetDataType, context));
+                    }
+                    break;
+                }
+            }
+        }
+        return new FaultPlan(targetOperation, plans);
+    }
+
+    /**
+     * Create a plan for the transformation between two data types
+     */
+    private MediationPlan createPlan(final DataType sourceDataType,
+                                     final DataType targetDataType,
+                                     final Map<String, Object> metadata) {
+        if (sourceDataType != null && sourceDataType.getDataBinding() != null && targetDataType != null) {
+            if (sourceDataType.equals(targetDataType)) {
+                return IDENTITY_PLAN;
+            }
+            List<Transformer> path =
+                transformers.getTransformerChain(sourceDataType.getDataBinding(), targetDataType.getDataBinding());
+            if (path != null) {
+                return new TransformationPlan(sourceDataType, targetDataType, path, metadata);
+            }
+        }
+
+        // The source data type has to be introspected from the data, or the missing
+        // transformation reported, on each invocation
+        return new MediationPlan() {
+            public Object mediate(Object source) {
+                return MediatorImpl.this.mediate(source, sourceDataType, targetDataType, metadata);
+            }
+        };
+    }
+
+    private static final MediationPlan IDENTITY_PLAN = new MediationPlan() {
+        public Object mediate(Object source) {
+            return source;
+        }
+    };
+
+    /**
+     * A plan for the transformation between two data types, with the transformer chain
+     * and the transformation context of each step created once
+     */
+    private class TransformationPlan implements MediationPlan {
+        private final Transformer[] path;
+        private final TransformationContext[] contexts;
+
+        TransformationPlan(DataType sourceDataType,
+                           DataType targetDataType,
+                           List<Transformer> path,
+                           Map<String, Object> metadata) {
+            int size = path.size();
+            this.path = path.toArray(new Transformer[size]);
+            this.contexts = new TransformationContext[size];
+            for (int i = 0; i < size; i++) {
+                contexts[i] = createTransformationContext(sourceDataType, targetDataType, size, i, this.path[i], metadata);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public Object mediate(Object source) {
+            Object result = source;
+            int size = path.length;
+            for (int i = 0; i < size; i++) {
+                Transformer transformer = path[i];
+                TransformationContext context = contexts[i];
+                if (transformer instanceof PullTransformer) {
+                    result = ((PullTransformer)transformer).transform(result, context);
+                } else if (transformer instanceof PushTransformer) {
+                    DataPipeTransformer dataPipeFactory = (i < size - 1) ? (DataPipeTransformer)path[++i] : null;
+                    DataPipe dataPipe = dataPipeFactory == null ? null : dataPipeFactory.newInstance();
+                    ((PushTransformer)transformer).transform(result, dataPipe.getSink(), context);
+                    result = dataPipe.getResult();
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A plan for the transformation of faults, with a plan for each fault type of the
+     * target operation that has a matching fault type in the source operation
+     */
+    private class FaultPlan implements MediationPlan {
+        private final Operation targetOperation;
+        private final Map<DataType, MediationPlan> plans;
+
+        FaultPlan(Operation targetOperation, Map<DataType, MediationPlan> plans) {
+            this.targetOperation = targetOperation;
+            this.plans = plans;
+        }
+
+        public Object mediate(Object fault) {
+            // If the result is from an InvocationTargetException look at
+            // the actual cause.
+            if (fault instanceof InvocationTargetException) {
+                fault = ((InvocationTargetException)fault).getCause();
+            }
+            DataType targetDataType = findFaultDataType(targetOperation, fault);
+            MediationPlan plan = targetDataType == null ? null : plans.get(targetDataType);
+            if (plan == null) {
+                // No matching fault type, it's a system exception
+                Throwable cause = (Throwable)fault;
+                throw new ServiceRuntimeException(cause);
+            }
+            return plan.mediate(fault);
         }
-        
-        return mediate(input, sourceType, targetType, context);
     }
 
     public TransformationContext createTransformationContext() {
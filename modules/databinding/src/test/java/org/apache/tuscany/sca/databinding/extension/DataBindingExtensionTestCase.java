@@ -29,6 +29,7 @@ import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
 import org.apache.tuscany.sca.databinding.BaseDataBinding;
 import org.apache.tuscany.sca.databinding.DataBindingExtensionPoint;
 import org.apache.tuscany.sca.databinding.DefaultDataBindingExtensionPoint;
+import org.apache.tuscany.sca.databinding.javabeans.JavaBeansDataBinding;
 import org.apache.tuscany.sca.interfacedef.DataType;
 import org.apache.tuscany.sca.interfacedef.impl.DataTypeImpl;
 import org.junit.Test;
@@ -61,6 +62,32 @@ public class DataBindingExtensionTestCase {
         assertEquals("dom", binding2.getName());
     }
 
+    @Test
+    public void testIntrospectValue() {
+        DefaultDataBindingExtensionPoint registry = new DefaultDataBindingExtensionPoint(new DefaultExtensionPointRegistry());
+        DataBinding1 binding1 = new DataBinding1(Payload.class);
+        registry.addDataBinding(binding1);
+
+        // The second introspection of the class uses the cached databinding
+        for (int i = 0; i < 2; i++) {
+            DataType dt = registry.introspectType(new Payload(), null);
+            assertEquals(binding1.getName(), dt.getDataBinding());
+            assertEquals(Payload.class, dt.getPhysical());
+        }
+
+        // Removing the databinding clears the cache
+        registry.removeDataBinding(binding1.getName());
+        DataType dt = registry.introspectType(new Payload(), null);
+        assertEquals(JavaBeansDataBinding.NAME, dt.getDataBinding());
+
+        registry.removeDataTypesForContribution(Payload.class.getClassLoader());
+        dt = registry.introspectType(new Payload(), null);
+        assertEquals(JavaBeansDataBinding.NAME, dt.getDataBinding());
+    }
+
+    private static class Payload {
+    }
+
     private static class DataBinding1 extends BaseDataBinding {
 
         /**
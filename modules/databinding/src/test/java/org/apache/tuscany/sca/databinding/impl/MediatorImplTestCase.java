@@ -26,6 +26,7 @@ import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.databinding.DataBindingExtensionPoint;
 import org.apache.tuscany.sca.databinding.DefaultDataBindingExtensionPoint;
 import org.apache.tuscany.sca.databinding.DefaultTransformerExtensionPoint;
+import org.apache.tuscany.sca.databinding.MediationPlan;
 import org.apache.tuscany.sca.databinding.TransformationContext;
 import org.apache.tuscany.sca.databinding.TransformerExtensionPoint;
 import org.apache.tuscany.sca.databinding.xml.Node2String;
@@ -33,7 +34,9 @@ import org.apache.tuscany.sca.databinding.xml.Node2Writer;
 import org.apache.tuscany.sca.databinding.xml.SAX2DOMPipe;
 import org.apache.tuscany.sca.databinding.xml.String2SAX;
 import org.apache.tuscany.sca.interfacedef.DataType;
+import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.interfacedef.impl.DataTypeImpl;
+import org.apache.tuscany.sca.interfacedef.impl.OperationImpl;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -122,4 +125,26 @@ public class MediatorImplTestCase {
         Assert.assertTrue(str != null && str.indexOf("<shipDate>1999-12-05</shipDate>") != -1);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInputPlan() {
+        TransformationContext context = createTransformationContext(String.class, Node.class);
+        Operation sourceOperation = new OperationImpl();
+        sourceOperation.setInputType((DataType)context.getSourceDataType());
+        Operation targetOperation = new OperationImpl();
+        targetOperation.setInputType((DataType)context.getTargetDataType());
+
+        MediationPlan plan = mediator.createInputPlan(sourceOperation, targetOperation, null);
+        for (int i = 0; i < 2; i++) {
+            Object node = plan.mediate(IPO_XML);
+            Assert.assertTrue(node instanceof Document);
+            Element root = ((Document)node).getDocumentElement();
+            Assert.assertEquals(root.getLocalName(), "purchaseOrder");
+        }
+
+        // No transformation is needed between the same types
+        plan = mediator.createInputPlan(sourceOperation, sourceOperation, null);
+        Assert.assertSame(IPO_XML, plan.mediate(IPO_XML));
+    }
+
 }
@@ -503,6 +503,7 @@ public class DeployerImpl implements Deployer {
     public Composite build(List<Contribution> contributions, List<Contribution> allContributions, Contribution systemContribution, Map<QName, List<String>> bindingMap, Monitor monitor)
         throws ContributionResolveException, CompositeBuilderException {
         init();
+        PhaseTimer timer = new PhaseTimer(logger, "Deployer build: " + contributions.size() + " contribution(s)");
         List<Contribution> contributionList = new ArrayList<Contribution>(contributions);
         
         if (systemContribution == null) {
@@ -550,15 +551,19 @@ public class DeployerImpl implements Deployer {
             }
         }
 
+        timer.phase("aggregate definitions");
+
         ExtensibleModelResolver modelResolver =
             new ExtensibleModelResolver(new Contributions(contributionList), modelResolvers, modelFactories);
 
         // now resolve and add the system contribution
         contributionProcessor.resolve(systemContribution, modelResolver, context);
         contributionList.add(systemContribution);
+        timer.phase("resolve system contribution");
 
         // pre-resolve the contributions
         contributionsPreresolve(contributionList, modelResolver, context);
+        timer.phase("preresolve contributions");
 
         // Build the contribution dependencies
         Set<Contribution> resolved = new HashSet<Contribution>();
@@ -575,6 +580,8 @@ public class DeployerImpl implements Deployer {
             }
         }
 
+        timer.phase("resolve contributions");
+
         // Create a top level composite to host our composite
         // This is temporary to make the activator happy
         Composite domainComposite = assemblyFactory.createComposite();
@@ -600,18 +607,22 @@ public class DeployerImpl implements Deployer {
         // build the top level composite
         BuilderContext builderContext = new BuilderContext(systemDefinitions, bindingMap, monitor);
         compositeBuilder.build(domainComposite, builderContext);
+        timer.phase("build domain composite");
 
         // only do the local build if we know no errors have been detected   
         if (!monitor.isErrorDetected()) {
             // do build time reference binding
             buildTimeReferenceBind(domainComposite, builderContext);     
+            timer.phase("bind references");
         }
+        timer.log();
 
         return domainComposite;
     }
     
     public void resolve(List<Contribution> contributionList, Contribution systemContribution, Monitor monitor) throws ContributionResolveException, CompositeBuilderException {
         init();
+        PhaseTimer timer = new PhaseTimer(logger, "Deployer resolve: " + contributionList.size() + " contribution(s)");
 
         if (systemContribution == null) {
             systemContribution = cloneSystemContribution(monitor);
@@ -658,15 +669,19 @@ public class DeployerImpl implements Deployer {
             }
         }
 
+        timer.phase("aggregate definitions");
+
         ExtensibleModelResolver modelResolver =
             new ExtensibleModelResolver(new Contributions(contributionList), modelResolvers, modelFactories);
 
         // now resolve and add the system contribution
         contributionProcessor.resolve(systemContribution, modelResolver, context);
         contributionList.add(systemContribution);
+        timer.phase("resolve system contribution");
 
         // pre-resolve the contributions
         contributionsPreresolve(contributionList, modelResolver, context);
+        timer.phase("preresolve contributions");
 
         // Build the contribution dependencies
         Set<Contribution> resolved = new HashSet<Contribution>();
@@ -682,6 +697,8 @@ public class DeployerImpl implements Deployer {
                 }
             }
         }
+        timer.phase("resolve contributions");
+        timer.log();
     }
 
     public Artifact loadArtifact(URI uri, URL location, Monitor monitor) throws ContributionReadException {
@@ -757,9 +774,12 @@ public class DeployerImpl implements Deployer {
 
     public Contribution loadContribution(URI uri, URL location, Monitor monitor) throws ContributionReadException {
         init();
+        PhaseTimer timer = new PhaseTimer(logger, "Deployer load: " + uri);
         ProcessorContext context = new ProcessorContext(monitor);
         // Load the contribution
         Contribution contribution = contributionProcessor.read(null, uri, location, context);
+        timer.phase("read " + contribution.getArtifacts().size() + " artifact(s)");
+        timer.log();
         return contribution;
     }
 
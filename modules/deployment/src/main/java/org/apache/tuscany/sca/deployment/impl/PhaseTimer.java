@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.deployment.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the time spent in the successive phases of a deployment step and
+ * logs them as a single report at FINE level.
+ *
+ * @version $Rev$ $Date$
+ */
+class PhaseTimer {
+    private final Logger logger;
+    private final boolean enabled;
+    private final StringBuilder report;
+    private final long begin;
+    private long start;
+
+    PhaseTimer(Logger logger, String step) {
+        this.logger = logger;
+        this.enabled = logger.isLoggable(Level.FINE);
+        this.report = enabled ? new StringBuilder(step) : null;
+        this.begin = enabled ? System.nanoTime() : 0L;
+        this.start = begin;
+    }
+
+    /**
+     * Mark the end of a phase.
+     *
+     * @param phase the name of the phase
+     */
+    void phase(String phase) {
+        if (enabled) {
+            long now = System.nanoTime();
+            report.append("\n  ").append(phase).append(": ").append((now - start) / 1000000).append(" ms");
+            start = now;
+        }
+    }
+
+    /**
+     * Log the report.
+     */
+    void log() {
+        if (enabled) {
+            report.append("\n  total: ").append((System.nanoTime() - begin) / 1000000).append(" ms");
+            logger.fine(report.toString());
+        }
+    }
+}
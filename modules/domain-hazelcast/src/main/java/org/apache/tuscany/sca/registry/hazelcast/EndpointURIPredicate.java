@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.registry.hazelcast;
+
+import org.apache.tuscany.sca.assembly.impl.EndpointImpl;
+
+import com.hazelcast.core.MapEntry;
+import com.hazelcast.query.Predicate;
+
+/**
+ * A query predicate matching the entries of a map keyed by endpoint URI against a
+ * service URI. The predicate is evaluated by the members owning the entries, so
+ * only the matching entries are returned to the caller.
+ */
+class EndpointURIPredicate implements Predicate<String, String> {
+    private static final long serialVersionUID = -3415634125216356475L;
+
+    private final String serviceURI;
+
+    EndpointURIPredicate(String serviceURI) {
+        this.serviceURI = serviceURI;
+    }
+
+    public boolean apply(MapEntry<String, String> mapEntry) {
+        return EndpointImpl.matches(mapEntry.getKey(), serviceURI);
+    }
+}
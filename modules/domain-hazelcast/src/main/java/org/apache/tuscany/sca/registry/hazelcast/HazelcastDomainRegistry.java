@@ -87,11 +87,15 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
 
     protected Map<Object, Object> endpointMap;
     protected MultiMap<String, String> endpointOwners;
+    // key endpointURI, value member, the reverse of endpointOwners
+    protected IMap<String, String> endpointMembers;
     
     // key contributionURI, value map key compositeURI value compositeXML
     protected Map<String, Map<String, String>> runningComposites;
     // key member, value map key contributionURI value list of compositeURI 
     protected Map<String, Map<String, List<String>>> runningCompositeOwners;
+    // key contributionURI|compositeURI, value member, the reverse of runningCompositeOwners
+    protected Map<String, String> runningCompositeMembers;
     // key componentName, value contributionURI
     protected Map<String, String> runningComponentContributions;
 
@@ -135,9 +139,11 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
             endpointMap = imap;
             
             endpointOwners = hazelcastInstance.getMultiMap(domainURI + "/EndpointOwners");
+            endpointMembers = hazelcastInstance.getMap(domainURI + "/EndpointMembers");
 
             runningComposites = hazelcastInstance.getMap(domainURI + "/RunningComposites");
             runningCompositeOwners = hazelcastInstance.getMap(domainURI + "/RunningCompositeOwners");
+            runningCompositeMembers = hazelcastInstance.getMap(domainURI + "/RunningCompositeMembers");
             runningComponentContributions = hazelcastInstance.getMap(domainURI + "/RunningComponentContributions");
             
             contributionDescriptions = hazelcastInstance.getMap(domainURI + "/ContributionDescriptions");
@@ -172,8 +178,10 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
                 hazelcastInstance = null;
                 endpointMap = null;
                 endpointOwners = null;
+                endpointMembers = null;
                 runningComposites = null;
                 runningCompositeOwners = null;
+                runningCompositeMembers = null;
             }
         }
     }
@@ -293,6 +301,7 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
             localEndpoints.put(endpointURI, endpoint);
             endpointMap.put(endpointURI, endpoint);
             endpointOwners.put(localMemberAddr, endpointURI);
+            endpointMembers.put(endpointURI, localMemberAddr);
             if (curi != null) {
                 runningComponentContributions.put(componentName, curi);
             }
@@ -361,6 +370,7 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
             txn.begin();
             try {
                 endpointOwners.remove(localMemberAddr, endpointURI);
+                endpointMembers.remove(endpointURI);
                 endpointMap.remove(endpointURI);
                 runningComponentContributions.remove(componentName);
                 txn.commit();
@@ -421,24 +431,40 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
     public void memberRemoved(MembershipEvent event) {
         try {
             String memberAddr = event.getMember().getInetSocketAddress().toString();
-            if (endpointOwners.containsKey(memberAddr)) {
+            if (endpointOwners.containsKey(memberAddr) || runningCompositeOwners.containsKey(memberAddr)) {
                 synchronized (shutdownMutex) {
                     ILock lock = hazelcastInstance.getLock("EndpointOwners/" + memberAddr);
                     lock.lock();
                     try {
+                        // Only the entries owned by the member are visited
                         if (endpointOwners.containsKey(memberAddr)) {
                             Collection<String> keys = endpointOwners.remove(memberAddr);
-                            for (Object k : keys) {
+                            for (String k : keys) {
+                                endpointMembers.remove(k);
                                 Endpoint endpoint = (Endpoint)endpointMap.remove(k);
-                                runningComponentContributions.remove(endpoint.getComponent().getName());
+                                if (endpoint != null) {
+                                    runningComponentContributions.remove(endpoint.getComponent().getName());
+                                }
                             }
                         }
-                        if (runningCompositeOwners.containsKey(memberAddr)) {
-                            Map<String, List<String>> cs = runningCompositeOwners.remove(memberAddr);
-                            for (String curi : cs.keySet()) {
+                        Map<String, List<String>> cs = runningCompositeOwners.remove(memberAddr);
+                        if (cs != null) {
+                            for (Map.Entry<String, List<String>> e : cs.entrySet()) {
+                                String curi = e.getKey();
                                 Map<String, String> rcs = runningComposites.get(curi);
-                                for (String uri : cs.get(curi)) {
-                                    rcs.remove(uri);
+                                for (String uri : e.getValue()) {
+                                    runningCompositeMembers.remove(getCompositeKey(curi, uri));
+                                    if (rcs != null) {
+                                        rcs.remove(uri);
+                                    }
+                                }
+                                // The map is a copy so it has to be put back
+                                if (rcs != null) {
+                                    if (rcs.isEmpty()) {
+                                        runningComposites.remove(curi);
+                                    } else {
+                                        runningComposites.put(curi, rcs);
+                                    }
                                 }
                             }
                         }
@@ -458,22 +484,30 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
     }
 
     public Member getOwningMember(String serviceURI) {
-        for (String memberAddr : endpointOwners.keySet()) {
-            for (String service : endpointOwners.get(memberAddr)) {
-                Endpoint ep = assemblyFactory.createEndpoint();
-                ep.setURI(service);
-                if (ep.matches(serviceURI)) {
-                    for (Member m : getHazelcastInstance().getCluster().getMembers()) {
-                        if (memberAddr.equals(m.getInetSocketAddress().toString())) {
-                            return m;
-                        }
-                    }
+        // Endpoint URIs are structural URIs, so only a structural service URI can be one of them
+        String memberAddr = serviceURI.indexOf('#') != -1 ? endpointMembers.get(serviceURI) : null;
+        if (memberAddr == null) {
+            // Match the endpoint URIs on the members owning them rather than pulling them all here
+            for (Map.Entry<String, String> e : endpointMembers.entrySet(new EndpointURIPredicate(serviceURI))) {
+                memberAddr = e.getValue();
+                break;
+            }
+        }
+        if (memberAddr != null) {
+            for (Member m : getHazelcastInstance().getCluster().getMembers()) {
+                if (memberAddr.equals(m.getInetSocketAddress().toString())) {
+                    return m;
                 }
             }
         }
         return null;
     }
 
+    private static String getCompositeKey(String contributionURI, String compositeURI) {
+        // '|' isn't allowed in URIs
+        return contributionURI + "|" + compositeURI;
+    }
+
     public void addRunningComposite(String curi, Composite composite) {
         String localMemberAddr = hazelcastInstance.getCluster().getLocalMember().getInetSocketAddress().toString();
         String compositeXML = writeComposite(composite);
@@ -497,6 +531,7 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
             }
             lcs.add(composite.getURI());
             runningCompositeOwners.put(localMemberAddr, ocs);
+            runningCompositeMembers.put(getCompositeKey(curi, composite.getURI()), localMemberAddr);
             txn.commit();
         } catch (Throwable e) {
             txn.rollback();
@@ -530,6 +565,7 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
                     }
                 }
             }
+            runningCompositeMembers.remove(getCompositeKey(curi, compositeURI));
             txn.commit();
         } catch (Throwable e) {
             txn.rollback();
@@ -633,16 +669,7 @@ public class HazelcastDomainRegistry extends BaseDomainRegistry implements Domai
 
     @Override
     public String getRunningNodeName(String contributionURI, String compositeURI) {
-        for (String m : runningCompositeOwners.keySet()) {
-            Map<String, List<String>> rcs = runningCompositeOwners.get(m);
-            if (rcs != null) {
-                List<String> cs = rcs.get(contributionURI);
-                if (cs != null && cs.contains(compositeURI)) {
-                    return m;
-                }
-            }
-        }
-        return null;
+        return runningCompositeMembers.get(getCompositeKey(contributionURI, compositeURI));
     }
 
     @Override
@@ -60,6 +60,8 @@ public class HazelcastClientEndpointRegistry extends HazelcastDomainRegistry {
         initHazelcastClientInstance();
         endpointMap = hazelcastClient.getMap(rc.getUserid() + "/Endpoints");
         endpointOwners = hazelcastClient.getMultiMap(rc.getUserid() + "/EndpointOwners");
+        endpointMembers = hazelcastClient.getMap(rc.getUserid() + "/EndpointMembers");
+        runningCompositeMembers = hazelcastClient.getMap(rc.getUserid() + "/RunningCompositeMembers");
         runningComponentContributions = hazelcastClient.getMap(rc.getUserid() + "/RunningComponentContributions");
         contributionDescriptions = hazelcastClient.getMap(rc.getUserid() + "/ContributionDescriptions");
     }
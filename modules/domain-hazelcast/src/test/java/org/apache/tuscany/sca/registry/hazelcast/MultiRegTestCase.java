@@ -21,9 +21,12 @@ package org.apache.tuscany.sca.registry.hazelcast;
 
 import java.util.Properties;
 
+import javax.xml.namespace.QName;
+
 import org.apache.tuscany.sca.assembly.AssemblyFactory;
 import org.apache.tuscany.sca.assembly.Binding;
 import org.apache.tuscany.sca.assembly.Component;
+import org.apache.tuscany.sca.assembly.Composite;
 import org.apache.tuscany.sca.assembly.Endpoint;
 import org.apache.tuscany.sca.assembly.SCABindingFactory;
 import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
@@ -146,6 +149,46 @@ public class MultiRegTestCase {
         reg2.stop();
     }
 
+    @Test
+    public void testOwners() throws Exception {
+        HazelcastDomainRegistry reg1 = new HazelcastDomainRegistry(extensionPoints, (Properties)null, "tuscany:foo?bind=127.0.0.1:9876&multicast=off", "bar");
+        reg1.start();
+        RuntimeEndpoint ep1 = createEndpoint("comp1#service-binding(Service1/binding1)");
+        ep1.getComponent().setName("comp1");
+        ep1.bind(extensionPoints, reg1);
+        reg1.addEndpoint(ep1);
+        Composite composite = assemblyFactory.createComposite();
+        composite.setName(new QName("http://test", "composite1"));
+        composite.setURI("composite1.composite");
+        reg1.addRunningComposite("contribution1", composite);
+
+        HazelcastDomainRegistry reg2 = new HazelcastDomainRegistry(extensionPoints, (Properties)null, "tuscany:foo?bind=127.0.0.1:9877&multicast=off&wka=127.0.0.1:9876", "bar");
+        reg2.start();
+
+        String reg1Addr = reg1.getHazelcastInstance().getCluster().getLocalMember().getInetSocketAddress().toString();
+
+        // Exact and matched lookups of the endpoint
+        Assert.assertEquals(reg1Addr, reg2.getOwningMember("comp1#service-binding(Service1/binding1)").getInetSocketAddress().toString());
+        Assert.assertEquals(reg1Addr, reg2.getOwningMember("comp1/Service1").getInetSocketAddress().toString());
+        Assert.assertEquals(reg1Addr, reg2.getOwningMember("comp1").getInetSocketAddress().toString());
+        Assert.assertNull(reg2.getOwningMember("comp1/Service2"));
+        Assert.assertNull(reg2.getOwningMember("comp2"));
+
+        Assert.assertEquals(reg1Addr, reg2.getRunningNodeName("contribution1", "composite1.composite"));
+        Assert.assertNull(reg2.getRunningNodeName("contribution1", "composite2.composite"));
+
+        // The entries of a member are removed when it leaves
+        reg1.stop();
+        Thread.sleep(500);
+
+        Assert.assertNull(reg2.getOwningMember("comp1/Service1"));
+        Assert.assertNull(reg2.getRunningNodeName("contribution1", "composite1.composite"));
+        Assert.assertNull(reg2.getEndpoint("comp1#service-binding(Service1/binding1)"));
+        Assert.assertFalse(reg2.getRunningCompositeURIs().containsKey("contribution1"));
+
+        reg2.stop();
+    }
+
     private Endpoint assertExists(HazelcastDomainRegistry reg, String uri) throws InterruptedException {
         Endpoint ep = reg.getEndpoint(uri);
         Assert.assertNotNull(ep);
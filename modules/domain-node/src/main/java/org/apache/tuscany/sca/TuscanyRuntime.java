@@ -32,6 +32,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -63,6 +65,7 @@ import org.oasisopen.sca.ServiceRuntimeException;
  * run composites, and provides access to various utility APIs
  */
 public class TuscanyRuntime {
+    private static final Logger logger = Logger.getLogger(TuscanyRuntime.class.getName());
 
     public static final String DEFAUL_DOMAIN_NAME = "default";
     private Deployer deployer;
@@ -308,6 +311,9 @@ public class TuscanyRuntime {
 
         this.domainRegistryFactory = ExtensibleDomainRegistryFactory.getInstance(extensionPointRegistry);
 
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(((DefaultExtensionPointRegistry)extensionPointRegistry).getStartupReport());
+        }
     }
     
     /**
@@ -20,6 +20,9 @@ package org.apache.tuscany.sca.impl;
 
 import java.net.URLClassLoader;
 
+import org.apache.tuscany.sca.assembly.builder.BuilderExtensionPoint;
+import org.apache.tuscany.sca.assembly.builder.CachingContractBuilder;
+import org.apache.tuscany.sca.assembly.builder.ContractBuilder;
 import org.apache.tuscany.sca.common.xml.dom.DOMHelper;
 import org.apache.tuscany.sca.contribution.Contribution;
 import org.apache.tuscany.sca.contribution.java.impl.ClassLoaderModelResolver;
@@ -29,8 +32,11 @@ import org.apache.tuscany.sca.contribution.resolver.ModelResolver;
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.FactoryExtensionPoint;
 import org.apache.tuscany.sca.core.UtilityExtensionPoint;
+import org.apache.tuscany.sca.core.assembly.impl.InterfaceContractCache;
 import org.apache.tuscany.sca.core.invocation.ProxyFactory;
 import org.apache.tuscany.sca.core.invocation.ProxyFactoryExtensionPoint;
+import org.apache.tuscany.sca.databinding.CachingDataBindingExtensionPoint;
+import org.apache.tuscany.sca.databinding.DataBindingExtensionPoint;
 import org.apache.tuscany.sca.databinding.jaxb.JAXBContextHelper;
 import org.apache.tuscany.sca.interfacedef.java.JavaInterfaceFactory;
 
@@ -57,6 +63,20 @@ public class ContributionHelper {
         
         JavaInterfaceFactory javaInterfaceFactory = factoryExtensionPoint.getFactory(JavaInterfaceFactory.class);
         javaInterfaceFactory.removeInterfacesForContribution(contributionClassloader);
+
+        BuilderExtensionPoint builderExtensionPoint = extensionPointRegistry.getExtensionPoint(BuilderExtensionPoint.class);
+        ContractBuilder contractBuilder = builderExtensionPoint.getContractBuilder();
+        if (contractBuilder instanceof CachingContractBuilder) {
+            ((CachingContractBuilder)contractBuilder).removeContractsForContribution(contributionClassloader);
+        }
+
+        // The contracts read for remote endpoints may reference the classes of the contribution
+        InterfaceContractCache.getInstance(extensionPointRegistry).removeContractsForContribution(contributionClassloader);
+
+        DataBindingExtensionPoint dataBindingExtensionPoint = extensionPointRegistry.getExtensionPoint(DataBindingExtensionPoint.class);
+        if (dataBindingExtensionPoint instanceof CachingDataBindingExtensionPoint) {
+            ((CachingDataBindingExtensionPoint)dataBindingExtensionPoint).removeDataTypesForContribution(contributionClassloader);
+        }
         
         ProxyFactoryExtensionPoint proxyFactoryExtensionPoint = extensionPointRegistry.getExtensionPoint(ProxyFactoryExtensionPoint.class);
         ProxyFactory interfaceProxyFactory = proxyFactoryExtensionPoint.getInterfaceProxyFactory();
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.tuscany.sca.common.java.io.IOHelper;
+import org.apache.tuscany.sca.runtime.ContributionDescription;
+
+/**
+ * An on-disk cache of the metadata (deployables, imports and exports) found in
+ * contributions, so that installing an unchanged contribution when a node
+ * restarts doesn't need to read the whole contribution to find it.
+ * <p>
+ * Entries are keyed by contribution URI and location, and are validated against a
+ * fingerprint of the contribution content: the names, sizes and CRCs of the entries
+ * of an archive, or the names and contents of the files of a directory. Only file
+ * and directory contributions are cached. Only the metadata is cached, the
+ * contributions are still read when their composites are started.
+ */
+public class ContributionMetadataCache {
+    private static final Logger logger = Logger.getLogger(ContributionMetadataCache.class.getName());
+
+    private static final int MAGIC = 0x54534343; // TSCC
+    private static final int VERSION = 2;
+
+    private final File cacheDir;
+
+    public ContributionMetadataCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Configure the metadata of a contribution description from the cache.
+     *
+     * @return true if a valid cache entry was found
+     */
+    public boolean configureMetaData(ContributionDescription cd) {
+        File file = getContributionFile(cd);
+        if (file == null) {
+            return false;
+        }
+        File entry = getEntryFile(cd);
+        if (!entry.isFile()) {
+            return false;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)));
+            try {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    return false;
+                }
+                if (!cd.getURI().equals(in.readUTF()) || !cd.getURL().equals(in.readUTF())) {
+                    return false;
+                }
+                if (in.readLong() != fingerprint(file)) {
+                    return false;
+                }
+                List<String> deployables = readList(in);
+                List<String> javaExports = readList(in);
+                List<String> namespaceExports = readList(in);
+                List<String> javaImports = readList(in);
+                List<String> namespaceImports = readList(in);
+
+                cd.getDeployables().addAll(deployables);
+                cd.getJavaExports().addAll(javaExports);
+                cd.getNamespaceExports().addAll(namespaceExports);
+                cd.getJavaImports().addAll(javaImports);
+                cd.getNamespaceImports().addAll(namespaceImports);
+                return true;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Ignoring contribution metadata cache entry " + entry, e);
+            return false;
+        }
+    }
+
+    /**
+     * Store the metadata of a contribution description in the cache.
+     */
+    public void put(ContributionDescription cd) {
+        File file = getContributionFile(cd);
+        if (file == null) {
+            return;
+        }
+        File entry = getEntryFile(cd);
+        try {
+            cacheDir.mkdirs();
+
+            // Write to a temporary file first so concurrent readers never see a partial entry
+            File temp = File.createTempFile("contribution", ".tmp", cacheDir);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(cd.getURI());
+                out.writeUTF(cd.getURL());
+                out.writeLong(fingerprint(file));
+                writeList(out, cd.getDeployables());
+                writeList(out, cd.getJavaExports());
+                writeList(out, cd.getNamespaceExports());
+                writeList(out, cd.getJavaImports());
+                writeList(out, cd.getNamespaceImports());
+            } finally {
+                out.close();
+            }
+            entry.delete();
+            if (!temp.renameTo(entry)) {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Unable to write contribution metadata cache entry " + entry, e);
+        }
+    }
+
+    /**
+     * Remove the cache entry of a contribution.
+     */
+    public void remove(ContributionDescription cd) {
+        getEntryFile(cd).delete();
+    }
+
+    private File getEntryFile(ContributionDescription cd) {
+        String key = cd.getURI() + '\n' + cd.getURL();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            byte[] hash = digest.digest(key.getBytes("UTF-8"));
+            return new File(cacheDir, new BigInteger(1, hash).toString(16) + ".bin");
+        } catch (Exception e) {
+            return new File(cacheDir, Integer.toHexString(key.hashCode()) + ".bin");
+        }
+    }
+
+    static File getContributionFile(ContributionDescription cd) {
+        try {
+            URL url = IOHelper.getLocationAsURL(cd.getURL());
+            if (!"file".equals(url.getProtocol())) {
+                return null;
+            }
+            File file = new File(URI.create(url.toString()));
+            return file.exists() ? file : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compute a fingerprint of the content of a contribution archive or directory.
+     */
+    static long fingerprint(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e.getMessage());
+        }
+        if (file.isDirectory()) {
+            fingerprint(digest, file, "", new byte[8192]);
+        } else {
+            fingerprintArchive(digest, file);
+        }
+        return new BigInteger(1, digest.digest()).longValue();
+    }
+
+    private static void fingerprint(MessageDigest digest, File file, String path, byte[] buffer) throws IOException {
+        digest.update(path.getBytes("UTF-8"));
+        if (file.isDirectory()) {
+            File[] files = file.listFiles();
+            if (files == null) {
+                return;
+            }
+            // Make the fingerprint independent of the listing order
+            Arrays.sort(files);
+            for (File f : files) {
+                fingerprint(digest, f, path + '/' + f.getName(), buffer);
+            }
+        } else {
+            update(digest, file.length());
+            InputStream in = new FileInputStream(file);
+            try {
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    digest.update(buffer, 0, n);
+                }
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * The CRCs of the entries are read from the central directory of the archive,
+     * so the entries don't need to be decompressed.
+     */
+    private static void fingerprintArchive(MessageDigest digest, File file) throws IOException {
+        ZipFile zip = new ZipFile(file);
+        try {
+            List<String> names = new ArrayList<String>();
+            for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+                names.add(e.nextElement().getName());
+            }
+            // Make the fingerprint independent of the entry order
+            String[] sorted = names.toArray(new String[names.size()]);
+            Arrays.sort(sorted);
+            for (String name : sorted) {
+                ZipEntry entry = zip.getEntry(name);
+                digest.update(name.getBytes("UTF-8"));
+                update(digest, entry.getSize());
+                update(digest, entry.getCrc());
+            }
+        } finally {
+            zip.close();
+        }
+    }
+
+    private static void update(MessageDigest digest, long l) {
+        for (int i = 0; i < 8; i++) {
+            digest.update((byte)(l >>> (i * 8)));
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> list = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(in.readUTF());
+        }
+        return list;
+    }
+
+    private static void writeList(DataOutputStream out, List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String s : list) {
+            out.writeUTF(s);
+        }
+    }
+}
@@ -19,17 +19,22 @@
 
 package org.apache.tuscany.sca.impl;
 
+import java.io.File;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,18 +47,22 @@ import org.apache.tuscany.sca.assembly.Composite;
 import org.apache.tuscany.sca.assembly.xml.Utils;
 import org.apache.tuscany.sca.common.java.io.IOHelper;
 import org.apache.tuscany.sca.common.xml.dom.DOMHelper;
+import org.apache.tuscany.sca.contribution.Artifact;
 import org.apache.tuscany.sca.contribution.Contribution;
 import org.apache.tuscany.sca.contribution.ContributionMetadata;
 import org.apache.tuscany.sca.contribution.Import;
 import org.apache.tuscany.sca.contribution.java.JavaImport;
 import org.apache.tuscany.sca.contribution.namespace.NamespaceImport;
 import org.apache.tuscany.sca.contribution.processor.ContributionReadException;
+import org.apache.tuscany.sca.contribution.processor.ProcessorContext;
 import org.apache.tuscany.sca.contribution.resolver.ClassReference;
 import org.apache.tuscany.sca.contribution.resolver.ExtensibleModelResolver;
 import org.apache.tuscany.sca.contribution.resolver.ModelResolver;
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.UtilityExtensionPoint;
 import org.apache.tuscany.sca.deployment.Deployer;
+import org.apache.tuscany.sca.impl.hotupdate.HotUpdater;
+import org.apache.tuscany.sca.impl.hotupdate.LastModifiedTracker;
 import org.apache.tuscany.sca.monitor.Monitor;
 import org.apache.tuscany.sca.monitor.ValidationException;
 import org.apache.tuscany.sca.runtime.ActivationException;
@@ -87,6 +96,14 @@ public class NodeImpl implements Node {
     private boolean quietLogging;
 
     private boolean releaseOnUnload;
+
+    private ContributionMetadataCache metadataCache;
+
+    // the files of installed file system contributions, used to find what an update changes
+    private Map<String, LastModifiedTracker> contributionTrackers = new ConcurrentHashMap<String, LastModifiedTracker>();
+
+    // the hot updaters watching directories for this node, stopped when the node is stopped
+    private List<HotUpdater> hotUpdaters = new CopyOnWriteArrayList<HotUpdater>();
     
     private ContributionListener contributionListener;
 
@@ -136,6 +153,11 @@ public class NodeImpl implements Node {
         UtilityExtensionPoint utilities = extensionPointRegistry.getExtensionPoint(UtilityExtensionPoint.class);
         this.releaseOnUnload = Boolean.parseBoolean(utilities.getUtility(RuntimeProperties.class).getProperties().getProperty(RuntimeProperties.RELEASE_ON_UNLOAD, "true"));
 
+        String cacheDir = utilities.getUtility(RuntimeProperties.class).getProperties().getProperty(RuntimeProperties.CONTRIBUTION_METADATA_CACHE);
+        if (cacheDir != null) {
+            this.metadataCache = new ContributionMetadataCache(new File(cacheDir));
+        }
+
         this.quietLogging = Boolean.parseBoolean(utilities.getUtility(RuntimeProperties.class).getProperties().getProperty(RuntimeProperties.QUIET_LOGGING));
         if (logger.isLoggable(quietLogging? Level.FINE : Level.INFO)) logger.log(quietLogging? Level.FINE : Level.INFO, "domain: " + domainRegistry.getDomainName() + (!domainRegistry.getDomainName().equals(domainRegistry.getDomainURI()) ? "" : (" domainURI: " + domainRegistry.getDomainURI())));
     }
@@ -161,11 +183,22 @@ public class NodeImpl implements Node {
             return true;
         }
 
-        // do this if only updating if the contribution has been modified:
-        // if url equal and a file and last modified not changed
-            // if metadata url equal and a file and laqst modified not changed
-                 // if (dependent contributions uris not changed)
-                     // return false
+        // only update what's needed if the same file system contribution is being updated
+        LastModifiedTracker tracker = contributionTrackers.get(uri);
+        if (tracker != null && metaDataURL == null
+            && ic.getURL().equals(IOHelper.getLocationAsURL(contributionURL).toString())
+            && sameDependencies(ic.getDependentContributionURIs(), dependentContributionURIs)) {
+            if (!tracker.checkModified()) {
+                if (logger.isLoggable(Level.FINE)) logger.log(Level.FINE, "updateContribution: " + uri + " not modified");
+                return false;
+            }
+            Set<String> changes = tracker.getChanges();
+            if (isDeployableCompositesChange(ic, changes) && updateDeployableComposites(uri, changes)) {
+                // the changes have been applied, so they're no longer reported by the tracker
+                tracker.commit();
+                return true;
+            }
+        }
 
         uninstallContribution(uri);
 
@@ -200,6 +233,26 @@ public class NodeImpl implements Node {
         if (logger.isLoggable(quietLogging? Level.FINE : Level.INFO)) logger.log(quietLogging? Level.FINE : Level.INFO, "updateContribution: " + uri);
         return true;
     }
+
+    private static boolean sameDependencies(List<String> installed, List<String> dependentContributionURIs) {
+        if (dependentContributionURIs == null) {
+            return installed.isEmpty();
+        }
+        return installed.equals(dependentContributionURIs);
+    }
+
+    private static boolean isDeployableCompositesChange(ContributionDescription cd, Set<String> changes) {
+        File file = ContributionMetadataCache.getContributionFile(cd);
+        if (file == null || !file.isDirectory()) {
+            return false;
+        }
+        for (String path : changes) {
+            if (!cd.getDeployables().contains(path) || !new File(file, path).isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
     
     public String installContribution(String uri, String contributionURL, String metaDataURL, List<String> dependentContributionURIs) throws ContributionReadException, ValidationException {
         if (logger.isLoggable(Level.FINE)) {
@@ -207,18 +260,30 @@ public class NodeImpl implements Node {
         }
         ContributionDescription cd = new ContributionDescription(uri, IOHelper.getLocationAsURL(contributionURL).toString());
 
+        // track the files as they are before reading them, so that changes made meanwhile are seen
+        File file = metaDataURL == null ? ContributionMetadataCache.getContributionFile(cd) : null;
+        LastModifiedTracker tracker = file != null ? new LastModifiedTracker(file) : null;
+
         if (dependentContributionURIs != null) {
             cd.getDependentContributionURIs().addAll(dependentContributionURIs);
         }
         
         if (metaDataURL != null) {
             mergeContributionMetaData(metaDataURL, loadContribution(cd));
+            peekIntoContribution(cd);
+        } else if (metadataCache == null || !metadataCache.configureMetaData(cd)) {
+            peekIntoContribution(cd);
+            if (metadataCache != null && loadedContributions.containsKey(cd.getURI())) {
+                metadataCache.put(cd);
+            }
         }
 
-        peekIntoContribution(cd);
-
         domainRegistry.installContribution(cd);
 
+        if (tracker != null) {
+            contributionTrackers.put(cd.getURI(), tracker);
+        }
+
         if (logger.isLoggable(quietLogging? Level.FINE : Level.INFO)) logger.log(quietLogging? Level.FINE : Level.INFO, "installContribution: " + cd.getURI());
         return cd.getURI();
     }
@@ -241,6 +306,13 @@ public class NodeImpl implements Node {
 
     	// note that the contribution listener that this class registers will free up the contribution's resources
     	
+        contributionTrackers.remove(contributionURI);
+        if (metadataCache != null) {
+            ContributionDescription cd = domainRegistry.getInstalledContribution(contributionURI);
+            if (cd != null) {
+                metadataCache.remove(cd);
+            }
+        }
         domainRegistry.uninstallContribution(contributionURI);
         
         // remove any stopped composite that used the contribution
@@ -573,7 +645,27 @@ public class NodeImpl implements Node {
         return extensionPointRegistry;
     }
     
+    /**
+     * Get the tracker of the files of a contribution installed from the file system,
+     * or null if the contribution isn't tracked
+     */
+    public LastModifiedTracker getContributionTracker(String contributionURI) {
+        return contributionTrackers.get(contributionURI);
+    }
+
+    public void addHotUpdater(HotUpdater hotUpdater) {
+        hotUpdaters.add(hotUpdater);
+    }
+
+    public void removeHotUpdater(HotUpdater hotUpdater) {
+        hotUpdaters.remove(hotUpdater);
+    }
+
     public void stop() {
+        for (HotUpdater hotUpdater : hotUpdaters) {
+            hotUpdater.stop();
+        }
+        hotUpdaters.clear();
         for (DeployedComposite dc : startedComposites.values()) {
             try {
                 dc.stop();
@@ -621,6 +713,99 @@ public class NodeImpl implements Node {
         return updated;
     }
 
+    /**
+     * Reload modified deployable composites of a loaded contribution and restart the started
+     * composites using them, without reinstalling the contribution, so that other composites
+     * using the contribution keep running.
+     *
+     * @return false if the change can't be applied that way, in which case nothing has been done
+     *         and the whole contribution should be updated with updateContribution
+     */
+    public boolean updateDeployableComposites(String contributionURI, Collection<String> compositeURIs) throws ActivationException, ContributionReadException, ValidationException {
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "updateDeployableComposites" + Arrays.asList(new Object[]{contributionURI, compositeURIs}));
+        }
+        ContributionDescription cd = domainRegistry.getInstalledContribution(contributionURI);
+        Contribution contribution = loadedContributions.get(contributionURI);
+        if (cd == null || contribution == null) {
+            return false;
+        }
+
+        // Only deployables which aren't also included in, or used as implementations by, other
+        // composites can be replaced, as those composites hold on to the already resolved model
+        Map<String, Artifact> artifacts = new HashMap<String, Artifact>();
+        for (String compositeURI : compositeURIs) {
+            if (!cd.getDeployables().contains(compositeURI)) {
+                return false;
+            }
+            for (DeployedComposite dc : startedComposites.values()) {
+                if (dc.uses(contributionURI, compositeURI) && !(contributionURI.equals(dc.getContributionURIs().get(0)) && compositeURI.equals(dc.getURI()))) {
+                    return false;
+                }
+            }
+            for (Artifact artifact : contribution.getArtifacts()) {
+                if (compositeURI.equals(artifact.getURI()) && artifact.getModel() instanceof Composite) {
+                    artifacts.put(compositeURI, artifact);
+                }
+            }
+            if (!artifacts.containsKey(compositeURI)) {
+                return false;
+            }
+        }
+
+        // Read all the composites before changing anything
+        Map<String, Composite> composites = new HashMap<String, Composite>();
+        for (String compositeURI : compositeURIs) {
+            Artifact artifact = artifacts.get(compositeURI);
+            Monitor monitor = deployer.createMonitor();
+            Object model;
+            try {
+                model = deployer.loadXMLDocument(IOHelper.getLocationAsURL(artifact.getLocation()), monitor);
+            } catch (XMLStreamException e) {
+                throw new ContributionReadException(e);
+            }
+            monitor.analyzeProblems();
+            if (!(model instanceof Composite)) {
+                return false;
+            }
+            Composite composite = (Composite)model;
+            composite.setURI(compositeURI);
+            composite.setContributionURI(contributionURI);
+            composites.put(compositeURI, composite);
+        }
+
+        ModelResolver modelResolver = contribution.getModelResolver();
+        ProcessorContext context = new ProcessorContext(deployer.createMonitor());
+        for (String compositeURI : compositeURIs) {
+            Artifact artifact = artifacts.get(compositeURI);
+            Composite oldComposite = (Composite)artifact.getModel();
+            Composite newComposite = composites.get(compositeURI);
+            artifact.setModel(newComposite);
+
+            // replace the previous model where the contribution resolves and lists it
+            if (modelResolver != null) {
+                modelResolver.removeModel(oldComposite, context);
+                modelResolver.addModel(newComposite, context);
+            }
+            for (ListIterator<Composite> i = contribution.getDeployables().listIterator(); i.hasNext();) {
+                Composite deployable = i.next();
+                if (deployable == oldComposite || compositeURI.equals(deployable.getURI())) {
+                    i.set(newComposite);
+                }
+            }
+
+            // forget any stopped instance built from the previous model
+            stoppedComposites.remove(contributionURI + "/" + compositeURI);
+            if (startedComposites.containsKey(contributionURI + "/" + compositeURI)) {
+                stopComposite(contributionURI, compositeURI);
+                stoppedComposites.remove(contributionURI + "/" + compositeURI);
+                startComposite(contributionURI, compositeURI);
+            }
+        }
+        if (logger.isLoggable(quietLogging? Level.FINE : Level.INFO)) logger.log(quietLogging? Level.FINE : Level.INFO, "updateDeployableComposites: " + contributionURI + " " + compositeURIs);
+        return true;
+    }
+
     public void uninstallContribution(String contributionURI, boolean b) throws ActivationException {
         uninstallContribution(contributionURI);
         if (!b) {
@@ -20,12 +20,11 @@
 package org.apache.tuscany.sca.impl.hotupdate;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.tuscany.sca.Node;
@@ -34,66 +33,102 @@ import org.apache.tuscany.sca.impl.NodeImpl;
 /**
  * Code to do dynamic updates to a running Node.
  * Very experimental presently, mainly just to see what type of things are required 
+ * <p>
+ * The files of the contributions installed from the domain directory are checked with the
+ * node's own LastModifiedTracker for each contribution. A contribution is only updated once
+ * a check finds no further changes to it, so that a contribution still being copied isn't
+ * updated repeatedly, and the node only moves the tracker on once the update has succeeded.
  */
 public class HotUpdater {
 
     private final Node node;
     private final File domainDir;
 
-    // key is contribution URI (which for exploded contributions is the directory name)
-    private final Map<String, LastModifiedTracker> contributions = new HashMap<String, LastModifiedTracker>();
+    // the contribution directories found by the last check, the name is the contribution URI
+    private final Set<String> contributions = new HashSet<String>();
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Tuscany HotUpdater");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
     
     public HotUpdater(Node node, File domainDir){
+        this(node, domainDir, 10);
+    }
+
+    /**
+     * @param period the number of seconds between checks
+     */
+    public HotUpdater(Node node, File domainDir, long period){
         this.node = node;
         this.domainDir = domainDir;
         
         final Runnable checker = new Runnable() {
             public void run() {
-                check();
+                try {
+                    check();
+                } catch (RuntimeException e) {
+                    // an exception would cancel any further checks
+                    e.printStackTrace();
+                }
             }
         };
 
-        scheduler.scheduleAtFixedRate(checker, 10, 10, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(checker, period, period, TimeUnit.SECONDS);
+        ((NodeImpl)node).addHotUpdater(this);
+    }
+
+    /**
+     * Stop checking for changes, called when the node is stopped
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+        ((NodeImpl)node).removeHotUpdater(this);
     }
 
     private void check() {
         Set<String> found = new HashSet<String>();
-        for (File f : domainDir.listFiles()) {
+        File[] files = domainDir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File f : files) {
             if (f.isDirectory() && !f.getName().startsWith(".")) {
                 found.add(f.getName());
-                LastModifiedTracker scanner = contributions.get(f.getName());
-                if (scanner == null) {
-                    //newContribution(f);
-                    contributions.put(f.getName(), new LastModifiedTracker(f));
-                } else {
-                    if (scanner.checkModified()) {
-                        updatedContribution(f);
-                    }
+                // only contributions installed from a directory have a tracker
+                LastModifiedTracker tracker = ((NodeImpl)node).getContributionTracker(f.getName());
+                if (tracker != null && tracker.checkModified() && tracker.isSettled()) {
+                    updatedContribution(f);
                 }
             }
         }
         
-        HashSet<String> removed = new HashSet<String>(contributions.keySet());
+        HashSet<String> removed = new HashSet<String>(contributions);
         removed.removeAll(found);
         for (String curi : removed) {
             removedContribution(curi);
         }
-
+        contributions.clear();
+        contributions.addAll(found);
     }
 
     private void removedContribution(String curi) {
+        if (!node.getInstalledContributionURIs().contains(curi)) {
+            return;
+        }
         try {
             ((NodeImpl)node).uninstallContribution(curi, true);
         } catch (Exception e) {
             e.printStackTrace();
         }
-        contributions.remove(curi);
     }
 
     private void updatedContribution(File f) {
         try {
+            // the node works out which composites are affected by the changes
             ((NodeImpl)node).updateContribution(f.getName(), f.toURI().toURL().toString(), null, null);
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,75 +1,224 @@
-/*
- * Licensed to the Apache Software Foundation (ASF) under one
- * or more contributor license agreements.  See the NOTICE file
- * distributed with this work for additional information
- * regarding copyright ownership.  The ASF licenses this file
- * to you under the Apache License, Version 2.0 (the
- * "License"); you may not use this file except in compliance
- * with the License.  You may obtain a copy of the License at
- * 
- *   http://www.apache.org/licenses/LICENSE-2.0
- * 
- * Unless required by applicable law or agreed to in writing,
- * software distributed under the License is distributed on an
- * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
- * KIND, either express or implied.  See the License for the
- * specific language governing permissions and limitations
- * under the License.    
- */
-
-package org.apache.tuscany.sca.impl.hotupdate;
-
-import java.io.File;
-
-/**
- * Keeps track of if a file or directory has been modified since a previous check
- */
-public class LastModifiedTracker {
-
-    private File targetFile;
-    private Long lastModified;
-
-    public LastModifiedTracker(File targetFile) {
-        this.targetFile = targetFile;
-        checkModified();
-    }
-    
-    public void reset() {
-        lastModified = null;
-    }
-    
-    public boolean checkModified() {
-        
-        long newLastModified = getNewLastModified(targetFile);
-
-        if (lastModified == null) {
-            lastModified = newLastModified;
-            return false;
-        }
-        
-        if (newLastModified > lastModified) {
-            lastModified = newLastModified;
-            return true;
-        }
-        
-        return false;
-    }
-
-    protected long getNewLastModified(File f) {
-
-        if (!f.exists()) return 0;
-        
-        if (f.isFile()) return f.lastModified();
-
-        long newLastModified = f.lastModified();
-
-        for (File fx : f.listFiles()) {
-            long fxLastModified = getNewLastModified(fx);
-            if (fxLastModified > newLastModified){
-                newLastModified = fxLastModified;
-            }
-        }
-
-        return newLastModified;
-    }
-}
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.impl.hotupdate;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of if a file or directory has been modified since a previous check,
+ * and of which of the files it contains were added, modified or removed.
+ * <p>
+ * Files are compared with a baseline which only moves on when the changes are committed,
+ * once they have been applied, so changes that failed to be applied are found again by
+ * the next check. Hidden files and editor backups are not tracked.
+ * <p>
+ * The files found are updated in place by each check, and a directory is only listed
+ * again when its last modified time has changed, so an unchanged tree costs one
+ * timestamp read per file and directory.
+ */
+public class LastModifiedTracker {
+
+    // a directory modified less than this ago may still get entries with the same timestamp
+    private static final long RACY_INTERVAL = 2000;
+
+    private File targetFile;
+
+    // key is the path of a file relative to the target, value is its last modified time
+    private Map<String, Long> lastModified;
+    // the files found by the checks
+    private Map<String, Long> checked = new HashMap<String, Long>();
+    // the entries of the directories found by the checks
+    private Map<String, Listing> listings = new HashMap<String, Listing>();
+    private Set<String> changes = new HashSet<String>();
+    private boolean settled = true;
+    // true if the files found by the current check differ from the check before it
+    private boolean changedByCheck;
+
+    private static class Listing {
+        // the last modified time of the directory when it was listed, or -1 to list it again
+        private long lastModified;
+        private String[] names;
+    }
+
+    public LastModifiedTracker(File targetFile) {
+        this.targetFile = targetFile;
+        checkModified();
+    }
+    
+    public synchronized void reset() {
+        lastModified = null;
+        checked.clear();
+        listings.clear();
+        changes.clear();
+        settled = true;
+    }
+    
+    /**
+     * Check for files added, modified or removed since the baseline. The first check after
+     * a reset sets the baseline.
+     */
+    public synchronized boolean checkModified() {
+        
+        changedByCheck = false;
+        check(targetFile, "");
+
+        settled = !changedByCheck;
+
+        if (lastModified == null) {
+            lastModified = new HashMap<String, Long>(checked);
+            changes.clear();
+            return false;
+        }
+
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Make the files found by the last check the baseline, once its changes have been applied
+     */
+    public synchronized void commit() {
+        lastModified = new HashMap<String, Long>(checked);
+        changes.clear();
+    }
+
+    /**
+     * Get the relative paths, using '/' as the separator, of the files that were added, modified
+     * or removed between the baseline and the last check
+     */
+    public synchronized Set<String> getChanges() {
+        return changes.isEmpty() ? Collections.<String>emptySet() : Collections.unmodifiableSet(new HashSet<String>(changes));
+    }
+
+    /**
+     * Returns true if the last check found the same files as the check before it, so that the
+     * changes aren't still being made
+     */
+    public synchronized boolean isSettled() {
+        return settled;
+    }
+
+    private void check(File f, String path) {
+
+        if (f.isFile()) {
+            removeDirectory(path);
+            update(path, f.lastModified());
+            return;
+        }
+        if (!f.isDirectory()) {
+            remove(path);
+            removeDirectory(path);
+            return;
+        }
+        remove(path);
+
+        long dirLastModified = f.lastModified();
+        Listing listing = listings.get(path);
+        if (listing == null || listing.lastModified != dirLastModified) {
+            File[] fxs = listFiles(f);
+            List<String> names = new ArrayList<String>();
+            if (fxs != null) {
+                for (File fx : fxs) {
+                    if (!isIgnored(fx.getName())) {
+                        names.add(fx.getName());
+                    }
+                }
+            }
+            if (listing != null) {
+                for (String name : listing.names) {
+                    if (!names.contains(name)) {
+                        String child = child(path, name);
+                        remove(child);
+                        removeDirectory(child);
+                    }
+                }
+            }
+            listing = new Listing();
+            listing.lastModified = System.currentTimeMillis() - dirLastModified > RACY_INTERVAL ? dirLastModified : -1;
+            listing.names = names.toArray(new String[names.size()]);
+            listings.put(path, listing);
+        }
+
+        for (String name : listing.names) {
+            check(new File(f, name), child(path, name));
+        }
+    }
+
+    /**
+     * List the entries of a directory
+     */
+    protected File[] listFiles(File dir) {
+        return dir.listFiles();
+    }
+
+    private void update(String path, long time) {
+        Long value = time;
+        if (!value.equals(checked.put(path, value))) {
+            changed(path, value);
+        }
+    }
+
+    private void remove(String path) {
+        if (checked.remove(path) != null) {
+            changed(path, null);
+        }
+    }
+
+    private void removeDirectory(String path) {
+        Listing listing = listings.remove(path);
+        if (listing != null) {
+            for (String name : listing.names) {
+                String child = child(path, name);
+                remove(child);
+                removeDirectory(child);
+            }
+        }
+    }
+
+    private void changed(String path, Long value) {
+        changedByCheck = true;
+        if (lastModified != null) {
+            // compare for equality rather than later so that restoring an older copy of a file is seen
+            Long baseline = lastModified.get(path);
+            if (value == null ? baseline == null : value.equals(baseline)) {
+                changes.remove(path);
+            } else {
+                changes.add(path);
+            }
+        }
+    }
+
+    private static String child(String path, String name) {
+        return path.length() == 0 ? name : path + "/" + name;
+    }
+
+    /**
+     * Changes to hidden files and editor backups don't need an update
+     */
+    private static boolean isIgnored(String name) {
+        return name.startsWith(".") || name.endsWith("~");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.impl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import junit.framework.Assert;
+
+import org.apache.tuscany.sca.runtime.ContributionDescription;
+import org.junit.Test;
+
+public class ContributionMetadataCacheTestCase {
+
+    @Test
+    public void testCacheHitAndInvalidation() throws Exception {
+        File cacheDir = new File("target/test-metadata-cache");
+        File contribution = new File("src/test/resources/sample-helloworld-nodeployable.jar");
+        String url = contribution.toURI().toURL().toString();
+        ContributionMetadataCache cache = new ContributionMetadataCache(cacheDir);
+
+        ContributionDescription cd = new ContributionDescription("helloworld", url);
+        cd.getDeployables().add("helloworld.composite");
+        cd.getJavaExports().add("sample");
+        cache.put(cd);
+
+        ContributionDescription cached = new ContributionDescription("helloworld", url);
+        Assert.assertTrue(cache.configureMetaData(cached));
+        Assert.assertEquals(cd.getDeployables(), cached.getDeployables());
+        Assert.assertEquals(cd.getJavaExports(), cached.getJavaExports());
+        Assert.assertTrue(cached.getNamespaceImports().isEmpty());
+
+        // A different contribution URI doesn't match
+        Assert.assertFalse(cache.configureMetaData(new ContributionDescription("other", url)));
+
+        // The entry is validated against the content of the archive, not its timestamp
+        long lastModified = contribution.lastModified();
+        try {
+            contribution.setLastModified(lastModified - 10000);
+            Assert.assertTrue(cache.configureMetaData(new ContributionDescription("helloworld", url)));
+        } finally {
+            contribution.setLastModified(lastModified);
+        }
+
+        cache.remove(cd);
+        Assert.assertFalse(cache.configureMetaData(new ContributionDescription("helloworld", url)));
+    }
+
+    @Test
+    public void testDirectoryContentChange() throws Exception {
+        File cacheDir = new File("target/test-metadata-cache");
+        File contribution = new File("target/test-metadata-contribution");
+        contribution.mkdirs();
+        File composite = new File(contribution, "helloworld.composite");
+        write(composite, "<composite name=\"a\"/>");
+        long lastModified = composite.lastModified();
+        String url = contribution.toURI().toURL().toString();
+        ContributionMetadataCache cache = new ContributionMetadataCache(cacheDir);
+
+        ContributionDescription cd = new ContributionDescription("helloworld-dir", url);
+        cd.getDeployables().add("helloworld.composite");
+        cache.put(cd);
+        Assert.assertTrue(cache.configureMetaData(new ContributionDescription("helloworld-dir", url)));
+
+        // A rewrite with the same size and timestamp doesn't match
+        write(composite, "<composite name=\"b\"/>");
+        composite.setLastModified(lastModified);
+        Assert.assertFalse(cache.configureMetaData(new ContributionDescription("helloworld-dir", url)));
+    }
+
+    private static void write(File file, String content) throws Exception {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+}
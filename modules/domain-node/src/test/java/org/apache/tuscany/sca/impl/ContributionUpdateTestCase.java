@@ -18,15 +18,26 @@
  */
 package org.apache.tuscany.sca.impl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apache.tuscany.sca.Node;
 import org.apache.tuscany.sca.TuscanyRuntime;
+import org.apache.tuscany.sca.assembly.Composite;
 import org.apache.tuscany.sca.assembly.Endpoint;
+import org.apache.tuscany.sca.contribution.Contribution;
 import org.apache.tuscany.sca.contribution.processor.ContributionReadException;
 import org.apache.tuscany.sca.monitor.ValidationException;
 import org.apache.tuscany.sca.runtime.ActivationException;
@@ -72,4 +83,96 @@ public class ContributionUpdateTestCase {
         Assert.assertEquals("Helloworld2Component#service-binding(Helloworld/Helloworld)", eps.iterator().next().getURI());
     }
 
+    @Test
+    public void updateUnmodifiedTest() throws NoSuchServiceException, NoSuchDomainException, ContributionReadException, ActivationException, ValidationException, XMLStreamException, FileNotFoundException {
+        Node node = TuscanyRuntime.newInstance().createNode("updateUnmodifiedTest");
+        String curi = node.installContribution("src/test/resources/sample-helloworld.jar");
+        node.startDeployables(curi);
+
+        Assert.assertFalse(((NodeImpl)node).updateContribution(curi, "src/test/resources/sample-helloworld.jar", null, null));
+        Assert.assertEquals(1, node.getStartedCompositeURIs().get(curi).size());
+
+        Collection<Endpoint> eps = ((NodeImpl)node).getEndpointRegistry().getEndpoints();
+        Assert.assertEquals(1, eps.size());
+        Assert.assertEquals("HelloworldComponent#service-binding(Helloworld/Helloworld)", eps.iterator().next().getURI());
+    }
+
+    @Test
+    public void updateDeployableOnDiskTest() throws Exception {
+        File dir = new File("target/updateDeployableOnDiskTest");
+        unzip(new File("src/test/resources/sample-helloworld.jar"), dir);
+
+        Node node = TuscanyRuntime.newInstance().createNode("updateDeployableOnDiskTest");
+        String curi = node.installContribution(dir.getPath());
+        node.startDeployables(curi);
+        Contribution contribution = node.getContribution(curi);
+
+        Collection<Endpoint> eps = ((NodeImpl)node).getEndpointRegistry().getEndpoints();
+        Assert.assertEquals(1, eps.size());
+        Assert.assertEquals("HelloworldComponent#service-binding(Helloworld/Helloworld)", eps.iterator().next().getURI());
+
+        // edit the deployable composite in place
+        File compositeFile = new File(dir, "helloworld.composite");
+        String xml = read(compositeFile).replace("HelloworldComponent", "HelloworldUpdatedComponent");
+        long lastModified = compositeFile.lastModified();
+        OutputStream os = new FileOutputStream(compositeFile);
+        os.write(xml.getBytes("UTF-8"));
+        os.close();
+        compositeFile.setLastModified(lastModified - 10000);
+
+        Assert.assertTrue(((NodeImpl)node).updateContribution(curi, dir.getPath(), null, null));
+
+        // only the composite was replaced, the contribution is still the loaded one
+        Assert.assertSame(contribution, node.getContribution(curi));
+        Composite composite = contribution.getArtifactModel("helloworld.composite");
+        Assert.assertEquals("HelloworldUpdatedComponent", composite.getComponents().get(0).getName());
+        Assert.assertTrue(contribution.getDeployables().contains(composite));
+
+        Assert.assertEquals(1, node.getStartedCompositeURIs().get(curi).size());
+        eps = ((NodeImpl)node).getEndpointRegistry().getEndpoints();
+        Assert.assertEquals(1, eps.size());
+        Assert.assertEquals("HelloworldUpdatedComponent#service-binding(Helloworld/Helloworld)", eps.iterator().next().getURI());
+        node.stop();
+    }
+
+    private static void unzip(File jar, File dir) throws IOException {
+        ZipInputStream zis = new ZipInputStream(new FileInputStream(jar));
+        try {
+            for (ZipEntry entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+                File file = new File(dir, entry.getName());
+                if (entry.isDirectory()) {
+                    file.mkdirs();
+                    continue;
+                }
+                file.getParentFile().mkdirs();
+                OutputStream os = new FileOutputStream(file);
+                try {
+                    copy(zis, os);
+                } finally {
+                    os.close();
+                }
+            }
+        } finally {
+            zis.close();
+        }
+    }
+
+    private static String read(File file) throws IOException {
+        InputStream is = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            copy(is, os);
+            return os.toString("UTF-8");
+        } finally {
+            is.close();
+        }
+    }
+
+    private static void copy(InputStream is, OutputStream os) throws IOException {
+        byte[] buffer = new byte[4096];
+        for (int n = is.read(buffer); n != -1; n = is.read(buffer)) {
+            os.write(buffer, 0, n);
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.impl.hotupdate;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class LastModifiedTrackerTestCase {
+
+    @Test
+    public void testChanges() throws Exception {
+        File dir = new File("target/test-hotupdate");
+        File sub = new File(dir, "sub");
+        sub.mkdirs();
+        File a = write(new File(dir, "a.composite"));
+        File b = write(new File(sub, "b.txt"));
+
+        LastModifiedTracker tracker = new LastModifiedTracker(dir);
+        Assert.assertFalse(tracker.checkModified());
+        Assert.assertTrue(tracker.getChanges().isEmpty());
+
+        a.setLastModified(a.lastModified() - 10000);
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertFalse(tracker.isSettled());
+        Assert.assertEquals(1, tracker.getChanges().size());
+        Assert.assertTrue(tracker.getChanges().contains("a.composite"));
+        tracker.commit();
+
+        b.delete();
+        File c = write(new File(sub, "c.txt"));
+        File backup = write(new File(sub, "c.txt~"));
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertEquals(2, tracker.getChanges().size());
+        Assert.assertTrue(tracker.getChanges().contains("sub/b.txt"));
+        Assert.assertTrue(tracker.getChanges().contains("sub/c.txt"));
+
+        // the changes are still reported until they are committed
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertTrue(tracker.isSettled());
+        Assert.assertEquals(2, tracker.getChanges().size());
+        tracker.commit();
+        Assert.assertTrue(tracker.getChanges().isEmpty());
+
+        Assert.assertFalse(tracker.checkModified());
+        Assert.assertTrue(tracker.getChanges().isEmpty());
+
+        a.delete();
+        c.delete();
+        backup.delete();
+    }
+
+    @Test
+    public void testUnchangedDirectoriesAreNotListed() throws Exception {
+        File dir = new File("target/test-hotupdate-listing");
+        File sub = new File(dir, "sub");
+        sub.mkdirs();
+        File a = write(new File(sub, "a.composite"));
+        long old = System.currentTimeMillis() - 10000;
+        sub.setLastModified(old);
+        dir.setLastModified(old);
+
+        final int[] listings = new int[1];
+        LastModifiedTracker tracker = new LastModifiedTracker(dir) {
+            @Override
+            protected File[] listFiles(File f) {
+                listings[0]++;
+                return super.listFiles(f);
+            }
+        };
+        Assert.assertFalse(tracker.checkModified());
+        Assert.assertEquals(2, listings[0]);
+
+        // the files are still checked without listing the directories
+        a.setLastModified(old);
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertEquals(2, listings[0]);
+        Assert.assertTrue(tracker.getChanges().contains("sub/a.composite"));
+        tracker.commit();
+
+        // a directory is listed again once an entry is added to it
+        File b = write(new File(sub, "b.composite"));
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertEquals(3, listings[0]);
+        Assert.assertEquals(1, tracker.getChanges().size());
+        Assert.assertTrue(tracker.getChanges().contains("sub/b.composite"));
+        tracker.commit();
+
+        // removing a directory removes the files it contained
+        a.delete();
+        b.delete();
+        sub.delete();
+        Assert.assertTrue(tracker.checkModified());
+        Assert.assertEquals(2, tracker.getChanges().size());
+        Assert.assertTrue(tracker.getChanges().contains("sub/a.composite"));
+        Assert.assertTrue(tracker.getChanges().contains("sub/b.composite"));
+    }
+
+    private static File write(File f) throws IOException {
+        FileWriter writer = new FileWriter(f);
+        writer.write(f.getName());
+        writer.close();
+        return f;
+    }
+}
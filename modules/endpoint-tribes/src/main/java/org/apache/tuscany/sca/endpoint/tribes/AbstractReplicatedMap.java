@@ -22,15 +22,24 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.catalina.tribes.Channel;
 import org.apache.catalina.tribes.ChannelException;
@@ -142,6 +151,29 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
      */
     protected transient String mapname = "";
 
+    /**
+     * The time in milliseconds during which the entries put in or removed from the map
+     * are collected to be replicated in a single MSG_BATCH message, 0 to replicate them
+     * one by one. Maps which don't know MSG_BATCH ignore it, so all the members must
+     * support it.
+     */
+    protected transient long batchInterval = 0;
+    protected transient ScheduledExecutorService batchScheduler;
+    /**
+     * The messages waiting to be replicated, only the last one is kept for each key
+     */
+    protected transient Map<Object, MapMessage> pendingMessages = new LinkedHashMap<Object, MapMessage>();
+    protected transient long pendingSince;
+    protected transient boolean flushScheduled;
+    protected transient Object flushMutex = new Object();
+
+    /**
+     * The digests of the values this map sent to the other members, used to avoid
+     * replicating an entry again when it's put with an unchanged value
+     */
+    protected transient Map<Object, byte[]> publishedDigests = new ConcurrentHashMap<Object, byte[]>();
+    protected transient ReplicationStatistics statistics = new ReplicationStatistics();
+
     //------------------------------------------------------------------------------
     //              map owner interface
     //------------------------------------------------------------------------------
@@ -325,6 +357,8 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
     }
 
     public void finalize() {
+        flush();
+        setBatchInterval(0);
         try {
             broadcast(MapMessage.MSG_STOP, false);
         } catch (Exception ignore) {
@@ -340,6 +374,7 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         this.rpcChannel = null;
         this.channel = null;
         this.mapMembers.clear();
+        this.publishedDigests.clear();
         super.clear();
         this.stateTransferred = false;
         this.externalLoaders = null;
@@ -435,6 +470,7 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
                                    (Serializable)entry.getValue(), null, entry.getPrimary(), entry.getBackupNodes());
 
             }
+            publishedDigests.remove(entry.getKey());
             try {
                 if (channel != null && entry.getBackupNodes() != null && entry.getBackupNodes().length > 0) {
                     channel.send(entry.getBackupNodes(), msg, channelSendOptions);
@@ -453,6 +489,8 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
      * @param complete boolean
      */
     public void replicate(boolean complete) {
+        // Send the pending changes first so that the members receive them in order
+        flush();
         Iterator<Map.Entry<Object, Object>> i = super.entrySet().iterator();
         while (i.hasNext()) {
             Map.Entry<Object, Object> e = i.next();
@@ -598,6 +636,16 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         }
         if (log.isTraceEnabled())
             log.trace("Map message received from:" + sender.getName() + " msg:" + mapmsg);
+        if (mapmsg.getMsgType() == MapMessage.MSG_BATCH) {
+            List list = (List)mapmsg.getValue();
+            if (list != null) {
+                for (int i = 0; i < list.size(); i++) {
+                    messageReceived((Serializable)list.get(i), sender);
+                }
+            }
+            return;
+        }
+
         if (mapmsg.getMsgType() == MapMessage.MSG_START) {
             mapMemberAdded(mapmsg.getPrimary());
         }
@@ -624,10 +672,13 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         }
 
         if (mapmsg.getMsgType() == MapMessage.MSG_REMOVE) {
+            publishedDigests.remove(mapmsg.getKey());
             super.remove(mapmsg.getKey());
         }
 
         if (mapmsg.getMsgType() == MapMessage.MSG_BACKUP || mapmsg.getMsgType() == MapMessage.MSG_COPY) {
+            // The value the other members have is no longer the one this map sent
+            publishedDigests.remove(mapmsg.getKey());
             MapEntry entry = (MapEntry)super.get(mapmsg.getKey());
             if (entry == null) {
                 entry = new MapEntry(mapmsg.getKey(), mapmsg.getValue());
@@ -865,7 +916,7 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
                 MapMessage msg =
                     new MapMessage(getMapContextName(), MapMessage.MSG_REMOVE, false, (Serializable)key, null, null,
                                    null, null);
-                getChannel().send(getMapMembers(), msg, getChannelSendOptions());
+                send(getMapMembers(), msg);
             }
         } catch (ChannelException x) {
             log.error("Unable to replicate out data for a LazyReplicatedMap.remove operation", x);
@@ -948,6 +999,149 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         return entry.getValue();
     }
 
+    /**
+     * Sends a message about an entry to the other members of the map. When a batch
+     * interval is set the message is queued, replacing any previous message about
+     * the same entry, and sent with the others to the map members at the end of the
+     * interval.
+     * @param members Member[]
+     * @param msg MapMessage
+     * @throws ChannelException
+     */
+    protected void send(Member[] members, MapMessage msg) throws ChannelException {
+        Object key = msg.getKey();
+        // The digest of the entry is only recorded once the message has been sent
+        publishedDigests.remove(key);
+
+        ScheduledExecutorService scheduler = batchScheduler;
+        if (scheduler == null) {
+            getChannel().send(members, msg, getChannelSendOptions());
+            statistics.messageSent(1, getSize(msg), 0L);
+            sent(msg);
+            return;
+        }
+        synchronized (pendingMessages) {
+            if (pendingMessages.isEmpty()) {
+                pendingSince = System.currentTimeMillis();
+            }
+            // Keep the messages in the order of the last change of each entry
+            pendingMessages.remove(key);
+            pendingMessages.put(key, msg);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        try {
+            scheduler.schedule(new Runnable() {
+                public void run() {
+                    flush();
+                }
+            }, batchInterval, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the queued messages to the map members in a single message. The messages
+     * are dropped if there's no channel or no other member, or if they can't be sent.
+     */
+    public void flush() {
+        synchronized (flushMutex) {
+            List<MapMessage> messages;
+            long since;
+            synchronized (pendingMessages) {
+                flushScheduled = false;
+                if (pendingMessages.isEmpty()) {
+                    return;
+                }
+                messages = new ArrayList<MapMessage>(pendingMessages.values());
+                pendingMessages.clear();
+                since = pendingSince;
+            }
+            Channel channel = this.channel;
+            if (channel == null) {
+                return;
+            }
+            Member[] members = getMapMembers();
+            if (members.length == 0) {
+                return;
+            }
+            MapMessage msg =
+                new MapMessage(mapContextName, MapMessage.MSG_BATCH, false, null, (Serializable)messages, null,
+                               channel.getLocalMember(false), null);
+            try {
+                channel.send(members, msg, channelSendOptions);
+                statistics.messageSent(messages.size(), getSize(msg), System.currentTimeMillis() - since);
+            } catch (ChannelException x) {
+                log.error("Unable to replicate " + messages.size() + " map entries", x);
+                return;
+            }
+            for (MapMessage message : messages) {
+                synchronized (pendingMessages) {
+                    // A newer change of the entry is waiting to be sent
+                    if (pendingMessages.containsKey(message.getKey())) {
+                        continue;
+                    }
+                }
+                sent(message);
+            }
+        }
+    }
+
+    /**
+     * Records the digest of the value sent by a copy or backup message
+     */
+    private void sent(MapMessage msg) {
+        if (msg.getMsgType() == MapMessage.MSG_COPY || msg.getMsgType() == MapMessage.MSG_BACKUP) {
+            byte[] digest = digest(msg.getValueData());
+            if (digest != null) {
+                publishedDigests.put(msg.getKey(), digest);
+            }
+        }
+    }
+
+    /**
+     * Checks if the value of an entry is the same as the one this map sent to the other members
+     */
+    private boolean isPublished(Object key, Object value) {
+        byte[] digest = publishedDigests.get(key);
+        if (digest == null || !(value instanceof Serializable)) {
+            return false;
+        }
+        try {
+            return Arrays.equals(digest, digest(XByteBuffer.serialize((Serializable)value)));
+        } catch (IOException x) {
+            return false;
+        }
+    }
+
+    private static byte[] digest(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance("MD5").digest(data);
+        } catch (NoSuchAlgorithmException x) {
+            return null;
+        }
+    }
+
+    private static int getSize(MapMessage msg) {
+        int size = 0;
+        if (msg.getKeyData() != null) {
+            size += msg.getKeyData().length;
+        }
+        if (msg.getValueData() != null) {
+            size += msg.getValueData().length;
+        }
+        if (msg.getDiffValue() != null) {
+            size += msg.getDiffValue().length;
+        }
+        return size;
+    }
+
     protected void printMap(String header) {
         try {
             System.out.println("\nDEBUG MAP:" + header);
@@ -993,8 +1187,18 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         Object old = null;
 
         //make sure that any old values get removed
-        if (containsKey(key))
+        if (containsKey(key)) {
+            MapEntry current = (MapEntry)super.get(key);
+            if (notify && current != null && isPublished(key, value)) {
+                // The other members already have this value, so only the local entry is replaced
+                old = remove(key, false);
+                entry.setBackupNodes(current.getBackupNodes());
+                statistics.entryUnchanged();
+                super.put(key, entry);
+                return old;
+            }
             old = remove(key);
+        }
         try {
             if (notify) {
                 Member[] backup = publishEntryInfo(key, value);
@@ -1288,6 +1492,7 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         public static final int MSG_INIT = 8;
         public static final int MSG_COPY = 9;
         public static final int MSG_STATE_COPY = 10;
+        public static final int MSG_BATCH = 11;
 
         private byte[] mapId;
         private int msgtype;
@@ -1334,6 +1539,8 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
                     return "MSG_STATE_COPY";
                 case MSG_COPY:
                     return "MSG_COPY";
+                case MSG_BATCH:
+                    return "MSG_BATCH";
                 default:
                     return "UNKNOWN";
             }
@@ -1509,6 +1716,38 @@ public abstract class AbstractReplicatedMap extends MapStore implements RpcCallb
         return channel;
     }
 
+    public long getBatchInterval() {
+        return batchInterval;
+    }
+
+    /**
+     * Sets the time in milliseconds during which the changes to the map are collected
+     * to be replicated in a single message
+     * @param batchInterval long - 0 to replicate each change as it's made
+     */
+    public void setBatchInterval(long batchInterval) {
+        synchronized (flushMutex) {
+            flush();
+            this.batchInterval = batchInterval;
+            if (batchInterval > 0 && batchScheduler == null) {
+                batchScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "Tuscany replicated map " + mapname);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            } else if (batchInterval <= 0 && batchScheduler != null) {
+                batchScheduler.shutdownNow();
+                batchScheduler = null;
+            }
+        }
+    }
+
+    public ReplicationStatistics getStatistics() {
+        return statistics;
+    }
+
     public byte[] getMapContextName() {
         return mapContextName;
     }
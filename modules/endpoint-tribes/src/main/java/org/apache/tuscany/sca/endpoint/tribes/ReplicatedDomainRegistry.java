@@ -76,6 +76,12 @@ public class ReplicatedDomainRegistry extends BaseDomainRegistry implements Doma
     private String receiverAddress;
     private int receiverPort = 4000;
     private int receiverAutoBind = 100;
+    /**
+     * The "batchInterval" attribute, in milliseconds. Members without support for
+     * batches drop the MSG_BATCH messages, so it must only be set when all the members
+     * of the domain support them, a mixed cluster must keep the default of 0.
+     */
+    private long batchInterval = 0;
     private List<URI> staticRoutes;
 
     private ReplicatedMap map;
@@ -213,6 +219,10 @@ public class ReplicatedDomainRegistry extends BaseDomainRegistry implements Doma
         if (recvAutoBind != null) {
             receiverAutoBind = Integer.parseInt(recvAutoBind);
         }
+        String batchIntervalStr = attributes.get("batchInterval");
+        if (batchIntervalStr != null) {
+            batchInterval = Long.parseLong(batchIntervalStr);
+        }
     }
 
     public void start() {
@@ -224,6 +234,8 @@ public class ReplicatedDomainRegistry extends BaseDomainRegistry implements Doma
             new ReplicatedMap(null, channel, timeout, this.domainURI,
                               new ClassLoader[] {ReplicatedDomainRegistry.class.getClassLoader()});
         map.addListener(this);
+        // Endpoints added or removed within the interval are replicated in a single message
+        map.setBatchInterval(batchInterval);
 
         if (noMultiCast) {
             map.getChannel().addInterceptor(new DisableMcastInterceptor());
@@ -280,6 +292,9 @@ public class ReplicatedDomainRegistry extends BaseDomainRegistry implements Doma
             map.removeListener(this);
             Channel channel = map.getChannel();
             map.breakdown();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(id + " " + map.getStatistics());
+            }
             try {
                 channel.stop(Channel.DEFAULT);
             } catch (ChannelException e) {
@@ -356,6 +371,14 @@ public class ReplicatedDomainRegistry extends BaseDomainRegistry implements Doma
         map.replicate(complete);
     }
 
+    /**
+     * @return the statistics about the replication of the endpoints to the other members,
+     * or null if the registry isn't started
+     */
+    public ReplicationStatistics getReplicationStatistics() {
+        return map != null ? map.getStatistics() : null;
+    }
+
     public void updateEndpoint(String uri, Endpoint endpoint) {
         Endpoint oldEndpoint = getEndpoint(uri);
         if (oldEndpoint == null) {
@@ -114,7 +114,7 @@ public class ReplicatedMap extends AbstractReplicatedMap implements RpcCallback,
             new MapMessage(getMapContextName(), MapMessage.MSG_COPY, false, (Serializable)key, (Serializable)value,
                            null, channel.getLocalMember(false), members);
 
-        getChannel().send(members, msg, getChannelSendOptions());
+        send(members, msg);
 
         return members;
     }
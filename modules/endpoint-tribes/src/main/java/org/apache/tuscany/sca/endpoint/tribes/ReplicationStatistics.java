@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.endpoint.tribes;
+
+/**
+ * Statistics about the messages a replicated map sends to the other members
+ */
+public class ReplicationStatistics {
+    private long messages;
+    private long entries;
+    private long bytes;
+    private int lastMessageSize;
+    private int maxMessageSize;
+    private long lastLag;
+    private long maxLag;
+    private long unchangedEntries;
+
+    /**
+     * Records a message sent to the other members
+     * @param entries int - the number of entries replicated by the message
+     * @param size int - the size of the serialized keys and values in the message
+     * @param lag long - the time in milliseconds the oldest change waited before being sent
+     */
+    synchronized void messageSent(int entries, int size, long lag) {
+        this.messages++;
+        this.entries += entries;
+        this.bytes += size;
+        this.lastMessageSize = size;
+        if (size > maxMessageSize) {
+            maxMessageSize = size;
+        }
+        this.lastLag = lag;
+        if (lag > maxLag) {
+            maxLag = lag;
+        }
+    }
+
+    /**
+     * Records an entry that wasn't replicated as it was put again with an unchanged value
+     */
+    synchronized void entryUnchanged() {
+        unchangedEntries++;
+    }
+
+    public synchronized long getMessages() {
+        return messages;
+    }
+
+    public synchronized long getEntries() {
+        return entries;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int getLastMessageSize() {
+        return lastMessageSize;
+    }
+
+    public synchronized int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * @return the time in milliseconds the oldest change replicated by the last message waited before being sent
+     */
+    public synchronized long getLastLag() {
+        return lastLag;
+    }
+
+    public synchronized long getMaxLag() {
+        return maxLag;
+    }
+
+    public synchronized long getUnchangedEntries() {
+        return unchangedEntries;
+    }
+
+    public synchronized String toString() {
+        return "ReplicationStatistics[messages=" + messages
+            + "; entries="
+            + entries
+            + "; bytes="
+            + bytes
+            + "; maxMessageSize="
+            + maxMessageSize
+            + "; lastLag="
+            + lastLag
+            + "; maxLag="
+            + maxLag
+            + "; unchangedEntries="
+            + unchangedEntries
+            + "]";
+    }
+}
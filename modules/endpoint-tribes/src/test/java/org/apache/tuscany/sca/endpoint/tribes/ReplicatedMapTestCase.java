@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.endpoint.tribes;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.catalina.tribes.Channel;
+import org.apache.catalina.tribes.ChannelException;
+import org.apache.catalina.tribes.Member;
+import org.apache.tuscany.sca.endpoint.tribes.AbstractReplicatedMap.MapMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the batching and the skipping of unchanged entries of the replicated map,
+ * with a channel that records the messages sent to another member.
+ */
+public class ReplicatedMapTestCase {
+    private List<MapMessage> sent = new ArrayList<MapMessage>();
+    private boolean failing;
+    private ReplicatedMap map;
+
+    @Before
+    public void setUp() {
+        final Member local = member();
+        Channel channel = (Channel)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Channel.class}, new Stub() {
+            protected Object invoke(Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("getLocalMember")) {
+                    return local;
+                } else if (name.equals("getMembers")) {
+                    return new Member[0];
+                } else if (name.equals("send")) {
+                    if (failing) {
+                        throw new ChannelException("Send failure");
+                    }
+                    MapMessage msg = (MapMessage)args[1];
+                    if (msg.getMsgType() == MapMessage.MSG_BATCH || msg.getMsgType() == MapMessage.MSG_COPY
+                        || msg.getMsgType() == MapMessage.MSG_REMOVE) {
+                        sent.add(msg);
+                    }
+                }
+                return null;
+            }
+        });
+        map = new ReplicatedMap(null, channel, 50, "test", new ClassLoader[] {getClass().getClassLoader()});
+        map.memberAlive(member());
+    }
+
+    @After
+    public void tearDown() {
+        map.setBatchInterval(0);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        // Flushed explicitly
+        map.setBatchInterval(60000);
+        map.put("a", "1");
+        map.put("b", "1");
+        // Updating an entry removes it then copies it, only the copy is sent
+        map.put("a", "2");
+        map.remove("b");
+        assertEquals(0, sent.size());
+
+        map.flush();
+        assertEquals(1, sent.size());
+        MapMessage batch = sent.get(0);
+        assertEquals(MapMessage.MSG_BATCH, batch.getMsgType());
+        List<?> messages = (List<?>)batch.getValue();
+        assertEquals(2, messages.size());
+        MapMessage a = (MapMessage)messages.get(0);
+        assertEquals(MapMessage.MSG_COPY, a.getMsgType());
+        assertEquals("a", a.getKey());
+        assertEquals("2", a.getValue());
+        MapMessage b = (MapMessage)messages.get(1);
+        assertEquals(MapMessage.MSG_REMOVE, b.getMsgType());
+        assertEquals("b", b.getKey());
+
+        ReplicationStatistics statistics = map.getStatistics();
+        assertEquals(1, statistics.getMessages());
+        assertEquals(2, statistics.getEntries());
+
+        // Nothing left to send
+        map.flush();
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void testUnchangedValue() throws Exception {
+        map.put("a", "1");
+        assertEquals(1, sent.size());
+
+        // Putting the same value again only replaces the local entry
+        map.put("a", "1");
+        assertEquals(1, sent.size());
+        assertEquals(1, map.getStatistics().getUnchangedEntries());
+        assertEquals("1", map.get("a"));
+
+        // A new value is sent, as a remove followed by a copy
+        map.put("a", "2");
+        assertEquals(3, sent.size());
+        assertEquals(MapMessage.MSG_REMOVE, sent.get(1).getMsgType());
+        assertEquals(MapMessage.MSG_COPY, sent.get(2).getMsgType());
+        assertEquals(3, map.getStatistics().getMessages());
+    }
+
+    @Test
+    public void testUnchangedValueAfterFailedSend() throws Exception {
+        failing = true;
+        map.put("a", "1");
+        failing = false;
+
+        // The value wasn't sent so it's sent again
+        map.put("a", "1");
+        assertEquals(MapMessage.MSG_COPY, sent.get(sent.size() - 1).getMsgType());
+        assertEquals(0, map.getStatistics().getUnchangedEntries());
+    }
+
+    @Test
+    public void testUnchangedValueAfterFailedBatch() throws Exception {
+        map.setBatchInterval(60000);
+        map.put("a", "1");
+        failing = true;
+        map.flush();
+        failing = false;
+
+        map.put("a", "1");
+        map.flush();
+        assertEquals(1, sent.size());
+        assertEquals(0, map.getStatistics().getUnchangedEntries());
+    }
+
+    @Test
+    public void testReplicationStatistics() {
+        ReplicationStatistics statistics = new ReplicationStatistics();
+        statistics.messageSent(2, 100, 5L);
+        statistics.messageSent(1, 50, 10L);
+        statistics.entryUnchanged();
+        assertEquals(2, statistics.getMessages());
+        assertEquals(3, statistics.getEntries());
+        assertEquals(150, statistics.getBytes());
+        assertEquals(50, statistics.getLastMessageSize());
+        assertEquals(100, statistics.getMaxMessageSize());
+        assertEquals(10, statistics.getLastLag());
+        assertEquals(10, statistics.getMaxLag());
+        assertEquals(1, statistics.getUnchangedEntries());
+    }
+
+    private static Member member() {
+        return (Member)Proxy.newProxyInstance(ReplicatedMapTestCase.class.getClassLoader(), new Class[] {Member.class}, new Stub());
+    }
+
+    /**
+     * Implements the Object methods of the proxies and returns default values
+     */
+    private static class Stub implements InvocationHandler, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("toString")) {
+                return "Stub@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+            Object result = invoke(method, args);
+            if (result == null && method.getReturnType().isPrimitive()) {
+                Class<?> type = method.getReturnType();
+                if (type == boolean.class) {
+                    return Boolean.FALSE;
+                } else if (type == int.class) {
+                    return 0;
+                } else if (type == long.class) {
+                    return 0L;
+                } else if (type == short.class) {
+                    return (short)0;
+                } else if (type == byte.class) {
+                    return (byte)0;
+                }
+            }
+            return result;
+        }
+
+        protected Object invoke(Method method, Object[] args) throws Throwable {
+            return null;
+        }
+    }
+}
@@ -22,11 +22,12 @@ package org.apache.tuscany.sca.core;
 import static org.apache.tuscany.sca.extensibility.ServiceHelper.newInstance;
 
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.tuscany.sca.extensibility.ServiceDeclaration;
 import org.apache.tuscany.sca.extensibility.ServiceDiscovery;
@@ -43,8 +44,13 @@ import org.apache.tuscany.sca.extensibility.ServiceHelper;
  * @version $Rev$ $Date$
  */
 public class DefaultExtensionPointRegistry implements ExtensionPointRegistry {
-    protected Map<Class<?>, Object> extensionPoints = new HashMap<Class<?>, Object>();
+    protected Map<Class<?>, Object> extensionPoints = new ConcurrentHashMap<Class<?>, Object>();
     private ServiceDiscovery discovery;
+
+    // The locks used to instantiate each type of extension point only once
+    private final ConcurrentMap<Class<?>, Object> locks = new ConcurrentHashMap<Class<?>, Object>();
+    private final InstantiationReport report = new InstantiationReport();
+
     /**
      * Constructs a new registry.
      */
@@ -92,30 +98,65 @@ public class DefaultExtensionPointRegistry implements ExtensionPointRegistry {
      *
      * @throws IllegalArgumentException if extensionPointType is null
      */
-    public synchronized <T> T getExtensionPoint(Class<T> extensionPointType) {
+    public <T> T getExtensionPoint(Class<T> extensionPointType) {
         if (extensionPointType == null) {
             throw new IllegalArgumentException("Cannot lookup ExtensionPoint of type null");
         }
 
         Object extensionPoint = findExtensionPoint(extensionPointType);
         if (extensionPoint == null) {
-
-            // Dynamically load an extension point class declared under META-INF/services
-            try {
-                ServiceDeclaration extensionPointDeclaration =
-                    getServiceDiscovery().getServiceDeclaration(extensionPointType);
-                if (extensionPointDeclaration != null) {
-                    extensionPoint = newInstance(this, extensionPointDeclaration);
-                    // Cache the loaded extension point
-                    addExtensionPoint(extensionPoint, extensionPointDeclaration);
+            synchronized (getLock(extensionPointType)) {
+                // Another thread may have loaded it in the meantime
+                extensionPoint = findExtensionPoint(extensionPointType);
+                if (extensionPoint == null) {
+
+                    // Dynamically load an extension point class declared under META-INF/services
+                    try {
+                        ServiceDeclaration extensionPointDeclaration =
+                            getServiceDiscovery().getServiceDeclaration(extensionPointType);
+                        if (extensionPointDeclaration != null) {
+                            long start = System.nanoTime();
+                            extensionPoint = newInstance(this, extensionPointDeclaration);
+                            // Cache the loaded extension point
+                            addExtensionPoint(extensionPoint, extensionPointDeclaration);
+                            report.record(extensionPointType, extensionPoint, System.nanoTime() - start);
+                        }
+                    } catch (Throwable e) {
+                        throw new IllegalArgumentException(e);
+                    }
                 }
-            } catch (Throwable e) {
-                throw new IllegalArgumentException(e);
             }
         }
         return extensionPointType.cast(extensionPoint);
     }
 
+    private Object getLock(Class<?> key) {
+        Object lock = locks.get(key);
+        if (lock == null) {
+            lock = new Object();
+            Object existing = locks.putIfAbsent(key, lock);
+            if (existing != null) {
+                lock = existing;
+            }
+        }
+        return lock;
+    }
+
+    /**
+     * Get the report of the extensions instantiated on demand.
+     */
+    InstantiationReport getInstantiationReport() {
+        return report;
+    }
+
+    /**
+     * Returns a report of the extension points and utilities that have been instantiated
+     * on demand and how long each one took to create.
+     */
+    public String getStartupReport() {
+        return report.toString();
+    }
+
     protected <T> Object findExtensionPoint(Class<T> extensionPointType) {
         return extensionPoints.get(extensionPointType);
     }
@@ -28,6 +28,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.tuscany.sca.extensibility.ServiceDeclaration;
 
@@ -39,6 +40,9 @@ import org.apache.tuscany.sca.extensibility.ServiceDeclaration;
 public class DefaultUtilityExtensionPoint implements UtilityExtensionPoint {
     private Map<Object, Object> utilities = new ConcurrentHashMap<Object, Object>();
 
+    // The locks used to create each utility only once
+    private final ConcurrentMap<Object, Object> locks = new ConcurrentHashMap<Object, Object>();
+
     private ExtensionPointRegistry registry;
     /**
      * Constructs a new extension point.
@@ -153,43 +157,71 @@ public class DefaultUtilityExtensionPoint implements UtilityExtensionPoint {
         }
 
         Object utility = utilities.get(key);
-   
         if (utility == null) {
+            synchronized (getLock(key)) {
+                // Another thread may have created it in the meantime
+                utility = utilities.get(key);
+                if (utility == null) {
+                    utility = createUtility(utilityType, key);
+                }
+            }
+        }
+        return utilityType.cast(utility);
+    }
 
-            // Dynamically load a utility class declared under META-INF/services/"utilityType"
-            try {
-                ServiceDeclaration utilityDeclaration =
-                    registry.getServiceDiscovery().getServiceDeclaration(utilityType.getName());
-                Class<?> utilityClass = null;
+    private Object getLock(Object key) {
+        Object lock = locks.get(key);
+        if (lock == null) {
+            lock = new Object();
+            Object existing = locks.putIfAbsent(key, lock);
+            if (existing != null) {
+                lock = existing;
+            }
+        }
+        return lock;
+    }
+
+    private Object createUtility(Class<?> utilityType, Object key) {
+        Object utility = null;
+
+        // Dynamically load a utility class declared under META-INF/services/"utilityType"
+        try {
+            ServiceDeclaration utilityDeclaration =
+                registry.getServiceDiscovery().getServiceDeclaration(utilityType.getName());
+            Class<?> utilityClass = null;
+            if (utilityDeclaration != null) {
+                utilityClass = utilityDeclaration.loadClass();
+            } else if (isConcreteClass(utilityType)) {
+                utilityClass = utilityType;
+                key = utilityType;
+            }
+            if (utilityClass != null) {
+                long start = System.nanoTime();
+                // Construct the utility
                 if (utilityDeclaration != null) {
-                    utilityClass = utilityDeclaration.loadClass();
-                } else if (isConcreteClass(utilityType)) {
-                    utilityClass = utilityType;
-                    key = utilityType;
-                }
-                if (utilityClass != null) {
-                    // Construct the utility
-                    if (utilityDeclaration != null) {
-                        utility = newInstance(registry, utilityDeclaration);
-                    } else {
-                        try {
-                            utility = newInstance(utilityClass, ExtensionPointRegistry.class, registry);
-                        } catch (NoSuchMethodException e) {
-                            utility = newInstance(utilityClass);
-                        }
-                    }
-                    // Cache the loaded utility
-                    if (key == utilityType) {
-                        addUtility(utility);
-                    } else {
-                        addUtility(key, utility);
+                    utility = newInstance(registry, utilityDeclaration);
+                } else {
+                    try {
+                        utility = newInstance(utilityClass, ExtensionPointRegistry.class, registry);
+                    } catch (NoSuchMethodException e) {
+                        utility = newInstance(utilityClass);
                     }
                 }
-            } catch (Throwable e) {
-                throw new IllegalArgumentException(e);
-            } 
+                // Cache the loaded utility
+                if (key == utilityType) {
+                    addUtility(utility);
+                } else {
+                    addUtility(key, utility);
+                }
+                if (registry instanceof DefaultExtensionPointRegistry) {
+                    ((DefaultExtensionPointRegistry)registry).getInstantiationReport()
+                        .record(utilityType, utility, System.nanoTime() - start);
+                }
+            }
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(e);
         }
-        return utilityType.cast(utility);
+        return utility;
     }
 
     private boolean isConcreteClass(Class<?> utilityType) {
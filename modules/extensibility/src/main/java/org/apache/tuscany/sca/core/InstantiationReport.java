@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.tuscany.sca.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the extension points and utilities instantiated on demand and how long each
+ * one took to create. The time of an extension includes the extensions it loads while
+ * being created.
+ *
+ * @version $Rev$ $Date$
+ */
+class InstantiationReport {
+    private final Queue<String> entries = new ConcurrentLinkedQueue<String>();
+
+    /**
+     * Record the instantiation of an extension.
+     *
+     * @param type The type the extension was looked up by
+     * @param instance The extension
+     * @param nanos The time it took to create the extension
+     */
+    void record(Class<?> type, Object instance, long nanos) {
+        StringBuilder entry = new StringBuilder(type.getName());
+        if (instance.getClass() != type) {
+            entry.append(" (").append(instance.getClass().getName()).append(')');
+        }
+        entry.append(": ").append(nanos / 1000000).append(" ms");
+        entries.add(entry.toString());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("Extensions instantiated: ").append(entries.size());
+        for (String entry : entries) {
+            report.append("\n  ").append(entry);
+        }
+        return report.toString();
+    }
+}
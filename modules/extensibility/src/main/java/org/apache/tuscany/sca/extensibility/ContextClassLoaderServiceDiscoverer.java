@@ -20,29 +20,47 @@
 package org.apache.tuscany.sca.extensibility;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A ServiceDiscoverer that find META-INF/services/... using the Context ClassLoader.
+ * <p>
+ * The declarations of a service are read once and remembered. If the ClassLoader provides a
+ * {@link ServiceDeclarationIndex}, the declarations of the indexed services are taken from it instead
+ * of reading the META-INF/services files of the classpath entries the index was generated from. The
+ * META-INF/services files of the other classpath entries are still read, and the declarations they repeat
+ * from the index are ignored.
  *
  * @version $Rev$ $Date$
  */
 public class ContextClassLoaderServiceDiscoverer implements ServiceDiscoverer {
     private static final Logger logger = Logger.getLogger(ContextClassLoaderServiceDiscoverer.class.getName());
 
+    /**
+     * Set this system property to false to ignore the service declaration index
+     */
+    public static final String USE_SERVICE_INDEX = "org.apache.tuscany.sca.extensibility.useServiceIndex";
+
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+
     public class ServiceDeclarationImpl implements ServiceDeclaration {
         private URL url;
         private String className;
@@ -114,8 +132,31 @@ public class ContextClassLoaderServiceDiscoverer implements ServiceDiscoverer {
         }
     }
 
+    /**
+     * A service declaration as read from a META-INF/services file or the index
+     */
+    private static class ParsedDeclaration {
+        private final URL url;
+        private final Map<String, String> attributes;
+
+        private ParsedDeclaration(URL url, Map<String, String> attributes) {
+            this.url = url;
+            this.attributes = attributes;
+        }
+    }
+
     private WeakReference<ClassLoader> classLoaderReference;
 
+    // The declarations read so far, keyed by service name
+    private final Map<String, List<ParsedDeclaration>> declarations =
+        new ConcurrentHashMap<String, List<ParsedDeclaration>>();
+
+    private boolean indexLoaded;
+    private ServiceDeclarationIndex index;
+    private URL indexURL;
+    // The classpath entries providing an index, as the URL prefix of their resources
+    private Set<String> indexRoots = new HashSet<String>();
+
     public ContextClassLoaderServiceDiscoverer() {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         this.classLoaderReference = new WeakReference<ClassLoader>(classLoader);
@@ -157,7 +198,39 @@ public class ContextClassLoaderServiceDiscoverer implements ServiceDiscoverer {
     }
 
     public Collection<ServiceDeclaration> getServiceDeclarations(String serviceName) {
-        Collection<ServiceDeclaration> descriptors = new HashSet<ServiceDeclaration>();
+        List<ParsedDeclaration> parsed = declarations.get(serviceName);
+        if (parsed == null) {
+            parsed = readServiceDeclarations(serviceName);
+            if (parsed == null) {
+                return Collections.emptyList();
+            }
+            declarations.put(serviceName, parsed);
+        }
+
+        // Callers can modify the declarations and their attributes, so hand out new ones
+        Collection<ServiceDeclaration> descriptors = new ArrayList<ServiceDeclaration>(parsed.size());
+        for (ParsedDeclaration declaration : parsed) {
+            Map<String, String> attributes = new HashMap<String, String>(declaration.attributes);
+            descriptors.add(new ServiceDeclarationImpl(declaration.url, attributes.get("class"), attributes));
+        }
+        return descriptors;
+    }
+
+    /**
+     * Forget the declarations read so far, they will be read again on the next lookup.
+     */
+    public void clearCache() {
+        declarations.clear();
+        synchronized (this) {
+            indexLoaded = false;
+            index = null;
+            indexURL = null;
+            indexRoots = new HashSet<String>();
+        }
+    }
+
+    private List<ParsedDeclaration> readServiceDeclarations(String serviceName) {
+        List<ParsedDeclaration> descriptors = new ArrayList<ParsedDeclaration>();
 
         // http://java.sun.com/j2se/1.5.0/docs/api/javax/xml/xpath/XPathFactory.html
         boolean isPropertyFile = "javax.xml.xpath.XPathFactory".equals(serviceName);
@@ -168,27 +241,108 @@ public class ContextClassLoaderServiceDiscoverer implements ServiceDiscoverer {
             name = serviceName.substring(1);
         } else {
             // Use JDK SPI pattern
-            name = "META-INF/services/" + serviceName;
+            name = SERVICES_PREFIX + serviceName;
+        }
+
+        ServiceDeclarationIndex index = null;
+        Set<Map<String, String>> indexed = null;
+        if (name.startsWith(SERVICES_PREFIX)) {
+            index = getIndex();
+            List<String> declarations = index == null ? null : index.getDeclarations(name.substring(SERVICES_PREFIX.length()));
+            if (declarations != null) {
+                indexed = new HashSet<Map<String, String>>();
+                for (String declaration : declarations) {
+                    Map<String, String> attributes = ServiceDeclarationParser.parseDeclaration(declaration);
+                    descriptors.add(new ParsedDeclaration(indexURL, attributes));
+                    indexed.add(attributes);
+                }
+            }
         }
         
         boolean debug = logger.isLoggable(Level.FINE);
         try {
             for (final URL url : getResources(name)) {
+                if (indexed != null && isIndexed(index, getRoot(url, name))) {
+                    // The declarations of this classpath entry have been read into the index
+                    continue;
+                }
                 if (debug) {
                     logger.fine("Reading service provider file: " + url.toExternalForm());
                 }
 
                 for (Map<String, String> attributes : ServiceDeclarationParser.load(url, isPropertyFile)) {
-                    String className = attributes.get("class");
-                    ServiceDeclarationImpl descriptor = new ServiceDeclarationImpl(url, className, attributes);
-                    descriptors.add(descriptor);
+                    if (indexed == null || !indexed.contains(attributes)) {
+                        descriptors.add(new ParsedDeclaration(url, attributes));
+                    }
                 }
             }
         } catch (IOException e) {
             logger.log(Level.SEVERE, e.getMessage(), e);
+            // Don't remember the declarations, they may be incomplete
+            return null;
         }
         return descriptors;
 
     }
 
+    /*
+     * Test if the declarations of a classpath entry are in the index, because the entry provides the index or
+     * is one of the archives it was generated from.
+     */
+    private boolean isIndexed(ServiceDeclarationIndex index, String root) {
+        synchronized (this) {
+            if (indexRoots.contains(root)) {
+                return true;
+            }
+        }
+        if (root.startsWith("jar:") && root.endsWith("!/")) {
+            String archive = root.substring(0, root.length() - 2);
+            return index.getArchives().contains(archive.substring(archive.lastIndexOf('/') + 1));
+        }
+        return false;
+    }
+
+    /*
+     * Returns the URL prefix of the classpath entry a resource comes from.
+     */
+    private static String getRoot(URL url, String name) {
+        String location = url.toExternalForm();
+        return location.endsWith(name) ? location.substring(0, location.length() - name.length()) : location;
+    }
+
+    /*
+     * Load the service declaration indexes found by the ClassLoader, merged together.
+     */
+    private synchronized ServiceDeclarationIndex getIndex() {
+        if (indexLoaded) {
+            return index;
+        }
+        indexLoaded = true;
+        if ("false".equalsIgnoreCase(System.getProperty(USE_SERVICE_INDEX))) {
+            return null;
+        }
+        try {
+            for (URL url : getResources(ServiceDeclarationIndex.INDEX_RESOURCE)) {
+                logger.fine("Reading service declaration index: " + url.toExternalForm());
+                if (index == null) {
+                    index = new ServiceDeclarationIndex();
+                    indexURL = url;
+                }
+                InputStream is = url.openStream();
+                try {
+                    index.load(is);
+                } finally {
+                    is.close();
+                }
+                indexRoots.add(getRoot(url, ServiceDeclarationIndex.INDEX_RESOURCE));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to read the service declaration index, scanning the classpath instead", e);
+            index = null;
+            indexURL = null;
+            indexRoots = new HashSet<String>();
+        }
+        return index;
+    }
+
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.extensibility;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A merged index of the service declarations found in META-INF/services. It is generated at build time, for
+ * example by the service-index goal of the Tuscany maven plugin, and stored as {@link #INDEX_RESOURCE} so that
+ * the runtime can discover the extensions without reading every declaration file on the classpath.
+ * <p>
+ * The index is a text file with a [serviceName] line for each service, followed by its declarations in the
+ * same syntax as in META-INF/services. The file names of the archives it was generated from are listed in the
+ * [@archives] section, so that the runtime knows which META-INF/services files it doesn't need to read.
+ * Lines starting with # are comments.
+ *
+ * @version $Rev$ $Date$
+ */
+public class ServiceDeclarationIndex {
+    /**
+     * The resource name of the index
+     */
+    public static final String INDEX_RESOURCE = "META-INF/tuscany/services.index";
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final String ARCHIVES = "@archives";
+
+    private final Map<String, List<String>> declarations = new TreeMap<String, List<String>>();
+    private final Set<String> archives = new TreeSet<String>();
+
+    /**
+     * Test if the declarations of a service can be indexed. The declarations of javax.xml.xpath.XPathFactory
+     * use the property file syntax and are always discovered on the classpath.
+     */
+    public static boolean isIndexable(String serviceName) {
+        return !"javax.xml.xpath.XPathFactory".equals(serviceName);
+    }
+
+    /**
+     * Add a declaration of a service.
+     */
+    public void add(String serviceName, String declaration) {
+        List<String> list = declarations.get(serviceName);
+        if (list == null) {
+            list = new ArrayList<String>();
+            declarations.put(serviceName, list);
+        }
+        list.add(declaration);
+    }
+
+    /**
+     * Add the declarations read from a META-INF/services file.
+     *
+     * @param serviceName The name of the service
+     * @param is The content of the file
+     */
+    public void add(String serviceName, InputStream is) throws IOException {
+        if (!isIndexable(serviceName)) {
+            return;
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, ENCODING));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.startsWith("#") && !"".equals(line)) {
+                add(serviceName, line);
+            }
+        }
+    }
+
+    /**
+     * Record an archive whose declarations have been added to the index.
+     *
+     * @param fileName The file name of the archive, for example tuscany-core-2.5.jar
+     */
+    public void addArchive(String fileName) {
+        archives.add(fileName);
+    }
+
+    /**
+     * Get the file names of the archives whose declarations are in the index.
+     */
+    public Set<String> getArchives() {
+        return archives;
+    }
+
+    /**
+     * Get the names of the indexed services.
+     */
+    public Set<String> getServiceNames() {
+        return declarations.keySet();
+    }
+
+    /**
+     * Get the declarations of a service.
+     *
+     * @return the declarations, or null if the service is not indexed
+     */
+    public List<String> getDeclarations(String serviceName) {
+        return declarations.get(serviceName);
+    }
+
+    /**
+     * Merge the content of an index into this one.
+     */
+    public void load(InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, ENCODING));
+        String serviceName = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith("#") || "".equals(line)) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]")) {
+                serviceName = line.substring(1, line.length() - 1).trim();
+            } else if (ARCHIVES.equals(serviceName)) {
+                addArchive(line);
+            } else if (serviceName != null) {
+                add(serviceName, line);
+            } else {
+                throw new IOException("Service declaration outside of a service section: " + line);
+            }
+        }
+    }
+
+    /**
+     * Write the index.
+     */
+    public void store(OutputStream os) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(os, ENCODING));
+        writer.write("# Generated index of the META-INF/services declarations\n");
+        if (!archives.isEmpty()) {
+            writer.write('[' + ARCHIVES + "]\n");
+            for (String archive : archives) {
+                writer.write(archive);
+                writer.write('\n');
+            }
+        }
+        for (Map.Entry<String, List<String>> e : declarations.entrySet()) {
+            writer.write('[' + e.getKey() + "]\n");
+            for (String declaration : e.getValue()) {
+                writer.write(declaration);
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+}
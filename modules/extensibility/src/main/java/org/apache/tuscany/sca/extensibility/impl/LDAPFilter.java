@@ -29,6 +29,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.tuscany.sca.extensibility.ServiceDeclaration;
 
@@ -179,6 +180,10 @@ public class LDAPFilter {
     /* normalized filter string for Filter object */
     private transient volatile String filterString;
 
+    /* parsed filters are immutable, so they are shared by filter string */
+    private static final int MAX_CACHED_FILTERS = 256;
+    private static final Map<String, LDAPFilter> filters = new ConcurrentHashMap<String, LDAPFilter>();
+
     /**
      * Constructs a {@link LDAPFilter} object. This filter object may be
      * used to match a {@link ServiceReference} or a Dictionary.
@@ -193,7 +198,15 @@ public class LDAPFilter {
      *            invalid filter string that cannot be parsed.
      */
     public static LDAPFilter newInstance(String filterString) throws InvalidSyntaxException {
-        return new Parser(filterString).parse();
+        LDAPFilter filter = filters.get(filterString);
+        if (filter == null) {
+            filter = new Parser(filterString).parse();
+            if (filters.size() >= MAX_CACHED_FILTERS) {
+                filters.clear();
+            }
+            filters.put(filterString, filter);
+        }
+        return filter;
     }
 
     LDAPFilter(int operation, String attr, Object value) {
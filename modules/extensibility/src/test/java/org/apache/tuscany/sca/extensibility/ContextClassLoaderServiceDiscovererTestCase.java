@@ -19,8 +19,18 @@
 
 package org.apache.tuscany.sca.extensibility;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -76,6 +86,97 @@ public class ContextClassLoaderServiceDiscovererTestCase {
         }
     }
 
+    @Test
+    public void testDeclarationsAreNotShared() throws IOException {
+        ServiceDeclaration d1 =
+            discover.getServiceDeclaration("org.apache.tuscany.sca.core.ModuleActivatorExtensionPoint");
+        d1.getAttributes().put("test", "value");
+        ServiceDeclaration d2 =
+            discover.getServiceDeclaration("org.apache.tuscany.sca.core.ModuleActivatorExtensionPoint");
+        Assert.assertNotSame(d1, d2);
+        Assert.assertNull(d2.getAttributes().get("test"));
+    }
+
+    @Test
+    public void testServiceIndex() throws IOException {
+        File dir = new File("target/test-service-index");
+        File indexFile = new File(dir, ServiceDeclarationIndex.INDEX_RESOURCE);
+        indexFile.getParentFile().mkdirs();
+        ServiceDeclarationIndex index = new ServiceDeclarationIndex();
+        index.add("test.IndexedService", "test.IndexedServiceImpl;ranking=10");
+        OutputStream os = new FileOutputStream(indexFile);
+        try {
+            index.store(os);
+        } finally {
+            os.close();
+        }
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toURI().toURL()}, getClass().getClassLoader());
+        ContextClassLoaderServiceDiscoverer indexed = new ContextClassLoaderServiceDiscoverer(classLoader);
+        Collection<ServiceDeclaration> descriptors = indexed.getServiceDeclarations("test.IndexedService");
+        Assert.assertEquals(1, descriptors.size());
+        ServiceDeclaration descriptor = descriptors.iterator().next();
+        Assert.assertEquals("test.IndexedServiceImpl", descriptor.getClassName());
+        Assert.assertEquals("10", descriptor.getAttributes().get("ranking"));
+
+        // Services that are not indexed are still discovered
+        descriptors = indexed.getServiceDeclarations("org.apache.tuscany.sca.core.ModuleActivatorExtensionPoint");
+        Assert.assertEquals(1, descriptors.size());
+    }
+
+    @Test
+    public void testServiceIndexWithUnindexedEntries() throws IOException {
+        File dir = new File("target/test-service-index-partial");
+        ServiceDeclarationIndex index = new ServiceDeclarationIndex();
+        index.add("test.PartlyIndexedService", "test.IndexedImpl");
+        index.addArchive("indexed.jar");
+        writeIndex(new File(dir, "index"), index);
+
+        // An archive the index was generated from, its declarations are not read again
+        File indexedJar = new File(dir, "indexed.jar");
+        JarOutputStream jar = new JarOutputStream(new FileOutputStream(indexedJar));
+        try {
+            jar.putNextEntry(new JarEntry("META-INF/services/test.PartlyIndexedService"));
+            jar.write("test.StaleImpl\n".getBytes("UTF-8"));
+            jar.closeEntry();
+        } finally {
+            jar.close();
+        }
+
+        // A classpath entry added after the index was generated
+        File services = new File(dir, "added/META-INF/services/test.PartlyIndexedService");
+        services.getParentFile().mkdirs();
+        OutputStream os = new FileOutputStream(services);
+        try {
+            os.write("test.IndexedImpl\ntest.AddedImpl\n".getBytes("UTF-8"));
+        } finally {
+            os.close();
+        }
+
+        URLClassLoader classLoader =
+            new URLClassLoader(new URL[] {new File(dir, "index").toURI().toURL(), indexedJar.toURI().toURL(),
+                                          new File(dir, "added").toURI().toURL()}, getClass().getClassLoader());
+        ContextClassLoaderServiceDiscoverer indexed = new ContextClassLoaderServiceDiscoverer(classLoader);
+        Collection<ServiceDeclaration> descriptors = indexed.getServiceDeclarations("test.PartlyIndexedService");
+        Set<String> classNames = new HashSet<String>();
+        for (ServiceDeclaration descriptor : descriptors) {
+            classNames.add(descriptor.getClassName());
+        }
+        // The declaration repeated from the index is only returned once
+        Assert.assertEquals(2, descriptors.size());
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("test.IndexedImpl", "test.AddedImpl")), classNames);
+    }
+
+    private static void writeIndex(File dir, ServiceDeclarationIndex index) throws IOException {
+        File indexFile = new File(dir, ServiceDeclarationIndex.INDEX_RESOURCE);
+        indexFile.getParentFile().mkdirs();
+        OutputStream os = new FileOutputStream(indexFile);
+        try {
+            index.store(os);
+        } finally {
+            os.close();
+        }
+    }
 
     /**
      * @throws java.lang.Exception
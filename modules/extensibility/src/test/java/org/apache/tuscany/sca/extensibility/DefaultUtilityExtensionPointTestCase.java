@@ -21,6 +21,11 @@ package org.apache.tuscany.sca.extensibility;
 
 
 import java.io.Serializable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.tuscany.sca.core.DefaultExtensionPointRegistry;
 import org.apache.tuscany.sca.core.DefaultUtilityExtensionPoint;
@@ -76,6 +81,33 @@ public class DefaultUtilityExtensionPointTestCase {
         ep.removeUtility(u1);
     }
 
+    @Test
+    public void testConcurrentGet() throws Exception {
+        DefaultExtensionPointRegistry registry = new DefaultExtensionPointRegistry();
+        final UtilityExtensionPoint utilities = new DefaultUtilityExtensionPoint(registry);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Callable<Object> lookup = new Callable<Object>() {
+                public Object call() throws Exception {
+                    return utilities.getUtility(SlowUtility.class);
+                }
+            };
+            Future<?>[] results = new Future<?>[8];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = executor.submit(lookup);
+            }
+            Object utility = results[0].get();
+            Assert.assertNotNull(utility);
+            for (Future<?> result : results) {
+                Assert.assertSame(utility, result.get());
+            }
+            Assert.assertEquals(1, SlowUtility.instances.get());
+            Assert.assertTrue(registry.getStartupReport().contains(SlowUtility.class.getName()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * @throws java.lang.Exception
      */
@@ -115,4 +147,13 @@ public class DefaultUtilityExtensionPointTestCase {
         
     }
 
+    public static class SlowUtility {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public SlowUtility() throws InterruptedException {
+            instances.incrementAndGet();
+            Thread.sleep(100);
+        }
+    }
+
 }
@@ -50,7 +50,9 @@ import org.apache.tuscany.sca.host.http.SecurityContext;
 import org.apache.tuscany.sca.host.http.ServletHost;
 import org.apache.tuscany.sca.host.http.ServletMappingException;
 import org.apache.tuscany.sca.host.http.extensibility.HttpPortAllocator;
+import org.apache.tuscany.sca.work.NamedWorkScheduler;
 import org.apache.tuscany.sca.work.WorkScheduler;
+import org.apache.tuscany.sca.work.WorkSchedulerException;
 import org.mortbay.jetty.Connector;
 import org.mortbay.jetty.Server;
 import org.mortbay.jetty.handler.ContextHandler;
@@ -121,6 +123,9 @@ public class JettyServer implements ServletHost, LifeCycleListener {
     public JettyServer(ExtensionPointRegistry registry) {
         UtilityExtensionPoint utilityExtensionPoint = registry.getExtensionPoint(UtilityExtensionPoint.class);
         this.workScheduler = utilityExtensionPoint.getUtility(WorkScheduler.class);
+        if (this.workScheduler instanceof NamedWorkScheduler) {
+            this.workScheduler = ((NamedWorkScheduler)this.workScheduler).getWorkScheduler(NamedWorkScheduler.HTTP);
+        }
         this.httpPortAllocator = utilityExtensionPoint.getUtility(HttpPortAllocator.class);
         init();
     }
@@ -561,8 +566,13 @@ public class JettyServer implements ServletHost, LifeCycleListener {
     private class WorkSchedulerThreadPool implements ThreadPool {
 
         public boolean dispatch(Runnable work) {
-            workScheduler.scheduleWork(work);
-            return true;
+            try {
+                workScheduler.scheduleWork(work);
+                return true;
+            } catch (WorkSchedulerException e) {
+                // The pool is saturated, let Jetty handle the rejection
+                return false;
+            }
         }
 
         public void join() throws InterruptedException {
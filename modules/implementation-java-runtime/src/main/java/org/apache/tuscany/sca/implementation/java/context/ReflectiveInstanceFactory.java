@@ -28,6 +28,8 @@ import org.apache.tuscany.sca.core.factory.ObjectFactory;
 import org.apache.tuscany.sca.databinding.impl.XSDDataTypeConverter;
 import org.apache.tuscany.sca.implementation.java.injection.Injector;
 import org.apache.tuscany.sca.implementation.java.invocation.EventInvoker;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvoker;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvokerFactory;
 
 /**
  * @version $Rev$ $Date$
@@ -37,6 +39,7 @@ public class ReflectiveInstanceFactory<T> implements InstanceFactory<T> {
                                                           "org.apache.tuscany.sca.implementation.java.runtime.implementation-java-runtime-validation-messages");
 
     private final Constructor<T> ctr;
+    private final MethodInvoker ctrInvoker;
     private final ObjectFactory<?>[] ctrArgs;
     private final Injector<T>[] injectors;
     private final EventInvoker<T> initInvoker;
@@ -49,7 +52,18 @@ public class ReflectiveInstanceFactory<T> implements InstanceFactory<T> {
                                      Injector<T>[] callbackInjectors,
                                      EventInvoker<T> initInvoker,
                                      EventInvoker<T> destroyInvoker) {
+        this(ctr, ctrArgs, injectors, callbackInjectors, initInvoker, destroyInvoker, MethodInvokerFactory.DEFAULT);
+    }
+
+    public ReflectiveInstanceFactory(Constructor<T> ctr,
+                                     ObjectFactory<?>[] ctrArgs,
+                                     Injector<T>[] injectors,
+                                     Injector<T>[] callbackInjectors,
+                                     EventInvoker<T> initInvoker,
+                                     EventInvoker<T> destroyInvoker,
+                                     MethodInvokerFactory methodInvokerFactory) {
         this.ctr = ctr;
+        this.ctrInvoker = methodInvokerFactory.createConstructorInvoker(ctr);
         this.ctrArgs = ctrArgs;
         this.injectors = injectors;
         this.callbackInjectors = callbackInjectors;
@@ -57,19 +71,19 @@ public class ReflectiveInstanceFactory<T> implements InstanceFactory<T> {
         this.destroyInvoker = destroyInvoker;
     }
 
+    @SuppressWarnings("unchecked")
     public InstanceWrapper<T> newInstance() {
         T instance;
         try {
+            Object[] args = null;
             if (ctrArgs != null) {
-                Object[] args = new Object[ctrArgs.length];
+                args = new Object[ctrArgs.length];
                 for (int i = 0; i < args.length; i++) {
                     args[i] = ctrArgs[i].getInstance();
                 }
-                instance = ctr.newInstance(args);
-            } else {
-                instance = ctr.newInstance();
             }
-        } catch (InstantiationException e) {
+            instance = (T)ctrInvoker.invoke(null, args);
+        } catch (InstantiationError e) {
             String name = ctr.getDeclaringClass().getName();
             String message = logger.getResourceBundle().getString("ClassNoInstantiable");
             message = message.replace("{0}", name);
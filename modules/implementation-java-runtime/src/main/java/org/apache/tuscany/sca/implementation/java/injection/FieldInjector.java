@@ -19,12 +19,15 @@
 package org.apache.tuscany.sca.implementation.java.injection;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
 import org.apache.tuscany.sca.core.factory.ObjectCreationException;
 import org.apache.tuscany.sca.core.factory.ObjectFactory;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvoker;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvokerFactory;
 
 /**
  * Injects a value created by an {@link org.apache.tuscany.sca.core.factory.ObjectFactory} on a given field
@@ -35,6 +38,8 @@ public class FieldInjector<T> implements Injector<T> {
 
     private final Field field;
 
+    private final MethodInvoker setter;
+
     private final ObjectFactory<?> objectFactory;
 
     /**
@@ -42,6 +47,14 @@ public class FieldInjector<T> implements Injector<T> {
      * the reflected <code>Field</code>
      */
     public FieldInjector(Field pField, ObjectFactory<?> objectFactory) {
+        this(pField, objectFactory, MethodInvokerFactory.DEFAULT);
+    }
+
+    /**
+     * Create an injector setting the field with a setter created by the given
+     * <code>MethodInvokerFactory</code>
+     */
+    public FieldInjector(Field pField, ObjectFactory<?> objectFactory, MethodInvokerFactory methodInvokerFactory) {
         field = pField;
         // Allow privileged access to set accessibility. Requires ReflectPermission
         // in security policy.
@@ -52,6 +65,7 @@ public class FieldInjector<T> implements Injector<T> {
             }
         });
         
+        this.setter = methodInvokerFactory.createFieldSetter(field);
         this.objectFactory = objectFactory;
     }
 
@@ -64,9 +78,13 @@ public class FieldInjector<T> implements Injector<T> {
     
     public void inject(T instance, Object value) {
         try {
-            field.set(instance, value);
+            setter.invoke(instance, new Object[] {value});
         } catch (IllegalAccessException e) {
             throw new ObjectCreationException("Field is not accessible [" + field + "]", e);
+        } catch (InvocationTargetException e) {
+            throw new ObjectCreationException("Field is not accessible [" + field + "]", e.getTargetException());
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Value can't be assigned to field [" + field + "]", e);
         }
     }
     
@@ -26,6 +26,8 @@ import java.security.PrivilegedAction;
 
 import org.apache.tuscany.sca.core.factory.ObjectCreationException;
 import org.apache.tuscany.sca.core.factory.ObjectFactory;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvoker;
+import org.apache.tuscany.sca.implementation.java.invocation.MethodInvokerFactory;
 
 /**
  * Injects a value created by an {@link org.apache.tuscany.sca.core.factory.ObjectFactory} using a given method
@@ -34,9 +36,14 @@ import org.apache.tuscany.sca.core.factory.ObjectFactory;
  */
 public class MethodInjector<T> implements Injector<T> {
     private final Method method;
+    private final MethodInvoker invoker;
     private final ObjectFactory<?> objectFactory;
 
     public MethodInjector(Method aMethod, ObjectFactory<?> objectFactory) {
+        this(aMethod, objectFactory, MethodInvokerFactory.DEFAULT);
+    }
+
+    public MethodInjector(Method aMethod, ObjectFactory<?> objectFactory, MethodInvokerFactory methodInvokerFactory) {
         assert aMethod != null;
         assert objectFactory != null;
         this.method = aMethod;
@@ -48,6 +55,7 @@ public class MethodInjector<T> implements Injector<T> {
                 return null;
             }
         });           
+        this.invoker = methodInvokerFactory.createMethodInvoker(method);
         this.objectFactory = objectFactory;
     }
 
@@ -57,11 +65,13 @@ public class MethodInjector<T> implements Injector<T> {
     
     private void inject(T instance, Object value) {
         try {
-            method.invoke(instance, value);
+            invoker.invoke(instance, new Object[] {value});
         } catch (IllegalAccessException e) {
             throw new ObjectCreationException("Method is not accessible [" + method + "]", e);
         } catch (IllegalArgumentException e) {
             throw new ObjectCreationException("Exception thrown by setter: " + method.getName(), e);
+        } catch (ClassCastException e) {
+            throw new ObjectCreationException("Exception thrown by setter: " + method.getName(), e);
         } catch (InvocationTargetException e) {
             throw new ObjectCreationException("Exception thrown by setter: " + method.getName(), e);
         }
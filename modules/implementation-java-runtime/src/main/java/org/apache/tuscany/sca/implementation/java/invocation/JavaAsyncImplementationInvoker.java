@@ -45,7 +45,15 @@ import org.oasisopen.sca.ServiceRuntimeException;
 public class JavaAsyncImplementationInvoker extends JavaImplementationInvoker implements InterceptorAsync {
 	
     public JavaAsyncImplementationInvoker(Operation operation, Method method, RuntimeComponent component, RuntimeComponentService service) {
-    	super( operation, method, component, service);
+        this(operation, method, component, service, MethodInvokerFactory.DEFAULT);
+    } // end constructor
+
+    public JavaAsyncImplementationInvoker(Operation operation,
+                                          Method method,
+                                          RuntimeComponent component,
+                                          RuntimeComponentService service,
+                                          MethodInvokerFactory methodInvokerFactory) {
+    	super( operation, method, component, service, methodInvokerFactory);
         assert method != null : "Operation method cannot be null";
         assert ((JavaOperation) operation).isAsyncServer() : "Operation must be async";
     } // end constructor
@@ -86,7 +94,7 @@ public class JavaAsyncImplementationInvoker extends JavaImplementationInvoker im
             }
             payload2[ payload2.length - 1 ] = dispatch;
             
-            ret = method.invoke(instance, (Object[])payload2);
+            ret = methodInvoker.invoke(instance, payload2);
             
             throw new InvocationTargetException( new AsyncResponseException("AsyncResponse") );
 
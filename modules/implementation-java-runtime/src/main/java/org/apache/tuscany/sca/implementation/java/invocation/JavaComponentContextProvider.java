@@ -304,15 +304,17 @@ public class JavaComponentContextProvider {
         //cleanUpPolicyHandlers();
     }
 
-    Invoker createInvoker(Operation operation, RuntimeComponentService service) throws NoSuchMethodException {
+    Invoker createInvoker(Operation operation,
+                          RuntimeComponentService service,
+                          MethodInvokerFactory methodInvokerFactory) throws NoSuchMethodException {
         Class<?> implClass = instanceFactoryProvider.getImplementationClass();
 
         Method method = JavaInterfaceUtil.findMethod(implClass, operation);
         if (operation instanceof JavaOperation &&
             ((JavaOperation) operation).isAsyncServer() ) {
-        	return new JavaAsyncImplementationInvoker(operation, method, component, service);
+        	return new JavaAsyncImplementationInvoker(operation, method, component, service, methodInvokerFactory);
         } else {
-        	return new JavaImplementationInvoker(operation, method, component, service);
+        	return new JavaImplementationInvoker(operation, method, component, service, methodInvokerFactory);
         } // end if
     } // end 
 
@@ -59,8 +59,15 @@ import org.oasisopen.sca.ServiceRuntimeException;
  * @version $Rev$ $Date$
  */
 public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics {
+    private static final PrivilegedAction<ClassLoader> GET_TCCL = new PrivilegedAction<ClassLoader>() {
+        public ClassLoader run() {
+            return Thread.currentThread().getContextClassLoader();
+        }
+    };
+
     protected Operation operation;
     protected Method method;
+    protected MethodInvoker methodInvoker;
     protected RuntimeComponentService service;
     protected boolean allowsPBR;
 
@@ -68,14 +75,27 @@ public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics
     protected final ScopeContainer scopeContainer;
 	private final InterfaceContract interfaze;
 
+    // The parameter modes of the operation if it has Holder parameters, computed once
+    private final ParameterMode[] holderModes;
+
     public JavaImplementationInvoker(Operation operation, Method method, RuntimeComponent component, RuntimeComponentService service) {
+        this(operation, method, component, service, MethodInvokerFactory.DEFAULT);
+    }
+
+    public JavaImplementationInvoker(Operation operation,
+                                     Method method,
+                                     RuntimeComponent component,
+                                     RuntimeComponentService service,
+                                     MethodInvokerFactory methodInvokerFactory) {
         assert method != null : "Operation method cannot be null";
         this.method = method;
+        this.methodInvoker = methodInvokerFactory.createMethodInvoker(method);
         this.operation = operation;
         this.scopeContainer = ((ScopedRuntimeComponent)component).getScopeContainer();
         this.allowsPBR = ((JavaImplementation)component.getImplementation()).isAllowsPassByReference(method);
         this.service = service;
         this.interfaze = service.getInterfaceContract();
+        this.holderModes = getHolderModes(operation);
     }
 
     public JavaImplementationInvoker(Operation operation, RuntimeComponent component, RuntimeComponentService service) {
@@ -84,6 +104,24 @@ public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics
         this.scopeContainer = ((ScopedRuntimeComponent)component).getScopeContainer();
         this.service = service;
         this.interfaze = service.getInterfaceContract();
+        this.holderModes = getHolderModes(operation);
+    }
+
+    /**
+     * Returns the parameter modes of an operation if it has INOUT or OUT parameters that
+     * are passed in Holders, or null. Holders are only used for remotable interfaces.
+     */
+    private static ParameterMode[] getHolderModes(Operation op) {
+        if (op == null || op.getInterface() == null || !op.getInterface().isRemotable()) {
+            return null;
+        }
+        List<ParameterMode> modes = op.getParameterModes();
+        for (ParameterMode mode : modes) {
+            if (mode != ParameterMode.IN) {
+                return modes.toArray(new ParameterMode[modes.size()]);
+            }
+        }
+        return null;
     }
 
     @SuppressWarnings("unchecked")
@@ -102,12 +140,7 @@ public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics
         // store the current thread context classloader
         // as we need to replace it with the class loader
         // used to load the java class as per SCA Spec
-        final ClassLoader tccl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
-                public ClassLoader run() {
-                    ClassLoader tccl = Thread.currentThread().getContextClassLoader();
-                    return tccl;
-                 }
-            });
+        final ClassLoader tccl = AccessController.doPrivileged(GET_TCCL);
         
         // TUSCANY-3946 - If the TCCL has not already been set to the contribution classloader earlier
         // in the wire processing then
@@ -145,55 +178,56 @@ public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics
                 }
             }
             
+            // Only swap the TCCL if it isn't already the implementation classloader
+            final ClassLoader cl = instance.getClass().getClassLoader();
+            swapTCCL = swapTCCL && tccl != cl;
             if (swapTCCL){
                 AccessController.doPrivileged(new PrivilegedAction() {
                     public Object run() {
-                        Thread.currentThread().setContextClassLoader(instance.getClass().getClassLoader());
+                        Thread.currentThread().setContextClassLoader(cl);
                         return null;
                      }
                 });
             }
             
-            int argumentHolderCount = 0;
-
             // Holder pattern. Any payload parameters <T> which are should be in holders are placed in Holder<T>.
             // Only check Holder for remotable interfaces
-            if (imethod != null && op.getInterface().isRemotable()) {
+            ParameterMode[] modes = op == operation ? holderModes : getHolderModes(op);
+            if (modes != null) {
                 Object[] payloadArray = (Object[])payload;
-                List<Object> payloadList = new ArrayList<Object>();
+                Object[] args = new Object[modes.length];
                 int nextIndex = 0;
-                for (ParameterMode mode : op.getParameterModes()) {                    
-                    if (mode.equals(ParameterMode.IN)) {
-                        payloadList.add(payloadArray[nextIndex++]);
-                    } else if (mode.equals(ParameterMode.INOUT)) {
+                for (int i = 0; i < modes.length; i++) {
+                    if (modes[i] == ParameterMode.IN) {
+                        args[i] = payloadArray[nextIndex++];
+                    } else if (modes[i] == ParameterMode.INOUT) {
                         // Promote array params from [<T>] to [Holder<T>]                  
-                        Object item = payloadArray[nextIndex++];                           
-                        Holder itemHolder = new Holder(item);
-                        payloadList.add(itemHolder);
-                        argumentHolderCount++;
+                        args[i] = new Holder(payloadArray[nextIndex++]);
                     } else {
                         // Create an empty Holder since we should not pass values for OUT parameters
-                        payloadList.add(new Holder());
-                        argumentHolderCount++;
-                    }                        
+                        args[i] = new Holder();
+                    }
                 }
-                
-                // Maybe a bit odd to do but this way I don't have to worry about how the invoke if/else
-                // immediately following might need to be changed.
-                payload = payloadList.toArray();
+                payload = args;
             }
 
-            Object ret;
+            Object[] args;
             if (payload != null && !payload.getClass().isArray()) {
-                ret = imethod.invoke(instance, payload);
+                args = new Object[] {payload};
+            } else {
+                args = (Object[])payload;
+            }
+            Object ret;
+            if (imethod == method) {
+                ret = methodInvoker.invoke(instance, args);
             } else {
-                ret = imethod.invoke(instance, (Object[])payload);
+                ret = imethod.invoke(instance, args);
             }
 
             scopeContainer.returnWrapper(wrapper, contextId);
             
                         
-            if (argumentHolderCount > 0) {
+            if (modes != null) {
             	
                 // Holder pattern. Any payload Holder<T> types are returned as part of the message body.
             	Object[] payloadArray = (Object[])payload;
@@ -202,8 +236,8 @@ public class JavaImplementationInvoker implements Invoker, DataExchangeSemantics
             	ArrayList<Object> result = new ArrayList<Object>();
                 if (imethod != null) {                	
                     
-                    for (int i = 0, size = op.getParameterModes().size(); i < size; i++) {                       
-                        if (ParameterMode.IN != op.getParameterModes().get(i)) {                        	
+                    for (int i = 0; i < modes.length; i++) {                       
+                        if (ParameterMode.IN != modes[i]) {                        	
                         	// Demote array params from Holder<T> to <T>.                                                   
                         	Holder<Object> item = (Holder<Object>)payloadArray[i];
                         	payloadArray[i] = item.value;
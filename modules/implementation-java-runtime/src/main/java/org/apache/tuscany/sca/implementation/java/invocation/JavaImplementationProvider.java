@@ -35,6 +35,7 @@ import org.apache.tuscany.sca.implementation.java.JavaResourceImpl;
 import org.apache.tuscany.sca.implementation.java.ResourceHost;
 import org.apache.tuscany.sca.implementation.java.injection.RequestContextObjectFactory;
 import org.apache.tuscany.sca.implementation.java.injection.ResourceObjectFactory;
+import org.apache.tuscany.sca.implementation.java.introspect.JavaClassMembers;
 import org.apache.tuscany.sca.interfacedef.Interface;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.interfacedef.java.JavaInterface;
@@ -56,6 +57,7 @@ public class JavaImplementationProvider implements ScopedImplementationProvider,
     private JavaComponentContextProvider componentContextProvider;
     private RequestContextFactory requestContextFactory;
     private Scope scope;
+    private MethodInvokerFactory methodInvokerFactory;
 
     public JavaImplementationProvider(RuntimeComponent component,
                                       JavaImplementation implementation,
@@ -64,12 +66,33 @@ public class JavaImplementationProvider implements ScopedImplementationProvider,
                                       PropertyValueFactory propertyValueObjectFactory,
                                       ComponentContextFactory componentContextFactory,
                                       RequestContextFactory requestContextFactory) {
+        this(component,
+             implementation,
+             proxyService,
+             dataBindingRegistry,
+             propertyValueObjectFactory,
+             componentContextFactory,
+             requestContextFactory,
+             MethodInvokerFactory.DEFAULT,
+             MethodInvokerFactory.DEFAULT);
+    }
+
+    public JavaImplementationProvider(RuntimeComponent component,
+                                      JavaImplementation implementation,
+                                      ProxyFactory proxyService,
+                                      DataBindingExtensionPoint dataBindingRegistry,
+                                      PropertyValueFactory propertyValueObjectFactory,
+                                      ComponentContextFactory componentContextFactory,
+                                      RequestContextFactory requestContextFactory,
+                                      MethodInvokerFactory methodInvokerFactory,
+                                      MethodInvokerFactory instanceFactoryInvokerFactory) {
         super();
         this.implementation = implementation;
         this.requestContextFactory = requestContextFactory;
+        this.methodInvokerFactory = methodInvokerFactory;
 
         try {
-            JavaInstanceFactoryProvider configuration = new JavaInstanceFactoryProvider(implementation);
+            JavaInstanceFactoryProvider configuration = new JavaInstanceFactoryProvider(implementation, instanceFactoryInvokerFactory);
             configuration.setProxyFactory(proxyService);
             componentContextProvider =
                 new JavaComponentContextProvider(component,
@@ -122,7 +145,7 @@ public class JavaImplementationProvider implements ScopedImplementationProvider,
 
     public Invoker createInvoker(RuntimeComponentService service, Operation operation) {
         try {
-            return componentContextProvider.createInvoker(operation, service);
+            return componentContextProvider.createInvoker(operation, service, methodInvokerFactory);
         } catch (NoSuchMethodException e) {
             // It's possible that the instance being invoked is a user-specified
             // callback object that isn't an instance of the component implementation
@@ -136,7 +159,11 @@ public class JavaImplementationProvider implements ScopedImplementationProvider,
             if (iface instanceof JavaInterface) {
                 try {
                     Method method = JavaInterfaceUtil.findMethod(((JavaInterface)iface).getJavaClass(), operation);
-                    return new JavaImplementationInvoker(operation, method, componentContextProvider.getComponent(), service);
+                    return new JavaImplementationInvoker(operation,
+                                                         method,
+                                                         componentContextProvider.getComponent(),
+                                                         service,
+                                                         methodInvokerFactory);
                 } catch (NoSuchMethodException e1) {
                     throw new IllegalArgumentException(e1);
                 }
@@ -160,6 +187,10 @@ public class JavaImplementationProvider implements ScopedImplementationProvider,
 
     public void stop() {
         componentContextProvider.stop();
+        Class<?> javaClass = implementation.getJavaClass();
+        if (javaClass != null) {
+            JavaClassMembers.removeClassesForContribution(javaClass.getClassLoader());
+        }
     }
 
     public InstanceWrapper<?> createInstanceWrapper() {
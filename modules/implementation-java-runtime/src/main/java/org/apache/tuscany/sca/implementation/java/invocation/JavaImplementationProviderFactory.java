@@ -19,6 +19,7 @@
 
 package org.apache.tuscany.sca.implementation.java.invocation;
 
+import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,6 +41,7 @@ import org.apache.tuscany.sca.invocation.MessageFactory;
 import org.apache.tuscany.sca.provider.ImplementationProvider;
 import org.apache.tuscany.sca.provider.ImplementationProviderFactory;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
 
 /**
  * @version $Rev$ $Date$
@@ -51,6 +53,8 @@ public class JavaImplementationProviderFactory implements ImplementationProvider
     private ProxyFactory proxyFactory;
     private ComponentContextFactory componentContextFactory;
     private RequestContextFactory requestContextFactory;
+    private MethodInvokerFactory methodInvokerFactory = MethodInvokerFactory.DEFAULT;
+    private MethodInvokerFactory instanceFactoryInvokerFactory = MethodInvokerFactory.DEFAULT;
 
     public JavaImplementationProviderFactory(ExtensionPointRegistry registry) {
         FactoryExtensionPoint factories = registry.getExtensionPoint(FactoryExtensionPoint.class);
@@ -74,6 +78,26 @@ public class JavaImplementationProviderFactory implements ImplementationProvider
         requestContextFactory = contextFactories.getFactory(RequestContextFactory.class);
 
         proxyFactory = ExtensibleProxyFactory.getInstance(registry);
+
+        RuntimeProperties runtimeProperties = utilities.getUtility(RuntimeProperties.class);
+        Properties properties = runtimeProperties == null ? null : runtimeProperties.getProperties();
+        if (properties != null) {
+            methodInvokerFactory = getMethodInvokerFactory(properties, MethodInvokerFactory.INVOKER_PROPERTY);
+            instanceFactoryInvokerFactory =
+                getMethodInvokerFactory(properties, MethodInvokerFactory.INSTANCE_FACTORY_PROPERTY);
+        }
+    }
+
+    private static MethodInvokerFactory getMethodInvokerFactory(Properties properties, String name) {
+        String strategy = properties.getProperty(name);
+        if (strategy != null) {
+            try {
+                return new MethodInvokerFactory(strategy);
+            } catch (IllegalArgumentException e) {
+                logger.log(Level.WARNING, e.getMessage());
+            }
+        }
+        return MethodInvokerFactory.DEFAULT;
     }
     
     /*
@@ -99,7 +123,9 @@ public class JavaImplementationProviderFactory implements ImplementationProvider
                                               databindings,
                                               propertyValueFactory,
                                               componentContextFactory,
-                                              requestContextFactory);
+                                              requestContextFactory,
+                                              methodInvokerFactory,
+                                              instanceFactoryInvokerFactory);
     }
 
     public Class<JavaImplementation> getModelType() {
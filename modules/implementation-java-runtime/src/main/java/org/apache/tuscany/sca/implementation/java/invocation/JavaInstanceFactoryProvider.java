@@ -58,9 +58,15 @@ public class JavaInstanceFactoryProvider<T> implements InstanceFactoryProvider<T
     private final EventInvoker<T> destroyInvoker;
     private final Map<JavaElementImpl, Object> factories = new HashMap<JavaElementImpl, Object>();
 	private final List<JavaElementImpl> callbackInjectionSites;
+    private final MethodInvokerFactory methodInvokerFactory;
 
     public JavaInstanceFactoryProvider(JavaImplementation definition) {
+        this(definition, MethodInvokerFactory.DEFAULT);
+    }
+
+    public JavaInstanceFactoryProvider(JavaImplementation definition, MethodInvokerFactory methodInvokerFactory) {
         this.definition = definition;
+        this.methodInvokerFactory = methodInvokerFactory;
         this.initInvoker = definition.getInitMethod() == null ? null : new MethodEventInvoker<T>(definition
             .getInitMethod());
         this.destroyInvoker = definition.getDestroyMethod() == null ? null : new MethodEventInvoker<T>(definition
@@ -90,7 +96,8 @@ public class JavaInstanceFactoryProvider<T> implements InstanceFactoryProvider<T
         Injector<T>[] injectors = getInjectors(false);
         Injector<T>[] callbackInjectors = getInjectors(true);
         return new ReflectiveInstanceFactory<T>((Constructor<T>)definition.getConstructor().getConstructor(),
-                                                initArgs, injectors, callbackInjectors, initInvoker, destroyInvoker);
+                                                initArgs, injectors, callbackInjectors, initInvoker, destroyInvoker,
+                                                methodInvokerFactory);
     }
 
  
@@ -127,9 +134,9 @@ public class JavaInstanceFactoryProvider<T> implements InstanceFactoryProvider<T
                     ObjectFactory<?> factory = (ObjectFactory<?>)obj;
                     Member member = (Member)element.getAnchor();
                     if (element.getElementType() == ElementType.FIELD) {
-                        injectors[i++] = new FieldInjector<T>((Field)member, factory);
+                        injectors[i++] = new FieldInjector<T>((Field)member, factory, methodInvokerFactory);
                     } else if (element.getElementType() == ElementType.PARAMETER && member instanceof Method) {
-                        injectors[i++] = new MethodInjector<T>((Method)member, factory);
+                        injectors[i++] = new MethodInjector<T>((Method)member, factory, methodInvokerFactory);
                     } else if (member instanceof Constructor) {
                         // Ignore
                     } else {
@@ -149,16 +156,24 @@ public class JavaInstanceFactoryProvider<T> implements InstanceFactoryProvider<T
         if (element.getAnchor() instanceof Field) {
             Field field = (Field)element.getAnchor();
             if (field.getType().isArray()) {
-                return new FieldInjector<T>(field, new ArrayMultiplicityObjectFactory(interfaceType, factories));
+                return new FieldInjector<T>(field,
+                                            new ArrayMultiplicityObjectFactory(interfaceType, factories),
+                                            methodInvokerFactory);
             } else {
-                return new FieldInjector<T>(field, new ListMultiplicityObjectFactory(factories, field.getType()));
+                return new FieldInjector<T>(field,
+                                            new ListMultiplicityObjectFactory(factories, field.getType()),
+                                            methodInvokerFactory);
             }
         } else if (element.getAnchor() instanceof Method) {
             Method method = (Method)element.getAnchor();
             if (method.getParameterTypes()[0].isArray()) {
-                return new MethodInjector<T>(method, new ArrayMultiplicityObjectFactory(interfaceType, factories));
+                return new MethodInjector<T>(method,
+                                             new ArrayMultiplicityObjectFactory(interfaceType, factories),
+                                             methodInvokerFactory);
             } else {
-                return new MethodInjector<T>(method, new ListMultiplicityObjectFactory(factories, method.getParameterTypes()[0]));
+                return new MethodInjector<T>(method,
+                                             new ListMultiplicityObjectFactory(factories, method.getParameterTypes()[0]),
+                                             methodInvokerFactory);
             }
         } else {
             throw new InvalidAccessorException("Member must be a field or method: " + element.getName());
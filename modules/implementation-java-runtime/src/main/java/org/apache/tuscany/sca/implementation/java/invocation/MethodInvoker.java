@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.java.invocation;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invokes a method of a Java component implementation instance. Exceptions thrown
+ * by the method are wrapped in an InvocationTargetException, as with
+ * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+ *
+ * @version $Rev$ $Date$
+ */
+public interface MethodInvoker {
+
+    /**
+     * Invoke the method.
+     *
+     * @param instance the instance to invoke the method on
+     * @param args the arguments of the method
+     * @return the value returned by the method, boxed if it is a primitive, or null if the method is void
+     * @throws InvocationTargetException if the method throws an exception
+     * @throws IllegalAccessException if the method isn't accessible
+     */
+    Object invoke(Object instance, Object[] args) throws InvocationTargetException, IllegalAccessException;
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.java.invocation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the method invokers used to dispatch invocations to Java component
+ * implementations, and to create and inject their instances. With the generated
+ * strategy, a small class calling the method or constructor, or setting the field,
+ * directly is generated with ASM for each public member of a public class, and
+ * reflection is used for the other members. With the reflection strategy, reflection
+ * is always used.
+ * <p>
+ * The strategy used for the service invocations is selected with the
+ * "org.apache.tuscany.sca.implementation.java.invoker" runtime property, and the
+ * strategy used to create and inject the instances with the
+ * "org.apache.tuscany.sca.implementation.java.instanceFactory" runtime property. Both
+ * are set to "generated" (the default) or "reflection".
+ *
+ * @version $Rev$ $Date$
+ */
+public class MethodInvokerFactory {
+    private static final Logger logger = Logger.getLogger(MethodInvokerFactory.class.getName());
+
+    public static final String INVOKER_PROPERTY = "org.apache.tuscany.sca.implementation.java.invoker";
+    public static final String INSTANCE_FACTORY_PROPERTY = "org.apache.tuscany.sca.implementation.java.instanceFactory";
+    public static final String GENERATED = "generated";
+    public static final String REFLECTION = "reflection";
+
+    /**
+     * The factory used when no strategy is configured
+     */
+    public static final MethodInvokerFactory DEFAULT = new MethodInvokerFactory(GENERATED);
+
+    // The invokers generated so far, shared by the components using the same members
+    private static final Map<Member, WeakReference<MethodInvoker>> generatedInvokers =
+        Collections.synchronizedMap(new WeakHashMap<Member, WeakReference<MethodInvoker>>());
+
+    private static volatile boolean generationSupported = true;
+
+    private final boolean generate;
+
+    /**
+     * @param strategy "generated" or "reflection", null selects the default
+     */
+    public MethodInvokerFactory(String strategy) {
+        if (strategy == null || GENERATED.equalsIgnoreCase(strategy)) {
+            generate = true;
+        } else if (REFLECTION.equalsIgnoreCase(strategy)) {
+            generate = false;
+        } else {
+            throw new IllegalArgumentException("Invalid Java implementation invoker strategy: " + strategy);
+        }
+    }
+
+    public boolean isGenerated() {
+        return generate;
+    }
+
+    /**
+     * Create an invoker for a method.
+     *
+     * @param method the method
+     * @return the invoker
+     */
+    public MethodInvoker createMethodInvoker(Method method) {
+        if (generate && generationSupported && MethodInvokerGenerator.isGeneratable(method)) {
+            MethodInvoker invoker = getGeneratedInvoker(method);
+            if (invoker != null) {
+                return invoker;
+            }
+        }
+        return new ReflectiveMethodInvoker(method);
+    }
+
+    /**
+     * Create an invoker for a constructor. The invoker returns the new instance.
+     *
+     * @param constructor the constructor
+     * @return the invoker
+     */
+    public MethodInvoker createConstructorInvoker(Constructor<?> constructor) {
+        if (generate && generationSupported && MethodInvokerGenerator.isGeneratable(constructor)) {
+            MethodInvoker invoker = getGeneratedInvoker(constructor);
+            if (invoker != null) {
+                return invoker;
+            }
+        }
+        return new ReflectiveConstructorInvoker(constructor);
+    }
+
+    /**
+     * Create an invoker setting a field to its single argument.
+     *
+     * @param field the field
+     * @return the invoker
+     */
+    public MethodInvoker createFieldSetter(Field field) {
+        if (generate && generationSupported && MethodInvokerGenerator.isGeneratable(field)) {
+            MethodInvoker invoker = getGeneratedInvoker(field);
+            if (invoker != null) {
+                return invoker;
+            }
+        }
+        return new ReflectiveFieldSetter(field);
+    }
+
+    private static MethodInvoker getGeneratedInvoker(Member member) {
+        WeakReference<MethodInvoker> ref = generatedInvokers.get(member);
+        MethodInvoker invoker = ref == null ? null : ref.get();
+        if (invoker != null) {
+            return invoker;
+        }
+        try {
+            if (member instanceof Method) {
+                invoker = MethodInvokerGenerator.generate((Method)member);
+            } else if (member instanceof Constructor) {
+                invoker = MethodInvokerGenerator.generate((Constructor<?>)member);
+            } else {
+                invoker = MethodInvokerGenerator.generate((Field)member);
+            }
+        } catch (LinkageError e) {
+            // ASM isn't available, don't try again
+            generationSupported = false;
+            logger.log(Level.WARNING, "Generated Java implementation invokers are not supported", e);
+            return null;
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Unable to generate an invoker for " + member, e);
+            return null;
+        }
+        generatedInvokers.put(member, new WeakReference<MethodInvoker>(invoker));
+        return invoker;
+    }
+
+    /**
+     * A method invoker using reflection
+     */
+    static class ReflectiveMethodInvoker implements MethodInvoker {
+        private final Method method;
+
+        private ReflectiveMethodInvoker(Method method) {
+            this.method = method;
+        }
+
+        public Object invoke(Object instance, Object[] args) throws InvocationTargetException, IllegalAccessException {
+            return method.invoke(instance, args);
+        }
+
+        public String toString() {
+            return "reflection: " + method;
+        }
+    }
+
+    /**
+     * A constructor invoker using reflection
+     */
+    static class ReflectiveConstructorInvoker implements MethodInvoker {
+        private final Constructor<?> constructor;
+
+        private ReflectiveConstructorInvoker(Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+
+        public Object invoke(Object instance, Object[] args) throws InvocationTargetException, IllegalAccessException {
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException e) {
+                // Report it as the JVM would for a generated invoker
+                throw new InstantiationError(constructor.getDeclaringClass().getName());
+            }
+        }
+
+        public String toString() {
+            return "reflection: " + constructor;
+        }
+    }
+
+    /**
+     * A field setter using reflection
+     */
+    static class ReflectiveFieldSetter implements MethodInvoker {
+        private final Field field;
+
+        private ReflectiveFieldSetter(Field field) {
+            this.field = field;
+        }
+
+        public Object invoke(Object instance, Object[] args) throws InvocationTargetException, IllegalAccessException {
+            field.set(instance, args[0]);
+            return null;
+        }
+
+        public String toString() {
+            return "reflection: " + field;
+        }
+    }
+
+}
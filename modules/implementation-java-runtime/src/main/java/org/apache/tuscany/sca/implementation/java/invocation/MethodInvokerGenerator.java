@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.java.invocation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates method invokers calling a method or constructor, or setting a field,
+ * directly instead of using reflection. The generated classes are defined in a
+ * classloader delegating to the classloader of the declaring class, so they can only
+ * access public members of public classes with public parameter and return types.
+ *
+ * @version $Rev$ $Date$
+ */
+class MethodInvokerGenerator implements Opcodes {
+    private static final String INVOKER_NAME = Type.getInternalName(MethodInvoker.class);
+    private static final String ITE_NAME = Type.getInternalName(InvocationTargetException.class);
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private MethodInvokerGenerator() {
+    }
+
+    /**
+     * Test if an invoker can be generated for a method.
+     */
+    static boolean isGeneratable(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        return isAccessible(method.getDeclaringClass(), method.getParameterTypes())
+            && isPublic(method.getReturnType());
+    }
+
+    /**
+     * Test if an invoker can be generated for a constructor.
+     */
+    static boolean isGeneratable(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(constructor.getModifiers()) || Modifier.isAbstract(declaringClass.getModifiers())) {
+            return false;
+        }
+        return isAccessible(declaringClass, constructor.getParameterTypes());
+    }
+
+    /**
+     * Test if a setter can be generated for a field.
+     */
+    static boolean isGeneratable(Field field) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            return false;
+        }
+        return isAccessible(field.getDeclaringClass(), new Class<?>[] {field.getType()});
+    }
+
+    private static boolean isAccessible(Class<?> declaringClass, Class<?>[] types) {
+        if (declaringClass.getClassLoader() == null || !isPublic(declaringClass)) {
+            return false;
+        }
+        for (Class<?> type : types) {
+            if (!isPublic(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass()) {
+            if (!c.isPrimitive() && !Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generate and instantiate an invoker for a method.
+     */
+    static MethodInvoker generate(Method method) throws Exception {
+        Class<?> declaringClass = method.getDeclaringClass();
+        String className = getClassName(declaringClass, method.getName());
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv = visitInvoker(cw, className);
+
+        // Load and convert the target and arguments, a bad argument raises a ClassCastException
+        // or NullPointerException rather than an InvocationTargetException
+        String owner = Type.getInternalName(declaringClass);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        loadArguments(mv, method.getParameterTypes());
+
+        // Only the call itself is covered by the exception handler
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+        mv.visitLabel(start);
+        if (declaringClass.isInterface()) {
+            mv.visitMethodInsn(INVOKEINTERFACE, owner, method.getName(), Type.getMethodDescriptor(method));
+        } else {
+            mv.visitMethodInsn(INVOKEVIRTUAL, owner, method.getName(), Type.getMethodDescriptor(method));
+        }
+        mv.visitLabel(end);
+        box(mv, method.getReturnType());
+        mv.visitInsn(ARETURN);
+        visitHandler(mv, handler);
+
+        return define(declaringClass, className, cw);
+    }
+
+    /**
+     * Generate and instantiate an invoker for a constructor. The invoker returns the new
+     * instance and ignores the instance it is given.
+     */
+    static MethodInvoker generate(Constructor<?> constructor) throws Exception {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        String className = getClassName(declaringClass, "new");
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv = visitInvoker(cw, className);
+
+        String owner = Type.getInternalName(declaringClass);
+        mv.visitTypeInsn(NEW, owner);
+        mv.visitInsn(DUP);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        loadArguments(mv, parameterTypes);
+
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+        mv.visitLabel(start);
+        Type[] argumentTypes = new Type[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentTypes[i] = Type.getType(parameterTypes[i]);
+        }
+        mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, argumentTypes));
+        mv.visitLabel(end);
+        mv.visitInsn(ARETURN);
+        visitHandler(mv, handler);
+
+        return define(declaringClass, className, cw);
+    }
+
+    /**
+     * Generate and instantiate a setter for a field. The invoker sets the field to its
+     * single argument and returns null.
+     */
+    static MethodInvoker generate(Field field) throws Exception {
+        Class<?> declaringClass = field.getDeclaringClass();
+        String className = getClassName(declaringClass, field.getName());
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv = visitInvoker(cw, className);
+
+        String owner = Type.getInternalName(declaringClass);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        loadArguments(mv, new Class<?>[] {field.getType()});
+        mv.visitFieldInsn(PUTFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+        mv.visitInsn(ACONST_NULL);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        return define(declaringClass, className, cw);
+    }
+
+    private static String getClassName(Class<?> declaringClass, String memberName) {
+        return MethodInvoker.class.getName() + "$$"
+            + declaringClass.getSimpleName()
+            + "$"
+            + memberName
+            + "$"
+            + counter.incrementAndGet();
+    }
+
+    /**
+     * Start an invoker class, add its constructor and start its invoke method.
+     */
+    private static MethodVisitor visitInvoker(ClassWriter cw, String className) {
+        cw.visit(V1_5, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, className.replace('.', '/'), null, "java/lang/Object", new String[] {INVOKER_NAME});
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PUBLIC,
+                            "invoke",
+                            "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+                            null,
+                            new String[] {ITE_NAME});
+        mv.visitCode();
+        return mv;
+    }
+
+    /**
+     * Add the exception handler wrapping the exceptions in an InvocationTargetException
+     * and end the invoke method.
+     */
+    private static void visitHandler(MethodVisitor mv, Label handler) {
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitTypeInsn(NEW, ITE_NAME);
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, ITE_NAME, "<init>", "(Ljava/lang/Throwable;)V");
+        mv.visitInsn(ATHROW);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void loadArguments(MethodVisitor mv, Class<?>[] parameterTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            mv.visitVarInsn(ALOAD, 2);
+            push(mv, i);
+            mv.visitInsn(AALOAD);
+            unbox(mv, parameterTypes[i]);
+        }
+    }
+
+    private static MethodInvoker define(final Class<?> declaringClass, String className, ClassWriter cw)
+        throws Exception {
+        cw.visitEnd();
+        byte[] bytes = cw.toByteArray();
+        InvokerClassLoader classLoader = AccessController.doPrivileged(new PrivilegedAction<InvokerClassLoader>() {
+            public InvokerClassLoader run() {
+                return new InvokerClassLoader(declaringClass.getClassLoader());
+            }
+        });
+        Class<?> cls = classLoader.defineClass(className, bytes);
+        return (MethodInvoker)cls.newInstance();
+    }
+
+    private static void push(MethodVisitor mv, int i) {
+        if (i <= 5) {
+            mv.visitInsn(ICONST_0 + i);
+        } else if (i <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, i);
+        } else {
+            mv.visitIntInsn(SIPUSH, i);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            }
+            return;
+        }
+        String wrapper = Type.getInternalName(getWrapperClass(type));
+        mv.visitTypeInsn(CHECKCAST, wrapper);
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type));
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (type == Void.TYPE) {
+            mv.visitInsn(ACONST_NULL);
+        } else if (type.isPrimitive()) {
+            Class<?> wrapper = getWrapperClass(type);
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapper), "valueOf", "(" + Type.getDescriptor(type)
+                + ")"
+                + Type.getDescriptor(wrapper));
+        }
+    }
+
+    private static Class<?> getWrapperClass(Class<?> type) {
+        if (type == Boolean.TYPE) {
+            return Boolean.class;
+        } else if (type == Byte.TYPE) {
+            return Byte.class;
+        } else if (type == Character.TYPE) {
+            return Character.class;
+        } else if (type == Short.TYPE) {
+            return Short.class;
+        } else if (type == Integer.TYPE) {
+            return Integer.class;
+        } else if (type == Long.TYPE) {
+            return Long.class;
+        } else if (type == Float.TYPE) {
+            return Float.class;
+        } else {
+            return Double.class;
+        }
+    }
+
+    /**
+     * Defines the generated invokers. The MethodInvoker interface is loaded from the
+     * Tuscany classloader, the other classes from the classloader of the class declaring
+     * the method.
+     */
+    private static class InvokerClassLoader extends ClassLoader {
+        private InvokerClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (MethodInvoker.class.getName().equals(name)) {
+                return MethodInvoker.class;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        private Class<?> defineClass(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.java.invocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * @version $Rev$ $Date$
+ */
+public class MethodInvokerFactoryTestCase {
+
+    @Test
+    public void testGeneratedInvoker() throws Exception {
+        MethodInvokerFactory factory = new MethodInvokerFactory(MethodInvokerFactory.GENERATED);
+        Foo foo = new FooImpl();
+
+        Method hello = Foo.class.getMethod("hello", String.class, int.class, long[].class);
+        MethodInvoker invoker = factory.createMethodInvoker(hello);
+        assertFalse(invoker instanceof MethodInvokerFactory.ReflectiveMethodInvoker);
+        assertEquals("hello2:3", invoker.invoke(foo, new Object[] {"hello", 2, new long[3]}));
+        assertSame(invoker, factory.createMethodInvoker(hello));
+
+        Method add = FooImpl.class.getMethod("add", double.class, boolean.class, char.class);
+        invoker = factory.createMethodInvoker(add);
+        assertEquals(3.0, invoker.invoke(foo, new Object[] {1.5, true, 'c'}));
+        assertEquals((double)'c', invoker.invoke(foo, new Object[] {1.5, false, 'c'}));
+
+        invoker = factory.createMethodInvoker(Foo.class.getMethod("fail"));
+        assertNull(factory.createMethodInvoker(Foo.class.getMethod("ping")).invoke(foo, null));
+        try {
+            invoker.invoke(foo, null);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getTargetException() instanceof IOException);
+        }
+        try {
+            invoker.invoke("foo", null);
+            fail();
+        } catch (InvocationTargetException e) {
+            fail();
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReflectiveInvoker() throws Exception {
+        // Methods of non-public classes can't be called from generated classes
+        Method bar = Bar.class.getMethod("bar");
+        MethodInvoker invoker = new MethodInvokerFactory(MethodInvokerFactory.GENERATED).createMethodInvoker(bar);
+        assertTrue(invoker instanceof MethodInvokerFactory.ReflectiveMethodInvoker);
+        assertEquals("bar", invoker.invoke(new Bar(), new Object[0]));
+
+        Method hello = Foo.class.getMethod("hello", String.class, int.class, long[].class);
+        invoker = new MethodInvokerFactory(MethodInvokerFactory.REFLECTION).createMethodInvoker(hello);
+        assertTrue(invoker instanceof MethodInvokerFactory.ReflectiveMethodInvoker);
+        assertEquals("hello2:3", invoker.invoke(new FooImpl(), new Object[] {"hello", 2, new long[3]}));
+        assertFalse(new MethodInvokerFactory(MethodInvokerFactory.REFLECTION).isGenerated());
+    }
+
+    @Test
+    public void testGeneratedConstructorInvoker() throws Exception {
+        MethodInvokerFactory factory = new MethodInvokerFactory(MethodInvokerFactory.GENERATED);
+        Constructor<Baz> constructor = Baz.class.getConstructor(String.class, int.class);
+        MethodInvoker invoker = factory.createConstructorInvoker(constructor);
+        assertFalse(invoker instanceof MethodInvokerFactory.ReflectiveConstructorInvoker);
+        Baz baz = (Baz)invoker.invoke(null, new Object[] {"baz", 1});
+        assertEquals("baz", baz.name);
+        assertEquals(1, baz.count);
+        try {
+            invoker.invoke(null, new Object[] {"baz", -1});
+            fail();
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getTargetException() instanceof IllegalArgumentException);
+        }
+
+        invoker = new MethodInvokerFactory(MethodInvokerFactory.REFLECTION).createConstructorInvoker(constructor);
+        assertTrue(invoker instanceof MethodInvokerFactory.ReflectiveConstructorInvoker);
+        assertEquals("baz", ((Baz)invoker.invoke(null, new Object[] {"baz", 1})).name);
+    }
+
+    @Test
+    public void testGeneratedFieldSetter() throws Exception {
+        MethodInvokerFactory factory = new MethodInvokerFactory(MethodInvokerFactory.GENERATED);
+        Baz baz = new Baz("baz", 1);
+
+        MethodInvoker setter = factory.createFieldSetter(Baz.class.getField("name"));
+        assertFalse(setter instanceof MethodInvokerFactory.ReflectiveFieldSetter);
+        assertNull(setter.invoke(baz, new Object[] {"bar"}));
+        assertEquals("bar", baz.name);
+
+        setter = factory.createFieldSetter(Baz.class.getField("count"));
+        setter.invoke(baz, new Object[] {5});
+        assertEquals(5, baz.count);
+
+        // Private fields are set with reflection
+        Field hidden = Baz.class.getDeclaredField("hidden");
+        hidden.setAccessible(true);
+        setter = factory.createFieldSetter(hidden);
+        assertTrue(setter instanceof MethodInvokerFactory.ReflectiveFieldSetter);
+        setter.invoke(baz, new Object[] {"hidden"});
+        assertEquals("hidden", baz.hidden);
+    }
+
+    public static interface Foo {
+        String hello(String s, int i, long[] values);
+
+        void ping();
+
+        void fail() throws IOException;
+    }
+
+    public static class FooImpl implements Foo {
+        public String hello(String s, int i, long[] values) {
+            return s + i + ":" + values.length;
+        }
+
+        public void ping() {
+        }
+
+        public void fail() throws IOException {
+            throw new IOException();
+        }
+
+        public double add(double x, boolean twice, char c) {
+            return twice ? x * 2 : c;
+        }
+    }
+
+    public static class Baz {
+        public String name;
+        public int count;
+        private String hidden;
+
+        public Baz(String name, int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    static class Bar {
+        public String bar() {
+            return "bar";
+        }
+    }
+}
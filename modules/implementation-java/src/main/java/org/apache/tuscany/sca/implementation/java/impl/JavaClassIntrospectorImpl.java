@@ -22,14 +22,13 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Set;
 
 import org.apache.tuscany.sca.implementation.java.IntrospectionException;
 import org.apache.tuscany.sca.implementation.java.JavaConstructorImpl;
 import org.apache.tuscany.sca.implementation.java.JavaImplementation;
 import org.apache.tuscany.sca.implementation.java.JavaParameterImpl;
+import org.apache.tuscany.sca.implementation.java.introspect.JavaClassMembers;
 import org.apache.tuscany.sca.implementation.java.introspect.JavaClassVisitor;
-import org.apache.tuscany.sca.implementation.java.introspect.JavaIntrospectionHelper;
 
 /**
  * An extensible Java class introspector implementation.
@@ -70,9 +69,10 @@ public class JavaClassIntrospectorImpl {
      */
     public void introspectClass(JavaImplementation type, Class<?> clazz)
         throws IntrospectionException {
+        JavaClassMembers members = JavaClassMembers.getClassMembers(clazz);
         for (JavaClassVisitor visitor : visitors) {
             visitor.visitClass(clazz, type);
-            for (Constructor<?> constructor : clazz.getConstructors()) {
+            for (Constructor<?> constructor : members.getConstructors()) {
                 visitor.visitConstructor(constructor, type);
                 // Assuming the visitClass or visitConstructor will populate the
                 // type.getConstructors
@@ -84,19 +84,16 @@ public class JavaClassIntrospectorImpl {
                 }
             }
 
-            Set<Field> fields = JavaIntrospectionHelper.getInjectableFields(clazz, true);
-            for (Field field : fields) {
+            for (Field field : members.getFields()) {
                 visitor.visitField(field, type);
             }
 
-            Set<Method> methods = JavaIntrospectionHelper.getAllUniquePublicProtectedMethods(clazz, true);
-            for (Method method : methods) {
+            for (Method method : members.getMethods()) {
                 visitor.visitMethod(method, type);
             }
 
             // Check if any private methods have illegal annotations that should be raised as errors
-            Set<Method> privateMethods = JavaIntrospectionHelper.getPrivateMethods(clazz);
-            for (Method method : privateMethods) {
+            for (Method method : members.getPrivateMethods()) {
                 visitor.visitMethod(method, type);
             }
 
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tuscany.sca.implementation.java.introspect;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The members of a Java implementation class that are passed to the class visitors. They are found
+ * by reflection once per class and shared by all the components using the class, until the
+ * contribution that loaded the class is stopped.
+ *
+ * @version $Rev$ $Date$
+ */
+public final class JavaClassMembers {
+
+    // The members are softly referenced as they reference their class, which would otherwise
+    // never be weakly reachable
+    private static final Map<Class<?>, SoftReference<JavaClassMembers>> cache =
+        Collections.synchronizedMap(new WeakHashMap<Class<?>, SoftReference<JavaClassMembers>>());
+
+    private final List<Constructor<?>> constructors;
+    private final Set<Field> fields;
+    private final Set<Method> methods;
+    private final Set<Method> privateMethods;
+
+    private JavaClassMembers(Class<?> clazz) {
+        constructors = Collections.unmodifiableList(Arrays.<Constructor<?>> asList(clazz.getConstructors()));
+        fields = Collections.unmodifiableSet(JavaIntrospectionHelper.getInjectableFields(clazz, true));
+        methods = Collections.unmodifiableSet(JavaIntrospectionHelper.getAllUniquePublicProtectedMethods(clazz, true));
+        privateMethods = Collections.unmodifiableSet(JavaIntrospectionHelper.getPrivateMethods(clazz));
+    }
+
+    /**
+     * Returns the members of a class, scanning the class if it hasn't been scanned yet.
+     */
+    public static JavaClassMembers getClassMembers(Class<?> clazz) {
+        SoftReference<JavaClassMembers> ref = cache.get(clazz);
+        JavaClassMembers members = ref == null ? null : ref.get();
+        if (members == null) {
+            members = new JavaClassMembers(clazz);
+            cache.put(clazz, new SoftReference<JavaClassMembers>(members));
+        }
+        return members;
+    }
+
+    /**
+     * Removes the members of the classes loaded by a contribution classloader. This is used
+     * when the components of a contribution are stopped.
+     *
+     * @param contributionClassloader
+     */
+    public static void removeClassesForContribution(ClassLoader contributionClassloader) {
+        synchronized (cache) {
+            for (Iterator<Class<?>> i = cache.keySet().iterator(); i.hasNext();) {
+                if (i.next().getClassLoader() == contributionClassloader) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * The public constructors of the class.
+     */
+    public List<Constructor<?>> getConstructors() {
+        return constructors;
+    }
+
+    /**
+     * The injectable fields of the class and its superclasses.
+     */
+    public Set<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * The unique public and protected methods of the class and its superclasses.
+     */
+    public Set<Method> getMethods() {
+        return methods;
+    }
+
+    /**
+     * The private methods of the class.
+     */
+    public Set<Method> getPrivateMethods() {
+        return privateMethods;
+    }
+
+}
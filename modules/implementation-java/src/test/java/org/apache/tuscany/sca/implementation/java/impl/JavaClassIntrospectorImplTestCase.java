@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.java.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.tuscany.sca.assembly.DefaultAssemblyFactory;
+import org.apache.tuscany.sca.implementation.java.DefaultJavaImplementationFactory;
+import org.apache.tuscany.sca.implementation.java.IntrospectionException;
+import org.apache.tuscany.sca.implementation.java.JavaImplementation;
+import org.apache.tuscany.sca.implementation.java.JavaImplementationFactory;
+import org.apache.tuscany.sca.implementation.java.introspect.BaseJavaClassVisitor;
+import org.apache.tuscany.sca.implementation.java.introspect.JavaClassMembers;
+import org.apache.tuscany.sca.implementation.java.introspect.JavaClassVisitor;
+import org.junit.Test;
+
+/**
+ * @version $Rev$ $Date$
+ */
+public class JavaClassIntrospectorImplTestCase {
+
+    private JavaImplementationFactory javaImplementationFactory = new DefaultJavaImplementationFactory();
+
+    @Test
+    public void testMembersVisitedForEachIntrospection() throws Exception {
+        RecordingVisitor first = new RecordingVisitor();
+        RecordingVisitor second = new RecordingVisitor();
+        JavaClassIntrospectorImpl introspector =
+            new JavaClassIntrospectorImpl(Arrays.<JavaClassVisitor> asList(first, second));
+
+        introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+        assertEquals(first.fields, second.fields);
+        assertEquals(first.methods, second.methods);
+        assertEquals(new HashSet<Field>(Arrays.asList(Foo.class.getDeclaredField("bar"))), first.fields);
+        assertEquals(new HashSet<Method>(Arrays.asList(Foo.class.getDeclaredMethod("setBaz", String.class),
+                                                       Foo.class.getDeclaredMethod("init"))), first.methods);
+
+        // A second introspection of the same class, and one after the class is removed,
+        // see the same members
+        first.clear();
+        introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+        assertEquals(second.fields, first.fields);
+        assertEquals(second.methods, first.methods);
+
+        first.clear();
+        JavaClassMembers.removeClassesForContribution(Foo.class.getClassLoader());
+        introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+        assertEquals(second.fields, first.fields);
+        assertEquals(second.methods, first.methods);
+    }
+
+    @Test
+    public void testMembersFoundOnce() throws Exception {
+        RecordingVisitor visitor = new RecordingVisitor();
+        JavaClassIntrospectorImpl introspector =
+            new JavaClassIntrospectorImpl(Arrays.<JavaClassVisitor> asList(visitor));
+
+        // Reflection returns new Field objects on each call, so seeing the same
+        // instances again shows the class wasn't scanned again
+        introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+        Field field = visitor.fields.iterator().next();
+        for (int i = 0; i < 3; i++) {
+            visitor.clear();
+            introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+            assertEquals(1, visitor.fields.size());
+            assertSame(field, visitor.fields.iterator().next());
+        }
+
+        // The class is scanned again once it's removed
+        visitor.clear();
+        JavaClassMembers.removeClassesForContribution(Foo.class.getClassLoader());
+        introspector.introspectClass(javaImplementationFactory.createJavaImplementation(), Foo.class);
+        assertEquals(field, visitor.fields.iterator().next());
+        assertNotSame(field, visitor.fields.iterator().next());
+    }
+
+    private static class RecordingVisitor extends BaseJavaClassVisitor {
+        private Set<Field> fields = new HashSet<Field>();
+        private Set<Method> methods = new HashSet<Method>();
+
+        private RecordingVisitor() {
+            super(new DefaultAssemblyFactory());
+        }
+
+        @Override
+        public void visitField(Field field, JavaImplementation type) throws IntrospectionException {
+            fields.add(field);
+        }
+
+        @Override
+        public void visitMethod(Method method, JavaImplementation type) throws IntrospectionException {
+            methods.add(method);
+        }
+
+        private void clear() {
+            fields.clear();
+            methods.clear();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Foo {
+        protected String bar;
+
+        public void setBaz(String baz) {
+        }
+
+        private void init() {
+        }
+    }
+}
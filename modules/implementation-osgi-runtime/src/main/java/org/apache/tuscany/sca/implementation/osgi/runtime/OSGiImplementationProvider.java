@@ -34,6 +34,8 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.tuscany.sca.assembly.ComponentReference;
 import org.apache.tuscany.sca.assembly.ComponentService;
@@ -57,11 +59,14 @@ import org.oasisopen.sca.ServiceRuntimeException;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.Filter;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceException;
 import org.osgi.framework.ServiceFactory;
 import org.osgi.framework.ServiceReference;
 import org.osgi.framework.ServiceRegistration;
+import org.osgi.util.tracker.ServiceTracker;
 
 /**
  *
@@ -75,6 +80,10 @@ public class OSGiImplementationProvider implements ImplementationProvider {
     private List<ServiceRegistration> registrations = new ArrayList<ServiceRegistration>();
     private OSGiImplementationFactory implementationFactory;
 
+    // Trackers of the OSGi services implementing the SCA services, they follow the services
+    // as they are registered and unregistered
+    private Map<ComponentService, ServiceTracker> trackers = new ConcurrentHashMap<ComponentService, ServiceTracker>();
+
     public OSGiImplementationProvider(RuntimeComponent component,
                                       OSGiImplementation impl,
                                       ProxyFactoryExtensionPoint proxyFactoryExtensionPoint,
@@ -157,6 +166,12 @@ public class OSGiImplementationProvider implements ImplementationProvider {
     }
 
     public void stop() {
+        synchronized (trackers) {
+            for (ServiceTracker tracker : trackers.values()) {
+                tracker.close();
+            }
+            trackers.clear();
+        }
         for (ServiceRegistration registration : registrations) {
             try {
                 registration.unregister();
@@ -201,14 +216,41 @@ public class OSGiImplementationProvider implements ImplementationProvider {
     }
 
     protected Object getOSGiService(ComponentService service) {
-        BundleContext bundleContext = osgiBundle.getBundleContext();
-        ServiceReference ref = getServiceReference(bundleContext, service);
-        if (ref != null) {
-            Object instance = bundleContext.getService(ref);
-            return instance;
-        } else {
-            return null;
+        return getServiceTracker(service).getService();
+    }
+
+    /**
+     * Get the tracker of the OSGi service that implements an SCA service. The tracker gets the OSGi
+     * service once and releases it when the service is unregistered or the provider is stopped.
+     */
+    private ServiceTracker getServiceTracker(ComponentService service) {
+        ServiceTracker tracker = trackers.get(service);
+        if (tracker != null) {
+            return tracker;
+        }
+        synchronized (trackers) {
+            tracker = trackers.get(service);
+            if (tracker == null) {
+                BundleContext bundleContext = osgiBundle.getBundleContext();
+                JavaInterface javaInterface = (JavaInterface)service.getInterfaceContract().getInterface();
+                Filter filter;
+                try {
+                    filter =
+                        bundleContext.createFilter("(&(" + Constants.OBJECTCLASS
+                            + "="
+                            + javaInterface.getName()
+                            + ")(!("
+                            + SERVICE_IMPORTED
+                            + "=*)))");
+                } catch (InvalidSyntaxException e) {
+                    throw new ServiceRuntimeException(e);
+                }
+                tracker = new ServiceTracker(bundleContext, filter, null);
+                tracker.open();
+                trackers.put(service, tracker);
+            }
         }
+        return tracker;
     }
 
     private ServiceReference getServiceReference(BundleContext bundleContext, ComponentService service) {
@@ -34,6 +34,7 @@ import org.apache.tuscany.sca.invocation.Invoker;
 import org.apache.tuscany.sca.invocation.Message;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
 import org.apache.tuscany.sca.runtime.RuntimeComponentService;
+import org.oasisopen.sca.ServiceUnavailableException;
 import org.osgi.framework.Constants;
 
 /**
@@ -50,6 +51,20 @@ public class OSGiTargetInvoker implements Invoker {
     private final RuntimeComponent component;
     private final RuntimeComponentService service;
 
+    // The method found for the operation on the class of the last service instance,
+    // the instance may change when the OSGi service is replaced
+    private volatile MethodHolder target;
+
+    private static class MethodHolder {
+        private final Class<?> type;
+        private final Method method;
+
+        private MethodHolder(Class<?> type, Method method) {
+            this.type = type;
+            this.method = method;
+        }
+    }
+
     public OSGiTargetInvoker(Operation operation, OSGiImplementationProvider provider, RuntimeComponentService service) {
 
         this.operation = operation;
@@ -68,7 +83,13 @@ public class OSGiTargetInvoker implements Invoker {
 
         try {
             Object instance = provider.getOSGiService(service);
-            Method m = findMethod(instance.getClass(), operation);
+            if (instance == null) {
+                throw new ServiceUnavailableException("No OSGi service is available for " + component.getURI()
+                    + "#service("
+                    + service.getName()
+                    + ")");
+            }
+            Method m = getMethod(instance.getClass());
 
             Object ret = invokeMethod(instance, m, msg);
 
@@ -80,6 +101,15 @@ public class OSGiTargetInvoker implements Invoker {
         }
     }
 
+    private Method getMethod(Class<?> type) throws NoSuchMethodException {
+        MethodHolder holder = target;
+        if (holder == null || holder.type != type) {
+            holder = new MethodHolder(type, findMethod(type, operation));
+            target = holder;
+        }
+        return holder.method;
+    }
+
     protected Object invokeMethod(Object instance, Method m, Message msg) throws InvocationTargetException {
 
         try {
@@ -34,12 +34,6 @@ import org.apache.tuscany.sca.provider.ImplementationProvider;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
 import org.apache.tuscany.sca.runtime.RuntimeComponentService;
 import org.apache.tuscany.sca.runtime.RuntimeEndpointReference;
-import org.python.core.Py;
-import org.python.core.PyObject;
-import org.python.core.PyString;
-import org.python.core.PySystemState;
-import org.python.core.PyTuple;
-import org.python.util.PythonInterpreter;
 
 /**
  * Implementation provider for Python component implementations.
@@ -49,51 +43,45 @@ import org.python.util.PythonInterpreter;
 class PythonImplementationProvider implements ImplementationProvider {
     final RuntimeComponent component;
     final PythonImplementation implementation;
-    PythonInterpreter python;
-    PyObject callable;
+    PythonInterpreterPool pool;
     ProxyFactory pxFactory;
+    final int poolSize;
 
-    PythonImplementationProvider(final RuntimeComponent comp, final PythonImplementation impl, ProxyFactory pxf) {
+    PythonImplementationProvider(final RuntimeComponent comp, final PythonImplementation impl, ProxyFactory pxf, final int ps) {
         component = comp;
         implementation = impl;
         pxFactory = pxf;
+        poolSize = ps;
     }
 
     public void start() {
-        final PySystemState pss = new PySystemState();
-        pss.path.insert(0, new PyString(implementation.getLocation()));
-        pss.path.insert(0, new PyString(getClass().getProtectionDomain().getCodeSource().getLocation().getFile()));
-        python = new PythonInterpreter(null, pss);
-        python.exec("from invoker import *");
-
-        final List<PyObject> px = new ArrayList<PyObject>();
+        final List<Object> px = new ArrayList<Object>();
         for(final ComponentReference r: component.getReferences()) {
             final PythonEval pe = pxFactory.createProxy(PythonEval.class, (RuntimeEndpointReference)r.getEndpointReferences().get(0));
-            px.add(Py.java2py(new PythonEval() {
+            px.add(new PythonEval() {
                 @Override
                 public String eval(final String args) throws Exception {
                     final String v = pe.eval(args);
                     return v;
                 }
-            }));
+            });
         }
-        final List<PyObject> pr = new ArrayList<PyObject>();
+        final List<Object> pr = new ArrayList<Object>();
         for(final ComponentProperty p: component.getProperties()) {
             final String v = String.valueOf(p.getValue());
-            pr.add(Py.java2py(new PythonProperty() {
+            pr.add(new PythonProperty() {
                 @Override
                 public String eval() {
                     return v;
                 }
-            }));
+            });
         }
 
-        PyObject mkc = python.get("mkcomponent");
-        callable = mkc.__call__(new PyString(component.getName()), new PyString(implementation.getScript()), new PyTuple(px.toArray(new PyObject[0])), new PyTuple(pr.toArray(new PyObject[0])));
+        pool = new PythonInterpreterPool(poolSize, implementation.getLocation(), component.getName(), implementation.getScript(), px, pr);
     }
 
     public void stop() {
-        python.cleanup();
+        pool.cleanup();
     }
 
     public boolean supportsOneWayInvocation() {
@@ -101,6 +89,6 @@ class PythonImplementationProvider implements ImplementationProvider {
     }
 
     public Invoker createInvoker(final RuntimeComponentService s, final Operation op) {
-        return new PythonInvoker(python, callable, op);
+        return new PythonInvoker(pool, op);
     }
 }
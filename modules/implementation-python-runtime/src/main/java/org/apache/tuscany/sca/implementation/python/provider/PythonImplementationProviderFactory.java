@@ -19,13 +19,17 @@
 
 package org.apache.tuscany.sca.implementation.python.provider;
 
+import java.util.logging.Logger;
+
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
+import org.apache.tuscany.sca.core.UtilityExtensionPoint;
 import org.apache.tuscany.sca.core.invocation.ExtensibleProxyFactory;
 import org.apache.tuscany.sca.core.invocation.ProxyFactory;
 import org.apache.tuscany.sca.implementation.python.PythonImplementation;
 import org.apache.tuscany.sca.provider.ImplementationProvider;
 import org.apache.tuscany.sca.provider.ImplementationProviderFactory;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
 
 /**
  * A factory for Python implementation providers.
@@ -33,14 +37,40 @@ import org.apache.tuscany.sca.runtime.RuntimeComponent;
  * @version $Rev$ $Date$
  */
 public class PythonImplementationProviderFactory implements ImplementationProviderFactory<PythonImplementation> {
+    static final Logger logger = Logger.getLogger(PythonImplementationProviderFactory.class.getName());
+
+    /**
+     * Runtime property setting the number of Python interpreters per component,
+     * the number of processors by default.
+     */
+    public static final String POOL_SIZE = "org.apache.tuscany.sca.implementation.python.poolSize";
+
     final ProxyFactory pxFactory;
+    final int poolSize;
 
     public PythonImplementationProviderFactory(final ExtensionPointRegistry ep) {
         pxFactory = ExtensibleProxyFactory.getInstance(ep);
+        final String ps = ep.getExtensionPoint(UtilityExtensionPoint.class).getUtility(RuntimeProperties.class).getProperties().getProperty(POOL_SIZE);
+        poolSize = poolSize(ps);
+    }
+
+    static int poolSize(final String ps) {
+        final int def = Runtime.getRuntime().availableProcessors();
+        if(ps == null)
+            return def;
+        try {
+            final int n = Integer.parseInt(ps.trim());
+            if(n > 0)
+                return n;
+        } catch(NumberFormatException e) {
+            // Fall back to the default below
+        }
+        logger.warning("Invalid " + POOL_SIZE + " value: " + ps + ", using " + def);
+        return def;
     }
 
     public ImplementationProvider createImplementationProvider(final RuntimeComponent comp, final PythonImplementation impl) {
-        return new PythonImplementationProvider(comp, impl, pxFactory);
+        return new PythonImplementationProvider(comp, impl, pxFactory, poolSize);
     }
 
     public Class<PythonImplementation> getModelType() {
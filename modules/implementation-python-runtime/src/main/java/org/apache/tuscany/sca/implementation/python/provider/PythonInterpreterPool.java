@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.python.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.python.core.Py;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.core.PySystemState;
+import org.python.core.PyTuple;
+import org.python.util.PythonInterpreter;
+
+/**
+ * A pool of Python interpreters running a component, each with its own system
+ * state, the invoker module loaded and the component script loaded. An
+ * invocation checks out an interpreter, preferably the one last used by the
+ * same thread, and waits if they're all in use.
+ * 
+ * @version $Rev$ $Date$
+ */
+class PythonInterpreterPool {
+    static final Logger logger = Logger.getLogger(PythonInterpreterPool.class.getName());
+
+    /**
+     * A pooled interpreter and the component callable created in it.
+     */
+    static class Entry {
+        final PythonInterpreter python;
+        final PyObject callable;
+
+        Entry(final PythonInterpreter py, final PyObject c) {
+            python = py;
+            callable = c;
+        }
+    }
+
+    final List<Entry> entries = new ArrayList<Entry>();
+    final List<Entry> idle = new ArrayList<Entry>();
+    final ThreadLocal<Entry> lastEntry = new ThreadLocal<Entry>();
+    long checkouts;
+    long waits;
+    long waitTime;
+    long maxWaitTime;
+
+    PythonInterpreterPool(final int size, final String location, final String componentName, final String script, final List<Object> refs, final List<Object> props) {
+        this(interpreters(size, location, componentName, script, refs, props));
+    }
+
+    PythonInterpreterPool(final List<Entry> es) {
+        entries.addAll(es);
+        idle.addAll(es);
+    }
+
+    /**
+     * Create the interpreters running a component.
+     */
+    static List<Entry> interpreters(final int size, final String location, final String componentName, final String script, final List<Object> refs, final List<Object> props) {
+        final List<Entry> es = new ArrayList<Entry>();
+        for(int i = 0; i < Math.max(size, 1); i++) {
+            final PySystemState pss = new PySystemState();
+            pss.path.insert(0, new PyString(location));
+            pss.path.insert(0, new PyString(PythonInterpreterPool.class.getProtectionDomain().getCodeSource().getLocation().getFile()));
+            final PythonInterpreter python = new PythonInterpreter(null, pss);
+            python.exec("from invoker import *");
+
+            final PyObject mkc = python.get("mkcomponent");
+            final PyObject callable = mkc.__call__(new PyString(componentName), new PyString(script), tuple(refs), tuple(props));
+            es.add(new Entry(python, callable));
+        }
+        return es;
+    }
+
+    static PyTuple tuple(final List<Object> l) {
+        final PyObject[] a = new PyObject[l.size()];
+        for(int i = 0; i < a.length; i++)
+            a[i] = Py.java2py(l.get(i));
+        return new PyTuple(a);
+    }
+
+    /**
+     * Check out an interpreter, waiting for one to be available.
+     */
+    synchronized Entry checkout() throws InterruptedException {
+        checkouts++;
+        if(idle.isEmpty()) {
+            waits++;
+            final long start = System.nanoTime();
+            while(idle.isEmpty())
+                wait();
+            final long t = System.nanoTime() - start;
+            waitTime += t;
+            if(t > maxWaitTime)
+                maxWaitTime = t;
+        }
+        final Entry last = lastEntry.get();
+        if(last != null && idle.remove(last))
+            return last;
+        final Entry e = idle.remove(idle.size() - 1);
+        lastEntry.set(e);
+        return e;
+    }
+
+    /**
+     * Return an interpreter to the pool.
+     */
+    synchronized void checkin(final Entry e) {
+        idle.add(e);
+        notify();
+    }
+
+    /**
+     * Returns the number of checkouts, the number of checkouts that had to
+     * wait, and the total and max wait times in nanoseconds.
+     */
+    synchronized long[] getWaitStatistics() {
+        return new long[] {checkouts, waits, waitTime, maxWaitTime};
+    }
+
+    void cleanup() {
+        if(logger.isLoggable(Level.FINE)) {
+            final long[] s = getWaitStatistics();
+            logger.fine("Python interpreter pool: " + entries.size() + " interpreters, " + s[0] + " checkouts, " + s[1] + " waited, total wait " + s[2] / 1000000 + " ms, max wait " + s[3] / 1000000 + " ms");
+        }
+        for(final Entry e: entries)
+            e.python.cleanup();
+    }
+}
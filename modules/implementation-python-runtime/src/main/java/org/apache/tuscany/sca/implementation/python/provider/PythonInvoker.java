@@ -24,7 +24,6 @@ import org.apache.tuscany.sca.invocation.Invoker;
 import org.apache.tuscany.sca.invocation.Message;
 import org.python.core.PyObject;
 import org.python.core.PyString;
-import org.python.util.PythonInterpreter;
 
 /**
  * An invoker for Python components.
@@ -32,24 +31,31 @@ import org.python.util.PythonInterpreter;
  * @version $Rev$ $Date$
  */
 class PythonInvoker implements Invoker {
-    final PythonInterpreter python;
-    final PyObject callable;
+    final PythonInterpreterPool pool;
     final Operation operation;
 
-    PythonInvoker(final PythonInterpreter py, final PyObject c, final Operation op) {
-        python = py;
-        callable = c;
+    PythonInvoker(final PythonInterpreterPool p, final Operation op) {
+        pool = p;
         operation = op;
     }
 
-    String apply(final String req) {
-        PyObject r = callable.__call__(new PyString(req));
-        return r.toString();
+    String apply(final String req) throws InterruptedException {
+        final PythonInterpreterPool.Entry e = pool.checkout();
+        try {
+            PyObject r = e.callable.__call__(new PyString(req));
+            return r.toString();
+        } finally {
+            pool.checkin(e);
+        }
     }
 
     public Message invoke(final Message msg) {
         try {
             msg.setBody(apply((String)((Object[])msg.getBody())[0]));
+        } catch(InterruptedException e) {
+            // Interrupted while waiting for an interpreter
+            Thread.currentThread().interrupt();
+            msg.setFaultBody(e);
         } catch(Exception e) {
             e.printStackTrace();
             msg.setFaultBody(e.getCause());
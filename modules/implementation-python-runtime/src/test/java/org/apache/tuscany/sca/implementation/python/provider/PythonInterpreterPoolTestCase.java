@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.implementation.python.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuscany.sca.core.invocation.impl.MessageImpl;
+import org.apache.tuscany.sca.invocation.Message;
+import org.junit.Test;
+
+/**
+ * Tests the Python interpreter pool, with entries not backed by interpreters.
+ * 
+ * @version $Rev$ $Date$
+ */
+public class PythonInterpreterPoolTestCase {
+
+    static List<PythonInterpreterPool.Entry> entries(final int n) {
+        final List<PythonInterpreterPool.Entry> l = new ArrayList<PythonInterpreterPool.Entry>();
+        for(int i = 0; i < n; i++)
+            l.add(new PythonInterpreterPool.Entry(null, null));
+        return l;
+    }
+
+    @Test
+    public void testCheckoutCheckin() throws Exception {
+        final PythonInterpreterPool pool = new PythonInterpreterPool(entries(2));
+        final PythonInterpreterPool.Entry e1 = pool.checkout();
+        final PythonInterpreterPool.Entry e2 = pool.checkout();
+        assertTrue(e1 != e2);
+        assertTrue(pool.idle.isEmpty());
+        pool.checkin(e1);
+        pool.checkin(e2);
+        assertEquals(2, pool.idle.size());
+        assertEquals(2, pool.entries.size());
+    }
+
+    @Test
+    public void testThreadGetsLastEntry() throws Exception {
+        final PythonInterpreterPool pool = new PythonInterpreterPool(entries(3));
+        final PythonInterpreterPool.Entry e = pool.checkout();
+        pool.checkin(e);
+        pool.checkin(pool.checkout());
+        assertSame(e, pool.checkout());
+    }
+
+    @Test
+    public void testCheckoutWaits() throws Exception {
+        final PythonInterpreterPool pool = new PythonInterpreterPool(entries(1));
+        final PythonInterpreterPool.Entry e = pool.checkout();
+
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<PythonInterpreterPool.Entry> got = Collections.synchronizedList(new ArrayList<PythonInterpreterPool.Entry>());
+        final Thread t = new Thread() {
+            public void run() {
+                try {
+                    got.add(pool.checkout());
+                    done.countDown();
+                } catch(InterruptedException ie) {
+                    // The latch stays closed and the test fails
+                }
+            }
+        };
+        t.start();
+        assertFalse(done.await(200, TimeUnit.MILLISECONDS));
+        pool.checkin(e);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        t.join();
+        assertEquals(Arrays.asList(e), got);
+
+        final long[] s = pool.getWaitStatistics();
+        assertEquals(2, s[0]);
+        assertEquals(1, s[1]);
+        assertTrue(s[2] > 0);
+        assertEquals(s[2], s[3]);
+    }
+
+    @Test
+    public void testStatisticsWithoutWaits() throws Exception {
+        final PythonInterpreterPool pool = new PythonInterpreterPool(entries(1));
+        for(int i = 0; i < 3; i++)
+            pool.checkin(pool.checkout());
+        final long[] s = pool.getWaitStatistics();
+        assertEquals(3, s[0]);
+        assertEquals(0, s[1]);
+        assertEquals(0, s[2]);
+        assertEquals(0, s[3]);
+    }
+
+    @Test
+    public void testInterruptedInvocation() throws Exception {
+        final PythonInterpreterPool pool = new PythonInterpreterPool(entries(1));
+        pool.checkout();
+        final PythonInvoker invoker = new PythonInvoker(pool, null);
+        final Message msg = new MessageImpl();
+        msg.setBody(new Object[] {"Hey"});
+
+        Thread.currentThread().interrupt();
+        final Message r = invoker.invoke(msg);
+        assertTrue(Thread.interrupted());
+        assertTrue(r.isFault());
+        assertTrue(r.getBody() instanceof InterruptedException);
+    }
+}
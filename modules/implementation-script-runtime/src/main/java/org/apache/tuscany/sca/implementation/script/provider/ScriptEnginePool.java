@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.tuscany.sca.implementation.script.provider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.Invocable;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+
+import org.apache.bsf.xml.XMLHelper;
+import org.apache.tuscany.sca.core.factory.ObjectFactory;
+
+/**
+ * A pool of script engines running a script implementation. Each engine has
+ * its own bindings, with the component references and properties, and
+ * evaluates the script, compiled if the engine supports it. The engines
+ * share the global bindings of the first engine, which come from the
+ * ScriptEngineManager that created it.
+ * <p>
+ * Engines whose THREADING parameter is null aren't thread-safe, so each
+ * invocation gets an engine of its own, created on demand up to the maximum
+ * pool size, invocations wait for an engine beyond that. Thread-safe engines
+ * are shared by all the invocations.
+ *
+ * @version $Rev$ $Date$
+ */
+public class ScriptEnginePool {
+
+    private final ScriptEngineFactory engineFactory;
+    private final Bindings globalBindings;
+    private final String script;
+    private final Map<String, Object> references;
+    private final Map<String, ObjectFactory<?>> properties;
+    private final boolean xml;
+    private final ScriptEngineInstance sharedInstance;
+    private final ConcurrentLinkedQueue<ScriptEngineInstance> idleInstances =
+        new ConcurrentLinkedQueue<ScriptEngineInstance>();
+    private final Semaphore permits;
+
+    /**
+     * @param engine the first engine of the pool
+     * @param script the script source
+     * @param references the reference proxies by reference name
+     * @param properties the property value factories by property name
+     * @param xml true if the script exchanges XML, for WSDL interfaces
+     * @param maxSize the maximum number of engines
+     */
+    public ScriptEnginePool(ScriptEngine engine,
+                            String script,
+                            Map<String, Object> references,
+                            Map<String, ObjectFactory<?>> properties,
+                            boolean xml,
+                            int maxSize) throws ScriptException {
+        this.engineFactory = engine.getFactory();
+        this.globalBindings = engine.getBindings(ScriptContext.GLOBAL_SCOPE);
+        this.script = script;
+        this.references = references;
+        this.properties = properties;
+        this.xml = xml;
+        ScriptEngineInstance instance = createInstance(engine);
+        if (engineFactory.getParameter("THREADING") != null) {
+            sharedInstance = instance;
+            permits = null;
+        } else {
+            sharedInstance = null;
+            idleInstances.add(instance);
+            permits = new Semaphore(Math.max(maxSize, 1));
+        }
+    }
+
+    private ScriptEngineInstance createInstance(ScriptEngine engine) throws ScriptException {
+        for (Map.Entry<String, Object> reference : references.entrySet()) {
+            engine.put(reference.getKey(), reference.getValue());
+        }
+        for (Map.Entry<String, ObjectFactory<?>> property : properties.entrySet()) {
+            engine.put(property.getKey(), property.getValue().getInstance());
+        }
+        if (engine instanceof Compilable) {
+            ((Compilable)engine).compile(script).eval();
+        } else {
+            engine.eval(script);
+        }
+        return new ScriptEngineInstance(engine, xml ? XMLHelper.getArgHelper(engine) : null);
+    }
+
+    /**
+     * Gets an engine to run an invocation, it must be given back with
+     * {@link #release(ScriptEngineInstance)}.
+     */
+    ScriptEngineInstance acquire() throws ScriptException {
+        if (sharedInstance != null) {
+            return sharedInstance;
+        }
+        permits.acquireUninterruptibly();
+        ScriptEngineInstance instance = idleInstances.poll();
+        if (instance == null) {
+            try {
+                instance = createInstance(newEngine());
+            } catch (ScriptException e) {
+                permits.release();
+                throw e;
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Creates another engine for the pool, engines created by the factory
+     * rather than the ScriptEngineManager don't have its global bindings.
+     */
+    private ScriptEngine newEngine() {
+        ScriptEngine engine = engineFactory.getScriptEngine();
+        if (globalBindings != null) {
+            engine.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
+        }
+        return engine;
+    }
+
+    /**
+     * Gives back an engine acquired for an invocation.
+     */
+    void release(ScriptEngineInstance instance) {
+        if (sharedInstance != null) {
+            return;
+        }
+        idleInstances.add(instance);
+        permits.release();
+    }
+
+    /**
+     * A script engine of the pool, with the XML helper for its language.
+     */
+    static class ScriptEngineInstance {
+        final Invocable invocable;
+        final XMLHelper xmlHelper;
+
+        ScriptEngineInstance(ScriptEngine engine, XMLHelper xmlHelper) {
+            this.invocable = (Invocable)engine;
+            this.xmlHelper = xmlHelper;
+        }
+    }
+}
@@ -21,9 +21,12 @@ package org.apache.tuscany.sca.implementation.script.provider;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
@@ -31,7 +34,6 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.apache.axiom.om.OMElement;
-import org.apache.bsf.xml.XMLHelper;
 import org.apache.tuscany.sca.assembly.ComponentReference;
 import org.apache.tuscany.sca.assembly.Property;
 import org.apache.tuscany.sca.assembly.Reference;
@@ -58,20 +60,26 @@ public class ScriptImplementationProvider implements ImplementationProvider {
     private RuntimeComponent component;
     private ScriptImplementation implementation;
     private ScriptPropertyFactory propertyFactory;
-    private ScriptEngine scriptEngine;
-    private XMLHelper xmlHelper;
+    private ScriptEnginePool scriptEnginePool;
+    private boolean xml;
+    private int maxEngines;
     
     public ScriptImplementationProvider(RuntimeComponent component, ScriptImplementation implementation, ScriptPropertyFactory propertyFactory) {
+        this(component, implementation, propertyFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ScriptImplementationProvider(RuntimeComponent component, ScriptImplementation implementation, ScriptPropertyFactory propertyFactory, int maxEngines) {
         this.component = component;
         this.implementation = implementation;
         this.propertyFactory = propertyFactory;
+        this.maxEngines = maxEngines;
 
         // Set the databinding and XMLHelper for WSDL interfaces
         for (Service service : component.getServices()) {
             InterfaceContract ic = service.getInterfaceContract();
             if (ic instanceof WSDLInterfaceContract) {
                 ic.getInterface().resetDataBinding(OMElement.class.getName());
-                xmlHelper = XMLHelper.getArgHelper(scriptEngine);
+                xml = true;
             }
         }
     }
@@ -83,7 +91,7 @@ public class ScriptImplementationProvider implements ImplementationProvider {
                 language = implementation.getScript();
                 language = language.substring(language.lastIndexOf('.') +1);
             }
-            scriptEngine = scriptEngine(language);
+            ScriptEngine scriptEngine = scriptEngine(language);
             if (scriptEngine == null) {
                 throw new ObjectCreationException("no script engine found for language: " + implementation.getLanguage());
             }
@@ -91,21 +99,22 @@ public class ScriptImplementationProvider implements ImplementationProvider {
                 throw new ObjectCreationException("script engine does not support Invocable: " + scriptEngine);
             }
             
+            Map<String, Object> references = new HashMap<String, Object>();
             for (Reference reference : implementation.getReferences()) {
-                scriptEngine.put(reference.getName(), getProxy(reference.getName()));
+                references.put(reference.getName(), getProxy(reference.getName()));
             }
 
+            Map<String, ObjectFactory<?>> properties = new HashMap<String, ObjectFactory<?>>();
             for (Property property : implementation.getProperties()) {
                 ObjectFactory<?> valueFactory = propertyFactory.createValueFactory(property);
                 if (valueFactory != null) {
-                    scriptEngine.put(property.getName(), valueFactory.getInstance());
+                    properties.put(property.getName(), valueFactory);
                 }
             }
 
             URL url = new URL(implementation.getLocation());
-            InputStreamReader reader = new InputStreamReader(url.openStream());
-            scriptEngine.eval(reader);
-            reader.close();
+            String script = read(new InputStreamReader(url.openStream()));
+            scriptEnginePool = new ScriptEnginePool(scriptEngine, script, references, properties, xml, maxEngines);
 
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
@@ -122,7 +131,20 @@ public class ScriptImplementationProvider implements ImplementationProvider {
     }
 
     public Invoker createInvoker(RuntimeComponentService service, Operation operation) {
-        return new ScriptInvoker(scriptEngine, xmlHelper, operation);
+        return new ScriptInvoker(scriptEnginePool, operation);
+    }
+
+    private static String read(Reader reader) throws IOException {
+        try {
+            StringBuilder script = new StringBuilder();
+            char[] buffer = new char[4096];
+            for (int n = reader.read(buffer); n != -1; n = reader.read(buffer)) {
+                script.append(buffer, 0, n);
+            }
+            return script.toString();
+        } finally {
+            reader.close();
+        }
     }
 
     private Object getProxy(String name) {
@@ -19,6 +19,8 @@
 
 package org.apache.tuscany.sca.implementation.script.provider;
 
+import java.util.logging.Logger;
+
 import org.apache.tuscany.sca.core.ExtensionPointRegistry;
 import org.apache.tuscany.sca.core.UtilityExtensionPoint;
 import org.apache.tuscany.sca.databinding.Mediator;
@@ -27,6 +29,7 @@ import org.apache.tuscany.sca.implementation.script.ScriptImplementation;
 import org.apache.tuscany.sca.provider.ImplementationProvider;
 import org.apache.tuscany.sca.provider.ImplementationProviderFactory;
 import org.apache.tuscany.sca.runtime.RuntimeComponent;
+import org.apache.tuscany.sca.runtime.RuntimeProperties;
 
 /**
  * An ImplementationProviderFactory for Script implementations.
@@ -34,18 +37,45 @@ import org.apache.tuscany.sca.runtime.RuntimeComponent;
  * @version $Rev$ $Date$
  */
 public class ScriptImplementationProviderFactory implements ImplementationProviderFactory<ScriptImplementation> {
+    private static final Logger logger = Logger.getLogger(ScriptImplementationProviderFactory.class.getName());
+
+    /**
+     * Runtime property setting the maximum number of script engines per component
+     * for engines which aren't thread-safe, the number of processors by default.
+     */
+    public static final String MAX_ENGINES = "org.apache.tuscany.sca.implementation.script.maxEngines";
     
     private ScriptPropertyFactory propertyFactory;
+    private int maxEngines;
     
     public ScriptImplementationProviderFactory(ExtensionPointRegistry extensionPoints) {
         UtilityExtensionPoint utilities = extensionPoints.getExtensionPoint(UtilityExtensionPoint.class);
         Mediator mediator = utilities.getUtility(Mediator.class);
         SimpleTypeMapper simpleTypeMapper = utilities.getUtility(SimpleTypeMapper.class);
         propertyFactory = new ScriptPropertyFactory(mediator, simpleTypeMapper);
+        String max = utilities.getUtility(RuntimeProperties.class).getProperties().getProperty(MAX_ENGINES);
+        maxEngines = getMaxEngines(max);
+    }
+
+    private static int getMaxEngines(String value) {
+        int defaultValue = Runtime.getRuntime().availableProcessors();
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int maxEngines = Integer.parseInt(value.trim());
+            if (maxEngines > 0) {
+                return maxEngines;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default below
+        }
+        logger.warning("Invalid " + MAX_ENGINES + " value: " + value + ", using " + defaultValue);
+        return defaultValue;
     }
 
     public ImplementationProvider createImplementationProvider(RuntimeComponent component, ScriptImplementation Implementation) {
-        return new ScriptImplementationProvider(component, Implementation, propertyFactory);
+        return new ScriptImplementationProvider(component, Implementation, propertyFactory, maxEngines);
     }
     
     public Class<ScriptImplementation> getModelType() {
@@ -19,12 +19,10 @@
 
 package org.apache.tuscany.sca.implementation.script.provider;
 
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.apache.axiom.om.OMElement;
-import org.apache.bsf.xml.XMLHelper;
+import org.apache.tuscany.sca.implementation.script.provider.ScriptEnginePool.ScriptEngineInstance;
 import org.apache.tuscany.sca.interfacedef.Operation;
 import org.apache.tuscany.sca.invocation.Invoker;
 import org.apache.tuscany.sca.invocation.Message;
@@ -36,19 +34,26 @@ import org.apache.tuscany.sca.invocation.Message;
  */
 public class ScriptInvoker implements Invoker {
 
-    private ScriptEngine scriptEngine;
-    private XMLHelper xmlHelper;
+    private ScriptEnginePool scriptEnginePool;
     private Operation operation;
 
-    public ScriptInvoker(ScriptEngine scriptEngine, XMLHelper xmlHelper, Operation operation) {
-        this.scriptEngine = scriptEngine;
-        this.xmlHelper = xmlHelper;
+    public ScriptInvoker(ScriptEnginePool scriptEnginePool, Operation operation) {
+        this.scriptEnginePool = scriptEnginePool;
         this.operation = operation;
     }
 
     private Object doInvoke(Object[] objects, Operation op) throws ScriptException {
-        if (xmlHelper != null) {
-            objects[0] = xmlHelper.toScriptXML((OMElement)objects[0]);
+        ScriptEngineInstance instance = scriptEnginePool.acquire();
+        try {
+            return doInvoke(instance, objects, op);
+        } finally {
+            scriptEnginePool.release(instance);
+        }
+    }
+
+    private Object doInvoke(ScriptEngineInstance instance, Object[] objects, Operation op) throws ScriptException {
+        if (instance.xmlHelper != null) {
+            objects[0] = instance.xmlHelper.toScriptXML((OMElement)objects[0]);
         }
 
         Operation oper = operation;  // static setting
@@ -57,15 +62,15 @@ public class ScriptInvoker implements Invoker {
         }
         Object response;
         try {
-            response = ((Invocable)scriptEngine).invokeFunction(oper.getName(), objects);
+            response = instance.invocable.invokeFunction(oper.getName(), objects);
         } catch (ScriptException e) {
             throw e;
         } catch (Exception e) {
             throw new ScriptException(e);
         }
 
-        if (xmlHelper != null) {
-            response = xmlHelper.toOMElement(response);
+        if (instance.xmlHelper != null) {
+            response = instance.xmlHelper.toOMElement(response);
         }
 
         return response;
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+
+package org.apache.tuscany.sca.implementation.script.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Reader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Invocable;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import org.apache.tuscany.sca.core.factory.ObjectFactory;
+import org.apache.tuscany.sca.implementation.script.provider.ScriptEnginePool.ScriptEngineInstance;
+import org.junit.Test;
+
+/**
+ * Tests the script engine pool with a stub script engine.
+ *
+ * @version $Rev$ $Date$
+ */
+public class ScriptEnginePoolTestCase {
+
+    @Test
+    public void testSharedEngine() throws Exception {
+        TestEngineFactory factory = new TestEngineFactory(true);
+        ScriptEnginePool pool = createPool(factory.getScriptEngine(), 1);
+        ScriptEngineInstance first = pool.acquire();
+        ScriptEngineInstance second = pool.acquire();
+        assertSame(first, second);
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, factory.created.get());
+    }
+
+    @Test
+    public void testPooledEngines() throws Exception {
+        TestEngineFactory factory = new TestEngineFactory(false);
+        ScriptEngine engine = factory.getScriptEngine();
+        ScriptEnginePool pool = createPool(engine, 2);
+        ScriptEngineInstance first = pool.acquire();
+        ScriptEngineInstance second = pool.acquire();
+        assertNotSame(first, second);
+        assertEquals(2, factory.created.get());
+
+        // Each engine has the component references and properties and has run the script
+        TestEngine other = (TestEngine)second.invocable;
+        assertEquals("ref", other.get("reference"));
+        assertEquals("value", other.get("property"));
+        assertEquals(1, other.evaluated);
+
+        // Engines created for the pool share the global bindings of the first engine
+        assertSame(engine.getBindings(ScriptContext.GLOBAL_SCOPE), other.getBindings(ScriptContext.GLOBAL_SCOPE));
+
+        // Released engines are reused
+        pool.release(second);
+        assertSame(second, pool.acquire());
+        assertEquals(2, factory.created.get());
+    }
+
+    @Test
+    public void testAcquireBlocksAtMaxSize() throws Exception {
+        TestEngineFactory factory = new TestEngineFactory(false);
+        final ScriptEnginePool pool = createPool(factory.getScriptEngine(), 1);
+        final ScriptEngineInstance first = pool.acquire();
+
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread thread = new Thread() {
+            public void run() {
+                try {
+                    ScriptEngineInstance instance = pool.acquire();
+                    if (instance == first) {
+                        acquired.countDown();
+                    }
+                } catch (ScriptException e) {
+                    // The latch stays closed and the test fails
+                }
+            }
+        };
+        thread.start();
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        pool.release(first);
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        thread.join();
+        assertEquals(1, factory.created.get());
+    }
+
+    private static ScriptEnginePool createPool(ScriptEngine engine, int maxSize) throws ScriptException {
+        // The ScriptEngineManager gives the engines it creates its global bindings
+        engine.setBindings(new SimpleBindings(), ScriptContext.GLOBAL_SCOPE);
+        Map<String, Object> references = new HashMap<String, Object>();
+        references.put("reference", "ref");
+        Map<String, ObjectFactory<?>> properties = new HashMap<String, ObjectFactory<?>>();
+        properties.put("property", new ObjectFactory<Object>() {
+            public Object getInstance() {
+                return "value";
+            }
+        });
+        return new ScriptEnginePool(engine, "script", references, properties, false, maxSize);
+    }
+
+    private static class TestEngineFactory implements ScriptEngineFactory {
+        private final boolean threadSafe;
+        private final AtomicInteger created = new AtomicInteger();
+
+        TestEngineFactory(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+        }
+
+        public ScriptEngine getScriptEngine() {
+            created.incrementAndGet();
+            return new TestEngine(this);
+        }
+
+        public Object getParameter(String key) {
+            if ("THREADING".equals(key)) {
+                return threadSafe ? "MULTITHREADED" : null;
+            }
+            return null;
+        }
+
+        public String getEngineName() {
+            return "test";
+        }
+
+        public String getEngineVersion() {
+            return "1.0";
+        }
+
+        public List<String> getExtensions() {
+            return Collections.singletonList("test");
+        }
+
+        public List<String> getMimeTypes() {
+            return Collections.emptyList();
+        }
+
+        public List<String> getNames() {
+            return Collections.singletonList("test");
+        }
+
+        public String getLanguageName() {
+            return "test";
+        }
+
+        public String getLanguageVersion() {
+            return "1.0";
+        }
+
+        public String getMethodCallSyntax(String obj, String m, String... args) {
+            return null;
+        }
+
+        public String getOutputStatement(String toDisplay) {
+            return null;
+        }
+
+        public String getProgram(String... statements) {
+            return null;
+        }
+    }
+
+    private static class TestEngine extends AbstractScriptEngine implements Invocable {
+        private final ScriptEngineFactory factory;
+        private int evaluated;
+
+        TestEngine(ScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        public Object eval(String script, ScriptContext context) {
+            evaluated++;
+            return null;
+        }
+
+        public Object eval(Reader reader, ScriptContext context) {
+            evaluated++;
+            return null;
+        }
+
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+
+        public Object invokeMethod(Object thiz, String name, Object... args) {
+            return null;
+        }
+
+        public Object invokeFunction(String name, Object... args) {
+            return null;
+        }
+
+        public <T> T getInterface(Class<T> clasz) {
+            return null;
+        }
+
+        public <T> T getInterface(Object thiz, Class<T> clasz) {
+            return null;
+        }
+    }
+}
@@ -275,6 +275,9 @@ public class NodeFactoryImpl extends NodeFactory {
         if (logger.isLoggable(Level.FINE)) {
             long end = currentTimeMillis();
             logger.fine("The tuscany runtime started in " + (end - start) + " ms.");
+            if (registry instanceof DefaultExtensionPointRegistry) {
+                logger.fine(((DefaultExtensionPointRegistry)registry).getStartupReport());
+            }
         }
     }
     
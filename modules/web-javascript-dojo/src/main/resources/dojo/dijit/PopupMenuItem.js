@@ -0,0 +1,43 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dijit.PopupMenuItem"]){
+dojo._hasResource["dijit.PopupMenuItem"]=true;
+dojo.provide("dijit.PopupMenuItem");
+dojo.require("dijit.MenuItem");
+dojo.declare("dijit.PopupMenuItem",dijit.MenuItem,{_fillContent:function(){
+if(this.srcNodeRef){
+var _1=dojo.query("*",this.srcNodeRef);
+dijit.PopupMenuItem.superclass._fillContent.call(this,_1[0]);
+this.dropDownContainer=this.srcNodeRef;
+}
+},startup:function(){
+if(this._started){
+return;
+}
+this.inherited(arguments);
+if(!this.popup){
+var _2=dojo.query("[widgetId]",this.dropDownContainer)[0];
+this.popup=dijit.byNode(_2);
+}
+dojo.body().appendChild(this.popup.domNode);
+this.popup.startup();
+this.popup.domNode.style.display="none";
+if(this.arrowWrapper){
+dojo.style(this.arrowWrapper,"visibility","");
+}
+dijit.setWaiState(this.focusNode,"haspopup","true");
+},destroyDescendants:function(){
+if(this.popup){
+if(!this.popup._destroyed){
+this.popup.destroyRecursive();
+}
+delete this.popup;
+}
+this.inherited(arguments);
+}});
+}
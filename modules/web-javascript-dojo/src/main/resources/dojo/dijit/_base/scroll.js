@@ -0,0 +1,15 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dijit._base.scroll"]){
+dojo._hasResource["dijit._base.scroll"]=true;
+dojo.provide("dijit._base.scroll");
+dojo.require("dojo.window");
+dijit.scrollIntoView=function(_1,_2){
+dojo.window.scrollIntoView(_1,_2);
+};
+}
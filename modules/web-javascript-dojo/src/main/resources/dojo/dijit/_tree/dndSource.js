@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dijit._tree.dndSource"]){
+dojo._hasResource["dijit._tree.dndSource"]=true;
+dojo.provide("dijit._tree.dndSource");
+dojo.require("dijit.tree.dndSource");
+dojo.deprecated("dijit._tree.dndSource has been moved to dijit.tree.dndSource, use that instead","","2.0");
+dijit._tree.dndSource=dijit.tree.dndSource;
+}
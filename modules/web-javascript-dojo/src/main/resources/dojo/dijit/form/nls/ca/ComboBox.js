@@ -0,0 +1 @@
+({"previousMessage":"Opcions anteriors","nextMessage":"Més opcions"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"loadingState":"טעינה...‏","errorState":"אירעה שגיאה"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"buttonOk":"OK","buttonCancel":"Anulare","buttonSave":"Salvare","itemClose":"Închidere"})
\ No newline at end of file
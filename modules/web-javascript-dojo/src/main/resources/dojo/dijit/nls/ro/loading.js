@@ -0,0 +1 @@
+({"loadingState":"Încărcare...","errorState":"Ne pare rău, a apărut o eroare "})
\ No newline at end of file
@@ -0,0 +1 @@
+({"loadingState":"Zavádzanie...","errorState":"Nastala chyba"})
\ No newline at end of file
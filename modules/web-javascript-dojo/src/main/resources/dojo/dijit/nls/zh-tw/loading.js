@@ -0,0 +1 @@
+({"loadingState":"載入中...","errorState":"抱歉，發生錯誤"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"loadingState":"正在加载...","errorState":"对不起，发生了错误"})
\ No newline at end of file
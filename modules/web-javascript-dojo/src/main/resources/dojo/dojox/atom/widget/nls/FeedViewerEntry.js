@@ -0,0 +1 @@
+({"deleteButton":"[Delete]"})
\ No newline at end of file
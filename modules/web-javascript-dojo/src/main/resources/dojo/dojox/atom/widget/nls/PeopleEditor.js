@@ -0,0 +1 @@
+({"add":"Add","addAuthor":"Add Author","addContributor":"Add Contributor"})
\ No newline at end of file
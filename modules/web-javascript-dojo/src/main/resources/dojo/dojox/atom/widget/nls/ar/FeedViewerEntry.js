@@ -0,0 +1 @@
+({"deleteButton":"[حذف]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"add":"اضافة","addAuthor":"اضافة مؤلف","addContributor":"اضافة مشارك "})
\ No newline at end of file
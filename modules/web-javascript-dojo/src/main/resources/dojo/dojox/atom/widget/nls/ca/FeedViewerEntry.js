@@ -0,0 +1 @@
+({"deleteButton":"[Suprimeix]"})
\ No newline at end of file
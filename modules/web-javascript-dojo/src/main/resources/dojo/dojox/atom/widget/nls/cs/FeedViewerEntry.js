@@ -0,0 +1 @@
+({"deleteButton":"[Odstranit]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Slet]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Löschen]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Διαγραφή]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Suprimir]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Poista]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"add":"Lisää","addAuthor":"Lisää tekijä","addContributor":"Lisää osallistuja"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Supprimer]"})
\ No newline at end of file
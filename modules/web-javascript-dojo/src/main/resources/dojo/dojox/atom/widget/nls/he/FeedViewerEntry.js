@@ -0,0 +1 @@
+({"deleteButton":"[מחיקה]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Törlés]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Cancella]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[削除]"})
\ No newline at end of file
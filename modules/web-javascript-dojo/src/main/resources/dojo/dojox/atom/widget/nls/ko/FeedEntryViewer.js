@@ -0,0 +1 @@
+({"close":"[닫기]","title":"제목","authors":"작성자","summary":"요약","content":"컨텐츠","contributors":"속성","updated":"갱신","displayOptions":"[옵션 표시]","id":"ID"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[삭제]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Slett]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Wissen]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"edit":"[Edytuj]","save":"[Zapisz]","cancel":"[Anuluj]","doNew":"[Nowy]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Usuń]"})
\ No newline at end of file
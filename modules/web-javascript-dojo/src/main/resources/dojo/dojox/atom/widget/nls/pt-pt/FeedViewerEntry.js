@@ -0,0 +1 @@
+({"deleteButton":"[Eliminar]"})
\ No newline at end of file
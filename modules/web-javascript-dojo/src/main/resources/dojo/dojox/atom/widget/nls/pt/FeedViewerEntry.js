@@ -0,0 +1 @@
+({"deleteButton":"[Excluir]"})
\ No newline at end of file
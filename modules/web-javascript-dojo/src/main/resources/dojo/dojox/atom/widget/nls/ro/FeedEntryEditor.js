@@ -0,0 +1 @@
+({"edit":"[editare]","save":"[salvare]","cancel":"[anulare]","doNew":"[nou]"})
\ No newline at end of file
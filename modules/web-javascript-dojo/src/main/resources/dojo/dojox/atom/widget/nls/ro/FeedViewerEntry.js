@@ -0,0 +1 @@
+({"deleteButton":"[Ştergere]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"add":"Adăugare","addAuthor":"Adăugare autor","addContributor":"Adăugare contribuitor"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Удалить]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Vymazať]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Izbriši]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"add":"Dodaj","addAuthor":"Dodaj avtorja","addContributor":"Dodaj kontributorja,"})
\ No newline at end of file
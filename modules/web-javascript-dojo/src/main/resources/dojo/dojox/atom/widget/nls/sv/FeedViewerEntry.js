@@ -0,0 +1 @@
+({"deleteButton":"[Ta bort]"})
\ No newline at end of file
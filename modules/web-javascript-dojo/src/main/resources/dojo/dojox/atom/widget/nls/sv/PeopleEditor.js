@@ -0,0 +1 @@
+({"add":"Lägg til ","addAuthor":"Lägg till författare","addContributor":"Lägg till medverkande"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[ลบ]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"deleteButton":"[Sil]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"close":"[關閉]","title":"標題","authors":"作者","summary":"摘要","content":"內容","contributors":"提出者","updated":"已更新","displayOptions":"[顯示選項]","id":"ID"})
\ No newline at end of file
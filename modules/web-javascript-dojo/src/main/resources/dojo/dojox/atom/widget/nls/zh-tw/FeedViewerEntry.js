@@ -0,0 +1 @@
+({"deleteButton":"[刪除]"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"add":"新增","addAuthor":"新增作者","addContributor":"新增提出者"})
\ No newline at end of file
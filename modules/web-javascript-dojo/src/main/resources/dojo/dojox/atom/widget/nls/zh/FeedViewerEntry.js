@@ -0,0 +1 @@
+({"deleteButton":"[删除]"})
\ No newline at end of file
@@ -0,0 +1,15 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.plot2d.Lines"]){
+dojo._hasResource["dojox.charting.plot2d.Lines"]=true;
+dojo.provide("dojox.charting.plot2d.Lines");
+dojo.require("dojox.charting.plot2d.Default");
+dojo.declare("dojox.charting.plot2d.Lines",dojox.charting.plot2d.Default,{constructor:function(){
+this.opt.lines=true;
+}});
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Adobebricks"]){
+dojo._hasResource["dojox.charting.themes.Adobebricks"]=true;
+dojo.provide("dojox.charting.themes.Adobebricks");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Adobebricks=new _1.Theme({colors:["#7f2518","#3e170c","#cc3927","#651f0e","#8c271c"]});
+})();
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Algae"]){
+dojo._hasResource["dojox.charting.themes.Algae"]=true;
+dojo.provide("dojox.charting.themes.Algae");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Algae=new _1.Theme({colors:["#57808f","#506885","#4f7878","#558f7f","#508567"]});
+})();
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.BlueDusk"]){
+dojo._hasResource["dojox.charting.themes.BlueDusk"]=true;
+dojo.provide("dojox.charting.themes.BlueDusk");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.BlueDusk=new _1.Theme({colors:["#292e76","#3e56a6","#10143f","#33449c","#798dcd"]});
+})();
+}
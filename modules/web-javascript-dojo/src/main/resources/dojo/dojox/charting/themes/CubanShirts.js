@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.CubanShirts"]){
+dojo._hasResource["dojox.charting.themes.CubanShirts"]=true;
+dojo.provide("dojox.charting.themes.CubanShirts");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.CubanShirts=new _1.Theme({colors:["#d42d2a","#004f80","#989736","#2085c7","#7f7f33"]});
+})();
+}
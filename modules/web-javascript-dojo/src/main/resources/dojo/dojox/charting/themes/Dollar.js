@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Dollar"]){
+dojo._hasResource["dojox.charting.themes.Dollar"]=true;
+dojo.provide("dojox.charting.themes.Dollar");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Dollar=new _1.Theme({colors:["#A4CE67","#739363","#6B824A","#343434","#636563"]});
+})();
+}
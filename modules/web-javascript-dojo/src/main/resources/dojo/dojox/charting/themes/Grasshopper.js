@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Grasshopper"]){
+dojo._hasResource["dojox.charting.themes.Grasshopper"]=true;
+dojo.provide("dojox.charting.themes.Grasshopper");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Grasshopper=new _1.Theme({colors:["#208040","#40b657","#78c25e","#14401f","#64bd5f"]});
+})();
+}
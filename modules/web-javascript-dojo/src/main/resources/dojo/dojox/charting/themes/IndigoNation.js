@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.IndigoNation"]){
+dojo._hasResource["dojox.charting.themes.IndigoNation"]=true;
+dojo.provide("dojox.charting.themes.IndigoNation");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.IndigoNation=new _1.Theme({colors:["#93a4d0","#3b4152","#687291","#9faed9","#8290b8"]});
+})();
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Ireland"]){
+dojo._hasResource["dojox.charting.themes.Ireland"]=true;
+dojo.provide("dojox.charting.themes.Ireland");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Ireland=new _1.Theme({colors:["#abdbcb","#435a51","#70998b","#78d596","#5f8074"]});
+})();
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Midwest"]){
+dojo._hasResource["dojox.charting.themes.Midwest"]=true;
+dojo.provide("dojox.charting.themes.Midwest");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Midwest=new _1.Theme({colors:["#927b51","#a89166","#80c31c","#bcdd5a","#aebc21"]});
+})();
+}
@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Minty"]){
+dojo._hasResource["dojox.charting.themes.Minty"]=true;
+dojo.provide("dojox.charting.themes.Minty");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Minty=new _1.Theme({colors:["#80ccbb","#539e8b","#335f54","#8dd1c2","#68c5ad"]});
+})();
+}
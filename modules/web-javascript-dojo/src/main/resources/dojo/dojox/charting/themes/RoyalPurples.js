@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.RoyalPurples"]){
+dojo._hasResource["dojox.charting.themes.RoyalPurples"]=true;
+dojo.provide("dojox.charting.themes.RoyalPurples");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.RoyalPurples=new _1.Theme({colors:["#473980","#685aa7","#7970b3","#231c3f","#7267ae"]});
+})();
+}
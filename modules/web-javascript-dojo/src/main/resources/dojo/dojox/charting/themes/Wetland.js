@@ -0,0 +1,16 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.charting.themes.Wetland"]){
+dojo._hasResource["dojox.charting.themes.Wetland"]=true;
+dojo.provide("dojox.charting.themes.Wetland");
+dojo.require("dojox.charting.Theme");
+(function(){
+var _1=dojox.charting;
+_1.themes.Wetland=new _1.Theme({colors:["#bfbc64","#737130","#73373b","#7dafca","#8d3c42"]});
+})();
+}
@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+/*
+	This is an optimized version of Dojo, built for deployment and not for
+	development. To get sources and documentation, please visit:
+
+		http://dojotoolkit.org
+*/
+
+if(!dojo._hasResource["dojo.window"]){dojo._hasResource["dojo.window"]=true;dojo.provide("dojo.window");dojo.window.getBox=function(){var _1=(dojo.doc.compatMode=="BackCompat")?dojo.body():dojo.doc.documentElement;var _2=dojo._docScroll();return {w:_1.clientWidth,h:_1.clientHeight,l:_2.x,t:_2.y};};dojo.window.get=function(_3){if(dojo.isIE&&window!==document.parentWindow){_3.parentWindow.execScript("document._parentWindow = window;","Javascript");var _4=_3._parentWindow;_3._parentWindow=null;return _4;}return _3.parentWindow||_3.defaultView;};dojo.window.scrollIntoView=function(_5,_6){try{_5=dojo.byId(_5);var _7=_5.ownerDocument||dojo.doc,_8=_7.body||dojo.body(),_9=_7.documentElement||_8.parentNode,_a=dojo.isIE,_b=dojo.isWebKit;if((!(dojo.isMoz||_a||_b||dojo.isOpera)||_5==_8||_5==_9)&&(typeof _5.scrollIntoView!="undefined")){_5.scrollIntoView(false);return;}var _c=_7.compatMode=="BackCompat",_d=_c?_8:_9,_e=_b?_8:_d,_f=_d.clientWidth,_10=_d.clientHeight,rtl=!dojo._isBodyLtr(),_11=_6||dojo.position(_5),el=_5.parentNode,_12=function(el){return ((_a<=6||(_a&&_c))?false:(dojo.style(el,"position").toLowerCase()=="fixed"));};if(_12(_5)){return;}while(el){if(el==_8){el=_e;}var _13=dojo.position(el),_14=_12(el);if(el==_e){_13.w=_f;_13.h=_10;if(_e==_9&&_a&&rtl){_13.x+=_e.offsetWidth-_13.w;}if(_13.x<0||!_a){_13.x=0;}if(_13.y<0||!_a){_13.y=0;}}else{var pb=dojo._getPadBorderExtents(el);_13.w-=pb.w;_13.h-=pb.h;_13.x+=pb.l;_13.y+=pb.t;}if(el!=_e){var _15=el.clientWidth,_16=_13.w-_15;if(_15>0&&_16>0){_13.w=_15;if(_a&&rtl){_13.x+=_16;}}_15=el.clientHeight;_16=_13.h-_15;if(_15>0&&_16>0){_13.h=_15;}}if(_14){if(_13.y<0){_13.h+=_13.y;_13.y=0;}if(_13.x<0){_13.w+=_13.x;_13.x=0;}if(_13.y+_13.h>_10){_13.h=_10-_13.y;}if(_13.x+_13.w>_f){_13.w=_f-_13.x;}}var l=_11.x-_13.x,t=_11.y-Math.max(_13.y,0),r=l+_11.w-_13.w,bot=t+_11.h-_13.h;if(r*l>0){var s=Math[l<0?"max":"min"](l,r);_11.x+=el.scrollLeft;el.scrollLeft+=(_a>=8&&!_c&&rtl)?-s:s;_11.x-=el.scrollLeft;}if(bot*t>0){_11.y+=el.scrollTop;el.scrollTop+=Math[t<0?"max":"min"](t,bot);_11.y-=el.scrollTop;}el=(el!=_e)&&!_14&&el.parentNode;}}catch(error){console.error("scrollIntoView: "+error);_5.scrollIntoView(false);}};}if(!dojo._hasResource["dijit._base.manager"]){dojo._hasResource["dijit._base.manager"]=true;dojo.provide("dijit._base.manager");dojo.declare("dijit.WidgetSet",null,{constructor:function(){this._hash={};this.length=0;},add:function(_17){if(this._hash[_17.id]){throw new Error("Tried to register widget with id=="+_17.id+" but that id is already registered");}this._hash[_17.id]=_17;this.length++;},remove:function(id){if(this._hash[id]){delete this._hash[id];this.length--;}},forEach:function(_18,_19){_19=_19||dojo.global;var i=0,id;for(id in this._hash){_18.call(_19,this._hash[id],i++,this._hash);}return this;},filter:function(_1a,_1b){_1b=_1b||dojo.global;var res=new dijit.WidgetSet(),i=0,id;for(id in this._hash){var w=this._hash[id];if(_1a.call(_1b,w,i++,this._hash)){res.add(w);}}return res;},byId:function(id){return this._hash[id];},byClass:function(cls){var res=new dijit.WidgetSet(),id,_1c;for(id in this._hash){_1c=this._hash[id];if(_1c.declaredClass==cls){res.add(_1c);}}return res;},toArray:function(){var ar=[];for(var id in this._hash){ar.push(this._hash[id]);}return ar;},map:function(_1d,_1e){return dojo.map(this.toArray(),_1d,_1e);},every:function(_1f,_20){_20=_20||dojo.global;var x=0,i;for(i in this._hash){if(!_1f.call(_20,this._hash[i],x++,this._hash)){return false;}}return true;},some:function(_21,_22){_22=_22||dojo.global;var x=0,i;for(i in this._hash){if(_21.call(_22,this._hash[i],x++,this._hash)){return true;}}return false;}});(function(){dijit.registry=new dijit.WidgetSet();var _23=dijit.registry._hash,_24=dojo.attr,_25=dojo.hasAttr,_26=dojo.style;dijit.byId=function(id){return typeof id=="string"?_23[id]:id;};var _27={};dijit.getUniqueId=function(_28){var id;do{id=_28+"_"+(_28 in _27?++_27[_28]:_27[_28]=0);}while(_23[id]);return dijit._scopeName=="dijit"?id:dijit._scopeName+"_"+id;};dijit.findWidgets=function(_29){var _2a=[];function _2b(_2c){for(var _2d=_2c.firstChild;_2d;_2d=_2d.nextSibling){if(_2d.nodeType==1){var _2e=_2d.getAttribute("widgetId");if(_2e){_2a.push(_23[_2e]);}else{_2b(_2d);}}}};_2b(_29);return _2a;};dijit._destroyAll=function(){dijit._curFocus=null;dijit._prevFocus=null;dijit._activeStack=[];dojo.forEach(dijit.findWidgets(dojo.body()),function(_2f){if(!_2f._destroyed){if(_2f.destroyRecursive){_2f.destroyRecursive();}else{if(_2f.destroy){_2f.destroy();}}}});};if(dojo.isIE){dojo.addOnWindowUnload(function(){dijit._destroyAll();});}dijit.byNode=function(_30){return _23[_30.getAttribute("widgetId")];};dijit.getEnclosingWidget=function(_31){while(_31){var id=_31.getAttribute&&_31.getAttribute("widgetId");if(id){return _23[id];}_31=_31.parentNode;}return null;};var _32=(dijit._isElementShown=function(_33){var s=_26(_33);return (s.visibility!="hidden")&&(s.visibility!="collapsed")&&(s.display!="none")&&(_24(_33,"type")!="hidden");});dijit.hasDefaultTabStop=function(_34){switch(_34.nodeName.toLowerCase()){case "a":return _25(_34,"href");case "area":case "button":case "input":case "object":case "select":case "textarea":return true;case "iframe":if(dojo.isMoz){try{return _34.contentDocument.designMode=="on";}catch(err){return false;}}else{if(dojo.isWebKit){var doc=_34.contentDocument,_35=doc&&doc.body;return _35&&_35.contentEditable=="true";}else{try{doc=_34.contentWindow.document;_35=doc&&doc.body;return _35&&_35.firstChild&&_35.firstChild.contentEditable=="true";}catch(e){return false;}}}default:return _34.contentEditable=="true";}};var _36=(dijit.isTabNavigable=function(_37){if(_24(_37,"disabled")){return false;}else{if(_25(_37,"tabIndex")){return _24(_37,"tabIndex")>=0;}else{return dijit.hasDefaultTabStop(_37);}}});dijit._getTabNavigable=function(_38){var _39,_3a,_3b,_3c,_3d,_3e;var _3f=function(_40){dojo.query("> *",_40).forEach(function(_41){if((dojo.isIE&&_41.scopeName!=="HTML")||!_32(_41)){return;}if(_36(_41)){var _42=_24(_41,"tabIndex");if(!_25(_41,"tabIndex")||_42==0){if(!_39){_39=_41;}_3a=_41;}else{if(_42>0){if(!_3b||_42<_3c){_3c=_42;_3b=_41;}if(!_3d||_42>=_3e){_3e=_42;_3d=_41;}}}}if(_41.nodeName.toUpperCase()!="SELECT"){_3f(_41);}});};if(_32(_38)){_3f(_38);}return {first:_39,last:_3a,lowest:_3b,highest:_3d};};dijit.getFirstInTabbingOrder=function(_43){var _44=dijit._getTabNavigable(dojo.byId(_43));return _44.lowest?_44.lowest:_44.first;};dijit.getLastInTabbingOrder=function(_45){var _46=dijit._getTabNavigable(dojo.byId(_45));return _46.last?_46.last:_46.highest;};dijit.defaultDuration=dojo.config["defaultDuration"]||200;})();}if(!dojo._hasResource["dijit._base.focus"]){dojo._hasResource["dijit._base.focus"]=true;dojo.provide("dijit._base.focus");dojo.mixin(dijit,{_curFocus:null,_prevFocus:null,isCollapsed:function(){return dijit.getBookmark().isCollapsed;},getBookmark:function(){var bm,rg,tg,sel=dojo.doc.selection,cf=dijit._curFocus;if(dojo.global.getSelection){sel=dojo.global.getSelection();if(sel){if(sel.isCollapsed){tg=cf?cf.tagName:"";if(tg){tg=tg.toLowerCase();if(tg=="textarea"||(tg=="input"&&(!cf.type||cf.type.toLowerCase()=="text"))){sel={start:cf.selectionStart,end:cf.selectionEnd,node:cf,pRange:true};return {isCollapsed:(sel.end<=sel.start),mark:sel};}}bm={isCollapsed:true};}else{rg=sel.getRangeAt(0);bm={isCollapsed:false,mark:rg.cloneRange()};}}}else{if(sel){tg=cf?cf.tagName:"";tg=tg.toLowerCase();if(cf&&tg&&(tg=="button"||tg=="textarea"||tg=="input")){if(sel.type&&sel.type.toLowerCase()=="none"){return {isCollapsed:true,mark:null};}else{rg=sel.createRange();return {isCollapsed:rg.text&&rg.text.length?false:true,mark:{range:rg,pRange:true}};}}bm={};try{rg=sel.createRange();bm.isCollapsed=!(sel.type=="Text"?rg.htmlText.length:rg.length);}catch(e){bm.isCollapsed=true;return bm;}if(sel.type.toUpperCase()=="CONTROL"){if(rg.length){bm.mark=[];var i=0,len=rg.length;while(i<len){bm.mark.push(rg.item(i++));}}else{bm.isCollapsed=true;bm.mark=null;}}else{bm.mark=rg.getBookmark();}}else{console.warn("No idea how to store the current selection for this browser!");}}return bm;},moveToBookmark:function(_47){var _48=dojo.doc,_49=_47.mark;if(_49){if(dojo.global.getSelection){var sel=dojo.global.getSelection();if(sel&&sel.removeAllRanges){if(_49.pRange){var r=_49;var n=r.node;n.selectionStart=r.start;n.selectionEnd=r.end;}else{sel.removeAllRanges();sel.addRange(_49);}}else{console.warn("No idea how to restore selection for this browser!");}}else{if(_48.selection&&_49){var rg;if(_49.pRange){rg=_49.range;}else{if(dojo.isArray(_49)){rg=_48.body.createControlRange();dojo.forEach(_49,function(n){rg.addElement(n);});}else{rg=_48.body.createTextRange();rg.moveToBookmark(_49);}}rg.select();}}}},getFocus:function(_4a,_4b){var _4c=!dijit._curFocus||(_4a&&dojo.isDescendant(dijit._curFocus,_4a.domNode))?dijit._prevFocus:dijit._curFocus;return {node:_4c,bookmark:(_4c==dijit._curFocus)&&dojo.withGlobal(_4b||dojo.global,dijit.getBookmark),openedForWindow:_4b};},focus:function(_4d){if(!_4d){return;}var _4e="node" in _4d?_4d.node:_4d,_4f=_4d.bookmark,_50=_4d.openedForWindow,_51=_4f?_4f.isCollapsed:false;if(_4e){var _52=(_4e.tagName.toLowerCase()=="iframe")?_4e.contentWindow:_4e;if(_52&&_52.focus){try{_52.focus();}catch(e){}}dijit._onFocusNode(_4e);}if(_4f&&dojo.withGlobal(_50||dojo.global,dijit.isCollapsed)&&!_51){if(_50){_50.focus();}try{dojo.withGlobal(_50||dojo.global,dijit.moveToBookmark,null,[_4f]);}catch(e2){}}},_activeStack:[],registerIframe:function(_53){return dijit.registerWin(_53.contentWindow,_53);},unregisterIframe:function(_54){dijit.unregisterWin(_54);},registerWin:function(_55,_56){var _57=function(evt){dijit._justMouseDowned=true;setTimeout(function(){dijit._justMouseDowned=false;},0);if(dojo.isIE&&evt&&evt.srcElement&&evt.srcElement.parentNode==null){return;}dijit._onTouchNode(_56||evt.target||evt.srcElement,"mouse");};var doc=dojo.isIE?_55.document.documentElement:_55.document;if(doc){if(dojo.isIE){doc.attachEvent("onmousedown",_57);var _58=function(evt){if(evt.srcElement.tagName.toLowerCase()!="#document"&&dijit.isTabNavigable(evt.srcElement)){dijit._onFocusNode(_56||evt.srcElement);}else{dijit._onTouchNode(_56||evt.srcElement);}};doc.attachEvent("onactivate",_58);var _59=function(evt){dijit._onBlurNode(_56||evt.srcElement);};doc.attachEvent("ondeactivate",_59);return function(){doc.detachEvent("onmousedown",_57);doc.detachEvent("onactivate",_58);doc.detachEvent("ondeactivate",_59);doc=null;};}else{doc.addEventListener("mousedown",_57,true);var _5a=function(evt){dijit._onFocusNode(_56||evt.target);};doc.addEventListener("focus",_5a,true);var _5b=function(evt){dijit._onBlurNode(_56||evt.target);};doc.addEventListener("blur",_5b,true);return function(){doc.removeEventListener("mousedown",_57,true);doc.removeEventListener("focus",_5a,true);doc.removeEventListener("blur",_5b,true);doc=null;};}}},unregisterWin:function(_5c){_5c&&_5c();},_onBlurNode:function(_5d){dijit._prevFocus=dijit._curFocus;dijit._curFocus=null;if(dijit._justMouseDowned){return;}if(dijit._clearActiveWidgetsTimer){clearTimeout(dijit._clearActiveWidgetsTimer);}dijit._clearActiveWidgetsTimer=setTimeout(function(){delete dijit._clearActiveWidgetsTimer;dijit._setStack([]);dijit._prevFocus=null;},100);},_onTouchNode:function(_5e,by){if(dijit._clearActiveWidgetsTimer){clearTimeout(dijit._clearActiveWidgetsTimer);delete dijit._clearActiveWidgetsTimer;}var _5f=[];try{while(_5e){var _60=dojo.attr(_5e,"dijitPopupParent");if(_60){_5e=dijit.byId(_60).domNode;}else{if(_5e.tagName&&_5e.tagName.toLowerCase()=="body"){if(_5e===dojo.body()){break;}_5e=dojo.window.get(_5e.ownerDocument).frameElement;}else{var id=_5e.getAttribute&&_5e.getAttribute("widgetId"),_61=id&&dijit.byId(id);if(_61&&!(by=="mouse"&&_61.get("disabled"))){_5f.unshift(id);}_5e=_5e.parentNode;}}}}catch(e){}dijit._setStack(_5f,by);},_onFocusNode:function(_62){if(!_62){return;}if(_62.nodeType==9){return;}dijit._onTouchNode(_62);if(_62==dijit._curFocus){return;}if(dijit._curFocus){dijit._prevFocus=dijit._curFocus;}dijit._curFocus=_62;dojo.publish("focusNode",[_62]);},_setStack:function(_63,by){var _64=dijit._activeStack;dijit._activeStack=_63;for(var _65=0;_65<Math.min(_64.length,_63.length);_65++){if(_64[_65]!=_63[_65]){break;}}var _66;for(var i=_64.length-1;i>=_65;i--){_66=dijit.byId(_64[i]);if(_66){_66._focused=false;_66._hasBeenBlurred=true;if(_66._onBlur){_66._onBlur(by);}dojo.publish("widgetBlur",[_66,by]);}}for(i=_65;i<_63.length;i++){_66=dijit.byId(_63[i]);if(_66){_66._focused=true;if(_66._onFocus){_66._onFocus(by);}dojo.publish("widgetFocus",[_66,by]);}}}});dojo.addOnLoad(function(){var _67=dijit.registerWin(window);if(dojo.isIE){dojo.addOnWindowUnload(function(){dijit.unregisterWin(_67);_67=null;});}});}if(!dojo._hasResource["dojo.AdapterRegistry"]){dojo._hasResource["dojo.AdapterRegistry"]=true;dojo.provide("dojo.AdapterRegistry");dojo.AdapterRegistry=function(_68){this.pairs=[];this.returnWrappers=_68||false;};dojo.extend(dojo.AdapterRegistry,{register:function(_69,_6a,_6b,_6c,_6d){this.pairs[((_6d)?"unshift":"push")]([_69,_6a,_6b,_6c]);},match:function(){for(var i=0;i<this.pairs.length;i++){var _6e=this.pairs[i];if(_6e[1].apply(this,arguments)){if((_6e[3])||(this.returnWrappers)){return _6e[2];}else{return _6e[2].apply(this,arguments);}}}throw new Error("No match found");},unregister:function(_6f){for(var i=0;i<this.pairs.length;i++){var _70=this.pairs[i];if(_70[0]==_6f){this.pairs.splice(i,1);return true;}}return false;}});}if(!dojo._hasResource["dijit._base.place"]){dojo._hasResource["dijit._base.place"]=true;dojo.provide("dijit._base.place");dijit.getViewport=function(){return dojo.window.getBox();};dijit.placeOnScreen=function(_71,pos,_72,_73){var _74=dojo.map(_72,function(_75){var c={corner:_75,pos:{x:pos.x,y:pos.y}};if(_73){c.pos.x+=_75.charAt(1)=="L"?_73.x:-_73.x;c.pos.y+=_75.charAt(0)=="T"?_73.y:-_73.y;}return c;});return dijit._place(_71,_74);};dijit._place=function(_76,_77,_78){var _79=dojo.window.getBox();if(!_76.parentNode||String(_76.parentNode.tagName).toLowerCase()!="body"){dojo.body().appendChild(_76);}var _7a=null;dojo.some(_77,function(_7b){var _7c=_7b.corner;var pos=_7b.pos;if(_78){_78(_76,_7b.aroundCorner,_7c);}var _7d=_76.style;var _7e=_7d.display;var _7f=_7d.visibility;_7d.visibility="hidden";_7d.display="";var mb=dojo.marginBox(_76);_7d.display=_7e;_7d.visibility=_7f;var _80=Math.max(_79.l,_7c.charAt(1)=="L"?pos.x:(pos.x-mb.w)),_81=Math.max(_79.t,_7c.charAt(0)=="T"?pos.y:(pos.y-mb.h)),_82=Math.min(_79.l+_79.w,_7c.charAt(1)=="L"?(_80+mb.w):pos.x),_83=Math.min(_79.t+_79.h,_7c.charAt(0)=="T"?(_81+mb.h):pos.y),_84=_82-_80,_85=_83-_81,_86=(mb.w-_84)+(mb.h-_85);if(_7a==null||_86<_7a.overflow){_7a={corner:_7c,aroundCorner:_7b.aroundCorner,x:_80,y:_81,w:_84,h:_85,overflow:_86};}return !_86;});_76.style.left=_7a.x+"px";_76.style.top=_7a.y+"px";if(_7a.overflow&&_78){_78(_76,_7a.aroundCorner,_7a.corner);}return _7a;};dijit.placeOnScreenAroundNode=function(_87,_88,_89,_8a){_88=dojo.byId(_88);var _8b=_88.style.display;_88.style.display="";var _8c=dojo.position(_88,true);_88.style.display=_8b;return dijit._placeOnScreenAroundRect(_87,_8c.x,_8c.y,_8c.w,_8c.h,_89,_8a);};dijit.placeOnScreenAroundRectangle=function(_8d,_8e,_8f,_90){return dijit._placeOnScreenAroundRect(_8d,_8e.x,_8e.y,_8e.width,_8e.height,_8f,_90);};dijit._placeOnScreenAroundRect=function(_91,x,y,_92,_93,_94,_95){var _96=[];for(var _97 in _94){_96.push({aroundCorner:_97,corner:_94[_97],pos:{x:x+(_97.charAt(1)=="L"?0:_92),y:y+(_97.charAt(0)=="T"?0:_93)}});}return dijit._place(_91,_96,_95);};dijit.placementRegistry=new dojo.AdapterRegistry();dijit.placementRegistry.register("node",function(n,x){return typeof x=="object"&&typeof x.offsetWidth!="undefined"&&typeof x.offsetHeight!="undefined";},dijit.placeOnScreenAroundNode);dijit.placementRegistry.register("rect",function(n,x){return typeof x=="object"&&"x" in x&&"y" in x&&"width" in x&&"height" in x;},dijit.placeOnScreenAroundRectangle);dijit.placeOnScreenAroundElement=function(_98,_99,_9a,_9b){return dijit.placementRegistry.match.apply(dijit.placementRegistry,arguments);};dijit.getPopupAroundAlignment=function(_9c,_9d){var _9e={};dojo.forEach(_9c,function(pos){switch(pos){case "after":_9e[_9d?"BR":"BL"]=_9d?"BL":"BR";break;case "before":_9e[_9d?"BL":"BR"]=_9d?"BR":"BL";break;case "below":_9e[_9d?"BL":"BR"]=_9d?"TL":"TR";_9e[_9d?"BR":"BL"]=_9d?"TR":"TL";break;case "above":default:_9e[_9d?"TL":"TR"]=_9d?"BL":"BR";_9e[_9d?"TR":"TL"]=_9d?"BR":"BL";break;}});return _9e;};}if(!dojo._hasResource["dijit._base.window"]){dojo._hasResource["dijit._base.window"]=true;dojo.provide("dijit._base.window");dijit.getDocumentWindow=function(doc){return dojo.window.get(doc);};}if(!dojo._hasResource["dijit._base.popup"]){dojo._hasResource["dijit._base.popup"]=true;dojo.provide("dijit._base.popup");dijit.popup={_stack:[],_beginZIndex:1000,_idGen:1,moveOffScreen:function(_9f){var _a0=_9f.parentNode;if(!_a0||!dojo.hasClass(_a0,"dijitPopup")){_a0=dojo.create("div",{"class":"dijitPopup",style:{visibility:"hidden",top:"-9999px"}},dojo.body());dijit.setWaiRole(_a0,"presentation");_a0.appendChild(_9f);}var s=_9f.style;s.display="";s.visibility="";s.position="";s.top="0px";dojo.style(_a0,{visibility:"hidden",top:"-9999px"});},getTopPopup:function(){var _a1=this._stack;for(var pi=_a1.length-1;pi>0&&_a1[pi].parent===_a1[pi-1].widget;pi--){}return _a1[pi];},open:function(_a2){var _a3=this._stack,_a4=_a2.popup,_a5=_a2.orient||((_a2.parent?_a2.parent.isLeftToRight():dojo._isBodyLtr())?{"BL":"TL","BR":"TR","TL":"BL","TR":"BR"}:{"BR":"TR","BL":"TL","TR":"BR","TL":"BL"}),_a6=_a2.around,id=(_a2.around&&_a2.around.id)?(_a2.around.id+"_dropdown"):("popup_"+this._idGen++);var _a7=_a4.domNode.parentNode;if(!_a7||!dojo.hasClass(_a7,"dijitPopup")){this.moveOffScreen(_a4.domNode);_a7=_a4.domNode.parentNode;}dojo.attr(_a7,{id:id,style:{zIndex:this._beginZIndex+_a3.length},"class":"dijitPopup "+(_a4.baseClass||_a4["class"]||"").split(" ")[0]+"Popup",dijitPopupParent:_a2.parent?_a2.parent.id:""});if(dojo.isIE||dojo.isMoz){var _a8=_a7.childNodes[1];if(!_a8){_a8=new dijit.BackgroundIframe(_a7);}}var _a9=_a6?dijit.placeOnScreenAroundElement(_a7,_a6,_a5,_a4.orient?dojo.hitch(_a4,"orient"):null):dijit.placeOnScreen(_a7,_a2,_a5=="R"?["TR","BR","TL","BL"]:["TL","BL","TR","BR"],_a2.padding);_a7.style.visibility="visible";_a4.domNode.style.visibility="visible";var _aa=[];_aa.push(dojo.connect(_a7,"onkeypress",this,function(evt){if(evt.charOrCode==dojo.keys.ESCAPE&&_a2.onCancel){dojo.stopEvent(evt);_a2.onCancel();}else{if(evt.charOrCode===dojo.keys.TAB){dojo.stopEvent(evt);var _ab=this.getTopPopup();if(_ab&&_ab.onCancel){_ab.onCancel();}}}}));if(_a4.onCancel){_aa.push(dojo.connect(_a4,"onCancel",_a2.onCancel));}_aa.push(dojo.connect(_a4,_a4.onExecute?"onExecute":"onChange",this,function(){var _ac=this.getTopPopup();if(_ac&&_ac.onExecute){_ac.onExecute();}}));_a3.push({wrapper:_a7,iframe:_a8,widget:_a4,parent:_a2.parent,onExecute:_a2.onExecute,onCancel:_a2.onCancel,onClose:_a2.onClose,handlers:_aa});if(_a4.onOpen){_a4.onOpen(_a9);}return _a9;},close:function(_ad){var _ae=this._stack;while(dojo.some(_ae,function(_af){return _af.widget==_ad;})){var top=_ae.pop(),_b0=top.wrapper,_b1=top.iframe,_b2=top.widget,_b3=top.onClose;if(_b2.onClose){_b2.onClose();}dojo.forEach(top.handlers,dojo.disconnect);if(_b2&&_b2.domNode){this.moveOffScreen(_b2.domNode);}else{dojo.destroy(_b0);}if(_b3){_b3();}}}};dijit._frames=new function(){var _b4=[];this.pop=function(){var _b5;if(_b4.length){_b5=_b4.pop();_b5.style.display="";}else{if(dojo.isIE){var _b6=dojo.config["dojoBlankHtmlUrl"]||(dojo.moduleUrl("dojo","resources/blank.html")+"")||"javascript:\"\"";var _b7="<iframe src='"+_b6+"'"+" style='position: absolute; left: 0px; top: 0px;"+"z-index: -1; filter:Alpha(Opacity=\"0\");'>";_b5=dojo.doc.createElement(_b7);}else{_b5=dojo.create("iframe");_b5.src="javascript:\"\"";_b5.className="dijitBackgroundIframe";dojo.style(_b5,"opacity",0.1);}_b5.tabIndex=-1;dijit.setWaiRole(_b5,"presentation");}return _b5;};this.push=function(_b8){_b8.style.display="none";_b4.push(_b8);};}();dijit.BackgroundIframe=function(_b9){if(!_b9.id){throw new Error("no id");}if(dojo.isIE||dojo.isMoz){var _ba=dijit._frames.pop();_b9.appendChild(_ba);if(dojo.isIE<7){this.resize(_b9);this._conn=dojo.connect(_b9,"onresize",this,function(){this.resize(_b9);});}else{dojo.style(_ba,{width:"100%",height:"100%"});}this.iframe=_ba;}};dojo.extend(dijit.BackgroundIframe,{resize:function(_bb){if(this.iframe&&dojo.isIE<7){dojo.style(this.iframe,{width:_bb.offsetWidth+"px",height:_bb.offsetHeight+"px"});}},destroy:function(){if(this._conn){dojo.disconnect(this._conn);this._conn=null;}if(this.iframe){dijit._frames.push(this.iframe);delete this.iframe;}}});}if(!dojo._hasResource["dijit._base.scroll"]){dojo._hasResource["dijit._base.scroll"]=true;dojo.provide("dijit._base.scroll");dijit.scrollIntoView=function(_bc,pos){dojo.window.scrollIntoView(_bc,pos);};}if(!dojo._hasResource["dojo.uacss"]){dojo._hasResource["dojo.uacss"]=true;dojo.provide("dojo.uacss");(function(){var d=dojo,_bd=d.doc.documentElement,ie=d.isIE,_be=d.isOpera,maj=Math.floor,ff=d.isFF,_bf=d.boxModel.replace(/-/,""),_c0={dj_ie:ie,dj_ie6:maj(ie)==6,dj_ie7:maj(ie)==7,dj_ie8:maj(ie)==8,dj_quirks:d.isQuirks,dj_iequirks:ie&&d.isQuirks,dj_opera:_be,dj_khtml:d.isKhtml,dj_webkit:d.isWebKit,dj_safari:d.isSafari,dj_chrome:d.isChrome,dj_gecko:d.isMozilla,dj_ff3:maj(ff)==3};_c0["dj_"+_bf]=true;var _c1="";for(var clz in _c0){if(_c0[clz]){_c1+=clz+" ";}}_bd.className=d.trim(_bd.className+" "+_c1);dojo._loaders.unshift(function(){if(!dojo._isBodyLtr()){var _c2="dj_rtl dijitRtl "+_c1.replace(/ /g,"-rtl ");_bd.className=d.trim(_bd.className+" "+_c2);}});})();}if(!dojo._hasResource["dijit._base.sniff"]){dojo._hasResource["dijit._base.sniff"]=true;dojo.provide("dijit._base.sniff");}if(!dojo._hasResource["dijit._base.typematic"]){dojo._hasResource["dijit._base.typematic"]=true;dojo.provide("dijit._base.typematic");dijit.typematic={_fireEventAndReload:function(){this._timer=null;this._callback(++this._count,this._node,this._evt);this._currentTimeout=Math.max(this._currentTimeout<0?this._initialDelay:(this._subsequentDelay>1?this._subsequentDelay:Math.round(this._currentTimeout*this._subsequentDelay)),this._minDelay);this._timer=setTimeout(dojo.hitch(this,"_fireEventAndReload"),this._currentTimeout);},trigger:function(evt,_c3,_c4,_c5,obj,_c6,_c7,_c8){if(obj!=this._obj){this.stop();this._initialDelay=_c7||500;this._subsequentDelay=_c6||0.9;this._minDelay=_c8||10;this._obj=obj;this._evt=evt;this._node=_c4;this._currentTimeout=-1;this._count=-1;this._callback=dojo.hitch(_c3,_c5);this._fireEventAndReload();this._evt=dojo.mixin({faux:true},evt);}},stop:function(){if(this._timer){clearTimeout(this._timer);this._timer=null;}if(this._obj){this._callback(-1,this._node,this._evt);this._obj=null;}},addKeyListener:function(_c9,_ca,_cb,_cc,_cd,_ce,_cf){if(_ca.keyCode){_ca.charOrCode=_ca.keyCode;dojo.deprecated("keyCode attribute parameter for dijit.typematic.addKeyListener is deprecated. Use charOrCode instead.","","2.0");}else{if(_ca.charCode){_ca.charOrCode=String.fromCharCode(_ca.charCode);dojo.deprecated("charCode attribute parameter for dijit.typematic.addKeyListener is deprecated. Use charOrCode instead.","","2.0");}}return [dojo.connect(_c9,"onkeypress",this,function(evt){if(evt.charOrCode==_ca.charOrCode&&(_ca.ctrlKey===undefined||_ca.ctrlKey==evt.ctrlKey)&&(_ca.altKey===undefined||_ca.altKey==evt.altKey)&&(_ca.metaKey===undefined||_ca.metaKey==(evt.metaKey||false))&&(_ca.shiftKey===undefined||_ca.shiftKey==evt.shiftKey)){dojo.stopEvent(evt);dijit.typematic.trigger(evt,_cb,_c9,_cc,_ca,_cd,_ce,_cf);}else{if(dijit.typematic._obj==_ca){dijit.typematic.stop();}}}),dojo.connect(_c9,"onkeyup",this,function(evt){if(dijit.typematic._obj==_ca){dijit.typematic.stop();}})];},addMouseListener:function(_d0,_d1,_d2,_d3,_d4,_d5){var dc=dojo.connect;return [dc(_d0,"mousedown",this,function(evt){dojo.stopEvent(evt);dijit.typematic.trigger(evt,_d1,_d0,_d2,_d0,_d3,_d4,_d5);}),dc(_d0,"mouseup",this,function(evt){dojo.stopEvent(evt);dijit.typematic.stop();}),dc(_d0,"mouseout",this,function(evt){dojo.stopEvent(evt);dijit.typematic.stop();}),dc(_d0,"mousemove",this,function(evt){evt.preventDefault();}),dc(_d0,"dblclick",this,function(evt){dojo.stopEvent(evt);if(dojo.isIE){dijit.typematic.trigger(evt,_d1,_d0,_d2,_d0,_d3,_d4,_d5);setTimeout(dojo.hitch(this,dijit.typematic.stop),50);}})];},addListener:function(_d6,_d7,_d8,_d9,_da,_db,_dc,_dd){return this.addKeyListener(_d7,_d8,_d9,_da,_db,_dc,_dd).concat(this.addMouseListener(_d6,_d9,_da,_db,_dc,_dd));}};}if(!dojo._hasResource["dijit._base.wai"]){dojo._hasResource["dijit._base.wai"]=true;dojo.provide("dijit._base.wai");dijit.wai={onload:function(){var div=dojo.create("div",{id:"a11yTestNode",style:{cssText:"border: 1px solid;"+"border-color:red green;"+"position: absolute;"+"height: 5px;"+"top: -999px;"+"background-image: url(\""+(dojo.config.blankGif||dojo.moduleUrl("dojo","resources/blank.gif"))+"\");"}},dojo.body());var cs=dojo.getComputedStyle(div);if(cs){var _de=cs.backgroundImage;var _df=(cs.borderTopColor==cs.borderRightColor)||(_de!=null&&(_de=="none"||_de=="url(invalid-url:)"));dojo[_df?"addClass":"removeClass"](dojo.body(),"dijit_a11y");if(dojo.isIE){div.outerHTML="";}else{dojo.body().removeChild(div);}}}};if(dojo.isIE||dojo.isMoz){dojo._loaders.unshift(dijit.wai.onload);}dojo.mixin(dijit,{_XhtmlRoles:/banner|contentinfo|definition|main|navigation|search|note|secondary|seealso/,hasWaiRole:function(_e0,_e1){var _e2=this.getWaiRole(_e0);return _e1?(_e2.indexOf(_e1)>-1):(_e2.length>0);},getWaiRole:function(_e3){return dojo.trim((dojo.attr(_e3,"role")||"").replace(this._XhtmlRoles,"").replace("wairole:",""));},setWaiRole:function(_e4,_e5){var _e6=dojo.attr(_e4,"role")||"";if(!this._XhtmlRoles.test(_e6)){dojo.attr(_e4,"role",_e5);}else{if((" "+_e6+" ").indexOf(" "+_e5+" ")<0){var _e7=dojo.trim(_e6.replace(this._XhtmlRoles,""));var _e8=dojo.trim(_e6.replace(_e7,""));dojo.attr(_e4,"role",_e8+(_e8?" ":"")+_e5);}}},removeWaiRole:function(_e9,_ea){var _eb=dojo.attr(_e9,"role");if(!_eb){return;}if(_ea){var t=dojo.trim((" "+_eb+" ").replace(" "+_ea+" "," "));dojo.attr(_e9,"role",t);}else{_e9.removeAttribute("role");}},hasWaiState:function(_ec,_ed){return _ec.hasAttribute?_ec.hasAttribute("aria-"+_ed):!!_ec.getAttribute("aria-"+_ed);},getWaiState:function(_ee,_ef){return _ee.getAttribute("aria-"+_ef)||"";},setWaiState:function(_f0,_f1,_f2){_f0.setAttribute("aria-"+_f1,_f2);},removeWaiState:function(_f3,_f4){_f3.removeAttribute("aria-"+_f4);}});}if(!dojo._hasResource["dijit._base"]){dojo._hasResource["dijit._base"]=true;dojo.provide("dijit._base");}if(!dojo._hasResource["dijit._Widget"]){dojo._hasResource["dijit._Widget"]=true;dojo.provide("dijit._Widget");dojo.require("dijit._base");dojo.connect(dojo,"_connect",function(_f5,_f6){if(_f5&&dojo.isFunction(_f5._onConnect)){_f5._onConnect(_f6);}});dijit._connectOnUseEventHandler=function(_f7){};dijit._lastKeyDownNode=null;if(dojo.isIE){(function(){var _f8=function(evt){dijit._lastKeyDownNode=evt.srcElement;};dojo.doc.attachEvent("onkeydown",_f8);dojo.addOnWindowUnload(function(){dojo.doc.detachEvent("onkeydown",_f8);});})();}else{dojo.doc.addEventListener("keydown",function(evt){dijit._lastKeyDownNode=evt.target;},true);}(function(){var _f9={},_fa=function(_fb){var dc=_fb.declaredClass;if(!_f9[dc]){var r=[],_fc,_fd=_fb.constructor.prototype;for(var _fe in _fd){if(dojo.isFunction(_fd[_fe])&&(_fc=_fe.match(/^_set([a-zA-Z]*)Attr$/))&&_fc[1]){r.push(_fc[1].charAt(0).toLowerCase()+_fc[1].substr(1));}}_f9[dc]=r;}return _f9[dc]||[];};dojo.declare("dijit._Widget",null,{id:"",lang:"",dir:"","class":"",style:"",title:"",tooltip:"",baseClass:"",srcNodeRef:null,domNode:null,containerNode:null,attributeMap:{id:"",dir:"",lang:"","class":"",style:"",title:""},_deferredConnects:{onClick:"",onDblClick:"",onKeyDown:"",onKeyPress:"",onKeyUp:"",onMouseMove:"",onMouseDown:"",onMouseOut:"",onMouseOver:"",onMouseLeave:"",onMouseEnter:"",onMouseUp:""},onClick:dijit._connectOnUseEventHandler,onDblClick:dijit._connectOnUseEventHandler,onKeyDown:dijit._connectOnUseEventHandler,onKeyPress:dijit._connectOnUseEventHandler,onKeyUp:dijit._connectOnUseEventHandler,onMouseDown:dijit._connectOnUseEventHandler,onMouseMove:dijit._connectOnUseEventHandler,onMouseOut:dijit._connectOnUseEventHandler,onMouseOver:dijit._connectOnUseEventHandler,onMouseLeave:dijit._connectOnUseEventHandler,onMouseEnter:dijit._connectOnUseEventHandler,onMouseUp:dijit._connectOnUseEventHandler,_blankGif:(dojo.config.blankGif||dojo.moduleUrl("dojo","resources/blank.gif")).toString(),postscript:function(_ff,_100){this.create(_ff,_100);},create:function(_101,_102){this.srcNodeRef=dojo.byId(_102);this._connects=[];this._subscribes=[];this._deferredConnects=dojo.clone(this._deferredConnects);for(var attr in this.attributeMap){delete this._deferredConnects[attr];}for(attr in this._deferredConnects){if(this[attr]!==dijit._connectOnUseEventHandler){delete this._deferredConnects[attr];}}if(this.srcNodeRef&&(typeof this.srcNodeRef.id=="string")){this.id=this.srcNodeRef.id;}if(_101){this.params=_101;dojo.mixin(this,_101);}this.postMixInProperties();if(!this.id){this.id=dijit.getUniqueId(this.declaredClass.replace(/\./g,"_"));}dijit.registry.add(this);this.buildRendering();if(this.domNode){this._applyAttributes();var _103=this.srcNodeRef;if(_103&&_103.parentNode){_103.parentNode.replaceChild(this.domNode,_103);}for(attr in this.params){this._onConnect(attr);}}if(this.domNode){this.domNode.setAttribute("widgetId",this.id);}this.postCreate();if(this.srcNodeRef&&!this.srcNodeRef.parentNode){delete this.srcNodeRef;}this._created=true;},_applyAttributes:function(){var _104=function(attr,_105){if((_105.params&&attr in _105.params)||_105[attr]){_105.set(attr,_105[attr]);}};for(var attr in this.attributeMap){_104(attr,this);}dojo.forEach(_fa(this),function(a){if(!(a in this.attributeMap)){_104(a,this);}},this);},postMixInProperties:function(){},buildRendering:function(){this.domNode=this.srcNodeRef||dojo.create("div");},postCreate:function(){if(this.baseClass){var _106=this.baseClass.split(" ");if(!this.isLeftToRight()){_106=_106.concat(dojo.map(_106,function(name){return name+"Rtl";}));}dojo.addClass(this.domNode,_106);}},startup:function(){this._started=true;},destroyRecursive:function(_107){this._beingDestroyed=true;this.destroyDescendants(_107);this.destroy(_107);},destroy:function(_108){this._beingDestroyed=true;this.uninitialize();var d=dojo,dfe=d.forEach,dun=d.unsubscribe;dfe(this._connects,function(_109){dfe(_109,d.disconnect);});dfe(this._subscribes,function(_10a){dun(_10a);});dfe(this._supportingWidgets||[],function(w){if(w.destroyRecursive){w.destroyRecursive();}else{if(w.destroy){w.destroy();}}});this.destroyRendering(_108);dijit.registry.remove(this.id);this._destroyed=true;},destroyRendering:function(_10b){if(this.bgIframe){this.bgIframe.destroy(_10b);delete this.bgIframe;}if(this.domNode){if(_10b){dojo.removeAttr(this.domNode,"widgetId");}else{dojo.destroy(this.domNode);}delete this.domNode;}if(this.srcNodeRef){if(!_10b){dojo.destroy(this.srcNodeRef);}delete this.srcNodeRef;}},destroyDescendants:function(_10c){dojo.forEach(this.getChildren(),function(_10d){if(_10d.destroyRecursive){_10d.destroyRecursive(_10c);}});},uninitialize:function(){return false;},onFocus:function(){},onBlur:function(){},_onFocus:function(e){this.onFocus();},_onBlur:function(){this.onBlur();},_onConnect:function(_10e){if(_10e in this._deferredConnects){var _10f=this[this._deferredConnects[_10e]||"domNode"];this.connect(_10f,_10e.toLowerCase(),_10e);delete this._deferredConnects[_10e];}},_setClassAttr:function(_110){var _111=this[this.attributeMap["class"]||"domNode"];dojo.removeClass(_111,this["class"]);this["class"]=_110;dojo.addClass(_111,_110);},_setStyleAttr:function(_112){var _113=this[this.attributeMap.style||"domNode"];if(dojo.isObject(_112)){dojo.style(_113,_112);}else{if(_113.style.cssText){_113.style.cssText+="; "+_112;}else{_113.style.cssText=_112;}}this.style=_112;},setAttribute:function(attr,_114){dojo.deprecated(this.declaredClass+"::setAttribute(attr, value) is deprecated. Use set() instead.","","2.0");this.set(attr,_114);},_attrToDom:function(attr,_115){var _116=this.attributeMap[attr];dojo.forEach(dojo.isArray(_116)?_116:[_116],function(_117){var _118=this[_117.node||_117||"domNode"];var type=_117.type||"attribute";switch(type){case "attribute":if(dojo.isFunction(_115)){_115=dojo.hitch(this,_115);}var _119=_117.attribute?_117.attribute:(/^on[A-Z][a-zA-Z]*$/.test(attr)?attr.toLowerCase():attr);dojo.attr(_118,_119,_115);break;case "innerText":_118.innerHTML="";_118.appendChild(dojo.doc.createTextNode(_115));break;case "innerHTML":_118.innerHTML=_115;break;case "class":dojo.removeClass(_118,this[attr]);dojo.addClass(_118,_115);break;}},this);this[attr]=_115;},attr:function(name,_11a){if(dojo.config.isDebug){var _11b=arguments.callee._ach||(arguments.callee._ach={}),_11c=(arguments.callee.caller||"unknown caller").toString();if(!_11b[_11c]){dojo.deprecated(this.declaredClass+"::attr() is deprecated. Use get() or set() instead, called from "+_11c,"","2.0");_11b[_11c]=true;}}var args=arguments.length;if(args>=2||typeof name==="object"){return this.set.apply(this,arguments);}else{return this.get(name);}},get:function(name){var _11d=this._getAttrNames(name);return this[_11d.g]?this[_11d.g]():this[name];},set:function(name,_11e){if(typeof name==="object"){for(var x in name){this.set(x,name[x]);}return this;}var _11f=this._getAttrNames(name);if(this[_11f.s]){var _120=this[_11f.s].apply(this,Array.prototype.slice.call(arguments,1));}else{if(name in this.attributeMap){this._attrToDom(name,_11e);}var _121=this[name];this[name]=_11e;}return _120||this;},_attrPairNames:{},_getAttrNames:function(name){var apn=this._attrPairNames;if(apn[name]){return apn[name];}var uc=name.charAt(0).toUpperCase()+name.substr(1);return (apn[name]={n:name+"Node",s:"_set"+uc+"Attr",g:"_get"+uc+"Attr"});},toString:function(){return "[Widget "+this.declaredClass+", "+(this.id||"NO ID")+"]";},getDescendants:function(){return this.containerNode?dojo.query("[widgetId]",this.containerNode).map(dijit.byNode):[];},getChildren:function(){return this.containerNode?dijit.findWidgets(this.containerNode):[];},nodesWithKeyClick:["input","button"],connect:function(obj,_122,_123){var d=dojo,dc=d._connect,_124=[];if(_122=="ondijitclick"){if(dojo.indexOf(this.nodesWithKeyClick,obj.nodeName.toLowerCase())==-1){var m=d.hitch(this,_123);_124.push(dc(obj,"onkeydown",this,function(e){if((e.keyCode==d.keys.ENTER||e.keyCode==d.keys.SPACE)&&!e.ctrlKey&&!e.shiftKey&&!e.altKey&&!e.metaKey){dijit._lastKeyDownNode=e.target;e.preventDefault();}}),dc(obj,"onkeyup",this,function(e){if((e.keyCode==d.keys.ENTER||e.keyCode==d.keys.SPACE)&&e.target===dijit._lastKeyDownNode&&!e.ctrlKey&&!e.shiftKey&&!e.altKey&&!e.metaKey){dijit._lastKeyDownNode=null;return m(e);}}));}_122="onclick";}_124.push(dc(obj,_122,this,_123));this._connects.push(_124);return _124;},disconnect:function(_125){for(var i=0;i<this._connects.length;i++){if(this._connects[i]==_125){dojo.forEach(_125,dojo.disconnect);this._connects.splice(i,1);return;}}},subscribe:function(_126,_127){var d=dojo,_128=d.subscribe(_126,this,_127);this._subscribes.push(_128);return _128;},unsubscribe:function(_129){for(var i=0;i<this._subscribes.length;i++){if(this._subscribes[i]==_129){dojo.unsubscribe(_129);this._subscribes.splice(i,1);return;}}},isLeftToRight:function(){return this.dir?(this.dir=="ltr"):dojo._isBodyLtr();},isFocusable:function(){return this.focus&&(dojo.style(this.domNode,"display")!="none");},placeAt:function(_12a,_12b){if(_12a.declaredClass&&_12a.addChild){_12a.addChild(this,_12b);}else{dojo.place(this.domNode,_12a,_12b);}return this;},_onShow:function(){this.onShow();},onShow:function(){},onHide:function(){},onClose:function(){return true;}});})();}if(!dojo._hasResource["dojox.gfx.matrix"]){dojo._hasResource["dojox.gfx.matrix"]=true;dojo.provide("dojox.gfx.matrix");(function(){var m=dojox.gfx.matrix;var _12c={};m._degToRad=function(_12d){return _12c[_12d]||(_12c[_12d]=(Math.PI*_12d/180));};m._radToDeg=function(_12e){return _12e/Math.PI*180;};m.Matrix2D=function(arg){if(arg){if(typeof arg=="number"){this.xx=this.yy=arg;}else{if(arg instanceof Array){if(arg.length>0){var _12f=m.normalize(arg[0]);for(var i=1;i<arg.length;++i){var l=_12f,r=dojox.gfx.matrix.normalize(arg[i]);_12f=new m.Matrix2D();_12f.xx=l.xx*r.xx+l.xy*r.yx;_12f.xy=l.xx*r.xy+l.xy*r.yy;_12f.yx=l.yx*r.xx+l.yy*r.yx;_12f.yy=l.yx*r.xy+l.yy*r.yy;_12f.dx=l.xx*r.dx+l.xy*r.dy+l.dx;_12f.dy=l.yx*r.dx+l.yy*r.dy+l.dy;}dojo.mixin(this,_12f);}}else{dojo.mixin(this,arg);}}}};dojo.extend(m.Matrix2D,{xx:1,xy:0,yx:0,yy:1,dx:0,dy:0});dojo.mixin(m,{identity:new m.Matrix2D(),flipX:new m.Matrix2D({xx:-1}),flipY:new m.Matrix2D({yy:-1}),flipXY:new m.Matrix2D({xx:-1,yy:-1}),translate:function(a,b){if(arguments.length>1){return new m.Matrix2D({dx:a,dy:b});}return new m.Matrix2D({dx:a.x,dy:a.y});},scale:function(a,b){if(arguments.length>1){return new m.Matrix2D({xx:a,yy:b});}if(typeof a=="number"){return new m.Matrix2D({xx:a,yy:a});}return new m.Matrix2D({xx:a.x,yy:a.y});},rotate:function(_130){var c=Math.cos(_130);var s=Math.sin(_130);return new m.Matrix2D({xx:c,xy:-s,yx:s,yy:c});},rotateg:function(_131){return m.rotate(m._degToRad(_131));},skewX:function(_132){return new m.Matrix2D({xy:Math.tan(_132)});},skewXg:function(_133){return m.skewX(m._degToRad(_133));},skewY:function(_134){return new m.Matrix2D({yx:Math.tan(_134)});},skewYg:function(_135){return m.skewY(m._degToRad(_135));},reflect:function(a,b){if(arguments.length==1){b=a.y;a=a.x;}var a2=a*a,b2=b*b,n2=a2+b2,xy=2*a*b/n2;return new m.Matrix2D({xx:2*a2/n2-1,xy:xy,yx:xy,yy:2*b2/n2-1});},project:function(a,b){if(arguments.length==1){b=a.y;a=a.x;}var a2=a*a,b2=b*b,n2=a2+b2,xy=a*b/n2;return new m.Matrix2D({xx:a2/n2,xy:xy,yx:xy,yy:b2/n2});},normalize:function(_136){return (_136 instanceof m.Matrix2D)?_136:new m.Matrix2D(_136);},clone:function(_137){var obj=new m.Matrix2D();for(var i in _137){if(typeof (_137[i])=="number"&&typeof (obj[i])=="number"&&obj[i]!=_137[i]){obj[i]=_137[i];}}return obj;},invert:function(_138){var M=m.normalize(_138),D=M.xx*M.yy-M.xy*M.yx,M=new m.Matrix2D({xx:M.yy/D,xy:-M.xy/D,yx:-M.yx/D,yy:M.xx/D,dx:(M.xy*M.dy-M.yy*M.dx)/D,dy:(M.yx*M.dx-M.xx*M.dy)/D});return M;},_multiplyPoint:function(_139,x,y){return {x:_139.xx*x+_139.xy*y+_139.dx,y:_139.yx*x+_139.yy*y+_139.dy};},multiplyPoint:function(_13a,a,b){var M=m.normalize(_13a);if(typeof a=="number"&&typeof b=="number"){return m._multiplyPoint(M,a,b);}return m._multiplyPoint(M,a.x,a.y);},multiply:function(_13b){var M=m.normalize(_13b);for(var i=1;i<arguments.length;++i){var l=M,r=m.normalize(arguments[i]);M=new m.Matrix2D();M.xx=l.xx*r.xx+l.xy*r.yx;M.xy=l.xx*r.xy+l.xy*r.yy;M.yx=l.yx*r.xx+l.yy*r.yx;M.yy=l.yx*r.xy+l.yy*r.yy;M.dx=l.xx*r.dx+l.xy*r.dy+l.dx;M.dy=l.yx*r.dx+l.yy*r.dy+l.dy;}return M;},_sandwich:function(_13c,x,y){return m.multiply(m.translate(x,y),_13c,m.translate(-x,-y));},scaleAt:function(a,b,c,d){switch(arguments.length){case 4:return m._sandwich(m.scale(a,b),c,d);case 3:if(typeof c=="number"){return m._sandwich(m.scale(a),b,c);}return m._sandwich(m.scale(a,b),c.x,c.y);}return m._sandwich(m.scale(a),b.x,b.y);},rotateAt:function(_13d,a,b){if(arguments.length>2){return m._sandwich(m.rotate(_13d),a,b);}return m._sandwich(m.rotate(_13d),a.x,a.y);},rotategAt:function(_13e,a,b){if(arguments.length>2){return m._sandwich(m.rotateg(_13e),a,b);}return m._sandwich(m.rotateg(_13e),a.x,a.y);},skewXAt:function(_13f,a,b){if(arguments.length>2){return m._sandwich(m.skewX(_13f),a,b);}return m._sandwich(m.skewX(_13f),a.x,a.y);},skewXgAt:function(_140,a,b){if(arguments.length>2){return m._sandwich(m.skewXg(_140),a,b);}return m._sandwich(m.skewXg(_140),a.x,a.y);},skewYAt:function(_141,a,b){if(arguments.length>2){return m._sandwich(m.skewY(_141),a,b);}return m._sandwich(m.skewY(_141),a.x,a.y);},skewYgAt:function(_142,a,b){if(arguments.length>2){return m._sandwich(m.skewYg(_142),a,b);}return m._sandwich(m.skewYg(_142),a.x,a.y);}});})();dojox.gfx.Matrix2D=dojox.gfx.matrix.Matrix2D;}if(!dojo._hasResource["dojox.gfx._base"]){dojo._hasResource["dojox.gfx._base"]=true;dojo.provide("dojox.gfx._base");(function(){var g=dojox.gfx,b=g._base;g._hasClass=function(node,_143){var cls=node.getAttribute("className");return cls&&(" "+cls+" ").indexOf(" "+_143+" ")>=0;};g._addClass=function(node,_144){var cls=node.getAttribute("className")||"";if(!cls||(" "+cls+" ").indexOf(" "+_144+" ")<0){node.setAttribute("className",cls+(cls?" ":"")+_144);}};g._removeClass=function(node,_145){var cls=node.getAttribute("className");if(cls){node.setAttribute("className",cls.replace(new RegExp("(^|\\s+)"+_145+"(\\s+|$)"),"$1$2"));}};b._getFontMeasurements=function(){var _146={"1em":0,"1ex":0,"100%":0,"12pt":0,"16px":0,"xx-small":0,"x-small":0,"small":0,"medium":0,"large":0,"x-large":0,"xx-large":0};if(dojo.isIE){dojo.doc.documentElement.style.fontSize="100%";}var div=dojo.doc.createElement("div");var s=div.style;s.position="absolute";s.left="-100px";s.top="0px";s.width="30px";s.height="1000em";s.borderWidth="0px";s.margin="0px";s.padding="0px";s.outline="none";s.lineHeight="1";s.overflow="hidden";dojo.body().appendChild(div);for(var p in _146){div.style.fontSize=p;_146[p]=Math.round(div.offsetHeight*12/16)*16/12/1000;}dojo.body().removeChild(div);div=null;return _146;};var _147=null;b._getCachedFontMeasurements=function(_148){if(_148||!_147){_147=b._getFontMeasurements();}return _147;};var _149=null,_14a={};b._getTextBox=function(text,_14b,_14c){var m,s,al=arguments.length;if(!_149){m=_149=dojo.doc.createElement("div");s=m.style;s.position="absolute";s.left="-10000px";s.top="0";dojo.body().appendChild(m);}else{m=_149;s=m.style;}m.className="";s.borderWidth="0";s.margin="0";s.padding="0";s.outline="0";if(al>1&&_14b){for(var i in _14b){if(i in _14a){continue;}s[i]=_14b[i];}}if(al>2&&_14c){m.className=_14c;}m.innerHTML=text;if(m["getBoundingClientRect"]){var bcr=m.getBoundingClientRect();return {l:bcr.left,t:bcr.top,w:bcr.width||(bcr.right-bcr.left),h:bcr.height||(bcr.bottom-bcr.top)};}else{return dojo.marginBox(m);}};var _14d=0;b._getUniqueId=function(){var id;do{id=dojo._scopeName+"Unique"+(++_14d);}while(dojo.byId(id));return id;};})();dojo.mixin(dojox.gfx,{defaultPath:{type:"path",path:""},defaultPolyline:{type:"polyline",points:[]},defaultRect:{type:"rect",x:0,y:0,width:100,height:100,r:0},defaultEllipse:{type:"ellipse",cx:0,cy:0,rx:200,ry:100},defaultCircle:{type:"circle",cx:0,cy:0,r:100},defaultLine:{type:"line",x1:0,y1:0,x2:100,y2:100},defaultImage:{type:"image",x:0,y:0,width:0,height:0,src:""},defaultText:{type:"text",x:0,y:0,text:"",align:"start",decoration:"none",rotated:false,kerning:true},defaultTextPath:{type:"textpath",text:"",align:"start",decoration:"none",rotated:false,kerning:true},defaultStroke:{type:"stroke",color:"black",style:"solid",width:1,cap:"butt",join:4},defaultLinearGradient:{type:"linear",x1:0,y1:0,x2:100,y2:100,colors:[{offset:0,color:"black"},{offset:1,color:"white"}]},defaultRadialGradient:{type:"radial",cx:0,cy:0,r:100,colors:[{offset:0,color:"black"},{offset:1,color:"white"}]},defaultPattern:{type:"pattern",x:0,y:0,width:0,height:0,src:""},defaultFont:{type:"font",style:"normal",variant:"normal",weight:"normal",size:"10pt",family:"serif"},getDefault:(function(){var _14e={};return function(type){var t=_14e[type];if(t){return new t();}t=_14e[type]=new Function;t.prototype=dojox.gfx["default"+type];return new t();};})(),normalizeColor:function(_14f){return (_14f instanceof dojo.Color)?_14f:new dojo.Color(_14f);},normalizeParameters:function(_150,_151){if(_151){var _152={};for(var x in _150){if(x in _151&&!(x in _152)){_150[x]=_151[x];}}}return _150;},makeParameters:function(_153,_154){if(!_154){return dojo.delegate(_153);}var _155={};for(var i in _153){if(!(i in _155)){_155[i]=dojo.clone((i in _154)?_154[i]:_153[i]);}}return _155;},formatNumber:function(x,_156){var val=x.toString();if(val.indexOf("e")>=0){val=x.toFixed(4);}else{var _157=val.indexOf(".");if(_157>=0&&val.length-_157>5){val=x.toFixed(4);}}if(x<0){return val;}return _156?" "+val:val;},makeFontString:function(font){return font.style+" "+font.variant+" "+font.weight+" "+font.size+" "+font.family;},splitFontString:function(str){var font=dojox.gfx.getDefault("Font");var t=str.split(/\s+/);do{if(t.length<5){break;}font.style=t[0];font.variant=t[1];font.weight=t[2];var i=t[3].indexOf("/");font.size=i<0?t[3]:t[3].substring(0,i);var j=4;if(i<0){if(t[4]=="/"){j=6;}else{if(t[4].charAt(0)=="/"){j=5;}}}if(j<t.length){font.family=t.slice(j).join(" ");}}while(false);return font;},cm_in_pt:72/2.54,mm_in_pt:7.2/2.54,px_in_pt:function(){return dojox.gfx._base._getCachedFontMeasurements()["12pt"]/12;},pt2px:function(len){return len*dojox.gfx.px_in_pt();},px2pt:function(len){return len/dojox.gfx.px_in_pt();},normalizedLength:function(len){if(len.length==0){return 0;}if(len.length>2){var _158=dojox.gfx.px_in_pt();var val=parseFloat(len);switch(len.slice(-2)){case "px":return val;case "pt":return val*_158;case "in":return val*72*_158;case "pc":return val*12*_158;case "mm":return val*dojox.gfx.mm_in_pt*_158;case "cm":return val*dojox.gfx.cm_in_pt*_158;}}return parseFloat(len);},pathVmlRegExp:/([A-Za-z]+)|(\d+(\.\d+)?)|(\.\d+)|(-\d+(\.\d+)?)|(-\.\d+)/g,pathSvgRegExp:/([A-Za-z])|(\d+(\.\d+)?)|(\.\d+)|(-\d+(\.\d+)?)|(-\.\d+)/g,equalSources:function(a,b){return a&&b&&a==b;}});}if(!dojo._hasResource["dojox.gfx"]){dojo._hasResource["dojox.gfx"]=true;dojo.provide("dojox.gfx");dojo.loadInit(function(){var gfx=dojo.getObject("dojox.gfx",true),sl,flag,_159;if(!gfx.renderer){if(dojo.config.forceGfxRenderer){dojox.gfx.renderer=dojo.config.forceGfxRenderer;return;}var _15a=(typeof dojo.config.gfxRenderer=="string"?dojo.config.gfxRenderer:"svg,vml,silverlight,canvas").split(",");var ua=navigator.userAgent,_15b=0,_15c=0;if(dojo.isSafari>=3){if(ua.indexOf("iPhone")>=0||ua.indexOf("iPod")>=0){_159=ua.match(/Version\/(\d(\.\d)?(\.\d)?)\sMobile\/([^\s]*)\s?/);if(_159){_15b=parseInt(_159[4].substr(0,3),16);}}}if(dojo.isWebKit){if(!_15b){_159=ua.match(/Android\s+(\d+\.\d+)/);if(_159){_15c=parseFloat(_159[1]);}}}for(var i=0;i<_15a.length;++i){switch(_15a[i]){case "svg":if(!dojo.isIE&&(!_15b||_15b>=1521)&&!_15c&&!dojo.isAIR){dojox.gfx.renderer="svg";}break;case "vml":if(dojo.isIE){dojox.gfx.renderer="vml";}break;case "silverlight":try{if(dojo.isIE){sl=new ActiveXObject("AgControl.AgControl");if(sl&&sl.IsVersionSupported("1.0")){flag=true;}}else{if(navigator.plugins["Silverlight Plug-In"]){flag=true;}}}catch(e){flag=false;}finally{sl=null;}if(flag){dojox.gfx.renderer="silverlight";}break;case "canvas":if(!dojo.isIE){dojox.gfx.renderer="canvas";}break;}if(dojox.gfx.renderer){break;}}if(dojo.config.isDebug){}}});dojo.requireIf(dojox.gfx.renderer=="svg","dojox.gfx.svg");dojo.requireIf(dojox.gfx.renderer=="vml","dojox.gfx.vml");dojo.requireIf(dojox.gfx.renderer=="silverlight","dojox.gfx.silverlight");dojo.requireIf(dojox.gfx.renderer=="canvas","dojox.gfx.canvas");}if(!dojo._hasResource["dojox.lang.functional.lambda"]){dojo._hasResource["dojox.lang.functional.lambda"]=true;dojo.provide("dojox.lang.functional.lambda");(function(){var df=dojox.lang.functional,_15d={};var _15e="ab".split(/a*/).length>1?String.prototype.split:function(sep){var r=this.split.call(this,sep),m=sep.exec(this);if(m&&m.index==0){r.unshift("");}return r;};var _15f=function(s){var args=[],_160=_15e.call(s,/\s*->\s*/m);if(_160.length>1){while(_160.length){s=_160.pop();args=_160.pop().split(/\s*,\s*|\s+/m);if(_160.length){_160.push("(function("+args+"){return ("+s+")})");}}}else{if(s.match(/\b_\b/)){args=["_"];}else{var l=s.match(/^\s*(?:[+*\/%&|\^\.=<>]|!=)/m),r=s.match(/[+\-*\/%&|\^\.=<>!]\s*$/m);if(l||r){if(l){args.push("$1");s="$1"+s;}if(r){args.push("$2");s=s+"$2";}}else{var vars=s.replace(/(?:\b[A-Z]|\.[a-zA-Z_$])[a-zA-Z_$\d]*|[a-zA-Z_$][a-zA-Z_$\d]*:|this|true|false|null|undefined|typeof|instanceof|in|delete|new|void|arguments|decodeURI|decodeURIComponent|encodeURI|encodeURIComponent|escape|eval|isFinite|isNaN|parseFloat|parseInt|unescape|dojo|dijit|dojox|window|document|'(?:[^'\\]|\\.)*'|"(?:[^"\\]|\\.)*"/g,"").match(/([a-z_$][a-z_$\d]*)/gi)||[],t={};dojo.forEach(vars,function(v){if(!(v in t)){args.push(v);t[v]=1;}});}}}return {args:args,body:s};};var _161=function(a){return a.length?function(){var i=a.length-1,x=df.lambda(a[i]).apply(this,arguments);for(--i;i>=0;--i){x=df.lambda(a[i]).call(this,x);}return x;}:function(x){return x;};};dojo.mixin(df,{rawLambda:function(s){return _15f(s);},buildLambda:function(s){s=_15f(s);return "function("+s.args.join(",")+"){return ("+s.body+");}";},lambda:function(s){if(typeof s=="function"){return s;}if(s instanceof Array){return _161(s);}if(s in _15d){return _15d[s];}s=_15f(s);return _15d[s]=new Function(s.args,"return ("+s.body+");");},clearLambdaCache:function(){_15d={};}});})();}if(!dojo._hasResource["dojox.lang.functional.array"]){dojo._hasResource["dojox.lang.functional.array"]=true;dojo.provide("dojox.lang.functional.array");(function(){var d=dojo,df=dojox.lang.functional,_162={};d.mixin(df,{filter:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var t=[],v,i,n;if(d.isArray(a)){for(i=0,n=a.length;i<n;++i){v=a[i];if(f.call(o,v,i,a)){t.push(v);}}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){for(i=0;a.hasNext();){v=a.next();if(f.call(o,v,i++,a)){t.push(v);}}}else{for(i in a){if(!(i in _162)){v=a[i];if(f.call(o,v,i,a)){t.push(v);}}}}}return t;},forEach:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var i,n;if(d.isArray(a)){for(i=0,n=a.length;i<n;f.call(o,a[i],i,a),++i){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){for(i=0;a.hasNext();f.call(o,a.next(),i++,a)){}}else{for(i in a){if(!(i in _162)){f.call(o,a[i],i,a);}}}}return o;},map:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var t,n,i;if(d.isArray(a)){t=new Array(n=a.length);for(i=0;i<n;t[i]=f.call(o,a[i],i,a),++i){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){t=[];for(i=0;a.hasNext();t.push(f.call(o,a.next(),i++,a))){}}else{t=[];for(i in a){if(!(i in _162)){t.push(f.call(o,a[i],i,a));}}}}return t;},every:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var i,n;if(d.isArray(a)){for(i=0,n=a.length;i<n;++i){if(!f.call(o,a[i],i,a)){return false;}}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){for(i=0;a.hasNext();){if(!f.call(o,a.next(),i++,a)){return false;}}}else{for(i in a){if(!(i in _162)){if(!f.call(o,a[i],i,a)){return false;}}}}}return true;},some:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var i,n;if(d.isArray(a)){for(i=0,n=a.length;i<n;++i){if(f.call(o,a[i],i,a)){return true;}}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){for(i=0;a.hasNext();){if(f.call(o,a.next(),i++,a)){return true;}}}else{for(i in a){if(!(i in _162)){if(f.call(o,a[i],i,a)){return true;}}}}}return false;}});})();}if(!dojo._hasResource["dojox.lang.functional.object"]){dojo._hasResource["dojox.lang.functional.object"]=true;dojo.provide("dojox.lang.functional.object");(function(){var d=dojo,df=dojox.lang.functional,_163={};d.mixin(df,{keys:function(obj){var t=[];for(var i in obj){if(!(i in _163)){t.push(i);}}return t;},values:function(obj){var t=[];for(var i in obj){if(!(i in _163)){t.push(obj[i]);}}return t;},filterIn:function(obj,f,o){o=o||d.global;f=df.lambda(f);var t={},v,i;for(i in obj){if(!(i in _163)){v=obj[i];if(f.call(o,v,i,obj)){t[i]=v;}}}return t;},forIn:function(obj,f,o){o=o||d.global;f=df.lambda(f);for(var i in obj){if(!(i in _163)){f.call(o,obj[i],i,obj);}}return o;},mapIn:function(obj,f,o){o=o||d.global;f=df.lambda(f);var t={},i;for(i in obj){if(!(i in _163)){t[i]=f.call(o,obj[i],i,obj);}}return t;}});})();}if(!dojo._hasResource["dojox.lang.functional"]){dojo._hasResource["dojox.lang.functional"]=true;dojo.provide("dojox.lang.functional");}if(!dojo._hasResource["dojox.lang.functional.fold"]){dojo._hasResource["dojox.lang.functional.fold"]=true;dojo.provide("dojox.lang.functional.fold");(function(){var d=dojo,df=dojox.lang.functional,_164={};d.mixin(df,{foldl:function(a,f,z,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var i,n;if(d.isArray(a)){for(i=0,n=a.length;i<n;z=f.call(o,z,a[i],i,a),++i){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){for(i=0;a.hasNext();z=f.call(o,z,a.next(),i++,a)){}}else{for(i in a){if(!(i in _164)){z=f.call(o,z,a[i],i,a);}}}}return z;},foldl1:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var z,i,n;if(d.isArray(a)){z=a[0];for(i=1,n=a.length;i<n;z=f.call(o,z,a[i],i,a),++i){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){if(a.hasNext()){z=a.next();for(i=1;a.hasNext();z=f.call(o,z,a.next(),i++,a)){}}}else{var _165=true;for(i in a){if(!(i in _164)){if(_165){z=a[i];_165=false;}else{z=f.call(o,z,a[i],i,a);}}}}}return z;},foldr:function(a,f,z,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);for(var i=a.length;i>0;--i,z=f.call(o,z,a[i],i,a)){}return z;},foldr1:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var n=a.length,z=a[n-1],i=n-1;for(;i>0;--i,z=f.call(o,z,a[i],i,a)){}return z;},reduce:function(a,f,z){return arguments.length<3?df.foldl1(a,f):df.foldl(a,f,z);},reduceRight:function(a,f,z){return arguments.length<3?df.foldr1(a,f):df.foldr(a,f,z);},unfold:function(pr,f,g,z,o){o=o||d.global;f=df.lambda(f);g=df.lambda(g);pr=df.lambda(pr);var t=[];for(;!pr.call(o,z);t.push(f.call(o,z)),z=g.call(o,z)){}return t;}});})();}if(!dojo._hasResource["dojox.lang.functional.reversed"]){dojo._hasResource["dojox.lang.functional.reversed"]=true;dojo.provide("dojox.lang.functional.reversed");(function(){var d=dojo,df=dojox.lang.functional;d.mixin(df,{filterRev:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var t=[],v,i=a.length-1;for(;i>=0;--i){v=a[i];if(f.call(o,v,i,a)){t.push(v);}}return t;},forEachRev:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);for(var i=a.length-1;i>=0;f.call(o,a[i],i,a),--i){}},mapRev:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var n=a.length,t=new Array(n),i=n-1,j=0;for(;i>=0;t[j++]=f.call(o,a[i],i,a),--i){}return t;},everyRev:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);for(var i=a.length-1;i>=0;--i){if(!f.call(o,a[i],i,a)){return false;}}return true;},someRev:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);for(var i=a.length-1;i>=0;--i){if(f.call(o,a[i],i,a)){return true;}}return false;}});})();}if(!dojo._hasResource["dojo.colors"]){dojo._hasResource["dojo.colors"]=true;dojo.provide("dojo.colors");(function(){var _166=function(m1,m2,h){if(h<0){++h;}if(h>1){--h;}var h6=6*h;if(h6<1){return m1+(m2-m1)*h6;}if(2*h<1){return m2;}if(3*h<2){return m1+(m2-m1)*(2/3-h)*6;}return m1;};dojo.colorFromRgb=function(_167,obj){var m=_167.toLowerCase().match(/^(rgba?|hsla?)\(([\s\.\-,%0-9]+)\)/);if(m){var c=m[2].split(/\s*,\s*/),l=c.length,t=m[1],a;if((t=="rgb"&&l==3)||(t=="rgba"&&l==4)){var r=c[0];if(r.charAt(r.length-1)=="%"){a=dojo.map(c,function(x){return parseFloat(x)*2.56;});if(l==4){a[3]=c[3];}return dojo.colorFromArray(a,obj);}return dojo.colorFromArray(c,obj);}if((t=="hsl"&&l==3)||(t=="hsla"&&l==4)){var H=((parseFloat(c[0])%360)+360)%360/360,S=parseFloat(c[1])/100,L=parseFloat(c[2])/100,m2=L<=0.5?L*(S+1):L+S-L*S,m1=2*L-m2;a=[_166(m1,m2,H+1/3)*256,_166(m1,m2,H)*256,_166(m1,m2,H-1/3)*256,1];if(l==4){a[3]=c[3];}return dojo.colorFromArray(a,obj);}}return null;};var _168=function(c,low,high){c=Number(c);return isNaN(c)?high:c<low?low:c>high?high:c;};dojo.Color.prototype.sanitize=function(){var t=this;t.r=Math.round(_168(t.r,0,255));t.g=Math.round(_168(t.g,0,255));t.b=Math.round(_168(t.b,0,255));t.a=_168(t.a,0,1);return this;};})();dojo.colors.makeGrey=function(g,a){return dojo.colorFromArray([g,g,g,a]);};dojo.mixin(dojo.Color.named,{aliceblue:[240,248,255],antiquewhite:[250,235,215],aquamarine:[127,255,212],azure:[240,255,255],beige:[245,245,220],bisque:[255,228,196],blanchedalmond:[255,235,205],blueviolet:[138,43,226],brown:[165,42,42],burlywood:[222,184,135],cadetblue:[95,158,160],chartreuse:[127,255,0],chocolate:[210,105,30],coral:[255,127,80],cornflowerblue:[100,149,237],cornsilk:[255,248,220],crimson:[220,20,60],cyan:[0,255,255],darkblue:[0,0,139],darkcyan:[0,139,139],darkgoldenrod:[184,134,11],darkgray:[169,169,169],darkgreen:[0,100,0],darkgrey:[169,169,169],darkkhaki:[189,183,107],darkmagenta:[139,0,139],darkolivegreen:[85,107,47],darkorange:[255,140,0],darkorchid:[153,50,204],darkred:[139,0,0],darksalmon:[233,150,122],darkseagreen:[143,188,143],darkslateblue:[72,61,139],darkslategray:[47,79,79],darkslategrey:[47,79,79],darkturquoise:[0,206,209],darkviolet:[148,0,211],deeppink:[255,20,147],deepskyblue:[0,191,255],dimgray:[105,105,105],dimgrey:[105,105,105],dodgerblue:[30,144,255],firebrick:[178,34,34],floralwhite:[255,250,240],forestgreen:[34,139,34],gainsboro:[220,220,220],ghostwhite:[248,248,255],gold:[255,215,0],goldenrod:[218,165,32],greenyellow:[173,255,47],grey:[128,128,128],honeydew:[240,255,240],hotpink:[255,105,180],indianred:[205,92,92],indigo:[75,0,130],ivory:[255,255,240],khaki:[240,230,140],lavender:[230,230,250],lavenderblush:[255,240,245],lawngreen:[124,252,0],lemonchiffon:[255,250,205],lightblue:[173,216,230],lightcoral:[240,128,128],lightcyan:[224,255,255],lightgoldenrodyellow:[250,250,210],lightgray:[211,211,211],lightgreen:[144,238,144],lightgrey:[211,211,211],lightpink:[255,182,193],lightsalmon:[255,160,122],lightseagreen:[32,178,170],lightskyblue:[135,206,250],lightslategray:[119,136,153],lightslategrey:[119,136,153],lightsteelblue:[176,196,222],lightyellow:[255,255,224],limegreen:[50,205,50],linen:[250,240,230],magenta:[255,0,255],mediumaquamarine:[102,205,170],mediumblue:[0,0,205],mediumorchid:[186,85,211],mediumpurple:[147,112,219],mediumseagreen:[60,179,113],mediumslateblue:[123,104,238],mediumspringgreen:[0,250,154],mediumturquoise:[72,209,204],mediumvioletred:[199,21,133],midnightblue:[25,25,112],mintcream:[245,255,250],mistyrose:[255,228,225],moccasin:[255,228,181],navajowhite:[255,222,173],oldlace:[253,245,230],olivedrab:[107,142,35],orange:[255,165,0],orangered:[255,69,0],orchid:[218,112,214],palegoldenrod:[238,232,170],palegreen:[152,251,152],paleturquoise:[175,238,238],palevioletred:[219,112,147],papayawhip:[255,239,213],peachpuff:[255,218,185],peru:[205,133,63],pink:[255,192,203],plum:[221,160,221],powderblue:[176,224,230],rosybrown:[188,143,143],royalblue:[65,105,225],saddlebrown:[139,69,19],salmon:[250,128,114],sandybrown:[244,164,96],seagreen:[46,139,87],seashell:[255,245,238],sienna:[160,82,45],skyblue:[135,206,235],slateblue:[106,90,205],slategray:[112,128,144],slategrey:[112,128,144],snow:[255,250,250],springgreen:[0,255,127],steelblue:[70,130,180],tan:[210,180,140],thistle:[216,191,216],tomato:[255,99,71],transparent:[0,0,0,0],turquoise:[64,224,208],violet:[238,130,238],wheat:[245,222,179],whitesmoke:[245,245,245],yellowgreen:[154,205,50]});}if(!dojo._hasResource["dojox.color._base"]){dojo._hasResource["dojox.color._base"]=true;dojo.provide("dojox.color._base");dojox.color.Color=dojo.Color;dojox.color.blend=dojo.blendColors;dojox.color.fromRgb=dojo.colorFromRgb;dojox.color.fromHex=dojo.colorFromHex;dojox.color.fromArray=dojo.colorFromArray;dojox.color.fromString=dojo.colorFromString;dojox.color.greyscale=dojo.colors.makeGrey;dojo.mixin(dojox.color,{fromCmy:function(cyan,_169,_16a){if(dojo.isArray(cyan)){_169=cyan[1],_16a=cyan[2],cyan=cyan[0];}else{if(dojo.isObject(cyan)){_169=cyan.m,_16a=cyan.y,cyan=cyan.c;}}cyan/=100,_169/=100,_16a/=100;var r=1-cyan,g=1-_169,b=1-_16a;return new dojox.color.Color({r:Math.round(r*255),g:Math.round(g*255),b:Math.round(b*255)});},fromCmyk:function(cyan,_16b,_16c,_16d){if(dojo.isArray(cyan)){_16b=cyan[1],_16c=cyan[2],_16d=cyan[3],cyan=cyan[0];}else{if(dojo.isObject(cyan)){_16b=cyan.m,_16c=cyan.y,_16d=cyan.b,cyan=cyan.c;}}cyan/=100,_16b/=100,_16c/=100,_16d/=100;var r,g,b;r=1-Math.min(1,cyan*(1-_16d)+_16d);g=1-Math.min(1,_16b*(1-_16d)+_16d);b=1-Math.min(1,_16c*(1-_16d)+_16d);return new dojox.color.Color({r:Math.round(r*255),g:Math.round(g*255),b:Math.round(b*255)});},fromHsl:function(hue,_16e,_16f){if(dojo.isArray(hue)){_16e=hue[1],_16f=hue[2],hue=hue[0];}else{if(dojo.isObject(hue)){_16e=hue.s,_16f=hue.l,hue=hue.h;}}_16e/=100;_16f/=100;while(hue<0){hue+=360;}while(hue>=360){hue-=360;}var r,g,b;if(hue<120){r=(120-hue)/60,g=hue/60,b=0;}else{if(hue<240){r=0,g=(240-hue)/60,b=(hue-120)/60;}else{r=(hue-240)/60,g=0,b=(360-hue)/60;}}r=2*_16e*Math.min(r,1)+(1-_16e);g=2*_16e*Math.min(g,1)+(1-_16e);b=2*_16e*Math.min(b,1)+(1-_16e);if(_16f<0.5){r*=_16f,g*=_16f,b*=_16f;}else{r=(1-_16f)*r+2*_16f-1;g=(1-_16f)*g+2*_16f-1;b=(1-_16f)*b+2*_16f-1;}return new dojox.color.Color({r:Math.round(r*255),g:Math.round(g*255),b:Math.round(b*255)});},fromHsv:function(hue,_170,_171){if(dojo.isArray(hue)){_170=hue[1],_171=hue[2],hue=hue[0];}else{if(dojo.isObject(hue)){_170=hue.s,_171=hue.v,hue=hue.h;}}if(hue==360){hue=0;}_170/=100;_171/=100;var r,g,b;if(_170==0){r=_171,b=_171,g=_171;}else{var _172=hue/60,i=Math.floor(_172),f=_172-i;var p=_171*(1-_170);var q=_171*(1-(_170*f));var t=_171*(1-(_170*(1-f)));switch(i){case 0:r=_171,g=t,b=p;break;case 1:r=q,g=_171,b=p;break;case 2:r=p,g=_171,b=t;break;case 3:r=p,g=q,b=_171;break;case 4:r=t,g=p,b=_171;break;case 5:r=_171,g=p,b=q;break;}}return new dojox.color.Color({r:Math.round(r*255),g:Math.round(g*255),b:Math.round(b*255)});}});dojo.extend(dojox.color.Color,{toCmy:function(){var cyan=1-(this.r/255),_173=1-(this.g/255),_174=1-(this.b/255);return {c:Math.round(cyan*100),m:Math.round(_173*100),y:Math.round(_174*100)};},toCmyk:function(){var cyan,_175,_176,_177;var r=this.r/255,g=this.g/255,b=this.b/255;_177=Math.min(1-r,1-g,1-b);cyan=(1-r-_177)/(1-_177);_175=(1-g-_177)/(1-_177);_176=(1-b-_177)/(1-_177);return {c:Math.round(cyan*100),m:Math.round(_175*100),y:Math.round(_176*100),b:Math.round(_177*100)};},toHsl:function(){var r=this.r/255,g=this.g/255,b=this.b/255;var min=Math.min(r,b,g),max=Math.max(r,g,b);var _178=max-min;var h=0,s=0,l=(min+max)/2;if(l>0&&l<1){s=_178/((l<0.5)?(2*l):(2-2*l));}if(_178>0){if(max==r&&max!=g){h+=(g-b)/_178;}if(max==g&&max!=b){h+=(2+(b-r)/_178);}if(max==b&&max!=r){h+=(4+(r-g)/_178);}h*=60;}return {h:h,s:Math.round(s*100),l:Math.round(l*100)};},toHsv:function(){var r=this.r/255,g=this.g/255,b=this.b/255;var min=Math.min(r,b,g),max=Math.max(r,g,b);var _179=max-min;var h=null,s=(max==0)?0:(_179/max);if(s==0){h=0;}else{if(r==max){h=60*(g-b)/_179;}else{if(g==max){h=120+60*(b-r)/_179;}else{h=240+60*(r-g)/_179;}}if(h<0){h+=360;}}return {h:h,s:Math.round(s*100),v:Math.round(max*100)};}});}if(!dojo._hasResource["dojox.color"]){dojo._hasResource["dojox.color"]=true;dojo.provide("dojox.color");}if(!dojo._hasResource["dojox.color.Palette"]){dojo._hasResource["dojox.color.Palette"]=true;dojo.provide("dojox.color.Palette");(function(){var dxc=dojox.color;dxc.Palette=function(base){this.colors=[];if(base instanceof dojox.color.Palette){this.colors=base.colors.slice(0);}else{if(base instanceof dojox.color.Color){this.colors=[null,null,base,null,null];}else{if(dojo.isArray(base)){this.colors=dojo.map(base.slice(0),function(item){if(dojo.isString(item)){return new dojox.color.Color(item);}return item;});}else{if(dojo.isString(base)){this.colors=[null,null,new dojox.color.Color(base),null,null];}}}}};function _17a(p,_17b,val){var ret=new dojox.color.Palette();ret.colors=[];dojo.forEach(p.colors,function(item){var r=(_17b=="dr")?item.r+val:item.r,g=(_17b=="dg")?item.g+val:item.g,b=(_17b=="db")?item.b+val:item.b,a=(_17b=="da")?item.a+val:item.a;ret.colors.push(new dojox.color.Color({r:Math.min(255,Math.max(0,r)),g:Math.min(255,Math.max(0,g)),b:Math.min(255,Math.max(0,b)),a:Math.min(1,Math.max(0,a))}));});return ret;};function tCMY(p,_17c,val){var ret=new dojox.color.Palette();ret.colors=[];dojo.forEach(p.colors,function(item){var o=item.toCmy(),c=(_17c=="dc")?o.c+val:o.c,m=(_17c=="dm")?o.m+val:o.m,y=(_17c=="dy")?o.y+val:o.y;ret.colors.push(dojox.color.fromCmy(Math.min(100,Math.max(0,c)),Math.min(100,Math.max(0,m)),Math.min(100,Math.max(0,y))));});return ret;};function _17d(p,_17e,val){var ret=new dojox.color.Palette();ret.colors=[];dojo.forEach(p.colors,function(item){var o=item.toCmyk(),c=(_17e=="dc")?o.c+val:o.c,m=(_17e=="dm")?o.m+val:o.m,y=(_17e=="dy")?o.y+val:o.y,k=(_17e=="dk")?o.b+val:o.b;ret.colors.push(dojox.color.fromCmyk(Math.min(100,Math.max(0,c)),Math.min(100,Math.max(0,m)),Math.min(100,Math.max(0,y)),Math.min(100,Math.max(0,k))));});return ret;};function tHSL(p,_17f,val){var ret=new dojox.color.Palette();ret.colors=[];dojo.forEach(p.colors,function(item){var o=item.toHsl(),h=(_17f=="dh")?o.h+val:o.h,s=(_17f=="ds")?o.s+val:o.s,l=(_17f=="dl")?o.l+val:o.l;ret.colors.push(dojox.color.fromHsl(h%360,Math.min(100,Math.max(0,s)),Math.min(100,Math.max(0,l))));});return ret;};function tHSV(p,_180,val){var ret=new dojox.color.Palette();ret.colors=[];dojo.forEach(p.colors,function(item){var o=item.toHsv(),h=(_180=="dh")?o.h+val:o.h,s=(_180=="ds")?o.s+val:o.s,v=(_180=="dv")?o.v+val:o.v;ret.colors.push(dojox.color.fromHsv(h%360,Math.min(100,Math.max(0,s)),Math.min(100,Math.max(0,v))));});return ret;};function _181(val,low,high){return high-((high-val)*((high-low)/high));};dojo.extend(dxc.Palette,{transform:function(_182){var fn=_17a;if(_182.use){var use=_182.use.toLowerCase();if(use.indexOf("hs")==0){if(use.charAt(2)=="l"){fn=tHSL;}else{fn=tHSV;}}else{if(use.indexOf("cmy")==0){if(use.charAt(3)=="k"){fn=_17d;}else{fn=tCMY;}}}}else{if("dc" in _182||"dm" in _182||"dy" in _182){if("dk" in _182){fn=_17d;}else{fn=tCMY;}}else{if("dh" in _182||"ds" in _182){if("dv" in _182){fn=tHSV;}else{fn=tHSL;}}}}var _183=this;for(var p in _182){if(p=="use"){continue;}_183=fn(_183,p,_182[p]);}return _183;},clone:function(){return new dxc.Palette(this);}});dojo.mixin(dxc.Palette,{generators:{analogous:function(args){var high=args.high||60,low=args.low||18,base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var h=[(hsv.h+low+360)%360,(hsv.h+Math.round(low/2)+360)%360,hsv.h,(hsv.h-Math.round(high/2)+360)%360,(hsv.h-high+360)%360];var s1=Math.max(10,(hsv.s<=95)?hsv.s+5:(100-(hsv.s-95))),s2=(hsv.s>1)?hsv.s-1:21-hsv.s,v1=(hsv.v>=92)?hsv.v-9:Math.max(hsv.v+9,20),v2=(hsv.v<=90)?Math.max(hsv.v+5,20):(95+Math.ceil((hsv.v-90)/2)),s=[s1,s2,hsv.s,s1,s1],v=[v1,v2,hsv.v,v1,v2];return new dxc.Palette(dojo.map(h,function(hue,i){return dojox.color.fromHsv(hue,s[i],v[i]);}));},monochromatic:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var s1=(hsv.s-30>9)?hsv.s-30:hsv.s+30,s2=hsv.s,v1=_181(hsv.v,20,100),v2=(hsv.v-20>20)?hsv.v-20:hsv.v+60,v3=(hsv.v-50>20)?hsv.v-50:hsv.v+30;return new dxc.Palette([dojox.color.fromHsv(hsv.h,s1,v1),dojox.color.fromHsv(hsv.h,s2,v3),base,dojox.color.fromHsv(hsv.h,s1,v3),dojox.color.fromHsv(hsv.h,s2,v2)]);},triadic:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var h1=(hsv.h+57+360)%360,h2=(hsv.h-157+360)%360,s1=(hsv.s>20)?hsv.s-10:hsv.s+10,s2=(hsv.s>90)?hsv.s-10:hsv.s+10,s3=(hsv.s>95)?hsv.s-5:hsv.s+5,v1=(hsv.v-20>20)?hsv.v-20:hsv.v+20,v2=(hsv.v-30>20)?hsv.v-30:hsv.v+30,v3=(hsv.v-30>70)?hsv.v-30:hsv.v+30;return new dxc.Palette([dojox.color.fromHsv(h1,s1,hsv.v),dojox.color.fromHsv(hsv.h,s2,v2),base,dojox.color.fromHsv(h2,s2,v1),dojox.color.fromHsv(h2,s3,v3)]);},complementary:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var h1=((hsv.h*2)+137<360)?(hsv.h*2)+137:Math.floor(hsv.h/2)-137,s1=Math.max(hsv.s-10,0),s2=_181(hsv.s,10,100),s3=Math.min(100,hsv.s+20),v1=Math.min(100,hsv.v+30),v2=(hsv.v>20)?hsv.v-30:hsv.v+30;return new dxc.Palette([dojox.color.fromHsv(hsv.h,s1,v1),dojox.color.fromHsv(hsv.h,s2,v2),base,dojox.color.fromHsv(h1,s3,v2),dojox.color.fromHsv(h1,hsv.s,hsv.v)]);},splitComplementary:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,_184=args.da||30,hsv=base.toHsv();var _185=((hsv.h*2)+137<360)?(hsv.h*2)+137:Math.floor(hsv.h/2)-137,h1=(_185-_184+360)%360,h2=(_185+_184)%360,s1=Math.max(hsv.s-10,0),s2=_181(hsv.s,10,100),s3=Math.min(100,hsv.s+20),v1=Math.min(100,hsv.v+30),v2=(hsv.v>20)?hsv.v-30:hsv.v+30;return new dxc.Palette([dojox.color.fromHsv(h1,s1,v1),dojox.color.fromHsv(h1,s2,v2),base,dojox.color.fromHsv(h2,s3,v2),dojox.color.fromHsv(h2,hsv.s,hsv.v)]);},compound:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var h1=((hsv.h*2)+18<360)?(hsv.h*2)+18:Math.floor(hsv.h/2)-18,h2=((hsv.h*2)+120<360)?(hsv.h*2)+120:Math.floor(hsv.h/2)-120,h3=((hsv.h*2)+99<360)?(hsv.h*2)+99:Math.floor(hsv.h/2)-99,s1=(hsv.s-40>10)?hsv.s-40:hsv.s+40,s2=(hsv.s-10>80)?hsv.s-10:hsv.s+10,s3=(hsv.s-25>10)?hsv.s-25:hsv.s+25,v1=(hsv.v-40>10)?hsv.v-40:hsv.v+40,v2=(hsv.v-20>80)?hsv.v-20:hsv.v+20,v3=Math.max(hsv.v,20);return new dxc.Palette([dojox.color.fromHsv(h1,s1,v1),dojox.color.fromHsv(h1,s2,v2),base,dojox.color.fromHsv(h2,s3,v3),dojox.color.fromHsv(h3,s2,v2)]);},shades:function(args){var base=dojo.isString(args.base)?new dojox.color.Color(args.base):args.base,hsv=base.toHsv();var s=(hsv.s==100&&hsv.v==0)?0:hsv.s,v1=(hsv.v-50>20)?hsv.v-50:hsv.v+30,v2=(hsv.v-25>=20)?hsv.v-25:hsv.v+55,v3=(hsv.v-75>=20)?hsv.v-75:hsv.v+5,v4=Math.max(hsv.v-10,20);return new dxc.Palette([new dojox.color.fromHsv(hsv.h,s,v1),new dojox.color.fromHsv(hsv.h,s,v2),base,new dojox.color.fromHsv(hsv.h,s,v3),new dojox.color.fromHsv(hsv.h,s,v4)]);}},generate:function(base,type){if(dojo.isFunction(type)){return type({base:base});}else{if(dxc.Palette.generators[type]){return dxc.Palette.generators[type]({base:base});}}throw new Error("dojox.color.Palette.generate: the specified generator ('"+type+"') does not exist.");}});})();}if(!dojo._hasResource["dojox.lang.utils"]){dojo._hasResource["dojox.lang.utils"]=true;dojo.provide("dojox.lang.utils");(function(){var _186={},du=dojox.lang.utils,opts=Object.prototype.toString;var _187=function(o){if(o){switch(opts.call(o)){case "[object Array]":return o.slice(0);case "[object Object]":return dojo.delegate(o);}}return o;};dojo.mixin(du,{coerceType:function(_188,_189){switch(typeof _188){case "number":return Number(eval("("+_189+")"));case "string":return String(_189);case "boolean":return Boolean(eval("("+_189+")"));}return eval("("+_189+")");},updateWithObject:function(_18a,_18b,conv){if(!_18b){return _18a;}for(var x in _18a){if(x in _18b&&!(x in _186)){var t=_18a[x];if(t&&typeof t=="object"){du.updateWithObject(t,_18b[x],conv);}else{_18a[x]=conv?du.coerceType(t,_18b[x]):_187(_18b[x]);}}}return _18a;},updateWithPattern:function(_18c,_18d,_18e,conv){if(!_18d||!_18e){return _18c;}for(var x in _18e){if(x in _18d&&!(x in _186)){_18c[x]=conv?du.coerceType(_18e[x],_18d[x]):_187(_18d[x]);}}return _18c;},merge:function(_18f,_190){if(_190){var _191=opts.call(_18f),_192=opts.call(_190),t,i,l,m;switch(_192){case "[object Array]":if(_192==_191){t=new Array(Math.max(_18f.length,_190.length));for(i=0,l=t.length;i<l;++i){t[i]=du.merge(_18f[i],_190[i]);}return t;}return _190.slice(0);case "[object Object]":if(_192==_191&&_18f){t=dojo.delegate(_18f);for(i in _190){if(i in _18f){l=_18f[i];m=_190[i];if(m!==l){t[i]=du.merge(l,m);}}else{t[i]=dojo.clone(_190[i]);}}return t;}return dojo.clone(_190);}}return _190;}});})();}if(!dojo._hasResource["dojox.gfx.gradutils"]){dojo._hasResource["dojox.gfx.gradutils"]=true;dojo.provide("dojox.gfx.gradutils");(function(){var d=dojo,m=dojox.gfx.matrix,C=d.Color;function _193(o,c){if(o<=0){return c[0].color;}var len=c.length;if(o>=1){return c[len-1].color;}for(var i=0;i<len;++i){var stop=c[i];if(stop.offset>=o){if(i){var prev=c[i-1];return d.blendColors(new C(prev.color),new C(stop.color),(o-prev.offset)/(stop.offset-prev.offset));}return stop.color;}}return c[len-1].color;};dojox.gfx.gradutils.getColor=function(fill,pt){var o;if(fill){switch(fill.type){case "linear":var _194=Math.atan2(fill.y2-fill.y1,fill.x2-fill.x1),_195=m.rotate(-_194),_196=m.project(fill.x2-fill.x1,fill.y2-fill.y1),p=m.multiplyPoint(_196,pt),pf1=m.multiplyPoint(_196,fill.x1,fill.y1),pf2=m.multiplyPoint(_196,fill.x2,fill.y2),_197=m.multiplyPoint(_195,pf2.x-pf1.x,pf2.y-pf1.y).x,o=m.multiplyPoint(_195,p.x-pf1.x,p.y-pf1.y).x/_197;break;case "radial":var dx=pt.x-fill.cx,dy=pt.y-fill.cy,o=Math.sqrt(dx*dx+dy*dy)/fill.r;break;}return _193(o,fill.colors);}return new C(fill||[0,0,0,0]);};dojox.gfx.gradutils.reverse=function(fill){if(fill){switch(fill.type){case "linear":case "radial":fill=dojo.delegate(fill);if(fill.colors){var c=fill.colors,l=c.length,i=0,stop,n=fill.colors=new Array(c.length);for(;i<l;++i){stop=c[i];n[i]={offset:1-stop.offset,color:stop.color};}n.sort(function(a,b){return a.offset-b.offset;});}break;}}return fill;};})();}if(!dojo._hasResource["dojox.charting.Theme"]){dojo._hasResource["dojox.charting.Theme"]=true;dojo.provide("dojox.charting.Theme");dojo.declare("dojox.charting.Theme",null,{shapeSpaces:{shape:1,shapeX:1,shapeY:1},constructor:function(_198){_198=_198||{};var def=dojox.charting.Theme.defaultTheme;dojo.forEach(["chart","plotarea","axis","series","marker"],function(name){this[name]=dojo.delegate(def[name],_198[name]);},this);if(_198.seriesThemes&&_198.seriesThemes.length){this.colors=null;this.seriesThemes=_198.seriesThemes.slice(0);}else{this.seriesThemes=null;this.colors=(_198.colors||dojox.charting.Theme.defaultColors).slice(0);}this.markerThemes=null;if(_198.markerThemes&&_198.markerThemes.length){this.markerThemes=_198.markerThemes.slice(0);}this.markers=dojo.delegate(dojox.charting.Theme.defaultMarkers,_198.markers);this.noGradConv=_198.noGradConv;this.noRadialConv=_198.noRadialConv;if(_198.reverseFills){this.reverseFills();}this._current=0;this._buildMarkerArray();},clone:function(){var _199=new dojox.charting.Theme({chart:this.chart,plotarea:this.plotarea,axis:this.axis,series:this.series,marker:this.marker,colors:this.colors,markers:this.markers,seriesThemes:this.seriesThemes,markerThemes:this.markerThemes,noGradConv:this.noGradConv,noRadialConv:this.noRadialConv});dojo.forEach(["clone","clear","next","skip","addMixin","post","getTick"],function(name){if(this.hasOwnProperty(name)){_199[name]=this[name];}},this);return _199;},clear:function(){this._current=0;},next:function(_19a,_19b,_19c){var _19d=dojox.lang.utils.merge,_19e,_19f;if(this.colors){_19e=dojo.delegate(this.series);_19f=dojo.delegate(this.marker);var _1a0=new dojo.Color(this.colors[this._current%this.colors.length]),old;if(_19e.stroke&&_19e.stroke.color){_19e.stroke=dojo.delegate(_19e.stroke);old=new dojo.Color(_19e.stroke.color);_19e.stroke.color=new dojo.Color(_1a0);_19e.stroke.color.a=old.a;}else{_19e.stroke={color:_1a0};}if(_19f.stroke&&_19f.stroke.color){_19f.stroke=dojo.delegate(_19f.stroke);old=new dojo.Color(_19f.stroke.color);_19f.stroke.color=new dojo.Color(_1a0);_19f.stroke.color.a=old.a;}else{_19f.stroke={color:_1a0};}if(!_19e.fill||_19e.fill.type){_19e.fill=_1a0;}else{old=new dojo.Color(_19e.fill);_19e.fill=new dojo.Color(_1a0);_19e.fill.a=old.a;}if(!_19f.fill||_19f.fill.type){_19f.fill=_1a0;}else{old=new dojo.Color(_19f.fill);_19f.fill=new dojo.Color(_1a0);_19f.fill.a=old.a;}}else{_19e=this.seriesThemes?_19d(this.series,this.seriesThemes[this._current%this.seriesThemes.length]):this.series;_19f=this.markerThemes?_19d(this.marker,this.markerThemes[this._current%this.markerThemes.length]):_19e;}var _1a1=_19f&&_19f.symbol||this._markers[this._current%this._markers.length];var _1a2={series:_19e,marker:_19f,symbol:_1a1};++this._current;if(_19b){_1a2=this.addMixin(_1a2,_19a,_19b);}if(_19c){_1a2=this.post(_1a2,_19a);}return _1a2;},skip:function(){++this._current;},addMixin:function(_1a3,_1a4,_1a5,_1a6){if(dojo.isArray(_1a5)){dojo.forEach(_1a5,function(m){_1a3=this.addMixin(_1a3,_1a4,m);},this);}else{var t={};if("color" in _1a5){if(_1a4=="line"||_1a4=="area"){dojo.setObject("series.stroke.color",_1a5.color,t);dojo.setObject("marker.stroke.color",_1a5.color,t);}else{dojo.setObject("series.fill",_1a5.color,t);}}dojo.forEach(["stroke","outline","shadow","fill","font","fontColor"],function(name){var _1a7="marker"+name.charAt(0).toUpperCase()+name.substr(1),b=_1a7 in _1a5;if(name in _1a5){dojo.setObject("series."+name,_1a5[name],t);if(!b){dojo.setObject("marker."+name,_1a5[name],t);}}if(b){dojo.setObject("marker."+name,_1a5[_1a7],t);}});if("marker" in _1a5){t.symbol=_1a5.marker;}_1a3=dojox.lang.utils.merge(_1a3,t);}if(_1a6){_1a3=this.post(_1a3,_1a4);}return _1a3;},post:function(_1a8,_1a9){var fill=_1a8.series.fill,t;if(!this.noGradConv&&this.shapeSpaces[fill.space]&&fill.type=="linear"){if(_1a9=="bar"){t={x1:fill.y1,y1:fill.x1,x2:fill.y2,y2:fill.x2};}else{if(!this.noRadialConv&&fill.space=="shape"&&(_1a9=="slice"||_1a9=="circle")){t={type:"radial",cx:0,cy:0,r:100};}}if(t){return dojox.lang.utils.merge(_1a8,{series:{fill:t}});}}return _1a8;},getTick:function(name,_1aa){var tick=this.axis.tick,_1ab=name+"Tick";merge=dojox.lang.utils.merge;if(tick){if(this.axis[_1ab]){tick=merge(tick,this.axis[_1ab]);}}else{tick=this.axis[_1ab];}if(_1aa){if(tick){if(_1aa[_1ab]){tick=merge(tick,_1aa[_1ab]);}}else{tick=_1aa[_1ab];}}return tick;},inspectObjects:function(f){dojo.forEach(["chart","plotarea","axis","series","marker"],function(name){f(this[name]);},this);if(this.seriesThemes){dojo.forEach(this.seriesThemes,f);}if(this.markerThemes){dojo.forEach(this.markerThemes,f);}},reverseFills:function(){this.inspectObjects(function(o){if(o&&o.fill){o.fill=dojox.gfx.gradutils.reverse(o.fill);}});},addMarker:function(name,_1ac){this.markers[name]=_1ac;this._buildMarkerArray();},setMarkers:function(obj){this.markers=obj;this._buildMarkerArray();},_buildMarkerArray:function(){this._markers=[];for(var p in this.markers){this._markers.push(this.markers[p]);}}});dojo.mixin(dojox.charting.Theme,{defaultMarkers:{CIRCLE:"m-3,0 c0,-4 6,-4 6,0 m-6,0 c0,4 6,4 6,0",SQUARE:"m-3,-3 l0,6 6,0 0,-6 z",DIAMOND:"m0,-3 l3,3 -3,3 -3,-3 z",CROSS:"m0,-3 l0,6 m-3,-3 l6,0",X:"m-3,-3 l6,6 m0,-6 l-6,6",TRIANGLE:"m-3,3 l3,-6 3,6 z",TRIANGLE_INVERTED:"m-3,-3 l3,6 3,-6 z"},defaultColors:["#54544c","#858e94","#6e767a","#948585","#474747"],defaultTheme:{chart:{stroke:null,fill:"white",pageStyle:null},plotarea:{stroke:null,fill:"white"},axis:{stroke:{color:"#333",width:1},tick:{color:"#666",position:"center",font:"normal normal normal 7pt Tahoma",fontColor:"#333"},majorTick:{width:1,length:6},minorTick:{width:0.8,length:3},microTick:{width:0.5,length:1}},series:{stroke:{width:1.5,color:"#333"},outline:{width:0.1,color:"#ccc"},shadow:null,fill:"#ccc",font:"normal normal normal 8pt Tahoma",fontColor:"#000"},marker:{stroke:{width:1.5,color:"#333"},outline:{width:0.1,color:"#ccc"},shadow:null,fill:"#ccc",font:"normal normal normal 8pt Tahoma",fontColor:"#000"}},defineColors:function(_1ad){_1ad=_1ad||{};var c=[],n=_1ad.num||5;if(_1ad.colors){var l=_1ad.colors.length;for(var i=0;i<n;i++){c.push(_1ad.colors[i%l]);}return c;}if(_1ad.hue){var s=_1ad.saturation||100;var st=_1ad.low||30;var end=_1ad.high||90;var l=(end+st)/2;return dojox.color.Palette.generate(dojox.color.fromHsv(_1ad.hue,s,l),"monochromatic").colors;}if(_1ad.generator){return dojox.color.Palette.generate(_1ad.base,_1ad.generator).colors;}return c;},generateGradient:function(_1ae,_1af,_1b0){var fill=dojo.delegate(_1ae);fill.colors=[{offset:0,color:_1af},{offset:1,color:_1b0}];return fill;},generateHslColor:function(_1b1,_1b2){_1b1=new dojox.color.Color(_1b1);var hsl=_1b1.toHsl(),_1b3=dojox.color.fromHsl(hsl.h,hsl.s,_1b2);_1b3.a=_1b1.a;return _1b3;},generateHslGradient:function(_1b4,_1b5,_1b6,_1b7){_1b4=new dojox.color.Color(_1b4);var hsl=_1b4.toHsl(),_1b8=dojox.color.fromHsl(hsl.h,hsl.s,_1b6),_1b9=dojox.color.fromHsl(hsl.h,hsl.s,_1b7);_1b8.a=_1b9.a=_1b4.a;return dojox.charting.Theme.generateGradient(_1b5,_1b8,_1b9);}});}if(!dojo._hasResource["dojox.charting.Element"]){dojo._hasResource["dojox.charting.Element"]=true;dojo.provide("dojox.charting.Element");dojo.declare("dojox.charting.Element",null,{chart:null,group:null,htmlElements:null,dirty:true,constructor:function(_1ba){this.chart=_1ba;this.group=null;this.htmlElements=[];this.dirty=true;},createGroup:function(_1bb){if(!_1bb){_1bb=this.chart.surface;}if(!this.group){this.group=_1bb.createGroup();}return this;},purgeGroup:function(){this.destroyHtmlElements();if(this.group){this.group.clear();this.group.removeShape();this.group=null;}this.dirty=true;return this;},cleanGroup:function(_1bc){this.destroyHtmlElements();if(!_1bc){_1bc=this.chart.surface;}if(this.group){this.group.clear();}else{this.group=_1bc.createGroup();}this.dirty=true;return this;},destroyHtmlElements:function(){if(this.htmlElements.length){dojo.forEach(this.htmlElements,dojo.destroy);this.htmlElements=[];}},destroy:function(){this.purgeGroup();},_plotFill:function(fill,dim,_1bd){if(!fill||!fill.type||!fill.space){return fill;}var _1be=fill.space;switch(fill.type){case "linear":if(_1be==="plot"||_1be==="shapeX"||_1be==="shapeY"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultLinearGradient,fill);fill.space=_1be;if(_1be==="plot"||_1be==="shapeX"){var span=dim.height-_1bd.t-_1bd.b;fill.y1=_1bd.t+span*fill.y1/100;fill.y2=_1bd.t+span*fill.y2/100;}if(_1be==="plot"||_1be==="shapeY"){var span=dim.width-_1bd.l-_1bd.r;fill.x1=_1bd.l+span*fill.x1/100;fill.x2=_1bd.l+span*fill.x2/100;}}break;case "radial":if(_1be==="plot"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultRadialGradient,fill);fill.space=_1be;var _1bf=dim.width-_1bd.l-_1bd.r,_1c0=dim.height-_1bd.t-_1bd.b;fill.cx=_1bd.l+_1bf*fill.cx/100;fill.cy=_1bd.t+_1c0*fill.cy/100;fill.r=fill.r*Math.sqrt(_1bf*_1bf+_1c0*_1c0)/200;}break;case "pattern":if(_1be==="plot"||_1be==="shapeX"||_1be==="shapeY"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultPattern,fill);fill.space=_1be;if(_1be==="plot"||_1be==="shapeX"){var span=dim.height-_1bd.t-_1bd.b;fill.y=_1bd.t+span*fill.y/100;fill.height=span*fill.height/100;}if(_1be==="plot"||_1be==="shapeY"){var span=dim.width-_1bd.l-_1bd.r;fill.x=_1bd.l+span*fill.x/100;fill.width=span*fill.width/100;}}break;}return fill;},_shapeFill:function(fill,bbox){if(!fill||!fill.space){return fill;}var _1c1=fill.space;switch(fill.type){case "linear":if(_1c1==="shape"||_1c1==="shapeX"||_1c1==="shapeY"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultLinearGradient,fill);fill.space=_1c1;if(_1c1==="shape"||_1c1==="shapeX"){var span=bbox.width;fill.x1=bbox.x+span*fill.x1/100;fill.x2=bbox.x+span*fill.x2/100;}if(_1c1==="shape"||_1c1==="shapeY"){var span=bbox.height;fill.y1=bbox.y+span*fill.y1/100;fill.y2=bbox.y+span*fill.y2/100;}}break;case "radial":if(_1c1==="shape"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultRadialGradient,fill);fill.space=_1c1;fill.cx=bbox.x+bbox.width/2;fill.cy=bbox.y+bbox.height/2;fill.r=fill.r*bbox.width/200;}break;case "pattern":if(_1c1==="shape"||_1c1==="shapeX"||_1c1==="shapeY"){fill=dojox.gfx.makeParameters(dojox.gfx.defaultPattern,fill);fill.space=_1c1;if(_1c1==="shape"||_1c1==="shapeX"){var span=bbox.width;fill.x=bbox.x+span*fill.x/100;fill.width=span*fill.width/100;}if(_1c1==="shape"||_1c1==="shapeY"){var span=bbox.height;fill.y=bbox.y+span*fill.y/100;fill.height=span*fill.height/100;}}break;}return fill;},_pseudoRadialFill:function(fill,_1c2,_1c3,_1c4,end){if(!fill||fill.type!=="radial"||fill.space!=="shape"){return fill;}var _1c5=fill.space;fill=dojox.gfx.makeParameters(dojox.gfx.defaultRadialGradient,fill);fill.space=_1c5;if(arguments.length<4){fill.cx=_1c2.x;fill.cy=_1c2.y;fill.r=fill.r*_1c3/100;return fill;}var _1c6=arguments.length<5?_1c4:(end+_1c4)/2;return {type:"linear",x1:_1c2.x,y1:_1c2.y,x2:_1c2.x+fill.r*_1c3*Math.cos(_1c6)/100,y2:_1c2.y+fill.r*_1c3*Math.sin(_1c6)/100,colors:fill.colors};return fill;}});}if(!dojo._hasResource["dojox.charting.Series"]){dojo._hasResource["dojox.charting.Series"]=true;dojo.provide("dojox.charting.Series");dojo.declare("dojox.charting.Series",dojox.charting.Element,{constructor:function(_1c7,data,_1c8){dojo.mixin(this,_1c8);if(typeof this.plot!="string"){this.plot="default";}this.update(data);},clear:function(){this.dyn={};},update:function(data){if(dojo.isArray(data)){this.data=data;}else{this.source=data;this.data=this.source.data;if(this.source.setSeriesObject){this.source.setSeriesObject(this);}}this.dirty=true;this.clear();}});}if(!dojo._hasResource["dojox.charting.scaler.common"]){dojo._hasResource["dojox.charting.scaler.common"]=true;dojo.provide("dojox.charting.scaler.common");(function(){var eq=function(a,b){return Math.abs(a-b)<=0.000001*(Math.abs(a)+Math.abs(b));};dojo.mixin(dojox.charting.scaler.common,{findString:function(val,text){val=val.toLowerCase();for(var i=0;i<text.length;++i){if(val==text[i]){return true;}}return false;},getNumericLabel:function(_1c9,_1ca,_1cb){var def=_1cb.fixed?_1c9.toFixed(_1ca<0?-_1ca:0):_1c9.toString();if(_1cb.labelFunc){var r=_1cb.labelFunc(def,_1c9,_1ca);if(r){return r;}}if(_1cb.labels){var l=_1cb.labels,lo=0,hi=l.length;while(lo<hi){var mid=Math.floor((lo+hi)/2),val=l[mid].value;if(val<_1c9){lo=mid+1;}else{hi=mid;}}if(lo<l.length&&eq(l[lo].value,_1c9)){return l[lo].text;}--lo;if(lo>=0&&lo<l.length&&eq(l[lo].value,_1c9)){return l[lo].text;}lo+=2;if(lo<l.length&&eq(l[lo].value,_1c9)){return l[lo].text;}}return def;}});})();}if(!dojo._hasResource["dojox.charting.scaler.linear"]){dojo._hasResource["dojox.charting.scaler.linear"]=true;dojo.provide("dojox.charting.scaler.linear");(function(){var _1cc=3,dc=dojox.charting,dcs=dc.scaler,dcsc=dcs.common,_1cd=dcsc.findString,_1ce=dcsc.getNumericLabel;var _1cf=function(min,max,_1d0,_1d1,_1d2,_1d3,span){_1d0=dojo.delegate(_1d0);if(!_1d1){if(_1d0.fixUpper=="major"){_1d0.fixUpper="minor";}if(_1d0.fixLower=="major"){_1d0.fixLower="minor";}}if(!_1d2){if(_1d0.fixUpper=="minor"){_1d0.fixUpper="micro";}if(_1d0.fixLower=="minor"){_1d0.fixLower="micro";}}if(!_1d3){if(_1d0.fixUpper=="micro"){_1d0.fixUpper="none";}if(_1d0.fixLower=="micro"){_1d0.fixLower="none";}}var _1d4=_1cd(_1d0.fixLower,["major"])?Math.floor(_1d0.min/_1d1)*_1d1:_1cd(_1d0.fixLower,["minor"])?Math.floor(_1d0.min/_1d2)*_1d2:_1cd(_1d0.fixLower,["micro"])?Math.floor(_1d0.min/_1d3)*_1d3:_1d0.min,_1d5=_1cd(_1d0.fixUpper,["major"])?Math.ceil(_1d0.max/_1d1)*_1d1:_1cd(_1d0.fixUpper,["minor"])?Math.ceil(_1d0.max/_1d2)*_1d2:_1cd(_1d0.fixUpper,["micro"])?Math.ceil(_1d0.max/_1d3)*_1d3:_1d0.max;if(_1d0.useMin){min=_1d4;}if(_1d0.useMax){max=_1d5;}var _1d6=(!_1d1||_1d0.useMin&&_1cd(_1d0.fixLower,["major"]))?min:Math.ceil(min/_1d1)*_1d1,_1d7=(!_1d2||_1d0.useMin&&_1cd(_1d0.fixLower,["major","minor"]))?min:Math.ceil(min/_1d2)*_1d2,_1d8=(!_1d3||_1d0.useMin&&_1cd(_1d0.fixLower,["major","minor","micro"]))?min:Math.ceil(min/_1d3)*_1d3,_1d9=!_1d1?0:(_1d0.useMax&&_1cd(_1d0.fixUpper,["major"])?Math.round((max-_1d6)/_1d1):Math.floor((max-_1d6)/_1d1))+1,_1da=!_1d2?0:(_1d0.useMax&&_1cd(_1d0.fixUpper,["major","minor"])?Math.round((max-_1d7)/_1d2):Math.floor((max-_1d7)/_1d2))+1,_1db=!_1d3?0:(_1d0.useMax&&_1cd(_1d0.fixUpper,["major","minor","micro"])?Math.round((max-_1d8)/_1d3):Math.floor((max-_1d8)/_1d3))+1,_1dc=_1d2?Math.round(_1d1/_1d2):0,_1dd=_1d3?Math.round(_1d2/_1d3):0,_1de=_1d1?Math.floor(Math.log(_1d1)/Math.LN10):0,_1df=_1d2?Math.floor(Math.log(_1d2)/Math.LN10):0,_1e0=span/(max-min);if(!isFinite(_1e0)){_1e0=1;}return {bounds:{lower:_1d4,upper:_1d5,from:min,to:max,scale:_1e0,span:span},major:{tick:_1d1,start:_1d6,count:_1d9,prec:_1de},minor:{tick:_1d2,start:_1d7,count:_1da,prec:_1df},micro:{tick:_1d3,start:_1d8,count:_1db,prec:0},minorPerMajor:_1dc,microPerMinor:_1dd,scaler:dcs.linear};};dojo.mixin(dojox.charting.scaler.linear,{buildScaler:function(min,max,span,_1e1){var h={fixUpper:"none",fixLower:"none",natural:false};if(_1e1){if("fixUpper" in _1e1){h.fixUpper=String(_1e1.fixUpper);}if("fixLower" in _1e1){h.fixLower=String(_1e1.fixLower);}if("natural" in _1e1){h.natural=Boolean(_1e1.natural);}}if("min" in _1e1){min=_1e1.min;}if("max" in _1e1){max=_1e1.max;}if(_1e1.includeZero){if(min>0){min=0;}if(max<0){max=0;}}h.min=min;h.useMin=true;h.max=max;h.useMax=true;if("from" in _1e1){min=_1e1.from;h.useMin=false;}if("to" in _1e1){max=_1e1.to;h.useMax=false;}if(max<=min){return _1cf(min,max,h,0,0,0,span);}var mag=Math.floor(Math.log(max-min)/Math.LN10),_1e2=_1e1&&("majorTickStep" in _1e1)?_1e1.majorTickStep:Math.pow(10,mag),_1e3=0,_1e4=0,_1e5;if(_1e1&&("minorTickStep" in _1e1)){_1e3=_1e1.minorTickStep;}else{do{_1e3=_1e2/10;if(!h.natural||_1e3>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,0,span);if(_1e5.bounds.scale*_1e5.minor.tick>_1cc){break;}}_1e3=_1e2/5;if(!h.natural||_1e3>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,0,span);if(_1e5.bounds.scale*_1e5.minor.tick>_1cc){break;}}_1e3=_1e2/2;if(!h.natural||_1e3>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,0,span);if(_1e5.bounds.scale*_1e5.minor.tick>_1cc){break;}}return _1cf(min,max,h,_1e2,0,0,span);}while(false);}if(_1e1&&("microTickStep" in _1e1)){_1e4=_1e1.microTickStep;_1e5=_1cf(min,max,h,_1e2,_1e3,_1e4,span);}else{do{_1e4=_1e3/10;if(!h.natural||_1e4>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,_1e4,span);if(_1e5.bounds.scale*_1e5.micro.tick>_1cc){break;}}_1e4=_1e3/5;if(!h.natural||_1e4>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,_1e4,span);if(_1e5.bounds.scale*_1e5.micro.tick>_1cc){break;}}_1e4=_1e3/2;if(!h.natural||_1e4>0.9){_1e5=_1cf(min,max,h,_1e2,_1e3,_1e4,span);if(_1e5.bounds.scale*_1e5.micro.tick>_1cc){break;}}_1e4=0;}while(false);}return _1e4?_1e5:_1cf(min,max,h,_1e2,_1e3,0,span);},buildTicks:function(_1e6,_1e7){var step,next,tick,_1e8=_1e6.major.start,_1e9=_1e6.minor.start,_1ea=_1e6.micro.start;if(_1e7.microTicks&&_1e6.micro.tick){step=_1e6.micro.tick,next=_1ea;}else{if(_1e7.minorTicks&&_1e6.minor.tick){step=_1e6.minor.tick,next=_1e9;}else{if(_1e6.major.tick){step=_1e6.major.tick,next=_1e8;}else{return null;}}}var _1eb=1/_1e6.bounds.scale;if(_1e6.bounds.to<=_1e6.bounds.from||isNaN(_1eb)||!isFinite(_1eb)||step<=0||isNaN(step)||!isFinite(step)){return null;}var _1ec=[],_1ed=[],_1ee=[];while(next<=_1e6.bounds.to+_1eb){if(Math.abs(_1e8-next)<step/2){tick={value:_1e8};if(_1e7.majorLabels){tick.label=_1ce(_1e8,_1e6.major.prec,_1e7);}_1ec.push(tick);_1e8+=_1e6.major.tick;_1e9+=_1e6.minor.tick;_1ea+=_1e6.micro.tick;}else{if(Math.abs(_1e9-next)<step/2){if(_1e7.minorTicks){tick={value:_1e9};if(_1e7.minorLabels&&(_1e6.minMinorStep<=_1e6.minor.tick*_1e6.bounds.scale)){tick.label=_1ce(_1e9,_1e6.minor.prec,_1e7);}_1ed.push(tick);}_1e9+=_1e6.minor.tick;_1ea+=_1e6.micro.tick;}else{if(_1e7.microTicks){_1ee.push({value:_1ea});}_1ea+=_1e6.micro.tick;}}next+=step;}return {major:_1ec,minor:_1ed,micro:_1ee};},getTransformerFromModel:function(_1ef){var _1f0=_1ef.bounds.from,_1f1=_1ef.bounds.scale;return function(x){return (x-_1f0)*_1f1;};},getTransformerFromPlot:function(_1f2){var _1f3=_1f2.bounds.from,_1f4=_1f2.bounds.scale;return function(x){return x/_1f4+_1f3;};}});})();}if(!dojo._hasResource["dojox.charting.axis2d.common"]){dojo._hasResource["dojox.charting.axis2d.common"]=true;dojo.provide("dojox.charting.axis2d.common");(function(){var g=dojox.gfx;var _1f5=function(s){s.marginLeft="0px";s.marginTop="0px";s.marginRight="0px";s.marginBottom="0px";s.paddingLeft="0px";s.paddingTop="0px";s.paddingRight="0px";s.paddingBottom="0px";s.borderLeftWidth="0px";s.borderTopWidth="0px";s.borderRightWidth="0px";s.borderBottomWidth="0px";};var _1f6=function(n){if(n["getBoundingClientRect"]){var bcr=n.getBoundingClientRect();return bcr.width||(bcr.right-bcr.left);}else{return dojo.marginBox(n).w;}};dojo.mixin(dojox.charting.axis2d.common,{createText:{gfx:function(_1f7,_1f8,x,y,_1f9,text,font,_1fa){return _1f8.createText({x:x,y:y,text:text,align:_1f9}).setFont(font).setFill(_1fa);},html:function(_1fb,_1fc,x,y,_1fd,text,font,_1fe,_1ff){var p=dojo.doc.createElement("div"),s=p.style,_200;_1f5(s);s.font=font;p.innerHTML=String(text).replace(/\s/g,"&nbsp;");s.color=_1fe;s.position="absolute";s.left="-10000px";dojo.body().appendChild(p);var size=g.normalizedLength(g.splitFontString(font).size);if(!_1ff){_200=_1f6(p);}dojo.body().removeChild(p);s.position="relative";if(_1ff){s.width=_1ff+"px";switch(_1fd){case "middle":s.textAlign="center";s.left=(x-_1ff/2)+"px";break;case "end":s.textAlign="right";s.left=(x-_1ff)+"px";break;default:s.left=x+"px";s.textAlign="left";break;}}else{switch(_1fd){case "middle":s.left=Math.floor(x-_200/2)+"px";break;case "end":s.left=Math.floor(x-_200)+"px";break;default:s.left=Math.floor(x)+"px";break;}}s.top=Math.floor(y-size)+"px";s.whiteSpace="nowrap";var wrap=dojo.doc.createElement("div"),w=wrap.style;_1f5(w);w.width="0px";w.height="0px";wrap.appendChild(p);_1fb.node.insertBefore(wrap,_1fb.node.firstChild);return wrap;}}});})();}if(!dojo._hasResource["dojox.charting.axis2d.Base"]){dojo._hasResource["dojox.charting.axis2d.Base"]=true;dojo.provide("dojox.charting.axis2d.Base");dojo.declare("dojox.charting.axis2d.Base",dojox.charting.Element,{constructor:function(_201,_202){this.vertical=_202&&_202.vertical;},clear:function(){return this;},initialized:function(){return false;},calculate:function(min,max,span){return this;},getScaler:function(){return null;},getTicks:function(){return null;},getOffsets:function(){return {l:0,r:0,t:0,b:0};},render:function(dim,_203){this.dirty=false;return this;}});}if(!dojo._hasResource["dojo.string"]){dojo._hasResource["dojo.string"]=true;dojo.provide("dojo.string");dojo.string.rep=function(str,num){if(num<=0||!str){return "";}var buf=[];for(;;){if(num&1){buf.push(str);}if(!(num>>=1)){break;}str+=str;}return buf.join("");};dojo.string.pad=function(text,size,ch,end){if(!ch){ch="0";}var out=String(text),pad=dojo.string.rep(ch,Math.ceil((size-out.length)/ch.length));return end?out+pad:pad+out;};dojo.string.substitute=function(_204,map,_205,_206){_206=_206||dojo.global;_205=_205?dojo.hitch(_206,_205):function(v){return v;};return _204.replace(/\$\{([^\s\:\}]+)(?:\:([^\s\:\}]+))?\}/g,function(_207,key,_208){var _209=dojo.getObject(key,false,map);if(_208){_209=dojo.getObject(_208,false,_206).call(_206,_209,key);}return _205(_209,key).toString();});};dojo.string.trim=String.prototype.trim?dojo.trim:function(str){str=str.replace(/^\s+/,"");for(var i=str.length-1;i>=0;i--){if(/\S/.test(str.charAt(i))){str=str.substring(0,i+1);break;}}return str;};}if(!dojo._hasResource["dojox.charting.axis2d.Invisible"]){dojo._hasResource["dojox.charting.axis2d.Invisible"]=true;dojo.provide("dojox.charting.axis2d.Invisible");(function(){var dc=dojox.charting,df=dojox.lang.functional,du=dojox.lang.utils,g=dojox.gfx,lin=dc.scaler.linear,_20a=du.merge,_20b=4,_20c=45;dojo.declare("dojox.charting.axis2d.Invisible",dojox.charting.axis2d.Base,{defaultParams:{vertical:false,fixUpper:"none",fixLower:"none",natural:false,leftBottom:true,includeZero:false,fixed:true,majorLabels:true,minorTicks:true,minorLabels:true,microTicks:false,rotation:0},optionalParams:{min:0,max:1,from:0,to:1,majorTickStep:4,minorTickStep:2,microTickStep:1,labels:[],labelFunc:null,maxLabelSize:0},constructor:function(_20d,_20e){this.opt=dojo.delegate(this.defaultParams,_20e);du.updateWithPattern(this.opt,_20e,this.optionalParams);},dependOnData:function(){return !("min" in this.opt)||!("max" in this.opt);},clear:function(){delete this.scaler;delete this.ticks;this.dirty=true;return this;},initialized:function(){return "scaler" in this&&!(this.dirty&&this.dependOnData());},setWindow:function(_20f,_210){this.scale=_20f;this.offset=_210;return this.clear();},getWindowScale:function(){return "scale" in this?this.scale:1;},getWindowOffset:function(){return "offset" in this?this.offset:0;},_groupLabelWidth:function(_211,font){if(!_211.length){return 0;}if(dojo.isObject(_211[0])){_211=df.map(_211,function(_212){return _212.text;});}var s=_211.join("<br>");return dojox.gfx._base._getTextBox(s,{font:font}).w||0;},calculate:function(min,max,span,_213){if(this.initialized()){return this;}var o=this.opt;this.labels="labels" in o?o.labels:_213;this.scaler=lin.buildScaler(min,max,span,o);var tsb=this.scaler.bounds;if("scale" in this){o.from=tsb.lower+this.offset;o.to=(tsb.upper-tsb.lower)/this.scale+o.from;if(!isFinite(o.from)||isNaN(o.from)||!isFinite(o.to)||isNaN(o.to)||o.to-o.from>=tsb.upper-tsb.lower){delete o.from;delete o.to;delete this.scale;delete this.offset;}else{if(o.from<tsb.lower){o.to+=tsb.lower-o.from;o.from=tsb.lower;}else{if(o.to>tsb.upper){o.from+=tsb.upper-o.to;o.to=tsb.upper;}}this.offset=o.from-tsb.lower;}this.scaler=lin.buildScaler(min,max,span,o);tsb=this.scaler.bounds;if(this.scale==1&&this.offset==0){delete this.scale;delete this.offset;}}var ta=this.chart.theme.axis,_214=0,_215=o.rotation%360,_216=o.font||(ta.majorTick&&ta.majorTick.font)||(ta.tick&&ta.tick.font),size=_216?g.normalizedLength(g.splitFontString(_216).size):0,cosr=Math.abs(Math.cos(_215*Math.PI/180)),sinr=Math.abs(Math.sin(_215*Math.PI/180));if(_215<0){_215+=360;}if(size){if(this.vertical?_215!=0&&_215!=180:_215!=90&&_215!=270){if(o.maxLabelSize){_214=o.maxLabelSize;}else{if(this.labels){_214=this._groupLabelWidth(this.labels,_216);}else{var _217=Math.ceil(Math.log(Math.max(Math.abs(tsb.from),Math.abs(tsb.to)))/Math.LN10),t=[];if(tsb.from<0||tsb.to<0){t.push("-");}t.push(dojo.string.rep("9",_217));var _218=Math.floor(Math.log(tsb.to-tsb.from)/Math.LN10);if(_218>0){t.push(".");t.push(dojo.string.rep("9",_218));}_214=dojox.gfx._base._getTextBox(t.join(""),{font:_216}).w;}}}else{_214=size;}switch(_215){case 0:case 90:case 180:case 270:break;default:var gap1=Math.sqrt(_214*_214+size*size),gap2=this.vertical?size*cosr+_214*sinr:_214*cosr+size*sinr;_214=Math.min(gap1,gap2);break;}}this.scaler.minMinorStep=_214+_20b;this.ticks=lin.buildTicks(this.scaler,o);return this;},getScaler:function(){return this.scaler;},getTicks:function(){return this.ticks;}});})();}if(!dojo._hasResource["dojox.charting.axis2d.Default"]){dojo._hasResource["dojox.charting.axis2d.Default"]=true;dojo.provide("dojox.charting.axis2d.Default");(function(){var dc=dojox.charting,du=dojox.lang.utils,g=dojox.gfx,lin=dc.scaler.linear,_219=4,_21a=45;dojo.declare("dojox.charting.axis2d.Default",dojox.charting.axis2d.Invisible,{defaultParams:{vertical:false,fixUpper:"none",fixLower:"none",natural:false,leftBottom:true,includeZero:false,fixed:true,majorLabels:true,minorTicks:true,minorLabels:true,microTicks:false,rotation:0,htmlLabels:true},optionalParams:{min:0,max:1,from:0,to:1,majorTickStep:4,minorTickStep:2,microTickStep:1,labels:[],labelFunc:null,maxLabelSize:0,stroke:{},majorTick:{},minorTick:{},microTick:{},tick:{},font:"",fontColor:""},constructor:function(_21b,_21c){this.opt=dojo.delegate(this.defaultParams,_21c);du.updateWithPattern(this.opt,_21c,this.optionalParams);},getOffsets:function(){var s=this.scaler,_21d={l:0,r:0,t:0,b:0};if(!s){return _21d;}var o=this.opt,_21e=0,a,b,c,d,gl=dc.scaler.common.getNumericLabel,_21f=0,ma=s.major,mi=s.minor,ta=this.chart.theme.axis,_220=o.font||(ta.majorTick&&ta.majorTick.font)||(ta.tick&&ta.tick.font),_221=this.chart.theme.getTick("major",o),_222=this.chart.theme.getTick("minor",o),size=_220?g.normalizedLength(g.splitFontString(_220).size):0,_223=o.rotation%360,_224=o.leftBottom,cosr=Math.abs(Math.cos(_223*Math.PI/180)),sinr=Math.abs(Math.sin(_223*Math.PI/180));if(_223<0){_223+=360;}if(size){if(o.maxLabelSize){_21e=o.maxLabelSize;}else{if(this.labels){_21e=this._groupLabelWidth(this.labels,_220);}else{_21e=this._groupLabelWidth([gl(ma.start,ma.prec,o),gl(ma.start+ma.count*ma.tick,ma.prec,o),gl(mi.start,mi.prec,o),gl(mi.start+mi.count*mi.tick,mi.prec,o)],_220);}}if(this.vertical){var side=_224?"l":"r";switch(_223){case 0:case 180:_21d[side]=_21e;_21d.t=_21d.b=size/2;break;case 90:case 270:_21d[side]=size;_21d.t=_21d.b=_21e/2;break;default:if(_223<=_21a||(180<_223&&_223<=(180+_21a))){_21d[side]=size*sinr/2+_21e*cosr;_21d[_224?"t":"b"]=size*cosr/2+_21e*sinr;_21d[_224?"b":"t"]=size*cosr/2;}else{if(_223>(360-_21a)||(180>_223&&_223>(180-_21a))){_21d[side]=size*sinr/2+_21e*cosr;_21d[_224?"b":"t"]=size*cosr/2+_21e*sinr;_21d[_224?"t":"b"]=size*cosr/2;}else{if(_223<90||(180<_223&&_223<270)){_21d[side]=size*sinr+_21e*cosr;_21d[_224?"t":"b"]=size*cosr+_21e*sinr;}else{_21d[side]=size*sinr+_21e*cosr;_21d[_224?"b":"t"]=size*cosr+_21e*sinr;}}}break;}_21d[side]+=_219+Math.max(_221.length,_222.length);}else{var side=_224?"b":"t";switch(_223){case 0:case 180:_21d[side]=size;_21d.l=_21d.r=_21e/2;break;case 90:case 270:_21d[side]=_21e;_21d.l=_21d.r=size/2;break;default:if((90-_21a)<=_223&&_223<=90||(270-_21a)<=_223&&_223<=270){_21d[side]=size*sinr/2+_21e*cosr;_21d[_224?"r":"l"]=size*cosr/2+_21e*sinr;_21d[_224?"l":"r"]=size*cosr/2;}else{if(90<=_223&&_223<=(90+_21a)||270<=_223&&_223<=(270+_21a)){_21d[side]=size*sinr/2+_21e*cosr;_21d[_224?"l":"r"]=size*cosr/2+_21e*sinr;_21d[_224?"r":"l"]=size*cosr/2;}else{if(_223<_21a||(180<_223&&_223<(180-_21a))){_21d[side]=size*sinr+_21e*cosr;_21d[_224?"r":"l"]=size*cosr+_21e*sinr;}else{_21d[side]=size*sinr+_21e*cosr;_21d[_224?"l":"r"]=size*cosr+_21e*sinr;}}}break;}_21d[side]+=_219+Math.max(_221.length,_222.length);}}if(_21e){this._cachedLabelWidth=_21e;}return _21d;},render:function(dim,_225){if(!this.dirty){return this;}var o=this.opt,ta=this.chart.theme.axis,_226=o.leftBottom,_227=o.rotation%360,_228,stop,_229,_22a,_22b,_22c,_22d,_22e=o.font||(ta.majorTick&&ta.majorTick.font)||(ta.tick&&ta.tick.font),_22f=o.fontColor||(ta.majorTick&&ta.majorTick.fontColor)||(ta.tick&&ta.tick.fontColor)||"black",_230=this.chart.theme.getTick("major",o),_231=this.chart.theme.getTick("minor",o),_232=this.chart.theme.getTick("micro",o),_233=Math.max(_230.length,_231.length,_232.length),_234="stroke" in o?o.stroke:ta.stroke,size=_22e?g.normalizedLength(g.splitFontString(_22e).size):0;if(_227<0){_227+=360;}if(this.vertical){_228={y:dim.height-_225.b};stop={y:_225.t};_229={x:0,y:-1};_22c={x:0,y:0};_22a={x:1,y:0};_22b={x:_219,y:0};switch(_227){case 0:_22d="end";_22c.y=size*0.4;break;case 90:_22d="middle";_22c.x=-size;break;case 180:_22d="start";_22c.y=-size*0.4;break;case 270:_22d="middle";break;default:if(_227<_21a){_22d="end";_22c.y=size*0.4;}else{if(_227<90){_22d="end";_22c.y=size*0.4;}else{if(_227<(180-_21a)){_22d="start";}else{if(_227<(180+_21a)){_22d="start";_22c.y=-size*0.4;}else{if(_227<270){_22d="start";_22c.x=_226?0:size*0.4;}else{if(_227<(360-_21a)){_22d="end";_22c.x=_226?0:size*0.4;}else{_22d="end";_22c.y=size*0.4;}}}}}}}if(_226){_228.x=stop.x=_225.l;_22a.x=-1;_22b.x=-_22b.x;}else{_228.x=stop.x=dim.width-_225.r;switch(_22d){case "start":_22d="end";break;case "end":_22d="start";break;case "middle":_22c.x+=size;break;}}}else{_228={x:_225.l};stop={x:dim.width-_225.r};_229={x:1,y:0};_22c={x:0,y:0};_22a={x:0,y:1};_22b={x:0,y:_219};switch(_227){case 0:_22d="middle";_22c.y=size;break;case 90:_22d="start";_22c.x=-size*0.4;break;case 180:_22d="middle";break;case 270:_22d="end";_22c.x=size*0.4;break;default:if(_227<(90-_21a)){_22d="start";_22c.y=_226?size:0;}else{if(_227<(90+_21a)){_22d="start";_22c.x=-size*0.4;}else{if(_227<180){_22d="start";_22c.y=_226?0:-size;}else{if(_227<(270-_21a)){_22d="end";_22c.y=_226?0:-size;}else{if(_227<(270+_21a)){_22d="end";_22c.y=_226?size*0.4:0;}else{_22d="end";_22c.y=_226?size:0;}}}}}}if(_226){_228.y=stop.y=dim.height-_225.b;}else{_228.y=stop.y=_225.t;_22a.y=-1;_22b.y=-_22b.y;switch(_22d){case "start":_22d="end";break;case "end":_22d="start";break;case "middle":_22c.y-=size;break;}}}this.cleanGroup();try{var s=this.group,c=this.scaler,t=this.ticks,_235,f=lin.getTransformerFromModel(this.scaler),_236=(dojox.gfx.renderer=="canvas"),_237=_236||!_227&&this.opt.htmlLabels&&!dojo.isIE&&!dojo.isOpera?"html":"gfx",dx=_22a.x*_230.length,dy=_22a.y*_230.length;s.createLine({x1:_228.x,y1:_228.y,x2:stop.x,y2:stop.y}).setStroke(_234);dojo.forEach(t.major,function(tick){var _238=f(tick.value),elem,x=_228.x+_229.x*_238,y=_228.y+_229.y*_238;s.createLine({x1:x,y1:y,x2:x+dx,y2:y+dy}).setStroke(_230);if(tick.label){elem=dc.axis2d.common.createText[_237](this.chart,s,x+dx+_22b.x+(_227?0:_22c.x),y+dy+_22b.y+(_227?0:_22c.y),_22d,tick.label,_22e,_22f);if(_237=="html"){this.htmlElements.push(elem);}else{if(_227){elem.setTransform([{dx:_22c.x,dy:_22c.y},g.matrix.rotategAt(_227,x+dx+_22b.x,y+dy+_22b.y)]);}}}},this);dx=_22a.x*_231.length;dy=_22a.y*_231.length;_235=c.minMinorStep<=c.minor.tick*c.bounds.scale;dojo.forEach(t.minor,function(tick){var _239=f(tick.value),elem,x=_228.x+_229.x*_239,y=_228.y+_229.y*_239;s.createLine({x1:x,y1:y,x2:x+dx,y2:y+dy}).setStroke(_231);if(_235&&tick.label){elem=dc.axis2d.common.createText[_237](this.chart,s,x+dx+_22b.x+(_227?0:_22c.x),y+dy+_22b.y+(_227?0:_22c.y),_22d,tick.label,_22e,_22f);if(_237=="html"){this.htmlElements.push(elem);}else{if(_227){elem.setTransform([{dx:_22c.x,dy:_22c.y},g.matrix.rotategAt(_227,x+dx+_22b.x,y+dy+_22b.y)]);}}}},this);dx=_22a.x*_232.length;dy=_22a.y*_232.length;dojo.forEach(t.micro,function(tick){var _23a=f(tick.value),elem,x=_228.x+_229.x*_23a,y=_228.y+_229.y*_23a;s.createLine({x1:x,y1:y,x2:x+dx,y2:y+dy}).setStroke(_232);},this);}catch(e){}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.common"]){dojo._hasResource["dojox.charting.plot2d.common"]=true;dojo.provide("dojox.charting.plot2d.common");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common;dojo.mixin(dojox.charting.plot2d.common,{makeStroke:function(_23b){if(!_23b){return _23b;}if(typeof _23b=="string"||_23b instanceof dojo.Color){_23b={color:_23b};}return dojox.gfx.makeParameters(dojox.gfx.defaultStroke,_23b);},augmentColor:function(_23c,_23d){var t=new dojo.Color(_23c),c=new dojo.Color(_23d);c.a=t.a;return c;},augmentStroke:function(_23e,_23f){var s=dc.makeStroke(_23e);if(s){s.color=dc.augmentColor(s.color,_23f);}return s;},augmentFill:function(fill,_240){var fc,c=new dojo.Color(_240);if(typeof fill=="string"||fill instanceof dojo.Color){return dc.augmentColor(fill,_240);}return fill;},defaultStats:{hmin:Number.POSITIVE_INFINITY,hmax:Number.NEGATIVE_INFINITY,vmin:Number.POSITIVE_INFINITY,vmax:Number.NEGATIVE_INFINITY},collectSimpleStats:function(_241){var _242=dojo.delegate(dc.defaultStats);for(var i=0;i<_241.length;++i){var run=_241[i];for(var j=0;j<run.data.length;j++){if(run.data[j]!==null){if(typeof run.data[j]=="number"){var _243=_242.vmin,_244=_242.vmax;if(!("ymin" in run)||!("ymax" in run)){dojo.forEach(run.data,function(val,i){if(val!==null){var x=i+1,y=val;if(isNaN(y)){y=0;}_242.hmin=Math.min(_242.hmin,x);_242.hmax=Math.max(_242.hmax,x);_242.vmin=Math.min(_242.vmin,y);_242.vmax=Math.max(_242.vmax,y);}});}if("ymin" in run){_242.vmin=Math.min(_243,run.ymin);}if("ymax" in run){_242.vmax=Math.max(_244,run.ymax);}}else{var _245=_242.hmin,_246=_242.hmax,_243=_242.vmin,_244=_242.vmax;if(!("xmin" in run)||!("xmax" in run)||!("ymin" in run)||!("ymax" in run)){dojo.forEach(run.data,function(val,i){if(val!==null){var x="x" in val?val.x:i+1,y=val.y;if(isNaN(x)){x=0;}if(isNaN(y)){y=0;}_242.hmin=Math.min(_242.hmin,x);_242.hmax=Math.max(_242.hmax,x);_242.vmin=Math.min(_242.vmin,y);_242.vmax=Math.max(_242.vmax,y);}});}if("xmin" in run){_242.hmin=Math.min(_245,run.xmin);}if("xmax" in run){_242.hmax=Math.max(_246,run.xmax);}if("ymin" in run){_242.vmin=Math.min(_243,run.ymin);}if("ymax" in run){_242.vmax=Math.max(_244,run.ymax);}}break;}}}return _242;},calculateBarSize:function(_247,opt,_248){if(!_248){_248=1;}var gap=opt.gap,size=(_247-2*gap)/_248;if("minBarSize" in opt){size=Math.max(size,opt.minBarSize);}if("maxBarSize" in opt){size=Math.min(size,opt.maxBarSize);}size=Math.max(size,1);gap=(_247-size*_248)/2;return {size:size,gap:gap};},collectStackedStats:function(_249){var _24a=dojo.clone(dc.defaultStats);if(_249.length){_24a.hmin=Math.min(_24a.hmin,1);_24a.hmax=df.foldl(_249,"seed, run -> Math.max(seed, run.data.length)",_24a.hmax);for(var i=0;i<_24a.hmax;++i){var v=_249[0].data[i];if(isNaN(v)){v=0;}_24a.vmin=Math.min(_24a.vmin,v);for(var j=1;j<_249.length;++j){var t=_249[j].data[i];if(isNaN(t)){t=0;}v+=t;}_24a.vmax=Math.max(_24a.vmax,v);}}return _24a;},curve:function(a,_24b){var arr=a.slice(0);if(_24b=="x"){arr[arr.length]=arr[0];}var p=dojo.map(arr,function(item,i){if(i==0){return "M"+item.x+","+item.y;}if(!isNaN(_24b)){var dx=item.x-arr[i-1].x,dy=arr[i-1].y;return "C"+(item.x-(_24b-1)*(dx/_24b))+","+dy+" "+(item.x-(dx/_24b))+","+item.y+" "+item.x+","+item.y;}else{if(_24b=="X"||_24b=="x"||_24b=="S"){var p0,p1=arr[i-1],p2=arr[i],p3;var bz1x,bz1y,bz2x,bz2y;var f=1/6;if(i==1){if(_24b=="x"){p0=arr[arr.length-2];}else{p0=p1;}f=1/3;}else{p0=arr[i-2];}if(i==(arr.length-1)){if(_24b=="x"){p3=arr[1];}else{p3=p2;}f=1/3;}else{p3=arr[i+1];}var p1p2=Math.sqrt((p2.x-p1.x)*(p2.x-p1.x)+(p2.y-p1.y)*(p2.y-p1.y));var p0p2=Math.sqrt((p2.x-p0.x)*(p2.x-p0.x)+(p2.y-p0.y)*(p2.y-p0.y));var p1p3=Math.sqrt((p3.x-p1.x)*(p3.x-p1.x)+(p3.y-p1.y)*(p3.y-p1.y));var _24c=p0p2*f;var _24d=p1p3*f;if(_24c>p1p2/2&&_24d>p1p2/2){_24c=p1p2/2;_24d=p1p2/2;}else{if(_24c>p1p2/2){_24c=p1p2/2;_24d=p1p2/2*p1p3/p0p2;}else{if(_24d>p1p2/2){_24d=p1p2/2;_24c=p1p2/2*p0p2/p1p3;}}}if(_24b=="S"){if(p0==p1){_24c=0;}if(p2==p3){_24d=0;}}bz1x=p1.x+_24c*(p2.x-p0.x)/p0p2;bz1y=p1.y+_24c*(p2.y-p0.y)/p0p2;bz2x=p2.x-_24d*(p3.x-p1.x)/p1p3;bz2y=p2.y-_24d*(p3.y-p1.y)/p1p3;}}return "C"+(bz1x+","+bz1y+" "+bz2x+","+bz2y+" "+p2.x+","+p2.y);});return p.join(" ");}});})();}if(!dojo._hasResource["dojox.charting.scaler.primitive"]){dojo._hasResource["dojox.charting.scaler.primitive"]=true;dojo.provide("dojox.charting.scaler.primitive");dojox.charting.scaler.primitive={buildScaler:function(min,max,span,_24e){if(min==max){min-=0.5;max+=0.5;}return {bounds:{lower:min,upper:max,from:min,to:max,scale:span/(max-min),span:span},scaler:dojox.charting.scaler.primitive};},buildTicks:function(_24f,_250){return {major:[],minor:[],micro:[]};},getTransformerFromModel:function(_251){var _252=_251.bounds.from,_253=_251.bounds.scale;return function(x){return (x-_252)*_253;};},getTransformerFromPlot:function(_254){var _255=_254.bounds.from,_256=_254.bounds.scale;return function(x){return x/_256+_255;};}};}if(!dojo._hasResource["dojox.charting.plot2d._PlotEvents"]){dojo._hasResource["dojox.charting.plot2d._PlotEvents"]=true;dojo.provide("dojox.charting.plot2d._PlotEvents");dojo.declare("dojox.charting.plot2d._PlotEvents",null,{constructor:function(){this._shapeEvents=[];this._eventSeries={};},destroy:function(){this.resetEvents();this.inherited(arguments);},plotEvent:function(o){},raiseEvent:function(o){this.plotEvent(o);var t=dojo.delegate(o);t.originalEvent=o.type;t.originalPlot=o.plot;t.type="onindirect";dojo.forEach(this.chart.stack,function(plot){if(plot!==this&&plot.plotEvent){t.plot=plot;plot.plotEvent(t);}},this);},connect:function(_257,_258){this.dirty=true;return dojo.connect(this,"plotEvent",_257,_258);},events:function(){var ls=this.plotEvent._listeners;if(!ls||!ls.length){return false;}for(var i in ls){if(!(i in Array.prototype)){return true;}}return false;},resetEvents:function(){if(this._shapeEvents.length){dojo.forEach(this._shapeEvents,function(item){item.shape.disconnect(item.handle);});this._shapeEvents=[];}this.raiseEvent({type:"onplotreset",plot:this});},_connectSingleEvent:function(o,_259){this._shapeEvents.push({shape:o.eventMask,handle:o.eventMask.connect(_259,this,function(e){o.type=_259;o.event=e;this.raiseEvent(o);o.event=null;})});},_connectEvents:function(o){o.chart=this.chart;o.plot=this;o.hAxis=this.hAxis||null;o.vAxis=this.vAxis||null;o.eventMask=o.eventMask||o.shape;this._connectSingleEvent(o,"onmouseover");this._connectSingleEvent(o,"onmouseout");this._connectSingleEvent(o,"onclick");},_reconnectEvents:function(_25a){var a=this._eventSeries[_25a];if(a){dojo.forEach(a,this._connectEvents,this);}},fireEvent:function(_25b,_25c,_25d,_25e){var s=this._eventSeries[_25b];if(s&&s.length&&_25d<s.length){var o=s[_25d];o.type=_25c;o.event=_25e||null;this.raiseEvent(o);o.event=null;}}});}if(!dojo._hasResource["dojox.charting.plot2d.Base"]){dojo._hasResource["dojox.charting.plot2d.Base"]=true;dojo.provide("dojox.charting.plot2d.Base");dojo.declare("dojox.charting.plot2d.Base",[dojox.charting.Element,dojox.charting.plot2d._PlotEvents],{constructor:function(_25f,_260){this.zoom=null,this.zoomQueue=[];this.lastWindow={vscale:1,hscale:1,xoffset:0,yoffset:0};},clear:function(){this.series=[];this._hAxis=null;this._vAxis=null;this.dirty=true;return this;},setAxis:function(axis){if(axis){this[axis.vertical?"_vAxis":"_hAxis"]=axis;}return this;},addSeries:function(run){this.series.push(run);return this;},getSeriesStats:function(){return dojox.charting.plot2d.common.collectSimpleStats(this.series);},calculateAxes:function(dim){this.initializeScalers(dim,this.getSeriesStats());return this;},isDirty:function(){return this.dirty||this._hAxis&&this._hAxis.dirty||this._vAxis&&this._vAxis.dirty;},isDataDirty:function(){return dojo.some(this.series,function(item){return item.dirty;});},performZoom:function(dim,_261){var vs=this._vAxis.scale||1,hs=this._hAxis.scale||1,_262=dim.height-_261.b,_263=this._hScaler.bounds,_264=(_263.from-_263.lower)*_263.scale,_265=this._vScaler.bounds,_266=(_265.from-_265.lower)*_265.scale;rVScale=vs/this.lastWindow.vscale,rHScale=hs/this.lastWindow.hscale,rXOffset=(this.lastWindow.xoffset-_264)/((this.lastWindow.hscale==1)?hs:this.lastWindow.hscale),rYOffset=(_266-this.lastWindow.yoffset)/((this.lastWindow.vscale==1)?vs:this.lastWindow.vscale),shape=this.group,anim=dojox.gfx.fx.animateTransform(dojo.delegate({shape:shape,duration:1200,transform:[{name:"translate",start:[0,0],end:[_261.l*(1-rHScale),_262*(1-rVScale)]},{name:"scale",start:[1,1],end:[rHScale,rVScale]},{name:"original"},{name:"translate",start:[0,0],end:[rXOffset,rYOffset]}]},this.zoom));dojo.mixin(this.lastWindow,{vscale:vs,hscale:hs,xoffset:_264,yoffset:_266});this.zoomQueue.push(anim);dojo.connect(anim,"onEnd",this,function(){this.zoom=null;this.zoomQueue.shift();if(this.zoomQueue.length>0){this.zoomQueue[0].play();}});if(this.zoomQueue.length==1){this.zoomQueue[0].play();}return this;},render:function(dim,_267){return this;},getRequiredColors:function(){return this.series.length;},initializeScalers:function(dim,_268){if(this._hAxis){if(!this._hAxis.initialized()){this._hAxis.calculate(_268.hmin,_268.hmax,dim.width);}this._hScaler=this._hAxis.getScaler();}else{this._hScaler=dojox.charting.scaler.primitive.buildScaler(_268.hmin,_268.hmax,dim.width);}if(this._vAxis){if(!this._vAxis.initialized()){this._vAxis.calculate(_268.vmin,_268.vmax,dim.height);}this._vScaler=this._vAxis.getScaler();}else{this._vScaler=dojox.charting.scaler.primitive.buildScaler(_268.vmin,_268.vmax,dim.height);}return this;}});}if(!dojo._hasResource["dojox.gfx.fx"]){dojo._hasResource["dojox.gfx.fx"]=true;dojo.provide("dojox.gfx.fx");(function(){var d=dojo,g=dojox.gfx,m=g.matrix;var _269=function(_26a,end){this.start=_26a,this.end=end;};d.extend(_269,{getValue:function(r){return (this.end-this.start)*r+this.start;}});var _26b=function(_26c,end,_26d){this.start=_26c,this.end=end;this.units=_26d;};d.extend(_26b,{getValue:function(r){return (this.end-this.start)*r+this.start+this.units;}});var _26e=function(_26f,end){this.start=_26f,this.end=end;this.temp=new dojo.Color();};d.extend(_26e,{getValue:function(r){return d.blendColors(this.start,this.end,r,this.temp);}});var _270=function(_271){this.values=_271;this.length=_271.length;};d.extend(_270,{getValue:function(r){return this.values[Math.min(Math.floor(r*this.length),this.length-1)];}});var _272=function(_273,def){this.values=_273;this.def=def?def:{};};d.extend(_272,{getValue:function(r){var ret=dojo.clone(this.def);for(var i in this.values){ret[i]=this.values[i].getValue(r);}return ret;}});var _274=function(_275,_276){this.stack=_275;this.original=_276;};d.extend(_274,{getValue:function(r){var ret=[];dojo.forEach(this.stack,function(t){if(t instanceof m.Matrix2D){ret.push(t);return;}if(t.name=="original"&&this.original){ret.push(this.original);return;}if(!(t.name in m)){return;}var f=m[t.name];if(typeof f!="function"){ret.push(f);return;}var val=dojo.map(t.start,function(v,i){return (t.end[i]-v)*r+v;}),_277=f.apply(m,val);if(_277 instanceof m.Matrix2D){ret.push(_277);}},this);return ret;}});var _278=new d.Color(0,0,0,0);var _279=function(prop,obj,name,def){if(prop.values){return new _270(prop.values);}var _27a,_27b,end;if(prop.start){_27b=g.normalizeColor(prop.start);}else{_27b=_27a=obj?(name?obj[name]:obj):def;}if(prop.end){end=g.normalizeColor(prop.end);}else{if(!_27a){_27a=obj?(name?obj[name]:obj):def;}end=_27a;}return new _26e(_27b,end);};var _27c=function(prop,obj,name,def){if(prop.values){return new _270(prop.values);}var _27d,_27e,end;if(prop.start){_27e=prop.start;}else{_27e=_27d=obj?obj[name]:def;}if(prop.end){end=prop.end;}else{if(typeof _27d!="number"){_27d=obj?obj[name]:def;}end=_27d;}return new _269(_27e,end);};g.fx.animateStroke=function(args){if(!args.easing){args.easing=d._defaultEasing;}var anim=new d.Animation(args),_27f=args.shape,_280;d.connect(anim,"beforeBegin",anim,function(){_280=_27f.getStroke();var prop=args.color,_281={},_282,_283,end;if(prop){_281.color=_279(prop,_280,"color",_278);}prop=args.style;if(prop&&prop.values){_281.style=new _270(prop.values);}prop=args.width;if(prop){_281.width=_27c(prop,_280,"width",1);}prop=args.cap;if(prop&&prop.values){_281.cap=new _270(prop.values);}prop=args.join;if(prop){if(prop.values){_281.join=new _270(prop.values);}else{_283=prop.start?prop.start:(_280&&_280.join||0);end=prop.end?prop.end:(_280&&_280.join||0);if(typeof _283=="number"&&typeof end=="number"){_281.join=new _269(_283,end);}}}this.curve=new _272(_281,_280);});d.connect(anim,"onAnimate",_27f,"setStroke");return anim;};g.fx.animateFill=function(args){if(!args.easing){args.easing=d._defaultEasing;}var anim=new d.Animation(args),_284=args.shape,fill;d.connect(anim,"beforeBegin",anim,function(){fill=_284.getFill();var prop=args.color,_285={};if(prop){this.curve=_279(prop,fill,"",_278);}});d.connect(anim,"onAnimate",_284,"setFill");return anim;};g.fx.animateFont=function(args){if(!args.easing){args.easing=d._defaultEasing;}var anim=new d.Animation(args),_286=args.shape,font;d.connect(anim,"beforeBegin",anim,function(){font=_286.getFont();var prop=args.style,_287={},_288,_289,end;if(prop&&prop.values){_287.style=new _270(prop.values);}prop=args.variant;if(prop&&prop.values){_287.variant=new _270(prop.values);}prop=args.weight;if(prop&&prop.values){_287.weight=new _270(prop.values);}prop=args.family;if(prop&&prop.values){_287.family=new _270(prop.values);}prop=args.size;if(prop&&prop.units){_289=parseFloat(prop.start?prop.start:(_286.font&&_286.font.size||"0"));end=parseFloat(prop.end?prop.end:(_286.font&&_286.font.size||"0"));_287.size=new _26b(_289,end,prop.units);}this.curve=new _272(_287,font);});d.connect(anim,"onAnimate",_286,"setFont");return anim;};g.fx.animateTransform=function(args){if(!args.easing){args.easing=d._defaultEasing;}var anim=new d.Animation(args),_28a=args.shape,_28b;d.connect(anim,"beforeBegin",anim,function(){_28b=_28a.getTransform();this.curve=new _274(args.transform,_28b);});d.connect(anim,"onAnimate",_28a,"setTransform");return anim;};})();}if(!dojo._hasResource["dojox.charting.plot2d.Default"]){dojo._hasResource["dojox.charting.plot2d.Default"]=true;dojo.provide("dojox.charting.plot2d.Default");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_28c=df.lambda("item.purgeGroup()");var _28d=1200;dojo.declare("dojox.charting.plot2d.Default",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",lines:true,areas:false,markers:false,tension:"",animate:false},optionalParams:{stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:"",markerStroke:{},markerOutline:{},markerShadow:{},markerFill:{},markerFont:"",markerFontColor:""},constructor:function(_28e,_28f){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_28f);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},render:function(dim,_290){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_290);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_28c);this._eventSeries={};this.cleanGroup();this.group.setTransform(null);var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,_291,_292,_293,_294=this.events();for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();if(!run.data.length){run.dirty=false;t.skip();continue;}var _295=t.next(this.opt.areas?"area":"line",[this.opt,run],true),s=run.group,_296=[],_297=[],rseg=null,_298,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_299=this._eventSeries[run.name]=new Array(run.data.length);for(var j=0;j<run.data.length;j++){if(run.data[j]!=null){if(!rseg){rseg=[];_297.push(j);_296.push(rseg);}rseg.push(run.data[j]);}else{rseg=null;}}for(var seg=0;seg<_296.length;seg++){if(typeof _296[seg][0]=="number"){_298=dojo.map(_296[seg],function(v,i){return {x:ht(i+_297[seg]+1)+_290.l,y:dim.height-_290.b-vt(v)};},this);}else{_298=dojo.map(_296[seg],function(v,i){return {x:ht(v.x)+_290.l,y:dim.height-_290.b-vt(v.y)};},this);}var _29a=this.opt.tension?dc.curve(_298,this.opt.tension):"";if(this.opt.areas&&_298.length>1){var fill=_295.series.fill;var _29b=dojo.clone(_298);if(this.opt.tension){var _29c="L"+_29b[_29b.length-1].x+","+(dim.height-_290.b)+" L"+_29b[0].x+","+(dim.height-_290.b)+" L"+_29b[0].x+","+_29b[0].y;run.dyn.fill=s.createPath(_29a+" "+_29c).setFill(fill).getFill();}else{_29b.push({x:_298[_298.length-1].x,y:dim.height-_290.b});_29b.push({x:_298[0].x,y:dim.height-_290.b});_29b.push(_298[0]);run.dyn.fill=s.createPolyline(_29b).setFill(fill).getFill();}}if(this.opt.lines||this.opt.markers){_291=_295.series.stroke;if(_295.series.outline){_292=run.dyn.outline=dc.makeStroke(_295.series.outline);_292.width=2*_292.width+_291.width;}}if(this.opt.markers){run.dyn.marker=_295.symbol;}var _29d=null,_29e=null,_29f=null;if(_291&&_295.series.shadow&&_298.length>1){var _2a0=_295.series.shadow,_2a1=dojo.map(_298,function(c){return {x:c.x+_2a0.dx,y:c.y+_2a0.dy};});if(this.opt.lines){if(this.opt.tension){run.dyn.shadow=s.createPath(dc.curve(_2a1,this.opt.tension)).setStroke(_2a0).getStroke();}else{run.dyn.shadow=s.createPolyline(_2a1).setStroke(_2a0).getStroke();}}if(this.opt.markers&&_295.marker.shadow){_2a0=_295.marker.shadow;_29f=dojo.map(_2a1,function(c){return s.createPath("M"+c.x+" "+c.y+" "+_295.symbol).setStroke(_2a0).setFill(_2a0.color);},this);}}if(this.opt.lines&&_298.length>1){if(_292){if(this.opt.tension){run.dyn.outline=s.createPath(_29a).setStroke(_292).getStroke();}else{run.dyn.outline=s.createPolyline(_298).setStroke(_292).getStroke();}}if(this.opt.tension){run.dyn.stroke=s.createPath(_29a).setStroke(_291).getStroke();}else{run.dyn.stroke=s.createPolyline(_298).setStroke(_291).getStroke();}}if(this.opt.markers){_29d=new Array(_298.length);_29e=new Array(_298.length);_292=null;if(_295.marker.outline){_292=dc.makeStroke(_295.marker.outline);_292.width=2*_292.width+(_295.marker.stroke?_295.marker.stroke.width:0);}dojo.forEach(_298,function(c,i){var path="M"+c.x+" "+c.y+" "+_295.symbol;if(_292){_29e[i]=s.createPath(path).setStroke(_292);}_29d[i]=s.createPath(path).setStroke(_295.marker.stroke).setFill(_295.marker.fill);},this);if(_294){dojo.forEach(_29d,function(s,i){var o={element:"marker",index:i+_297[seg],run:run,shape:s,outline:_29e[i]||null,shadow:_29f&&_29f[i]||null,cx:_298[i].x,cy:_298[i].y};if(typeof _296[seg][0]=="number"){o.x=i+_297[seg]+1;o.y=_296[seg][i];}else{o.x=_296[seg][i].x;o.y=_296[seg][i].y;}this._connectEvents(o);_299[i+_297[seg]]=o;},this);}else{delete this._eventSeries[run.name];}}}run.dirty=false;}if(this.animate){var _2a2=this.group;dojox.gfx.fx.animateTransform(dojo.delegate({shape:_2a2,duration:_28d,transform:[{name:"translate",start:[0,dim.height-_290.b],end:[0,0]},{name:"scale",start:[1,0],end:[1,1]},{name:"original"}]},this.animate)).play();}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Lines"]){dojo._hasResource["dojox.charting.plot2d.Lines"]=true;dojo.provide("dojox.charting.plot2d.Lines");dojo.declare("dojox.charting.plot2d.Lines",dojox.charting.plot2d.Default,{constructor:function(){this.opt.lines=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.Areas"]){dojo._hasResource["dojox.charting.plot2d.Areas"]=true;dojo.provide("dojox.charting.plot2d.Areas");dojo.declare("dojox.charting.plot2d.Areas",dojox.charting.plot2d.Default,{constructor:function(){this.opt.lines=true;this.opt.areas=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.Markers"]){dojo._hasResource["dojox.charting.plot2d.Markers"]=true;dojo.provide("dojox.charting.plot2d.Markers");dojo.declare("dojox.charting.plot2d.Markers",dojox.charting.plot2d.Default,{constructor:function(){this.opt.markers=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.MarkersOnly"]){dojo._hasResource["dojox.charting.plot2d.MarkersOnly"]=true;dojo.provide("dojox.charting.plot2d.MarkersOnly");dojo.declare("dojox.charting.plot2d.MarkersOnly",dojox.charting.plot2d.Default,{constructor:function(){this.opt.lines=false;this.opt.markers=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.Scatter"]){dojo._hasResource["dojox.charting.plot2d.Scatter"]=true;dojo.provide("dojox.charting.plot2d.Scatter");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_2a3=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Scatter",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",shadows:null,animate:null},optionalParams:{markerStroke:{},markerOutline:{},markerShadow:{},markerFill:{},markerFont:"",markerFontColor:""},constructor:function(_2a4,_2a5){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_2a5);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},render:function(dim,_2a6){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2a6);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_2a3);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,_2a7=this.events();for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();if(!run.data.length){run.dirty=false;t.skip();continue;}var _2a8=t.next("marker",[this.opt,run]),s=run.group,_2a9,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler);if(typeof run.data[0]=="number"){_2a9=dojo.map(run.data,function(v,i){return {x:ht(i+1)+_2a6.l,y:dim.height-_2a6.b-vt(v)};},this);}else{_2a9=dojo.map(run.data,function(v,i){return {x:ht(v.x)+_2a6.l,y:dim.height-_2a6.b-vt(v.y)};},this);}var _2aa=new Array(_2a9.length),_2ab=new Array(_2a9.length),_2ac=new Array(_2a9.length);dojo.forEach(_2a9,function(c,i){var _2ad=typeof run.data[i]=="number"?t.post(_2a8,"marker"):t.addMixin(_2a8,"marker",run.data[i],true),path="M"+c.x+" "+c.y+" "+_2ad.symbol;if(_2ad.marker.shadow){_2aa[i]=s.createPath("M"+(c.x+_2ad.marker.shadow.dx)+" "+(c.y+_2ad.marker.shadow.dy)+" "+_2ad.symbol).setStroke(_2ad.marker.shadow).setFill(_2ad.marker.shadow.color);if(this.animate){this._animateScatter(_2aa[i],dim.height-_2a6.b);}}if(_2ad.marker.outline){var _2ae=dc.makeStroke(_2ad.marker.outline);_2ae.width=2*_2ae.width+_2ad.marker.stroke.width;_2ac[i]=s.createPath(path).setStroke(_2ae);if(this.animate){this._animateScatter(_2ac[i],dim.height-_2a6.b);}}var _2af=dc.makeStroke(_2ad.marker.stroke),fill=this._plotFill(_2ad.marker.fill,dim,_2a6);if(fill&&(fill.type==="linear"||fill.type=="radial")){var _2b0=dojox.gfx.gradutils.getColor(fill,{x:c.x,y:c.y});if(_2af){_2af.color=_2b0;}_2ab[i]=s.createPath(path).setStroke(_2af).setFill(_2b0);}else{_2ab[i]=s.createPath(path).setStroke(_2af).setFill(fill);}if(this.animate){this._animateScatter(_2ab[i],dim.height-_2a6.b);}},this);if(_2ab.length){run.dyn.stroke=_2ab[_2ab.length-1].getStroke();run.dyn.fill=_2ab[_2ab.length-1].getFill();}if(_2a7){var _2b1=new Array(_2ab.length);dojo.forEach(_2ab,function(s,i){var o={element:"marker",index:i,run:run,shape:s,outline:_2ac&&_2ac[i]||null,shadow:_2aa&&_2aa[i]||null,cx:_2a9[i].x,cy:_2a9[i].y};if(typeof run.data[0]=="number"){o.x=i+1;o.y=run.data[i];}else{o.x=run.data[i].x;o.y=run.data[i].y;}this._connectEvents(o);_2b1[i]=o;},this);this._eventSeries[run.name]=_2b1;}else{delete this._eventSeries[run.name];}run.dirty=false;}this.dirty=false;return this;},_animateScatter:function(_2b2,_2b3){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_2b2,duration:1200,transform:[{name:"translate",start:[0,_2b3],end:[0,0]},{name:"scale",start:[0,0],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.lang.functional.sequence"]){dojo._hasResource["dojox.lang.functional.sequence"]=true;dojo.provide("dojox.lang.functional.sequence");(function(){var d=dojo,df=dojox.lang.functional;d.mixin(df,{repeat:function(n,f,z,o){o=o||d.global;f=df.lambda(f);var t=new Array(n),i=1;t[0]=z;for(;i<n;t[i]=z=f.call(o,z),++i){}return t;},until:function(pr,f,z,o){o=o||d.global;f=df.lambda(f);pr=df.lambda(pr);var t=[];for(;!pr.call(o,z);t.push(z),z=f.call(o,z)){}return t;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Stacked"]){dojo._hasResource["dojox.charting.plot2d.Stacked"]=true;dojo.provide("dojox.charting.plot2d.Stacked");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common,_2b4=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Stacked",dojox.charting.plot2d.Default,{getSeriesStats:function(){var _2b5=dc.collectStackedStats(this.series);this._maxRunLength=_2b5.hmax;return _2b5;},render:function(dim,_2b6){if(this._maxRunLength<=0){return this;}var acc=df.repeat(this._maxRunLength,"-> 0",0);for(var i=0;i<this.series.length;++i){var run=this.series[i];for(var j=0;j<run.data.length;++j){var v=run.data[j];if(v!==null){if(isNaN(v)){v=0;}acc[j]+=v;}}}if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2b6);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_2b4);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,_2b7=this.events(),ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler);for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _2b8=t.next(this.opt.areas?"area":"line",[this.opt,run],true),s=run.group,_2b9,_2ba=dojo.map(acc,function(v,i){return {x:ht(i+1)+_2b6.l,y:dim.height-_2b6.b-vt(v)};},this);var _2bb=this.opt.tension?dc.curve(_2ba,this.opt.tension):"";if(this.opt.areas){var _2bc=dojo.clone(_2ba);if(this.opt.tension){var p=dc.curve(_2bc,this.opt.tension);p+=" L"+_2ba[_2ba.length-1].x+","+(dim.height-_2b6.b)+" L"+_2ba[0].x+","+(dim.height-_2b6.b)+" L"+_2ba[0].x+","+_2ba[0].y;run.dyn.fill=s.createPath(p).setFill(_2b8.series.fill).getFill();}else{_2bc.push({x:_2ba[_2ba.length-1].x,y:dim.height-_2b6.b});_2bc.push({x:_2ba[0].x,y:dim.height-_2b6.b});_2bc.push(_2ba[0]);run.dyn.fill=s.createPolyline(_2bc).setFill(_2b8.series.fill).getFill();}}if(this.opt.lines||this.opt.markers){if(_2b8.series.outline){_2b9=dc.makeStroke(_2b8.series.outline);_2b9.width=2*_2b9.width+_2b8.series.stroke.width;}}if(this.opt.markers){run.dyn.marker=_2b8.symbol;}var _2bd,_2be,_2bf;if(_2b8.series.shadow&&_2b8.series.stroke){var _2c0=_2b8.series.shadow,_2c1=dojo.map(_2ba,function(c){return {x:c.x+_2c0.dx,y:c.y+_2c0.dy};});if(this.opt.lines){if(this.opt.tension){run.dyn.shadow=s.createPath(dc.curve(_2c1,this.opt.tension)).setStroke(_2c0).getStroke();}else{run.dyn.shadow=s.createPolyline(_2c1).setStroke(_2c0).getStroke();}}if(this.opt.markers){_2c0=_2b8.marker.shadow;_2bf=dojo.map(_2c1,function(c){return s.createPath("M"+c.x+" "+c.y+" "+_2b8.symbol).setStroke(_2c0).setFill(_2c0.color);},this);}}if(this.opt.lines){if(_2b9){if(this.opt.tension){run.dyn.outline=s.createPath(_2bb).setStroke(_2b9).getStroke();}else{run.dyn.outline=s.createPolyline(_2ba).setStroke(_2b9).getStroke();}}if(this.opt.tension){run.dyn.stroke=s.createPath(_2bb).setStroke(_2b8.series.stroke).getStroke();}else{run.dyn.stroke=s.createPolyline(_2ba).setStroke(_2b8.series.stroke).getStroke();}}if(this.opt.markers){_2bd=new Array(_2ba.length);_2be=new Array(_2ba.length);_2b9=null;if(_2b8.marker.outline){_2b9=dc.makeStroke(_2b8.marker.outline);_2b9.width=2*_2b9.width+(_2b8.marker.stroke?_2b8.marker.stroke.width:0);}dojo.forEach(_2ba,function(c,i){var path="M"+c.x+" "+c.y+" "+_2b8.symbol;if(_2b9){_2be[i]=s.createPath(path).setStroke(_2b9);}_2bd[i]=s.createPath(path).setStroke(_2b8.marker.stroke).setFill(_2b8.marker.fill);},this);if(_2b7){var _2c2=new Array(_2bd.length);dojo.forEach(_2bd,function(s,i){var o={element:"marker",index:i,run:run,shape:s,outline:_2be[i]||null,shadow:_2bf&&_2bf[i]||null,cx:_2ba[i].x,cy:_2ba[i].y,x:i+1,y:run.data[i]};this._connectEvents(o);_2c2[i]=o;},this);this._eventSeries[run.name]=_2c2;}else{delete this._eventSeries[run.name];}}run.dirty=false;for(var j=0;j<run.data.length;++j){var v=run.data[j];if(v!==null){if(isNaN(v)){v=0;}acc[j]-=v;}}}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.StackedLines"]){dojo._hasResource["dojox.charting.plot2d.StackedLines"]=true;dojo.provide("dojox.charting.plot2d.StackedLines");dojo.declare("dojox.charting.plot2d.StackedLines",dojox.charting.plot2d.Stacked,{constructor:function(){this.opt.lines=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.StackedAreas"]){dojo._hasResource["dojox.charting.plot2d.StackedAreas"]=true;dojo.provide("dojox.charting.plot2d.StackedAreas");dojo.declare("dojox.charting.plot2d.StackedAreas",dojox.charting.plot2d.Stacked,{constructor:function(){this.opt.lines=true;this.opt.areas=true;}});}if(!dojo._hasResource["dojox.charting.plot2d.Columns"]){dojo._hasResource["dojox.charting.plot2d.Columns"]=true;dojo.provide("dojox.charting.plot2d.Columns");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_2c3=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Columns",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",gap:0,animate:null},optionalParams:{minBarSize:1,maxBarSize:1,stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_2c4,_2c5){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_2c5);du.updateWithPattern(this.opt,_2c5,this.optionalParams);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},getSeriesStats:function(){var _2c6=dc.collectSimpleStats(this.series);_2c6.hmin-=0.5;_2c6.hmax+=0.5;return _2c6;},render:function(dim,_2c7){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2c7);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_2c3);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_2c8,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_2c9=Math.max(0,this._vScaler.bounds.lower),_2ca=vt(_2c9),_2cb=this.events();f=dc.calculateBarSize(this._hScaler.bounds.scale,this.opt);gap=f.gap;_2c8=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _2cc=t.next("column",[this.opt,run]),s=run.group,_2cd=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var _2ce=run.data[j];if(_2ce!==null){var v=typeof _2ce=="number"?_2ce:_2ce.y,vv=vt(v),_2cf=vv-_2ca,h=Math.abs(_2cf),_2d0=typeof _2ce!="number"?t.addMixin(_2cc,"column",_2ce,true):t.post(_2cc,"column");if(_2c8>=1&&h>=1){var rect={x:_2c7.l+ht(j+0.5)+gap,y:dim.height-_2c7.b-(v>_2c9?vv:_2ca),width:_2c8,height:h};var _2d1=this._plotFill(_2d0.series.fill,dim,_2c7);_2d1=this._shapeFill(_2d1,rect);var _2d2=s.createRect(rect).setFill(_2d1).setStroke(_2d0.series.stroke);run.dyn.fill=_2d2.getFill();run.dyn.stroke=_2d2.getStroke();if(_2cb){var o={element:"column",index:j,run:run,shape:_2d2,x:j+0.5,y:v};this._connectEvents(o);_2cd[j]=o;}if(this.animate){this._animateColumn(_2d2,dim.height-_2c7.b-_2ca,h);}}}}this._eventSeries[run.name]=_2cd;run.dirty=false;}this.dirty=false;return this;},_animateColumn:function(_2d3,_2d4,_2d5){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_2d3,duration:1200,transform:[{name:"translate",start:[0,_2d4-(_2d4/_2d5)],end:[0,0]},{name:"scale",start:[1,1/_2d5],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.charting.plot2d.StackedColumns"]){dojo._hasResource["dojox.charting.plot2d.StackedColumns"]=true;dojo.provide("dojox.charting.plot2d.StackedColumns");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common,_2d6=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.StackedColumns",dojox.charting.plot2d.Columns,{getSeriesStats:function(){var _2d7=dc.collectStackedStats(this.series);this._maxRunLength=_2d7.hmax;_2d7.hmin-=0.5;_2d7.hmax+=0.5;return _2d7;},render:function(dim,_2d8){if(this._maxRunLength<=0){return this;}var acc=df.repeat(this._maxRunLength,"-> 0",0);for(var i=0;i<this.series.length;++i){var run=this.series[i];for(var j=0;j<run.data.length;++j){var _2d9=run.data[j];if(_2d9!==null){var v=typeof _2d9=="number"?_2d9:_2d9.y;if(isNaN(v)){v=0;}acc[j]+=v;}}}if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2d8);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_2d6);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_2da,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_2db=this.events();f=dc.calculateBarSize(this._hScaler.bounds.scale,this.opt);gap=f.gap;_2da=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _2dc=t.next("column",[this.opt,run]),s=run.group,_2dd=new Array(acc.length);for(var j=0;j<acc.length;++j){var _2d9=run.data[j];if(_2d9!==null){var v=acc[j],_2de=vt(v),_2df=typeof _2d9!="number"?t.addMixin(_2dc,"column",_2d9,true):t.post(_2dc,"column");if(_2da>=1&&_2de>=1){var rect={x:_2d8.l+ht(j+0.5)+gap,y:dim.height-_2d8.b-vt(v),width:_2da,height:_2de};var _2e0=this._plotFill(_2df.series.fill,dim,_2d8);_2e0=this._shapeFill(_2e0,rect);var _2e1=s.createRect(rect).setFill(_2e0).setStroke(_2df.series.stroke);run.dyn.fill=_2e1.getFill();run.dyn.stroke=_2e1.getStroke();if(_2db){var o={element:"column",index:j,run:run,shape:_2e1,x:j+0.5,y:v};this._connectEvents(o);_2dd[j]=o;}if(this.animate){this._animateColumn(_2e1,dim.height-_2d8.b,_2de);}}}}this._eventSeries[run.name]=_2dd;run.dirty=false;for(var j=0;j<run.data.length;++j){var _2d9=run.data[j];if(_2d9!==null){var v=typeof _2d9=="number"?_2d9:_2d9.y;if(isNaN(v)){v=0;}acc[j]-=v;}}}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.ClusteredColumns"]){dojo._hasResource["dojox.charting.plot2d.ClusteredColumns"]=true;dojo.provide("dojox.charting.plot2d.ClusteredColumns");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common,_2e2=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.ClusteredColumns",dojox.charting.plot2d.Columns,{render:function(dim,_2e3){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2e3);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_2e2);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_2e4,_2e5,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_2e6=Math.max(0,this._vScaler.bounds.lower),_2e7=vt(_2e6),_2e8=this.events();f=dc.calculateBarSize(this._hScaler.bounds.scale,this.opt,this.series.length);gap=f.gap;_2e4=_2e5=f.size;for(var i=0;i<this.series.length;++i){var run=this.series[i],_2e9=_2e5*i;if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _2ea=t.next("column",[this.opt,run]),s=run.group,_2eb=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var _2ec=run.data[j];if(_2ec!==null){var v=typeof _2ec=="number"?_2ec:_2ec.y,vv=vt(v),_2ed=vv-_2e7,h=Math.abs(_2ed),_2ee=typeof _2ec!="number"?t.addMixin(_2ea,"column",_2ec,true):t.post(_2ea,"column");if(_2e4>=1&&h>=1){var rect={x:_2e3.l+ht(j+0.5)+gap+_2e9,y:dim.height-_2e3.b-(v>_2e6?vv:_2e7),width:_2e4,height:h};var _2ef=this._plotFill(_2ee.series.fill,dim,_2e3);_2ef=this._shapeFill(_2ef,rect);var _2f0=s.createRect(rect).setFill(_2ef).setStroke(_2ee.series.stroke);run.dyn.fill=_2f0.getFill();run.dyn.stroke=_2f0.getStroke();if(_2e8){var o={element:"column",index:j,run:run,shape:_2f0,x:j+0.5,y:v};this._connectEvents(o);_2eb[j]=o;}if(this.animate){this._animateColumn(_2f0,dim.height-_2e3.b-_2e7,h);}}}}this._eventSeries[run.name]=_2eb;run.dirty=false;}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Bars"]){dojo._hasResource["dojox.charting.plot2d.Bars"]=true;dojo.provide("dojox.charting.plot2d.Bars");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_2f1=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Bars",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",gap:0,animate:null},optionalParams:{minBarSize:1,maxBarSize:1,stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_2f2,_2f3){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_2f3);du.updateWithPattern(this.opt,_2f3,this.optionalParams);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},getSeriesStats:function(){var _2f4=dc.collectSimpleStats(this.series),t;_2f4.hmin-=0.5;_2f4.hmax+=0.5;t=_2f4.hmin,_2f4.hmin=_2f4.vmin,_2f4.vmin=t;t=_2f4.hmax,_2f4.hmax=_2f4.vmax,_2f4.vmax=t;return _2f4;},render:function(dim,_2f5){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_2f5);}this.dirty=this.isDirty();this.resetEvents();if(this.dirty){dojo.forEach(this.series,_2f1);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_2f6,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_2f7=Math.max(0,this._hScaler.bounds.lower),_2f8=ht(_2f7),_2f9=this.events();f=dc.calculateBarSize(this._vScaler.bounds.scale,this.opt);gap=f.gap;_2f6=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _2fa=t.next("bar",[this.opt,run]),s=run.group,_2fb=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var _2fc=run.data[j];if(_2fc!==null){var v=typeof _2fc=="number"?_2fc:_2fc.y,hv=ht(v),_2fd=hv-_2f8,w=Math.abs(_2fd),_2fe=typeof _2fc!="number"?t.addMixin(_2fa,"bar",_2fc,true):t.post(_2fa,"bar");if(w>=1&&_2f6>=1){var rect={x:_2f5.l+(v<_2f7?hv:_2f8),y:dim.height-_2f5.b-vt(j+1.5)+gap,width:w,height:_2f6};var _2ff=this._plotFill(_2fe.series.fill,dim,_2f5);_2ff=this._shapeFill(_2ff,rect);var _300=s.createRect(rect).setFill(_2ff).setStroke(_2fe.series.stroke);run.dyn.fill=_300.getFill();run.dyn.stroke=_300.getStroke();if(_2f9){var o={element:"bar",index:j,run:run,shape:_300,x:v,y:j+1.5};this._connectEvents(o);_2fb[j]=o;}if(this.animate){this._animateBar(_300,_2f5.l+_2f8,-w);}}}}this._eventSeries[run.name]=_2fb;run.dirty=false;}this.dirty=false;return this;},_animateBar:function(_301,_302,_303){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_301,duration:1200,transform:[{name:"translate",start:[_302-(_302/_303),0],end:[0,0]},{name:"scale",start:[1/_303,1],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.charting.plot2d.StackedBars"]){dojo._hasResource["dojox.charting.plot2d.StackedBars"]=true;dojo.provide("dojox.charting.plot2d.StackedBars");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common,_304=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.StackedBars",dojox.charting.plot2d.Bars,{getSeriesStats:function(){var _305=dc.collectStackedStats(this.series),t;this._maxRunLength=_305.hmax;_305.hmin-=0.5;_305.hmax+=0.5;t=_305.hmin,_305.hmin=_305.vmin,_305.vmin=t;t=_305.hmax,_305.hmax=_305.vmax,_305.vmax=t;return _305;},render:function(dim,_306){if(this._maxRunLength<=0){return this;}var acc=df.repeat(this._maxRunLength,"-> 0",0);for(var i=0;i<this.series.length;++i){var run=this.series[i];for(var j=0;j<run.data.length;++j){var _307=run.data[j];if(_307!==null){var v=typeof _307=="number"?_307:_307.y;if(isNaN(v)){v=0;}acc[j]+=v;}}}if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_306);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_304);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_308,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_309=this.events();f=dc.calculateBarSize(this._vScaler.bounds.scale,this.opt);gap=f.gap;_308=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _30a=t.next("bar",[this.opt,run]),s=run.group,_30b=new Array(acc.length);for(var j=0;j<acc.length;++j){var _307=run.data[j];if(_307!==null){var v=acc[j],_30c=ht(v),_30d=typeof _307!="number"?t.addMixin(_30a,"bar",_307,true):t.post(_30a,"bar");if(_30c>=1&&_308>=1){var rect={x:_306.l,y:dim.height-_306.b-vt(j+1.5)+gap,width:_30c,height:_308};var _30e=this._plotFill(_30d.series.fill,dim,_306);_30e=this._shapeFill(_30e,rect);var _30f=s.createRect(rect).setFill(_30e).setStroke(_30d.series.stroke);run.dyn.fill=_30f.getFill();run.dyn.stroke=_30f.getStroke();if(_309){var o={element:"bar",index:j,run:run,shape:_30f,x:v,y:j+1.5};this._connectEvents(o);_30b[j]=o;}if(this.animate){this._animateBar(_30f,_306.l,-_30c);}}}}this._eventSeries[run.name]=_30b;run.dirty=false;for(var j=0;j<run.data.length;++j){var _307=run.data[j];if(_307!==null){var v=typeof _307=="number"?_307:_307.y;if(isNaN(v)){v=0;}acc[j]-=v;}}}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.ClusteredBars"]){dojo._hasResource["dojox.charting.plot2d.ClusteredBars"]=true;dojo.provide("dojox.charting.plot2d.ClusteredBars");(function(){var df=dojox.lang.functional,dc=dojox.charting.plot2d.common,_310=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.ClusteredBars",dojox.charting.plot2d.Bars,{render:function(dim,_311){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_311);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_310);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_312,_313,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_314=Math.max(0,this._hScaler.bounds.lower),_315=ht(_314),_316=this.events();f=dc.calculateBarSize(this._vScaler.bounds.scale,this.opt,this.series.length);gap=f.gap;_312=_313=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i],_317=_313*(this.series.length-i-1);if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _318=t.next("bar",[this.opt,run]),s=run.group,_319=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var _31a=run.data[j];if(_31a!==null){var v=typeof _31a=="number"?_31a:_31a.y,hv=ht(v),_31b=hv-_315,w=Math.abs(_31b),_31c=typeof _31a!="number"?t.addMixin(_318,"bar",_31a,true):t.post(_318,"bar");if(w>=1&&_312>=1){var rect={x:_311.l+(v<_314?hv:_315),y:dim.height-_311.b-vt(j+1.5)+gap+_317,width:w,height:_312};var _31d=this._plotFill(_31c.series.fill,dim,_311);_31d=this._shapeFill(_31d,rect);var _31e=s.createRect(rect).setFill(_31d).setStroke(_31c.series.stroke);run.dyn.fill=_31e.getFill();run.dyn.stroke=_31e.getStroke();if(_316){var o={element:"bar",index:j,run:run,shape:_31e,x:v,y:j+1.5};this._connectEvents(o);_319[j]=o;}if(this.animate){this._animateBar(_31e,_311.l+_315,-_31b);}}}}this._eventSeries[run.name]=_319;run.dirty=false;}this.dirty=false;return this;}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Grid"]){dojo._hasResource["dojox.charting.plot2d.Grid"]=true;dojo.provide("dojox.charting.plot2d.Grid");(function(){var du=dojox.lang.utils,dc=dojox.charting.plot2d.common;dojo.declare("dojox.charting.plot2d.Grid",dojox.charting.Element,{defaultParams:{hAxis:"x",vAxis:"y",hMajorLines:true,hMinorLines:false,vMajorLines:true,vMinorLines:false,hStripes:"none",vStripes:"none",animate:null},optionalParams:{},constructor:function(_31f,_320){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_320);this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.dirty=true;this.animate=this.opt.animate;this.zoom=null,this.zoomQueue=[];this.lastWindow={vscale:1,hscale:1,xoffset:0,yoffset:0};},clear:function(){this._hAxis=null;this._vAxis=null;this.dirty=true;return this;},setAxis:function(axis){if(axis){this[axis.vertical?"_vAxis":"_hAxis"]=axis;}return this;},addSeries:function(run){return this;},getSeriesStats:function(){return dojo.delegate(dc.defaultStats);},initializeScalers:function(){return this;},isDirty:function(){return this.dirty||this._hAxis&&this._hAxis.dirty||this._vAxis&&this._vAxis.dirty;},performZoom:function(dim,_321){var vs=this._vAxis.scale||1,hs=this._hAxis.scale||1,_322=dim.height-_321.b,_323=this._hAxis.getScaler().bounds,_324=(_323.from-_323.lower)*_323.scale,_325=this._vAxis.getScaler().bounds,_326=(_325.from-_325.lower)*_325.scale;rVScale=vs/this.lastWindow.vscale,rHScale=hs/this.lastWindow.hscale,rXOffset=(this.lastWindow.xoffset-_324)/((this.lastWindow.hscale==1)?hs:this.lastWindow.hscale),rYOffset=(_326-this.lastWindow.yoffset)/((this.lastWindow.vscale==1)?vs:this.lastWindow.vscale),shape=this.group,anim=dojox.gfx.fx.animateTransform(dojo.delegate({shape:shape,duration:1200,transform:[{name:"translate",start:[0,0],end:[_321.l*(1-rHScale),_322*(1-rVScale)]},{name:"scale",start:[1,1],end:[rHScale,rVScale]},{name:"original"},{name:"translate",start:[0,0],end:[rXOffset,rYOffset]}]},this.zoom));dojo.mixin(this.lastWindow,{vscale:vs,hscale:hs,xoffset:_324,yoffset:_326});this.zoomQueue.push(anim);dojo.connect(anim,"onEnd",this,function(){this.zoom=null;this.zoomQueue.shift();if(this.zoomQueue.length>0){this.zoomQueue[0].play();}});if(this.zoomQueue.length==1){this.zoomQueue[0].play();}return this;},getRequiredColors:function(){return 0;},render:function(dim,_327){if(this.zoom){return this.performZoom(dim,_327);}this.dirty=this.isDirty();if(!this.dirty){return this;}this.cleanGroup();var s=this.group,ta=this.chart.theme.axis;try{var _328=this._vAxis.getScaler(),vt=_328.scaler.getTransformerFromModel(_328),_329=this._vAxis.getTicks();if(this.opt.hMinorLines){dojo.forEach(_329.minor,function(tick){var y=dim.height-_327.b-vt(tick.value);var _32a=s.createLine({x1:_327.l,y1:y,x2:dim.width-_327.r,y2:y}).setStroke(ta.minorTick);if(this.animate){this._animateGrid(_32a,"h",_327.l,_327.r+_327.l-dim.width);}},this);}if(this.opt.hMajorLines){dojo.forEach(_329.major,function(tick){var y=dim.height-_327.b-vt(tick.value);var _32b=s.createLine({x1:_327.l,y1:y,x2:dim.width-_327.r,y2:y}).setStroke(ta.majorTick);if(this.animate){this._animateGrid(_32b,"h",_327.l,_327.r+_327.l-dim.width);}},this);}}catch(e){}try{var _32c=this._hAxis.getScaler(),ht=_32c.scaler.getTransformerFromModel(_32c),_329=this._hAxis.getTicks();if(_329&&this.opt.vMinorLines){dojo.forEach(_329.minor,function(tick){var x=_327.l+ht(tick.value);var _32d=s.createLine({x1:x,y1:_327.t,x2:x,y2:dim.height-_327.b}).setStroke(ta.minorTick);if(this.animate){this._animateGrid(_32d,"v",dim.height-_327.b,dim.height-_327.b-_327.t);}},this);}if(_329&&this.opt.vMajorLines){dojo.forEach(_329.major,function(tick){var x=_327.l+ht(tick.value);var _32e=s.createLine({x1:x,y1:_327.t,x2:x,y2:dim.height-_327.b}).setStroke(ta.majorTick);if(this.animate){this._animateGrid(_32e,"v",dim.height-_327.b,dim.height-_327.b-_327.t);}},this);}}catch(e){}this.dirty=false;return this;},_animateGrid:function(_32f,type,_330,size){var _331=type=="h"?[_330,0]:[0,_330];var _332=type=="h"?[1/size,1]:[1,1/size];dojox.gfx.fx.animateTransform(dojo.delegate({shape:_32f,duration:1200,transform:[{name:"translate",start:_331,end:[0,0]},{name:"scale",start:_332,end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojo.i18n"]){dojo._hasResource["dojo.i18n"]=true;dojo.provide("dojo.i18n");dojo.i18n.getLocalization=function(_333,_334,_335){_335=dojo.i18n.normalizeLocale(_335);var _336=_335.split("-");var _337=[_333,"nls",_334].join(".");var _338=dojo._loadedModules[_337];if(_338){var _339;for(var i=_336.length;i>0;i--){var loc=_336.slice(0,i).join("_");if(_338[loc]){_339=_338[loc];break;}}if(!_339){_339=_338.ROOT;}if(_339){var _33a=function(){};_33a.prototype=_339;return new _33a();}}throw new Error("Bundle not found: "+_334+" in "+_333+" , locale="+_335);};dojo.i18n.normalizeLocale=function(_33b){var _33c=_33b?_33b.toLowerCase():dojo.locale;if(_33c=="root"){_33c="ROOT";}return _33c;};dojo.i18n._requireLocalization=function(_33d,_33e,_33f,_340){var _341=dojo.i18n.normalizeLocale(_33f);var _342=[_33d,"nls",_33e].join(".");var _343="";if(_340){var _344=_340.split(",");for(var i=0;i<_344.length;i++){if(_341["indexOf"](_344[i])==0){if(_344[i].length>_343.length){_343=_344[i];}}}if(!_343){_343="ROOT";}}var _345=_340?_343:_341;var _346=dojo._loadedModules[_342];var _347=null;if(_346){if(dojo.config.localizationComplete&&_346._built){return;}var _348=_345.replace(/-/g,"_");var _349=_342+"."+_348;_347=dojo._loadedModules[_349];}if(!_347){_346=dojo["provide"](_342);var syms=dojo._getModuleSymbols(_33d);var _34a=syms.concat("nls").join("/");var _34b;dojo.i18n._searchLocalePath(_345,_340,function(loc){var _34c=loc.replace(/-/g,"_");var _34d=_342+"."+_34c;var _34e=false;if(!dojo._loadedModules[_34d]){dojo["provide"](_34d);var _34f=[_34a];if(loc!="ROOT"){_34f.push(loc);}_34f.push(_33e);var _350=_34f.join("/")+".js";_34e=dojo._loadPath(_350,null,function(hash){var _351=function(){};_351.prototype=_34b;_346[_34c]=new _351();for(var j in hash){_346[_34c][j]=hash[j];}});}else{_34e=true;}if(_34e&&_346[_34c]){_34b=_346[_34c];}else{_346[_34c]=_34b;}if(_340){return true;}});}if(_340&&_341!=_343){_346[_341.replace(/-/g,"_")]=_346[_343.replace(/-/g,"_")];}};(function(){var _352=dojo.config.extraLocale;if(_352){if(!_352 instanceof Array){_352=[_352];}var req=dojo.i18n._requireLocalization;dojo.i18n._requireLocalization=function(m,b,_353,_354){req(m,b,_353,_354);if(_353){return;}for(var i=0;i<_352.length;i++){req(m,b,_352[i],_354);}};}})();dojo.i18n._searchLocalePath=function(_355,down,_356){_355=dojo.i18n.normalizeLocale(_355);var _357=_355.split("-");var _358=[];for(var i=_357.length;i>0;i--){_358.push(_357.slice(0,i).join("-"));}_358.push(false);if(down){_358.reverse();}for(var j=_358.length-1;j>=0;j--){var loc=_358[j]||"ROOT";var stop=_356(loc);if(stop){break;}}};dojo.i18n._preloadLocalizations=function(_359,_35a){function _35b(_35c){_35c=dojo.i18n.normalizeLocale(_35c);dojo.i18n._searchLocalePath(_35c,true,function(loc){for(var i=0;i<_35a.length;i++){if(_35a[i]==loc){dojo["require"](_359+"_"+loc);return true;}}return false;});};_35b();var _35d=dojo.config.extraLocale||[];for(var i=0;i<_35d.length;i++){_35b(_35d[i]);}};}if(!dojo._hasResource["dojo.regexp"]){dojo._hasResource["dojo.regexp"]=true;dojo.provide("dojo.regexp");dojo.regexp.escapeString=function(str,_35e){return str.replace(/([\.$?*|{}\(\)\[\]\\\/\+^])/g,function(ch){if(_35e&&_35e.indexOf(ch)!=-1){return ch;}return "\\"+ch;});};dojo.regexp.buildGroupRE=function(arr,re,_35f){if(!(arr instanceof Array)){return re(arr);}var b=[];for(var i=0;i<arr.length;i++){b.push(re(arr[i]));}return dojo.regexp.group(b.join("|"),_35f);};dojo.regexp.group=function(_360,_361){return "("+(_361?"?:":"")+_360+")";};}if(!dojo._hasResource["dojo.number"]){dojo._hasResource["dojo.number"]=true;dojo.provide("dojo.number");dojo.number.format=function(_362,_363){_363=dojo.mixin({},_363||{});var _364=dojo.i18n.normalizeLocale(_363.locale),_365=dojo.i18n.getLocalization("dojo.cldr","number",_364);_363.customs=_365;var _366=_363.pattern||_365[(_363.type||"decimal")+"Format"];if(isNaN(_362)||Math.abs(_362)==Infinity){return null;}return dojo.number._applyPattern(_362,_366,_363);};dojo.number._numberPatternRE=/[#0,]*[#0](?:\.0*#*)?/;dojo.number._applyPattern=function(_367,_368,_369){_369=_369||{};var _36a=_369.customs.group,_36b=_369.customs.decimal,_36c=_368.split(";"),_36d=_36c[0];_368=_36c[(_367<0)?1:0]||("-"+_36d);if(_368.indexOf("%")!=-1){_367*=100;}else{if(_368.indexOf("‰")!=-1){_367*=1000;}else{if(_368.indexOf("¤")!=-1){_36a=_369.customs.currencyGroup||_36a;_36b=_369.customs.currencyDecimal||_36b;_368=_368.replace(/\u00a4{1,3}/,function(_36e){var prop=["symbol","currency","displayName"][_36e.length-1];return _369[prop]||_369.currency||"";});}else{if(_368.indexOf("E")!=-1){throw new Error("exponential notation not supported");}}}}var _36f=dojo.number._numberPatternRE;var _370=_36d.match(_36f);if(!_370){throw new Error("unable to find a number expression in pattern: "+_368);}if(_369.fractional===false){_369.places=0;}return _368.replace(_36f,dojo.number._formatAbsolute(_367,_370[0],{decimal:_36b,group:_36a,places:_369.places,round:_369.round}));};dojo.number.round=function(_371,_372,_373){var _374=10/(_373||10);return (_374*+_371).toFixed(_372)/_374;};if((0.9).toFixed()==0){(function(){var _375=dojo.number.round;dojo.number.round=function(v,p,m){var d=Math.pow(10,-p||0),a=Math.abs(v);if(!v||a>=d||a*Math.pow(10,p+1)<5){d=0;}return _375(v,p,m)+(v>0?d:-d);};})();}dojo.number._formatAbsolute=function(_376,_377,_378){_378=_378||{};if(_378.places===true){_378.places=0;}if(_378.places===Infinity){_378.places=6;}var _379=_377.split("."),_37a=typeof _378.places=="string"&&_378.places.indexOf(","),_37b=_378.places;if(_37a){_37b=_378.places.substring(_37a+1);}else{if(!(_37b>=0)){_37b=(_379[1]||[]).length;}}if(!(_378.round<0)){_376=dojo.number.round(_376,_37b,_378.round);}var _37c=String(Math.abs(_376)).split("."),_37d=_37c[1]||"";if(_379[1]||_378.places){if(_37a){_378.places=_378.places.substring(0,_37a);}var pad=_378.places!==undefined?_378.places:(_379[1]&&_379[1].lastIndexOf("0")+1);if(pad>_37d.length){_37c[1]=dojo.string.pad(_37d,pad,"0",true);}if(_37b<_37d.length){_37c[1]=_37d.substr(0,_37b);}}else{if(_37c[1]){_37c.pop();}}var _37e=_379[0].replace(",","");pad=_37e.indexOf("0");if(pad!=-1){pad=_37e.length-pad;if(pad>_37c[0].length){_37c[0]=dojo.string.pad(_37c[0],pad);}if(_37e.indexOf("#")==-1){_37c[0]=_37c[0].substr(_37c[0].length-pad);}}var _37f=_379[0].lastIndexOf(","),_380,_381;if(_37f!=-1){_380=_379[0].length-_37f-1;var _382=_379[0].substr(0,_37f);_37f=_382.lastIndexOf(",");if(_37f!=-1){_381=_382.length-_37f-1;}}var _383=[];for(var _384=_37c[0];_384;){var off=_384.length-_380;_383.push((off>0)?_384.substr(off):_384);_384=(off>0)?_384.slice(0,off):"";if(_381){_380=_381;delete _381;}}_37c[0]=_383.reverse().join(_378.group||",");return _37c.join(_378.decimal||".");};dojo.number.regexp=function(_385){return dojo.number._parseInfo(_385).regexp;};dojo.number._parseInfo=function(_386){_386=_386||{};var _387=dojo.i18n.normalizeLocale(_386.locale),_388=dojo.i18n.getLocalization("dojo.cldr","number",_387),_389=_386.pattern||_388[(_386.type||"decimal")+"Format"],_38a=_388.group,_38b=_388.decimal,_38c=1;if(_389.indexOf("%")!=-1){_38c/=100;}else{if(_389.indexOf("‰")!=-1){_38c/=1000;}else{var _38d=_389.indexOf("¤")!=-1;if(_38d){_38a=_388.currencyGroup||_38a;_38b=_388.currencyDecimal||_38b;}}}var _38e=_389.split(";");if(_38e.length==1){_38e.push("-"+_38e[0]);}var re=dojo.regexp.buildGroupRE(_38e,function(_38f){_38f="(?:"+dojo.regexp.escapeString(_38f,".")+")";return _38f.replace(dojo.number._numberPatternRE,function(_390){var _391={signed:false,separator:_386.strict?_38a:[_38a,""],fractional:_386.fractional,decimal:_38b,exponent:false},_392=_390.split("."),_393=_386.places;if(_392.length==1&&_38c!=1){_392[1]="###";}if(_392.length==1||_393===0){_391.fractional=false;}else{if(_393===undefined){_393=_386.pattern?_392[1].lastIndexOf("0")+1:Infinity;}if(_393&&_386.fractional==undefined){_391.fractional=true;}if(!_386.places&&(_393<_392[1].length)){_393+=","+_392[1].length;}_391.places=_393;}var _394=_392[0].split(",");if(_394.length>1){_391.groupSize=_394.pop().length;if(_394.length>1){_391.groupSize2=_394.pop().length;}}return "("+dojo.number._realNumberRegexp(_391)+")";});},true);if(_38d){re=re.replace(/([\s\xa0]*)(\u00a4{1,3})([\s\xa0]*)/g,function(_395,_396,_397,_398){var prop=["symbol","currency","displayName"][_397.length-1],_399=dojo.regexp.escapeString(_386[prop]||_386.currency||"");_396=_396?"[\\s\\xa0]":"";_398=_398?"[\\s\\xa0]":"";if(!_386.strict){if(_396){_396+="*";}if(_398){_398+="*";}return "(?:"+_396+_399+_398+")?";}return _396+_399+_398;});}return {regexp:re.replace(/[\xa0 ]/g,"[\\s\\xa0]"),group:_38a,decimal:_38b,factor:_38c};};dojo.number.parse=function(_39a,_39b){var info=dojo.number._parseInfo(_39b),_39c=(new RegExp("^"+info.regexp+"$")).exec(_39a);if(!_39c){return NaN;}var _39d=_39c[1];if(!_39c[1]){if(!_39c[2]){return NaN;}_39d=_39c[2];info.factor*=-1;}_39d=_39d.replace(new RegExp("["+info.group+"\\s\\xa0"+"]","g"),"").replace(info.decimal,".");return _39d*info.factor;};dojo.number._realNumberRegexp=function(_39e){_39e=_39e||{};if(!("places" in _39e)){_39e.places=Infinity;}if(typeof _39e.decimal!="string"){_39e.decimal=".";}if(!("fractional" in _39e)||/^0/.test(_39e.places)){_39e.fractional=[true,false];}if(!("exponent" in _39e)){_39e.exponent=[true,false];}if(!("eSigned" in _39e)){_39e.eSigned=[true,false];}var _39f=dojo.number._integerRegexp(_39e),_3a0=dojo.regexp.buildGroupRE(_39e.fractional,function(q){var re="";if(q&&(_39e.places!==0)){re="\\"+_39e.decimal;if(_39e.places==Infinity){re="(?:"+re+"\\d+)?";}else{re+="\\d{"+_39e.places+"}";}}return re;},true);var _3a1=dojo.regexp.buildGroupRE(_39e.exponent,function(q){if(q){return "([eE]"+dojo.number._integerRegexp({signed:_39e.eSigned})+")";}return "";});var _3a2=_39f+_3a0;if(_3a0){_3a2="(?:(?:"+_3a2+")|(?:"+_3a0+"))";}return _3a2+_3a1;};dojo.number._integerRegexp=function(_3a3){_3a3=_3a3||{};if(!("signed" in _3a3)){_3a3.signed=[true,false];}if(!("separator" in _3a3)){_3a3.separator="";}else{if(!("groupSize" in _3a3)){_3a3.groupSize=3;}}var _3a4=dojo.regexp.buildGroupRE(_3a3.signed,function(q){return q?"[-+]":"";},true);var _3a5=dojo.regexp.buildGroupRE(_3a3.separator,function(sep){if(!sep){return "(?:\\d+)";}sep=dojo.regexp.escapeString(sep);if(sep==" "){sep="\\s";}else{if(sep==" "){sep="\\s\\xa0";}}var grp=_3a3.groupSize,grp2=_3a3.groupSize2;if(grp2){var _3a6="(?:0|[1-9]\\d{0,"+(grp2-1)+"}(?:["+sep+"]\\d{"+grp2+"})*["+sep+"]\\d{"+grp+"})";return ((grp-grp2)>0)?"(?:"+_3a6+"|(?:0|[1-9]\\d{0,"+(grp-1)+"}))":_3a6;}return "(?:0|[1-9]\\d{0,"+(grp-1)+"}(?:["+sep+"]\\d{"+grp+"})*)";},true);return _3a4+_3a5;};}if(!dojo._hasResource["dojox.charting.plot2d.Pie"]){dojo._hasResource["dojox.charting.plot2d.Pie"]=true;dojo.provide("dojox.charting.plot2d.Pie");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,da=dojox.charting.axis2d.common,g=dojox.gfx,m=g.matrix,_3a7=0.2;dojo.declare("dojox.charting.plot2d.Pie",[dojox.charting.Element,dojox.charting.plot2d._PlotEvents],{defaultParams:{labels:true,ticks:false,fixed:true,precision:1,labelOffset:20,labelStyle:"default",htmlLabels:true,radGrad:"native",fanSize:5,startAngle:0},optionalParams:{radius:0,stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_3a8,_3a9){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_3a9);du.updateWithPattern(this.opt,_3a9,this.optionalParams);this.run=null;this.dyn=[];},clear:function(){this.dirty=true;this.dyn=[];this.run=null;return this;},setAxis:function(axis){return this;},addSeries:function(run){this.run=run;return this;},getSeriesStats:function(){return dojo.delegate(dc.defaultStats);},initializeScalers:function(){return this;},getRequiredColors:function(){return this.run?this.run.data.length:0;},render:function(dim,_3aa){if(!this.dirty){return this;}this.resetEvents();this.dirty=false;this._eventSeries={};this.cleanGroup();var s=this.group,t=this.chart.theme;if(!this.run||!this.run.data.length){return this;}var rx=(dim.width-_3aa.l-_3aa.r)/2,ry=(dim.height-_3aa.t-_3aa.b)/2,r=Math.min(rx,ry),_3ab="font" in this.opt?this.opt.font:t.axis.font,size=_3ab?g.normalizedLength(g.splitFontString(_3ab).size):0,_3ac="fontColor" in this.opt?this.opt.fontColor:t.axis.fontColor,_3ad=m._degToRad(this.opt.startAngle),_3ae=_3ad,step,_3af,_3b0,_3b1,_3b2,_3b3,run=this.run.data,_3b4=this.events();if(typeof run[0]=="number"){_3af=df.map(run,"x ? Math.max(x, 0) : 0");if(df.every(_3af,"<= 0")){return this;}_3b0=df.map(_3af,"/this",df.foldl(_3af,"+",0));if(this.opt.labels){_3b1=dojo.map(_3b0,function(x){return x>0?this._getLabel(x*100)+"%":"";},this);}}else{_3af=df.map(run,"x ? Math.max(x.y, 0) : 0");if(df.every(_3af,"<= 0")){return this;}_3b0=df.map(_3af,"/this",df.foldl(_3af,"+",0));if(this.opt.labels){_3b1=dojo.map(_3b0,function(x,i){if(x<=0){return "";}var v=run[i];return "text" in v?v.text:this._getLabel(x*100)+"%";},this);}}var _3b5=df.map(run,function(v,i){if(v===null||typeof v=="number"){return t.next("slice",[this.opt,this.run],true);}return t.next("slice",[this.opt,this.run,v],true);},this);if(this.opt.labels){_3b2=df.foldl1(df.map(_3b1,function(_3b6,i){var font=_3b5[i].series.font;return dojox.gfx._base._getTextBox(_3b6,{font:font}).w;},this),"Math.max(a, b)")/2;if(this.opt.labelOffset<0){r=Math.min(rx-2*_3b2,ry-size)+this.opt.labelOffset;}_3b3=r-this.opt.labelOffset;}if("radius" in this.opt){r=this.opt.radius;_3b3=r-this.opt.labelOffset;}var _3b7={cx:_3aa.l+rx,cy:_3aa.t+ry,r:r};this.dyn=[];var _3b8=new Array(_3b0.length);dojo.some(_3b0,function(_3b9,i){if(_3b9<=0){return false;}var v=run[i],_3ba=_3b5[i],_3bb;if(_3b9>=1){_3bb=this._plotFill(_3ba.series.fill,dim,_3aa);_3bb=this._shapeFill(_3bb,{x:_3b7.cx-_3b7.r,y:_3b7.cy-_3b7.r,width:2*_3b7.r,height:2*_3b7.r});_3bb=this._pseudoRadialFill(_3bb,{x:_3b7.cx,y:_3b7.cy},_3b7.r);var _3bc=s.createCircle(_3b7).setFill(_3bb).setStroke(_3ba.series.stroke);this.dyn.push({fill:_3bb,stroke:_3ba.series.stroke});if(_3b4){var o={element:"slice",index:i,run:this.run,shape:_3bc,x:i,y:typeof v=="number"?v:v.y,cx:_3b7.cx,cy:_3b7.cy,cr:r};this._connectEvents(o);_3b8[i]=o;}return true;}var end=_3ae+_3b9*2*Math.PI;if(i+1==_3b0.length){end=_3ad+2*Math.PI;}var step=end-_3ae,x1=_3b7.cx+r*Math.cos(_3ae),y1=_3b7.cy+r*Math.sin(_3ae),x2=_3b7.cx+r*Math.cos(end),y2=_3b7.cy+r*Math.sin(end);var _3bd=m._degToRad(this.opt.fanSize);if(_3ba.series.fill&&_3ba.series.fill.type==="radial"&&this.opt.radGrad==="fan"&&step>_3bd){var _3be=s.createGroup(),_3bf=Math.ceil(step/_3bd),_3c0=step/_3bf;_3bb=this._shapeFill(_3ba.series.fill,{x:_3b7.cx-_3b7.r,y:_3b7.cy-_3b7.r,width:2*_3b7.r,height:2*_3b7.r});for(var j=0;j<_3bf;++j){var _3c1=j==0?x1:_3b7.cx+r*Math.cos(_3ae+(j-_3a7)*_3c0),_3c2=j==0?y1:_3b7.cy+r*Math.sin(_3ae+(j-_3a7)*_3c0),_3c3=j==_3bf-1?x2:_3b7.cx+r*Math.cos(_3ae+(j+1+_3a7)*_3c0),_3c4=j==_3bf-1?y2:_3b7.cy+r*Math.sin(_3ae+(j+1+_3a7)*_3c0),fan=_3be.createPath({}).moveTo(_3b7.cx,_3b7.cy).lineTo(_3c1,_3c2).arcTo(r,r,0,_3c0>Math.PI,true,_3c3,_3c4).lineTo(_3b7.cx,_3b7.cy).closePath().setFill(this._pseudoRadialFill(_3bb,{x:_3b7.cx,y:_3b7.cy},r,_3ae+(j+0.5)*_3c0,_3ae+(j+0.5)*_3c0));}_3be.createPath({}).moveTo(_3b7.cx,_3b7.cy).lineTo(x1,y1).arcTo(r,r,0,step>Math.PI,true,x2,y2).lineTo(_3b7.cx,_3b7.cy).closePath().setStroke(_3ba.series.stroke);_3bc=_3be;}else{_3bc=s.createPath({}).moveTo(_3b7.cx,_3b7.cy).lineTo(x1,y1).arcTo(r,r,0,step>Math.PI,true,x2,y2).lineTo(_3b7.cx,_3b7.cy).closePath().setStroke(_3ba.series.stroke);var _3bb=_3ba.series.fill;if(_3bb&&_3bb.type==="radial"){_3bb=this._shapeFill(_3bb,{x:_3b7.cx-_3b7.r,y:_3b7.cy-_3b7.r,width:2*_3b7.r,height:2*_3b7.r});if(this.opt.radGrad==="linear"){_3bb=this._pseudoRadialFill(_3bb,{x:_3b7.cx,y:_3b7.cy},r,_3ae,end);}}else{if(_3bb&&_3bb.type==="linear"){_3bb=this._plotFill(_3bb,dim,_3aa);_3bb=this._shapeFill(_3bb,_3bc.getBoundingBox());}}_3bc.setFill(_3bb);}this.dyn.push({fill:_3bb,stroke:_3ba.series.stroke});if(_3b4){var o={element:"slice",index:i,run:this.run,shape:_3bc,x:i,y:typeof v=="number"?v:v.y,cx:_3b7.cx,cy:_3b7.cy,cr:r};this._connectEvents(o);_3b8[i]=o;}_3ae=end;return false;},this);if(this.opt.labels){_3ae=_3ad;dojo.some(_3b0,function(_3c5,i){if(_3c5<=0){return false;}var _3c6=_3b5[i];if(_3c5>=1){var v=run[i],elem=da.createText[this.opt.htmlLabels&&dojox.gfx.renderer!="vml"?"html":"gfx"](this.chart,s,_3b7.cx,_3b7.cy+size/2,"middle",_3b1[i],_3c6.series.font,_3c6.series.fontColor);if(this.opt.htmlLabels){this.htmlElements.push(elem);}return true;}var end=_3ae+_3c5*2*Math.PI,v=run[i];if(i+1==_3b0.length){end=_3ad+2*Math.PI;}var _3c7=(_3ae+end)/2,x=_3b7.cx+_3b3*Math.cos(_3c7),y=_3b7.cy+_3b3*Math.sin(_3c7)+size/2;var elem=da.createText[this.opt.htmlLabels&&dojox.gfx.renderer!="vml"?"html":"gfx"](this.chart,s,x,y,"middle",_3b1[i],_3c6.series.font,_3c6.series.fontColor);if(this.opt.htmlLabels){this.htmlElements.push(elem);}_3ae=end;return false;},this);}var esi=0;this._eventSeries[this.run.name]=df.map(run,function(v){return v<=0?null:_3b8[esi++];});return this;},_getLabel:function(_3c8){return this.opt.fixed?dojo.number.format(_3c8,{places:this.opt.precision}):_3c8.toString();}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Bubble"]){dojo._hasResource["dojox.charting.plot2d.Bubble"]=true;dojo.provide("dojox.charting.plot2d.Bubble");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_3c9=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Bubble",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",animate:null},optionalParams:{stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_3ca,_3cb){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_3cb);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},render:function(dim,_3cc){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_3cc);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_3c9);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_3cd=this.events();for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();if(!run.data.length){run.dirty=false;t.skip();continue;}if(typeof run.data[0]=="number"){console.warn("dojox.charting.plot2d.Bubble: the data in the following series cannot be rendered as a bubble chart; ",run);continue;}var _3ce=t.next("circle",[this.opt,run]),s=run.group,_3cf=dojo.map(run.data,function(v,i){return v?{x:ht(v.x)+_3cc.l,y:dim.height-_3cc.b-vt(v.y),radius:this._vScaler.bounds.scale*(v.size/2)}:null;},this);var _3d0=null,_3d1=null,_3d2=null;if(_3ce.series.shadow){_3d2=dojo.map(_3cf,function(item){if(item!==null){var _3d3=t.addMixin(_3ce,"circle",item,true),_3d4=_3d3.series.shadow;var _3d5=s.createCircle({cx:item.x+_3d4.dx,cy:item.y+_3d4.dy,r:item.radius}).setStroke(_3d4).setFill(_3d4.color);if(this.animate){this._animateBubble(_3d5,dim.height-_3cc.b,item.radius);}return _3d5;}return null;},this);if(_3d2.length){run.dyn.shadow=_3d2[_3d2.length-1].getStroke();}}if(_3ce.series.outline){_3d1=dojo.map(_3cf,function(item){if(item!==null){var _3d6=t.addMixin(_3ce,"circle",item,true),_3d7=dc.makeStroke(_3d6.series.outline);_3d7.width=2*_3d7.width+_3ce.series.stroke.width;var _3d8=s.createCircle({cx:item.x,cy:item.y,r:item.radius}).setStroke(_3d7);if(this.animate){this._animateBubble(_3d8,dim.height-_3cc.b,item.radius);}return _3d8;}return null;},this);if(_3d1.length){run.dyn.outline=_3d1[_3d1.length-1].getStroke();}}_3d0=dojo.map(_3cf,function(item){if(item!==null){var _3d9=t.addMixin(_3ce,"circle",item,true),rect={x:item.x-item.radius,y:item.y-item.radius,width:2*item.radius,height:2*item.radius};var _3da=this._plotFill(_3d9.series.fill,dim,_3cc);_3da=this._shapeFill(_3da,rect);var _3db=s.createCircle({cx:item.x,cy:item.y,r:item.radius}).setFill(_3da).setStroke(_3d9.series.stroke);if(this.animate){this._animateBubble(_3db,dim.height-_3cc.b,item.radius);}return _3db;}return null;},this);if(_3d0.length){run.dyn.fill=_3d0[_3d0.length-1].getFill();run.dyn.stroke=_3d0[_3d0.length-1].getStroke();}if(_3cd){var _3dc=new Array(_3d0.length);dojo.forEach(_3d0,function(s,i){if(s!==null){var o={element:"circle",index:i,run:run,shape:s,outline:_3d1&&_3d1[i]||null,shadow:_3d2&&_3d2[i]||null,x:run.data[i].x,y:run.data[i].y,r:run.data[i].size/2,cx:_3cf[i].x,cy:_3cf[i].y,cr:_3cf[i].radius};this._connectEvents(o);_3dc[i]=o;}},this);this._eventSeries[run.name]=_3dc;}else{delete this._eventSeries[run.name];}run.dirty=false;}this.dirty=false;return this;},_animateBubble:function(_3dd,_3de,size){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_3dd,duration:1200,transform:[{name:"translate",start:[0,_3de],end:[0,0]},{name:"scale",start:[0,1/size],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.charting.plot2d.Candlesticks"]){dojo._hasResource["dojox.charting.plot2d.Candlesticks"]=true;dojo.provide("dojox.charting.plot2d.Candlesticks");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_3df=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.Candlesticks",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",gap:2,animate:null},optionalParams:{minBarSize:1,maxBarSize:1,stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_3e0,_3e1){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_3e1);du.updateWithPattern(this.opt,_3e1,this.optionalParams);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},collectStats:function(_3e2){var _3e3=dojo.delegate(dc.defaultStats);for(var i=0;i<_3e2.length;i++){var run=_3e2[i];if(!run.data.length){continue;}var _3e4=_3e3.vmin,_3e5=_3e3.vmax;if(!("ymin" in run)||!("ymax" in run)){dojo.forEach(run.data,function(val,idx){if(val!==null){var x=val.x||idx+1;_3e3.hmin=Math.min(_3e3.hmin,x);_3e3.hmax=Math.max(_3e3.hmax,x);_3e3.vmin=Math.min(_3e3.vmin,val.open,val.close,val.high,val.low);_3e3.vmax=Math.max(_3e3.vmax,val.open,val.close,val.high,val.low);}});}if("ymin" in run){_3e3.vmin=Math.min(_3e4,run.ymin);}if("ymax" in run){_3e3.vmax=Math.max(_3e5,run.ymax);}}return _3e3;},getSeriesStats:function(){var _3e6=this.collectStats(this.series);_3e6.hmin-=0.5;_3e6.hmax+=0.5;return _3e6;},render:function(dim,_3e7){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_3e7);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_3df);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_3e8,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_3e9=Math.max(0,this._vScaler.bounds.lower),_3ea=vt(_3e9),_3eb=this.events();f=dc.calculateBarSize(this._hScaler.bounds.scale,this.opt);gap=f.gap;_3e8=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _3ec=t.next("candlestick",[this.opt,run]),s=run.group,_3ed=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var v=run.data[j];if(v!==null){var _3ee=t.addMixin(_3ec,"candlestick",v,true);var x=ht(v.x||(j+0.5))+_3e7.l+gap,y=dim.height-_3e7.b,open=vt(v.open),_3ef=vt(v.close),high=vt(v.high),low=vt(v.low);if("mid" in v){var mid=vt(v.mid);}if(low>high){var tmp=high;high=low;low=tmp;}if(_3e8>=1){var _3f0=open>_3ef;var line={x1:_3e8/2,x2:_3e8/2,y1:y-high,y2:y-low},rect={x:0,y:y-Math.max(open,_3ef),width:_3e8,height:Math.max(_3f0?open-_3ef:_3ef-open,1)};shape=s.createGroup();shape.setTransform({dx:x,dy:0});var _3f1=shape.createGroup();_3f1.createLine(line).setStroke(_3ee.series.stroke);_3f1.createRect(rect).setStroke(_3ee.series.stroke).setFill(_3f0?_3ee.series.fill:"white");if("mid" in v){_3f1.createLine({x1:(_3ee.series.stroke.width||1),x2:_3e8-(_3ee.series.stroke.width||1),y1:y-mid,y2:y-mid}).setStroke(_3f0?"white":_3ee.series.stroke);}run.dyn.fill=_3ee.series.fill;run.dyn.stroke=_3ee.series.stroke;if(_3eb){var o={element:"candlestick",index:j,run:run,shape:_3f1,x:x,y:y-Math.max(open,_3ef),cx:_3e8/2,cy:(y-Math.max(open,_3ef))+(Math.max(_3f0?open-_3ef:_3ef-open,1)/2),width:_3e8,height:Math.max(_3f0?open-_3ef:_3ef-open,1),data:v};this._connectEvents(o);_3ed[j]=o;}}if(this.animate){this._animateCandlesticks(shape,y-low,high-low);}}}this._eventSeries[run.name]=_3ed;run.dirty=false;}this.dirty=false;return this;},_animateCandlesticks:function(_3f2,_3f3,_3f4){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_3f2,duration:1200,transform:[{name:"translate",start:[0,_3f3-(_3f3/_3f4)],end:[0,0]},{name:"scale",start:[1,1/_3f4],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.charting.plot2d.OHLC"]){dojo._hasResource["dojox.charting.plot2d.OHLC"]=true;dojo.provide("dojox.charting.plot2d.OHLC");(function(){var df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting.plot2d.common,_3f5=df.lambda("item.purgeGroup()");dojo.declare("dojox.charting.plot2d.OHLC",dojox.charting.plot2d.Base,{defaultParams:{hAxis:"x",vAxis:"y",gap:2,animate:null},optionalParams:{minBarSize:1,maxBarSize:1,stroke:{},outline:{},shadow:{},fill:{},font:"",fontColor:""},constructor:function(_3f6,_3f7){this.opt=dojo.clone(this.defaultParams);du.updateWithObject(this.opt,_3f7);du.updateWithPattern(this.opt,_3f7,this.optionalParams);this.series=[];this.hAxis=this.opt.hAxis;this.vAxis=this.opt.vAxis;this.animate=this.opt.animate;},collectStats:function(_3f8){var _3f9=dojo.delegate(dc.defaultStats);for(var i=0;i<_3f8.length;i++){var run=_3f8[i];if(!run.data.length){continue;}var _3fa=_3f9.vmin,_3fb=_3f9.vmax;if(!("ymin" in run)||!("ymax" in run)){dojo.forEach(run.data,function(val,idx){if(val!==null){var x=val.x||idx+1;_3f9.hmin=Math.min(_3f9.hmin,x);_3f9.hmax=Math.max(_3f9.hmax,x);_3f9.vmin=Math.min(_3f9.vmin,val.open,val.close,val.high,val.low);_3f9.vmax=Math.max(_3f9.vmax,val.open,val.close,val.high,val.low);}});}if("ymin" in run){_3f9.vmin=Math.min(_3fa,run.ymin);}if("ymax" in run){_3f9.vmax=Math.max(_3fb,run.ymax);}}return _3f9;},getSeriesStats:function(){var _3fc=this.collectStats(this.series);_3fc.hmin-=0.5;_3fc.hmax+=0.5;return _3fc;},render:function(dim,_3fd){if(this.zoom&&!this.isDataDirty()){return this.performZoom(dim,_3fd);}this.resetEvents();this.dirty=this.isDirty();if(this.dirty){dojo.forEach(this.series,_3f5);this._eventSeries={};this.cleanGroup();var s=this.group;df.forEachRev(this.series,function(item){item.cleanGroup(s);});}var t=this.chart.theme,f,gap,_3fe,ht=this._hScaler.scaler.getTransformerFromModel(this._hScaler),vt=this._vScaler.scaler.getTransformerFromModel(this._vScaler),_3ff=Math.max(0,this._vScaler.bounds.lower),_400=vt(_3ff),_401=this.events();f=dc.calculateBarSize(this._hScaler.bounds.scale,this.opt);gap=f.gap;_3fe=f.size;for(var i=this.series.length-1;i>=0;--i){var run=this.series[i];if(!this.dirty&&!run.dirty){t.skip();this._reconnectEvents(run.name);continue;}run.cleanGroup();var _402=t.next("candlestick",[this.opt,run]),s=run.group,_403=new Array(run.data.length);for(var j=0;j<run.data.length;++j){var v=run.data[j];if(v!==null){var _404=t.addMixin(_402,"candlestick",v,true);var x=ht(v.x||(j+0.5))+_3fd.l+gap,y=dim.height-_3fd.b,open=vt(v.open),_405=vt(v.close),high=vt(v.high),low=vt(v.low);if(low>high){var tmp=high;high=low;low=tmp;}if(_3fe>=1){var hl={x1:_3fe/2,x2:_3fe/2,y1:y-high,y2:y-low},op={x1:0,x2:((_3fe/2)+((_404.series.stroke.width||1)/2)),y1:y-open,y2:y-open},cl={x1:((_3fe/2)-((_404.series.stroke.width||1)/2)),x2:_3fe,y1:y-_405,y2:y-_405};shape=s.createGroup();shape.setTransform({dx:x,dy:0});var _406=shape.createGroup();_406.createLine(hl).setStroke(_404.series.stroke);_406.createLine(op).setStroke(_404.series.stroke);_406.createLine(cl).setStroke(_404.series.stroke);run.dyn.stroke=_404.series.stroke;if(_401){var o={element:"candlestick",index:j,run:run,shape:_406,x:x,y:y-Math.max(open,_405),cx:_3fe/2,cy:(y-Math.max(open,_405))+(Math.max(open>_405?open-_405:_405-open,1)/2),width:_3fe,height:Math.max(open>_405?open-_405:_405-open,1),data:v};this._connectEvents(o);_403[j]=o;}}if(this.animate){this._animateOHLC(shape,y-low,high-low);}}}this._eventSeries[run.name]=_403;run.dirty=false;}this.dirty=false;return this;},_animateOHLC:function(_407,_408,_409){dojox.gfx.fx.animateTransform(dojo.delegate({shape:_407,duration:1200,transform:[{name:"translate",start:[0,_408-(_408/_409)],end:[0,0]},{name:"scale",start:[1,1/_409],end:[1,1]},{name:"original"}]},this.animate)).play();}});})();}if(!dojo._hasResource["dojox.charting.Chart2D"]){dojo._hasResource["dojox.charting.Chart2D"]=true;dojo.provide("dojox.charting.Chart2D");(function(){var df=dojox.lang.functional,dc=dojox.charting,_40a=df.lambda("item.clear()"),_40b=df.lambda("item.purgeGroup()"),_40c=df.lambda("item.destroy()"),_40d=df.lambda("item.dirty = false"),_40e=df.lambda("item.dirty = true"),_40f=df.lambda("item.name");dojo.declare("dojox.charting.Chart2D",null,{constructor:function(node,_410){if(!_410){_410={};}this.margins=_410.margins?_410.margins:{l:10,t:10,r:10,b:10};this.stroke=_410.stroke;this.fill=_410.fill;this.delayInMs=_410.delayInMs||200;this.theme=null;this.axes={};this.stack=[];this.plots={};this.series=[];this.runs={};this.dirty=true;this.coords=null;this.node=dojo.byId(node);var box=dojo.marginBox(node);this.surface=dojox.gfx.createSurface(this.node,box.w||400,box.h||300);},destroy:function(){dojo.forEach(this.series,_40c);dojo.forEach(this.stack,_40c);df.forIn(this.axes,_40c);this.surface.destroy();},getCoords:function(){if(!this.coords){this.coords=dojo.coords(this.node,true);}return this.coords;},setTheme:function(_411){this.theme=_411.clone();this.dirty=true;return this;},addAxis:function(name,_412){var axis;if(!_412||!("type" in _412)){axis=new dc.axis2d.Default(this,_412);}else{axis=typeof _412.type=="string"?new dc.axis2d[_412.type](this,_412):new _412.type(this,_412);}axis.name=name;axis.dirty=true;if(name in this.axes){this.axes[name].destroy();}this.axes[name]=axis;this.dirty=true;return this;},getAxis:function(name){return this.axes[name];},removeAxis:function(name){if(name in this.axes){this.axes[name].destroy();delete this.axes[name];this.dirty=true;}return this;},addPlot:function(name,_413){var plot;if(!_413||!("type" in _413)){plot=new dc.plot2d.Default(this,_413);}else{plot=typeof _413.type=="string"?new dc.plot2d[_413.type](this,_413):new _413.type(this,_413);}plot.name=name;plot.dirty=true;if(name in this.plots){this.stack[this.plots[name]].destroy();this.stack[this.plots[name]]=plot;}else{this.plots[name]=this.stack.length;this.stack.push(plot);}this.dirty=true;return this;},removePlot:function(name){if(name in this.plots){var _414=this.plots[name];delete this.plots[name];this.stack[_414].destroy();this.stack.splice(_414,1);df.forIn(this.plots,function(idx,name,_415){if(idx>_414){_415[name]=idx-1;}});this.dirty=true;}return this;},getPlotOrder:function(){return df.map(this.stack,_40f);},setPlotOrder:function(_416){var _417={},_418=df.filter(_416,function(name){if(!(name in this.plots)||(name in _417)){return false;}_417[name]=1;return true;},this);if(_418.length<this.stack.length){df.forEach(this.stack,function(plot){var name=plot.name;if(!(name in _417)){_418.push(name);}});}var _419=df.map(_418,function(name){return this.stack[this.plots[name]];},this);df.forEach(_419,function(plot,i){this.plots[plot.name]=i;},this);this.stack=_419;this.dirty=true;return this;},movePlotToFront:function(name){if(name in this.plots){var _41a=this.plots[name];if(_41a){var _41b=this.getPlotOrder();_41b.splice(_41a,1);_41b.unshift(name);return this.setPlotOrder(_41b);}}return this;},movePlotToBack:function(name){if(name in this.plots){var _41c=this.plots[name];if(_41c<this.stack.length-1){var _41d=this.getPlotOrder();_41d.splice(_41c,1);_41d.push(name);return this.setPlotOrder(_41d);}}return this;},addSeries:function(name,data,_41e){var run=new dc.Series(this,data,_41e);run.name=name;if(name in this.runs){this.series[this.runs[name]].destroy();this.series[this.runs[name]]=run;}else{this.runs[name]=this.series.length;this.series.push(run);}this.dirty=true;if(!("ymin" in run)&&"min" in run){run.ymin=run.min;}if(!("ymax" in run)&&"max" in run){run.ymax=run.max;}return this;},removeSeries:function(name){if(name in this.runs){var _41f=this.runs[name],_420=this.series[_41f].plot;delete this.runs[name];this.series[_41f].destroy();this.series.splice(_41f,1);df.forIn(this.runs,function(idx,name,runs){if(idx>_41f){runs[name]=idx-1;}});this.dirty=true;}return this;},updateSeries:function(name,data){if(name in this.runs){var run=this.series[this.runs[name]];run.update(data);this._invalidateDependentPlots(run.plot,false);this._invalidateDependentPlots(run.plot,true);}return this;},getSeriesOrder:function(_421){return df.map(df.filter(this.series,function(run){return run.plot==_421;}),_40f);},setSeriesOrder:function(_422){var _423,_424={},_425=df.filter(_422,function(name){if(!(name in this.runs)||(name in _424)){return false;}var run=this.series[this.runs[name]];if(_423){if(run.plot!=_423){return false;}}else{_423=run.plot;}_424[name]=1;return true;},this);df.forEach(this.series,function(run){var name=run.name;if(!(name in _424)&&run.plot==_423){_425.push(name);}});var _426=df.map(_425,function(name){return this.series[this.runs[name]];},this);this.series=_426.concat(df.filter(this.series,function(run){return run.plot!=_423;}));df.forEach(this.series,function(run,i){this.runs[run.name]=i;},this);this.dirty=true;return this;},moveSeriesToFront:function(name){if(name in this.runs){var _427=this.runs[name],_428=this.getSeriesOrder(this.series[_427].plot);if(name!=_428[0]){_428.splice(_427,1);_428.unshift(name);return this.setSeriesOrder(_428);}}return this;},moveSeriesToBack:function(name){if(name in this.runs){var _429=this.runs[name],_42a=this.getSeriesOrder(this.series[_429].plot);if(name!=_42a[_42a.length-1]){_42a.splice(_429,1);_42a.push(name);return this.setSeriesOrder(_42a);}}return this;},resize:function(_42b,_42c){var box;switch(arguments.length){case 0:box=dojo.marginBox(this.node);break;case 1:box=_42b;break;default:box={w:_42b,h:_42c};break;}dojo.marginBox(this.node,box);this.surface.setDimensions(box.w,box.h);this.dirty=true;this.coords=null;return this.render();},getGeometry:function(){var ret={};df.forIn(this.axes,function(axis){if(axis.initialized()){ret[axis.name]={name:axis.name,vertical:axis.vertical,scaler:axis.scaler,ticks:axis.ticks};}});return ret;},setAxisWindow:function(name,_42d,_42e,zoom){var axis=this.axes[name];if(axis){axis.setWindow(_42d,_42e);dojo.forEach(this.stack,function(plot){if(plot.hAxis==name||plot.vAxis==name){plot.zoom=zoom;}});}return this;},setWindow:function(sx,sy,dx,dy,zoom){if(!("plotArea" in this)){this.calculateGeometry();}df.forIn(this.axes,function(axis){var _42f,_430,_431=axis.getScaler().bounds,s=_431.span/(_431.upper-_431.lower);if(axis.vertical){_42f=sy;_430=dy/s/_42f;}else{_42f=sx;_430=dx/s/_42f;}axis.setWindow(_42f,_430);});dojo.forEach(this.stack,function(plot){plot.zoom=zoom;});return this;},zoomIn:function(name,_432){var axis=this.axes[name];if(axis){var _433,_434,_435=axis.getScaler().bounds;var _436=Math.min(_432[0],_432[1]);var _437=Math.max(_432[0],_432[1]);_436=_432[0]<_435.lower?_435.lower:_436;_437=_432[1]>_435.upper?_435.upper:_437;_433=(_435.upper-_435.lower)/(_437-_436);_434=_436-_435.lower;this.setAxisWindow(name,_433,_434);this.render();}},calculateGeometry:function(){if(this.dirty){return this.fullGeometry();}var _438=dojo.filter(this.stack,function(plot){return plot.dirty||(plot.hAxis&&this.axes[plot.hAxis].dirty)||(plot.vAxis&&this.axes[plot.vAxis].dirty);},this);_439(_438,this.plotArea);return this;},fullGeometry:function(){this._makeDirty();dojo.forEach(this.stack,_40a);if(!this.theme){this.setTheme(new dojox.charting.Theme(dojox.charting._def));}dojo.forEach(this.series,function(run){if(!(run.plot in this.plots)){var plot=new dc.plot2d.Default(this,{});plot.name=run.plot;this.plots[run.plot]=this.stack.length;this.stack.push(plot);}this.stack[this.plots[run.plot]].addSeries(run);},this);dojo.forEach(this.stack,function(plot){if(plot.hAxis){plot.setAxis(this.axes[plot.hAxis]);}if(plot.vAxis){plot.setAxis(this.axes[plot.vAxis]);}},this);var dim=this.dim=this.surface.getDimensions();dim.width=dojox.gfx.normalizedLength(dim.width);dim.height=dojox.gfx.normalizedLength(dim.height);df.forIn(this.axes,_40a);_439(this.stack,dim);var _43a=this.offsets={l:0,r:0,t:0,b:0};df.forIn(this.axes,function(axis){df.forIn(axis.getOffsets(),function(o,i){_43a[i]+=o;});});df.forIn(this.margins,function(o,i){_43a[i]+=o;});this.plotArea={width:dim.width-_43a.l-_43a.r,height:dim.height-_43a.t-_43a.b};df.forIn(this.axes,_40a);_439(this.stack,this.plotArea);return this;},render:function(){if(this.theme){this.theme.clear();}if(this.dirty){return this.fullRender();}this.calculateGeometry();df.forEachRev(this.stack,function(plot){plot.render(this.dim,this.offsets);},this);df.forIn(this.axes,function(axis){axis.render(this.dim,this.offsets);},this);this._makeClean();if(this.surface.render){this.surface.render();}return this;},fullRender:function(){this.fullGeometry();var _43b=this.offsets,dim=this.dim;dojo.forEach(this.series,_40b);df.forIn(this.axes,_40b);dojo.forEach(this.stack,_40b);this.surface.clear();var t=this.theme,fill=t.plotarea&&t.plotarea.fill,_43c=t.plotarea&&t.plotarea.stroke;if(fill){this.surface.createRect({x:_43b.l-1,y:_43b.t-1,width:dim.width-_43b.l-_43b.r+2,height:dim.height-_43b.t-_43b.b+2}).setFill(fill);}if(_43c){this.surface.createRect({x:_43b.l,y:_43b.t,width:dim.width-_43b.l-_43b.r+1,height:dim.height-_43b.t-_43b.b+1}).setStroke(_43c);}df.foldr(this.stack,function(z,plot){return plot.render(dim,_43b),0;},0);fill=this.fill!==undefined?this.fill:(t.chart&&t.chart.fill);_43c=this.stroke!==undefined?this.stroke:(t.chart&&t.chart.stroke);if(fill=="inherit"){var node=this.node,fill=new dojo.Color(dojo.style(node,"backgroundColor"));while(fill.a==0&&node!=document.documentElement){fill=new dojo.Color(dojo.style(node,"backgroundColor"));node=node.parentNode;}}if(fill){if(_43b.l){this.surface.createRect({width:_43b.l,height:dim.height+1}).setFill(fill);}if(_43b.r){this.surface.createRect({x:dim.width-_43b.r,width:_43b.r+1,height:dim.height+2}).setFill(fill);}if(_43b.t){this.surface.createRect({width:dim.width+1,height:_43b.t}).setFill(fill);}if(_43b.b){this.surface.createRect({y:dim.height-_43b.b,width:dim.width+1,height:_43b.b+2}).setFill(fill);}}if(_43c){this.surface.createRect({width:dim.width-1,height:dim.height-1}).setStroke(_43c);}df.forIn(this.axes,function(axis){axis.render(dim,_43b);});this._makeClean();if(this.surface.render){this.surface.render();}return this;},delayedRender:function(){if(!this._delayedRenderHandle){this._delayedRenderHandle=setTimeout(dojo.hitch(this,function(){clearTimeout(this._delayedRenderHandle);this._delayedRenderHandle=null;this.render();}),this.delayInMs);}return this;},connectToPlot:function(name,_43d,_43e){return name in this.plots?this.stack[this.plots[name]].connect(_43d,_43e):null;},fireEvent:function(_43f,_440,_441){if(_43f in this.runs){var _442=this.series[this.runs[_43f]].plot;if(_442 in this.plots){var plot=this.stack[this.plots[_442]];if(plot){plot.fireEvent(_43f,_440,_441);}}}return this;},_makeClean:function(){dojo.forEach(this.axes,_40d);dojo.forEach(this.stack,_40d);dojo.forEach(this.series,_40d);this.dirty=false;},_makeDirty:function(){dojo.forEach(this.axes,_40e);dojo.forEach(this.stack,_40e);dojo.forEach(this.series,_40e);this.dirty=true;},_invalidateDependentPlots:function(_443,_444){if(_443 in this.plots){var plot=this.stack[this.plots[_443]],axis,_445=_444?"vAxis":"hAxis";if(plot[_445]){axis=this.axes[plot[_445]];if(axis&&axis.dependOnData()){axis.dirty=true;dojo.forEach(this.stack,function(p){if(p[_445]&&p[_445]==plot[_445]){p.dirty=true;}});}}else{plot.dirty=true;}}}});function _446(_447){return {min:_447.hmin,max:_447.hmax};};function _448(_449){return {min:_449.vmin,max:_449.vmax};};function _44a(_44b,h){_44b.hmin=h.min;_44b.hmax=h.max;};function _44c(_44d,v){_44d.vmin=v.min;_44d.vmax=v.max;};function _44e(_44f,_450){if(_44f&&_450){_44f.min=Math.min(_44f.min,_450.min);_44f.max=Math.max(_44f.max,_450.max);}return _44f||_450;};function _439(_451,_452){var _453={},axes={};dojo.forEach(_451,function(plot){var _454=_453[plot.name]=plot.getSeriesStats();if(plot.hAxis){axes[plot.hAxis]=_44e(axes[plot.hAxis],_446(_454));}if(plot.vAxis){axes[plot.vAxis]=_44e(axes[plot.vAxis],_448(_454));}});dojo.forEach(_451,function(plot){var _455=_453[plot.name];if(plot.hAxis){_44a(_455,axes[plot.hAxis]);}if(plot.vAxis){_44c(_455,axes[plot.vAxis]);}plot.initializeScalers(_452,_455);});};})();}if(!dojo._hasResource["dojo.fx.easing"]){dojo._hasResource["dojo.fx.easing"]=true;dojo.provide("dojo.fx.easing");dojo.fx.easing={linear:function(n){return n;},quadIn:function(n){return Math.pow(n,2);},quadOut:function(n){return n*(n-2)*-1;},quadInOut:function(n){n=n*2;if(n<1){return Math.pow(n,2)/2;}return -1*((--n)*(n-2)-1)/2;},cubicIn:function(n){return Math.pow(n,3);},cubicOut:function(n){return Math.pow(n-1,3)+1;},cubicInOut:function(n){n=n*2;if(n<1){return Math.pow(n,3)/2;}n-=2;return (Math.pow(n,3)+2)/2;},quartIn:function(n){return Math.pow(n,4);},quartOut:function(n){return -1*(Math.pow(n-1,4)-1);},quartInOut:function(n){n=n*2;if(n<1){return Math.pow(n,4)/2;}n-=2;return -1/2*(Math.pow(n,4)-2);},quintIn:function(n){return Math.pow(n,5);},quintOut:function(n){return Math.pow(n-1,5)+1;},quintInOut:function(n){n=n*2;if(n<1){return Math.pow(n,5)/2;}n-=2;return (Math.pow(n,5)+2)/2;},sineIn:function(n){return -1*Math.cos(n*(Math.PI/2))+1;},sineOut:function(n){return Math.sin(n*(Math.PI/2));},sineInOut:function(n){return -1*(Math.cos(Math.PI*n)-1)/2;},expoIn:function(n){return (n==0)?0:Math.pow(2,10*(n-1));},expoOut:function(n){return (n==1)?1:(-1*Math.pow(2,-10*n)+1);},expoInOut:function(n){if(n==0){return 0;}if(n==1){return 1;}n=n*2;if(n<1){return Math.pow(2,10*(n-1))/2;}--n;return (-1*Math.pow(2,-10*n)+2)/2;},circIn:function(n){return -1*(Math.sqrt(1-Math.pow(n,2))-1);},circOut:function(n){n=n-1;return Math.sqrt(1-Math.pow(n,2));},circInOut:function(n){n=n*2;if(n<1){return -1/2*(Math.sqrt(1-Math.pow(n,2))-1);}n-=2;return 1/2*(Math.sqrt(1-Math.pow(n,2))+1);},backIn:function(n){var s=1.70158;return Math.pow(n,2)*((s+1)*n-s);},backOut:function(n){n=n-1;var s=1.70158;return Math.pow(n,2)*((s+1)*n+s)+1;},backInOut:function(n){var s=1.70158*1.525;n=n*2;if(n<1){return (Math.pow(n,2)*((s+1)*n-s))/2;}n-=2;return (Math.pow(n,2)*((s+1)*n+s)+2)/2;},elasticIn:function(n){if(n==0||n==1){return n;}var p=0.3;var s=p/4;n=n-1;return -1*Math.pow(2,10*n)*Math.sin((n-s)*(2*Math.PI)/p);},elasticOut:function(n){if(n==0||n==1){return n;}var p=0.3;var s=p/4;return Math.pow(2,-10*n)*Math.sin((n-s)*(2*Math.PI)/p)+1;},elasticInOut:function(n){if(n==0){return 0;}n=n*2;if(n==2){return 1;}var p=0.3*1.5;var s=p/4;if(n<1){n-=1;return -0.5*(Math.pow(2,10*n)*Math.sin((n-s)*(2*Math.PI)/p));}n-=1;return 0.5*(Math.pow(2,-10*n)*Math.sin((n-s)*(2*Math.PI)/p))+1;},bounceIn:function(n){return (1-dojo.fx.easing.bounceOut(1-n));},bounceOut:function(n){var s=7.5625;var p=2.75;var l;if(n<(1/p)){l=s*Math.pow(n,2);}else{if(n<(2/p)){n-=(1.5/p);l=s*Math.pow(n,2)+0.75;}else{if(n<(2.5/p)){n-=(2.25/p);l=s*Math.pow(n,2)+0.9375;}else{n-=(2.625/p);l=s*Math.pow(n,2)+0.984375;}}}return l;},bounceInOut:function(n){if(n<0.5){return dojo.fx.easing.bounceIn(n*2)/2;}return (dojo.fx.easing.bounceOut(n*2-1)/2)+0.5;}};}if(!dojo._hasResource["dojox.charting.action2d.Base"]){dojo._hasResource["dojox.charting.action2d.Base"]=true;dojo.provide("dojox.charting.action2d.Base");(function(){var _456=400,_457=dojo.fx.easing.backOut,df=dojox.lang.functional;dojo.declare("dojox.charting.action2d.Base",null,{overOutEvents:{onmouseover:1,onmouseout:1},constructor:function(_458,plot,_459){this.chart=_458;this.plot=plot||"default";this.anim={};if(!_459){_459={};}this.duration=_459.duration?_459.duration:_456;this.easing=_459.easing?_459.easing:_457;},connect:function(){this.handle=this.chart.connectToPlot(this.plot,this,"process");},disconnect:function(){if(this.handle){dojo.disconnect(this.handle);this.handle=null;}},reset:function(){},destroy:function(){this.disconnect();df.forIn(this.anim,function(o){df.forIn(o,function(anim){anim.action.stop(true);});});this.anim={};}});})();}if(!dojo._hasResource["dojox.charting.action2d.Highlight"]){dojo._hasResource["dojox.charting.action2d.Highlight"]=true;dojo.provide("dojox.charting.action2d.Highlight");(function(){var _45a=100,_45b=75,_45c=50,c=dojox.color,cc=function(_45d){return function(){return _45d;};},hl=function(_45e){var a=new c.Color(_45e),x=a.toHsl();if(x.s==0){x.l=x.l<50?100:0;}else{x.s=_45a;if(x.l<_45c){x.l=_45b;}else{if(x.l>_45b){x.l=_45c;}else{x.l=x.l-_45c>_45b-x.l?_45c:_45b;}}}return c.fromHsl(x);};dojo.declare("dojox.charting.action2d.Highlight",dojox.charting.action2d.Base,{defaultParams:{duration:400,easing:dojo.fx.easing.backOut},optionalParams:{highlight:"red"},constructor:function(_45f,plot,_460){var a=_460&&_460.highlight;this.colorFun=a?(dojo.isFunction(a)?a:cc(a)):hl;this.connect();},process:function(o){if(!o.shape||!(o.type in this.overOutEvents)){return;}var _461=o.run.name,_462=o.index,anim,_463,_464;if(_461 in this.anim){anim=this.anim[_461][_462];}else{this.anim[_461]={};}if(anim){anim.action.stop(true);}else{var _465=o.shape.getFill();if(!_465||!(_465 instanceof dojo.Color)){return;}this.anim[_461][_462]=anim={start:_465,end:this.colorFun(_465)};}var _466=anim.start,end=anim.end;if(o.type=="onmouseout"){var t=_466;_466=end;end=t;}anim.action=dojox.gfx.fx.animateFill({shape:o.shape,duration:this.duration,easing:this.easing,color:{start:_466,end:end}});if(o.type=="onmouseout"){dojo.connect(anim.action,"onEnd",this,function(){if(this.anim[_461]){delete this.anim[_461][_462];}});}anim.action.play();}});})();}if(!dojo._hasResource["dojo.fx.Toggler"]){dojo._hasResource["dojo.fx.Toggler"]=true;dojo.provide("dojo.fx.Toggler");dojo.declare("dojo.fx.Toggler",null,{node:null,showFunc:dojo.fadeIn,hideFunc:dojo.fadeOut,showDuration:200,hideDuration:200,constructor:function(args){var _467=this;dojo.mixin(_467,args);_467.node=args.node;_467._showArgs=dojo.mixin({},args);_467._showArgs.node=_467.node;_467._showArgs.duration=_467.showDuration;_467.showAnim=_467.showFunc(_467._showArgs);_467._hideArgs=dojo.mixin({},args);_467._hideArgs.node=_467.node;_467._hideArgs.duration=_467.hideDuration;_467.hideAnim=_467.hideFunc(_467._hideArgs);dojo.connect(_467.showAnim,"beforeBegin",dojo.hitch(_467.hideAnim,"stop",true));dojo.connect(_467.hideAnim,"beforeBegin",dojo.hitch(_467.showAnim,"stop",true));},show:function(_468){return this.showAnim.play(_468||0);},hide:function(_469){return this.hideAnim.play(_469||0);}});}if(!dojo._hasResource["dojo.fx"]){dojo._hasResource["dojo.fx"]=true;dojo.provide("dojo.fx");(function(){var d=dojo,_46a={_fire:function(evt,args){if(this[evt]){this[evt].apply(this,args||[]);}return this;}};var _46b=function(_46c){this._index=-1;this._animations=_46c||[];this._current=this._onAnimateCtx=this._onEndCtx=null;this.duration=0;d.forEach(this._animations,function(a){this.duration+=a.duration;if(a.delay){this.duration+=a.delay;}},this);};d.extend(_46b,{_onAnimate:function(){this._fire("onAnimate",arguments);},_onEnd:function(){d.disconnect(this._onAnimateCtx);d.disconnect(this._onEndCtx);this._onAnimateCtx=this._onEndCtx=null;if(this._index+1==this._animations.length){this._fire("onEnd");}else{this._current=this._animations[++this._index];this._onAnimateCtx=d.connect(this._current,"onAnimate",this,"_onAnimate");this._onEndCtx=d.connect(this._current,"onEnd",this,"_onEnd");this._current.play(0,true);}},play:function(_46d,_46e){if(!this._current){this._current=this._animations[this._index=0];}if(!_46e&&this._current.status()=="playing"){return this;}var _46f=d.connect(this._current,"beforeBegin",this,function(){this._fire("beforeBegin");}),_470=d.connect(this._current,"onBegin",this,function(arg){this._fire("onBegin",arguments);}),_471=d.connect(this._current,"onPlay",this,function(arg){this._fire("onPlay",arguments);d.disconnect(_46f);d.disconnect(_470);d.disconnect(_471);});if(this._onAnimateCtx){d.disconnect(this._onAnimateCtx);}this._onAnimateCtx=d.connect(this._current,"onAnimate",this,"_onAnimate");if(this._onEndCtx){d.disconnect(this._onEndCtx);}this._onEndCtx=d.connect(this._current,"onEnd",this,"_onEnd");this._current.play.apply(this._current,arguments);return this;},pause:function(){if(this._current){var e=d.connect(this._current,"onPause",this,function(arg){this._fire("onPause",arguments);d.disconnect(e);});this._current.pause();}return this;},gotoPercent:function(_472,_473){this.pause();var _474=this.duration*_472;this._current=null;d.some(this._animations,function(a){if(a.duration<=_474){this._current=a;return true;}_474-=a.duration;return false;});if(this._current){this._current.gotoPercent(_474/this._current.duration,_473);}return this;},stop:function(_475){if(this._current){if(_475){for(;this._index+1<this._animations.length;++this._index){this._animations[this._index].stop(true);}this._current=this._animations[this._index];}var e=d.connect(this._current,"onStop",this,function(arg){this._fire("onStop",arguments);d.disconnect(e);});this._current.stop();}return this;},status:function(){return this._current?this._current.status():"stopped";},destroy:function(){if(this._onAnimateCtx){d.disconnect(this._onAnimateCtx);}if(this._onEndCtx){d.disconnect(this._onEndCtx);}}});d.extend(_46b,_46a);dojo.fx.chain=function(_476){return new _46b(_476);};var _477=function(_478){this._animations=_478||[];this._connects=[];this._finished=0;this.duration=0;d.forEach(_478,function(a){var _479=a.duration;if(a.delay){_479+=a.delay;}if(this.duration<_479){this.duration=_479;}this._connects.push(d.connect(a,"onEnd",this,"_onEnd"));},this);this._pseudoAnimation=new d.Animation({curve:[0,1],duration:this.duration});var self=this;d.forEach(["beforeBegin","onBegin","onPlay","onAnimate","onPause","onStop","onEnd"],function(evt){self._connects.push(d.connect(self._pseudoAnimation,evt,function(){self._fire(evt,arguments);}));});};d.extend(_477,{_doAction:function(_47a,args){d.forEach(this._animations,function(a){a[_47a].apply(a,args);});return this;},_onEnd:function(){if(++this._finished>this._animations.length){this._fire("onEnd");}},_call:function(_47b,args){var t=this._pseudoAnimation;t[_47b].apply(t,args);},play:function(_47c,_47d){this._finished=0;this._doAction("play",arguments);this._call("play",arguments);return this;},pause:function(){this._doAction("pause",arguments);this._call("pause",arguments);return this;},gotoPercent:function(_47e,_47f){var ms=this.duration*_47e;d.forEach(this._animations,function(a){a.gotoPercent(a.duration<ms?1:(ms/a.duration),_47f);});this._call("gotoPercent",arguments);return this;},stop:function(_480){this._doAction("stop",arguments);this._call("stop",arguments);return this;},status:function(){return this._pseudoAnimation.status();},destroy:function(){d.forEach(this._connects,dojo.disconnect);}});d.extend(_477,_46a);dojo.fx.combine=function(_481){return new _477(_481);};dojo.fx.wipeIn=function(args){var node=args.node=d.byId(args.node),s=node.style,o;var anim=d.animateProperty(d.mixin({properties:{height:{start:function(){o=s.overflow;s.overflow="hidden";if(s.visibility=="hidden"||s.display=="none"){s.height="1px";s.display="";s.visibility="";return 1;}else{var _482=d.style(node,"height");return Math.max(_482,1);}},end:function(){return node.scrollHeight;}}}},args));d.connect(anim,"onEnd",function(){s.height="auto";s.overflow=o;});return anim;};dojo.fx.wipeOut=function(args){var node=args.node=d.byId(args.node),s=node.style,o;var anim=d.animateProperty(d.mixin({properties:{height:{end:1}}},args));d.connect(anim,"beforeBegin",function(){o=s.overflow;s.overflow="hidden";s.display="";});d.connect(anim,"onEnd",function(){s.overflow=o;s.height="auto";s.display="none";});return anim;};dojo.fx.slideTo=function(args){var node=args.node=d.byId(args.node),top=null,left=null;var init=(function(n){return function(){var cs=d.getComputedStyle(n);var pos=cs.position;top=(pos=="absolute"?n.offsetTop:parseInt(cs.top)||0);left=(pos=="absolute"?n.offsetLeft:parseInt(cs.left)||0);if(pos!="absolute"&&pos!="relative"){var ret=d.position(n,true);top=ret.y;left=ret.x;n.style.position="absolute";n.style.top=top+"px";n.style.left=left+"px";}};})(node);init();var anim=d.animateProperty(d.mixin({properties:{top:args.top||0,left:args.left||0}},args));d.connect(anim,"beforeBegin",anim,init);return anim;};})();}if(!dojo._hasResource["dojox.charting.action2d.Magnify"]){dojo._hasResource["dojox.charting.action2d.Magnify"]=true;dojo.provide("dojox.charting.action2d.Magnify");(function(){var _483=2,m=dojox.gfx.matrix,gf=dojox.gfx.fx;dojo.declare("dojox.charting.action2d.Magnify",dojox.charting.action2d.Base,{defaultParams:{duration:400,easing:dojo.fx.easing.backOut,scale:_483},optionalParams:{},constructor:function(_484,plot,_485){this.scale=_485&&typeof _485.scale=="number"?_485.scale:_483;this.connect();},process:function(o){if(!o.shape||!(o.type in this.overOutEvents)||!("cx" in o)||!("cy" in o)){return;}var _486=o.run.name,_487=o.index,_488=[],anim,init,_489;if(_486 in this.anim){anim=this.anim[_486][_487];}else{this.anim[_486]={};}if(anim){anim.action.stop(true);}else{this.anim[_486][_487]=anim={};}if(o.type=="onmouseover"){init=m.identity;_489=this.scale;}else{init=m.scaleAt(this.scale,o.cx,o.cy);_489=1/this.scale;}var _48a={shape:o.shape,duration:this.duration,easing:this.easing,transform:[{name:"scaleAt",start:[1,o.cx,o.cy],end:[_489,o.cx,o.cy]},init]};if(o.shape){_488.push(gf.animateTransform(_48a));}if(o.oultine){_48a.shape=o.outline;_488.push(gf.animateTransform(_48a));}if(o.shadow){_48a.shape=o.shadow;_488.push(gf.animateTransform(_48a));}if(!_488.length){delete this.anim[_486][_487];return;}anim.action=dojo.fx.combine(_488);if(o.type=="onmouseout"){dojo.connect(anim.action,"onEnd",this,function(){if(this.anim[_486]){delete this.anim[_486][_487];}});}anim.action.play();}});})();}if(!dojo._hasResource["dojox.lang.functional.scan"]){dojo._hasResource["dojox.lang.functional.scan"]=true;dojo.provide("dojox.lang.functional.scan");(function(){var d=dojo,df=dojox.lang.functional,_48b={};d.mixin(df,{scanl:function(a,f,z,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var t,n,i;if(d.isArray(a)){t=new Array((n=a.length)+1);t[0]=z;for(i=0;i<n;z=f.call(o,z,a[i],i,a),t[++i]=z){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){t=[z];for(i=0;a.hasNext();t.push(z=f.call(o,z,a.next(),i++,a))){}}else{t=[z];for(i in a){if(!(i in _48b)){t.push(z=f.call(o,z,a[i],i,a));}}}}return t;},scanl1:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var t,n,z,_48c=true;if(d.isArray(a)){t=new Array(n=a.length);t[0]=z=a[0];for(var i=1;i<n;t[i]=z=f.call(o,z,a[i],i,a),++i){}}else{if(typeof a.hasNext=="function"&&typeof a.next=="function"){if(a.hasNext()){t=[z=a.next()];for(var i=1;a.hasNext();t.push(z=f.call(o,z,a.next(),i++,a))){}}}else{for(var i in a){if(!(i in _48b)){if(_48c){t=[z=a[i]];_48c=false;}else{t.push(z=f.call(o,z,a[i],i,a));}}}}}return t;},scanr:function(a,f,z,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var n=a.length,t=new Array(n+1),i=n;t[n]=z;for(;i>0;--i,z=f.call(o,z,a[i],i,a),t[i]=z){}return t;},scanr1:function(a,f,o){if(typeof a=="string"){a=a.split("");}o=o||d.global;f=df.lambda(f);var n=a.length,t=new Array(n),z=a[n-1],i=n-1;t[i]=z;for(;i>0;--i,z=f.call(o,z,a[i],i,a),t[i]=z){}return t;}});})();}if(!dojo._hasResource["dojox.charting.action2d.MoveSlice"]){dojo._hasResource["dojox.charting.action2d.MoveSlice"]=true;dojo.provide("dojox.charting.action2d.MoveSlice");(function(){var _48d=1.05,_48e=7,m=dojox.gfx.matrix,gf=dojox.gfx.fx,df=dojox.lang.functional;dojo.declare("dojox.charting.action2d.MoveSlice",dojox.charting.action2d.Base,{defaultParams:{duration:400,easing:dojo.fx.easing.backOut,scale:_48d,shift:_48e},optionalParams:{},constructor:function(_48f,plot,_490){if(!_490){_490={};}this.scale=typeof _490.scale=="number"?_490.scale:_48d;this.shift=typeof _490.shift=="number"?_490.shift:_48e;this.connect();},process:function(o){if(!o.shape||o.element!="slice"||!(o.type in this.overOutEvents)){return;}if(!this.angles){var _491=m._degToRad(o.plot.opt.startAngle);if(typeof o.run.data[0]=="number"){this.angles=df.map(df.scanl(o.run.data,"+",_491),"* 2 * Math.PI / this",df.foldl(o.run.data,"+",0));}else{this.angles=df.map(df.scanl(o.run.data,"a + b.y",_491),"* 2 * Math.PI / this",df.foldl(o.run.data,"a + b.y",0));}}var _492=o.index,anim,_493,_494,_495,_496,_497=(this.angles[_492]+this.angles[_492+1])/2,_498=m.rotateAt(-_497,o.cx,o.cy),_499=m.rotateAt(_497,o.cx,o.cy);anim=this.anim[_492];if(anim){anim.action.stop(true);}else{this.anim[_492]=anim={};}if(o.type=="onmouseover"){_495=0;_496=this.shift;_493=1;_494=this.scale;}else{_495=this.shift;_496=0;_493=this.scale;_494=1;}anim.action=dojox.gfx.fx.animateTransform({shape:o.shape,duration:this.duration,easing:this.easing,transform:[_499,{name:"translate",start:[_495,0],end:[_496,0]},{name:"scaleAt",start:[_493,o.cx,o.cy],end:[_494,o.cx,o.cy]},_498]});if(o.type=="onmouseout"){dojo.connect(anim.action,"onEnd",this,function(){delete this.anim[_492];});}anim.action.play();},reset:function(){delete this.angles;}});})();}if(!dojo._hasResource["dojox.charting.action2d.Shake"]){dojo._hasResource["dojox.charting.action2d.Shake"]=true;dojo.provide("dojox.charting.action2d.Shake");(function(){var _49a=3,m=dojox.gfx.matrix,gf=dojox.gfx.fx;dojo.declare("dojox.charting.action2d.Shake",dojox.charting.action2d.Base,{defaultParams:{duration:400,easing:dojo.fx.easing.backOut,shiftX:_49a,shiftY:_49a},optionalParams:{},constructor:function(_49b,plot,_49c){if(!_49c){_49c={};}this.shiftX=typeof _49c.shiftX=="number"?_49c.shiftX:_49a;this.shiftY=typeof _49c.shiftY=="number"?_49c.shiftY:_49a;this.connect();},process:function(o){if(!o.shape||!(o.type in this.overOutEvents)){return;}var _49d=o.run.name,_49e=o.index,_49f=[],anim,_4a0=o.type=="onmouseover"?this.shiftX:-this.shiftX,_4a1=o.type=="onmouseover"?this.shiftY:-this.shiftY;if(_49d in this.anim){anim=this.anim[_49d][_49e];}else{this.anim[_49d]={};}if(anim){anim.action.stop(true);}else{this.anim[_49d][_49e]=anim={};}var _4a2={shape:o.shape,duration:this.duration,easing:this.easing,transform:[{name:"translate",start:[this.shiftX,this.shiftY],end:[0,0]},m.identity]};if(o.shape){_49f.push(gf.animateTransform(_4a2));}if(o.oultine){_4a2.shape=o.outline;_49f.push(gf.animateTransform(_4a2));}if(o.shadow){_4a2.shape=o.shadow;_49f.push(gf.animateTransform(_4a2));}if(!_49f.length){delete this.anim[_49d][_49e];return;}anim.action=dojo.fx.combine(_49f);if(o.type=="onmouseout"){dojo.connect(anim.action,"onEnd",this,function(){if(this.anim[_49d]){delete this.anim[_49d][_49e];}});}anim.action.play();}});})();}if(!dojo._hasResource["dojo.date.stamp"]){dojo._hasResource["dojo.date.stamp"]=true;dojo.provide("dojo.date.stamp");dojo.date.stamp.fromISOString=function(_4a3,_4a4){if(!dojo.date.stamp._isoRegExp){dojo.date.stamp._isoRegExp=/^(?:(\d{4})(?:-(\d{2})(?:-(\d{2}))?)?)?(?:T(\d{2}):(\d{2})(?::(\d{2})(.\d+)?)?((?:[+-](\d{2}):(\d{2}))|Z)?)?$/;}var _4a5=dojo.date.stamp._isoRegExp.exec(_4a3),_4a6=null;if(_4a5){_4a5.shift();if(_4a5[1]){_4a5[1]--;}if(_4a5[6]){_4a5[6]*=1000;}if(_4a4){_4a4=new Date(_4a4);dojo.forEach(dojo.map(["FullYear","Month","Date","Hours","Minutes","Seconds","Milliseconds"],function(prop){return _4a4["get"+prop]();}),function(_4a7,_4a8){_4a5[_4a8]=_4a5[_4a8]||_4a7;});}_4a6=new Date(_4a5[0]||1970,_4a5[1]||0,_4a5[2]||1,_4a5[3]||0,_4a5[4]||0,_4a5[5]||0,_4a5[6]||0);if(_4a5[0]<100){_4a6.setFullYear(_4a5[0]||1970);}var _4a9=0,_4aa=_4a5[7]&&_4a5[7].charAt(0);if(_4aa!="Z"){_4a9=((_4a5[8]||0)*60)+(Number(_4a5[9])||0);if(_4aa!="-"){_4a9*=-1;}}if(_4aa){_4a9-=_4a6.getTimezoneOffset();}if(_4a9){_4a6.setTime(_4a6.getTime()+_4a9*60000);}}return _4a6;};dojo.date.stamp.toISOString=function(_4ab,_4ac){var _4ad=function(n){return (n<10)?"0"+n:n;};_4ac=_4ac||{};var _4ae=[],_4af=_4ac.zulu?"getUTC":"get",date="";if(_4ac.selector!="time"){var year=_4ab[_4af+"FullYear"]();date=["0000".substr((year+"").length)+year,_4ad(_4ab[_4af+"Month"]()+1),_4ad(_4ab[_4af+"Date"]())].join("-");}_4ae.push(date);if(_4ac.selector!="date"){var time=[_4ad(_4ab[_4af+"Hours"]()),_4ad(_4ab[_4af+"Minutes"]()),_4ad(_4ab[_4af+"Seconds"]())].join(":");var _4b0=_4ab[_4af+"Milliseconds"]();if(_4ac.milliseconds){time+="."+(_4b0<100?"0":"")+_4ad(_4b0);}if(_4ac.zulu){time+="Z";}else{if(_4ac.selector!="time"){var _4b1=_4ab.getTimezoneOffset();var _4b2=Math.abs(_4b1);time+=(_4b1>0?"-":"+")+_4ad(Math.floor(_4b2/60))+":"+_4ad(_4b2%60);}}_4ae.push(time);}return _4ae.join("T");};}if(!dojo._hasResource["dojo.parser"]){dojo._hasResource["dojo.parser"]=true;dojo.provide("dojo.parser");new Date("X");dojo.parser=new function(){var d=dojo;this._attrName=d._scopeName+"Type";this._query="["+this._attrName+"]";function _4b3(_4b4){if(d.isString(_4b4)){return "string";}if(typeof _4b4=="number"){return "number";}if(typeof _4b4=="boolean"){return "boolean";}if(d.isFunction(_4b4)){return "function";}if(d.isArray(_4b4)){return "array";}if(_4b4 instanceof Date){return "date";}if(_4b4 instanceof d._Url){return "url";}return "object";};function _4b5(_4b6,type){switch(type){case "string":return _4b6;case "number":return _4b6.length?Number(_4b6):NaN;case "boolean":return typeof _4b6=="boolean"?_4b6:!(_4b6.toLowerCase()=="false");case "function":if(d.isFunction(_4b6)){_4b6=_4b6.toString();_4b6=d.trim(_4b6.substring(_4b6.indexOf("{")+1,_4b6.length-1));}try{if(_4b6===""||_4b6.search(/[^\w\.]+/i)!=-1){return new Function(_4b6);}else{return d.getObject(_4b6,false)||new Function(_4b6);}}catch(e){return new Function();}case "array":return _4b6?_4b6.split(/\s*,\s*/):[];case "date":switch(_4b6){case "":return new Date("");case "now":return new Date();default:return d.date.stamp.fromISOString(_4b6);}case "url":return d.baseUrl+_4b6;default:return d.fromJson(_4b6);}};var _4b7={};dojo.connect(dojo,"extend",function(){_4b7={};});function _4b8(_4b9){if(!_4b7[_4b9]){var cls=d.getObject(_4b9);if(!cls){return null;}var _4ba=cls.prototype;var _4bb={},_4bc={};for(var name in _4ba){if(name.charAt(0)=="_"){continue;}if(name in _4bc){continue;}var _4bd=_4ba[name];_4bb[name]=_4b3(_4bd);}_4b7[_4b9]={cls:cls,params:_4bb};}return _4b7[_4b9];};this._functionFromScript=function(_4be){var _4bf="";var _4c0="";var _4c1=_4be.getAttribute("args");if(_4c1){d.forEach(_4c1.split(/\s*,\s*/),function(part,idx){_4bf+="var "+part+" = arguments["+idx+"]; ";});}var _4c2=_4be.getAttribute("with");if(_4c2&&_4c2.length){d.forEach(_4c2.split(/\s*,\s*/),function(part){_4bf+="with("+part+"){";_4c0+="}";});}return new Function(_4bf+_4be.innerHTML+_4c0);};this.instantiate=function(_4c3,_4c4,args){var _4c5=[],dp=dojo.parser;_4c4=_4c4||{};args=args||{};d.forEach(_4c3,function(obj){if(!obj){return;}var node,type,_4c6,_4c7,_4c8;if(obj.node){node=obj.node;type=obj.type;_4c6=obj.clsInfo||(type&&_4b8(type));_4c7=_4c6&&_4c6.cls;_4c8=obj.scripts;}else{node=obj;type=dp._attrName in _4c4?_4c4[dp._attrName]:node.getAttribute(dp._attrName);_4c6=type&&_4b8(type);_4c7=_4c6&&_4c6.cls;_4c8=(_4c7&&(_4c7._noScript||_4c7.prototype._noScript)?[]:d.query("> script[type^='dojo/']",node));}if(!_4c6){throw new Error("Could not load class '"+type);}var _4c9={},_4ca=node.attributes;if(args.defaults){dojo.mixin(_4c9,args.defaults);}if(obj.inherited){dojo.mixin(_4c9,obj.inherited);}for(var name in _4c6.params){var item=name in _4c4?{value:_4c4[name],specified:true}:_4ca.getNamedItem(name);if(!item||(!item.specified&&(!dojo.isIE||name.toLowerCase()!="value"))){continue;}var _4cb=item.value;switch(name){case "class":_4cb="className" in _4c4?_4c4.className:node.className;break;case "style":_4cb="style" in _4c4?_4c4.style:(node.style&&node.style.cssText);}var _4cc=_4c6.params[name];if(typeof _4cb=="string"){_4c9[name]=_4b5(_4cb,_4cc);}else{_4c9[name]=_4cb;}}var _4cd=[],_4ce=[];d.forEach(_4c8,function(_4cf){node.removeChild(_4cf);var _4d0=_4cf.getAttribute("event"),type=_4cf.getAttribute("type"),nf=d.parser._functionFromScript(_4cf);if(_4d0){if(type=="dojo/connect"){_4cd.push({event:_4d0,func:nf});}else{_4c9[_4d0]=nf;}}else{_4ce.push(nf);}});var _4d1=_4c7.markupFactory||_4c7.prototype&&_4c7.prototype.markupFactory;var _4d2=_4d1?_4d1(_4c9,node,_4c7):new _4c7(_4c9,node);_4c5.push(_4d2);var _4d3=node.getAttribute("jsId");if(_4d3){d.setObject(_4d3,_4d2);}d.forEach(_4cd,function(_4d4){d.connect(_4d2,_4d4.event,null,_4d4.func);});d.forEach(_4ce,function(func){func.call(_4d2);});});if(!_4c4._started){d.forEach(_4c5,function(_4d5){if(!args.noStart&&_4d5&&_4d5.startup&&!_4d5._started&&(!_4d5.getParent||!_4d5.getParent())){_4d5.startup();}});}return _4c5;};this.parse=function(_4d6,args){var root;if(!args&&_4d6&&_4d6.rootNode){args=_4d6;root=args.rootNode;}else{root=_4d6;}var _4d7=this._attrName;function scan(_4d8,list){var _4d9=dojo.clone(_4d8.inherited);dojo.forEach(["dir","lang"],function(name){var val=_4d8.node.getAttribute(name);if(val){_4d9[name]=val;}});var _4da=_4d8.scripts;var _4db=!_4d8.clsInfo||!_4d8.clsInfo.cls.prototype.stopParser;for(var _4dc=_4d8.node.firstChild;_4dc;_4dc=_4dc.nextSibling){if(_4dc.nodeType==1){var type=_4db&&_4dc.getAttribute(_4d7);if(type){var _4dd={"type":type,clsInfo:_4b8(type),node:_4dc,scripts:[],inherited:_4d9};list.push(_4dd);scan(_4dd,list);}else{if(_4da&&_4dc.nodeName.toLowerCase()=="script"){type=_4dc.getAttribute("type");if(type&&/^dojo\//i.test(type)){_4da.push(_4dc);}}else{if(_4db){scan({node:_4dc,inherited:_4d9},list);}}}}}};var list=[];scan({node:root?dojo.byId(root):dojo.body(),inherited:(args&&args.inherited)||{dir:dojo._isBodyLtr()?"ltr":"rtl"}},list);return this.instantiate(list,null,args);};}();(function(){var _4de=function(){if(dojo.config.parseOnLoad){dojo.parser.parse();}};if(dojo.exists("dijit.wai.onload")&&(dijit.wai.onload===dojo._loaders[0])){dojo._loaders.splice(1,0,_4de);}else{dojo._loaders.unshift(_4de);}})();}if(!dojo._hasResource["dojo.cache"]){dojo._hasResource["dojo.cache"]=true;dojo.provide("dojo.cache");(function(){var _4df={};dojo.cache=function(_4e0,url,_4e1){if(typeof _4e0=="string"){var _4e2=dojo.moduleUrl(_4e0,url);}else{_4e2=_4e0;_4e1=url;}var key=_4e2.toString();var val=_4e1;if(_4e1!=undefined&&!dojo.isString(_4e1)){val=("value" in _4e1?_4e1.value:undefined);}var _4e3=_4e1&&_4e1.sanitize?true:false;if(typeof val=="string"){val=_4df[key]=_4e3?dojo.cache._sanitize(val):val;}else{if(val===null){delete _4df[key];}else{if(!(key in _4df)){val=dojo._getText(key);_4df[key]=_4e3?dojo.cache._sanitize(val):val;}val=_4df[key];}}return val;};dojo.cache._sanitize=function(val){if(val){val=val.replace(/^\s*<\?xml(\s)+version=[\'\"](\d)*.(\d)*[\'\"](\s)*\?>/im,"");var _4e4=val.match(/<body[^>]*>\s*([\s\S]+)\s*<\/body>/im);if(_4e4){val=_4e4[1];}}else{val="";}return val;};})();}if(!dojo._hasResource["dijit._Templated"]){dojo._hasResource["dijit._Templated"]=true;dojo.provide("dijit._Templated");dojo.declare("dijit._Templated",null,{templateString:null,templatePath:null,widgetsInTemplate:false,_skipNodeCache:false,_earlyTemplatedStartup:false,constructor:function(){this._attachPoints=[];},_stringRepl:function(tmpl){var _4e5=this.declaredClass,_4e6=this;return dojo.string.substitute(tmpl,this,function(_4e7,key){if(key.charAt(0)=="!"){_4e7=dojo.getObject(key.substr(1),false,_4e6);}if(typeof _4e7=="undefined"){throw new Error(_4e5+" template:"+key);}if(_4e7==null){return "";}return key.charAt(0)=="!"?_4e7:_4e7.toString().replace(/"/g,"&quot;");},this);},buildRendering:function(){var _4e8=dijit._Templated.getCachedTemplate(this.templatePath,this.templateString,this._skipNodeCache);var node;if(dojo.isString(_4e8)){node=dojo._toDom(this._stringRepl(_4e8));if(node.nodeType!=1){throw new Error("Invalid template: "+_4e8);}}else{node=_4e8.cloneNode(true);}this.domNode=node;this._attachTemplateNodes(node);if(this.widgetsInTemplate){var _4e9=dojo.parser,qry,attr;if(_4e9._query!="[dojoType]"){qry=_4e9._query;attr=_4e9._attrName;_4e9._query="[dojoType]";_4e9._attrName="dojoType";}var cw=(this._startupWidgets=dojo.parser.parse(node,{noStart:!this._earlyTemplatedStartup,inherited:{dir:this.dir,lang:this.lang}}));if(qry){_4e9._query=qry;_4e9._attrName=attr;}this._supportingWidgets=dijit.findWidgets(node);this._attachTemplateNodes(cw,function(n,p){return n[p];});}this._fillContent(this.srcNodeRef);},_fillContent:function(_4ea){var dest=this.containerNode;if(_4ea&&dest){while(_4ea.hasChildNodes()){dest.appendChild(_4ea.firstChild);}}},_attachTemplateNodes:function(_4eb,_4ec){_4ec=_4ec||function(n,p){return n.getAttribute(p);};var _4ed=dojo.isArray(_4eb)?_4eb:(_4eb.all||_4eb.getElementsByTagName("*"));var x=dojo.isArray(_4eb)?0:-1;for(;x<_4ed.length;x++){var _4ee=(x==-1)?_4eb:_4ed[x];if(this.widgetsInTemplate&&_4ec(_4ee,"dojoType")){continue;}var _4ef=_4ec(_4ee,"dojoAttachPoint");if(_4ef){var _4f0,_4f1=_4ef.split(/\s*,\s*/);while((_4f0=_4f1.shift())){if(dojo.isArray(this[_4f0])){this[_4f0].push(_4ee);}else{this[_4f0]=_4ee;}this._attachPoints.push(_4f0);}}var _4f2=_4ec(_4ee,"dojoAttachEvent");if(_4f2){var _4f3,_4f4=_4f2.split(/\s*,\s*/);var trim=dojo.trim;while((_4f3=_4f4.shift())){if(_4f3){var _4f5=null;if(_4f3.indexOf(":")!=-1){var _4f6=_4f3.split(":");_4f3=trim(_4f6[0]);_4f5=trim(_4f6[1]);}else{_4f3=trim(_4f3);}if(!_4f5){_4f5=_4f3;}this.connect(_4ee,_4f3,_4f5);}}}var role=_4ec(_4ee,"waiRole");if(role){dijit.setWaiRole(_4ee,role);}var _4f7=_4ec(_4ee,"waiState");if(_4f7){dojo.forEach(_4f7.split(/\s*,\s*/),function(_4f8){if(_4f8.indexOf("-")!=-1){var pair=_4f8.split("-");dijit.setWaiState(_4ee,pair[0],pair[1]);}});}}},startup:function(){dojo.forEach(this._startupWidgets,function(w){if(w&&!w._started&&w.startup){w.startup();}});this.inherited(arguments);},destroyRendering:function(){dojo.forEach(this._attachPoints,function(_4f9){delete this[_4f9];},this);this._attachPoints=[];this.inherited(arguments);}});dijit._Templated._templateCache={};dijit._Templated.getCachedTemplate=function(_4fa,_4fb,_4fc){var _4fd=dijit._Templated._templateCache;var key=_4fb||_4fa;var _4fe=_4fd[key];if(_4fe){try{if(!_4fe.ownerDocument||_4fe.ownerDocument==dojo.doc){return _4fe;}}catch(e){}dojo.destroy(_4fe);}if(!_4fb){_4fb=dojo.cache(_4fa,{sanitize:true});}_4fb=dojo.string.trim(_4fb);if(_4fc||_4fb.match(/\$\{([^\}]+)\}/g)){return (_4fd[key]=_4fb);}else{var node=dojo._toDom(_4fb);if(node.nodeType!=1){throw new Error("Invalid template: "+_4fb);}return (_4fd[key]=node);}};if(dojo.isIE){dojo.addOnWindowUnload(function(){var _4ff=dijit._Templated._templateCache;for(var key in _4ff){var _500=_4ff[key];if(typeof _500=="object"){dojo.destroy(_500);}delete _4ff[key];}});}dojo.extend(dijit._Widget,{dojoAttachEvent:"",dojoAttachPoint:"",waiRole:"",waiState:""});}if(!dojo._hasResource["dijit.Tooltip"]){dojo._hasResource["dijit.Tooltip"]=true;dojo.provide("dijit.Tooltip");dojo.declare("dijit._MasterTooltip",[dijit._Widget,dijit._Templated],{duration:dijit.defaultDuration,templateString:dojo.cache("dijit","templates/Tooltip.html","<div class=\"dijitTooltip dijitTooltipLeft\" id=\"dojoTooltip\">\n\t<div class=\"dijitTooltipContainer dijitTooltipContents\" dojoAttachPoint=\"containerNode\" waiRole='alert'></div>\n\t<div class=\"dijitTooltipConnector\"></div>\n</div>\n"),postCreate:function(){dojo.body().appendChild(this.domNode);this.bgIframe=new dijit.BackgroundIframe(this.domNode);this.fadeIn=dojo.fadeIn({node:this.domNode,duration:this.duration,onEnd:dojo.hitch(this,"_onShow")});this.fadeOut=dojo.fadeOut({node:this.domNode,duration:this.duration,onEnd:dojo.hitch(this,"_onHide")});},show:function(_501,_502,_503,rtl){if(this.aroundNode&&this.aroundNode===_502){return;}if(this.fadeOut.status()=="playing"){this._onDeck=arguments;return;}this.containerNode.innerHTML=_501;var pos=dijit.placeOnScreenAroundElement(this.domNode,_502,dijit.getPopupAroundAlignment((_503&&_503.length)?_503:dijit.Tooltip.defaultPosition,!rtl),dojo.hitch(this,"orient"));dojo.style(this.domNode,"opacity",0);this.fadeIn.play();this.isShowingNow=true;this.aroundNode=_502;},orient:function(node,_504,_505){node.className="dijitTooltip "+{"BL-TL":"dijitTooltipBelow dijitTooltipABLeft","TL-BL":"dijitTooltipAbove dijitTooltipABLeft","BR-TR":"dijitTooltipBelow dijitTooltipABRight","TR-BR":"dijitTooltipAbove dijitTooltipABRight","BR-BL":"dijitTooltipRight","BL-BR":"dijitTooltipLeft"}[_504+"-"+_505];},_onShow:function(){if(dojo.isIE){this.domNode.style.filter="";}},hide:function(_506){if(this._onDeck&&this._onDeck[1]==_506){this._onDeck=null;}else{if(this.aroundNode===_506){this.fadeIn.stop();this.isShowingNow=false;this.aroundNode=null;this.fadeOut.play();}else{}}},_onHide:function(){this.domNode.style.cssText="";this.containerNode.innerHTML="";if(this._onDeck){this.show.apply(this,this._onDeck);this._onDeck=null;}}});dijit.showTooltip=function(_507,_508,_509,rtl){if(!dijit._masterTT){dijit._masterTT=new dijit._MasterTooltip();}return dijit._masterTT.show(_507,_508,_509,rtl);};dijit.hideTooltip=function(_50a){if(!dijit._masterTT){dijit._masterTT=new dijit._MasterTooltip();}return dijit._masterTT.hide(_50a);};dojo.declare("dijit.Tooltip",dijit._Widget,{label:"",showDelay:400,connectId:[],position:[],constructor:function(){this._nodeConnectionsById={};},_setConnectIdAttr:function(_50b){for(var _50c in this._nodeConnectionsById){this.removeTarget(_50c);}dojo.forEach(dojo.isArrayLike(_50b)?_50b:[_50b],this.addTarget,this);},_getConnectIdAttr:function(){var ary=[];for(var id in this._nodeConnectionsById){ary.push(id);}return ary;},addTarget:function(id){var node=dojo.byId(id);if(!node){return;}if(node.id in this._nodeConnectionsById){return;}this._nodeConnectionsById[node.id]=[this.connect(node,"onmouseenter","_onTargetMouseEnter"),this.connect(node,"onmouseleave","_onTargetMouseLeave"),this.connect(node,"onfocus","_onTargetFocus"),this.connect(node,"onblur","_onTargetBlur")];},removeTarget:function(node){var id=node.id||node;if(id in this._nodeConnectionsById){dojo.forEach(this._nodeConnectionsById[id],this.disconnect,this);delete this._nodeConnectionsById[id];}},postCreate:function(){dojo.addClass(this.domNode,"dijitTooltipData");},startup:function(){this.inherited(arguments);var ids=this.connectId;dojo.forEach(dojo.isArrayLike(ids)?ids:[ids],this.addTarget,this);},_onTargetMouseEnter:function(e){this._onHover(e);},_onTargetMouseLeave:function(e){this._onUnHover(e);},_onTargetFocus:function(e){this._focus=true;this._onHover(e);},_onTargetBlur:function(e){this._focus=false;this._onUnHover(e);},_onHover:function(e){if(!this._showTimer){var _50d=e.target;this._showTimer=setTimeout(dojo.hitch(this,function(){this.open(_50d);}),this.showDelay);}},_onUnHover:function(e){if(this._focus){return;}if(this._showTimer){clearTimeout(this._showTimer);delete this._showTimer;}this.close();},open:function(_50e){if(this._showTimer){clearTimeout(this._showTimer);delete this._showTimer;}dijit.showTooltip(this.label||this.domNode.innerHTML,_50e,this.position,!this.isLeftToRight());this._connectNode=_50e;this.onShow(_50e,this.position);},close:function(){if(this._connectNode){dijit.hideTooltip(this._connectNode);delete this._connectNode;this.onHide();}if(this._showTimer){clearTimeout(this._showTimer);delete this._showTimer;}},onShow:function(_50f,_510){},onHide:function(){},uninitialize:function(){this.close();this.inherited(arguments);}});dijit.Tooltip.defaultPosition=["after","before"];}if(!dojo._hasResource["dojox.charting.action2d.Tooltip"]){dojo._hasResource["dojox.charting.action2d.Tooltip"]=true;dojo.provide("dojox.charting.action2d.Tooltip");(function(){var _511=function(o){var t=o.run&&o.run.data&&o.run.data[o.index];if(t&&typeof t!="number"&&(t.tooltip||t.text)){return t.tooltip||t.text;}if(o.element=="candlestick"){return "<table cellpadding=\"1\" cellspacing=\"0\" border=\"0\" style=\"font-size:0.9em;\">"+"<tr><td>Open:</td><td align=\"right\"><strong>"+o.data.open+"</strong></td></tr>"+"<tr><td>High:</td><td align=\"right\"><strong>"+o.data.high+"</strong></td></tr>"+"<tr><td>Low:</td><td align=\"right\"><strong>"+o.data.low+"</strong></td></tr>"+"<tr><td>Close:</td><td align=\"right\"><strong>"+o.data.close+"</strong></td></tr>"+(o.data.mid!==undefined?"<tr><td>Mid:</td><td align=\"right\"><strong>"+o.data.mid+"</strong></td></tr>":"")+"</table>";}return o.element=="bar"?o.x:o.y;};var df=dojox.lang.functional,m=dojox.gfx.matrix,pi4=Math.PI/4,pi2=Math.PI/2;dojo.declare("dojox.charting.action2d.Tooltip",dojox.charting.action2d.Base,{defaultParams:{text:_511},optionalParams:{},constructor:function(_512,plot,_513){this.text=_513&&_513.text?_513.text:_511;this.connect();},process:function(o){if(o.type==="onplotreset"||o.type==="onmouseout"){_514(this.aroundRect);this.aroundRect=null;return;}if(!o.shape||o.type!=="onmouseover"){return;}var _515={type:"rect"},_516=["after","before"];switch(o.element){case "marker":_515.x=o.cx;_515.y=o.cy;_515.width=_515.height=1;break;case "circle":_515.x=o.cx-o.cr;_515.y=o.cy-o.cr;_515.width=_515.height=2*o.cr;break;case "column":_516=["above","below"];case "bar":_515=dojo.clone(o.shape.getShape());break;case "candlestick":_515.x=o.x;_515.y=o.y;_515.width=o.width;_515.height=o.height;break;default:if(!this.angles){if(typeof o.run.data[0]=="number"){this.angles=df.map(df.scanl(o.run.data,"+",0),"* 2 * Math.PI / this",df.foldl(o.run.data,"+",0));}else{this.angles=df.map(df.scanl(o.run.data,"a + b.y",0),"* 2 * Math.PI / this",df.foldl(o.run.data,"a + b.y",0));}}var _517=m._degToRad(o.plot.opt.startAngle),_518=(this.angles[o.index]+this.angles[o.index+1])/2+_517;_515.x=o.cx+o.cr*Math.cos(_518);_515.y=o.cy+o.cr*Math.sin(_518);_515.width=_515.height=1;if(_518<pi4){}else{if(_518<pi2+pi4){_516=["below","above"];}else{if(_518<Math.PI+pi4){_516=["before","after"];}else{if(_518<2*Math.PI-pi4){_516=["above","below"];}}}}break;}var lt=dojo.coords(this.chart.node,true);_515.x+=lt.x;_515.y+=lt.y;_515.x=Math.round(_515.x);_515.y=Math.round(_515.y);_515.width=Math.ceil(_515.width);_515.height=Math.ceil(_515.height);this.aroundRect=_515;_519(this.text(o),this.aroundRect,_516,"center");}});var _51a=dojo.declare(dijit._MasterTooltip,{show:function(_51b,_51c,_51d,_51e){if(this.aroundNode&&this.aroundNode===_51c){return;}if(this.fadeOut.status()=="playing"){this._onDeck=arguments;return;}this.containerNode.innerHTML=_51b;this.domNode.style.top=(this.domNode.offsetTop+1)+"px";if(!this.connectorNode){this.connectorNode=dojo.query(".dijitTooltipConnector",this.domNode)[0];}var _51f=dojo.coords(this.connectorNode);this.arrowWidth=_51f.w,this.arrowHeight=_51f.h;this.place=(_51e&&_51e=="center")?this.placeChartingTooltip:dijit.placeOnScreenAroundElement,this.place(this.domNode,_51c,dijit.getPopupAroundAlignment((_51d&&_51d.length)?_51d:dijit.Tooltip.defaultPosition,this.isLeftToRight()),dojo.hitch(this,"orient"));dojo.style(this.domNode,"opacity",0);this.fadeIn.play();this.isShowingNow=true;this.aroundNode=_51c;},placeChartingTooltip:function(node,_520,_521,_522){return this._placeOnScreenAroundRect(node,_520.x,_520.y,_520.width,_520.height,_521,_522);},_placeOnScreenAroundRect:function(node,x,y,_523,_524,_525,_526){var _527=[];for(var _528 in _525){_527.push({aroundCorner:_528,corner:_525[_528],pos:{x:x+(_528.charAt(1)=="L"?0:_523),y:y+(_528.charAt(0)=="T"?0:_524),w:_523,h:_524}});}return this._place(node,_527,_526);},_place:function(node,_529,_52a){var view=dijit.getViewport();if(!node.parentNode||String(node.parentNode.tagName).toLowerCase()!="body"){dojo.body().appendChild(node);}var best=null;var _52b=null,_52c=null;dojo.some(_529,function(_52d){var _52e=_52d.corner;var _52f=_52d.aroundCorner;var pos=_52d.pos;if(_52a){_52a(node,_52d.aroundCorner,_52e);}var _530=node.style;var _531=_530.display;var _532=_530.visibility;_530.visibility="hidden";_530.display="";var mb=dojo.marginBox(node);_530.display=_531;_530.visibility=_532;var _533,_534,endX,endY,_535,_536,_537;_52b=null,_52c=null;if(_52f.charAt(0)==_52e.charAt(0)){_533=(_52e.charAt(1)=="L"?pos.x:Math.max(view.l,pos.x-mb.w)),_534=(_52e.charAt(0)=="T"?(pos.y+pos.h/2-mb.h/2):(pos.y-pos.h/2-mb.h/2)),endX=(_52e.charAt(1)=="L"?Math.min(view.l+view.w,_533+mb.w):pos.x),endY=_534+mb.h,_535=endX-_533,_536=endY-_534,_537=(mb.w-_535)+(mb.h-_536);_52c=(mb.h-this.arrowHeight)/2;}else{_533=(_52e.charAt(1)=="L"?(pos.x+pos.w/2-mb.w/2):(pos.x-pos.w/2-mb.w/2)),_534=(_52e.charAt(0)=="T"?pos.y:Math.max(view.t,pos.y-mb.h)),endX=_533+mb.w,endY=(_52e.charAt(0)=="T"?Math.min(view.t+view.h,_534+mb.h):pos.y),_535=endX-_533,_536=endY-_534,_537=(mb.w-_535)+(mb.h-_536);_52b=(mb.w-this.arrowWidth)/2;}if(best==null||_537<best.overflow){best={corner:_52e,aroundCorner:_52d.aroundCorner,x:_533,y:_534,w:_535,h:_536,overflow:_537};}return !_537;},this);node.style.left=best.x+"px";node.style.top=best.y+"px";this.connectorNode.style.top="";this.connectorNode.style.left="";if(_52c){this.connectorNode.style.top=_52c+"px";}if(_52b){this.connectorNode.style.left=_52b+"px";}if(best.overflow&&_52a){_52a(node,best.aroundCorner,best.corner);}return best;}});var _538=null;function _519(_539,_53a,_53b,_53c){if(!_538){_538=new _51a();}return _538.show(_539,_53a,_53b,_53c);};function _514(_53d){if(!_538){_538=new _51a();}return _538.hide(_53d);};})();}if(!dojo._hasResource["dojox.charting.widget.Chart2D"]){dojo._hasResource["dojox.charting.widget.Chart2D"]=true;dojo.provide("dojox.charting.widget.Chart2D");(function(){var _53e,_53f,_540,_541,_542,_543=function(o){return o;},df=dojox.lang.functional,du=dojox.lang.utils,dc=dojox.charting,d=dojo;dojo.declare("dojox.charting.widget.Chart2D",dijit._Widget,{theme:null,margins:null,stroke:null,fill:null,buildRendering:function(){var n=this.domNode=this.srcNodeRef;var axes=d.query("> .axis",n).map(_53f).filter(_543),_544=d.query("> .plot",n).map(_540).filter(_543),_545=d.query("> .action",n).map(_541).filter(_543),_546=d.query("> .series",n).map(_542).filter(_543);n.innerHTML="";var c=this.chart=new dc.Chart2D(n,{margins:this.margins,stroke:this.stroke,fill:this.fill});if(this.theme){c.setTheme(this.theme);}axes.forEach(function(axis){c.addAxis(axis.name,axis.kwArgs);});_544.forEach(function(plot){c.addPlot(plot.name,plot.kwArgs);});this.actions=_545.map(function(_547){return new _547.action(c,_547.plot,_547.kwArgs);});var _548=df.foldl(_546,function(_549,_54a){if(_54a.type=="data"){c.addSeries(_54a.name,_54a.data,_54a.kwArgs);_549=true;}else{c.addSeries(_54a.name,[0],_54a.kwArgs);var kw={};du.updateWithPattern(kw,_54a.kwArgs,{"query":"","queryOptions":null,"start":0,"count":1},true);if(_54a.kwArgs.sort){kw.sort=dojo.clone(_54a.kwArgs.sort);}d.mixin(kw,{onComplete:function(data){var _54b;if("valueFn" in _54a.kwArgs){var fn=_54a.kwArgs.valueFn;_54b=d.map(data,function(x){return fn(_54a.data.getValue(x,_54a.field,0));});}else{_54b=d.map(data,function(x){return _54a.data.getValue(x,_54a.field,0);});}c.addSeries(_54a.name,_54b,_54a.kwArgs).render();}});_54a.data.fetch(kw);}return _549;},false);if(_548){c.render();}},destroy:function(){this.chart.destroy();this.inherited(arguments);},resize:function(box){if(box.w>0&&box.h>0){dojo.marginBox(this.domNode,box);this.chart.resize();}}});_53e=function(node,type,kw){var dp=eval("("+type+".prototype.defaultParams)");var x,attr;for(x in dp){if(x in kw){continue;}attr=node.getAttribute(x);kw[x]=du.coerceType(dp[x],attr==null||typeof attr=="undefined"?dp[x]:attr);}var op=eval("("+type+".prototype.optionalParams)");for(x in op){if(x in kw){continue;}attr=node.getAttribute(x);if(attr!=null){kw[x]=du.coerceType(op[x],attr);}}};_53f=function(node){var name=node.getAttribute("name"),type=node.getAttribute("type");if(!name){return null;}var o={name:name,kwArgs:{}},kw=o.kwArgs;if(type){if(dc.axis2d[type]){type=dojox._scopeName+".charting.axis2d."+type;}var axis=eval("("+type+")");if(axis){kw.type=axis;}}else{type=dojox._scopeName+".charting.axis2d.Default";}_53e(node,type,kw);if(kw.font||kw.fontColor){if(!kw.tick){kw.tick={};}if(kw.font){kw.tick.font=kw.font;}if(kw.fontColor){kw.tick.fontColor=kw.fontColor;}}return o;};_540=function(node){var name=node.getAttribute("name"),type=node.getAttribute("type");if(!name){return null;}var o={name:name,kwArgs:{}},kw=o.kwArgs;if(type){if(dc.plot2d[type]){type=dojox._scopeName+".charting.plot2d."+type;}var plot=eval("("+type+")");if(plot){kw.type=plot;}}else{type=dojox._scopeName+".charting.plot2d.Default";}_53e(node,type,kw);return o;};_541=function(node){var plot=node.getAttribute("plot"),type=node.getAttribute("type");if(!plot){plot="default";}var o={plot:plot,kwArgs:{}},kw=o.kwArgs;if(type){if(dc.action2d[type]){type=dojox._scopeName+".charting.action2d."+type;}var _54c=eval("("+type+")");if(!_54c){return null;}o.action=_54c;}else{return null;}_53e(node,type,kw);return o;};_542=function(node){var ga=d.partial(d.attr,node);var name=ga("name");if(!name){return null;}var o={name:name,kwArgs:{}},kw=o.kwArgs,t;t=ga("plot");if(t!=null){kw.plot=t;}t=ga("marker");if(t!=null){kw.marker=t;}t=ga("stroke");if(t!=null){kw.stroke=eval("("+t+")");}t=ga("outline");if(t!=null){kw.outline=eval("("+t+")");}t=ga("shadow");if(t!=null){kw.shadow=eval("("+t+")");}t=ga("fill");if(t!=null){kw.fill=eval("("+t+")");}t=ga("font");if(t!=null){kw.font=t;}t=ga("fontColor");if(t!=null){kw.fontColor=eval("("+t+")");}t=ga("legend");if(t!=null){kw.legend=t;}t=ga("data");if(t!=null){o.type="data";o.data=t?dojo.map(String(t).split(","),Number):[];return o;}t=ga("array");if(t!=null){o.type="data";o.data=eval("("+t+")");return o;}t=ga("store");if(t!=null){o.type="store";o.data=eval("("+t+")");t=ga("field");o.field=t!=null?t:"value";t=ga("query");if(!!t){kw.query=t;}t=ga("queryOptions");if(!!t){kw.queryOptions=eval("("+t+")");}t=ga("start");if(!!t){kw.start=Number(t);}t=ga("count");if(!!t){kw.count=Number(t);}t=ga("sort");if(!!t){kw.sort=eval("("+t+")");}t=ga("valueFn");if(!!t){kw.valueFn=df.lambda(t);}return o;}return null;};})();}if(!dojo._hasResource["dojox.charting.themes.ET.greys"]){dojo._hasResource["dojox.charting.themes.ET.greys"]=true;dojo.provide("dojox.charting.themes.ET.greys");dojo.deprecated("dojox.charting.themes.ET.greys","1.3");(function(){var dxc=dojox.charting;dxc.themes.ET.greys=new dxc.Theme({antiAlias:false,chart:{stroke:null,fill:"inherit"},plotarea:{stroke:null,fill:"transparent"},axis:{stroke:{width:0},line:{width:0},majorTick:{color:"#666666",width:1,length:5},minorTick:{color:"black",width:0.5,length:2},font:"normal normal normal 8pt Tahoma",fontColor:"#999999"},series:{outline:{width:0,color:"black"},stroke:{width:1,color:"black"},fill:dojo.colorFromHex("#3b444b"),font:"normal normal normal 7pt Tahoma",fontColor:"#717171"},marker:{stroke:{width:1},fill:"#333",font:"normal normal normal 7pt Tahoma",fontColor:"#000"},colors:[dojo.colorFromHex("#8a8c8f"),dojo.colorFromHex("#4b4b4b"),dojo.colorFromHex("#3b444b"),dojo.colorFromHex("#2e2d30"),dojo.colorFromHex("#000000")]});})();}if(!dojo._hasResource["dojox.charting.widget.Sparkline"]){dojo._hasResource["dojox.charting.widget.Sparkline"]=true;dojo.provide("dojox.charting.widget.Sparkline");(function(){var d=dojo;dojo.declare("dojox.charting.widget.Sparkline",dojox.charting.widget.Chart2D,{theme:dojox.charting.themes.ET.greys,margins:{l:0,r:0,t:0,b:0},type:"Lines",valueFn:"Number(x)",store:"",field:"",query:"",queryOptions:"",start:"0",count:"Infinity",sort:"",data:"",name:"default",buildRendering:function(){var n=this.srcNodeRef;if(!n.childNodes.length||!d.query("> .axis, > .plot, > .action, > .series",n).length){var plot=document.createElement("div");d.attr(plot,{"class":"plot","name":"default","type":this.type});n.appendChild(plot);var _54d=document.createElement("div");d.attr(_54d,{"class":"series",plot:"default",name:this.name,start:this.start,count:this.count,valueFn:this.valueFn});d.forEach(["store","field","query","queryOptions","sort","data"],function(i){if(this[i].length){d.attr(_54d,i,this[i]);}},this);n.appendChild(_54d);}this.inherited(arguments);}});})();}if(!dojo._hasResource["dojox.charting.widget.Legend"]){dojo._hasResource["dojox.charting.widget.Legend"]=true;dojo.provide("dojox.charting.widget.Legend");dojo.declare("dojox.charting.widget.Legend",[dijit._Widget,dijit._Templated],{chartRef:"",horizontal:true,swatchSize:18,templateString:"<table dojoAttachPoint='legendNode' class='dojoxLegendNode'><tbody dojoAttachPoint='legendBody'></tbody></table>",legendNode:null,legendBody:null,postCreate:function(){if(!this.chart){if(!this.chartRef){return;}this.chart=dijit.byId(this.chartRef);if(!this.chart){var node=dojo.byId(this.chartRef);if(node){this.chart=dijit.byNode(node);}else{return;}}this.series=this.chart.chart.series;}else{this.series=this.chart.series;}this.refresh();},refresh:function(){var df=dojox.lang.functional;if(this._surfaces){dojo.forEach(this._surfaces,function(_54e){_54e.destroy();});}this._surfaces=[];while(this.legendBody.lastChild){dojo.destroy(this.legendBody.lastChild);}if(this.horizontal){dojo.addClass(this.legendNode,"dojoxLegendHorizontal");this._tr=dojo.doc.createElement("tr");this.legendBody.appendChild(this._tr);this._inrow=0;}var s=this.series;if(s.length==0){return;}if(s[0].chart.stack[0].declaredClass=="dojox.charting.plot2d.Pie"){var t=s[0].chart.stack[0];if(typeof t.run.data[0]=="number"){var _54f=df.map(t.run.data,"Math.max(x, 0)");if(df.every(_54f,"<= 0")){return;}var _550=df.map(_54f,"/this",df.foldl(_54f,"+",0));dojo.forEach(_550,function(x,i){this._addLabel(t.dyn[i],t._getLabel(x*100)+"%");},this);}else{dojo.forEach(t.run.data,function(x,i){this._addLabel(t.dyn[i],x.legend||x.text||x.y);},this);}}else{dojo.forEach(s,function(x){this._addLabel(x.dyn,x.legend||x.name);},this);}},_addLabel:function(dyn,_551){var icon=dojo.doc.createElement("td"),text=dojo.doc.createElement("td"),div=dojo.doc.createElement("div");dojo.addClass(icon,"dojoxLegendIcon");dojo.addClass(text,"dojoxLegendText");div.style.width=this.swatchSize+"px";div.style.height=this.swatchSize+"px";icon.appendChild(div);if(this._tr){this._tr.appendChild(icon);this._tr.appendChild(text);if(++this._inrow===this.horizontal){this._tr=dojo.doc.createElement("tr");this.legendBody.appendChild(this._tr);this._inrow=0;}}else{var tr=dojo.doc.createElement("tr");this.legendBody.appendChild(tr);tr.appendChild(icon);tr.appendChild(text);}this._makeIcon(div,dyn);text.innerHTML=String(_551);},_makeIcon:function(div,dyn){var mb={h:this.swatchSize,w:this.swatchSize};var _552=dojox.gfx.createSurface(div,mb.w,mb.h);this._surfaces.push(_552);if(dyn.fill){_552.createRect({x:2,y:2,width:mb.w-4,height:mb.h-4}).setFill(dyn.fill).setStroke(dyn.stroke);}else{if(dyn.stroke||dyn.marker){var line={x1:0,y1:mb.h/2,x2:mb.w,y2:mb.h/2};if(dyn.stroke){_552.createLine(line).setStroke(dyn.stroke);}if(dyn.marker){var c={x:mb.w/2,y:mb.h/2};if(dyn.stroke){_552.createPath({path:"M"+c.x+" "+c.y+" "+dyn.marker}).setFill(dyn.stroke.color).setStroke(dyn.stroke);}else{_552.createPath({path:"M"+c.x+" "+c.y+" "+dyn.marker}).setFill(dyn.color).setStroke(dyn.color);}}}else{_552.createRect({x:2,y:2,width:mb.w-4,height:mb.h-4}).setStroke("black");_552.createLine({x1:2,y1:2,x2:mb.w-2,y2:mb.h-2}).setStroke("black");_552.createLine({x1:2,y1:mb.h-2,x2:mb.w-2,y2:2}).setStroke("black");}}}});}dojo.i18n._preloadLocalizations("dojox.charting.widget.nls.Chart2D",["ROOT","ar","ca","cs","da","de","de-de","el","en","en-gb","en-us","es","es-es","fi","fi-fi","fr","fr-fr","he","he-il","hu","it","it-it","ja","ja-jp","ko","ko-kr","nb","nl","nl-nl","pl","pt","pt-br","pt-pt","ru","sk","sl","sv","th","tr","xx","zh","zh-cn","zh-tw"]);
@@ -0,0 +1,12 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.drawing"]){
+dojo._hasResource["dojox.drawing"]=true;
+dojo.provide("dojox.drawing");
+dojo.require("dojox.drawing._base");
+}
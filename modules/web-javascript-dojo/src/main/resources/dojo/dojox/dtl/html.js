@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.dtl.html"]){
+dojo._hasResource["dojox.dtl.html"]=true;
+dojo.provide("dojox.dtl.html");
+dojo.deprecated("dojox.dtl.html","All packages and classes in dojox.dtl that start with Html or html have been renamed to Dom or dom");
+dojo.require("dojox.dtl.dom");
+dojox.dtl.HtmlTemplate=dojox.dtl.DomTemplate;
+}
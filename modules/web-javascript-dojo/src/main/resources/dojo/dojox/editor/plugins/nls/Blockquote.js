@@ -0,0 +1 @@
+({"blockquote":"Blockquote"})
\ No newline at end of file
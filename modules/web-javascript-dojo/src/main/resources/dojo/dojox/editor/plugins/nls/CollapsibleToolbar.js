@@ -0,0 +1 @@
+({"collapse":"Collapse Editor Toolbar","expand":"Expand Editor Toolbar"})
\ No newline at end of file
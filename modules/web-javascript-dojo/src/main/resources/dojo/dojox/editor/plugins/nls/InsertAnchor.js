@@ -0,0 +1 @@
+({"set":"Set","insertAnchor":"Insert Anchor","title":"Anchor Properties","text":"Description:","cancel":"Cancel","anchor":"Name:"})
\ No newline at end of file
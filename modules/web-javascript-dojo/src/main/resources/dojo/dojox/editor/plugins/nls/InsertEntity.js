@@ -0,0 +1 @@
+({"insertEntity":"Insert Symbol"})
\ No newline at end of file
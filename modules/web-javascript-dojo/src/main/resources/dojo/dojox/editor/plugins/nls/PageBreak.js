@@ -0,0 +1 @@
+({"pageBreak":"Page Break"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Preview"})
\ No newline at end of file
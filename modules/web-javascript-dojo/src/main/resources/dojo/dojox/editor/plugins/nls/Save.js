@@ -0,0 +1 @@
+({"save":"Save"})
\ No newline at end of file
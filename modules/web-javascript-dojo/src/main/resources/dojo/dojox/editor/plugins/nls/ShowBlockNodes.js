@@ -0,0 +1 @@
+({"showBlockNodes":"Show HTML Block Elements"})
\ No newline at end of file
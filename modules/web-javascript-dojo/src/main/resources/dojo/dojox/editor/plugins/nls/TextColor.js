@@ -0,0 +1 @@
+({"setButtonText":"Set","cancelButtonText":"Cancel"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"Vložit symbol"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"Zalomení stránky"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Náhled"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Uložit"})
\ No newline at end of file
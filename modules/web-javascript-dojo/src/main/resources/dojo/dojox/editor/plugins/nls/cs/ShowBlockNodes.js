@@ -0,0 +1 @@
+({"showBlockNodes":"Zobrazit prvky bloku kódu HTML"})
\ No newline at end of file
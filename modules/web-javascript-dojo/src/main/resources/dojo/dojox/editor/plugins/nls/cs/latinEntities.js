@@ -0,0 +1 @@
+({"le":"menší než nebo rovno","prod":"n-ární součin\nznak součin","zwj":"spojení, nulová šířka","mdash":"dlouhá pomlčka","frasl":"lomítko u zlomků","upsih":"symbol řeckého písmena ypsilon se zahnutým háčkem","prop":"úměrné","middot":"tečka uprostřed","hellip":"vodorovná výpustka\ntři tečky","eta":"malé řecké písmeno éta","iacute":"malé písmeno i s čárkou","yen":"znak yen\nznak yuan","rlm":"značka směru zprava doleva","macr":"nadtržítko","ldquo":"levé uvozovky","Icirc":"velké písmeno I se stříškou","OElig":"slitek OE, velký","hArr":"dvojitá šipka doleva a doprava","eth":"malé písmeno eth","divide":"znak dělení","chi":"malé řecké písmeno chí","eacute":"malé písmeno e s čárkou","icirc":"malé písmeno i se stříškou","iexcl":"obrácený vykřičník","ETH":"velké písmeno ETH","acute":"čárka nahoře","crarr":"šipka dolů zahnutá doleva\nnávrat vozíku, konec řádku","mu":"malé řecké písmeno mí","AElig":"velké písmeno AE\nslitek AE, velký","aacute":"malé písmeno a s čárkou","lambda":"malé řecké písmeno lambda","THORN":"velké písmeno THORN","asymp":"téměř rovno\nasymptotické k","fnof":"malé písmeno f se zahnutým háčkem\nfunkce\nflorin","lang":"levá lomená závorka","cup":"sjednocení\noblouk vypouklý dolů","ne":"není rovno","Sigma":"velké řecké písmeno sigma","oelig":"slitek oe, malý","cent":"znak cent","ni":"obsahuje jako člena","dagger":"křížek","permil":"znak promile","Omicron":"velké řecké písmeno omikrón","sigma":"malé řecké písmeno sigma","euro":"znak euro","Yacute":"velké písmeno Y s čárkou","thorn":"malé písmeno thorn","lceil":"levá horní celá část","Ograve":"velké písmeno O s obrácenou čárkou","rarr":"šipka doprava","nu":"malé řecké písmeno ný","emsp":"široká mezera","Theta":"velké řecké písmeno théta","lArr":"dvojitá šipka doleva","tau":"malé řecké písmeno tau","aelig":"malé písmeno ae\nslitek ae, malý","ccedil":"malé písmeno c se spodním háčkem","Ntilde":"velké písmeno N s vlnovkou","cong":"přibližně rovno","Uacute":"velké písmeno U s čárkou","theta":"malé řecké písmeno théta","darr":"šipka dolů","Uuml":"velké písmeno U s přehláskou","bdquo":"dolní uvozovky","Aring":"velké písmeno A s kroužkem nahoře","sigmaf":"malé řecké písmeno koncové sigma","pound":"znak libra","uArr":"dvojitá šipka nahoru","sub":"podmnožina","aring":"malé písmeno a s kroužkem nahoře","sdot":"operátor tečka","thinsp":"zúžená mezera","or":"logický operátor nebo\nklín s hrotem dolů","Eacute":"velké písmeno E s čárkou","shy":"spojovník\nrozdělovník","curren":"znak měna","loz":"kosočtverec","not":"znak negace","tilde":"malá vlnovka","sum":"n-ární součet","spades":"piky","Psi":"velké řecké písmeno psí","ndash":"krátká pomlčka","sup":"nadmnožina","atilde":"malé písmeno a s vlnovkou","clubs":"kříže\ntrojlístek","uuml":"malé písmeno u s přehláskou","Aacute":"velké písmeno A s čárkou","rsaquo":"pravá šipka","otimes":"znak násobení v kroužku\nvektorový součin","lfloor":"levá dolní celá část","zwnj":"zákaz spojení, nulová šířka","sim":"operátor tilda\nzměna podle\npodobné","Iota":"velké řecké písmeno jóta","Iacute":"velké písmeno I s čárkou","pi":"malé řecké písmeno pí","ordf":"indikátor ženského rodu","frac12":"jednoduchý zlomek jedna polovina\nzlomek jedna polovina","frac14":"jednoduchý zlomek jedna čtvrtina\nzlomek jedna čtvrtina","alefsym":"symbol alef\nprvní transfinitní kardinál","bull":"odrážka\nmalý černý kroužek","deg":"znak stupeň","ordm":"indikátor mužského rodu","epsilon":"malé řecké písmeno epsilon","equiv":"shodné s","Dagger":"dvojitý křížek","brvbar":"přerušená čára\npřerušená svislá čára","harr":"šipka doleva a doprava","ugrave":"malé písmeno u s obrácenou čárkou","oslash":"malé písmeno o s přeškrtnutím","Yuml":"velké písmeno Y s přehláskou","hearts":"srdce\nvalentýn","Xi":"velké řecké písmeno ksí","Prime":"dvojitá čárka nahoře\nsekundy\npalce","iota":"malé řecké písmeno jóta","Ccedil":"velké písmeno C se spodním háčkem","Lambda":"velké řecké písmeno lambda","raquo":"dvojitá pravá šipka","Phi":"velké řecké písmeno fí","prime":"čárka nahoře\nminuty\nstopy","nsub":"není podmnožinou","copy":"znak copyright","yuml":"malé písmeno y s přehláskou","Rho":"velké řecké písmeno ró","Ucirc":"velké písmeno U se stříškou","Kappa":"velké řecké písmeno kappa","ucirc":"malé písmeno u se stříškou","sbquo":"dolní apostrof","igrave":"malé písmeno i s obrácenou čárkou","reg":"znak registrováno\nznak registrovaná ochranná známka","infin":"nekonečno","iquest":"obrácený otazník\notočený otazník","circ":"stříška, modifikátor písmen","kappa":"malé řecké písmeno kappa","lrm":"značka směru zleva doprava","Atilde":"velké písmeno A s vlnovkou","larr":"šipka doleva","frac34":"jednoduchý zlomek tři čtvrtiny\nzlomek tři čtvrtiny","oacute":"malé písmeno o s čárkou","rsquo":"pravý apostrof","egrave":"malé písmeno e s obrácenou čárkou","oline":"nadtržítko\npruh","Mu":"velké řecké písmeno mí","exist":"existuje","cap":"průnik\noblouk vypouklý nahoru","and":"logický operátor a\nklín s hrotem nahoru","Ouml":"velké písmeno O s přehláskou","agrave":"malé písmeno a s obrácenou čárkou","uarr":"šipka nahoru","ang":"úhel","Zeta":"velké řecké písmeno zéta","scaron":"malé písmeno s s háčkem","Gamma":"velké řecké písmeno gama","isin":"prvek množiny","Auml":"velké písmeno A s přehláskou","empty":"prázdná množina\nnulová množina\nprůměr","gamma":"malé řecké písmeno gama","para":"znak konec odstavce","ge":"větší než nebo rovno","psi":"malé řecké písmeno psí","Alpha":"velké řecké písmeno alfa","Nu":"velké řecké písmeno ný","ouml":"malé písmeno o s přehláskou","zeta":"malé řecké písmeno zéta","alpha":"malé řecké písmeno alfa","part":"parciální diferenciál","auml":"malé písmeno a s přehláskou","Ugrave":"velké písmeno U s obrácenou čárkou","Oslash":"velké písmeno O s přeškrtnutím","Epsilon":"velké řecké písmeno epsilon","int":"integrál","Omega":"velké řecké písmeno ómega","perp":"kolmice\nortogonální k\nkolmé na","uml":"vodorovná dvojtečka\npřehláska","upsilon":"malé řecké písmeno ypsilon","lowast":"operátor hvězdička","omega":"malé řecké písmeno ómega","otilde":"malé písmeno o s vlnovkou","Egrave":"velké písmeno E s obrácenou čárkou","phi":"malé řecké písmeno fí","ensp":"úzká mezera","Euml":"velké písmeno E s přehláskou","cedil":"cedilla\nspodní háček","laquo":"dvojitá levá šipka","forall":"pro všechny","thetasym":"symbol malého řeckého písmena théta","Agrave":"velké písmeno A s obrácenou čárkou","szlig":"malé písmeno ostré s","Pi":"velké řecké písmeno pí","rho":"malé řecké písmeno ró","trade":"znak ochranná známka","Igrave":"velké písmeno I s obrácenou čárkou","minus":"znak minus","Beta":"velké řecké písmeno beta","Ocirc":"velké písmeno O se stříškou","rdquo":"pravé uvozovky","Eta":"velké řecké písmeno éta","rfloor":"pravá dolní celá část","Oacute":"velké písmeno O s čárkou","euml":"malé písmeno e s přehláskou","oplus":"znak plus v kroužku\npřímý součet","ocirc":"malé písmeno o se stříškou","radic":"druhá odmocnina","Chi":"velké řecké písmeno chí","notin":"není prvkem množiny","sect":"znak paragraf","Acirc":"velké písmeno A se stříškou","lsquo":"levý apostrof","beta":"malé řecké písmeno beta","piv":"řecký symbol pí","sup1":"1, horní index","Scaron":"velké písmeno S s háčkem","sup2":"2, horní index\ndruhá mocnina\nplošná míra","acirc":"malé písmeno a se stříškou","sube":"podmnožina nebo shodné s","sup3":"3, horní index\ntřetí mocnina\nkrychlová míra","real":"velké písmeno R, švabach\nsymbol reálné části","Iuml":"velké písmeno I s přehláskou","rang":"pravá lomená závorka","lsaquo":"levá šipka","nabla":"nabla\nzpětná diference","omicron":"malé řecké písmeno omikrón","there4":"a proto","plusmn":"znak plus-minus\nznak plus nebo minus","rceil":"pravá horní celá část","micro":"znak mikro","rArr":"dvojitá šipka doprava","Delta":"velké řecké písmeno delta","iuml":"malé písmeno i s přehláskou","Tau":"velké řecké písmeno tau","times":"znak násobení","yacute":"malé písmeno y s čárkou","ograve":"malé písmeno o s obrácenou čárkou","delta":"malé řecké písmeno delta","Ecirc":"velké písmeno E se stříškou","dArr":"dvojitá šipka dolů","ntilde":"malé písmeno n s vlnovkou","diams":"káry","uacute":"malé písmeno u s čárkou","Otilde":"velké písmeno O s vlnovkou","ecirc":"malé písmeno e se stříškou","Upsilon":"velké řecké písmeno ypsilon","image":"velké písmeno I, švabach\nimaginární část","supe":"nadmnožina nebo shodné s","xi":"malé řecké písmeno ksí","weierp":"stylizované velké písmeno P\npotenční množina\nWeierstrassovo písmeno p"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"Symbol einfügen"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"Seitenumbruch"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Vorschau"})
\ No newline at end of file
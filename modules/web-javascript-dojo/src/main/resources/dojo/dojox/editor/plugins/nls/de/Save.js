@@ -0,0 +1 @@
+({"save":"Speichern"})
\ No newline at end of file
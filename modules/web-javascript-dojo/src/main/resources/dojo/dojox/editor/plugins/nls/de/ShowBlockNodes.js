@@ -0,0 +1 @@
+({"showBlockNodes":"HTML-Blockelemente anzeigen"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"le":"Kleiner-gleich","prod":"unäres Produkt\nProduktzeichen","zwj":"Verbinder mit Nullbreite","mdash":"Gedankenstrich von der Länge des Buchstabens m","frasl":"Schrägstrich für Bruch","upsih":"Griechisches Upsilon mit Haken","prop":"proportional zu","middot":"Multiplikationszeichen\nGeorgisches Komma\nGriechisches Multiplikationszeichen","hellip":"Auslassung\nDrei kleine Punkte","eta":"Griechischer Kleinbuchstabe Eta","iacute":"Kleinbuchstabe i mit Aktut","yen":"Yen-ZeichenNyuan-Zeichen","rlm":"Rechts-Links-Markierung","macr":"Makron\nLeerzeichen mit Makron\nÜberstrich\nQuerstrich über dem Buchstaben","ldquo":"Linkes doppeltes Anführungszeichen","Icirc":"Großbuchstabe I mit Zirkumflex","OElig":"Ligatur aus Großbuchstaben O und E","hArr":"Doppelter Rechts-Links-Pfeil","eth":"Kleines eth","divide":"Divisionszeichen","chi":"Griechischer Kleinbuchstabe Chi","eacute":"Kleinbuchstabe e mit Aktut","icirc":"Kleinbuchstabe i mit Zirkumflex","iexcl":"Umgekehrtes Ausrufezeichen","ETH":"Großes ETH","acute":"Akut\nsLeerzeichen mit Akut","crarr":"Abwärtspfeil, der nach links abknickt\nZeilenumbruch","mu":"Griechischer Kleinbuchstabe My","AElig":"Großes AE\nLigatur aus Großbuchstaben A und E","aacute":"Kleinbuchstabe a mit Aktut","lambda":"Griechischer Kleinbuchstabe Lambda","THORN":"Großes THORN","asymp":"Ungefähr gleich mit\nasymptotisch","fnof":"Kleines mit Haken\nFunction\nFlorin","lang":"Linke spitze Klammer","cup":"Vereinigungsmenge\nCup","ne":"Nicht gleich mit","Sigma":"Griechischer Großbuchstabe Sigma","oelig":"Ligatur aus Kleinbuchstaben o und e","cent":"Cent-Zeichen","ni":"Enthält als Member","dagger":"Kreuzzeichen","permil":"Promillezeichen","Omicron":"Griechischer Großbuchstabe Omicron","sigma":"Griechischer Kleinbuchstabe Sigma","euro":"Euro-Zeichen","Yacute":"Großbuchstabe Y mit Akut","thorn":"Kleines thorn","lceil":"Linke Ecke oben\nAPL upstile","Ograve":"Großbuchstabe O mit Gravis","rarr":"Rechtspfeil","nu":"Griechischer Kleinbuchstabe Ny","emsp":"Leerschritt von der Breite des Buchstaben m","Theta":"Griechischer Großbuchstabe Theta","lArr":"Doppelter Linkspfeil","tau":"Griechischer Kleinbuchstabe Tau","aelig":"Kleines ae\nLigatur aus Kleinbuchstaben a und e","ccedil":"Kleinbuchstabe c mit Cedilla","Ntilde":"Großbuchstabe N mit Tilde","cong":"Etwa gleich mit","Uacute":"Großbuchstabe U mit Akut","theta":"Griechischer Kleinbuchstabe Theta","darr":"Abwärtspfeil","Uuml":"Großbuchstabe U mit Trema","bdquo":"Doppeltes, gekrümmtes Anführungszeichen unten","Aring":"Großes A mit Ring darüber\nLateinischer Großbuchstabe A mit Ring darüber","sigmaf":"Griechischer Kleinbuchstabe Sigma am Wortende","pound":"Nummernzeichen","uArr":"Doppelter Aufwärtspfeil","sub":"Teil von","aring":"Kleines a mit Ring darüber\nKleinbuchstabe a mit Ring","sdot":"Punktoperator","thinsp":"Schmaler Leerschritt","or":"Logisches Oder\nv-förmig","Eacute":"Großbuchstabe E mit Akut","shy":"Veränderlicher Silbentrennstrich\nbedingter Trennstrich","curren":"Währungssymbol","loz":"Raute","not":"Nicht-Zeichen","tilde":"kleine Tilde","sum":"unäre Summation","spades":"Schwarzes Pik (Kartenspiel)","Psi":"Griechischer Großbuchstabe Psi","ndash":"Gedankenstrich von der Länge des Buchstabens n","sup":"Obermenge von","atilde":"Kleinbuchstabe a mit Tilde","clubs":"Schwarzes Kreuz (Kartenspiel)\nKleeblatt","uuml":"Kleinbuchstabe u mit Trema","Aacute":"Großbuchstabe A mit Akut","rsaquo":"Einfaches rechtes Anführungszeichen","otimes":"Multiplikationszeichen mit Kreis\nVektorprodukt","lfloor":"Linke Ecke unten\nAPL downstile","zwnj":"Nichtverbinder mit Nullbreite","sim":"Tilde (Operator)\nvariiert mit\nähnlich wie","Iota":"Griechischer Großbuchstabe Iota","Iacute":"Großbuchstabe I mit Akut","pi":"Griechischer Kleinbuchstabe Pi","ordf":"Weibliches Ordinalzeichen","frac12":"Bruch 1 durch 2\nEinhalb","frac14":"Bruch 1 durch 4\nEin Viertel","alefsym":"Alef-Symbol\nerste Transfinite Kardinalzahl","bull":"Rundes Aufzählungszeichen\nSchwarzer kleiner Kreis","deg":"Gradzeichen","ordm":"Männliches Ordinalzeichen","epsilon":"Griechischer Kleinbuchstabe Epsilon","equiv":"Identisch mit","Dagger":"Doppelkreuzzeichen","brvbar":"Unterbrochener Balken\nUnterbrochener vertikaler Balken","harr":"Links-Rechts-Pfeil","ugrave":"Kleinbuchstabe u mit Gravis","oslash":"Kleines o mit Schrägstrich\nKleiner dänisch-norwegischer Umlaut ö","Yuml":"Großbuchstabe Y mit Trema","hearts":"Schwarzes Herz (Kartenspiel)\nValentine","Xi":"Griechischer Großbuchstabe Xi","Prime":"Doppelter Prime\nSekunden\nZoll","iota":"Griechischer Kleinbuchstabe Iota","Ccedil":"Großbuchstabe C mit Cedilla","Lambda":"Griechischer Großbuchstabe Lambda","raquo":"Doppelte, winklige Anführungszeichen, die nach rechts weisen\nRechtes französisches Anführungszeichen","Phi":"Griechischer Großbuchstabe Phi","prime":"Prime\nMinuten\nFuß","nsub":"Kein Teil von","copy":"Copyrightzeichen","yuml":"Kleinbuchstabe y mit Trema","Rho":"Griechischer Großbuchstabe Rho","Ucirc":"Großbuchstabe U mit Zirkumflex","Kappa":"Griechischer Großbuchstabe Kappa","ucirc":"Kleinbuchstabe u mit Zirkumflex","sbquo":"Einfaches, gekrümmtes Anführungszeichen unten","igrave":"Kleinbuchstabe i mit Gravis","reg":"Registrierte Handelsmarke\nregistriertes Markenzeichen","infin":"Unendlich","iquest":"Umgekehrtes Fragezeichen\nFragezeichen auf dem Kopf","circ":"Zirkumflex, Akzent","kappa":"Griechischer Kleinbuchstabe Kappa","lrm":"Links-Rechts-Markierung","Atilde":"Großbuchstabe A mit Tilde","larr":"Linkspfeil","frac34":"Bruch 3 durch 4\nDreiviertel","oacute":"Kleinbuchstabe o mit Aktut","rsquo":"Rechtes einfaches Anführungszeichen","egrave":"Kleinbuchstabe e mit Gravis","oline":"Hochgestellter Querstrich\nLeerzeichen mit Oberstrich","Mu":"Griechischer Großbuchstabe My","exist":"Es existiert","cap":"Schnittpunkt\nHütchen","and":"Logisches Und\nKeil","Ouml":"Lateinischer Großbuchstabe O mit Trema","agrave":"Kleines a mit Gravis\nKleinbuchstabe a mit Gravis","uarr":"Aufwärtspfeil","ang":"Winkel","Zeta":"Griechischer Großbuchstabe Zeta","scaron":"Kleinbuchstabe s mit Caron","Gamma":"Griechischer Großbuchstabe Gamma","isin":"Element von","Auml":"Großbuchstabe A mit Trema","empty":"Leermenge\nNullmenge\nDurchmesser","gamma":"Griechischer Kleinbuchstabe Gamma","para":"Pilcrow-Zeichen (engl.)\nAbsatzzeichen","ge":"Größer-gleich","psi":"Griechischer Kleinbuchstabe Psi","Alpha":"Griechischer Großbuchstabe Alpha","Nu":"Griechischer Großbuchstabe Ny","ouml":"Kleinbuchstabe o mit Gravis","zeta":"Griechischer Kleinbuchstabe Zeta","alpha":"Griechischer Kleinbuchstabe Alpha","part":"Partielle Differenzialgleichung","auml":"Kleinbuchstabe a mit Trema","Ugrave":"Großbuchstabe U mit Gravis","Oslash":"Großes O mit Schrägstrich\nGroßer dänisch-norwegischer Umlaut ö","Epsilon":"Griechischer Großbuchstabe Epsilon","int":"Integral","Omega":"Griechischer Großbuchstabe Omega","perp":"Senkrecht\nSenkrecht zu\nLotrecht","uml":"Trema\nLeerzeichen mit Trema","upsilon":"Griechischer Kleinbuchstabe Upsilon","lowast":"Sternoperator","omega":"Griechischer Kleinbuchstabe Omega","otilde":"Kleinbuchstabe o mit Tilde","Egrave":"Großbuchstabe E mit Gravis","phi":"Griechischer Kleinbuchstabe Phi","ensp":"Leerschritt von der Breite des Buchstaben n","Euml":"Großbuchstabe E mit Trema","cedil":"Cedilla\nLeerzeichen mit Cedilla","laquo":"Doppelte, winklige Anführungszeichen, die nach links weisenlinke französische Anführungszeichen","forall":"Für alle","thetasym":"Griechischer Kleinbuchstabe Theta (Symbol)","Agrave":"Großes A mit Gravis\nGroßbuchstabe A mit Gravis","szlig":"Scharfes s\nEsszett","Pi":"Griechischer Großbuchstabe Pi","rho":"Griechischer Kleinbuchstabe Rho","trade":"Markenzeichen","Igrave":"Großbuchstabe I mit Gravis","minus":"Minuszeichen","Beta":"Griechischer Großbuchstabe Beta","Ocirc":"Großbuchstabe O mit Zirkumflex","rdquo":"Rechtes doppeltes Anführungszeichen","Eta":"Griechischer Großbuchstabe Eta","rfloor":"Rechte Ecke unten","Oacute":"Großbuchstabe O mit Akut","euml":"Kleinbuchstabe e mit Trema","oplus":"Pluszeichen mit Kreis\ndirekte Summe","ocirc":"Kleinbuchstabe o mit Zirkumflex","radic":"Quadratwurzel\nWurzelzeichen","Chi":"Griechischer Großbuchstabe Chi","notin":"Kein Element von","sect":"Abschnittszeichen","Acirc":"Großbuchstabe A mit Zirkumflex","lsquo":"Linkes einfaches Anführungszeichen","beta":"Griechischer Kleinbuchstabe Beta","piv":"Griechisches Pi-Symbol","sup1":"Hochgestellte Eins\nHoch 1","Scaron":"Großbuchstabe S mit Caron","sup2":"Hochgestellte Zwei\nHoch 2\nzum Quadrat","acirc":"Kleinbuchstabe a mit Zirkumflex","sube":"Teilmenge oder gleich mit","sup3":"Hochgestellte Drei\nHoch 3\nKubik","real":"Großes R in Frakturschrift\nRealteilsymbol","Iuml":"Großbuchstabe I mit Trema","rang":"Rechte spitze Klammer","lsaquo":"Einfaches linkes Anführungszeichen","nabla":"Nabla\nAbsteigende Differenz","omicron":"Griechischer Kleinbuchstabe Omicron","there4":"Deshalb","plusmn":"Plus-Minus-Zeichen\nPlus-oder-Minus-Zeichen","rceil":"Rechte Ecke oben","micro":"Micro-Zeichen","rArr":"Doppelter Rechtspfeil","Delta":"Griechischer Großbuchstabe Delta","iuml":"Kleinbuchstabe i mit Trema","Tau":"Griechischer Großbuchstabe Tau","times":"Multiplikationszeichen","yacute":"Kleinbuchstabe y mit Aktut","ograve":"Kleinbuchstabe o mit Gravis","delta":"Griechischer Kleinbuchstabe Delta","Ecirc":"Großbuchstabe E mit Zirkumflex","dArr":"Doppelter Abwärtspfeil","ntilde":"Kleinbuchstabe n mit Tilde","diams":"Schwarzes Karo (Kartenspiel)","uacute":"Kleinbuchstabe u mit Aktut","Otilde":"Lateinischer Großbuchstabe O mit Tilde","ecirc":"Kleinbuchstabe e mit Zirkumflex","Upsilon":"Griechischer Großbuchstabe Upsilon","image":"Großes I in Frakturschrift\nImaginärteil","supe":"Obermenge oder gleich mit","xi":"Griechischer Kleinbuchstabe Xi","weierp":"Kleines p in Schreibschrift\nPotenz\nWeierstrass'sche Ellipsen-Funktion"})
\ No newline at end of file
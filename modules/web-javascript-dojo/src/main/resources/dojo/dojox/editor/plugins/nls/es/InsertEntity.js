@@ -0,0 +1 @@
+({"insertEntity":"Insertar símbolo"})
\ No newline at end of file
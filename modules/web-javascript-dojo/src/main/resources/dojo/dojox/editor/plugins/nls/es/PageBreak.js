@@ -0,0 +1 @@
+({"pageBreak":"Salto de página"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Previsualización"})
\ No newline at end of file
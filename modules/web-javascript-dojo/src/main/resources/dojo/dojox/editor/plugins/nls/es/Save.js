@@ -0,0 +1 @@
+({"save":"Guardar"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"Mostrar elementos de bloque HTML"})
\ No newline at end of file
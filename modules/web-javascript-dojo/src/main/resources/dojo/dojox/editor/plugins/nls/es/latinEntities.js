@@ -0,0 +1 @@
+({"le":"menor o igual que","prod":"productoria\nmultiplicatoria","zwj":"conector de anchura cero","mdash":"guión largo","frasl":"barra de fracción","upsih":"símbolo de letra ípsilon griega con gancho","prop":"proporcional","middot":"punto medio\ncoma georgiana\npunto medio griego","hellip":"puntos suspensivos","eta":"letra eta griega minúscula","iacute":"letra i latina minúscula con acento agudo","yen":"símbolo del yen\nsímbolo de yuan","rlm":"marca de derecha a izquierda","macr":"macrón\ndiacrítico largo\nlínea superior\nbarra superior APL","ldquo":"comillas dobles abiertas","Icirc":"letra I latina mayúscula con acento circunflejo","OElig":"ligadura de OE latinas mayúsculas","hArr":"doble flecha izquierda-derecha","eth":"letra eth latina minúscula","divide":"signo de división","chi":"letra chi griega minúscula","eacute":"letra e latina minúscula con acento agudo","icirc":"letra i latina minúscula con acento circunflejo","iexcl":"signo de exclamación inicial","ETH":"letra ETH latina mayúscula","acute":"acento agudo\nagudo de espaciado","crarr":"flecha esquinada abajo a la izquierda\nretorno de carro","mu":"letra mu griega minúscula","AElig":"diptongo AE latinas mayúsculas\nligadura de AE latinas mayúsculas","aacute":"letra a latina minúscula con acento agudo","lambda":"letra lambda griega minúscula","THORN":"letra THORN latina mayúscula","asymp":"parecido\ncasi igual a","fnof":"letra f latina minúscula con gancho\nfunción\nflorín","lang":"corchete angular hacia la izquierda","cup":"unión\nconjuntos","ne":"no igual a","Sigma":"letra sigma griega mayúscula","oelig":"ligadura de oe latinas minúsculas","cent":"símbolo de centavos","ni":"está incluido","dagger":"daga","permil":"signo de por mil","Omicron":"letra ómicron griega mayúscula","sigma":"letra sigma griega minúscula","euro":"signo del euro","Yacute":"letra Y latina mayúscula con acento agudo","thorn":"letra thorn latina minúscula","lceil":"parte superior de corchete abierto","Ograve":"letra O latina mayúscula con acento grave","rarr":"flecha a la derecha","nu":"letra nu griega minúscula","emsp":"espacio largo","Theta":"letra theta griega mayúscula","lArr":"doble flecha a la izquierda","tau":"letra tau griega minúscula","aelig":"Diptongo ae latinas minúsculas\nligadura de ae latinas minúsculas","ccedil":"letra c latina minúscula con cedilla","Ntilde":"letra N latina mayúscula con virgulilla\nletra N latina mayúscula con tilde\nletra Ñ latina mayúscula","cong":"aproximadamente igual a","Uacute":"letra U latina mayúscula con acento agudo","theta":"letra theta griega minúscula","darr":"flecha hacia abajo","Uuml":"letra U latina mayúscula con diéresis","bdquo":"comillas dobles inferiores","Aring":"letra A latina mayúscula con anillo encima\nletra A latina mayúscula con anillo","sigmaf":"letra sigma final griega minúscula","pound":"símbolo libra esterlina","uArr":"doble flecha hacia arriba","sub":"subconjunto de","aring":"letra a latina minúscula con anillo encima\nletra a latina minúscula con anillo","sdot":"operador punto","thinsp":"espacio estrecho","or":"o lógico\nuve","Eacute":"letra E latina mayúscula con acento agudo","shy":"signo de guión corto","curren":"símbolo monetario","loz":"rombo","not":"signo de negación","tilde":"tilde pequeña","sum":"sumatoria","spades":"palo de picas","Psi":"letra psi griega mayúscula","ndash":"guión","sup":"superconjunto de","atilde":"letra a latina minúscula con virgulilla\nletra a latina minúscula con tilde","clubs":"palo de tréboles","uuml":"letra u latina minúscula con diéresis","Aacute":"letra A latina mayúscula con acento agudo","rsaquo":"comilla simple angular cerrada","otimes":"cruz en círculo\nproducto vectorial","lfloor":"parte inferior de corchete abierto","zwnj":"separador de anchura cero","sim":"operador de tilde\nno lógico\nparecido a","Iota":"letra iota griega mayúscula","Iacute":"letra I latina mayúscula con acento agudo","pi":"letra pi griega minúscula","ordf":"indicador de ordinal femenino","frac12":"fracción de medio vulgar\nfracción de medio","frac14":"fracción de cuarto vulgar\nfracción de cuarto","alefsym":"símbolo alef\nprimer número transfinito","bull":"viñeta\ncírculo negro pequeño","deg":"signo de grados","ordm":"indicador de ordinal masculino","epsilon":"letra épsilon griega minúscula","equiv":"idéntico a","Dagger":"daga doble","brvbar":"barra dividida\nbarra vertical dividida","harr":"flecha izquierda-derecha","ugrave":"letra u latina minúscula con acento grave","oslash":"letra o latina minúscula con barra\nletra o latina minúscula con barra inclinada","Yuml":"letra Y latina mayúscula con diéresis","hearts":"palo de corazones","Xi":"letra xi griega mayúscula","Prime":"símbolo primo doble\nsegundos\npulgadas","iota":"letra iota griega minúscula","Ccedil":"letra C latina mayúscula con cedilla","Lambda":"letra lambda griega mayúscula","raquo":"comillas dobles en ángulo a la derecha","Phi":"letra phi griega mayúscula","prime":"símbolo primo\nminutos\npies","nsub":"no un subconjunto de","copy":"símbolo de copyright","yuml":"letra y latina minúscula con diéresis","Rho":"letra rho griega mayúscula","Ucirc":"letra U latina mayúscula con acento circunflejo","Kappa":"letra kappa griega mayúscula","ucirc":"letra u latina minúscula con acento circunflejo","sbquo":"comilla simple inferior","igrave":"letra i latina minúscula con acento grave","reg":"símbolo de registrado\nsímbolo de marca registrada","infin":"infinito","iquest":"signo de interrogación inicial\nsigno de apertura de interrogación","circ":"acento circunflejo","kappa":"letra kappa griega minúscula","lrm":"marca de izquierda a derecha","Atilde":"letra A latina mayúscula con virgulilla\nletra A latina mayúscula con tilde","larr":"flecha a la izquierda","frac34":"fracción de tres cuartos vulgar\nfracción de tres cuartos","oacute":"letra o latina minúscula con acento agudo","rsquo":"comilla simple cerrada","egrave":"letra e latina minúscula con acento grave","oline":"sobrelínea\nsobre la letra","Mu":"letra mu griega mayúscula","exist":"existe","cap":"intersección\nconjuntos","and":"y lógico\ncuña","Ouml":"letra O latina mayúscula con diéresis","agrave":"letra a latina minúscula con acento grave\nletra a latina minúscula grave","uarr":"flecha hacia arriba","ang":"ángulo","Zeta":"letra zeta griega mayúscula","scaron":"letra s latina minúscula con anticircunflejo","Gamma":"letra gamma griega mayúscula","isin":"pertenece","Auml":"letra A latina mayúscula con diéresis","empty":"conjunto vacío\nconjunto nulo\ndiámetro","gamma":"letra gamma griega minúscula","para":"signo de párrafo","ge":"mayor o igual que","psi":"letra psi griega minúscula","Alpha":"letra alpha griega mayúscula","Nu":"letra nu griega mayúscula","ouml":"letra o latina minúscula con diéresis","zeta":"letra zeta griega minúscula","alpha":"letra alpha griega minúscula","part":"derivada parcial","auml":"letra a latina minúscula con diéresis","Ugrave":"letra U latina mayúscula con acento grave","Oslash":"letra O latina mayúscula con barra\nletra O latina mayúscula con barra inclinada","Epsilon":"letra épsilon griega mayúscula","int":"integral","Omega":"letra omega griega mayúscula","perp":"ortogonal a\nperpendicular","uml":"diéresis\ndiéresis de espaciado","upsilon":"letra ípsilon griega minúscula","lowast":"operador asterisco","omega":"letra omega griega minúscula","otilde":"letra o latina minúscula con virgulilla\nletra o latina minúscula con tilde","Egrave":"letra E latina mayúscula con acento grave","phi":"letra phi griega minúscula","ensp":"espacio","Euml":"letra E latina mayúscula con acento diéresis","cedil":"cedilla\ncedilla de espaciado","laquo":"comillas dobles en ángulo a la izquierda","forall":"para todo","thetasym":"símbolo de letra theta griega minúscula","Agrave":"letra A latina mayúscula con acento grave\nletra A latina mayúscula grave","szlig":"letra s fuerte latina minúscula\nEszet","Pi":"letra pi griega mayúscula","rho":"letra rho griega minúscula","trade":"símbolo de marca registrada","Igrave":"letra I latina mayúscula con acento grave","minus":"signo menos","Beta":"letra beta griega mayúscula","Ocirc":"letra O latina mayúscula con acento circunflejo","rdquo":"comillas dobles cerradas","Eta":"letra eta griega mayúscula","rfloor":"parte inferior de corchete abierto","Oacute":"letra O latina mayúscula con acento agudo","euml":"letra e latina minúscula con diéresis","oplus":"más en círculo\nsuma directa","ocirc":"letra o latina minúscula con acento circunflejo","radic":"raíz cuadrada\nsigno radical","Chi":"letra chi griega mayúscula","notin":"no pertenece","sect":"signo de sección","Acirc":"letra A latina mayúscula con acento circunflejo","lsquo":"comilla simple abierta","beta":"letra beta griega minúscula","piv":"símbolo pi griego","sup1":"superíndice uno\nsuperíndice de dígito uno","Scaron":"letra S latina mayúscula con anticircunflejo","sup2":"superíndice dos\nsuperíndice de dígito dos\nelevado al cuadrado","acirc":"letra a latina minúscula con acento circunflejo","sube":"subconjunto de o igual a","sup3":"superíndice tres\nsuperíndice de dígito tres\nelevado al cubo","real":"letra R mayúscula\nnúmeros reales","Iuml":"letra I latina mayúscula con diéresis","rang":"corchete angular hacia la derecha","lsaquo":"comilla simple angular abierta","nabla":"nabla\ngradiente","omicron":"letra ómicron griega minúscula","there4":"por lo tanto","plusmn":"signo de más-menos\nsigno de más o menos","rceil":"parte superior de corchete cerrado","micro":"signo de micro","rArr":"doble flecha a la derecha","Delta":"letra delta griega mayúscula","iuml":"letra i latina minúscula con diéresis","Tau":"letra tau griega mayúscula","times":"signo de multiplicación","yacute":"letra y latina minúscula con acento agudo","ograve":"letra o latina minúscula con acento grave","delta":"letra delta griega minúscula","Ecirc":"letra E latina mayúscula con acento circunflejo","dArr":"doble flecha hacia abajo","ntilde":"letra n latina minúscula con virgulilla\nletra n latina minúscula con tilde","diams":"palo de diamantes","uacute":"letra u latina minúscula con acento agudo","Otilde":"letra O latina mayúscula con virgulilla\nletra O latina mayúscula con tilde","ecirc":"letra e latina minúscula con acento circunflejo","Upsilon":"letra ípsilon griega mayúscula","image":"letra I mayúscula\nnúmeros imaginarios","supe":"superconjunto de o igual a","xi":"letra xi griega minúscula","weierp":"letra P mayúscula cursiva"})
\ No newline at end of file
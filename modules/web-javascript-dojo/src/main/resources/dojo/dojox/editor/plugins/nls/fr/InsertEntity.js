@@ -0,0 +1 @@
+({"insertEntity":"Insertion d'un symbole"})
\ No newline at end of file
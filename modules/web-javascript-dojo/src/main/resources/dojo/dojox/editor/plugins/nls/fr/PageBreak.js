@@ -0,0 +1 @@
+({"pageBreak":"Saut de page"})
\ No newline at end of file
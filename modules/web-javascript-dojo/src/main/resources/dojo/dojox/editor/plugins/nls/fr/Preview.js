@@ -0,0 +1 @@
+({"preview":"Aperçu"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Sauvegarder"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"Affichage des éléments de bloc HTML"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"buttonSet":"Définir","insertTableTitle":"Insertion d'une table","insertTableRowAfterLabel":"Ajouter une ligne après","center":"au centre","deleteTableColumnLabel":"Supprimer une colonne","right":"à droite","insertTableColumnBeforeLabel":"Ajouter une colonne avant","tableWidth":"Largeur de la table :","buttonInsert":"Insérer","default":"valeur par défaut","align":"Aligner :","insertTableRowBeforeLabel":"Ajouter une ligne avant","cellSpacing":"Espacement des cellules :","pixels":"pixels","selectTableLabel":"Sélection d'une table","rows":"Lignes :","modifyTableTitle":"Modification d'une table","cellPadding":"Remplissage des cellules","deleteTableRowLabel":"Supprimer une ligne","backgroundColor":"Couleur d'arrière-plan :","insertTableColumnAfterLabel":"Ajouter une colonne après","left":"à gauche","borderThickness":"Epaisseur de la bordure","columns":"Colonnes :","percent":"pourcentage","borderColor":"Couleur de la bordure :"})
\ No newline at end of file
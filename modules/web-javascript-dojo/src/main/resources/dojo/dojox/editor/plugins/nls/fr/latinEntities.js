@@ -0,0 +1 @@
+({"le":"inférieur ou égal à","prod":"produit n-aire\nsigne produit","zwj":"liant sans chasse","mdash":"tiret cadratin","frasl":"barre de fraction","upsih":"Greek - upsilon avec symbole de crochet","prop":"proportionnel à","middot":"point médian\nvirgule géorgiennea\npoint médian grec","hellip":"points de suspension\ntrois points de conduite","eta":"Grec - eta minuscule","iacute":"Latin - i minuscule avec accent aigu","yen":"signe yen\nsigne yuan","rlm":"marque de droite à gauche","macr":"macron\nmacron d'espacement\nligne supérieure\nbarre supérieure APL","ldquo":"guillemet double gauche","Icirc":"Latin - I majuscule avec accent circonflexe","OElig":"Latin - Ligature OE majuscule","hArr":"flèche double vers la gauche","eth":"Latin - eth minuscule","divide":"signe division","chi":"Grec - chi minuscule","eacute":"Latin - e minuscule avec accent aigu","icirc":"Latin - i minuscule avec accent circonflexe","iexcl":"point d'exclamation inversé","ETH":"Latin - ETH majuscule","acute":"accent aigu\naccent aigu d'espacement","crarr":"flèche vers le bas avec coin vers la gauche\nretour chariot","mu":"Grec - mu minuscule","AElig":"Latin - AE majuscule\nLatin - AE majuscule (ligature)","aacute":"Latin - a minuscule avec accent aigu","lambda":"Grec - lambda minuscule","THORN":"Latin THORN majuscule","asymp":"presque égal à\nasymptotique à","fnof":"Latin - f minuscule avec crochet\nfonction\nflorin","lang":"chevron vers la gauche","cup":"union\ncup","ne":"différente de","Sigma":"Grec - sigma majuscule","oelig":"Latin - Ligature oe minuscule","cent":"signe cent","ni":"contient comme membre","dagger":"obèle","permil":"signe pour-mille","Omicron":"Grec - omicron majuscule","sigma":"Grec - sigma minuscule","euro":"signe euro","Yacute":"Latin - Y majuscule avec accent aigu","thorn":"Latin - thorn minuscule","lceil":"plafond à gauche\nmontant APL","Ograve":"Latin - O majuscule avec accent grave","rarr":"flèche vers la droite","nu":"Grec - nu minuscule","emsp":"espace cadratin","Theta":"Grec - theta majuscule","lArr":"flèche double vers la gauche","tau":"Grec - tau minuscule","aelig":"Latin - AE minuscule\nLatin - AE minuscule (ligature)","ccedil":"Latin - c minuscule avec cédille","Ntilde":"Latin - N majuscule avec tilde","cong":"approximativement égal à","Uacute":"Latin - U majuscule avec accent aigu","theta":"Grec - theta minuscule","darr":"flèche vers le bas","Uuml":"Latin - U majuscule avec tréma","bdquo":"guillemet double fermant bas","Aring":"Latin - A majuscule rond en chef\nLatin - A majuscule rond","sigmaf":"Grec - sigma final minuscule","pound":"signe livre sterling","uArr":"flèche double vers le haut","sub":"sous-ensemble de","aring":"Latin - a minuscule rond en chef\nLatin - a minuscule rond","sdot":"point","thinsp":"espace fin","or":"ou logique\nvee","Eacute":"Latin - E majuscule avec accent aigu","shy":"trait d'union conditionnel\ntiret conditionnel","curren":"signe devise","loz":"losange","not":"signe non","tilde":"petit tilde","sum":"somme n-aire","spades":"pic noir","Psi":"Grec - psi majuscule","ndash":"tiret demi-cadratin","sup":"sur-ensemble de","atilde":"Latin - a minuscule avec tilde","clubs":"trèfle noir","uuml":"Latin - u minuscule avec tréma","Aacute":"Latin - A majuscule avec accent aigu","rsaquo":"guillemet simple orienté vers la droite","otimes":"signe multiplié entouré\nproduit vectoriel","lfloor":"plancher à gauche\ndescendant APL","zwnj":"antiliant sans chasse","sim":"tilde\nvarie en fonction de\nsimilaire à","Iota":"Grec - iota majuscule","Iacute":"Latin - I majuscule avec accent aigu","pi":"Grec - pi minuscule","ordf":"indicateur ordinal féminin","frac12":"fraction commune un demi\nfraction un demi","frac14":"fraction commune un quart\nfraction un quart","alefsym":"symbole alef\npremier cardinal transfini","bull":"puce\npetit cercle noir","deg":"signe degré","ordm":"indicateur ordinal masculin","epsilon":"Grec - epsilon minuscule","equiv":"identique à","Dagger":"double obèle","brvbar":"barre interrompue\nbarre verticale interrompue","harr":"flèche vers la gauche et la droite","ugrave":"Latin - u minuscule avec accent grave","oslash":"Latin - o minuscule barré\nLatin - Ensemble vide minuscule","Yuml":"Latin - Y majuscule avec tréma","hearts":"coeur noir\nvalentine","Xi":"Grec - xi majuscule","Prime":"double apostrophe\nsecondes\npouces","iota":"Grec - iota minuscule","Ccedil":"Latin - C majuscule avec cédille","Lambda":"Grec - lambda majuscule","raquo":"guillemets ouvrants","Phi":"Grec - phi majuscule","prime":"apostrophe\nminutes\npieds","nsub":"non sous-ensemble de","copy":"signe de droit d'auteur","yuml":"Latin - y minuscule avec tréma","Rho":"Grec - rho majuscule","Ucirc":"Latin - U majuscule avec accent circonflexe","Kappa":"Grec - kappa majuscule","ucirc":"Latin - u minuscule avec accent circonflexe","sbquo":"guillemet simple fermant bas","igrave":"Latin - i minuscule avec accent grave","reg":"signe enregistré\nmarque commerciale enregistrée","infin":"infinité","iquest":"point d'interrogation inversé\npoint d'interrogation retourné","circ":"accent circonflexe de lettre modificateur","kappa":"Grec - kappa minuscule","lrm":"marque de gauche à droite","Atilde":"Latin - A majuscule avec tilde","larr":"flèche vers la gauche","frac34":"fraction commune trois quarts\nfraction trois quarts","oacute":"Latin - o minuscule avec accent aigu","rsquo":"guillemet simple fermant","egrave":"Latin - e minuscule avec accent grave","oline":"surligné\nbarre supérieure d'espacement","Mu":"Grec - mu majuscule","exist":"il existe","cap":"intersection\ncap","and":"et logique\nwedge","Ouml":"Latin - O majuscule avec tréma","agrave":"Latin - a minuscule avec accent grave\nLatin - a minuscule accent grave","uarr":"flèche vers le haut","ang":"angle","Zeta":"Grec - zeta majuscule","scaron":"Latin - s minuscule avec caron","Gamma":"Grec - gamma majuscule","isin":"élément de","Auml":"Latin - A majuscule avec tréma","empty":"ensemble vide\nensemble null\ndiamètre","gamma":"Grec - gamma minuscule","para":"symbole de paragraphe","ge":"supérieur ou égal à","psi":"Grec - psi minuscule","Alpha":"Grec - alpha majuscule","Nu":"Grec - nu majuscule","ouml":"Latin - o minuscule avec tréma","zeta":"Grec - zeta minuscule","alpha":"Grec - alpha minuscule","part":"différentiel partiel","auml":"Latin - a minuscule avec tréma","Ugrave":"Latin - U majuscule avec accent grave","Oslash":"Latin - O majuscule barré\nLatin - Ensemble vide","Epsilon":"Grec - epsilon majuscule","int":"intégrale","Omega":"Grec - omega majuscule","perp":"orthogonal à\nperpendiculaire","uml":"tréma\ntréma d'espacement","upsilon":"Grec - upsilon minuscule","lowast":"astérisque","omega":"Grec - omega minuscule","otilde":"Latin - o minuscule avec tilde","Egrave":"Latin - E majuscule avec accent grave","phi":"Grec - phi minuscule","ensp":"espace demi-cadratin","Euml":"Latin - E majuscule avec tréma","cedil":"cédille\ncédille d'espacement","laquo":"guillemets fermants","forall":"pour tous","thetasym":"Grec - theta minuscule","Agrave":"Latin - A majuscule avec accent grave\nLatin - A majuscule accent grave","szlig":"Latin - s dur minuscule\nss","Pi":"Grec - pi majuscule","rho":"Grec - rho minuscule","trade":"signe de marque commerciale","Igrave":"Latin - I majuscule avec accent grave","minus":"signe moins","Beta":"Grec - beta majuscule","Ocirc":"Latin - O majuscule avec accent circonflexe","rdquo":"guillemet double droit","Eta":"Grec - eta majuscule","rfloor":"plancher à droite","Oacute":"Latin - O majuscule avec accent aigu","euml":"Latin - e minuscule avec tréma","oplus":"plus entouré\nsomme directe","ocirc":"Latin - o minuscule avec accent circonflexe","radic":"racine carrée\nsigne radical","Chi":"Grec - chi majuscule","notin":"non élément de","sect":"signe section","Acirc":"Latin - A majuscule avec accent circonflexe","lsquo":"guillemet simple ouvrant","beta":"Grec - beta minuscule","piv":"Greek - symbole pi","sup1":"exposant un\npuissance un","Scaron":"Latin - S majuscule avec caron","sup2":"exposant deux\npuissance deux\ncarré","acirc":"Latin - a minuscule avec accent circonflexe","sube":"sous-ensemble de ou égal à","sup3":"exposant trois\npuissance trois\ncube","real":"R majuscule noir\npartie réelle","Iuml":"Latin - I majuscule avec tréma","rang":"chevron vers la droite","lsaquo":"guillemet simple orienté vers la gauche","nabla":"nabla\ndifférence arrière","omicron":"Grec - omicron minuscule","there4":"donc","plusmn":"signe plus-moins\nsigne plus-ou-moins","rceil":"plafond à droite","micro":"signe micro","rArr":"flèche double vers la droite","Delta":"Grec - delta majuscule","iuml":"Latin - i minuscule avec tréma","Tau":"Grec - tau majuscule","times":"signe multiplication","yacute":"Latin - y minuscule avec accent aigu","ograve":"Latin - o minuscule avec accent grave","delta":"Grec - delta minuscule","Ecirc":"Latin - E majuscule avec accent circonflexe","dArr":"flèche double vers le bas","ntilde":"Latin - n minuscule avec tilde","diams":"carreau noir","uacute":"Latin - u minuscule avec accent aigu","Otilde":"Latin - O majuscule avec tilde","ecirc":"Latin - e minuscule avec accent circonflexe","Upsilon":"Grec - upsilon majuscule","image":"I majuscule noir\npartie imaginaire","supe":"sur-ensemble de ou égal à","xi":"Grec - xi minuscule","weierp":"P majuscule scripte\nensemble de puissances\nfonction elliptique de Weierstrass"})
\ No newline at end of file
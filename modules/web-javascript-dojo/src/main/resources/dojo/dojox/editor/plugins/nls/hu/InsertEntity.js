@@ -0,0 +1 @@
+({"insertEntity":"Szimbólum beszúrása"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"Oldaltörés"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Előzetes"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Mentés"})
\ No newline at end of file
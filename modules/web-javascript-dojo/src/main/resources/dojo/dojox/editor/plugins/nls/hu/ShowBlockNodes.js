@@ -0,0 +1 @@
+({"showBlockNodes":"HTML blokk elemek megjelenítése"})
\ No newline at end of file
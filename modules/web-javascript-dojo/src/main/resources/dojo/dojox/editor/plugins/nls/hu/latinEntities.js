@@ -0,0 +1 @@
+({"le":"kisebb vagy egyenlő","prod":"n-tagú Descartes szorzat\nszorzatjel","zwj":"nem törhető üres jel","mdash":"m kötőjel","frasl":"tört osztásjel","upsih":"Görög üpszilon horog szimbólummal ","prop":"arányos ","middot":"középső pont\nGregorián vessző\nGörög középső pont","hellip":"vízszintes hármaspont\nbevezető hármas pont","eta":"Görög kis éta betű","iacute":"Latin kis i betű éles ékezettel","yen":"jen jel\nyuan jel","rlm":"jobbról balra jel","macr":"föléhúzás jel\nAPL felülhúzás","ldquo":"bal dupla idézőjel","Icirc":"Latin kalapos nagy I betű ","OElig":"Latin nagy OE ikerbetű ","hArr":"balra-jobbra mutató dupla nyíl","eth":"Latin kis eth betű ","divide":"osztásjel ","chi":"Görög kis khí betű ","eacute":"Latin kis e betű éles ékezettel","icirc":"Latin kalapos kis i betű ","iexcl":"fordított felkiáltójel","ETH":"Latin nagy ETH betű ","acute":"hegyes ékezet\nkalapos ékezet","crarr":"lefelé mutató nyíl bal oldalon sarokkal\nsoremelés","mu":"Görög kis mű betű ","AElig":"Latin nagy AE\nLatin nagy AE ikerbetű  ","aacute":"Latin kis a betű éles ékezettel","lambda":"Görög kis lambda betű ","THORN":"Latin nagy THORN betű  ","asymp":"majdnem egyenlő\naszimptotikus","fnof":"Latin kis f horoggal\nfüggvény\nforint","lang":"balra mutató hegyes zárójel","cup":"unió","ne":"nem egyenlő","Sigma":"Görög nagy szigma betű ","oelig":"Latin kis oe ikerbetű ","cent":"cent jel","ni":"tagként tartalmazza ","dagger":"kereszt","permil":"ezrelékjel","Omicron":"Görög nagy omikron betű ","sigma":"Görög kis szigma betű  ","euro":"euro jel","Yacute":"Latin nagy Y betű éles ékezettel","thorn":"Latin kis thorn betű ","lceil":"bal szögletes zárójel felső sarok\nAPL felső keret","Ograve":"Latin nagy O betű tompa ékezettel","rarr":"jobbra mutató nyíl","nu":"Görög kis nű betű ","emsp":"m szóköz","Theta":"Görög nagy théta betű ","lArr":"balra mutató dupla nyíl","tau":"Görög kis taú betű ","aelig":"Latin kis ae betű\nLatin kis ae ikerbetű  ","ccedil":"Latin kis c betű cedillel ","Ntilde":"Latin hullámvonalas nagy N betű","cong":"megközelítőleg egyenlő","Uacute":"Latin nagy U betű éles ékezettel","theta":"Görög kis théta betű ","darr":"lefelé mutató nyíl","Uuml":"Latin kétpontos nagy U betű","bdquo":"alsó 9-es dupla idézőjel","Aring":"Latin nagy A betű felül körrel\nLatin nagy A betű felső körrel","sigmaf":"Görög kis szigma betű utolsó helyen","pound":"font jel","uArr":"felfelé mutató dupla nyíl","sub":"részhalmaza","aring":"Latin kis a betű felül körrel\nLatin kis a betű felső körrel","sdot":"pont operátor","thinsp":"szűk szóköz","or":"logikai vagy\nv-alak","Eacute":"Latin nagy E betű éles ékezettel","shy":"lágy kötőjel\nfeltételes kötőjel","curren":"pénznem jel","loz":"rombusz","not":"nem jel","tilde":"kis hullám","sum":"n-tagú összegzés","spades":"fekete pikk kártyajel ","Psi":"Görög nagy pszí betű ","ndash":"n kötőjel","sup":"bővített halmaza ","atilde":"Latin hullámvonalas kis a betű","clubs":"fekete treff kártyjel\nlóhere","uuml":"Latin kétpontos kis u betű","Aacute":"Latin nagy A betű éles ékezettel","rsaquo":"szimpla jobbra mutató hegyes idézőjel","otimes":"bekarikázott x\nvektor szorzat","lfloor":"bal szögletes zárójel alsó sarok\nAPL alsó keret","zwnj":"törhető üres jel","sim":"hullám operátor\nváltakozik\nhasonló","Iota":"Görög nagy iota betű ","Iacute":"Latin nagy I betű éles ékezettel","pi":"Görög kis pí betű ","ordf":"nőnemű sorszámnév jelzése a felső indexben","frac12":"közönséges fél tört\nfél","frac14":"közönséges egynegyed tört\nnegyed","alefsym":"alef szimbólum\nelső transzfinit pozitív egész szám","bull":"pont felsorolásjel\nkis fekete kör","deg":"fok jel","ordm":"hímnemű sorszámnév jelzése a felső indexben","epsilon":"Görög kis epszilon betű","equiv":"azonos","Dagger":"dupla kereszt ","brvbar":"megszakított vonal\nmegszakított függőleges vonal","harr":"balra-jobbra mutató nyíl","ugrave":"Latin kis u betű tompa ékezettel","oslash":"Latin áthúzott kis o betű\nLatin kis o betű osztásjellel","Yuml":"Latin kétpontos nagy Y betű ","hearts":"fekete kör kártyajel\nszívalak","Xi":"Görög nagy kszí betű ","Prime":"dupla egyenes idézőjel\nmásodperc\nhüvelyk","iota":"Görög kis ióta betű ","Ccedil":"Latin nagy C betű cedillel ","Lambda":"Görög nagy lambda betű ","raquo":"jobbra mutató dupla hegyes idézőjel\njobbra mutató belső idézőjel","Phi":"Görög nagy fí betű ","prime":"szimpla egyenes idézőjel\nperc\nláb","nsub":"nem részhalmaza","copy":"copyright jel","yuml":"Latin kétpontos kis y ","Rho":"Görög nagy ró betű ","Ucirc":"Latin kalapos nagy U betű ","Kappa":"Görög nagy kappa betű ","ucirc":"Latin kalapos kis u betű ","sbquo":"alsó 9-es szimpla idézőjel","igrave":"Latin kis i betű tompa ékezettel","reg":"védjegy jel\nbejegyzett védjegy jel","infin":"végtelen","iquest":"fordított kérdőjel\nmegfordított kérdőjel","circ":"betűt módosító kalap ékezet","kappa":"Görög kis kappa betű ","lrm":"balról jobbra jel","Atilde":"Latin hullámvonalas nagy A betű","larr":"balra mutató nyíl","frac34":"közönséges háromnegyed tört\nháromnegyed","oacute":"Latin kis o betű éles ékezettel","rsquo":"jobb szimpla idézőjel","egrave":"Latin kis e betű tompa ékezettel","oline":"felső vonal\nfelülvonás","Mu":"Görög nagy mű betű ","exist":"létezik","cap":"metszet","and":"logikai és\nék","Ouml":"Latin kétpontos nagy O betű","agrave":"Latin kis a betű tompa ékezettel\nTompa ékezetes latin kis a betű","uarr":"felfelé mutató nyíl","ang":"szög","Zeta":"Görög nagy dzéta betű ","scaron":"Latin kis s betű csónakkal","Gamma":"Görög nagy gamma betű","isin":"eleme ","Auml":"Latin kétpontos nagy A betű","empty":"üres halmaz\nnull halmaz\nátmérő","gamma":"Görög kis gamma betű","para":"sorvége jel\nbekezdés jel","ge":"nagyobb vagy egyenlő","psi":"Görög kis pszí betű ","Alpha":"Görög nagy alfa betű","Nu":"Görög nagy nű betű ","ouml":"Latin kétpontos kis o betű","zeta":"Görög kis dzéta betű ","alpha":"Görög kis alfa betű","part":"részleges differenciál","auml":"Latin kétpontos kis a betű","Ugrave":"Latin nagy U betű tompa ékezettel","Oslash":"Latin áthúzott nagy O betű\nLatin nagy O betű osztásjellel","Epsilon":"Görög nagy epszilon betű","int":"integrál","Omega":"Görög nagy ómega betű ","perp":"merőleges\nortogonális","uml":"dupla ékezet\numlaut","upsilon":"Görög kis üpszilon betű ","lowast":"csillag operátor","omega":"Görög kis ómega betű ","otilde":"Latin hullámvonalas kis o betű","Egrave":"Latin nagy E betű tompa ékezettel","phi":"Görög kis fí betű ","ensp":"n szóköz","Euml":"Latin kétpontos nagy E betű","cedil":"cedill\nbalra hajló alsó hurok","laquo":"balra mutató dupla hegyes idézőjel\nbalra mutató belső idézőjel ","forall":"minden\nfordított nagy A betű","thetasym":"Görög kis théta betű szimbólum ","Agrave":"Latin nagy A betű tompa ékezettel\nTompa ékezetes latin nagy A betű","szlig":"Latin kis sharfes s\neszett","Pi":"Görög nagy pi betű ","rho":"Görög kis ró betű ","trade":"védjegy jel","Igrave":"Latin nagy I betű tompa ékezettel","minus":"mínusz jel","Beta":"Görög nagy béta betű ","Ocirc":"Latin kalapos nagy O betű ","rdquo":"jobb dupla idézőjel","Eta":"Görög nagy éta betű ","rfloor":"jobb szögletes zárójel alsó sarok","Oacute":"Latin nagy O betű éles ékezettel","euml":"Latin kétpontos kis e betű","oplus":"bekarikázott plusz jel\nközvetlen összeg","ocirc":"Latin kalapos kis o betű ","radic":"négyzetgyök\nnégyzetgyök jel","Chi":"Görög nagy khí betű ","notin":"nem eleme ","sect":"paragrafusjel","Acirc":"Latin kalapos nagy A betű ","lsquo":"bal szimpla idézőjel","beta":"Görög kis béta betű ","piv":"Görög pí szimbólum ","sup1":"1 a felső indexben\nfelső indexbe írt egyes számjegy","Scaron":"Latin nagy S betű csónakkal","sup2":"2 felső indexben\nfelső indexbe írt kettes számjegy\nnégyzetre emelés","acirc":"Latin kalapos kis a betű ","sube":"részhalmaza vagy egyenlő","sup3":"3 felső indexben\nfelső indexbe írt hármas számjegy\nköbre emelés","real":"megtört nagy R\nvalós rész szimbólum","Iuml":"Latin kétpontos nagy I betű","rang":"jobbra mutató hegyes zárójel","lsaquo":"szimpla balra mutató hegyes idézőjel","nabla":"nabla\nfordított különbség","omicron":"Görög kis omikron betű ","there4":"ezért","plusmn":"plus-mínusz jel\nplusz-vagy-mínusz jel","rceil":"jobb szögletes zárójel felső sarok","micro":"mikro jel","rArr":"jobbra mutató dupla nyíl ","Delta":"Görög nagy delta betű ","iuml":"Latin kétpontos kis i betű","Tau":"Görög nagy tau betű ","times":"szorzásjel","yacute":"Latin kis y éles ékezettel","ograve":"Latin kis o betű tompa ékezettel","delta":"Görög kis delta betű ","Ecirc":"Latin kalapos nagy E betű ","dArr":"lefelé mutató dupla nyíl","ntilde":"Latin hullámvonalas kis n betű","diams":"fekete káró káryajel","uacute":"Latin kis u betű éles ékezettel","Otilde":"Latin hullámvonalas nagy O betű","ecirc":"Latin kalapos kis e betű ","Upsilon":"Görög nagy üpszilon betű ","image":"megtört nagy I\nképzetes (imaginárius) rész","supe":"bővített halmaza vagy egyenlő","xi":"Görög kis kszí betű ","weierp":"írott nagy P\nhatványhalmaz\nWeierstrass p"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"Inserisci simbolo"})
\ No newline at end of file
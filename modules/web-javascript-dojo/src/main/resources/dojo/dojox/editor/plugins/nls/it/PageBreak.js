@@ -0,0 +1 @@
+({"pageBreak":"Interruzione di pagina"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Anteprima"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Salva"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"Mostra elementi blocco HTML"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"selectContents":"内容の選択","deleteElement":"要素の削除","moveEnd":"終了するためにカーソルを移動","deleteContents":"内容の削除","nodeActions":"${nodeName} アクション","selectElement":"要素の選択","moveStart":"開始するためにカーソルを移動"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"記号の挿入"})
\ No newline at end of file
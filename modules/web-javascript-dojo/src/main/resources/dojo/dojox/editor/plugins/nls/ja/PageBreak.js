@@ -0,0 +1 @@
+({"pageBreak":"改ページ"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"プレビュー"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"HTML ブロック要素の表示"})
\ No newline at end of file
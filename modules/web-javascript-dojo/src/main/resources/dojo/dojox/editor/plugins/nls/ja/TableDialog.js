@@ -0,0 +1 @@
+({"buttonSet":"設定","insertTableTitle":"テーブルの挿入","insertTableRowAfterLabel":"行を後に追加","center":"中央","deleteTableColumnLabel":"列の削除","right":"右","insertTableColumnBeforeLabel":"列を前に追加","tableWidth":"テーブルの幅:","buttonInsert":"挿入","default":"default","align":"位置合わせ","insertTableRowBeforeLabel":"行を前に追加","cellSpacing":"セル間隔:","pixels":"ピクセル","selectTableLabel":"テーブルの選択","rows":"行","modifyTableTitle":"テーブルの変更","cellPadding":"セル余白:","deleteTableRowLabel":"行の削除","backgroundColor":"背景色:","insertTableColumnAfterLabel":"列を後に追加","left":"左","borderThickness":"ボーダー線幅","columns":"列","percent":"パーセント","borderColor":"ボーダー色:"})
\ No newline at end of file
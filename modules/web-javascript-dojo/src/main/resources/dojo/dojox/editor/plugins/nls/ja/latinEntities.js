@@ -0,0 +1 @@
+({"le":"小さいか等しい","prod":"n 乗\n積符号","zwj":"結合ありで幅ゼロ","mdash":"em ダッシュ","frasl":"分数のスラッシュ","upsih":"ギリシャ語のフック記号付きユプシロン","prop":"比例","middot":"中間ドット\nグルジア語のコンマ\nギリシャ語の中間ドット","hellip":"水平省略符号\n3 つのドット・リーダー","eta":"ギリシャ語の小文字イータ","iacute":"ラテン語の揚音付き小文字 i","yen":"円記号\n元記号","rlm":"右から左へのマーク","macr":"長音記号\n間隔長音記号\n上線\nAPL 上線","ldquo":"左二重引用符","Icirc":"ラテン語の曲折アクセント記号付き大文字 I","OElig":"ラテン語の大文字の合字 OE","hArr":"左右二重矢印","eth":"ラテン語の小文字 eth","divide":"除算記号","chi":"ギリシャ語の小文字カイ","eacute":"ラテン語の揚音付き小文字 e","icirc":"ラテン語の曲折アクセント記号付き小文字 i","iexcl":"逆感嘆符","ETH":"ラテン語の大文字 ETH","acute":"揚音アクセント\n間隔揚音","crarr":"角が左向きの下矢印復帰","mu":"ギリシャ語の小文字ミュー","AElig":"ラテン語の大文字 AE\nラテン語の大文字の合字 AE","aacute":"ラテン語の揚音付き小文字 a","lambda":"ギリシャ語の小文字ラムダ","THORN":"ラテン語の大文字 THORN","asymp":"ほぼ等しい\n漸近","fnof":"ラテン語のフック付き小文字 f\n関数\nフロリン","lang":"左角括弧","cup":"和集合カップ形","ne":"等しくない","Sigma":"ギリシャ語の大文字シグマ","oelig":"ラテン語の小文字の合字 oe","cent":"セント記号","ni":"メンバーとして含まれる","dagger":"剣標","permil":"パーミル記号","Omicron":"ギリシャ語の大文字オミクロン","sigma":"ギリシャ語の小文字シグマ","euro":"ユーロ記号","Yacute":"ラテン語の揚音付き大文字 Y","thorn":"ラテン語の小文字 thorn","lceil":"左上限\nAPL 上限","Ograve":"ラテン語の抑音付き大文字 O","rarr":"右矢印","nu":"ギリシャ語の小文字ニュー","emsp":"em スペース","Theta":"ギリシャ語の大文字シータ","lArr":"左二重矢印","tau":"ギリシャ語の小文字タウ","aelig":"ラテン語の小文字 ae\nラテン語の小文字の合字 ae","ccedil":"ラテン語のセディーユ付き小文字 c","Ntilde":"ラテン語の波形記号付き大文字 N","cong":"おおよそ等しい","Uacute":"ラテン語の揚音付き大文字 U","theta":"ギリシャ語の小文字シータ","darr":"下矢印","Uuml":"ラテン語の分音符号付き大文字 U","bdquo":"二重下付き右引用符","Aring":"ラテン語の上リング付き大文字 A\nラテン語のリング付き大文字 A","sigmaf":"ギリシャ語の小文字ファイナルシグマ","pound":"ポンド記号","uArr":"上二重矢印","sub":"左辺は右辺の部分集合","aring":"ラテン語の上リング付き小文字 a\nラテン語のリング付き小文字 a","sdot":"ドット演算子","thinsp":"薄いスペース","or":"論理和\nV 字形","Eacute":"ラテン語の揚音付き大文字 E","shy":"ソフト・ハイフン\n任意ハイフン","curren":"通貨記号","loz":"ひし形","not":"否定記号","tilde":"小文字の波形記号","sum":"n 回加算","spades":"トランプの黒のスペードの組","Psi":"ギリシャ語の大文字プシー","ndash":"en ダッシュ","sup":"左辺は右辺を包含する","atilde":"ラテン語の波形記号付き小文字 a","clubs":"トランプの黒のクラブの組\nシャムロック","uuml":"ラテン語の分音符号付き小文字 u","Aacute":"ラテン語の揚音付き大文字 A","rsaquo":"単一右角引用符","otimes":"ベクトル積\nベクトル積","lfloor":"左下限\nAPL 下限","zwnj":"結合なしで幅ゼロ","sim":"チルド演算子\n多様性\n類似性","Iota":"ギリシャ語の大文字イオタ","Iacute":"ラテン語の揚音付き大文字 I","pi":"ギリシャ語の小文字パイ","ordf":"女性序数標識","frac12":"分数の 2 分の 1\n分数の 2 分の 1","frac14":"分数の 4 分の 1\n分数の 4 分の 1","alefsym":"アレフ記号\n1 番目の超限基数","bull":"黒丸\n黒い小さな円","deg":"角度記号","ordm":"男性序数標識","epsilon":"ギリシャ語の小文字イプシロン","equiv":"同一","Dagger":"二重剣標","brvbar":"破線バー\n破線垂直バー","harr":"左右矢印","ugrave":"ラテン語の抑音付き小文字 u","oslash":"ラテン語の斜線付き小文字 o\nラテン語のスラッシュ付き小文字 o","Yuml":"ラテン語の分音符号付き大文字 Y","hearts":"トランプの黒のハートの組\nバレンタイン","Xi":"ギリシャ語の大文字クシー","Prime":"二重プライム記号\n秒\nインチ","iota":"ギリシャ語の小文字イオタ","Ccedil":"ラテン語のセディーユ付き大文字 C","Lambda":"ギリシャ語の大文字ラムダ","raquo":"右二重角引用符\n右ギュメ","Phi":"ギリシャ語の大文字ファイ","prime":"プライム記号\n分\nフィート","nsub":"部分集合でない","copy":"著作権記号","yuml":"ラテン語の分音符号付き小文字 y","Rho":"ギリシャ語の大文字ロー","Ucirc":"ラテン語の曲折アクセント記号付き大文字 U","Kappa":"ギリシャ語の大文字カッパ","ucirc":"ラテン語の曲折アクセント記号付き小文字 u","sbquo":"単一下付き右引用符","igrave":"ラテン語の抑音付き小文字 i","reg":"登録記号\n登録商標","infin":"無限","iquest":"逆疑問符\n反転疑問符","circ":"修飾文字の曲折アクセント記号アクセント","kappa":"ギリシャ語の小文字カッパ","lrm":"左から右へのマーク","Atilde":"ラテン語の波形記号付き大文字 A","larr":"左矢印","frac34":"分数の 4 分の 3\n分数の 4 分の 3","oacute":"ラテン語の揚音付き小文字 o","rsquo":"右単一引用符","egrave":"ラテン語の抑音付き小文字 e","oline":"上線\n間隔上線","Mu":"ギリシャ語の大文字ミュー","exist":"存在","cap":"集合の積\nキャップ形","and":"論理積\nくさび形","Ouml":"ラテン語の分音符号付き大文字 O","agrave":"ラテン語の抑音付き小文字 a\nラテン語の抑音付き小文字 a","uarr":"上矢印","ang":"角度","Zeta":"ギリシャ語の大文字ゼータ","scaron":"ラテン語のキャロン付き小文字 s","Gamma":"ギリシャ語の大文字ガンマ","isin":"右辺の要素である","Auml":"ラテン語の分音符号付き大文字 A","empty":"空集合\nヌル集合\n直径","gamma":"ギリシャ語の小文字ガンマ","para":"段落記号\n段落記号","ge":"大きいか等しい","psi":"ギリシャ語の小文字プシー","Alpha":"ギリシャ語の大文字アルファ","Nu":"ギリシャ語の大文字ニュー","ouml":"ラテン語の分音符号付き小文字 o","zeta":"ギリシャ語の小文字ゼータ","alpha":"ギリシャ語の小文字アルファ","part":"偏微分","auml":"ラテン語の分音符号付き小文字 a","Ugrave":"ラテン語の抑音付き大文字 U","Oslash":"ラテン語の斜線付き大文字 O\nラテン語のスラッシュ付き大文字 O","Epsilon":"ギリシャ語の大文字イプシロン","int":"積分","Omega":"ギリシャ語の大文字オメガ","perp":"直角\n直交\n垂直","uml":"分音符号\n間隔分音符号","upsilon":"ギリシャ語の小文字ユプシロン","lowast":"アスタリスク演算子","omega":"ギリシャ語の小文字オメガ","otilde":"ラテン語の波形記号付き小文字 o","Egrave":"ラテン語の抑音付き大文字 E","phi":"ギリシャ語の小文字ファイ","ensp":"en スペース","Euml":"ラテン語の分音符号付き大文字 E","cedil":"セディーユ\n間隔セディーユ","laquo":"左二重角引用符\n左ギュメ","forall":"すべてについて","thetasym":"ギリシャ語の小文字シータ記号","Agrave":"ラテン語の抑音付き大文字 A\nラテン語の抑音付き大文字 A","szlig":"ラテン語の小文字のシャープ s\n s 字形","Pi":"ギリシャ語の大文字パイ","rho":"ギリシャ語の小文字ロー","trade":"商標","Igrave":"ラテン語の抑音付き大文字 I","minus":"減算記号","Beta":"ギリシャ語の大文字ベータ","Ocirc":"ラテン語の曲折アクセント記号付き大文字 O","rdquo":"右二重引用符","Eta":"ギリシャ語の大文字イータ","rfloor":"右下限","Oacute":"ラテン語の揚音付き大文字 O","euml":"ラテン語の分音符号付き小文字 e","oplus":"ベクトル和\n直和","ocirc":"ラテン語の曲折アクセント記号付き小文字 o","radic":"平方根\nルート記号","Chi":"ギリシャ語の大文字カイ","notin":"右辺の要素でない","sect":"セクション記号","Acirc":"ラテン語の曲折アクセント記号付き大文字 A","lsquo":"左単一引用符","beta":"ギリシャ語の小文字ベータ","piv":"ギリシャ語のパイ記号","sup1":"上付き文字 1\n上付き文字数字 1","Scaron":"ラテン語のキャロン付き大文字 S","sup2":"上付き文字 2\n上付き文字数字 2\n平方","acirc":"ラテン語の曲折アクセント記号付き小文字 a","sube":"部分集合または等しい","sup3":"上付き文字 3\n上付き文字数字 3\n立方","real":"ドイツ字体の大文字 R\n実数部記号","Iuml":"ラテン語の分音符号付き大文字 I","rang":"右角括弧","lsaquo":"単一左角引用符","nabla":"ナブラ\n後方の差分","omicron":"ギリシャ語の小文字オミクロン","there4":"したがって","plusmn":"正符号\n正または負符号","rceil":"右上限","micro":"マイクロ記号","rArr":"右二重矢印","Delta":"ギリシャ語の大文字デルタ","iuml":"ラテン語の分音符号付き小文字 i","Tau":"ギリシャ語の大文字タウ","times":"乗算記号","yacute":"ラテン語の揚音付き小文字 y","ograve":"ラテン語の抑音付き小文字 o","delta":"ギリシャ語の小文字デルタ","Ecirc":"ラテン語の曲折アクセント記号付き大文字 E","dArr":"下二重矢印","ntilde":"ラテン語の波形記号付き小文字 n","diams":"トランプの黒のダイヤモンドの組","uacute":"ラテン語の揚音付き小文字 u","Otilde":"ラテン語の波形記号付き大文字 O","ecirc":"ラテン語の曲折アクセント記号付き小文字 e","Upsilon":"ギリシャ語の大文字ユプシロン","image":"ドイツ字体の大文字 I\n虚数部","supe":"包含集合または等しい","xi":"ギリシャ語の小文字クシー","weierp":"添え字の大文字 P\n累乗集合\nWeierstrass p"})
\ No newline at end of file
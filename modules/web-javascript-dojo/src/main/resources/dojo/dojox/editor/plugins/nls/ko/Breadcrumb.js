@@ -0,0 +1 @@
+({"selectContents":"컨텐츠 선택","deleteElement":"요소 삭제","moveEnd":"커서를 이동하여 종료","deleteContents":"컨텐츠 삭제","nodeActions":"${nodeName} 조치","selectElement":"요소 선택","moveStart":"커서를 이동하여 시작"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"기호 삽입"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"페이지 나누기"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"미리보기"})
\ No newline at end of file
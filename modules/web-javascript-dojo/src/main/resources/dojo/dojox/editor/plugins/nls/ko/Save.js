@@ -0,0 +1 @@
+({"save":"저장"})
\ No newline at end of file
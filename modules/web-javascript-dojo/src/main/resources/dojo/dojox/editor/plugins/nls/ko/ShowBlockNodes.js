@@ -0,0 +1 @@
+({"showBlockNodes":"HTML 블록 요소 표시"})
\ No newline at end of file
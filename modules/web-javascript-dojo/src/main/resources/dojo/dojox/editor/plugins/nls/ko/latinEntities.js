@@ -0,0 +1 @@
+({"le":"적거나 같다","prod":"n-ary product\n결과 기호","zwj":"제로 너비 조이너","mdash":"em 대시","frasl":"분수 사선","upsih":"그리스 upsilon에 고리 기호","prop":"비례","middot":"중앙 점\n중앙 점\n중앙 점","hellip":"수평 세 점\n수평 세 점","eta":"그리스소문자 eta","iacute":"라틴소문자 i 액센트","yen":"엔화 기호\n엔화 기호","rlm":"오른쪽에서 왼쪽으로 표시","macr":"장음 기호\n장음 기호\n장음 기호\n장음 기호","ldquo":"왼쪽 이중 따옴표","Icirc":"라틴대문자 I 위 꺾음 표시","OElig":"라틴대문자 ligature OE","hArr":"좌우 이중 화살표","eth":"라틴소문자 eth","divide":"나눗셈 기호","chi":"그리스소문자 chi","eacute":"라틴소문자 e 위 액센트","icirc":"라틴소문자 i 위 꺾음 표시","iexcl":"거꾸로 느낌표","ETH":"라틴대문자 ETH","acute":"양음 액센트\n양음 액센트","crarr":"캐리지 리턴\n캐리지 리턴]","mu":"그리스소문자 mu","AElig":"라틴대문자 AE\n라틴대문자 AE","aacute":"라틴소문자 a 위 액센트","lambda":"그리스소문자 lambda","THORN":"라틴대문자 THORN","asymp":"거의 같다\n거의 같다","fnof":"라틴소문자 f에 고리 첨부\n라틴소문자 f에 고리 첨부\n라틴소문자 f에 고리 첨부","lang":"왼쪽 열린 각도","cup":"유니온\n컵","ne":"같지 않다","Sigma":"그리스대문자 sigma","oelig":"라틴소문자 ligature oe","cent":"센트 기호","ni":"멤버로 포함","dagger":"dagger","permil":"퍼밀 기호","Omicron":"그리스대문자 omicron","sigma":"그리스소문자 sigma","euro":"euro 기호","Yacute":"라틴대문자 Y 위 액센트","thorn":"라틴소문자 thorn","lceil":"왼쪽 씰링\nAPL 업스타일","Ograve":"라틴대문자 O 위 역액센트","rarr":"오른쪽 화살표","nu":"그리스소문자 nu","emsp":"em 공간","Theta":"그리스대문자 theta","lArr":"왼쪽 이중 화살표","tau":"그리스소문자 tau","aelig":"라틴소문자 ae\n라틴소문자 ae","ccedil":"라틴소문자 c 갈고리형 부호","Ntilde":"라틴대문자 N 위 물결 표시","cong":"대략 같다","Uacute":"라틴대문자 U 위 액센트","theta":"그리스소문자 theta","darr":"아래쪽 화살표","Uuml":"라틴대문자 U 위 두점 표시","bdquo":"이중 바닥 따옴표","Aring":"라틴대문자 A 위 원 표시\n라틴대문자 A 위 원 표시","sigmaf":"그리스소문자 final sigma","pound":"파운드 기호","uArr":"위쪽 이중 화살표","sub":"부분 집합","aring":"라틴소문자 a 위 원 표시\n라틴소문자 a 위 원 표시","sdot":"도트 연산자","thinsp":"씬 공간","or":"논리적 or\nvee","Eacute":"라틴대문자 E 위 액센트","shy":"부드러운 하이픈\n부드러운 하이픈","curren":"통화 기호","loz":"마름모","not":"not 기호","tilde":"소문자 위 물결 표시","sum":"n-ary 합","spades":"블랙 스페이드","Psi":"그리스대문자 psi","ndash":"en 대시 ","sup":"상위 집합","atilde":"라틴소문자 a 위 물결 표시","clubs":"블랙 크로버\n블랙 크로버","uuml":"라틴소문자 u 위 두점 표시","Aacute":"라틴대문자 A 위 액센트","rsaquo":"단일 오른쪽으로 각 따옴","otimes":"circled times\nvector product","lfloor":"왼쪽 플로어\nAPL 다운스타일","zwnj":"제로 너비 비조이너","sim":"물결 표시\n물결 표시\n유사함","Iota":"그리스대문자 iota","Iacute":"라틴대문자 I 위 액센트","pi":"그리스소문자 pi","ordf":"줄 위의 소문자 a","frac12":"이분의 일\n이분의 일","frac14":"사분의 일\n사분의 일","alefsym":"alef 기호\nalef 기호","bull":"검은 원\n검은 원","deg":"도 기호","ordm":"줄 위의 작은 원","epsilon":"그리스소문자 epsilon","equiv":"합동, 같다","Dagger":"이중 dagger","brvbar":"수직 바\n수직 바","harr":"좌우 화살표","ugrave":"라틴소문자 u 위 역액센트","oslash":"라틴소문자 o 슬래시 첨부\n라틴소문자 o 슬래시 첨부","Yuml":"라틴대문자 Y 위 두점 표시","hearts":"블랙 하트\n블랙 하트","Xi":"그리스대문자 xi","Prime":"이중 프라임\n초\n인치","iota":"그리스소문자 iota","Ccedil":"라틴대문자 C 갈고리형 부호","Lambda":"그리스대문자 lambda","raquo":"이중 꺾어 닫음\n이중 꺾어 닫음","Phi":"그리스대문자 phi","prime":"프라임\n분\n피트","nsub":"부분 집합이 아님","copy":"저작권","yuml":"라틴소문자 y 위 두점 표시","Rho":"그리스대문자 rho","Ucirc":"라틴대문자 U 위 꺾음 표시","Kappa":"그리스대문자 kappa","ucirc":"라틴소문자 u 위 꺾음 표시","sbquo":"단일 바닥 따옴표","igrave":"라틴소문자 i 위 역액센트","reg":"등록 상표 기호\n등록 상표 기호","infin":"무한대","iquest":"거꾸로 물음표\n거꾸로 물음표","circ":"위 꺾기","kappa":"그리스소문자 kappa","lrm":"왼쪽에서 오른쪽으로 표시","Atilde":"라틴대문자 A 위 물결 표시","larr":"왼쪽 화살표","frac34":"사분의 삼\n사분의 삼","oacute":"라틴소문자 o 위 액센트","rsquo":"오른쪽 단일 따옴표","egrave":"라틴소문자 e  위 역액센트","oline":"윗 줄\n윗 줄","Mu":"그리스대문자 mu","exist":"존재","cap":"inter 항목\n모자","and":"논리적 and\nwedge","Ouml":"라틴대문자 O 위 두점 표시","agrave":"라틴소문자 a 위 역액센트\n라틴소문자 a 위 역액센트","uarr":"위쪽 화살표","ang":"각도","Zeta":"그리스대문자 zeta","scaron":"라틴소문자 s 위 v 표","Gamma":"그리스대문자 gamma","isin":"..의 요소","Auml":"라틴대문자 A 위 두점 표시","empty":"없음\n널\n직경","gamma":"그리스소문자 gamma","para":"문단 기호\n문단 기호","ge":"크거나 같다","psi":"그리스소문자 psi","Alpha":"그리스대문자 alpha","Nu":"그리스대문자 nu","ouml":"라틴소문자 o 위 두점 표시","zeta":"그리스소문자 zeta","alpha":"그리스소문자 alpha","part":"부분적으로 다름","auml":"라틴소문자 a 위 두점 표시","Ugrave":"라틴대문자 U 위 역액센트","Oslash":"라틴대문자 O 슬래시 첨부","Epsilon":"그리스대문자 epsilon","int":"인티그랄","Omega":"그리스대문자 omega","perp":"수직\n수직\n수직","uml":"두점 표시\n두점 표시","upsilon":"그리스소문자 upsilon","lowast":"별표 연산자","omega":"그리스소문자 omega","otilde":"라틴소문자 o 위 물결 표시","Egrave":"라틴대문자 E 위 역액센트","phi":"그리스소문자 phi","ensp":"en 공간","Euml":"라틴대문자 E 위 두점 표시","cedil":"갈고리형 부호\n갈고리형 부호","laquo":"이중 꺾어 열음\n이중 꺾어 열음","forall":"거꾸로 A","thetasym":"그리스소문자 theta symbol","Agrave":"라틴대문자 A 위 역액센트\n라틴대문자 A 위 역액센트","szlig":"라틴소문자 sharp\n라틴소문자 sharp","Pi":"그리스대문자 pi","rho":"그리스소문자 rho","trade":"TM(trade mark) 기호","Igrave":"라틴대문자 I 위 역액센트","minus":"마이너스 기호","Beta":"그리스대문자 beta","Ocirc":"라틴대문자 O 위 꺾음 표시","rdquo":"오른쪽 이중 따옴표","Eta":"그리스대문자 eta","rfloor":"오른쪽 플로어","Oacute":"라틴대문자 O 위 액센트","euml":"라틴소문자 e 위 두점 표시","oplus":"circled plus\ndirect sum","ocirc":"라틴소문자 o 위 꺾음 표시","radic":"제곱근 기호\n근호","Chi":"그리스대문자 chi","notin":"..의 요소가 아님","sect":"섹션 기호","Acirc":"라틴대문자 A 위 꺾음 표시","lsquo":"왼쪽 단일 따옴표","beta":"그리스소문자 beta","piv":"그리스 pi symbol","sup1":"위첨자 1\n위첨자 1","Scaron":"라틴대문자 S 위 v 표 ","sup2":"위첨자 2\n위첨자 2\n위첨자 2","acirc":"라틴소문자 a 위 꺾음 표시","sube":"부분 집합이거나 같다","sup3":"위첨자 3\n위첨자 3\n위첨자 3","real":"검정 글자 대문자 R\n검정 글자 대문자 R","Iuml":"라틴대문자 I 위 두점 표시","rang":"오른쪽 열린 각도","lsaquo":"단일 왼쪽으로 각 따옴","nabla":"역 삼각형\n역 삼각형","omicron":"그리스소문자 omicron","there4":"따라서","plusmn":"플러스 마이너스\n플러스 마이너스","rceil":"오른쪽 씰링","micro":"마이크로 기호","rArr":"오른쪽 이중 화살표","Delta":"그리스대문자 delta","iuml":"라틴소문자 i 위 두점 표시","Tau":"그리스대문자 tau","times":"곱셈 기호","yacute":"라틴소문자 y 위 액센트","ograve":"라틴소문자 o 위 역액센트","delta":"그리스소문자 delta","Ecirc":"라틴대문자 E 위 꺾음 표시","dArr":"아래쪽 이중 화살표","ntilde":"라틴소문자 n 위 물결 표시","diams":"블랙 다이아몬드","uacute":"라틴소문자 u 위 액센트","Otilde":"라틴대문자 O 위 물결 표시","ecirc":"라틴소문자 e 위 꺾음 표시","Upsilon":"그리스대문자 upsilon","image":"검정 글자 대문자 I\n검정 글자 대문자 I","supe":"상위 집합이거나 같다","xi":"그리스소문자 xi","weierp":"script 대문자 P\nscript 대문자 P\nscript 대문자 P"})
\ No newline at end of file
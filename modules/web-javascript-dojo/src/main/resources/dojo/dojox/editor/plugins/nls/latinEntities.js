@@ -0,0 +1 @@
+({"le":"less-than or equal to","prod":"n-ary product\nproduct sign","zwj":"zero width joiner","mdash":"em dash","frasl":"fraction slash","upsih":"Greek upsilon with hook symbol","prop":"proportional to","middot":"middle dot\nGeorgian comma\nGreek middle dot","hellip":"horizontal ellipsis\nthree dot leader","eta":"Greek small letter eta","iacute":"Latin small letter i with acute","yen":"yen sign\nyuan sign","rlm":"right-to-left mark","macr":"macron\nspacing macron\noverline\nAPL overbar","ldquo":"left double quotation mark","Icirc":"Latin capital letter I with circumflex","OElig":"Latin capital ligature OE","hArr":"left right double arrow","eth":"Latin small letter eth","divide":"division sign","chi":"Greek small letter chi","eacute":"Latin small letter e with acute","icirc":"Latin small letter i with circumflex","iexcl":"inverted exclamation mark","ETH":"Latin capital letter ETH","acute":"acute accent\nspacing acute","crarr":"downwards arrow with corner leftwards\ncarriage return","mu":"Greek small letter mu","AElig":"Latin capital letter AE\nLatin capital ligature AE","aacute":"Latin small letter a with acute","lambda":"Greek small letter lambda","THORN":"Latin capital letter THORN","asymp":"almost equal to\nasymptotic to","fnof":"Latin small f with hook\nfunction\nflorin","lang":"left-pointing angle bracket","cup":"union\ncup","ne":"not equal to","Sigma":"Greek capital letter sigma","oelig":"Latin small ligature oe","cent":"cent sign","ni":"contains as member","dagger":"dagger","permil":"per mille sign","Omicron":"Greek capital letter omicron","sigma":"Greek small letter sigma","euro":"euro sign","Yacute":"Latin capital letter Y with acute","thorn":"Latin small letter thorn","lceil":"left ceiling\nAPL upstile","Ograve":"Latin capital letter O with grave","rarr":"rightwards arrow","nu":"Greek small letter nu","emsp":"em space","Theta":"Greek capital letter theta","lArr":"leftwards double arrow","tau":"Greek small letter tau","aelig":"Latin small letter ae\nLatin small ligature ae","ccedil":"Latin small letter c with cedilla","Ntilde":"Latin capital letter N with tilde","cong":"approximately equal to","Uacute":"Latin capital letter U with acute","theta":"Greek small letter theta","darr":"downwards arrow","Uuml":"Latin capital letter U with diaeresis","bdquo":"double low-9 quotation mark","Aring":"Latin capital letter A with ring above\nLatin capital letter A ring","sigmaf":"Greek small letter final sigma","pound":"pound sign","uArr":"upwards double arrow","sub":"subset of","aring":"Latin small letter a with ring above\nLatin small letter a ring","sdot":"dot operator","thinsp":"thin space","or":"logical or\nvee","Eacute":"Latin capital letter E with acute","shy":"soft hyphen\ndiscretionary hyphen","curren":"currency sign","loz":"lozenge","not":"not sign","tilde":"small tilde","sum":"n-ary sumation","spades":"black spade suit","Psi":"Greek capital letter psi","ndash":"en dash","sup":"superset of","atilde":"Latin small letter a with tilde","clubs":"black club suit\nshamrock","uuml":"Latin small letter u with diaeresis","Aacute":"Latin capital letter A with acute","rsaquo":"single right-pointing angle quotation mark","otimes":"circled times\nvector product","lfloor":"left floor\nAPL downstile","zwnj":"zero width non-joiner","sim":"tilde operator\nvaries with\nsimilar to","Iota":"Greek capital letter iota","Iacute":"Latin capital letter I with acute","pi":"Greek small letter pi","ordf":"feminine ordinal indicator","frac12":"vulgar fraction one half\nfraction one half","frac14":"vulgar fraction one quarter\nfraction one quarter","alefsym":"alef symbol\nfirst transfinite cardinal","bull":"bullet\nblack small circle","deg":"degree sign","ordm":"masculine ordinal indicator","epsilon":"Greek small letter epsilon","equiv":"identical to","Dagger":"double dagger","brvbar":"broken bar\nbroken vertical bar","harr":"left right arrow","ugrave":"Latin small letter u with grave","oslash":"Latin small letter o with stroke\nLatin small letter o slash","Yuml":"Latin capital letter Y with diaeresis","hearts":"black heart suit\nvalentine","Xi":"Greek capital letter xi","Prime":"double prime\nseconds\ninches","iota":"Greek small letter iota","Ccedil":"Latin capital letter C with cedilla","Lambda":"Greek capital letter lambda","raquo":"right-pointing double angle quotation mark\nright pointing guillemet","Phi":"Greek capital letter phi","prime":"prime\nminutes\nfeet","nsub":"not a subset of","copy":"copyright sign","yuml":"Latin small letter y with diaeresis","Rho":"Greek capital letter rho","Ucirc":"Latin capital letter U with circumflex","Kappa":"Greek capital letter kappa","ucirc":"Latin small letter u with circumflex","sbquo":"single low-9 quotation mark","igrave":"Latin small letter i with grave","reg":"registered sign\nregistered trade mark sign","infin":"infinity","iquest":"inverted question mark\nturned question mark","circ":"modifier letter circumflex accent","kappa":"Greek small letter kappa","lrm":"left-to-right mark","Atilde":"Latin capital letter A with tilde","larr":"leftwards arrow","frac34":"vulgar fraction three quarters\nfraction three quarters","oacute":"Latin small letter o with acute","rsquo":"right single quotation mark","egrave":"Latin small letter e with grave","oline":"overline\nspacing overscore","Mu":"Greek capital letter mu","exist":"there exists","cap":"intersection\ncap","and":"logical and\nwedge","Ouml":"Latin capital letter O with diaeresis","agrave":"Latin small letter a with grave\nLatin small letter a grave","uarr":"upwards arrow","ang":"angle","Zeta":"Greek capital letter zeta","scaron":"Latin small letter s with caron","Gamma":"Greek capital letter gamma","isin":"element of","Auml":"Latin capital letter A with diaeresis","empty":"empty set\nnull set\ndiameter","gamma":"Greek small letter gamma","para":"pilcrow sign\nparagraph sign","ge":"greater-than or equal to","psi":"Greek small letter psi","Alpha":"Greek capital letter alpha","Nu":"Greek capital letter nu","ouml":"Latin small letter o with diaeresis","zeta":"Greek small letter zeta","alpha":"Greek small letter alpha","part":"partial differential","auml":"Latin small letter a with diaeresis","Ugrave":"Latin capital letter U with grave","Oslash":"Latin capital letter O with stroke\nLatin capital letter O slash","Epsilon":"Greek capital letter epsilon","int":"integral","Omega":"Greek capital letter omega","perp":"up tack\northogonal to\nperpendicular","uml":"diaeresis\nspacing diaeresis","upsilon":"Greek small letter upsilon","lowast":"asterisk operator","omega":"Greek small letter omega","otilde":"Latin small letter o with tilde","Egrave":"Latin capital letter E with grave","phi":"Greek small letter phi","ensp":"en space","Euml":"Latin capital letter E with diaeresis","cedil":"cedilla\nspacing cedilla","laquo":"left-pointing double angle quotation mark\nleft pointing guillemet","forall":"for all","thetasym":"Greek small letter theta symbol","Agrave":"Latin capital letter A with grave\nLatin capital letter A grave","szlig":"Latin small letter sharp s\ness-zed","Pi":"Greek capital letter pi","rho":"Greek small letter rho","trade":"trade mark sign","Igrave":"Latin capital letter I with grave","minus":"minus sign","Beta":"Greek capital letter beta","Ocirc":"Latin capital letter O with circumflex","rdquo":"right double quotation mark","Eta":"Greek capital letter eta","rfloor":"right floor","Oacute":"Latin capital letter O with acute","euml":"Latin small letter e with diaeresis","oplus":"circled plus\ndirect sum","ocirc":"Latin small letter o with circumflex","radic":"square root\nradical sign","Chi":"Greek capital letter chi","notin":"not an element of","sect":"section sign","Acirc":"Latin capital letter A with circumflex","lsquo":"left single quotation mark","beta":"Greek small letter beta","piv":"Greek pi symbol","sup1":"superscript one\nsuperscript digit one","Scaron":"Latin capital letter S with caron","sup2":"superscript two\nsuperscript digit two\nsquared","acirc":"Latin small letter a with circumflex","sube":"subset of or equal to","sup3":"superscript three\nsuperscript digit three\ncubed","real":"blackletter capital R\nreal part symbol","Iuml":"Latin capital letter I with diaeresis","rang":"right-pointing angle bracket","lsaquo":"single left-pointing angle quotation mark","nabla":"nabla\nbackward difference","omicron":"Greek small letter omicron","there4":"therefore","plusmn":"plus-minus sign\nplus-or-minus sign","rceil":"right ceiling","micro":"micro sign","rArr":"rightwards double arrow","Delta":"Greek capital letter delta","iuml":"Latin small letter i with diaeresis","Tau":"Greek capital letter tau","times":"multiplication sign","yacute":"Latin small letter y with acute","ograve":"Latin small letter o with grave","delta":"Greek small letter delta","Ecirc":"Latin capital letter E with circumflex","dArr":"downwards double arrow","ntilde":"Latin small letter n with tilde","diams":"black diamond suit","uacute":"Latin small letter u with acute","Otilde":"Latin capital letter O with tilde","ecirc":"Latin small letter e with circumflex","Upsilon":"Greek capital letter upsilon","image":"blackletter capital I\nimaginary part","supe":"superset of or equal to","xi":"Greek small letter xi","weierp":"script capital P\npower set\nWeierstrass p"})
\ No newline at end of file
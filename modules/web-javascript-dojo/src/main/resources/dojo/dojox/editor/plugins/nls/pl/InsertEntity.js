@@ -0,0 +1 @@
+({"insertEntity":"Wstaw symbol"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"Podział strony"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Podgląd"})
\ No newline at end of file
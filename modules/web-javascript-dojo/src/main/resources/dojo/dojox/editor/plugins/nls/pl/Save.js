@@ -0,0 +1 @@
+({"save":"Zapisz"})
\ No newline at end of file
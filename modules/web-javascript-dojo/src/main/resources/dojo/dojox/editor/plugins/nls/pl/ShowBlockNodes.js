@@ -0,0 +1 @@
+({"showBlockNodes":"Pokaż elementy bloków HTML"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"emoticonLaughing":"śmiech","emoticonCool":"na luzie","emoticonTongue":"język","emoticonCrying":"płacz","emoticonOops":"oj","emoticonFrown":"niezadowolenie","emoticonAngry":"złość","emoticonShy":"nieśmiałość","emoticonNo":"Nie","emoticonAngel":"anioł","smiley":"Wstaw emotikon","emoticonIdea":"pomysł","emoticonEyebrow":"brew","emoticonSmile":"uśmiech","emoticonWink":"mrugnięcie","emoticonYes":"Tak","emoticonGrin":"szeroki uśmiech","emoticonGoofy":"niezdarność","emoticonHalf":"niesmak"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"le":"mniejsze niż lub równe","prod":"iloczyn n elementów\nznak iloczynu","zwj":"łącznik o zerowej szerokości","mdash":"pauza","frasl":"kreska ułamkowa","upsih":"grecka litera ipsylon z symbolem haczyka","prop":"proporcjonalnie do","middot":"kropka środkowa\ngruziński przecinek\ngrecka kropka środkowa","hellip":"wielokropek\ntrzy kropki","eta":"grecka mała litera eta","iacute":"łacińska mała litera i z akcentem ostrym","yen":"znak jena\nznak yuana","rlm":"znacznik zapisu od prawej do lewej","macr":"makron\nmakron rozdzielający\nnadkreślenie\nkreska górna APL","ldquo":"lewy podwójny cudzysłów","Icirc":"łacińska wielka litera I z daszkiem","OElig":"łacińska ligatura wielkich liter OE","hArr":"podwójna strzałka w lewo i w prawo","eth":"łacińska mała litera eth","divide":"znak dzielenia","chi":"grecka mała litera chi","eacute":"łacińska mała litera e z akcentem ostrym","icirc":"łacińska mała litera i z daszkiem","iexcl":"odwrócony wykrzyknik","ETH":"łacińska wielka litera ETH","acute":"akcent ostry\nodstęp ostry","crarr":"strzałka w dół z rogiem w lewo\npowrót karetki","mu":"grecka mała litera my","AElig":"łacińska wielka litera AE\nłacińska ligatura wielkich liter AE","aacute":"łacińska mała litera a z akcentem ostrym","lambda":"grecka mała litera lambda","THORN":"łacińska wielka litera THORN","asymp":"prawie równa się\nasymptotyczne do","fnof":"łacińska mała litera f z haczykiem\nfunkcja\nfloren","lang":"lewy nawias trójkątny","cup":"suma zbiorów\nfiliżanka","ne":"nie równa się","Sigma":"grecka wielka litera sigma","oelig":"łacińska ligatura małych liter oe","cent":"znak centa","ni":"zawiera","dagger":"krzyżyk","permil":"promile","Omicron":"grecka wielka litera omikron","sigma":"grecka mała litera sigma","euro":"znak euro","Yacute":"łacińska wielka litera Y z akcentem ostrym","thorn":"łacińska mała litera thorn","lceil":"lewy sufit\nhaczyk górny APL","Ograve":"łacińska wielka litera O z akcentem ciężkim","rarr":"strzałka w prawo","nu":"grecka mała litera ni","emsp":"spacja długa","Theta":"grecka wielka litera theta","lArr":"podwójna strzałka w lewo","tau":"grecka mała litera tau","aelig":"łacińska mała litera ae\nłacińska ligatura małych liter ae","ccedil":"łacińska mała litera c z cedillą","Ntilde":"łacińska wielka litera N z tyldą","cong":"równa się w przybliżeniu","Uacute":"łacińska wielka litera U z akcentem ostrym","theta":"grecka mała litera theta","darr":"strzałka w dół","Uuml":"łacińska wielka litera U z diarezą","bdquo":"podwójny cudzysłów dolny","Aring":"łacińska wielka litera A z pierścieniem powyżej\nłacińska wielka litera A z pierścieniem","sigmaf":"grecka mała litera końcowa sigma","pound":"znak funta","uArr":"podwójna strzałka w górę","sub":"jest podzbiorem","aring":"łacińska mała litera a z pierścieniem powyżej\nłacińska mała litera a z pierścieniem","sdot":"operator kropka","thinsp":"spacja krótka","or":"suma logiczna\nlitera v","Eacute":"łacińska wielka litera E z akcentem ostrym","shy":"łącznik miękki\nłącznik opcjonalny","curren":"znak waluty","loz":"romb","not":"znak negacji","tilde":"mała tylda","sum":"suma n elementów","spades":"symbol pik","Psi":"grecka wielka litera psi","ndash":"półpauza","sup":"jest nadzbiorem","atilde":"łacińska mała litera a z tyldą","clubs":"symbol trefl\nkoniczyna","uuml":"łacińska mała litera u z diarezą","Aacute":"łacińska wielka litera A z akcentem ostrym","rsaquo":"pojedynczy prawy cudzysłów trójkątny","otimes":"znak mnożenia w okręgu\niloczyn wektorów","lfloor":"lewa podłoga\nhaczyk dolny APL","zwnj":"symbol rozdzielający o zerowej szerokości","sim":"operator tylda\nzmienia się w granicach\nokoło","Iota":"grecka wielka litera jota","Iacute":"łacińska wielka litera I z akcentem ostrym","pi":"grecka mała litera phi","ordf":"znak liczby rodzaju żeńskiego","frac12":"znak ułamka jedna druga\nułamek jedna druga","frac14":"znak ułamka jedna czwarta\nułamek jedna czwarta","alefsym":"znak alef\npoczątkowa liczba porządkowa","bull":"znacznik podpunktu\nmałe czarne kółko","deg":"znak stopni","ordm":"znak liczby rodzaju męskiego","epsilon":"grecka mała litera epsilon","equiv":"takie same jak","Dagger":"podwójny krzyżyk","brvbar":"przerwana kreska\nprzerwana pionowa kreska","harr":"strzałka w lewo i w prawo","ugrave":"łacińska mała litera u z akcentem ciężkim","oslash":"łacińska mała litera o z przekreśleniem\nłacińska mała litera o z ukośnikiem","Yuml":"łacińska wielka litera Y z diarezą","hearts":"symbol kier\nserce","Xi":"grecka wielka litera ksi","Prime":"bis\nsekundy\ncale","iota":"grecka mała litera jota","Ccedil":"łacińska wielka litera C z cedillą","Lambda":"grecka wielka litera lambda","raquo":"prawy cudzysłów trójkątny\nprawy guillemet","Phi":"grecka wielka litera phi","prime":"prim\nminuty\nstopy","nsub":"nie jest podzbiorem","copy":"znak praw autorskich","yuml":"łacińska mała litera y z diarezą","Rho":"grecka wielka litera rho","Ucirc":"łacińska wielka litera U z daszkiem","Kappa":"grecka wielka litera kappa","ucirc":"łacińska mała litera u z daszkiem","sbquo":"pojedynczy cudzysłów dolny","igrave":"łacińska mała litera i z akcentem ciężkim","reg":"symbol zastrzeżenia\nsymbol zastrzeżonego znaku towarowego","infin":"nieskończoność","iquest":"odwrócony znak zapytania\nodwrotny znak zapytania","circ":"modyfikator litery - akcent w formie daszka","kappa":"grecka mała litera kappa","lrm":"znacznik zapisu od lewej do prawej","Atilde":"łacińska wielka litera A z tyldą","larr":"strzałka w lewo","frac34":"znak ułamka trzy czwarte\nułamek trzy czwarte","oacute":"łacińska mała litera o z akcentem ostrym","rsquo":"prawy pojedynczy cudzysłów","egrave":"łacińska mała litera e z akcentem ciężkim","oline":"nadkreślenie\nnadkreślenie tworzące odstęp","Mu":"grecka wielka litera my","exist":"istnieje","cap":"część wspólna zbiorów\nczepek","and":"iloczyn logiczny\nklin","Ouml":"łacińska wielka litera O z diarezą","agrave":"łacińska mała litera a z symbolem gravis\nłacińska mała litera a z akcentem ciężkim","uarr":"strzałka w górę","ang":"kąt","Zeta":"grecka wielka litera dzeta","scaron":"łacińska mała litera s z daszkiem odwróconym","Gamma":"grecka wielka litera gamma","isin":"należy do","Auml":"łacińska wielka litera A z diarezą","empty":"zbiór pusty\nzbiór miary zero\nśrednica","gamma":"grecka mała litera gamma","para":"znak pilcrow\nznak akapitu","ge":"większe niż lub równe","psi":"grecka mała litera psi","Alpha":"grecka wielka litera alfa","Nu":"grecka wielka litera ni","ouml":"łacińska mała litera o z diarezą","zeta":"grecka mała litera dzeta","alpha":"grecka wielka litera alfa","part":"pochodna cząstkowa","auml":"łacińska mała litera a z diarezą","Ugrave":"łacińska wielka litera U z akcentem ciężkim","Oslash":"łacińska wielka litera O z przekreśleniem\nłacińska wielka litera O z ukośnikiem","Epsilon":"grecka wielka litera epsilon","int":"całka","Omega":"grecka wielka litera omega","perp":"odwrócona litera T\nprostopadłe do\nprostopadłe","uml":"diereza\ndiereza rozdzielająca","upsilon":"grecka mała litera ipsylon","lowast":"operator gwiazdka","omega":"grecka mała litera omega","otilde":"łacińska mała litera o z tyldą","Egrave":"łacińska wielka litera E z akcentem ciężkim","phi":"grecka mała litera phi","ensp":"spacja średnia","Euml":"łacińska wielka litera E z diarezą","cedil":"cedilla\nodstęp cedilla","laquo":"lewy cudzysłów trójkątny\nlewy guillemet","forall":"dla każdego","thetasym":"grecka mała litera theta (symbol)","Agrave":"łacińska wielka litera A z symbolem gravis\nłacińska wielka litera A z akcentem ciężkim","szlig":"łacińska mała litera ostre s\ness-zed","Pi":"grecka wielka litera pi","rho":"grecka mała litera rho","trade":"symbol znaku zastrzeżonego","Igrave":"łacińska wielka litera I z akcentem ciężkim","minus":"znak minus","Beta":"grecka wielka litera beta","Ocirc":"łacińska wielka litera O z daszkiem","rdquo":"prawy podwójny cudzysłów","Eta":"grecka wielka litera eta","rfloor":"prawa podłoga","Oacute":"łacińska wielka litera O z akcentem ostrym","euml":"łacińska mała litera e z diarezą","oplus":"znak plus w okręgu\nsuma bezpośrednia","ocirc":"łacińska mała litera o z daszkiem","radic":"pierwiastek kwadratowy\nznak pierwiastka","Chi":"grecka wielka litera chi","notin":"nie należy do","sect":"znak sekcji","Acirc":"łacińska wielka litera A z daszkiem","lsquo":"lewy pojedynczy cudzysłów","beta":"grecka mała litera beta","piv":"grecki symbol pi","sup1":"indeks górny jeden\ncyfra jeden w indeksie górnym","Scaron":"łacińska wielka litera S z daszkiem odwróconym","sup2":"indeks górny dwa\ncyfra dwa w indeksie górnym\nkwadrat","acirc":"łacińska mała litera a z daszkiem","sube":"jest podzbiorem lub równa się","sup3":"indeks górny trzy\ncyfra trzy w indeksie górnym\nsześcian","real":"gotycka wielka litera R\nsymbol części rzeczywistej liczby zespolonej","Iuml":"łacińska wielka litera I z diarezą","rang":"prawy nawias trójkątny","lsaquo":"pojedynczy lewy cudzysłów trójkątny","nabla":"nabla\nkoneksja","omicron":"grecka mała litera omikron","there4":"dlatego","plusmn":"znak plus-minus\nznak zakresu wartości przybliżonej","rceil":"prawy sufit","micro":"znak mikro","rArr":"podwójna strzałka w prawo","Delta":"grecka wielka litera delta","iuml":"łacińska mała litera i z diarezą","Tau":"grecka wielka litera tau","times":"znak mnożenia","yacute":"łacińska mała litera y z akcentem ostrym","ograve":"łacińska mała litera o z akcentem ciężkim","delta":"grecka mała litera delta","Ecirc":"łacińska wielka litera E z daszkiem","dArr":"podwójna strzałka w dół","ntilde":"łacińska mała litera n z tyldą","diams":"symbol karo","uacute":"łacińska mała litera u z akcentem ostrym","Otilde":"łacińska wielka litera O z tyldą","ecirc":"łacińska mała litera e z daszkiem","Upsilon":"grecka wielka litera ipsylon","image":"gotycka wielka litera I\nczęść urojona liczby zespolonej","supe":"jest nadzbiorem lub równa się","xi":"grecka mała litera ksi","weierp":"odręcznie pisana wielka litera P\nzbiór potęgowy\nP Weierstrassa"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"Inserir Símbolo"})
\ No newline at end of file
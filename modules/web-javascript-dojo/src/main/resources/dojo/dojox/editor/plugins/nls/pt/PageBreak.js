@@ -0,0 +1 @@
+({"pageBreak":"Quebra de Página"})
\ No newline at end of file
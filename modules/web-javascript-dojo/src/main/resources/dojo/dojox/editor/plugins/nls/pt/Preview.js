@@ -0,0 +1 @@
+({"preview":"Visualização"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Salvar"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"Mostrar Elementos de Bloco HTML"})
\ No newline at end of file
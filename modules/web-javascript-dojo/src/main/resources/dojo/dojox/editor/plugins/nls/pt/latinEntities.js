@@ -0,0 +1 @@
+({"le":"menor ou igual a","prod":"produto de n elementos\nsímbolo de produto","zwj":"conector de largura zero","mdash":"travessão","frasl":"barra de fração","upsih":"Símbolo da letra grega upsilon com gancho","prop":"proporcional a","middot":"ponto mediano\nvírgula georgiana\nponto mediano grego","hellip":"reticências horizontais\ntrês pontos","eta":"Letra grega minúscula eta","iacute":"Letra latina minúscula i com acento agudo","yen":"símbolo de ienesímbolo de yuan","rlm":"marca da direita para a esquerda","macr":"macron\nmacron de espaçamento\nlinha sobreposta\nbarra superior de APL","ldquo":"aspas duplas inferior à esquerda","Icirc":"Letra latina maiúscula I com acento circunflexo","OElig":"Ligação latina maiúscula OE","hArr":"seta dupla para esquerda e direita","eth":"Letra latina minúscula eth","divide":"símbolo de divisão","chi":"Letra grega minúscula chi","eacute":"Letra latina minúscula e com acento agudo","icirc":"Letra latina minúscula i com acento circunflexo","iexcl":"ponto de exclamação invertido","ETH":"Letra latina maiúscula ETH","acute":"acento agudo\nacento agudo para espaçamento","crarr":"seta para baixo com curva para esquerda\nretorno de texto","mu":"Letra grega minúscula miu","AElig":"Letra latina maiúscula AE\nLetra latina maiúscula AE","aacute":"Letra latina minúscula a com acento agudo","lambda":"Letra grega minúscula lambda","THORN":"Letra latina maiúscula THORN","asymp":"quase igual a\nassintótico a","fnof":"Letra latina minúscula f com gancho\nfunção\nflorim","lang":"sinal de maior e menor para esquerda","cup":"união\nreunião","ne":"diferente de","Sigma":"Letra grega maiúscula sigma","oelig":"Ligação latina minúscula oe","cent":"símbolo de centavo","ni":"contém","dagger":"cruz","permil":"símbolo por mil","Omicron":"Letra grega maiúscula ómicron","sigma":"Letra grega minúscula sigma","euro":"símbolo de euro","Yacute":"Letra latina maiúscula Y com acento agudo","thorn":"Letra latina minúscula thorn","lceil":"chave em L com o canto voltado para cima à esquerda\nAPL com o canto voltado para cima","Ograve":"Letra latina maiúscula O com acento grave","rarr":"seta para direita","nu":"Letra grega minúscula nu","emsp":"espaço duplo","Theta":"Letra grega maiúscula teta","lArr":"seta dupla para esquerda","tau":"Letra grega minúscula tau","aelig":"Letra latina minúscula ae\nLetra latina minúscula ae contraída","ccedil":"Letra latina minúscula c com cedilha","Ntilde":"Letra latina maiúscula N com til","cong":"aproximadamente igual a","Uacute":"Letra latina maiúscula U com acento agudo","theta":"Letra grega minúscula teta","darr":"seta para baixo","Uuml":"Letra latina maiúscula U com trema","bdquo":"aspas duplas inferiores à direita","Aring":"Letra latina maiúscula A com círculo em cima\nLetra latina maiúscula A com círculo","sigmaf":"Letra grega minúscula sigma final","pound":"símbolo de libra","uArr":"seta dupla para cima","sub":"está contido em","aring":"Letra latina minúscula a com círculo em cima\nLetra latina minúscula a com círculo","sdot":"ponto de multiplicação","thinsp":"espaço estreito","or":"'ou' lógico\nvee","Eacute":"Letra latina maiúscula E com acento agudo","shy":"hífen reformatável\nhífen discricionário","curren":"símbolo de moeda","loz":"losango","not":"nenhum símbolo","tilde":"til pequeno","sum":"somatório de n elementos","spades":"símbolo de espadas","Psi":"Letra grega maiúscula psi","ndash":"traço","sup":"contém","atilde":"Letra latina minúscula a com til","clubs":"símbolo de paus\ntrevo","uuml":"Letra latina minúscula u com trema","Aacute":"Letra latina maiúscula A com acento agudo","rsaquo":"aspa latina de abertura","otimes":"símbolo de vezes circulado\nproduto dos vetores","lfloor":"chave em L com o canto voltado para baixo à esquerda\nAPL com o canto voltado para baixo","zwnj":"separador de largura zero","sim":"operador til\nvaria com\nigual a","Iota":"Letra grega maiúscula iota","Iacute":"Letra latina maiúscula I com acento agudo","pi":"Letra grega minúscula pi","ordf":"indicador ordinal feminino","frac12":"fração de um meio\nfração de um meio","frac14":"fração de um quarto\nfração de um quarto","alefsym":"símbolo alef\nprimeiro cardinal transfinito","bull":"marcador\npequeno círculo preto","deg":"símbolo de grau","ordm":"indicador ordinal masculino","epsilon":"Letra grega minúscula épsilon","equiv":"idêntico a","Dagger":"cruz dupla","brvbar":"barra interrompida\nbarra vertical de interrompida","harr":"seta para esquerda e direita","ugrave":"Letra latina minúscula u com acento grave","oslash":"Letra latina minúscula o traçada\nLetra latina minúscula o cortada com barra","Yuml":"Letra latina maiúscula Y com trema","hearts":"coração negro\nsímbolo de copas","Xi":"Letra grega maiúscula ksi","Prime":"linha dupla\nsegundos\npolegadas","iota":"Letra grega minúscula iota","Ccedil":"Letra latina maiúscula C com cedilha","Lambda":"Letra grega maiúscula lambda","raquo":"aspas latinas duplas de abertura\nsímbolo de citação direito","Phi":"Letra grega maiúscula fi","prime":"linha simples\nminutos\npés","nsub":"não está contido em","copy":"símbolo de copyright","yuml":"Letra latina minúscula y com trema","Rho":"Letra grega maiúscula rô","Ucirc":"Letra latina maiúscula U com acento circunflexo","Kappa":"Letra grega maiúscula capa","ucirc":"Letra latina minúscula u com acento circunflexo","sbquo":"aspas simples inferior à direita","igrave":"Letra latina minúscula i com acento grave","reg":"símbolo de marca registrada\nsímbolo de marca comercial registrada","infin":"infinito","iquest":"ponto de interrogação invertido\nponto de interrogação invertido","circ":"Acento circunflexo","kappa":"Letra grega minúscula capa","lrm":"marca da esquerda para a direita","Atilde":"Letra latina maiúscula A com til","larr":"seta para esquerda","frac34":"fração de três quartos\nfração de três quartos","oacute":"Letra latina minúscula o com acento agudo","rsquo":"aspas simples à direita","egrave":"Letra latina minúscula e com acento grave","oline":"linha sobreposta\nlinha superior para espaçamento","Mu":"Letra grega maiúscula miu","exist":"existe pelo menos","cap":"intersecção\nintersecção","and":"'e' lógico\nwedge","Ouml":"Letra latina maiúscula O com trema","agrave":"Letra latina minúscula a com acento grave\nletra latina minúscula a com acento grave","uarr":"seta para cima","ang":"ângulo","Zeta":"Letra grega maiúscula zeta","scaron":"Letra latina minúscula s com caron","Gamma":"Letra grega maiúscula gama","isin":"pertence a","Auml":"Letra latina maiúscula A com trema","empty":"conjunto vazio\nconjunto nulo\ndiâmetro","gamma":"Letra grega minúscula gama","para":"símbolo pé-de-mosca\nsímbolo de parágrafo","ge":"maior ou igual a","psi":"Letra grega minúscula psi","Alpha":"Letra grega maiúscula alfa","Nu":"Letra grega maiúscula nu","ouml":"Letra latina minúscula o com trema","zeta":"Letra grega minúscula zeta","alpha":"Letra grega minúscula alfa","part":"diferença parcial","auml":"Letra latina minúscula a com trema","Ugrave":"Letra latina maiúscula U com acento grave","Oslash":"Letra latina maiúscula O traçada\nLetra latina maiúscula O cortada com barra","Epsilon":"Letra grega maiúscula épsilon","int":"integral","Omega":"Letra grega maiúscula ômega","perp":"up tack\nortogonal a\nperpendicular","uml":"trema\ntrema de espaçamento","upsilon":"Letra grega minúscula upsilon","lowast":"asterisco","omega":"Letra grega minúscula ômega","otilde":"Letra latina minúscula o com til","Egrave":"Letra latina maiúscula E com acento grave","phi":"Letra grega minúscula fi","ensp":"espaço simples","Euml":"Letra latina maiúscula E com trema","cedil":"cedilha\ncedilha para espaçamento","laquo":"aspas latinas duplas de encerramento\nsímbolo de citação esquerdo","forall":"para todos","thetasym":"Símbolo da letra grega minúscula teta","Agrave":"Letra latina maiúscula A com acento grave\nletra latina maiúscula A com acento grave","szlig":"Letra latina minúscula scharfes S\ness-zed","Pi":"Letra grega maiúscula pi","rho":"Letra grega minúscula rô","trade":"símbolo de marca registrada","Igrave":"Letra latina maiúscula I com acento grave","minus":"sinal de menos","Beta":"Letra grega maiúscula beta","Ocirc":"Letra latina maiúscula O com acento circunflexo","rdquo":"aspas duplas à direita","Eta":"Letra grega maiúscula eta","rfloor":"chave em L com o canto voltado para baixo à direita","Oacute":"Letra latina maiúscula O com acento agudo","euml":"Letra latina minúscula e com trema","oplus":"círculo mais\nsoma direta","ocirc":"Letra latina minúscula o com acento circunflexo","radic":"raiz quadrada\nsímbolo de radical","Chi":"Letra grega maiúscula chi","notin":"não pertence a","sect":"símbolo de seção","Acirc":"Letra latina maiúscula A com acento circunflexo","lsquo":"aspas simples à esquerda","beta":"Letra grega minúscula beta","piv":"Símbolo grego pi","sup1":"um sobrescrito\ndígito um sobrescrito","Scaron":"Letra latina maiúscula S com caron","sup2":"dois sobrescrito\ndígito dois sobrescrito\nraiz quadrada","acirc":"Letra latina minúscula a com acento circunflexo","sube":"está contido ou é igual a","sup3":"três sobrescrito\ndígito três sobrescrito\nraiz cúbica","real":"letra R maiúscula gótica\nsímbolo da parte real","Iuml":"Letra latina maiúscula I com trema","rang":"sinal de maior e menor para direita","lsaquo":"aspa latina de encerramento","nabla":"nabla\ngradiente","omicron":"Letra grega minúscula ómicron","there4":"para isso","plusmn":"símbolo de mais e menos\nsímbolo de mais ou menos","rceil":"chave em L com o canto voltado para cima à direita","micro":"símbolo de micro","rArr":"seta dupla para direita","Delta":"Letra grega maiúscula delta","iuml":"Letra latina minúscula i com trema","Tau":"Letra grega maiúscula tau","times":"símbolo de multiplicação","yacute":"Letra latina minúscula y com acento agudo","ograve":"Letra latina minúscula o com acento grave","delta":"Letra grega minúscula delta","Ecirc":"Letra latina maiúscula E com acento circunflexo","dArr":"seta dupla para baixo","ntilde":"Letra latina minúscula n com til","diams":"diamante negro","uacute":"Letra latina minúscula u com acento agudo","Otilde":"Letra latina maiúscula O com til","ecirc":"Letra latina minúscula e com acento circunflexo","Upsilon":"Letra grega maiúscula upsilon","image":"letra I maiúscula gótica\nparte imaginária","supe":"contém ou é igual a","xi":"Letra grega minúscula ksi","weierp":"P maiúsculo cursivo\npotência\np de Weierstrass"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"selectContents":"Selectare conţinut","deleteElement":"Ştergere element","moveEnd":"Mutare cursor la sfârşit","deleteContents":"Ştergere conţinut","nodeActions":"Acţiuni ${nodeName}","selectElement":"Selectare element","moveStart":"Mutare cursor la început"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"collapse":"Restrângere bară de unelte Editor","expand":"Expandare bară de unelte Editor"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"set":"Setare","insertAnchor":"Inserare ancoră","title":"Proprietăţi ancoră","text":"Descriere:","cancel":"Anulare","anchor":"Nume:"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"Inserare simbol"})
\ No newline at end of file
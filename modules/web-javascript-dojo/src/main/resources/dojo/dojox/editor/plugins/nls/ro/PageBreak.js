@@ -0,0 +1 @@
+({"pageBreak":"Întrerupere pagină"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Previzualizare "})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Salvare"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"showBlockNodes":"Afişare bloc elemente HTML"})
\ No newline at end of file
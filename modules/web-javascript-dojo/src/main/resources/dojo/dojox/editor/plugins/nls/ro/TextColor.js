@@ -0,0 +1 @@
+({"setButtonText":"Setare","cancelButtonText":"Anulare"})
\ No newline at end of file
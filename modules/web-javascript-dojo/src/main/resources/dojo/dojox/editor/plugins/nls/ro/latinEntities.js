@@ -0,0 +1 @@
+({"le":"mai mic sau egal cu","prod":"n produs\nsemnul produs","zwj":"zero cu unificator","mdash":"linie em","frasl":"linie fracţie","upsih":"Simbolul grec upsilon cu cârlig","prop":"proporţional cu","middot":"punct de mijloc\nvirgulă georgiană\npunct de mijloc grec","hellip":"elipse orizontale\ntrei puncte precursoare","eta":"Literă greacă mică eta","iacute":"Literă latină mică i cu accent acut","yen":"semnul yen\nsemnul nyuan","rlm":"semn dreapta spre stânga","macr":"macron\nmacron de spaţiere\nlinie deasupra\nAPL linie deasupra","ldquo":"ghilimele duble stânga","Icirc":"Literă mare latină I cu circumflex","OElig":"Ligatură mare latină OE","hArr":"săgeata dublă stânga dreapta","eth":"Literă latină mică eth","divide":"semn împărţire","chi":"Literă greacă mică chi","eacute":"Literă latină mică e cu accent acut","icirc":"Literă latină mică i cu circumflex","iexcl":"semnul exclamării inversat","ETH":"Literă mare latină ETH","acute":"accent acut\nspaţiere acută","crarr":"săgeata în jos cu colţ spre stânga","mu":"Literă greacă mică miu","AElig":"Literă mare latină AE\nLigatură mare latină AE","aacute":"Literă latină mică a cu accent acut","lambda":"Literă greacă mică lambda","THORN":"Literă mare latină THORN","asymp":"aproape egal cu\nasimptotic la","fnof":"Literă latină mică f cu cârlig\nfuncţie\nflorin","lang":"paranteză unghiulară spre stânga","cup":"reuniune\ncupă","ne":"nu este egal cu","Sigma":"Literă greacă mare sigma","oelig":"Ligatură mică latină oe","cent":"semnul cent","ni":"conţine ca membru","dagger":"cruce","permil":"semn per mie","Omicron":"Literă greacă mare omicron","sigma":"Literă greacă mică sigma","euro":"semn euro","Yacute":"Literă mare latină Y cu accent acut","thorn":"Literă latină mică thorn","lceil":"plafon stânga\nAPL upstile","Ograve":"Literă mare latină O cu accent grav","rarr":"săgeată spre dreapta","nu":"Literă greacă mică niu","emsp":"spaţiu em","Theta":"Literă greacă mare theta","lArr":"săgeata dublă spre stânga","tau":"Literă greacă mică tau","aelig":"Literă latină mică ae\nLigatură latină mică ae","ccedil":"Literă latină mică c cu sedilă","Ntilde":"Literă mare latină N cu tilda","cong":"aproximativ egal cu","Uacute":"Literă mare latină U cu accent acut","theta":"Literă greacă mică theta","darr":"săgeata în jos","Uuml":"Literă mare latină U cu tremă","bdquo":"double low-9 semn de citare","Aring":"Literă mare latină A cu inel deasupra\nLiteră mare latină A cu inel","sigmaf":"Literă greacă mică sigma final","pound":"semnul liră sterlină","uArr":"săgeata dublă în sus","sub":"subset al","aring":"Literă latină mică a cu inel deasupra\nLiteră latină mică a cu inel","sdot":"operator punct","thinsp":"spaţiu îngust","or":"sau logic\nV","Eacute":"Literă mare latină E cu accent acut","shy":"liniuţă de despărţire soft\nliniuţă de despărţire discreţionară","curren":"semnul monedă","loz":"romb","not":"semn nu","tilde":"tilda mică","sum":"n suma","spades":"treflă neagră","Psi":"Literă greacă mare psi","ndash":"linie en","sup":"superset al","atilde":"Literă latină mică a cu tilda","clubs":"pică neagră\nshamrock","uuml":"Literă latină mică u cu tremă","Aacute":"Literă mare latină A cu accent acut","rsaquo":"ghilimele singure unghiulare spre dreapta","otimes":"multiplicator încercuit\nprodus vectorial","lfloor":"podea stânga\nAPL downstile","zwnj":"zero fără unificator","sim":"operator tilda\nvariază cu\nsimilar cu","Iota":"Literă greacă mare iota","Iacute":"Literă mare latină I cu accent acut","pi":"Literă greacă mică pi","ordf":"indicator ordinal feminin","frac12":"fracţie ordinară o jumătate\nfracţie o jumătate","frac14":"fracţie ordinară un sfert\nfracţie un sfert","alefsym":"simbol alef\nprimul cardinal transfinit","bull":"bullet\ncerc mic negru","deg":"semn de grade","ordm":"indicator ordinal masculin","epsilon":"Literă greacă mică epsilon","equiv":"identic cu","Dagger":"cruce dublă","brvbar":"bară ruptă\nbară verticală ruptă","harr":"săgeata stânga dreapta","ugrave":"Literă latină mică u cu accent grav","oslash":"Literă latină mică o cu linie de taiere\nLiteră latină mică o cu o linie oblică","Yuml":"Literă mare latină Y cu tremă","hearts":"inimă neagră\nvalentine","Xi":"Literă greacă mare xi","Prime":"prim dublu\nsecunde\nţoli","iota":"Literă greacă mică iota","Ccedil":"Literă mare latină C cu sedilă","Lambda":"Literă greacă mare lambda","raquo":"ghilimele unghi dublu arătând spre dreapta\nghilimele arătând spre dreapta","Phi":"Literă greacă mare phi","prime":"prim\nminute\npicioare","nsub":"nu este un subset al","copy":"semnul copyright","yuml":"Literă latină mică y cu tremă","Rho":"Literă greacă mare rho","Ucirc":"Literă mare latină U cu circumflex","Kappa":"Literă greacă mare kappa","ucirc":"Literă latină mică u cu circumflex","sbquo":"single low-9 semn de citare ","igrave":"Literă latină mică i cu accent grav","reg":"semn de înregistrare\nsemn de marcă înregistrată","infin":"infinit","iquest":"semn de întrebare inversat\nsemn de întrebare răsturnat","circ":"accent circumflex modificator de literă","kappa":"Literă greacă mică kappa","lrm":"semn stânga spre dreapta","Atilde":"Literă mare latină A cu tilda","larr":"săgeată spre stânga","frac34":"fracţie ordinară trei sferturi\nfracţie trei sferturi","oacute":"Literă latină mică o cu accent acut","rsquo":"ghilimele simple dreapta","egrave":"Literă latină mică e cu accent grav","oline":"linie deasupra\nlinie de spaţiere deasupra","Mu":"Literă greacă mare miu","exist":"Există","cap":"intersecţie\ncăciulă","and":"şi logic\npană","Ouml":"Literă mare latină O cu tremă","agrave":"Literă latină mică a cu accent grav\nLiteră latină mică a grav","uarr":"săgeata în sus","ang":"unghi","Zeta":"Literă greacă mare zeta","scaron":"Literă mică latină s cu caron","Gamma":"Literă greacă mare gamma","isin":"element al","Auml":"Literă mare latină A cu tremă","empty":"set gol\nset zero\ndiametru","gamma":"Literă greacă mică gamma","para":"semn pilcrow\nsemn paragraf","ge":"mai mare sau egal cu","psi":"Literă greacă mică psi","Alpha":"Literă greacă mare alfa","Nu":"Literă greacă mare niu","ouml":"Literă latină mică o cu tremă","zeta":"Literă greacă mică zeta","alpha":"Literă greacă mică alfa","part":"diferenţiale parţiale","auml":"Literă latină mică a cu tremă","Ugrave":"Literă mare latină U cu accent grav","Oslash":"Literă latină majusculă O cu linie de taiere\nLiteră latină majusculă O cu o linie oblică","Epsilon":"Literă greacă mare epsilon","int":"integral","Omega":"Literă greacă mare omega","perp":"t întors\nortogonal la\nerpendicular","uml":"tremă\ntremă de spaţiere","upsilon":"Literă greacă mică upsilon","lowast":"operatorul asterisk","omega":"Literă greacă mică omega","otilde":"Literă latină mică o cu tilda","Egrave":"Literă mare latină E cu accent grav","phi":"Literă greacă mică phi","ensp":"spaţiu en","Euml":"Literă mare latină E cu tremă","cedil":"sedila\nsedila de spaţiere","laquo":"ghilimele unghi dublu arătând spre stânga\nghilimele arătând spre stânga","forall":"pentru toate","thetasym":"Literă greacă mică simbol theta","Agrave":"Literă mare latină A cu accent grav\nLiteră mare latină A grav","szlig":"Literă latină mică s diez\ness-zed","Pi":"Literă greacă mare pi","rho":"Literă greacă mică rho","trade":"semn marcă înregistrată","Igrave":"Literă mare latină I cu accent grav","minus":"semnul minus","Beta":"Literă greacă mare beta","Ocirc":"Literă mare latină O cu circumflex","rdquo":"ghilimele duble dreapta","Eta":"Literă greacă mare eta","rfloor":"podea dreapta","Oacute":"Literă mare latină O cu accent acut","euml":"Literă latină mică e cu tremă","oplus":"plus încercuit\nsumă directă","ocirc":"Literă latină mică o cu circumflex","radic":"rădăcină pătrată\nsemnul radical","Chi":"Literă greacă mare chi","notin":"nu este un element al","sect":"semn secţiune","Acirc":"Literă mare latină A cu circumflex","lsquo":"ghilimele simple stânga","beta":"Literă greacă mică beta","piv":"Simbolul grec pi","sup1":"scriere indice superior unu\nscriere indice superior cifră unu","Scaron":"Literă mare latină S cu caron","sup2":"scriere indice superior doi\nscriere indice superior cifră doi\npătrat","acirc":"Literă latină mică a cu circumflex","sube":"subset al sau egal cu","sup3":"scriere indice superior trei\nscriere indice superior cifră trei\ncub","real":"R majusculă înnegrită\nsimbol parte reală","Iuml":"Literă mare latină I cu tremă","rang":"paranteză unghiulară spre dreapta","lsaquo":"ghilimele singure unghiulare spre stânga","nabla":"nabla\ndiferenţa înapoi","omicron":"Literă greacă mică omicron","there4":"de aceea","plusmn":"semn plus-minus\nsemn plus-sau-minus","rceil":"plafon dreapta","micro":"semn micro","rArr":"săgeata dublă spre dreapta","Delta":"Literă greacă mare delta","iuml":"Literă latină mică i cu tremă","Tau":"Literă greacă mare tau","times":"semn de înmulţire","yacute":"Literă latină mică y cu accent acut","ograve":"Literă latină mică o cu accent grav","delta":"Literă greacă mică delta","Ecirc":"Literă mare latină E cu circumflex","dArr":"săgeata dublă în jos","ntilde":"Literă latină mică n cu tilda","diams":"romb negru","uacute":"Literă latină mică u cu accent acut","Otilde":"Literă mare latină O cu tilda","ecirc":"Literă latină mică e cu circumflex","Upsilon":"Literă greacă mare upsilon","image":"I majusculă înnegrită\nparte imaginară","supe":"superset al sau egal cu","xi":"Literă greacă mică xi","weierp":"script capital P\nputere\np Weierstrass"})
\ No newline at end of file
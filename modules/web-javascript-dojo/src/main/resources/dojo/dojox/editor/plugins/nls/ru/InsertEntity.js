@@ -0,0 +1 @@
+({"insertEntity":"Вставить символ"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"pageBreak":"Разделитель страниц"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"Предварительный просмотр"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"Сохранить"})
\ No newline at end of file
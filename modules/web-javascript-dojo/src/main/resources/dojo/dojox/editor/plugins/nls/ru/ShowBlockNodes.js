@@ -0,0 +1 @@
+({"showBlockNodes":"Показать элементы блока HTML"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"le":"меньше или равно","prod":"n-арное произведение\nсимвол произведения","zwj":"соединитель нулевой ширины","mdash":"тире длины M","frasl":"косая черта","upsih":"греческий ипсилон с хвостиком","prop":"пропорционально","middot":"средняя точка\nзапятая в грузинском\nсредняя точка в греческом","hellip":"многоточие\nтри точки","eta":"греческая строчная буква эта","iacute":"латинская строчная буква i с акутом","yen":"символ иены\nсимвол юаня","rlm":"знак справа-налево","macr":"знак долготы\nзнак долготы с интервалом\nверхняя черта\nнадчеркивание APL","ldquo":"левая двойная кавычка","Icirc":"латинская прописная буква I с циркумфлексом","OElig":"латинская прописная лигатура OE","hArr":"двойная стрелка влево-вправо","eth":"латинская строчная буква eth","divide":"знак деления","chi":"греческая строчная буква хи","eacute":"латинская строчная буква e с акутом","icirc":"латинская строчная буква i с циркумфлексом","iexcl":"инвертированный восклицательный знак","ETH":"латинская прописная буква ETH","acute":"знак акут\nакут с интервалом","crarr":"стрелка вниз с углом вправо\nвозврат каретки","mu":"греческая строчная буква мю","AElig":"латинская прописная буква AE\nлатинская прописная лигатура AE","aacute":"латинская строчная буква a с акутом","lambda":"греческая строчная буква лямбда","THORN":"латинская прописная буква THORN","asymp":"почти равно\nасимптотично","fnof":"латинская строчная буква f с хвостиком\nфункция\nфлорин","lang":"левая угловая скобка","cup":"объединение\nчашечка","ne":"не равно","Sigma":"греческая прописная буква сигма","oelig":"латинская строчная лигатура oe","cent":"символ цента","ni":"содержит в качестве элемента","dagger":"крест","permil":"знак промилле","Omicron":"греческая прописная буква омикрон","sigma":"греческая строчная буква сигма","euro":"символ евро","Yacute":"латинская прописная буква Y с акутом","thorn":"латинская строчная буква thorn","lceil":"левая скобка округления вверх\nAPL upstile","Ograve":"латинская прописная буква O с грависом","rarr":"стрелка вправо","nu":"греческая строчная буква ню","emsp":"пробел длины M","Theta":"греческая прописная буква тета","lArr":"двойная стрелка влево","tau":"греческая строчная буква тау","aelig":"латинская строчная буква ae\nлатинская строчная лигатура ae","ccedil":"латинская строчная буква c с седилью","Ntilde":"латинская прописная буква N с тильдой","cong":"приблизительно равно","Uacute":"латинская прописная буква U с акутом","theta":"греческая строчная буква тета","darr":"стрелка вниз","Uuml":"латинская прописная буква U с тремой","bdquo":"двойная нижняя кавычка","Aring":"латинская прописная буква A с кружком сверху\nлатинская прописная буква A с кружком","sigmaf":"греческая строчная конечная сигма","pound":"символ фунта стерлингов","uArr":"двойная стрелка вверх","sub":"подмножество","aring":"латинская строчная буква a с кружком сверху\nлатинская строчная a с кружком","sdot":"оператор точка","thinsp":"узкий пробел","or":"логическое ИЛИ\nклин вниз","Eacute":"латинская прописная буква E с акутом","shy":"мягкий перенос\nвозможный перенос","curren":"символ денежной единицы","loz":"ромб","not":"знак отрицания","tilde":"малая тильда","sum":"n-арное суммирование","spades":"пики","Psi":"греческая прописная буква пси","ndash":"тире длины N","sup":"включает в себя","atilde":"латинская строчная буква a с тильдой","clubs":"крести\nтрилистник","uuml":"латинская строчная буква u с тремой","Aacute":"латинская прописная буква A с акутом","rsaquo":"одинарная правая угловая кавычка","otimes":"умножение в круге\nвекторное произведение","lfloor":"левая скобка округления вниз\nAPL downstile","zwnj":"разделитель нулевой ширины","sim":"оператор тильда\nизменяться с\nподобно","Iota":"греческая прописная буква йота","Iacute":"латинская прописная буква I с акутом","pi":"греческая строчная буква пи","ordf":"индикатор женского рода","frac12":"дробь одна вторая\nодна вторая","frac14":"дробь одна четвертая\nодна четверть","alefsym":"буква Алеф\nкардинальное число","bull":"маркер списка\nчерный маленький кружок","deg":"символ градусов","ordm":"индикатор мужского рода","epsilon":"греческая строчная буква эпсилон","equiv":"идентично","Dagger":"двойной крест","brvbar":"прерывистая черта\nвертикальная прерывистая черта","harr":"стрелка влево-вправо","ugrave":"латинская строчная буква u с грависом","oslash":"латинская строчная буква o перечеркнутая\nлатинская строчная буква o с вертикальной чертой","Yuml":"латинская прописная буква Y с тремой","hearts":"червы\nвалентинка","Xi":"греческая прописная буква кси","Prime":"двойной штрих\nсекунды\nдюймы","iota":"греческая строчная буква йота","Ccedil":"латинская прописная буква C с седилью","Lambda":"греческая прописная буква лямбда","raquo":"правая двойная угловая кавычка\nправая кавычка","Phi":"греческая прописная буква фи","prime":"штрих\nминуты\nфуты","nsub":"не является подмножеством","copy":"символ авторских прав","yuml":"латинская строчная буква y с тремой","Rho":"греческая прописная буква ро","Ucirc":"латинская прописная буква U с циркумфлексом","Kappa":"греческая прописная буква каппа","ucirc":"латинская строчная буква u с циркумфлексом","sbquo":"одиночная нижняя кавычка","igrave":"латинская строчная буква i с грависом","reg":"символ Зарегистрирован\nсимвол зарегистрированного товарного знака","infin":"бесконечность","iquest":"инвертированный знак вопроса\nперевернутый знак вопроса","circ":"надстрочный знак циркумфлекс","kappa":"греческая строчная буква каппа","lrm":"знак слева-направо","Atilde":"латинская прописная буква A с тильдой","larr":"стрелка влево","frac34":"дробь три четверти\nтри четверти","oacute":"латинская строчная буква o с акутом","rsquo":"правая одинарная кавычка","egrave":"латинская строчная буква e с грависом","oline":"верхняя черта\nнадчеркивание с интервалом","Mu":"греческая прописная буква мю","exist":"существует","cap":"пересечение\nшапочка","and":"логическое И\nклин вверх","Ouml":"латинская прописная буква O с тремой","agrave":"латинская строчная буква a с грависом\nлатинская строчная a с грависом","uarr":"стрелка вверх","ang":"угол","Zeta":"греческая прописная буква дзета","scaron":"латинская строчная буква s с галочкой","Gamma":"греческая прописная буква гамма","isin":"является элементом","Auml":"латинская прописная буква A с тремой","empty":"пустой набор\nпустое множество\nдиаметр","gamma":"греческая строчная буква гамма","para":"символ абзаца\nсимвол параграфа","ge":"больше или равно","psi":"греческая строчная буква пси","Alpha":"греческая прописная буква альфа","Nu":"греческая прописная буква ню","ouml":"латинская строчная буква o с тремой","zeta":"греческая строчная буква дзета","alpha":"греческая строчная буква альфа","part":"частичный дифференциал","auml":"латинская строчная буква a с тремой","Ugrave":"латинская прописная буква U с грависом","Oslash":"латинская прописная буква O перечеркнутая\nлатинская прописная буква O с вертикальной чертой","Epsilon":"греческая прописная буква эпсилон","int":"интеграл","Omega":"греческая прописная буква омега","perp":"перевернутый гвоздь\nортогонально к\nперпендикулярно","uml":"трема\nтрема с интервалом","upsilon":"греческая строчная буква ипсилон","lowast":"оператор звездочка","omega":"греческая строчная буква омега","otilde":"латинская строчная буква o с тильдой","Egrave":"латинская прописная буква E с грависом","phi":"греческая строчная буква фи","ensp":"пробел длины N","Euml":"латинская прописная буква E с тремой","cedil":"седиль\nседиль с интервалом","laquo":"левые двойный угловые кавычки\nлевые кавычки","forall":"для всех","thetasym":"греческая символьная тета","Agrave":"латинская прописная буква A с грависом","szlig":"латинская строчная заостренная s\nэсцэт","Pi":"греческая прописная буква пи","rho":"греческая строчная буква ро","trade":"символ товарного знака","Igrave":"латинская прописная буква I с грависом","minus":"знак минуса","Beta":"греческая прописная буква бета","Ocirc":"латинская прописная буква O с циркумфлексом","rdquo":"правая двойная кавычка","Eta":"греческая прописная буква эта","rfloor":"правая скобка округления вниз","Oacute":"латинская прописная буква O с акутом","euml":"латинская строчная буква e с тремой","oplus":"плюс в круге\nпрямая сумма","ocirc":"латинская строчная буква o с циркумфлексом","radic":"квадратный корень\nзнак корня","Chi":"греческая прописная буква хи","notin":"не является элементом","sect":"символ раздела","Acirc":"латинская прописная буква A с циркумфлексом","lsquo":"левая одинарная кавычка","beta":"греческая строчная буква бета","piv":"греческая символьная пи","sup1":"верхний индекс один\nверхний индекс с цифрой один","Scaron":"латинская прописная буква S с галочкой","sup2":"верхний индекс два\nверхний индекс с цифрой два\nвозведение в квадрат","acirc":"латинская строчная буква a с циркумфлексом","sube":"является подмножеством или эквивалентно","sup3":"верхний индекс три\nверхний индекс с цифрой три\nвозведение в куб","real":"черная прописная R\nвещественная часть","Iuml":"латинская прописная буква I с тремой","rang":"правая угловая скобка","lsaquo":"одинарная левая угловая кавычка","nabla":"оператор набла\nразностное отношение назад","omicron":"греческая строчная буква омикрон","there4":"следовательно","plusmn":"символ плюс-минус\nсимвол плюса или минуса","rceil":"правая скобка округления вверх","micro":"знак микро","rArr":"двойная стрелка вправо","Delta":"греческая прописная буква дельта","iuml":"латинская строчная буква i с тремой","Tau":"греческая прописная буква тау","times":"знак умножения","yacute":"латинская строчная буква y с акутом","ograve":"латинская строчная буква o с грависом","delta":"греческая строчная буква дельта","Ecirc":"латинская прописная буква E с циркумфлексом","dArr":"двойная стрелка вниз","ntilde":"латинская строчная буква n с тильдой","diams":"бубны","uacute":"латинская строчная буква u с акутом","Otilde":"латинская прописная буква O с тильдой","ecirc":"латинская строчная буква e с циркумфлексом","Upsilon":"греческая прописная буква ипсилон","image":"черная прописная I\nмнимая часть","supe":"включает в себя или эквивалентно","xi":"греческая строчная буква хи","weierp":"рукописная прописная P\nстепенное множество\nфункции Вейерштрасса"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"selectContents":"選取內容","deleteElement":"刪除元素","moveEnd":"將游標移到末尾","deleteContents":"刪除內容","nodeActions":"${nodeName} 動作","selectElement":"選取元素","moveStart":"將游標移到開頭"})
\ No newline at end of file
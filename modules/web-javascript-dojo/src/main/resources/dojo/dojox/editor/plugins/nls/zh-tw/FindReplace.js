@@ -0,0 +1 @@
+({"backwards":"向後","findReplace":"切換尋找/取代","replaceAll":"所有出現位置","replaceDialogText":"取代了 ${0} 項。","replaceButton":"取代","findButton":"尋找","findLabel":"尋找目標：","matchCase":"大小寫相符","replaceLabel":"取代為：","eofDialogTextFind":"查找","eofDialogText":"已完成最后一次${0}","findTooltip":"输入查找文本","replaceTooltip":"输入替换文本","replaceAllButton":"全部替换","eofDialogTextReplace":"替换","backwardsTooltip":"向后查找文本","replaceAllButtonTooltip":"替换所有出现位置","replaceButtonTooltip":"替换该文本","matchCaseTooltip":"匹配大小写","findButtonTooltip":"查找该文本"})
\ No newline at end of file
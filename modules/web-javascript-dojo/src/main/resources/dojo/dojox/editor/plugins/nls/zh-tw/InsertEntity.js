@@ -0,0 +1 @@
+({"insertEntity":"插入符號"})
\ No newline at end of file
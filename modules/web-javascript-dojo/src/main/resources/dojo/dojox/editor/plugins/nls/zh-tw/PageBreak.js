@@ -0,0 +1 @@
+({"pageBreak":"分頁"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"preview":"預覽"})
\ No newline at end of file
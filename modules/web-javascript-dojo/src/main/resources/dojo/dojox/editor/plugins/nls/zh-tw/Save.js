@@ -0,0 +1 @@
+({"save":"儲存"})
\ No newline at end of file
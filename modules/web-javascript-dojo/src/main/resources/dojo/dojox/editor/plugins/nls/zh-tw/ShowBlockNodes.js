@@ -0,0 +1 @@
+({"showBlockNodes":"顯示 HTML 區塊元素"})
\ No newline at end of file
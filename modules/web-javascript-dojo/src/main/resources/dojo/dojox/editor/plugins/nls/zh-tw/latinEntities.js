@@ -0,0 +1 @@
+({"le":"小於或等於","prod":"n 元積\n積符號","zwj":"零寬連字符","mdash":"長破折號","frasl":"分數斜線","upsih":"帶鉤的希臘文 upsilon 符號","prop":"成比例","middot":"中點號\n中心點\n希臘中點","hellip":"水平省略號\n三個點開頭","eta":"希臘文小寫字母 η","iacute":"帶揚音符的拉丁文小寫字母 i","yen":"日圓符號\n人民幣符號","rlm":"從右到左標記","macr":"長音符\n間隔長音符\n上線\nAPL 上線","ldquo":"左雙引號","Icirc":"帶抑揚音符的拉丁文大寫字母 I","OElig":"拉丁文大寫連字 OE","hArr":"左右雙箭頭","eth":"拉丁文小寫字母 eth","divide":"除號","chi":"希臘文小寫字母 χ","eacute":"帶揚音符的拉丁文小寫字母 e","icirc":"帶抑揚音符的拉丁文小寫字母 i","iexcl":"倒感歎號","ETH":"拉丁文大寫字母 ETH","acute":"揚音符\n揚音符","crarr":"有向左轉的角的向下箭頭\n換行符號","mu":"希臘文小寫字母 μ","AElig":"拉丁文大寫字母 AE\n拉丁文大寫連字 AE","aacute":"帶揚音符的拉丁文小寫字母 a","lambda":"希臘文小寫字母 λ","THORN":"拉丁文大寫字母 THORN","asymp":"幾乎等於\n近似於","fnof":"帶短畫的拉丁文小寫 f\n函數\n弗洛林幣","lang":"左角括弧","cup":"併集\n杯狀","ne":"不等於","Sigma":"希臘文大寫字母 Σ","oelig":"拉丁文小寫連字 oe","cent":"英分","ni":"包含","dagger":"單劍註釋符號","permil":"千分號","Omicron":"希臘文大寫字母 Ο","sigma":"希臘文小寫字母 σ","euro":"歐元符號","Yacute":"帶揚音符的拉丁文大寫字母 Y","thorn":"拉丁文小寫字母 thorn","lceil":"左上限\nAPL 頂","Ograve":"帶抑音符的拉丁文大寫字母 O","rarr":"向右箭頭","nu":"希臘文小寫字母 ν","emsp":"長破折號間距","Theta":"希臘文大寫字母 Θ","lArr":"向左雙箭頭","tau":"希臘文小寫字母 τ","aelig":"拉丁文小寫字母 ae\n拉丁文小寫連字 ae","ccedil":"帶軟音符號的拉丁文小寫字母 c","Ntilde":"帶顎化符的拉丁文大寫字母 N","cong":"約等於","Uacute":"帶揚音符的拉丁文大寫字母 U","theta":"希臘文小寫字母 θ","darr":"向下箭頭","Uuml":"帶分音符的拉丁文大寫字母 U","bdquo":"9 形下標雙引號","Aring":"帶上圓圈的拉丁文大寫字母 A\n帶上圓圈的拉丁文大寫字母 A","sigmaf":"希臘文小寫字母 final sigma","pound":"英鎊","uArr":"向上雙箭頭","sub":"子集","aring":"帶上圓圈的拉丁文 a\n帶上圓圈的拉丁文 a","sdot":"點運算子","thinsp":"薄間距","or":"邏輯 OR\nV 形符號","Eacute":"帶揚音符的拉丁文大寫字母 E","shy":"軟連字號\n自由選定的連字號","curren":"貨幣符號","loz":"菱形","not":"非符號","tilde":"小波狀符號","sum":"n 元和","spades":"黑色黑桃","Psi":"希臘文大寫字母 Ψ","ndash":"短破折號","sup":"超集","atilde":"帶顎化符的拉丁文小寫字母 a","clubs":"黑色梅花\n三葉草","uuml":"帶分音符的拉丁文小寫字母 u","Aacute":"帶揚音符的拉丁文大寫字母 A","rsaquo":"右尖單角引號","otimes":"帶圓圈的乘號\n向量積","lfloor":"左下限\nAPL 底","zwnj":"零寬非連字符","sim":"波狀符號運算子\n偏離\n近似","Iota":"希臘文大寫字母 Ι","Iacute":"帶揚音符的拉丁文大寫字母 I","pi":"希臘文小寫字母 π","ordf":"陰性序數指示符","frac12":"普通分數二分之一\n分數二分之一","frac14":"普通分數四分之一\n分數四分之一","alefsym":"alef 符號\n第一個超窮基數","bull":"項目符號\n黑色小圓圈","deg":"度號","ordm":"陽性序數指示符","epsilon":"希臘文小寫字母 ε","equiv":"完全相等","Dagger":"雙劍註釋符號","brvbar":"斷開的豎線\n斷開的垂直線","harr":"左右箭頭","ugrave":"帶抑音符的拉丁文小寫字母 u","oslash":"帶斜線的拉丁文小寫字母 O\n帶斜線的小寫字母 o","Yuml":"帶分音符的拉丁文大寫字母 Y","hearts":"黑色紅桃\n心形","Xi":"希臘文大寫字母 Ξ","Prime":"雙撇號\n秒\n英吋","iota":"希臘文小寫字母 ι","Ccedil":"帶軟音符號的拉丁文大寫字母 C","Lambda":"希臘文大寫字母 Λ","raquo":"右尖雙角引號\n右尖雙引號","Phi":"希臘文大寫字母 Φ","prime":"撇號\n分鐘\n英呎","nsub":"非子集","copy":"著作權符號","yuml":"帶分音符的拉丁文小寫字母 y","Rho":"希臘文大寫字母 Ρ","Ucirc":"帶抑揚音符的拉丁文大寫字母 U","Kappa":"希臘文大寫字母 Κ","ucirc":"帶抑揚音符的拉丁文小寫字母 u","sbquo":"9 形下標單引號","igrave":"帶抑音符的拉丁文小寫字母 i","reg":"已註冊符號\n註冊商標符號","infin":"無限","iquest":"顛倒的問號\n倒轉的問號","circ":"修飾元字母抑揚音符","kappa":"希臘文小寫字母 κ","lrm":"從左到右標記","Atilde":"帶顎化符的拉丁文大寫字母 A","larr":"向左箭頭","frac34":"普通分數四分之三\n分數四分之三","oacute":"帶揚音符的拉丁文小寫字母 o","rsquo":"右單引號","egrave":"帶抑音符的拉丁文小寫字母 e","oline":"上線\n間隔上線","Mu":"希臘文大寫字母 Μ","exist":"存在","cap":"交集\n蓋狀","and":"邏輯 AND\n楔形符號","Ouml":"帶分音符的拉丁文大寫字母 O","agrave":"帶抑音符的拉丁文小寫字母 a\n帶抑音符的拉丁文小寫字母 a","uarr":"向上箭頭","ang":"角符號","Zeta":"希臘文大寫字母 Ζ","scaron":"帶倒折音的拉丁文小寫字母 s","Gamma":"希臘文大寫字母 Γ","isin":"屬於","Auml":"帶分音符的拉丁文大寫字母 A","empty":"空集\n空集\n直徑","gamma":"希臘文小寫字母 γ","para":"¶ 符號\n段落符號","ge":"大於或等於","psi":"希臘文小寫字母 ψ","Alpha":"希臘文大寫字母 Α","Nu":"希臘文大寫字母 Ν","ouml":"帶分音符的拉丁文小寫字母 o","zeta":"希臘文小寫字母 ζ","alpha":"希臘文小寫字母 α","part":"偏微分","auml":"帶分音符的拉丁文小寫字母 a","Ugrave":"帶抑音符的拉丁文大寫字母 U","Oslash":"帶斜線的拉丁文大寫字母 O\n帶斜線的大寫字母 O","Epsilon":"希臘文大寫字母 Ε","int":"整數的","Omega":"希臘文大寫字母 Ω","perp":"向上的釘子\n垂直於\n垂線","uml":"分音符號\n元音分音","upsilon":"希臘文小寫字母 υ","lowast":"星號運算子","omega":"希臘文小寫字母 ω","otilde":"帶顎化符的拉丁文小寫字母 o","Egrave":"帶抑音符的拉丁文大寫字母 E","phi":"希臘文小寫字母 φ","ensp":"短破折號間距","Euml":"帶分音符的拉丁文大寫字母 E","cedil":"軟音符號\n間距軟音符號","laquo":"左尖雙角引號\n左尖雙引號","forall":"全部","thetasym":"希臘文小寫字母 theta 符號","Agrave":"帶抑音符的拉丁文大寫字母 A\n帶抑音符的拉丁文大寫字母 A","szlig":"拉丁文小寫字母 sharp s\ness-zed","Pi":"希臘文大寫字母 Π","rho":"希臘文小寫字母 ρ","trade":"商標符號","Igrave":"帶抑音符的拉丁文大寫字母 I","minus":"減號","Beta":"希臘文大寫字母 Β","Ocirc":"帶抑揚音符的拉丁文大寫字母 O","rdquo":"右雙引號","Eta":"希臘文大寫字母 Η","rfloor":"右下限","Oacute":"帶揚音符的拉丁文大寫字母 O","euml":"帶分音符的拉丁文小寫字母 e","oplus":"帶圓圈的加號\n直和","ocirc":"帶抑揚音符的拉丁文小寫字母 o","radic":"平方根\n根號","Chi":"希臘文大寫字母 Χ","notin":"不屬於","sect":"小節符號","Acirc":"帶抑揚音符的拉丁文大寫字母 A","lsquo":"左單引號","beta":"希臘文小寫字母 β","piv":"希臘文 pi 符號","sup1":"上標 1\n上標數字 1","Scaron":"帶倒折音的拉丁文大寫字母 S","sup2":"上標 2\n上標數字 2\n平方","acirc":"帶抑揚音符的拉丁文小寫字母 a","sube":"子集或等於","sup3":"上標 3\n上標數字 3\n立方","real":"黑色大寫字母 R\n實數部分符號","Iuml":"帶分音符的拉丁文大寫字母 I","rang":"右角括弧","lsaquo":"左尖單角引號","nabla":"倒三角算子\n反向差分","omicron":"希臘文小寫字母 ο","there4":"因此","plusmn":"加減符號\n正負號","rceil":"右上限","micro":"µ 符號","rArr":"向右雙箭頭","Delta":"希臘文大寫字母 Δ","iuml":"帶分音符的拉丁文小寫字母 i","Tau":"希臘文大寫字母 Τ","times":"乘號","yacute":"帶揚音符的拉丁文小寫字母 y","ograve":"帶抑音符的拉丁文小寫字母 o","delta":"希臘文小寫字母 δ","Ecirc":"帶抑揚音符的拉丁文大寫字母 E","dArr":"向下雙箭頭","ntilde":"帶顎化符的拉丁文小寫字母 n","diams":"黑色方塊","uacute":"帶揚音符的拉丁文小寫字母 u","Otilde":"帶顎化符的拉丁文大寫字母O","ecirc":"帶抑揚音符的拉丁文小寫字母 e","Upsilon":"希臘文大寫字母 Υ","image":"黑色大寫字母 I\n虛數部分","supe":"超集或等於","xi":"希臘文小寫字母 ξ","weierp":"Script 大寫 P\n冪集\nWeierstrass p"})
\ No newline at end of file
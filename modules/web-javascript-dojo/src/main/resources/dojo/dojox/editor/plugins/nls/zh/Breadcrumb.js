@@ -0,0 +1 @@
+({"selectContents":"选择内容","deleteElement":"删除元素","moveEnd":"将光标移至结尾","deleteContents":"删除内容","nodeActions":"${nodeName} 操作","selectElement":"选择元素","moveStart":"将光标移至开头"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"replaceDialogText":"已替换 ${0} 个出现位置","eofDialogTextFind":"查找","eofDialogText":"已完成最后一次${0}","backwards":"向后查找","replaceButton":"替换","replaceLabel":"替换为：","matchCase":"大小写匹配","findTooltip":"输入查找文本","replaceTooltip":"输入替换文本","replaceAllButton":"全部替换","eofDialogTextReplace":"替换","findReplace":"切换“查找/替换”","backwardsTooltip":"向后查找文本","replaceAllButtonTooltip":"替换所有出现位置","replaceButtonTooltip":"替换该文本","findLabel":"查找对象：","findButton":"查找","matchCaseTooltip":"匹配大小写","findButtonTooltip":"查找该文本"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"insertEntity":"插入符号"})
\ No newline at end of file
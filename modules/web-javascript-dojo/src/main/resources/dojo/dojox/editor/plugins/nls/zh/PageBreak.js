@@ -0,0 +1 @@
+({"pageBreak":"换页符"})
\ No newline at end of file
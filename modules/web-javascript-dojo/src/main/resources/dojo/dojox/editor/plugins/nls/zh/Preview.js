@@ -0,0 +1 @@
+({"preview":"预览"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"save":"保存"})
\ No newline at end of file
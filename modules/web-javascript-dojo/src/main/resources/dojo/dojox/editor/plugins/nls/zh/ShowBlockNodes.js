@@ -0,0 +1 @@
+({"showBlockNodes":"显示 HTML 块元素"})
\ No newline at end of file
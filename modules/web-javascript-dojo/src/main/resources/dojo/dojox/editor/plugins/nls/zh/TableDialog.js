@@ -0,0 +1 @@
+({"buttonSet":"设置","insertTableTitle":"插入表","insertTableRowAfterLabel":"在之后添加行","center":"中间对齐","deleteTableColumnLabel":"删除列","right":"右边对齐","insertTableColumnBeforeLabel":"在之前添加列","tableWidth":"表宽度：","buttonInsert":"插入","default":"缺省值","align":"对齐：","insertTableRowBeforeLabel":"在之前添加行","cellSpacing":"单元格间距：","pixels":"像素","selectTableLabel":"选择表","rows":"行：","modifyTableTitle":"修改表","cellPadding":"单元格边距：","deleteTableRowLabel":"删除行","backgroundColor":"背景色：","insertTableColumnAfterLabel":"在之后添加列","left":"左边对齐","borderThickness":"边框厚度","columns":"列：","percent":"百分比","borderColor":"边框色："})
\ No newline at end of file
@@ -0,0 +1 @@
+({"le":"小于或等于","prod":"N 元积\n积符号","zwj":"零宽度连字符","mdash":"长破折号","frasl":"分数斜杠","upsih":"带挂钩符号的希腊字母 upsilon","prop":"成比例","middot":"中心点\n乔治逗号\n希腊中心点","hellip":"水平省略号\n三个点组成的标题","eta":"希腊小写字母 η","iacute":"带锐音符的拉丁小写字母 i","yen":"日元符号/人民币符号","rlm":"从右向左标记","macr":"长音符号\n间隔长音符号\n破折号\nAPL 破折号","ldquo":"左双引号","Icirc":"带抑扬符的拉丁大写字母 I","OElig":"拉丁大写连字 OE","hArr":"左右向双箭头","eth":"拉丁小写字母 eth","divide":"除号","chi":"希腊小写字母 χ","eacute":"带锐音符的拉丁小写字母 e","icirc":"带抑扬符的拉丁小写字母 i","iexcl":"反感叹号","ETH":"拉丁大写字母 ETH","acute":"锐音符\n间隔锐音符","crarr":"回车符\n回车符","mu":"希腊小写字母 μ","AElig":"拉丁大写字母 AE\n拉丁大写连字 AE","aacute":"带锐音符的拉丁小写字母 a","lambda":"希腊小写字母 λ","THORN":"拉丁大写字母 THORN","asymp":"几乎等于\n渐近","fnof":"带挂钩符号的拉丁小写 f\n分数\nflorin","lang":"左尖括号","cup":"并集n\n杯状","ne":"不等于","Sigma":"希腊大写字母 Σ","oelig":"拉丁小写连字 oe","cent":"分币符号","ni":"作为成员包含","dagger":"剑号","permil":"千分率符号","Omicron":"希腊大写字母 Ο","sigma":"希腊小写字母 σ","euro":"欧元符号","Yacute":"带锐音符的拉丁大写字母 Y","thorn":"拉丁小写字母 thorn","lceil":"左上限\nAPL 顶","Ograve":"带重音符的拉丁大写字母 O","rarr":"向右箭头","nu":"希腊小写字母 ν","emsp":"双倍间距","Theta":"希腊大写字母 Θ","lArr":"向左双箭头","tau":"希腊小写字母 τ","aelig":"拉丁小写字母 ae\n拉丁小写连字 ae","ccedil":"带软音符的拉丁小写字母 c","Ntilde":"带颚化音的拉丁大写字母 N","cong":"约等于","Uacute":"带锐音符的拉丁大写字母 U","theta":"希腊小写字母 θ","darr":"向下箭头","Uuml":"带分音符的拉丁大写字母 U","bdquo":"低双引号","Aring":"带上圆圈的拉丁大写字母 A\n带圆圈的拉丁大写字母 A","sigmaf":"希腊小写字母 final sigma","pound":"英镑符号","uArr":"向上双箭头","sub":"...的子集","aring":"带上圆圈的拉丁小写字母 a\n带圆圈的拉丁小写字母 a","sdot":"点运算符","thinsp":"窄空格","or":"逻辑或\n V 字形","Eacute":"带锐音符的拉丁大写字母 E","shy":"软连字符\n自由选定连字符","curren":"货币符号","loz":"菱形","not":"非符号","tilde":"小颚化音符号","sum":"N 元和","spades":"黑色桃形","Psi":"希腊大写字母 Ψ","ndash":"短破折号","sup":"...的超集","atilde":"带颚化音的拉丁小写字母 a","clubs":"黑色梅花形\n三叶草","uuml":"带分音符的拉丁小写字母 u","Aacute":"带锐音符的拉丁大写字母 A","rsaquo":"右尖括号","otimes":"带圆圈的乘号\n向量积","lfloor":"左下限\nAPL 底","zwnj":"零宽度非连字符","sim":"颚化音运算符\n偏离\n相似","Iota":"希腊大写字母 Ι","Iacute":"带锐音符的拉丁大写字母 I","pi":"希腊小写字母 π","ordf":"阴性序数指示符","frac12":"普通二分之一\n二分之一","frac14":"普通四分之一\n四分之一","alefsym":"alef 符号\n第一个超限基数","bull":"子弹符号\n黑色小圆圈","deg":"度符号","ordm":"阳性序数指示符","epsilon":"希腊小写字母 ε","equiv":"完全相等","Dagger":"双剑号","brvbar":"横向虚线\n纵向虚线","harr":"向左上箭头","ugrave":"带重音符的拉丁小写字母 u","oslash":"带竖线的拉丁小写字母 o\n带斜杠的拉丁小写字母 o","Yuml":"带分音符的拉丁大写字母 Y","hearts":"黑色心形\n心形","Xi":"希腊大写字母 Ξ","Prime":"秒符号\n秒\n寸","iota":"希腊小写字母 ι","Ccedil":"带软音符的拉丁大写字母 C","Lambda":"希腊大写字母 Λ","raquo":"右双尖括号\n右双尖括号","Phi":"希腊大写字母 Φ","prime":"分钟符号\n分钟\n尺","nsub":"不是...的子集","copy":"版权符号","yuml":"带分音符的拉丁小写字母 y","Rho":"希腊大写字母 Ρ","Ucirc":"带抑扬符的拉丁大写字母 U","Kappa":"希腊大写字母 Κ","ucirc":"带抑扬符的拉丁小写字母 u","sbquo":"低单引号","igrave":"带重音符的拉丁小写字母 i","reg":"注册符号\n注册商标符号","infin":"无限","iquest":"倒问号\n倒问号","circ":"修饰符字母抑扬符重音符","kappa":"希腊小写字母 κ","lrm":"从左向右标记","Atilde":"带颚化音的拉丁大写字母 A","larr":"向左箭头","frac34":"普通四分之三\n四分之三","oacute":"带锐音符的拉丁小写字母 o","rsquo":"右单引号","egrave":"带重音符的拉丁小写字母 e","oline":"顶线\n间隔顶线","Mu":"希腊大写字母 Μ","exist":"存在","cap":"交集\n盖状","and":"逻辑和\n尖三角形","Ouml":"带分音符的拉丁大写字母 O","agrave":"带重音符的拉丁小写字母 a\n带重音符的拉丁小写字母 a","uarr":"向上箭头","ang":"角度","Zeta":"希腊大写字母 Ζ","scaron":"带倒折音的拉丁小写字母 s","Gamma":"希腊大写字母 Γ","isin":"...的元素","Auml":"带分音符的拉丁大写字母 A","empty":"空集\n空集\n直径","gamma":"希腊小写字母 γ","para":"段落符号\n段落符号","ge":"大于或等于","psi":"希腊小写字母 ψ","Alpha":"希腊大写字母 Α","Nu":"希腊大写字母 Ν","ouml":"带分音符的拉丁小写字母 o","zeta":"希腊小写字母 ζ","alpha":"希腊小写字母 α","part":"部分差分","auml":"带分音符的拉丁小写字母 a","Ugrave":"带重音符的拉丁大写字母 U","Oslash":"带竖线的拉丁大写字母 O\n带斜杠的拉丁大写字母 O","Epsilon":"希腊大写字母 Ε","int":"整数","Omega":"希腊大写字母 Ω","perp":"倒 T\n正交于\n垂直","uml":"分音符\n间隔分音符","upsilon":"希腊小写字母 υ","lowast":"星号运算符","omega":"希腊小写字母 ω","otilde":"带颚化音的拉丁小写字母 o","Egrave":"带重音符的拉丁大写字母 E","phi":"希腊小写字母 φ","ensp":"单倍间距","Euml":"带分音符的拉丁大写字母 E","cedil":"软音符\n间隔软音符","laquo":"左双尖括号\n左双尖括号","forall":"全部","thetasym":"希腊小写字母 theta 符号","Agrave":"带重音符的拉丁大写字母 A\n带重音符的拉丁大写字母 A","szlig":"拉丁小写字母 sharp s\ness-zed","Pi":"希腊大写字母 Π","rho":"希腊小写字母 ρ","trade":"商标符号","Igrave":"带重音符的拉丁大写字母 I","minus":"负号","Beta":"希腊大写字母 Β","Ocirc":"带抑扬符的拉丁大写字母 O","rdquo":"右双引号","Eta":"希腊大写字母 Η","rfloor":"右下限","Oacute":"带锐音符的拉丁大写字母 O","euml":"带分音符的拉丁小写字母 e","oplus":"带圆圈的加号\n异或","ocirc":"带抑扬符的拉丁小写字母 o","radic":"平方根\n根号","Chi":"希腊大写字母 Χ","notin":"不是...的元素","sect":"小节符号","Acirc":"带抑扬符的拉丁大写字母 A","lsquo":"左单引号","beta":"希腊小写字母 β","piv":"希腊 pi 符号","sup1":"上标 1\n上标数字 1","Scaron":"带倒折音的拉丁大写字母 S","sup2":"上标 2\n上标数字 2\n平方","acirc":"带抑扬符的拉丁小写字母 a","sube":"...的子集或等于","sup3":"上标 3\n上标数字 3\n立方","real":"黑色大写字母 R\n实部符号","Iuml":"带分音符的拉丁大写字母 I","rang":"右尖括号","lsaquo":"左尖括号","nabla":"劈形算符\n后向差分","omicron":"希腊小写字母 ο","there4":"因此","plusmn":"正负号\n正号或负号","rceil":"右上限","micro":"μ 符号","rArr":"向右双箭头","Delta":"希腊大写字母 Δ","iuml":"带分音符的拉丁小写字母 i","Tau":"希腊大写字母 Τ","times":"乘号","yacute":"带锐音符的拉丁小写字母 y","ograve":"带重音符的拉丁小写字母 o","delta":"希腊小写字母 δ","Ecirc":"带抑扬符的拉丁大写字母 E","dArr":"向下双箭头","ntilde":"带颚化音的拉丁小写字母 n","diams":"黑色菱形","uacute":"带锐音符的拉丁小写字母 u","Otilde":"带颚化音的拉丁大写字母 O","ecirc":"带抑扬符的拉丁小写字母 e","Upsilon":"希腊大写字母 Υ","image":"黑色大写字母 I\n虚部符号","supe":"...的超集或等于","xi":"希腊小写字母 ξ","weierp":"脚本大写 P\n幂集\nWeierstrass p"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"badPasswordMessage":"كلمة سرية غير صحيحة.","nomatchMessage":"كلمة السرية غير مطابقة."})
\ No newline at end of file
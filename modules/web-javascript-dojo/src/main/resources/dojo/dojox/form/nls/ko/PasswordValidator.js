@@ -0,0 +1 @@
+({"badPasswordMessage":"비밀번호가 올바르지 않습니다.","nomatchMessage":"비밀번호가 일치하지 않습니다."})
\ No newline at end of file
@@ -0,0 +1 @@
+({"badPasswordMessage":"Ongeldig wachtwoord. ","nomatchMessage":"Wachtwoorden komen niet overeen."})
\ No newline at end of file
@@ -0,0 +1 @@
+({"badPasswordMessage":"Parola nu este validă. ","nomatchMessage":"Parolele nu se potrivesc. "})
\ No newline at end of file
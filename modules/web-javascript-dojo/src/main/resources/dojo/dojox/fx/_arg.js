@@ -0,0 +1,19 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.fx._arg"]){
+dojo._hasResource["dojox.fx._arg"]=true;
+dojo.provide("dojox.fx._arg");
+dojox.fx._arg.StyleArgs=function(_1){
+this.node=_1.node;
+this.cssClass=_1.cssClass;
+};
+dojox.fx._arg.ShadowResizeArgs=function(_2){
+this.x=_2.x;
+this.y=_2.y;
+};
+}
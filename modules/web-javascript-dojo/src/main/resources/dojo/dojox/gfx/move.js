@@ -0,0 +1,13 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.gfx.move"]){
+dojo._hasResource["dojox.gfx.move"]=true;
+dojo.provide("dojox.gfx.move");
+dojo.require("dojox.gfx.Mover");
+dojo.require("dojox.gfx.Moveable");
+}
@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.gfx3d"]){
+dojo._hasResource["dojox.gfx3d"]=true;
+dojo.provide("dojox.gfx3d");
+dojo.require("dojox.gfx3d.matrix");
+dojo.require("dojox.gfx3d._base");
+dojo.require("dojox.gfx3d.object");
+}
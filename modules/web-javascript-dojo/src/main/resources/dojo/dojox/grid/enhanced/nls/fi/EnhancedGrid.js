@@ -0,0 +1 @@
+({"descending":"Laskeva","ascending":"Nouseva","nestedSort":"Sisäkkäinen lajittelu","unsorted":"Älä lajittele tätä saraketta","singleSort":"Yksinkertainen lajittelu","sortingState":"${0} - ${1}"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"descending":"יורד","ascending":"עולה","nestedSort":"מיון מקונן ","unsorted":"לא למיין עמודה זו ","singleSort":"מיון יחיד","sortingState":"${0} - ${1}"})
\ No newline at end of file
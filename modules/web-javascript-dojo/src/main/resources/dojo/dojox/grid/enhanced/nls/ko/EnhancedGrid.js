@@ -0,0 +1 @@
+({"descending":"내림차순","ascending":"오름차순","nestedSort":"중첩 정렬","unsorted":"이 열을 정렬하지 않음","singleSort":"단일 정렬","sortingState":"${0} - ${1}"})
\ No newline at end of file
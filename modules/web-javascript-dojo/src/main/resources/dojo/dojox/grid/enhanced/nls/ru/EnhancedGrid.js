@@ -0,0 +1 @@
+({"descending":"По убыванию","ascending":"По возрастанию","nestedSort":"Вложенная сортировка","unsorted":"Не сортировать этот столбец","singleSort":"Однократная сортировка","sortingState":"${0} - ${1}"})
\ No newline at end of file
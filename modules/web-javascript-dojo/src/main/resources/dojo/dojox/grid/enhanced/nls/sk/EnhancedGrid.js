@@ -0,0 +1 @@
+({"descending":"Zostupne ","ascending":"Vzostupne ","nestedSort":"Vnorené triedenie ","unsorted":"Netriediť tento stĺpec ","singleSort":"Jednoduché triedenie ","sortingState":"${0} - ${1}"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"descending":"Padajoče","ascending":"Naraščajoče","nestedSort":"Ugnezdena razvrstitev","unsorted":"Ne razvrsti tega stolpca","singleSort":"Razvrsti po vrsti","sortingState":"${0} - ${1}"})
\ No newline at end of file
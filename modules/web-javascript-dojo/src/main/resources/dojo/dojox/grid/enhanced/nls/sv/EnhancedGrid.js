@@ -0,0 +1 @@
+({"descending":"fallande","ascending":"stigande","nestedSort":"nästlad sortering","unsorted":"Sortera inte den här kolumnen","singleSort":"enkel sortering","sortingState":"${0} - ${1}"})
\ No newline at end of file
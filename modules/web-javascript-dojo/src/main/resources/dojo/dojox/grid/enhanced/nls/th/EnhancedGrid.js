@@ -0,0 +1 @@
+({"descending":"จากมากไปหาน้อย","ascending":"จากน้อยไปหามาก","nestedSort":"เรียงลำดับที่ซับซ้อน","unsorted":"ห้ามเรียงลำดับคอลัมน์นี้","singleSort":"เรียงลำดับแบบเดี่ยว","sortingState":"${0} - ${1}"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"descending":"遞減","ascending":"遞增","nestedSort":"巢狀排序","unsorted":"不排序此直欄","singleSort":"單一排序","sortingState":"${0} - ${1}"})
\ No newline at end of file
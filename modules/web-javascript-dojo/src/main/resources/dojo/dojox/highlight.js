@@ -0,0 +1,12 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.highlight"]){
+dojo._hasResource["dojox.highlight"]=true;
+dojo.provide("dojox.highlight");
+dojo.require("dojox.highlight._base");
+}
@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.highlight.languages._dynamic"]){
+dojo._hasResource["dojox.highlight.languages._dynamic"]=true;
+dojo.provide("dojox.highlight.languages._dynamic");
+dojo.require("dojox.highlight.languages.python");
+dojo.require("dojox.highlight.languages.xquery");
+dojo.require("dojox.highlight.languages.groovy");
+}
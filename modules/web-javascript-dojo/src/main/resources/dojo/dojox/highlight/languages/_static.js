@@ -0,0 +1,14 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.highlight.languages._static"]){
+dojo._hasResource["dojox.highlight.languages._static"]=true;
+dojo.provide("dojox.highlight.languages._static");
+dojo.require("dojox.highlight.languages.cpp");
+dojo.require("dojox.highlight.languages.java");
+dojo.require("dojox.highlight.languages.delphi");
+}
@@ -0,0 +1,15 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.highlight.languages.pygments._www"]){
+dojo._hasResource["dojox.highlight.languages.pygments._www"]=true;
+dojo.provide("dojox.highlight.languages.pygments._www");
+dojo.require("dojox.highlight.languages.pygments.xml");
+dojo.require("dojox.highlight.languages.pygments.html");
+dojo.require("dojox.highlight.languages.pygments.css");
+dojo.require("dojox.highlight.languages.pygments.javascript");
+}
@@ -0,0 +1,13 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.mobile"]){
+dojo._hasResource["dojox.mobile"]=true;
+dojo.provide("dojox.mobile");
+dojo.require("dojox.mobile._base");
+dojo.experimental("dojox.mobile");
+}
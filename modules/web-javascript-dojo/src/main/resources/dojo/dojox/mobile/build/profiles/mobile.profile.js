@@ -0,0 +1,8 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+dependencies={stripConsole:"normal",layers:[{name:"dojo.js",dependencies:["dijit._Widget",]},{name:"../dojox/mobile.js",dependencies:["dojox.mobile"]},{name:"../dojox/mobile/app.js",dependencies:["dojox.mobile.app"]},{name:"../dojox/mobile/compat.js",dependencies:["dojox.mobile.compat"]},{name:"../dojox/mobile/app/compat.js",dependencies:["dojox.mobile.app.compat"]}],prefixes:[["dijit","../dijit"],["dojox","../dojox"]]};
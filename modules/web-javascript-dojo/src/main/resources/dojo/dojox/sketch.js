@@ -0,0 +1,15 @@
+/*
+	Copyright (c) 2004-2010, The Dojo Foundation All Rights Reserved.
+	Available via Academic Free License >= 2.1 OR the modified BSD license.
+	see: http://dojotoolkit.org/license for details
+*/
+
+
+if(!dojo._hasResource["dojox.sketch"]){
+dojo._hasResource["dojox.sketch"]=true;
+dojo.provide("dojox.sketch");
+dojo.require("dojox.xml.DomParser");
+dojo.require("dojox.sketch.UndoStack");
+dojo.require("dojox.sketch.Figure");
+dojo.require("dojox.sketch.Toolbar");
+}
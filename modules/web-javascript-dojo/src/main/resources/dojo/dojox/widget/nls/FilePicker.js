@@ -0,0 +1 @@
+({"name":"Name","size":"Size (in bytes)","path":"Path"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Next","done":"Done","previous":"Previous"})
\ No newline at end of file
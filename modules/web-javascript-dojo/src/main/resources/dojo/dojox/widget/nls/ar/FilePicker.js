@@ -0,0 +1 @@
+({"name":"الاسم","size":"الحجم (بالبايت) ","path":"‏المسار‏"})
\ No newline at end of file
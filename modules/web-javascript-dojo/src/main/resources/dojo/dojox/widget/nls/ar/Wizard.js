@@ -0,0 +1 @@
+({"next":"تالي","done":"اتمام","previous":"‏سابق‏"})
\ No newline at end of file
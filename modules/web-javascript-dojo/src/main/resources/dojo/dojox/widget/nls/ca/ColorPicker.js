@@ -0,0 +1 @@
+({"redLabel":"v","hueLabel":"m","greenLabel":"e","saturationPickerTitle":"Saturation Selector","valueLabel":"v","blueLabel":"b","saturationLabel":"s","hexLabel":"hex","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
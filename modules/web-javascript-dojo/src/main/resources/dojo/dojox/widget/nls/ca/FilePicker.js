@@ -0,0 +1 @@
+({"name":"Nom","size":"Mida (en bytes)","path":"Camí d'accés"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Següent","done":"Fet","previous":"Anterior"})
\ No newline at end of file
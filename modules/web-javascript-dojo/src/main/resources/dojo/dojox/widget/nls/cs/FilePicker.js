@@ -0,0 +1 @@
+({"name":"Název","size":"Velikost (v bajtech)","path":"Cesta"})
\ No newline at end of file
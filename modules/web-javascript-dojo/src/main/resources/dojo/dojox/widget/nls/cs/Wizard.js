@@ -0,0 +1 @@
+({"next":"Další","done":"Hotovo","previous":"Předchozí"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Navn","size":"Størrelse (i byte)","path":"Sti"})
\ No newline at end of file
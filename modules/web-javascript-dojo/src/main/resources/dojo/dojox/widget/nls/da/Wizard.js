@@ -0,0 +1 @@
+({"next":"Næste","done":"Udført","previous":"Forrige"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Name","size":"Größe (in Byte)","path":"Pfad"})
\ No newline at end of file
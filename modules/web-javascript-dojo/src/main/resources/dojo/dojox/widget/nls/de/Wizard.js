@@ -0,0 +1 @@
+({"next":"Weiter","done":"Fertig","previous":"Zurück"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"redLabel":"κ","valueLabel":"τ","hexLabel":"16-αδικό","hueLabel":"α","saturationLabel":"κ","greenLabel":"π","blueLabel":"μ","saturationPickerTitle":"Saturation Selector","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Siguiente","done":"Terminado","previous":"Anterior"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Nimi","size":"Koko (tavuina)","path":"Polku"})
\ No newline at end of file
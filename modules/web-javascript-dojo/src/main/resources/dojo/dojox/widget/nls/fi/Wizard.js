@@ -0,0 +1 @@
+({"next":"Seuraava","done":"Valmis","previous":"Edellinen"})
\ No newline at end of file
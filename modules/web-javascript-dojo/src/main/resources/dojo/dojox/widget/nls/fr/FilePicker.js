@@ -0,0 +1 @@
+({"name":"Nom","size":"Taille (en octets)","path":"Chemin"})
\ No newline at end of file
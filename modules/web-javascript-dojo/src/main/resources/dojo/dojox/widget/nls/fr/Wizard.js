@@ -0,0 +1 @@
+({"next":"Suivant","done":"Terminé","previous":"Précédent"})
\ No newline at end of file
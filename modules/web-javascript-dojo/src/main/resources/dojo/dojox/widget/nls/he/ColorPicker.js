@@ -0,0 +1 @@
+({"redLabel":"א","valueLabel":"ע","hexLabel":"הקס","hueLabel":"ג","saturationLabel":"ר","greenLabel":"י","blueLabel":"כ","saturationPickerTitle":"Saturation Selector","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"שם","size":"גודל (בבתים)","path":"נתיב"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"הבא","done":"סיום","previous":"הקודם"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Név","size":"Méret (byte)","path":"Elérési út"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Következő","done":"Kész","previous":"Előző"})
\ No newline at end of file
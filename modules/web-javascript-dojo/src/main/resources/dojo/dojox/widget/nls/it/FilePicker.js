@@ -0,0 +1 @@
+({"name":"Nome","size":"Dimensione (in byte)","path":"Percorso"})
\ No newline at end of file
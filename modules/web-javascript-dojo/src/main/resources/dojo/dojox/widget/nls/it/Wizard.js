@@ -0,0 +1 @@
+({"next":"Successivo","done":"Eseguito","previous":"Precedente"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"hexLabel":"16 進","saturationPickerTitle":"Saturation Selector","valueLabel":"v","blueLabel":"b","saturationLabel":"s","greenLabel":"g","redLabel":"r","hueLabel":"h","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
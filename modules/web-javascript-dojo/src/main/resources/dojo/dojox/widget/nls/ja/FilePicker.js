@@ -0,0 +1 @@
+({"name":"名前","size":"サイズ (バイト単位)","path":"パス"})
\ No newline at end of file
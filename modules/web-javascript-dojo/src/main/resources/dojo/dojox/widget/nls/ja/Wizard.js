@@ -0,0 +1 @@
+({"next":"次へ","done":"完了","previous":"前へ"})
\ No newline at end of file
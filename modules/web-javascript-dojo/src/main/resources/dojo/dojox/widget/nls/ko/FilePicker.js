@@ -0,0 +1 @@
+({"name":"이름","size":"크기(바이트)","path":"경로"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"다음","done":"완료","previous":"이전"})
\ No newline at end of file
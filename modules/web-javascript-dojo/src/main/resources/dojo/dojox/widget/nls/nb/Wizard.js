@@ -0,0 +1 @@
+({"next":"Neste","done":"Ferdig","previous":"Forrige"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"valueLabel":"h","hueLabel":"t","saturationLabel":"i","saturationPickerTitle":"Saturation Selector","blueLabel":"b","greenLabel":"g","redLabel":"r","hexLabel":"hex","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Naam","size":"Grootte (in bytes)","path":"Pad"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Volgende","done":"Klaar","previous":"Vorige"})
\ No newline at end of file
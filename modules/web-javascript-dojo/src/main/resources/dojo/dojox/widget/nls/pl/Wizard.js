@@ -0,0 +1 @@
+({"next":"Następna","done":"Gotowe","previous":"Poprzednia"})
\ No newline at end of file
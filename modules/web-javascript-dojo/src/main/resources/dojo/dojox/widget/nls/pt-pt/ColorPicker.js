@@ -0,0 +1 @@
+({"redLabel":"e","valueLabel":"val","hueLabel":"t","greenLabel":"v","blueLabel":"a","saturationPickerTitle":"Saturation Selector","saturationLabel":"s","hexLabel":"hex","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
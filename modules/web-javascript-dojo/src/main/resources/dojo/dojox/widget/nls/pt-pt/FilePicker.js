@@ -0,0 +1 @@
+({"name":"Nome","size":"Tamanho (em bytes)","path":"Caminho"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Seguinte","done":"Concluído","previous":"Anterior"})
\ No newline at end of file
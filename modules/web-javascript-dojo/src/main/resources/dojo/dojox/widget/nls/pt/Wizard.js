@@ -0,0 +1 @@
+({"next":"Próximo","done":"Concluído","previous":"Anterior"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"saturationPickerTitle":"Selector saturaţie","huePickerTitle":"Selector nuanţă","valueLabel":"v","blueLabel":"b","saturationLabel":"s","greenLabel":"g","redLabel":"r","hueLabel":"h","hexLabel":"hex","degLabel":"°"})
\ No newline at end of file
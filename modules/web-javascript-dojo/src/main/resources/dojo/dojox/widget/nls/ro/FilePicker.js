@@ -0,0 +1 @@
+({"name":"Nume","size":"Dimensiune (în octeţi)","path":"Cale "})
\ No newline at end of file
@@ -0,0 +1 @@
+({"next":"Următor","done":"Gata","previous":"Anterior"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Имя","size":"Размер (байт)","path":"Путь"})
\ No newline at end of file
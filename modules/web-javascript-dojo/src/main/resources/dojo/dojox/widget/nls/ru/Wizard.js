@@ -0,0 +1 @@
+({"next":"Далее","done":"Готово","previous":"Назад"})
\ No newline at end of file
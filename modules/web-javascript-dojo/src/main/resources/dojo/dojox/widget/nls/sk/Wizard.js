@@ -0,0 +1 @@
+({"next":"Ďalej","done":"Hotovo","previous":"Späť"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"Ime","size":"Velikost (v bajtih)","path":"Pot"})
\ No newline at end of file
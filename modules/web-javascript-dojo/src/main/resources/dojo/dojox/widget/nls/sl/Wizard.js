@@ -0,0 +1 @@
+({"next":"Naprej","done":"Opravljeno","previous":"Nazaj"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"valueLabel":"l","hueLabel":"n","saturationLabel":"m","saturationPickerTitle":"Saturation Selector","blueLabel":"b","greenLabel":"g","redLabel":"r","hexLabel":"hex","huePickerTitle":"Hue Selector","degLabel":"°"})
\ No newline at end of file
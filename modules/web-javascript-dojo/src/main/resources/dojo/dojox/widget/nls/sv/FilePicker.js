@@ -0,0 +1 @@
+({"name":"Namn","size":"Storlek (byte)","path":"Sökväg"})
\ No newline at end of file
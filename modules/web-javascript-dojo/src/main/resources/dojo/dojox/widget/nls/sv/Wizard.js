@@ -0,0 +1 @@
+({"next":"Nästa","done":"Stäng","previous":"Föregående"})
\ No newline at end of file
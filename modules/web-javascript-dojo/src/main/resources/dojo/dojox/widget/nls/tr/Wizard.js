@@ -0,0 +1 @@
+({"next":"İleri","done":"Bitti","previous":"Geri"})
\ No newline at end of file
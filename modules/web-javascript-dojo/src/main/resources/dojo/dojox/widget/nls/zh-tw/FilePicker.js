@@ -0,0 +1 @@
+({"name":"名稱","size":"大小 (以位元組為單位)","path":"路徑"})
\ No newline at end of file
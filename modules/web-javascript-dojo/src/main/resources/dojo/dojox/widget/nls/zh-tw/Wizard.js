@@ -0,0 +1 @@
+({"next":"下一步","done":"完成","previous":"上一步"})
\ No newline at end of file
@@ -0,0 +1 @@
+({"name":"名称","size":"大小（字节","path":"路径"})
\ No newline at end of file